@@ -30,28 +30,70 @@ public class TaskApiUrl {
 
     public static final String TASKS_GET_BY_USER_ID_PATH = "/user/{id}";
 
+    public static final String TASKS_GET_STATS_BY_USER_ID_PATH = "/user/{id}/stats";
+
+    public static final String TASKS_GET_CHANGES_BY_USER_ID_PATH = "/user/{id}/changes";
+
     public static final String TASKS_GET_PATH = "";
 
+    public static final String TASKS_SEARCH_PATH = "/search";
+
+    public static final String TASKS_CALENDAR_PATH = "/calendar";
+
     public static final String TASKS_CREATE_PATH = "";
 
     public static final String TASKS_UPDATE_BY_ID_PATH = "/{id}";
 
     public static final String TASKS_DELETE_BY_ID_PATH = "/{id}";
 
+    public static final String TASKS_KNOWN_USERS_RESYNC_PATH = "/known-users/resync";
+
     public static final String TASKS_GET_BY_ID_FULL_PATH = TASKS_ROOT_PATH + TASKS_GET_BY_ID_PATH;
 
     public static final String TASKS_GET_FULL_PATH = TASKS_ROOT_PATH + TASKS_GET_PATH;
 
     public static final String TASKS_GET_BY_USER_ID_FULL_PATH = TASKS_ROOT_PATH + TASKS_GET_BY_USER_ID_PATH;
 
+    public static final String TASKS_GET_STATS_BY_USER_ID_FULL_PATH = TASKS_ROOT_PATH + TASKS_GET_STATS_BY_USER_ID_PATH;
+
+    public static final String TASKS_GET_CHANGES_BY_USER_ID_FULL_PATH = TASKS_ROOT_PATH + TASKS_GET_CHANGES_BY_USER_ID_PATH;
+
+    public static final String TASKS_SEARCH_FULL_PATH = TASKS_ROOT_PATH + TASKS_SEARCH_PATH;
+
+    public static final String TASKS_CALENDAR_FULL_PATH = TASKS_ROOT_PATH + TASKS_CALENDAR_PATH;
+
     public static final String TASKS_CREATE_FULL_PATH = TASKS_ROOT_PATH + TASKS_CREATE_PATH;
 
     public static final String TASKS_UPDATE_BY_ID_FULL_PATH = TASKS_ROOT_PATH + TASKS_UPDATE_BY_ID_PATH;
 
     public static final String TASKS_DELETE_BY_ID_FULL_PATH = TASKS_ROOT_PATH + TASKS_DELETE_BY_ID_PATH;
 
+    public static final String TASKS_KNOWN_USERS_RESYNC_FULL_PATH = TASKS_ROOT_PATH + TASKS_KNOWN_USERS_RESYNC_PATH;
+
     public static final String TASKS_IDS_PARAM = "ids";
 
+    public static final String TASKS_SEARCH_USER_ID_PARAM = "userId";
+
+    public static final String TASKS_SEARCH_QUERY_PARAM = "query";
+
+    public static final String TASKS_SEARCH_LIMIT_PARAM = "limit";
+
+    public static final String TASKS_SEARCH_CURSOR_PARAM = "cursor";
+
+    public static final String TASKS_CALENDAR_USER_ID_PARAM = "userId";
+
+    public static final String TASKS_CALENDAR_FROM_PARAM = "from";
+
+    public static final String TASKS_CALENDAR_TO_PARAM = "to";
+
+    public static final String TASKS_CALENDAR_LIMIT_PARAM = "limit";
+
+    public static final String TASKS_CALENDAR_CURSOR_PARAM = "cursor";
+
+    public static final String TASKS_STATS_FROM_PARAM = "from";
+
+    public static final String TASKS_STATS_TO_PARAM = "to";
+
     private TaskApiUrl() {}
 
 }
@@ -48,6 +48,8 @@ public class UserApiUrl {
 
     public static final String USERS_IDS_PARAM = "ids";
 
+    public static final String USERS_TASKS_PARAM = "tasks";
+
     private UserApiUrl() {}
 
 }
@@ -0,0 +1,46 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.grpc.clients;
+
+import io.grpc.Metadata;
+
+/**
+ * Metadata keys shared by the gRPC clients and servers of the ASAPP services, both for calls and for service discovery instances.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public final class GrpcMetadataKeys {
+
+    /**
+     * Key of the metadata carrying the caller's access token, as {@code Bearer <token>}.
+     */
+    public static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    /**
+     * Prefix of the {@link #AUTHORIZATION} metadata value preceding the access token.
+     */
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Key of the service discovery instance metadata advertising the port of the gRPC server of an instance.
+     */
+    public static final String GRPC_PORT_INSTANCE_METADATA = "grpc-port";
+
+    private GrpcMetadataKeys() {}
+
+}
@@ -0,0 +1,84 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.grpc.clients.tasks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Converts between {@link UUID} and its {@link Uuid} protobuf representation.
+ * <p>
+ * A {@link Uuid} carries the two 64-bit halves of the identifier as fixed-width fields, so it costs 18 bytes on the wire where the quoted text form of the
+ * JSON API costs 38.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public final class UuidMapper {
+
+    private UuidMapper() {}
+
+    /**
+     * Converts a {@link UUID} to its protobuf representation.
+     *
+     * @param uuid the identifier to convert
+     * @return the {@link Uuid} message
+     * @throws NullPointerException if the identifier is {@code null}
+     */
+    public static Uuid toMessage(UUID uuid) {
+        return Uuid.newBuilder()
+                   .setMostSignificantBits(uuid.getMostSignificantBits())
+                   .setLeastSignificantBits(uuid.getLeastSignificantBits())
+                   .build();
+    }
+
+    /**
+     * Converts identifiers to their protobuf representation, keeping their order.
+     *
+     * @param uuids the identifiers to convert
+     * @return a {@link List} of {@link Uuid} messages
+     */
+    public static List<Uuid> toMessages(Collection<UUID> uuids) {
+        return uuids.stream()
+                    .map(UuidMapper::toMessage)
+                    .toList();
+    }
+
+    /**
+     * Converts a protobuf representation back to a {@link UUID}.
+     *
+     * @param message the {@link Uuid} message to convert
+     * @return the identifier
+     */
+    public static UUID fromMessage(Uuid message) {
+        return new UUID(message.getMostSignificantBits(), message.getLeastSignificantBits());
+    }
+
+    /**
+     * Converts protobuf representations back to identifiers, keeping their order.
+     *
+     * @param messages the {@link Uuid} messages to convert
+     * @return a {@link List} of identifiers
+     */
+    public static List<UUID> fromMessages(Collection<Uuid> messages) {
+        return messages.stream()
+                       .map(UuidMapper::fromMessage)
+                       .toList();
+    }
+
+}
@@ -0,0 +1,114 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.grpc.clients.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link UuidMapper} conversions between identifiers and their protobuf representation.
+ * <p>
+ * Coverage:
+ * <li>Splits an identifier into its two 64-bit halves</li>
+ * <li>Restores the original identifier from its halves</li>
+ * <li>Converts lists of identifiers both ways keeping their order</li>
+ * <li>Encodes an identifier in 18 bytes</li>
+ */
+class UuidMapperTests {
+
+    private static final UUID ID = UUID.fromString("0199f0a4-7d6e-7c3a-9a1b-2c3d4e5f6a7b");
+
+    private static final UUID OTHER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Nested
+    class ToMessage {
+
+        @Test
+        void ReturnsMessageWithIdentifierHalves_Identifier() {
+            // When
+            var actual = UuidMapper.toMessage(ID);
+
+            // Then
+            assertThat(actual.getMostSignificantBits()).isEqualTo(ID.getMostSignificantBits());
+            assertThat(actual.getLeastSignificantBits()).isEqualTo(ID.getLeastSignificantBits());
+        }
+
+        @Test
+        void ReturnsMessageOfEighteenBytes_Identifier() {
+            // When
+            var actual = UuidMapper.toMessage(ID);
+
+            // Then
+            assertThat(actual.getSerializedSize()).isEqualTo(18);
+        }
+
+    }
+
+    @Nested
+    class FromMessage {
+
+        @Test
+        void ReturnsOriginalIdentifier_MessageOfIdentifier() {
+            // Given
+            var message = UuidMapper.toMessage(ID);
+
+            // When
+            var actual = UuidMapper.fromMessage(message);
+
+            // Then
+            assertThat(actual).isEqualTo(ID);
+        }
+
+    }
+
+    @Nested
+    class ToMessages {
+
+        @Test
+        void ReturnsMessagesInOrder_Identifiers() {
+            // When
+            var actual = UuidMapper.toMessages(List.of(OTHER_ID, ID));
+
+            // Then
+            assertThat(actual).containsExactly(UuidMapper.toMessage(OTHER_ID), UuidMapper.toMessage(ID));
+        }
+
+    }
+
+    @Nested
+    class FromMessages {
+
+        @Test
+        void ReturnsIdentifiersInOrder_Messages() {
+            // Given
+            var messages = UuidMapper.toMessages(List.of(OTHER_ID, ID));
+
+            // When
+            var actual = UuidMapper.fromMessages(messages);
+
+            // Then
+            assertThat(actual).containsExactly(OTHER_ID, ID);
+        }
+
+    }
+
+}
@@ -16,16 +16,27 @@
 
 package com.attrigo.asapp.http.clients.tasks;
 
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_CURSOR_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FROM_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_TO_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_USER_ID_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_USER_ID_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_STATS_BY_USER_ID_FULL_PATH;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 
+import com.attrigo.asapp.http.clients.tasks.response.CalendarTasksResponse;
+import com.attrigo.asapp.http.clients.tasks.response.TaskStatsResponse;
 import com.attrigo.asapp.http.clients.tasks.response.TasksByUserIdResponse;
 
 /**
@@ -52,4 +63,32 @@ public interface TasksHttpClient {
     @GetExchange(TASKS_GET_BY_USER_ID_FULL_PATH)
     List<TasksByUserIdResponse> getTasksByUserId(@PathVariable UUID id);
 
+    /**
+     * Retrieves the task statistics of a specific user.
+     *
+     * @param id the unique identifier of the user whose task statistics should be retrieved
+     * @return the {@link TaskStatsResponse} of the user; zero counts if the user has no tasks
+     * @throws IllegalArgumentException if the id is {@code null}
+     * @throws RestClientException      if the call to the Tasks Service fails
+     */
+    @GetExchange(TASKS_GET_STATS_BY_USER_ID_FULL_PATH)
+    TaskStatsResponse getTaskStatsByUserId(@PathVariable UUID id);
+
+    /**
+     * Retrieves a page of a user's tasks scheduled within a date range, by start date.
+     *
+     * @param userId the unique identifier of the user whose tasks should be retrieved
+     * @param from   the start of the range, inclusive
+     * @param to     the end of the range, exclusive
+     * @param limit  the maximum number of tasks to return
+     * @param cursor the cursor returned with the previous page, may be {@code null} for the first page
+     * @return the {@link CalendarTasksResponse} with the page of tasks and the cursor of the next page, if any
+     * @throws IllegalArgumentException if the userId, from or to is {@code null}
+     * @throws RestClientException      if the call to the Tasks Service fails
+     */
+    @GetExchange(TASKS_CALENDAR_FULL_PATH)
+    CalendarTasksResponse getCalendarTasks(@RequestParam(TASKS_CALENDAR_USER_ID_PARAM) UUID userId, @RequestParam(TASKS_CALENDAR_FROM_PARAM) Instant from,
+            @RequestParam(TASKS_CALENDAR_TO_PARAM) Instant to, @RequestParam(TASKS_CALENDAR_LIMIT_PARAM) int limit,
+            @RequestParam(name = TASKS_CALENDAR_CURSOR_PARAM, required = false) String cursor);
+
 }
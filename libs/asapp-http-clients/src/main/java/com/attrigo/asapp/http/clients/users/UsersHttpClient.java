@@ -0,0 +1,51 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.http.clients.users;
+
+import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_FULL_PATH;
+
+import java.util.List;
+
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+
+import com.attrigo.asapp.http.clients.users.response.UsersResponse;
+
+/**
+ * Declares the HTTP contract for retrieving user data from the Users Service.
+ * <p>
+ * Defines the HTTP contract for retrieving user data from the Users Service as a Spring {@link HttpExchange} interface. A client proxy is created and
+ * configured by the consuming service, which owns the client configuration.
+ *
+ * @since 0.5.0
+ * @see HttpExchange
+ * @author attrigo
+ */
+@HttpExchange
+public interface UsersHttpClient {
+
+    /**
+     * Retrieves all users.
+     *
+     * @return a {@link List} of user responses; an empty list if there are no users
+     * @throws RestClientException if the call to the Users Service fails
+     */
+    @GetExchange(USERS_GET_FULL_PATH)
+    List<UsersResponse> getUsers();
+
+}
@@ -16,16 +16,27 @@
 
 package com.attrigo.asapp.http.clients.tasks;
 
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_CURSOR_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FROM_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_TO_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_USER_ID_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_USER_ID_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_STATS_BY_USER_ID_FULL_PATH;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestToUriTemplate;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +48,8 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
+import com.attrigo.asapp.http.clients.tasks.response.CalendarTaskResponse;
+import com.attrigo.asapp.http.clients.tasks.response.TaskStatsResponse;
 import com.attrigo.asapp.http.clients.tasks.response.TasksByUserIdResponse;
 
 /**
@@ -52,6 +65,9 @@ import com.attrigo.asapp.http.clients.tasks.response.TasksByUserIdResponse;
  * <li>Returns null when the response body is empty</li>
  * <li>Rejects a null user id</li>
  * <li>Propagates an exception when the server call fails</li>
+ * <li>Issues a GET to the task statistics path with the user id expanded into the URI template and deserializes the counts</li>
+ * <li>Issues a GET to the calendar path with the user, range, limit and cursor as query parameters</li>
+ * <li>Deserializes the JSON calendar page into its tasks and next page cursor</li>
  */
 class TasksHttpClientTests {
 
@@ -173,4 +189,171 @@ class TasksHttpClientTests {
 
     }
 
+    @Nested
+    class GetTaskStatsByUserId {
+
+        @Test
+        void ReturnsTaskStats_UserHasTasks() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var uri = BASE_URL + TASKS_GET_STATS_BY_USER_ID_FULL_PATH;
+            var responseBody = """
+                    {
+                        "userId": "%s",
+                        "totalTasks": 12,
+                        "scheduledTasks": 9,
+                        "overdueTasks": 2
+                    }
+                    """.formatted(userId);
+
+            server.expect(requestToUriTemplate(uri, userId.toString()))
+                  .andExpect(method(GET))
+                  .andRespond(withSuccess(responseBody, APPLICATION_JSON));
+
+            // When
+            var actual = tasksHttpClient.getTaskStatsByUserId(userId);
+
+            // Then
+            assertThat(actual).isEqualTo(new TaskStatsResponse(12, 9, 2));
+
+            server.verify();
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NullUserId() {
+            // When
+            var thrown = catchThrowable(() -> tasksHttpClient.getTaskStatsByUserId(null));
+
+            // Then
+            assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void ThrowsRestClientException_ServerCallFails() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var uri = BASE_URL + TASKS_GET_STATS_BY_USER_ID_FULL_PATH;
+
+            server.expect(requestToUriTemplate(uri, userId.toString()))
+                  .andExpect(method(GET))
+                  .andRespond(withServerError());
+
+            // When
+            var thrown = catchThrowable(() -> tasksHttpClient.getTaskStatsByUserId(userId));
+
+            // Then
+            assertThat(thrown).isInstanceOf(RestClientException.class);
+
+            server.verify();
+        }
+
+    }
+
+    @Nested
+    class GetCalendarTasks {
+
+        @Test
+        void ReturnsCalendarTasks_TasksInRange() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var taskId = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+            var from = Instant.parse("2026-10-19T00:00:00Z");
+            var to = Instant.parse("2026-10-26T00:00:00Z");
+            var startDate = Instant.parse("2026-10-20T09:00:00Z");
+            var responseBody = """
+                    {
+                        "tasks": [
+                            {
+                                "taskId": "%s",
+                                "title": "Dentist",
+                                "description": null,
+                                "startDate": "%s",
+                                "endDate": null
+                            }
+                        ],
+                        "nextCursor": "next-page"
+                    }
+                    """.formatted(taskId, startDate);
+
+            server.expect(requestTo(startsWith(BASE_URL + TASKS_CALENDAR_FULL_PATH)))
+                  .andExpect(method(GET))
+                  .andExpect(queryParam(TASKS_CALENDAR_USER_ID_PARAM, userId.toString()))
+                  .andExpect(queryParam(TASKS_CALENDAR_FROM_PARAM, "2026-10-19T00%3A00%3A00Z"))
+                  .andExpect(queryParam(TASKS_CALENDAR_TO_PARAM, "2026-10-26T00%3A00%3A00Z"))
+                  .andExpect(queryParam(TASKS_CALENDAR_LIMIT_PARAM, "50"))
+                  .andRespond(withSuccess(responseBody, APPLICATION_JSON));
+
+            // When
+            var actual = tasksHttpClient.getCalendarTasks(userId, from, to, 50, null);
+
+            // Then
+            assertThat(actual.tasks()).containsExactly(new CalendarTaskResponse(taskId, "Dentist", null, startDate, null));
+            assertThat(actual.nextCursor()).isEqualTo("next-page");
+
+            server.verify();
+        }
+
+        @Test
+        void SendsCursor_NextPage() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var from = Instant.parse("2026-10-19T00:00:00Z");
+            var to = Instant.parse("2026-10-26T00:00:00Z");
+            var responseBody = """
+                    {
+                        "tasks": [],
+                        "nextCursor": null
+                    }
+                    """;
+
+            server.expect(requestTo(startsWith(BASE_URL + TASKS_CALENDAR_FULL_PATH)))
+                  .andExpect(method(GET))
+                  .andExpect(queryParam(TASKS_CALENDAR_CURSOR_PARAM, "next-page"))
+                  .andRespond(withSuccess(responseBody, APPLICATION_JSON));
+
+            // When
+            var actual = tasksHttpClient.getCalendarTasks(userId, from, to, 50, "next-page");
+
+            // Then
+            assertThat(actual.tasks()).isEmpty();
+            assertThat(actual.nextCursor()).isNull();
+
+            server.verify();
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NullUserId() {
+            // Given
+            var from = Instant.parse("2026-10-19T00:00:00Z");
+            var to = Instant.parse("2026-10-26T00:00:00Z");
+
+            // When
+            var thrown = catchThrowable(() -> tasksHttpClient.getCalendarTasks(null, from, to, 50, null));
+
+            // Then
+            assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void ThrowsRestClientException_ServerCallFails() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var from = Instant.parse("2026-10-19T00:00:00Z");
+            var to = Instant.parse("2026-10-26T00:00:00Z");
+
+            server.expect(requestTo(startsWith(BASE_URL + TASKS_CALENDAR_FULL_PATH)))
+                  .andExpect(method(GET))
+                  .andRespond(withServerError());
+
+            // When
+            var thrown = catchThrowable(() -> tasksHttpClient.getCalendarTasks(userId, from, to, 50, null));
+
+            // Then
+            assertThat(thrown).isInstanceOf(RestClientException.class);
+
+            server.verify();
+        }
+
+    }
+
 }
@@ -0,0 +1,147 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.http.clients.users;
+
+import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_FULL_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import com.attrigo.asapp.http.clients.users.response.UsersResponse;
+
+/**
+ * Tests {@link UsersHttpClient} HTTP request mapping, JSON response deserialization, and error handling.
+ * <p>
+ * Setup:
+ * <li>Binds a mock REST server to the HTTP client before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Issues a GET to the users path without query parameters</li>
+ * <li>Deserializes the JSON response array into user response records, ignoring the remaining user fields</li>
+ * <li>Returns an empty list when there are no users</li>
+ * <li>Propagates an exception when the server call fails</li>
+ */
+class UsersHttpClientTests {
+
+    private static final String BASE_URL = "http://localhost:8082/asapp-users-service";
+
+    private MockRestServiceServer server;
+
+    private UsersHttpClient usersHttpClient;
+
+    @BeforeEach
+    void beforeEach() {
+        var restClientBuilder = RestClient.builder()
+                                          .baseUrl(BASE_URL);
+        server = MockRestServiceServer.bindTo(restClientBuilder)
+                                      .build();
+        var adapter = RestClientAdapter.create(restClientBuilder.build());
+        usersHttpClient = HttpServiceProxyFactory.builderFor(adapter)
+                                                 .build()
+                                                 .createClient(UsersHttpClient.class);
+    }
+
+    @Nested
+    class GetUsers {
+
+        @Test
+        void ReturnsUserResponses_UsersExist() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var uri = BASE_URL + USERS_GET_FULL_PATH;
+            var responseBody = """
+                    [
+                        {
+                            "userId": "%s",
+                            "firstName": "John",
+                            "lastName": "Doe",
+                            "email": "john.doe@asapp.com",
+                            "phoneNumber": "555 555 555"
+                        }
+                    ]
+                    """.formatted(userId);
+
+            server.expect(requestTo(uri))
+                  .andExpect(method(GET))
+                  .andRespond(withSuccess(responseBody, APPLICATION_JSON));
+
+            // When
+            var actual = usersHttpClient.getUsers();
+
+            // Then
+            assertThat(actual).extracting(UsersResponse::userId)
+                              .containsExactly(userId);
+
+            server.verify();
+        }
+
+        @Test
+        void ReturnsEmptyList_NoUsers() {
+            // Given
+            var uri = BASE_URL + USERS_GET_FULL_PATH;
+            var responseBody = "[]";
+
+            server.expect(requestTo(uri))
+                  .andExpect(method(GET))
+                  .andRespond(withSuccess(responseBody, APPLICATION_JSON));
+
+            // When
+            var actual = usersHttpClient.getUsers();
+
+            // Then
+            assertThat(actual).isEmpty();
+
+            server.verify();
+        }
+
+        @Test
+        void ThrowsRestClientException_ServerCallFails() {
+            // Given
+            var uri = BASE_URL + USERS_GET_FULL_PATH;
+
+            server.expect(requestTo(uri))
+                  .andExpect(method(GET))
+                  .andRespond(withServerError());
+
+            // When
+            var thrown = catchThrowable(() -> usersHttpClient.getUsers());
+
+            // Then
+            assertThat(thrown).isInstanceOf(RestClientException.class);
+
+            server.verify();
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task;
+
+/**
+ * Signals that a task update was conditioned on a version that no longer matches the stored task.
+ * <p>
+ * Thrown by the update service when the client's expected version (typically taken from an {@code If-Match} header) differs from the current one, meaning
+ * the task was modified since the client last read it.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class TaskVersionMismatchException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code TaskVersionMismatchException} with the given message.
+     *
+     * @param message the detail message
+     */
+    public TaskVersionMismatchException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,38 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task;
+
+/**
+ * Signals that a task references a user that does not exist.
+ * <p>
+ * Thrown by the create, update and patch services when the task's owner is not a known user, so the task is never stored for a missing or deleted user.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class UnknownUserException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code UnknownUserException} with the given message.
+     *
+     * @param message the detail message
+     */
+    public UnknownUserException(String message) {
+        super(message);
+    }
+
+}
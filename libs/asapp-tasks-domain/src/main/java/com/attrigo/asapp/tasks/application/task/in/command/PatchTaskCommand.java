@@ -0,0 +1,51 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task.in.command;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import com.attrigo.asapp.tasks.domain.task.TaskField;
+
+/**
+ * Command to partially update an existing task in the system.
+ * <p>
+ * Only the fields listed in {@code fields} are modified; the values of the other fields are ignored. A listed optional field with a {@code null} value is
+ * removed from the task.
+ *
+ * @param taskId          the task's unique identifier
+ * @param fields          the fields to modify
+ * @param userId          the task's new user unique identifier
+ * @param title           the task's new title
+ * @param description     the task's new description
+ * @param startDate       the task's new start date
+ * @param endDate         the task's new end date
+ * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record PatchTaskCommand(
+        UUID taskId,
+        Set<TaskField> fields,
+        UUID userId,
+        String title,
+        String description,
+        Instant startDate,
+        Instant endDate,
+        Long expectedVersion
+) {}
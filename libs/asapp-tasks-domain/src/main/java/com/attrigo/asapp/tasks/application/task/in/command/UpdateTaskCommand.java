@@ -0,0 +1,45 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task.in.command;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Command to update an existing task in the system.
+ * <p>
+ * Encapsulates the data required to modify a task.
+ *
+ * @param taskId          the task's unique identifier
+ * @param userId          the task's user unique identifier
+ * @param title           the task's title
+ * @param description     the task's description
+ * @param startDate       the task's start date
+ * @param endDate         the task's end date
+ * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+ * @since 0.2.0
+ * @author attrigo
+ */
+public record UpdateTaskCommand(
+        UUID taskId,
+        UUID userId,
+        String title,
+        String description,
+        Instant startDate,
+        Instant endDate,
+        Long expectedVersion
+) {}
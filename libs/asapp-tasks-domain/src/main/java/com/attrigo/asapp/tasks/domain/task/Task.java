@@ -16,7 +16,9 @@
 
 package com.attrigo.asapp.tasks.domain.task;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a task entity.
@@ -25,6 +27,10 @@ import java.util.Objects;
  * <p>
  * Tasks can exist in two states: new (transient, without ID) and reconstituted (persistent, with ID).
  * <p>
+ * Reconstituted tasks also carry the version of their persistent state, which changes on every update and is used to detect concurrent modifications.
+ * <p>
+ * Changes applied to a task are tracked per {@link TaskField}, letting persistence write back only the modified fields.
+ * <p>
  * Equality is based on ID; new instances are not considered equal to any other instance.
  *
  * @since 0.2.0
@@ -44,6 +50,10 @@ public final class Task {
 
     private EndDate endDate;
 
+    private final Long version;
+
+    private final Set<TaskField> changedFields = EnumSet.noneOf(TaskField.class);
+
     /**
      * Constructs a new {@code Task} instance and validates its integrity.
      *
@@ -63,6 +73,7 @@ public final class Task {
         this.description = description;
         this.startDate = startDate;
         this.endDate = endDate;
+        this.version = null;
     }
 
     /**
@@ -74,18 +85,21 @@ public final class Task {
      * @param description the task's description
      * @param startDate   the task's start date
      * @param endDate     the task's end date
+     * @param version     the task's persistent state version
      * @throws IllegalArgumentException if any parameter is {@code null}
      */
-    private Task(TaskId id, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate) {
+    private Task(TaskId id, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate, Long version) {
         validateIdIsNotNull(id);
         validateUserIdIsNotNull(userId);
         validateTitleIsNotNull(title);
+        validateVersionIsNotNull(version);
         this.id = id;
         this.userId = userId;
         this.title = title;
         this.description = description;
         this.startDate = startDate;
         this.endDate = endDate;
+        this.version = version;
     }
 
     /**
@@ -116,30 +130,96 @@ public final class Task {
      * @param description the task's description
      * @param startDate   the task's start date
      * @param endDate     the task's end date
+     * @param version     the task's persistent state version
      * @return a reconstituted {@code Task} instance
      * @throws IllegalArgumentException if any parameter is {@code null}
      */
-    static Task reconstitute(TaskId id, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate) {
-        return new Task(id, userId, title, description, startDate, endDate);
+    static Task reconstitute(TaskId id, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate, Long version) {
+        return new Task(id, userId, title, description, startDate, endDate, version);
     }
 
     /**
      * Updates the task's information.
      *
+     * @param userId      the new user unique identifier
      * @param title       the new title
      * @param description the new description
      * @param startDate   the new start date
      * @param endDate     the new end date
-     * @throws IllegalArgumentException if any parameter is {@code null}
+     * @throws IllegalArgumentException if the user ID or the title is {@code null}
      */
     public void update(UserId userId, Title title, Description description, StartDate startDate, EndDate endDate) {
+        // The title is checked before any change, so a rejected update leaves the task untouched
+        validateTitleIsNotNull(title);
+        changeUserId(userId);
+        changeTitle(title);
+        changeDescription(description);
+        changeStartDate(startDate);
+        changeEndDate(endDate);
+    }
+
+    /**
+     * Changes the task's user unique identifier, tracking the field as changed if the value differs.
+     *
+     * @param userId the new user unique identifier
+     * @throws IllegalArgumentException if the user ID is {@code null}
+     */
+    public void changeUserId(UserId userId) {
         validateUserIdIsNotNull(userId);
+        if (!userId.equals(this.userId)) {
+            this.userId = userId;
+            this.changedFields.add(TaskField.USER_ID);
+        }
+    }
+
+    /**
+     * Changes the task's title, tracking the field as changed if the value differs.
+     *
+     * @param title the new title
+     * @throws IllegalArgumentException if the title is {@code null}
+     */
+    public void changeTitle(Title title) {
         validateTitleIsNotNull(title);
-        this.userId = userId;
-        this.title = title;
-        this.description = description;
-        this.startDate = startDate;
-        this.endDate = endDate;
+        if (!title.equals(this.title)) {
+            this.title = title;
+            this.changedFields.add(TaskField.TITLE);
+        }
+    }
+
+    /**
+     * Changes the task's description, tracking the field as changed if the value differs.
+     *
+     * @param description the new description, or {@code null} to remove it
+     */
+    public void changeDescription(Description description) {
+        if (!Objects.equals(description, this.description)) {
+            this.description = description;
+            this.changedFields.add(TaskField.DESCRIPTION);
+        }
+    }
+
+    /**
+     * Changes the task's start date, tracking the field as changed if the value differs.
+     *
+     * @param startDate the new start date, or {@code null} to remove it
+     */
+    public void changeStartDate(StartDate startDate) {
+        if (!Objects.equals(startDate, this.startDate)) {
+            this.startDate = startDate;
+            this.changedFields.add(TaskField.START_DATE);
+        }
+    }
+
+    /**
+     * Changes the task's end date, tracking the field as changed if the value differs.
+     *
+     * @param endDate the new end date, or {@code null} to remove it
+     */
+    public void changeEndDate(EndDate endDate) {
+        if (!Objects.equals(endDate, this.endDate)) {
+            this.endDate = endDate;
+            this.changedFields.add(TaskField.END_DATE);
+        }
     }
 
     /**
@@ -233,6 +313,24 @@ public final class Task {
         return this.endDate;
     }
 
+    /**
+     * Returns the version of the task's persistent state.
+     *
+     * @return the version, or {@code null} for new tasks
+     */
+    public Long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the fields changed since the task was created or reconstituted.
+     *
+     * @return an unmodifiable {@link Set} of the changed {@link TaskField}s, empty if nothing changed
+     */
+    public Set<TaskField> getChangedFields() {
+        return Set.copyOf(this.changedFields);
+    }
+
     /**
      * Validates that the task ID is not {@code null}.
      *
@@ -269,4 +367,16 @@ public final class Task {
         }
     }
 
+    /**
+     * Validates that the version is not {@code null}.
+     *
+     * @param version the version to validate
+     * @throws IllegalArgumentException if the version is {@code null}
+     */
+    private static void validateVersionIsNotNull(Long version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version must not be null");
+        }
+    }
+
 }
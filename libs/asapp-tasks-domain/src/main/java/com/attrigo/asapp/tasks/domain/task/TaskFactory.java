@@ -62,10 +62,11 @@ public final class TaskFactory {
      * @param description the task's description
      * @param startDate   the task's start date
      * @param endDate     the task's end date
+     * @param version     the task's persistent state version
      * @return a reconstituted {@link Task} instance
      * @throws IllegalArgumentException if any required parameter is invalid
      */
-    public static Task reconstitute(UUID id, UUID userId, String title, String description, Instant startDate, Instant endDate) {
+    public static Task reconstitute(UUID id, UUID userId, String title, String description, Instant startDate, Instant endDate, Long version) {
         var idVO = TaskId.of(id);
         var userIdVO = UserId.of(userId);
         var titleVO = Title.of(title);
@@ -73,7 +74,7 @@ public final class TaskFactory {
         var startDateVO = StartDate.ofNullable(startDate);
         var endDateVO = EndDate.ofNullable(endDate);
 
-        return Task.reconstitute(idVO, userIdVO, titleVO, descriptionVO, startDateVO, endDateVO);
+        return Task.reconstitute(idVO, userIdVO, titleVO, descriptionVO, startDateVO, endDateVO, version);
     }
 
 }
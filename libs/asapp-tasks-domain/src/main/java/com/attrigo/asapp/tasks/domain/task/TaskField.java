@@ -0,0 +1,54 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.domain.task;
+
+/**
+ * Enumerates the modifiable fields of a {@link Task}.
+ * <p>
+ * Used to track which fields of a reconstituted task have changed since it was loaded, so only those are written back.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public enum TaskField {
+
+    /**
+     * The task's user unique identifier.
+     */
+    USER_ID,
+
+    /**
+     * The task's title.
+     */
+    TITLE,
+
+    /**
+     * The task's description.
+     */
+    DESCRIPTION,
+
+    /**
+     * The task's start date.
+     */
+    START_DATE,
+
+    /**
+     * The task's end date.
+     */
+    END_DATE
+
+}
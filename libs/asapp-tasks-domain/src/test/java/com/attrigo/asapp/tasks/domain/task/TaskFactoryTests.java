@@ -32,10 +32,10 @@ import org.junit.jupiter.api.Test;
  * Coverage:
  * <li>Creates new task from primitives with null ID and correct field values</li>
  * <li>Creates new task accepting null for optional fields (description, start date, end date)</li>
- * <li>Reconstitutes task from primitives with ID and correct field values</li>
+ * <li>Reconstitutes task from primitives with ID, version and correct field values</li>
  * <li>Reconstitutes task accepting null for optional fields (description, start date, end date)</li>
  * <li>Rejects null user ID or null title during creation</li>
- * <li>Rejects null ID, null user ID, or null title during reconstitution</li>
+ * <li>Rejects null ID, null user ID, null title, or null version during reconstitution</li>
  */
 class TaskFactoryTests {
 
@@ -201,7 +201,7 @@ class TaskFactoryTests {
             var expectedEndDate = EndDate.of(endDate);
 
             // When
-            var actual = TaskFactory.reconstitute(id, userId, title, description, startDate, endDate);
+            var actual = TaskFactory.reconstitute(id, userId, title, description, startDate, endDate, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -212,6 +212,7 @@ class TaskFactoryTests {
                 softly.assertThat(actual.getDescription()).as("description").isEqualTo(expectedDescription);
                 softly.assertThat(actual.getStartDate()).as("start date").isEqualTo(expectedStartDate);
                 softly.assertThat(actual.getEndDate()).as("end date").isEqualTo(expectedEndDate);
+                softly.assertThat(actual.getVersion()).as("version").isEqualTo(0L);
                 // @formatter:on
             });
         }
@@ -231,7 +232,7 @@ class TaskFactoryTests {
             var expectedEndDate = EndDate.of(endDate);
 
             // When
-            var actual = TaskFactory.reconstitute(id, userId, title, null, startDate, endDate);
+            var actual = TaskFactory.reconstitute(id, userId, title, null, startDate, endDate, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -261,7 +262,7 @@ class TaskFactoryTests {
             var expectedEndDate = EndDate.of(endDate);
 
             // When
-            var actual = TaskFactory.reconstitute(id, userId, title, description, null, endDate);
+            var actual = TaskFactory.reconstitute(id, userId, title, description, null, endDate, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -291,7 +292,7 @@ class TaskFactoryTests {
             var expectedStartDate = StartDate.of(startDate);
 
             // When
-            var actual = TaskFactory.reconstitute(id, userId, title, description, startDate, null);
+            var actual = TaskFactory.reconstitute(id, userId, title, description, startDate, null, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -312,7 +313,7 @@ class TaskFactoryTests {
             var userId = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
 
             // When
-            var actual = catchThrowable(() -> TaskFactory.reconstitute(null, userId, "Title", "Description", Instant.now(), Instant.now()));
+            var actual = catchThrowable(() -> TaskFactory.reconstitute(null, userId, "Title", "Description", Instant.now(), Instant.now(), 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -325,7 +326,7 @@ class TaskFactoryTests {
             var id = UUID.fromString("a1b2c3d4-e5f6-7890-abcd-ef1234567890");
 
             // When
-            var actual = catchThrowable(() -> TaskFactory.reconstitute(id, null, "Title", "Description", Instant.now(), Instant.now()));
+            var actual = catchThrowable(() -> TaskFactory.reconstitute(id, null, "Title", "Description", Instant.now(), Instant.now(), 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -339,13 +340,27 @@ class TaskFactoryTests {
             var userId = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
 
             // When
-            var actual = catchThrowable(() -> TaskFactory.reconstitute(id, userId, null, "Description", Instant.now(), Instant.now()));
+            var actual = catchThrowable(() -> TaskFactory.reconstitute(id, userId, null, "Description", Instant.now(), Instant.now(), 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
                               .hasMessage("Title must not be null or empty");
         }
 
+        @Test
+        void ThrowsIllegalArgumentException_NullVersion() {
+            // Given
+            var id = UUID.fromString("a1b2c3d4-e5f6-7890-abcd-ef1234567890");
+            var userId = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
+
+            // When
+            var actual = catchThrowable(() -> TaskFactory.reconstitute(id, userId, "Title", "Description", Instant.now(), Instant.now(), null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Version must not be null");
+        }
+
     }
 
 }
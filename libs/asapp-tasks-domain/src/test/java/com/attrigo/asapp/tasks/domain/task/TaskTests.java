@@ -30,11 +30,12 @@ import org.junit.jupiter.api.Test;
  * Tests {@link Task} persistence states, field updates, and identity equality.
  * <p>
  * Coverage:
- * <li>Creates new task with user ID and title, optional description, start date, and end date, null ID</li>
- * <li>Creates reconstituted task with ID, user ID, and title, optional description, start date, and end date</li>
+ * <li>Creates new task with user ID and title, optional description, start date, and end date, null ID and version</li>
+ * <li>Creates reconstituted task with ID, user ID, title and version, optional description, start date, and end date</li>
  * <li>Updates task data (user ID, title, description, start date, end date) on both states</li>
  * <li>Validates user ID and title required for both states</li>
- * <li>Validates ID required only for reconstituted state</li>
+ * <li>Validates ID and version required only for reconstituted state</li>
+ * <li>Tracks only the fields whose value actually changes, including removals of optional fields</li>
  * <li>Implements identity-based equality using ID for reconstituted tasks, unique hash for new tasks</li>
  */
 class TaskTests {
@@ -63,6 +64,7 @@ class TaskTests {
                 softly.assertThat(actual.getDescription()).as("description").isEqualTo(description);
                 softly.assertThat(actual.getStartDate()).as("start date").isEqualTo(startDate);
                 softly.assertThat(actual.getEndDate()).as("end date").isEqualTo(endDate);
+                softly.assertThat(actual.getVersion()).as("version").isNull();
                 // @formatter:on
             });
         }
@@ -187,7 +189,7 @@ class TaskTests {
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
 
             // When
-            var actual = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var actual = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -198,6 +200,7 @@ class TaskTests {
                 softly.assertThat(actual.getDescription()).as("description").isEqualTo(description);
                 softly.assertThat(actual.getStartDate()).as("start date").isEqualTo(startDate);
                 softly.assertThat(actual.getEndDate()).as("end date").isEqualTo(endDate);
+                softly.assertThat(actual.getVersion()).as("version").isEqualTo(0L);
                 // @formatter:on
             });
         }
@@ -212,7 +215,7 @@ class TaskTests {
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
 
             // When
-            var actual = Task.reconstitute(taskId, userId, title, null, startDate, endDate);
+            var actual = Task.reconstitute(taskId, userId, title, null, startDate, endDate, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -237,7 +240,7 @@ class TaskTests {
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
 
             // When
-            var actual = Task.reconstitute(taskId, userId, title, description, null, endDate);
+            var actual = Task.reconstitute(taskId, userId, title, description, null, endDate, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -262,7 +265,7 @@ class TaskTests {
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
 
             // When
-            var actual = Task.reconstitute(taskId, userId, title, description, startDate, null);
+            var actual = Task.reconstitute(taskId, userId, title, description, startDate, null, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -287,7 +290,7 @@ class TaskTests {
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
 
             // When
-            var actual = catchThrowable(() -> Task.reconstitute(null, userId, title, description, startDate, endDate));
+            var actual = catchThrowable(() -> Task.reconstitute(null, userId, title, description, startDate, endDate, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -304,7 +307,7 @@ class TaskTests {
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
 
             // When
-            var actual = catchThrowable(() -> Task.reconstitute(taskId, null, title, description, startDate, endDate));
+            var actual = catchThrowable(() -> Task.reconstitute(taskId, null, title, description, startDate, endDate, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -321,13 +324,31 @@ class TaskTests {
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
 
             // When
-            var actual = catchThrowable(() -> Task.reconstitute(taskId, userId, null, description, startDate, endDate));
+            var actual = catchThrowable(() -> Task.reconstitute(taskId, userId, null, description, startDate, endDate, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
                               .hasMessage("Title must not be null");
         }
 
+        @Test
+        void ThrowsIllegalArgumentException_NullVersion() {
+            // Given
+            var taskId = TaskId.of(UUID.fromString("d68ca3f3-c27f-4602-9679-64e4b871811d"));
+            var userId = UserId.of(UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d"));
+            var title = Title.of("Title");
+            var description = Description.of("Description");
+            var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
+            var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
+
+            // When
+            var actual = catchThrowable(() -> Task.reconstitute(taskId, userId, title, description, startDate, endDate, null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Version must not be null");
+        }
+
     }
 
     @Nested
@@ -467,7 +488,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             var newUserId = UserId.of(UUID.fromString("d0e1f2a3-b4c5-4d6e-7f8a-9b0c1d2e3f4a"));
             var newTitle = Title.of("NewTitle");
@@ -500,7 +521,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             var newUserId = UserId.of(UUID.fromString("d0e1f2a3-b4c5-4d6e-7f8a-9b0c1d2e3f4a"));
             var newTitle = Title.of("NewTitle");
@@ -532,7 +553,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             var newUserId = UserId.of(UUID.fromString("d0e1f2a3-b4c5-4d6e-7f8a-9b0c1d2e3f4a"));
             var newTitle = Title.of("NewTitle");
@@ -564,7 +585,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             var newUserId = UserId.of(UUID.fromString("d0e1f2a3-b4c5-4d6e-7f8a-9b0c1d2e3f4a"));
             var newTitle = Title.of("NewTitle");
@@ -611,7 +632,7 @@ class TaskTests {
         }
 
         @Test
-        void ThrowsIllegalArgumentException_NullTitleOnNewTask() {
+        void ThrowsIllegalArgumentExceptionAndKeepsUserId_NullTitleOnNewTask() {
             // Given
             var userId = UserId.of(UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d"));
             var title = Title.of("Title");
@@ -631,6 +652,7 @@ class TaskTests {
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
                               .hasMessage("Title must not be null");
+            assertThat(task.getUserId()).isEqualTo(userId);
         }
 
         @Test
@@ -642,7 +664,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             var newTitle = Title.of("NewTitle");
             var newDescription = Description.of("NewDescription");
@@ -658,7 +680,7 @@ class TaskTests {
         }
 
         @Test
-        void ThrowsIllegalArgumentException_NullTitleOnReconstitutedTask() {
+        void ThrowsIllegalArgumentExceptionAndKeepsUserId_NullTitleOnReconstitutedTask() {
             // Given
             var taskId = TaskId.of(UUID.fromString("d68ca3f3-c27f-4602-9679-64e4b871811d"));
             var userId = UserId.of(UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d"));
@@ -666,7 +688,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             var newUserId = UserId.of(UUID.fromString("d0e1f2a3-b4c5-4d6e-7f8a-9b0c1d2e3f4a"));
             var newDescription = Description.of("NewDescription");
@@ -679,6 +701,116 @@ class TaskTests {
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
                               .hasMessage("Title must not be null");
+            assertThat(task.getUserId()).isEqualTo(userId);
+        }
+
+    }
+
+    @Nested
+    class TrackChangedFields {
+
+        @Test
+        void ReturnsNoChangedFields_ReconstitutedTask() {
+            // Given
+            var task = buildReconstitutedTask();
+
+            // When
+            var actual = task.getChangedFields();
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+        @Test
+        void ReturnsOnlyChangedField_TitleChanged() {
+            // Given
+            var task = buildReconstitutedTask();
+            var newTitle = Title.of("NewTitle");
+
+            // When
+            task.changeTitle(newTitle);
+
+            // Then
+            assertThat(task.getTitle()).isEqualTo(newTitle);
+            assertThat(task.getChangedFields()).containsExactly(TaskField.TITLE);
+        }
+
+        @Test
+        void ReturnsNoChangedFields_SameValuesApplied() {
+            // Given
+            var task = buildReconstitutedTask();
+
+            // When
+            task.changeUserId(task.getUserId());
+            task.changeTitle(Title.of("Title"));
+            task.changeDescription(Description.of("Description"));
+            task.changeStartDate(task.getStartDate());
+            task.changeEndDate(task.getEndDate());
+
+            // Then
+            assertThat(task.getChangedFields()).isEmpty();
+        }
+
+        @Test
+        void ReturnsRemovedOptionalFields_OptionalFieldsSetToNull() {
+            // Given
+            var task = buildReconstitutedTask();
+
+            // When
+            task.changeDescription(null);
+            task.changeStartDate(null);
+            task.changeEndDate(null);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(task.getDescription()).as("description").isNull();
+                softly.assertThat(task.getStartDate()).as("start date").isNull();
+                softly.assertThat(task.getEndDate()).as("end date").isNull();
+                softly.assertThat(task.getChangedFields()).as("changed fields").containsExactlyInAnyOrder(TaskField.DESCRIPTION, TaskField.START_DATE, TaskField.END_DATE);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsOnlyDifferingFields_UpdateWithSomeNewValues() {
+            // Given
+            var task = buildReconstitutedTask();
+            var newEndDate = EndDate.of(Instant.parse("2025-04-04T14:00:00Z"));
+
+            // When
+            task.update(task.getUserId(), task.getTitle(), task.getDescription(), task.getStartDate(), newEndDate);
+
+            // Then
+            assertThat(task.getChangedFields()).containsExactly(TaskField.END_DATE);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentExceptionAndTracksNothing_NullTitle() {
+            // Given
+            var task = buildReconstitutedTask();
+
+            // When
+            var actual = catchThrowable(() -> task.changeTitle(null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Title must not be null");
+            assertThat(task.getChangedFields()).isEmpty();
+        }
+
+        @Test
+        void ThrowsIllegalArgumentExceptionAndTracksNothing_NullUserId() {
+            // Given
+            var task = buildReconstitutedTask();
+
+            // When
+            var actual = catchThrowable(() -> task.changeUserId(null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("User ID must not be null");
+            assertThat(task.getChangedFields()).isEmpty();
         }
 
     }
@@ -695,7 +827,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.equals(task);
@@ -713,9 +845,9 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task1 = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
-            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
-            var task3 = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task1 = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
+            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
+            var task3 = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual1 = task1.equals(task2);
@@ -737,7 +869,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.equals(null);
@@ -755,7 +887,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
             var other = "not a task";
 
             // When
@@ -775,7 +907,7 @@ class TaskTests {
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
             var task1 = Task.create(userId, title, description, startDate, endDate);
-            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual1 = task1.equals(task2);
@@ -797,9 +929,9 @@ class TaskTests {
             var taskId1 = TaskId.of(UUID.fromString("e1f2a3b4-c5d6-4e7f-8a9b-0c1d2e3f4a5b"));
             var taskId2 = TaskId.of(UUID.fromString("f2a3b4c5-d6e7-4f8a-9b0c-1d2e3f4a5b6c"));
             var taskId3 = TaskId.of(UUID.fromString("a3b4c5d6-e7f8-4a9b-0c1d-2e3f4a5b6c7d"));
-            var task1 = Task.reconstitute(taskId1, userId, title, description, startDate, endDate);
-            var task2 = Task.reconstitute(taskId2, userId, title, description, startDate, endDate);
-            var task3 = Task.reconstitute(taskId3, userId, title, description, startDate, endDate);
+            var task1 = Task.reconstitute(taskId1, userId, title, description, startDate, endDate, 0L);
+            var task2 = Task.reconstitute(taskId2, userId, title, description, startDate, endDate, 0L);
+            var task3 = Task.reconstitute(taskId3, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual1 = task1.equals(task2);
@@ -826,8 +958,8 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task1 = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
-            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task1 = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
+            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual1 = task1.hashCode();
@@ -866,7 +998,7 @@ class TaskTests {
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
             var task1 = Task.create(userId, title, description, startDate, endDate);
-            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task2 = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual1 = task1.hashCode();
@@ -886,8 +1018,8 @@ class TaskTests {
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
             var taskId1 = TaskId.of(UUID.fromString("b4c5d6e7-f8a9-4b0c-1d2e-3f4a5b6c7d8e"));
             var taskId2 = TaskId.of(UUID.fromString("c5d6e7f8-a9b0-4c1d-2e3f-4a5b6c7d8e9f"));
-            var task1 = Task.reconstitute(taskId1, userId, title, description, startDate, endDate);
-            var task2 = Task.reconstitute(taskId2, userId, title, description, startDate, endDate);
+            var task1 = Task.reconstitute(taskId1, userId, title, description, startDate, endDate, 0L);
+            var task2 = Task.reconstitute(taskId2, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual1 = task1.hashCode();
@@ -911,7 +1043,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.getId();
@@ -968,7 +1100,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.getUserId();
@@ -1008,7 +1140,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.getTitle();
@@ -1048,7 +1180,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.getDescription();
@@ -1088,7 +1220,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.getStartDate();
@@ -1128,7 +1260,7 @@ class TaskTests {
             var description = Description.of("Description");
             var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
             var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
-            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate);
+            var task = Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
 
             // When
             var actual = task.getEndDate();
@@ -1139,4 +1271,14 @@ class TaskTests {
 
     }
 
+    private static Task buildReconstitutedTask() {
+        var taskId = TaskId.of(UUID.fromString("d68ca3f3-c27f-4602-9679-64e4b871811d"));
+        var userId = UserId.of(UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d"));
+        var title = Title.of("Title");
+        var description = Description.of("Description");
+        var startDate = StartDate.of(Instant.parse("2025-01-01T11:00:00Z"));
+        var endDate = EndDate.of(Instant.parse("2025-02-02T12:00:00Z"));
+        return Task.reconstitute(taskId, userId, title, description, startDate, endDate, 0L);
+    }
+
 }
@@ -21,6 +21,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.authentication.application.ApplicationService;
+import com.attrigo.asapp.authentication.application.UseCasePriority;
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.authentication.InvalidCredentialsException;
 import com.attrigo.asapp.authentication.application.authentication.in.AuthenticateUseCase;
 import com.attrigo.asapp.authentication.application.authentication.in.command.AuthenticateCommand;
@@ -58,6 +60,8 @@ import com.attrigo.asapp.authentication.domain.user.Username;
 @ApplicationService
 public class AuthenticateService implements AuthenticateUseCase {
 
+    private static final String USE_CASE = "authenticate";
+
     private static final Logger logger = LoggerFactory.getLogger(AuthenticateService.class);
 
     private final CredentialsAuthenticator credentialsAuthenticator;
@@ -68,6 +72,8 @@ public class AuthenticateService implements AuthenticateUseCase {
 
     private final TokenStore tokenStore;
 
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code AuthenticateService} with required dependencies.
      *
@@ -75,14 +81,16 @@ public class AuthenticateService implements AuthenticateUseCase {
      * @param tokenIssuer                 the token issuer for generating JWTs
      * @param jwtAuthenticationRepository the repository for JWT authentications data access
      * @param tokenStore                  the store for fast token lookup and validation
+     * @param stepObserver                the observer of the use case steps
      */
     public AuthenticateService(CredentialsAuthenticator credentialsAuthenticator, TokenIssuer tokenIssuer,
-            JwtAuthenticationRepository jwtAuthenticationRepository, TokenStore tokenStore) {
+            JwtAuthenticationRepository jwtAuthenticationRepository, TokenStore tokenStore, UseCaseStepObserver stepObserver) {
 
         this.credentialsAuthenticator = credentialsAuthenticator;
         this.tokenIssuer = tokenIssuer;
         this.jwtAuthenticationRepository = jwtAuthenticationRepository;
         this.tokenStore = tokenStore;
+        this.stepObserver = stepObserver;
     }
 
     /**
@@ -93,16 +101,17 @@ public class AuthenticateService implements AuthenticateUseCase {
      */
     @Override
     @Transactional
+    @UseCasePriority(UseCasePriority.Level.HIGH)
     public JwtAuthentication authenticate(AuthenticateCommand authenticateCommand) {
         logger.debug("[AUTHENTICATE] Authenticating user with username={}", authenticateCommand.username());
 
-        var userAuthentication = authenticateCredentials(authenticateCommand);
+        var userAuthentication = stepObserver.observe(USE_CASE, "authenticate-credentials", () -> authenticateCredentials(authenticateCommand));
 
-        var jwtPair = generateTokenPair(userAuthentication);
+        var jwtPair = stepObserver.observe(USE_CASE, "generate-tokens", () -> generateTokenPair(userAuthentication));
         var jwtAuthentication = createJwtAuthentication(userAuthentication, jwtPair);
 
-        var savedAuthentication = persistAuthentication(jwtAuthentication);
-        activateTokens(savedAuthentication.getJwtPair());
+        var savedAuthentication = stepObserver.observe(USE_CASE, "persist-authentication", () -> persistAuthentication(jwtAuthentication));
+        stepObserver.observe(USE_CASE, "activate-tokens", () -> activateTokens(savedAuthentication.getJwtPair()));
 
         logger.debug("[AUTHENTICATE] Authentication successful for subject={}", userAuthentication.username()
                                                                                                   .value());
@@ -22,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.authentication.application.ApplicationService;
 import com.attrigo.asapp.authentication.application.CompensatingTransactionException;
+import com.attrigo.asapp.authentication.application.UseCasePriority;
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
 import com.attrigo.asapp.authentication.application.authentication.UnexpectedJwtTypeException;
@@ -59,6 +61,8 @@ import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
 @ApplicationService
 public class RefreshAuthenticationService implements RefreshAuthenticationUseCase {
 
+    private static final String USE_CASE = "refresh-authentication";
+
     private static final Logger logger = LoggerFactory.getLogger(RefreshAuthenticationService.class);
 
     private final TokenVerifier tokenVerifier;
@@ -69,6 +73,8 @@ public class RefreshAuthenticationService implements RefreshAuthenticationUseCas
 
     private final TokenStore tokenStore;
 
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code RefreshAuthenticationService} with required dependencies.
      *
@@ -76,14 +82,16 @@ public class RefreshAuthenticationService implements RefreshAuthenticationUseCas
      * @param tokenIssuer                 the token issuer for generating new JWTs
      * @param jwtAuthenticationRepository the repository for JWT authentications data access
      * @param tokenStore                  the store for fast token lookup and validation
+     * @param stepObserver                the observer of the use case steps
      */
     public RefreshAuthenticationService(TokenVerifier tokenVerifier, TokenIssuer tokenIssuer, JwtAuthenticationRepository jwtAuthenticationRepository,
-            TokenStore tokenStore) {
+            TokenStore tokenStore, UseCaseStepObserver stepObserver) {
 
         this.tokenVerifier = tokenVerifier;
         this.tokenIssuer = tokenIssuer;
         this.jwtAuthenticationRepository = jwtAuthenticationRepository;
         this.tokenStore = tokenStore;
+        this.stepObserver = stepObserver;
     }
 
     /**
@@ -95,21 +103,22 @@ public class RefreshAuthenticationService implements RefreshAuthenticationUseCas
      */
     @Override
     @Transactional
+    @UseCasePriority(UseCasePriority.Level.HIGH)
     public JwtAuthentication refreshAuthentication(String refreshToken) {
         logger.debug("[REFRESH] Refreshing authentication");
 
         var encodedRefreshToken = EncodedToken.of(refreshToken);
-        verifyRefreshToken(encodedRefreshToken);
+        stepObserver.observe(USE_CASE, "verify-token", () -> verifyRefreshToken(encodedRefreshToken));
 
-        var authentication = retrieveAuthentication(encodedRefreshToken);
+        var authentication = stepObserver.observe(USE_CASE, "retrieve-authentication", () -> retrieveAuthentication(encodedRefreshToken));
         var oldJwtPair = authentication.getJwtPair();
 
-        var newJwtPair = generateNewTokenPair(authentication.refreshToken());
+        var newJwtPair = stepObserver.observe(USE_CASE, "generate-tokens", () -> generateNewTokenPair(authentication.refreshToken()));
         updateAuthenticationWithNewTokens(authentication, newJwtPair);
 
-        var updatedAuthentication = persistAuthenticationUpdate(authentication);
+        var updatedAuthentication = stepObserver.observe(USE_CASE, "persist-authentication", () -> persistAuthenticationUpdate(authentication));
         try {
-            rotateTokens(oldJwtPair, updatedAuthentication.getJwtPair());
+            stepObserver.observe(USE_CASE, "rotate-tokens", () -> rotateTokens(oldJwtPair, updatedAuthentication.getJwtPair()));
 
             logger.debug("[REFRESH] Authentication refreshed successfully");
 
@@ -16,13 +16,14 @@
 
 package com.attrigo.asapp.authentication.application.authentication.in.service;
 
-import java.util.Objects;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.authentication.application.ApplicationService;
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
 import com.attrigo.asapp.authentication.application.authentication.UnexpectedJwtTypeException;
 import com.attrigo.asapp.authentication.application.authentication.in.RevokeAuthenticationUseCase;
@@ -30,8 +31,7 @@ import com.attrigo.asapp.authentication.application.authentication.out.JwtAuthen
 import com.attrigo.asapp.authentication.application.authentication.out.TokenStore;
 import com.attrigo.asapp.authentication.application.authentication.out.TokenVerifier;
 import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
-import com.attrigo.asapp.authentication.domain.authentication.JwtAuthentication;
-import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 
 /**
  * Application service responsible for orchestrating authentication revocation.
@@ -41,8 +41,7 @@ import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
  * <strong>Orchestration Flow:</strong>
  * <ol>
  * <li>Verifies access token</li>
- * <li>Fetches authentication from repository</li>
- * <li>Deletes authentication from repository</li>
+ * <li>Deletes authentication from repository, retrieving its tokens in the same statement</li>
  * <li>Deletes token pair from fast-access store</li>
  * </ol>
  * <p>
@@ -54,6 +53,8 @@ import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
 @ApplicationService
 public class RevokeAuthenticationService implements RevokeAuthenticationUseCase {
 
+    private static final String USE_CASE = "revoke-authentication";
+
     private static final Logger logger = LoggerFactory.getLogger(RevokeAuthenticationService.class);
 
     private final TokenVerifier tokenVerifier;
@@ -62,17 +63,23 @@ public class RevokeAuthenticationService implements RevokeAuthenticationUseCase
 
     private final TokenStore tokenStore;
 
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code RevokeAuthenticationService} with required dependencies.
      *
      * @param tokenVerifier               the token verifier for verifying access tokens
      * @param jwtAuthenticationRepository the repository for JWT authentications data access
      * @param tokenStore                  the store for fast token lookup and validation
+     * @param stepObserver                the observer of the use case steps
      */
-    public RevokeAuthenticationService(TokenVerifier tokenVerifier, JwtAuthenticationRepository jwtAuthenticationRepository, TokenStore tokenStore) {
+    public RevokeAuthenticationService(TokenVerifier tokenVerifier, JwtAuthenticationRepository jwtAuthenticationRepository, TokenStore tokenStore,
+            UseCaseStepObserver stepObserver) {
+
         this.tokenVerifier = tokenVerifier;
         this.jwtAuthenticationRepository = jwtAuthenticationRepository;
         this.tokenStore = tokenStore;
+        this.stepObserver = stepObserver;
     }
 
     /**
@@ -87,17 +94,12 @@ public class RevokeAuthenticationService implements RevokeAuthenticationUseCase
         logger.debug("[REVOKE] Revoking authentication");
 
         var encodedAccessToken = EncodedToken.of(accessToken);
-        verifyAccessToken(encodedAccessToken);
+        stepObserver.observe(USE_CASE, "verify-token", () -> verifyAccessToken(encodedAccessToken));
 
-        var authentication = retrieveAuthentication(encodedAccessToken);
-        var jwtPairToDelete = authentication.getJwtPair();
-        var authenticationId = Objects.requireNonNull(authentication.getId(), "Retrieved authentication has no ID")
-                                      .value();
+        var tokenPairToDeactivate = stepObserver.observe(USE_CASE, "delete-authentication", () -> deleteAuthentication(encodedAccessToken));
+        stepObserver.observe(USE_CASE, "deactivate-tokens", () -> deactivateTokens(tokenPairToDeactivate));
 
-        deleteAuthentication(authentication);
-        deactivateTokens(jwtPairToDelete);
-
-        logger.debug("[REVOKE] Authentication revoked successfully for authenticationId={}", authenticationId);
+        logger.debug("[REVOKE] Authentication revoked successfully");
     }
 
     /**
@@ -108,40 +110,30 @@ public class RevokeAuthenticationService implements RevokeAuthenticationUseCase
      * @throws AuthenticationNotFoundException if the authentication session is not found in fast-access store
      */
     private void verifyAccessToken(EncodedToken encodedToken) {
-        logger.trace("[REVOKE] Step 1/4: Verifying access token");
+        logger.trace("[REVOKE] Step 1/3: Verifying access token");
         tokenVerifier.verifyAccessToken(encodedToken);
     }
 
     /**
-     * Fetches the authentication record from the repository using the access token.
+     * Deletes the authentication from the repository using the access token.
      *
-     * @param encodedToken the access token to search for
-     * @return the {@link JwtAuthentication} from repository
+     * @param encodedToken the access token of the authentication to delete
+     * @return the {@link EncodedTokenPair} of the deleted authentication
      * @throws AuthenticationNotFoundException if authentication is not found in repository
      */
-    private JwtAuthentication retrieveAuthentication(EncodedToken encodedToken) {
-        logger.trace("[REVOKE] Step 2/4: Fetching authentication from repository");
-        return jwtAuthenticationRepository.findByAccessToken(encodedToken);
+    private EncodedTokenPair deleteAuthentication(EncodedToken encodedToken) {
+        logger.trace("[REVOKE] Step 2/3: Deleting authentication from repository");
+        return jwtAuthenticationRepository.deleteByAccessToken(encodedToken);
     }
 
     /**
      * Deactivates the token pair by removing it from the fast-access store.
      *
-     * @param jwtPair the JWT pair to deactivate
-     */
-    private void deactivateTokens(JwtPair jwtPair) {
-        logger.trace("[REVOKE] Step 4/4: Deleting token pair from fast-access store");
-        tokenStore.delete(jwtPair);
-    }
-
-    /**
-     * Deletes the authentication from the repository.
-     *
-     * @param jwtAuthentication the authentication to delete
+     * @param tokenPair the token pair to deactivate
      */
-    private void deleteAuthentication(JwtAuthentication jwtAuthentication) {
-        logger.trace("[REVOKE] Step 3/4: Deleting authentication from repository");
-        jwtAuthenticationRepository.deleteById(jwtAuthentication.getId());
+    private void deactivateTokens(EncodedTokenPair tokenPair) {
+        logger.trace("[REVOKE] Step 3/3: Deleting token pair from fast-access store");
+        tokenStore.deleteAll(List.of(tokenPair));
     }
 
 }
@@ -21,6 +21,7 @@ import java.util.List;
 
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
 import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.authentication.JwtAuthentication;
 import com.attrigo.asapp.authentication.domain.authentication.JwtAuthenticationId;
 import com.attrigo.asapp.authentication.domain.user.UserId;
@@ -80,12 +81,26 @@ public interface JwtAuthenticationRepository {
      */
     void deleteById(JwtAuthenticationId jwtAuthenticationId);
 
+    /**
+     * Deletes a JWT authentication by its access token.
+     * <p>
+     * Returns only the encoded tokens of the deleted authentication, which is all the fast-access store needs to revoke them.
+     *
+     * @param accessToken the encoded access token
+     * @return the {@link EncodedTokenPair} of the deleted authentication
+     * @throws AuthenticationNotFoundException if authentication is not found
+     */
+    EncodedTokenPair deleteByAccessToken(EncodedToken accessToken);
+
     /**
      * Deletes all JWT authentications associated with a user.
+     * <p>
+     * Returns only the encoded tokens of the deleted authentications, which is all the fast-access store needs to revoke them.
      *
      * @param userId the user's unique identifier
+     * @return a {@link List} of {@link EncodedTokenPair} of the deleted authentications, empty list if none found
      */
-    void deleteAllByUserId(UserId userId);
+    List<EncodedTokenPair> deleteAllByUserId(UserId userId);
 
     /**
      * Deletes all JWT authentications with refresh tokens expired before the given instant.
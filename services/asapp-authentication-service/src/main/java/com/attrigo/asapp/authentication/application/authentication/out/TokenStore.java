@@ -16,8 +16,11 @@
 
 package com.attrigo.asapp.authentication.application.authentication.out;
 
+import java.util.Collection;
+
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
 import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
 
 /**
@@ -68,4 +71,14 @@ public interface TokenStore {
      */
     void delete(JwtPair jwtPair);
 
+    /**
+     * Deletes several token pairs from the fast-access store at once.
+     * <p>
+     * Removes both access and refresh tokens of every pair to invalidate them immediately.
+     *
+     * @param tokenPairs the {@link EncodedTokenPair} instances to delete
+     * @throws TokenStoreException if the store operation fails
+     */
+    void deleteAll(Collection<EncodedTokenPair> tokenPairs);
+
 }
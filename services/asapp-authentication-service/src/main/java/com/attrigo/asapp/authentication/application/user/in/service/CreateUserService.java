@@ -17,8 +17,10 @@
 package com.attrigo.asapp.authentication.application.user.in.service;
 
 import com.attrigo.asapp.authentication.application.ApplicationService;
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.user.in.CreateUserUseCase;
 import com.attrigo.asapp.authentication.application.user.in.command.CreateUserCommand;
+import com.attrigo.asapp.authentication.application.user.out.UserCredentialsCache;
 import com.attrigo.asapp.authentication.application.user.out.UserRepository;
 import com.attrigo.asapp.authentication.domain.user.EncodedPassword;
 import com.attrigo.asapp.authentication.domain.user.PasswordService;
@@ -37,6 +39,7 @@ import com.attrigo.asapp.authentication.domain.user.Username;
  * <li>Encodes raw password</li>
  * <li>Creates an inactive {@link User}</li>
  * <li>Persists user to repository via</li>
+ * <li>Evicts the cached absence of the username</li>
  * </ol>
  *
  * @since 0.2.0
@@ -45,19 +48,31 @@ import com.attrigo.asapp.authentication.domain.user.Username;
 @ApplicationService
 public class CreateUserService implements CreateUserUseCase {
 
+    private static final String USE_CASE = "create-user";
+
     private final PasswordService passwordEncoder;
 
     private final UserRepository userRepository;
 
+    private final UserCredentialsCache userCredentialsCache;
+
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code CreateUserService} with required dependencies.
      *
-     * @param passwordEncoder the password encoding service for securing user passwords
-     * @param userRepository  the repository for user data access
+     * @param passwordEncoder      the password encoding service for securing user passwords
+     * @param userRepository       the repository for user data access
+     * @param userCredentialsCache the cache of user credentials loaded at authentication time
+     * @param stepObserver         the observer of the use case steps
      */
-    public CreateUserService(PasswordService passwordEncoder, UserRepository userRepository) {
+    public CreateUserService(PasswordService passwordEncoder, UserRepository userRepository, UserCredentialsCache userCredentialsCache,
+            UseCaseStepObserver stepObserver) {
+
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
+        this.userCredentialsCache = userCredentialsCache;
+        this.stepObserver = stepObserver;
     }
 
     @Override
@@ -66,10 +81,14 @@ public class CreateUserService implements CreateUserUseCase {
         var rawPassword = RawPassword.of(command.password());
         var role = Role.valueOf(command.role());
 
-        var encodedPassword = encodePassword(rawPassword);
+        var encodedPassword = stepObserver.observe(USE_CASE, "encode-password", () -> encodePassword(rawPassword));
         var newUser = createInactiveUser(username, encodedPassword, role);
 
-        return persistUser(newUser);
+        var createdUser = stepObserver.observe(USE_CASE, "persist-user", () -> persistUser(newUser));
+
+        stepObserver.observe(USE_CASE, "evict-credentials", () -> evictCachedCredentials(username));
+
+        return createdUser;
     }
 
     /**
@@ -104,4 +123,13 @@ public class CreateUserService implements CreateUserUseCase {
         return userRepository.save(user);
     }
 
+    /**
+     * Evicts the cached credentials of the username, so a previously cached absence does not reject the new user's logins.
+     *
+     * @param username the username
+     */
+    private void evictCachedCredentials(Username username) {
+        userCredentialsCache.evictByUsername(username);
+    }
+
 }
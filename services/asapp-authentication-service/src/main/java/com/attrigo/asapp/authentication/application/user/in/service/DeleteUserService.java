@@ -25,9 +25,9 @@ import com.attrigo.asapp.authentication.application.ApplicationService;
 import com.attrigo.asapp.authentication.application.authentication.out.JwtAuthenticationRepository;
 import com.attrigo.asapp.authentication.application.authentication.out.TokenStore;
 import com.attrigo.asapp.authentication.application.user.in.DeleteUserUseCase;
+import com.attrigo.asapp.authentication.application.user.out.UserCredentialsCache;
 import com.attrigo.asapp.authentication.application.user.out.UserRepository;
-import com.attrigo.asapp.authentication.domain.authentication.JwtAuthentication;
-import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.user.UserId;
 
 /**
@@ -37,10 +37,10 @@ import com.attrigo.asapp.authentication.domain.user.UserId;
  * <p>
  * <strong>Orchestration Flow:</strong>
  * <ol>
- * <li>Retrieves all JWT pairs for the user</li>
- * <li>Deletes all JWT authentications from repository</li>
+ * <li>Deletes all JWT authentications from repository, retrieving their tokens in the same statement</li>
  * <li>Deletes user from repository</li>
- * <li>Deletes all token pairs from fast-access store (immediate revocation)</li>
+ * <li>Deletes all token pairs from fast-access store in a single round trip (immediate revocation)</li>
+ * <li>Evicts the cached credentials of the user</li>
  * </ol>
  * <p>
  * The repository operations run in a single transaction; the fast-access store is updated last, outside that transaction.
@@ -57,17 +57,22 @@ public class DeleteUserService implements DeleteUserUseCase {
 
     private final JwtAuthenticationRepository jwtAuthenticationRepository;
 
+    private final UserCredentialsCache userCredentialsCache;
+
     /**
      * Constructs a new {@code DeleteUserService} with required dependencies.
      *
      * @param tokenStore                  the token store for fast-access store operations
      * @param userRepository              the repository for user data access
      * @param jwtAuthenticationRepository the repository for JWT authentications data access
+     * @param userCredentialsCache        the cache of user credentials loaded at authentication time
      */
-    public DeleteUserService(TokenStore tokenStore, UserRepository userRepository, JwtAuthenticationRepository jwtAuthenticationRepository) {
+    public DeleteUserService(TokenStore tokenStore, UserRepository userRepository, JwtAuthenticationRepository jwtAuthenticationRepository,
+            UserCredentialsCache userCredentialsCache) {
         this.tokenStore = tokenStore;
         this.userRepository = userRepository;
         this.jwtAuthenticationRepository = jwtAuthenticationRepository;
+        this.userCredentialsCache = userCredentialsCache;
     }
 
     /**
@@ -81,57 +86,53 @@ public class DeleteUserService implements DeleteUserUseCase {
     public Boolean deleteUserById(UUID id) {
         var userId = UserId.of(id);
 
-        var jwtPairs = retrieveJwtPairs(userId);
-
-        deleteUserAuthentications(userId);
+        var tokenPairs = deleteUserAuthentications(userId);
         var deleted = deleteUser(userId);
 
         if (deleted) {
-            deactivateAllTokens(jwtPairs);
+            deactivateAllTokens(tokenPairs);
+            evictCachedCredentials(userId);
         }
 
         return deleted;
     }
 
     /**
-     * Retrieves all JWT pairs for the user from their authentications.
+     * Deletes all JWT authentications for the user from the repository.
      *
      * @param userId the user's unique identifier
-     * @return the list of {@link JwtPair} for the user
+     * @return the list of {@link EncodedTokenPair} of the deleted authentications
      */
-    private List<JwtPair> retrieveJwtPairs(UserId userId) {
-        return jwtAuthenticationRepository.findAllByUserId(userId)
-                                          .stream()
-                                          .map(JwtAuthentication::getJwtPair)
-                                          .toList();
+    private List<EncodedTokenPair> deleteUserAuthentications(UserId userId) {
+        return jwtAuthenticationRepository.deleteAllByUserId(userId);
     }
 
     /**
      * Deactivates all token pairs by removing them from the fast-access store.
      *
-     * @param jwtPairs the {@link JwtPair} to deactivate
+     * @param tokenPairs the {@link EncodedTokenPair} to deactivate
      */
-    private void deactivateAllTokens(List<JwtPair> jwtPairs) {
-        jwtPairs.forEach(tokenStore::delete);
+    private void deactivateAllTokens(List<EncodedTokenPair> tokenPairs) {
+        tokenStore.deleteAll(tokenPairs);
     }
 
     /**
-     * Deletes all JWT authentications for the user from the repository.
+     * Deletes the user from the repository by identifier.
      *
      * @param userId the user's unique identifier
+     * @return {@code true} if deleted, {@code false} if not found
      */
-    private void deleteUserAuthentications(UserId userId) {
-        jwtAuthenticationRepository.deleteAllByUserId(userId);
+    private Boolean deleteUser(UserId userId) {
+        return userRepository.deleteById(userId);
     }
 
     /**
-     * Deletes the user from the repository by identifier.
+     * Evicts the cached credentials of the deleted user.
      *
      * @param userId the user's unique identifier
-     * @return {@code true} if deleted, {@code false} if not found
      */
-    private Boolean deleteUser(UserId userId) {
-        return userRepository.deleteById(userId);
+    private void evictCachedCredentials(UserId userId) {
+        userCredentialsCache.evictByUserId(userId);
     }
 
 }
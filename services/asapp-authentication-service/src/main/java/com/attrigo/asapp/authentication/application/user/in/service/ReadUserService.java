@@ -20,7 +20,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.transaction.annotation.Transactional;
+
 import com.attrigo.asapp.authentication.application.ApplicationService;
+import com.attrigo.asapp.authentication.application.UseCasePriority;
 import com.attrigo.asapp.authentication.application.user.in.ReadUserUseCase;
 import com.attrigo.asapp.authentication.application.user.out.UserRepository;
 import com.attrigo.asapp.authentication.domain.user.User;
@@ -49,6 +52,7 @@ public class ReadUserService implements ReadUserUseCase {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(UUID id) {
         var userId = UserId.of(id);
 
@@ -56,6 +60,8 @@ public class ReadUserService implements ReadUserUseCase {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @UseCasePriority(UseCasePriority.Level.LOW)
     public List<User> getAllUsers() {
         return userRepository.findAll()
                              .stream()
@@ -19,8 +19,10 @@ package com.attrigo.asapp.authentication.application.user.in.service;
 import java.util.Optional;
 
 import com.attrigo.asapp.authentication.application.ApplicationService;
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.user.in.UpdateUserUseCase;
 import com.attrigo.asapp.authentication.application.user.in.command.UpdateUserCommand;
+import com.attrigo.asapp.authentication.application.user.out.UserCredentialsCache;
 import com.attrigo.asapp.authentication.application.user.out.UserRepository;
 import com.attrigo.asapp.authentication.domain.user.EncodedPassword;
 import com.attrigo.asapp.authentication.domain.user.PasswordService;
@@ -42,6 +44,7 @@ import com.attrigo.asapp.authentication.domain.user.Username;
  * <li>Encodes raw password</li>
  * <li>Updates user with new credentials</li>
  * <li>Persists updated user to repository</li>
+ * <li>Evicts the cached credentials of the user and of the new username</li>
  * </ol>
  *
  * @since 0.2.0
@@ -50,26 +53,38 @@ import com.attrigo.asapp.authentication.domain.user.Username;
 @ApplicationService
 public class UpdateUserService implements UpdateUserUseCase {
 
+    private static final String USE_CASE = "update-user";
+
     private final PasswordService passwordService;
 
     private final UserRepository userRepository;
 
+    private final UserCredentialsCache userCredentialsCache;
+
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code UpdateUserService} with required dependencies.
      *
-     * @param passwordService the password encoding service for securing user passwords
-     * @param userRepository  the repository for user data access
+     * @param passwordService      the password encoding service for securing user passwords
+     * @param userRepository       the repository for user data access
+     * @param userCredentialsCache the cache of user credentials loaded at authentication time
+     * @param stepObserver         the observer of the use case steps
      */
-    public UpdateUserService(PasswordService passwordService, UserRepository userRepository) {
+    public UpdateUserService(PasswordService passwordService, UserRepository userRepository, UserCredentialsCache userCredentialsCache,
+            UseCaseStepObserver stepObserver) {
+
         this.passwordService = passwordService;
         this.userRepository = userRepository;
+        this.userCredentialsCache = userCredentialsCache;
+        this.stepObserver = stepObserver;
     }
 
     @Override
     public Optional<User> updateUserById(UpdateUserCommand command) {
         var userId = UserId.of(command.userId());
 
-        var optionalUser = retrieveUser(userId);
+        var optionalUser = stepObserver.observe(USE_CASE, "retrieve-user", () -> retrieveUser(userId));
         if (optionalUser.isEmpty()) {
             return Optional.empty();
         }
@@ -79,11 +94,14 @@ public class UpdateUserService implements UpdateUserUseCase {
         var newRawPassword = RawPassword.of(command.password());
         var newRole = Role.valueOf(command.role());
 
-        var encodedPassword = encodePassword(newRawPassword);
+        var encodedPassword = stepObserver.observe(USE_CASE, "encode-password", () -> encodePassword(newRawPassword));
 
         updateUserData(currentUser, newUsername, encodedPassword, newRole);
 
-        var updatedUser = persistUser(currentUser);
+        var updatedUser = stepObserver.observe(USE_CASE, "persist-user", () -> persistUser(currentUser));
+
+        stepObserver.observe(USE_CASE, "evict-credentials", () -> evictCachedCredentials(userId, newUsername));
+
         return Optional.of(updatedUser);
     }
 
@@ -132,4 +150,15 @@ public class UpdateUserService implements UpdateUserUseCase {
         return userRepository.save(user);
     }
 
+    /**
+     * Evicts the cached credentials of the user, cached under the previous username, and any cached absence of the new username.
+     *
+     * @param userId   the user's unique identifier
+     * @param username the new username
+     */
+    private void evictCachedCredentials(UserId userId, Username username) {
+        userCredentialsCache.evictByUserId(userId);
+        userCredentialsCache.evictByUsername(username);
+    }
+
 }
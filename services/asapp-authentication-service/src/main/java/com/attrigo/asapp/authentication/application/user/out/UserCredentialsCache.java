@@ -0,0 +1,48 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.application.user.out;
+
+import com.attrigo.asapp.authentication.domain.user.UserId;
+import com.attrigo.asapp.authentication.domain.user.Username;
+
+/**
+ * Port for invalidating the user credentials cached for authentication.
+ * <p>
+ * Defines the contract for evicting cached credentials whenever a user is created, updated or deleted, so that authentication never relies on stale
+ * credentials, including cached lookups of usernames that did not exist.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface UserCredentialsCache {
+
+    /**
+     * Evicts the cached credentials of a user.
+     *
+     * @param userId the user's unique identifier
+     */
+    void evictByUserId(UserId userId);
+
+    /**
+     * Evicts the cached credentials, or the cached absence of credentials, of a username.
+     *
+     * @param username the username
+     */
+    void evictByUsername(Username username);
+
+}
@@ -0,0 +1,87 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.domain.authentication;
+
+/**
+ * Represents the encoded values of a pair of JWTs (access and refresh).
+ * <p>
+ * This value object carries only the encoded tokens, which is all that is needed to revoke a {@link JwtPair} from the fast-access store without materializing
+ * the full tokens.
+ * <p>
+ * It enforces structural integrity by ensuring they are both present.
+ *
+ * @param accessToken  the encoded access token
+ * @param refreshToken the encoded refresh token
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record EncodedTokenPair(
+        EncodedToken accessToken,
+        EncodedToken refreshToken
+) {
+
+    /**
+     * Constructs a new {@code EncodedTokenPair} instance and validates its integrity.
+     * <p>
+     * Prefer the factory method {@link #of(EncodedToken, EncodedToken)} over direct instantiation.
+     *
+     * @param accessToken  the encoded access token to validate and store
+     * @param refreshToken the encoded refresh token to validate and store
+     * @throws IllegalArgumentException if either token is {@code null}
+     */
+    public EncodedTokenPair {
+        validateAccessToken(accessToken);
+        validateRefreshToken(refreshToken);
+    }
+
+    /**
+     * Factory method to create a new {@code EncodedTokenPair} instance.
+     *
+     * @param accessToken  the encoded access token
+     * @param refreshToken the encoded refresh token
+     * @return a new {@code EncodedTokenPair} instance
+     * @throws IllegalArgumentException if either token is {@code null}
+     */
+    public static EncodedTokenPair of(EncodedToken accessToken, EncodedToken refreshToken) {
+        return new EncodedTokenPair(accessToken, refreshToken);
+    }
+
+    /**
+     * Validates that the access token is not {@code null}.
+     *
+     * @param accessToken the access token to validate
+     * @throws IllegalArgumentException if the access token is {@code null}
+     */
+    private static void validateAccessToken(EncodedToken accessToken) {
+        if (accessToken == null) {
+            throw new IllegalArgumentException("Access token must not be null");
+        }
+    }
+
+    /**
+     * Validates that the refresh token is not {@code null}.
+     *
+     * @param refreshToken the refresh token to validate
+     * @throws IllegalArgumentException if the refresh token is {@code null}
+     */
+    private static void validateRefreshToken(EncodedToken refreshToken) {
+        if (refreshToken == null) {
+            throw new IllegalArgumentException("Refresh token must not be null");
+        }
+    }
+
+}
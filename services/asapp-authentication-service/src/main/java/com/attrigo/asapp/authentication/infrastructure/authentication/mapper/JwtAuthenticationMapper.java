@@ -20,11 +20,13 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import com.attrigo.asapp.authentication.application.authentication.in.command.AuthenticateCommand;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.authentication.JwtAuthentication;
 import com.attrigo.asapp.authentication.infrastructure.authentication.in.request.AuthenticateRequest;
 import com.attrigo.asapp.authentication.infrastructure.authentication.in.response.AuthenticateResponse;
 import com.attrigo.asapp.authentication.infrastructure.authentication.in.response.RefreshAuthenticationResponse;
 import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationEntity;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtTokenPair;
 import com.attrigo.asapp.authentication.infrastructure.user.mapper.UserIdMapper;
 
 /**
@@ -37,7 +39,8 @@ import com.attrigo.asapp.authentication.infrastructure.user.mapper.UserIdMapper;
  * @since 0.2.0
  * @author attrigo
  */
-@Mapper(componentModel = "spring", uses = { JwtAuthenticationObjectFactory.class, JwtAuthenticationIdMapper.class, UserIdMapper.class, JwtMapper.class })
+@Mapper(componentModel = "spring", uses = { JwtAuthenticationObjectFactory.class, JwtAuthenticationIdMapper.class, UserIdMapper.class, JwtMapper.class,
+        EncodedTokenMapper.class })
 public interface JwtAuthenticationMapper {
 
     /**
@@ -66,6 +69,14 @@ public interface JwtAuthenticationMapper {
      */
     JwtAuthentication toJwtAuthentication(JdbcJwtAuthenticationEntity jdbcJwtAuthenticationEntity);
 
+    /**
+     * Maps a database {@link JdbcJwtTokenPair} to a domain {@link EncodedTokenPair}.
+     *
+     * @param jdbcJwtTokenPair the {@link JdbcJwtTokenPair} of a deleted authentication
+     * @return the {@link EncodedTokenPair} domain value object
+     */
+    EncodedTokenPair toEncodedTokenPair(JdbcJwtTokenPair jdbcJwtTokenPair);
+
     /**
      * Maps a domain {@link JwtAuthentication} to an {@link AuthenticateResponse}.
      *
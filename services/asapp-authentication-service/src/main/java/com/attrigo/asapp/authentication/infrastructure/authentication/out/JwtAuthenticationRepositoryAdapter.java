@@ -26,6 +26,7 @@ import org.springframework.stereotype.Component;
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
 import com.attrigo.asapp.authentication.application.authentication.out.JwtAuthenticationRepository;
 import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.authentication.JwtAuthentication;
 import com.attrigo.asapp.authentication.domain.authentication.JwtAuthenticationId;
 import com.attrigo.asapp.authentication.domain.user.UserId;
@@ -110,9 +111,21 @@ public class JwtAuthenticationRepositoryAdapter implements JwtAuthenticationRepo
     }
 
     @Override
-    public void deleteAllByUserId(UserId userId) {
+    public EncodedTokenPair deleteByAccessToken(EncodedToken accessToken) {
+        logger.trace("[JWT_AUTH_REPOSITORY] Deleting authentication by access token");
+        return jwtAuthenticationRepository.deleteByAccessTokenToken(accessToken.value())
+                                          .map(jwtAuthenticationMapper::toEncodedTokenPair)
+                                          .orElseThrow(
+                                                  () -> new AuthenticationNotFoundException("Authentication session not found in repository for access token"));
+    }
+
+    @Override
+    public List<EncodedTokenPair> deleteAllByUserId(UserId userId) {
         logger.trace("[JWT_AUTH_REPOSITORY] Deleting all authentications by userId={}", userId.value());
-        jwtAuthenticationRepository.deleteAllByUserId(userId.value());
+        return jwtAuthenticationRepository.deleteAllByUserId(userId.value())
+                                          .stream()
+                                          .map(jwtAuthenticationMapper::toEncodedTokenPair)
+                                          .toList();
     }
 
     @Override
@@ -18,6 +18,8 @@ package com.attrigo.asapp.authentication.infrastructure.authentication.out;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +32,7 @@ import org.springframework.stereotype.Component;
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
 import com.attrigo.asapp.authentication.application.authentication.out.TokenStore;
 import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.authentication.Expiration;
 import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
 
@@ -180,6 +183,48 @@ public class RedisJwtStore implements TokenStore {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every key is removed by a single command, so revoking any number of pairs costs one round trip.
+     * <p>
+     * <strong>Redis Operations:</strong>
+     * <ul>
+     * <li>DEL {@code jwt:access_token:<token>} {@code jwt:refresh_token:<token>} ... for every pair</li>
+     * </ul>
+     */
+    @Override
+    public void deleteAll(Collection<EncodedTokenPair> tokenPairs) {
+        logger.trace("[REDIS_JWT_STORE] Deleting {} JWT pairs", tokenPairs.size());
+        if (tokenPairs.isEmpty()) {
+            return;
+        }
+
+        var keys = tokenPairs.stream()
+                             .flatMap(RedisJwtStore::keysOf)
+                             .toList();
+        try {
+            redisTemplate.delete(keys);
+
+        } catch (Exception e) {
+            throw new TokenStoreException("Could not delete tokens from fast-access store", e);
+        }
+    }
+
+    /**
+     * Builds the access and refresh token keys of a token pair.
+     *
+     * @param tokenPair the encoded token pair
+     * @return the {@link Stream} of both keys
+     */
+    private static Stream<String> keysOf(EncodedTokenPair tokenPair) {
+        var accessKey = ACCESS_TOKEN_PREFIX + tokenPair.accessToken()
+                                                       .value();
+        var refreshKey = REFRESH_TOKEN_PREFIX + tokenPair.refreshToken()
+                                                         .value();
+        return Stream.of(accessKey, refreshKey);
+    }
+
     /**
      * Calculates the time-to-live (TTL) in seconds for a token based on its expiration.
      * <p>
@@ -0,0 +1,512 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.infrastructure.authentication.out;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
+import com.attrigo.asapp.authentication.application.authentication.out.JwtAuthenticationRepository;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
+import com.attrigo.asapp.authentication.domain.authentication.JwtAuthentication;
+import com.attrigo.asapp.authentication.domain.authentication.JwtAuthenticationId;
+import com.attrigo.asapp.authentication.domain.user.UserId;
+import com.attrigo.asapp.authentication.infrastructure.authentication.mapper.JwtAuthenticationMapper;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationEntity;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtTokenPair;
+import com.attrigo.asapp.authentication.infrastructure.datasource.TimeOrderedUuidGenerator;
+
+/**
+ * Write-behind adapter implementation of {@link JwtAuthenticationRepository} using Redis as the hot source of truth.
+ * <p>
+ * Writes land synchronously in Redis (a snapshot of the authentication plus token and user indexes) and are appended to a Redis Stream outbox in the same
+ * pipelined round trip; the durable {@code jwt_authentications} record is written later, in batches, by the write-behind relay. Reads by token are served from
+ * the Redis snapshot and fall back to the JDBC adapter once the snapshot has expired.
+ * <p>
+ * Identifiers are assigned by the application, since no database round trip happens before the authentication is returned to the caller.
+ * <p>
+ * Takes precedence over {@link JwtAuthenticationRepositoryAdapter} only when {@code asapp.security.jwt.write-behind.enabled} is {@code true}.
+ * <p>
+ * <strong>Redis Keys:</strong>
+ * <ul>
+ * <li>{@code jwt:authentication:<id>}: JSON snapshot of the authentication, expiring with its refresh token</li>
+ * <li>{@code jwt:authentication:access_token:<token>}: authentication ID, expiring with the access token</li>
+ * <li>{@code jwt:authentication:refresh_token:<token>}: authentication ID, expiring with the refresh token</li>
+ * <li>{@code jwt:authentication:user:<userId>}: set of the user's authentication IDs</li>
+ * <li>{@code jwt:authentications:outbox}: stream of pending {@code SAVE} and {@code DELETE} operations</li>
+ * </ul>
+ *
+ * @since 0.5.0
+ * @see JwtAuthenticationRepositoryAdapter
+ * @author attrigo
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "asapp.security.jwt.write-behind.enabled", havingValue = "true")
+public class WriteBehindJwtAuthenticationRepository implements JwtAuthenticationRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindJwtAuthenticationRepository.class);
+
+    /**
+     * Redis key prefix for authentication snapshots.
+     */
+    public static final String SNAPSHOT_PREFIX = "jwt:authentication:";
+
+    /**
+     * Redis key prefix for the access token to authentication ID index.
+     */
+    public static final String ACCESS_TOKEN_INDEX_PREFIX = "jwt:authentication:access_token:";
+
+    /**
+     * Redis key prefix for the refresh token to authentication ID index.
+     */
+    public static final String REFRESH_TOKEN_INDEX_PREFIX = "jwt:authentication:refresh_token:";
+
+    /**
+     * Redis key prefix for the user to authentication IDs index.
+     */
+    public static final String USER_INDEX_PREFIX = "jwt:authentication:user:";
+
+    /**
+     * Redis Stream key of the write-behind outbox.
+     */
+    public static final String OUTBOX_STREAM_KEY = "jwt:authentications:outbox";
+
+    /**
+     * Outbox entry field holding the operation type.
+     */
+    public static final String OPERATION_FIELD = "operation";
+
+    /**
+     * Outbox entry field holding the authentication ID.
+     */
+    public static final String ID_FIELD = "id";
+
+    /**
+     * Outbox entry field holding the JSON snapshot of a {@code SAVE} operation.
+     */
+    public static final String PAYLOAD_FIELD = "payload";
+
+    /**
+     * Outbox operation that upserts the authentication.
+     */
+    public static final String SAVE_OPERATION = "SAVE";
+
+    /**
+     * Outbox operation that deletes the authentication.
+     */
+    public static final String DELETE_OPERATION = "DELETE";
+
+    private final JwtAuthenticationRepositoryAdapter jdbcRepository;
+
+    private final JwtAuthenticationMapper jwtAuthenticationMapper;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code WriteBehindJwtAuthenticationRepository} with required dependencies.
+     *
+     * @param jdbcRepository          the JDBC adapter used for fallback reads and synchronous bulk deletions
+     * @param jwtAuthenticationMapper the mapper for converting between domain and database entities
+     * @param redisTemplate           the Spring Data Redis template for executing Redis operations
+     * @param objectMapper            the Jackson ObjectMapper for snapshot serialization
+     */
+    public WriteBehindJwtAuthenticationRepository(JwtAuthenticationRepositoryAdapter jdbcRepository, JwtAuthenticationMapper jwtAuthenticationMapper,
+            RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+
+        this.jdbcRepository = jdbcRepository;
+        this.jwtAuthenticationMapper = jwtAuthenticationMapper;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Resolved from the Redis snapshot; falls back to the database when the token is not indexed in Redis.
+     */
+    @Override
+    public JwtAuthentication findByAccessToken(EncodedToken accessToken) {
+        logger.trace("[WRITE_BEHIND_JWT_AUTH_REPOSITORY] Finding authentication by access token");
+        var snapshot = findSnapshotByIndex(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value());
+        if (snapshot == null) {
+            return jdbcRepository.findByAccessToken(accessToken);
+        }
+        if (!snapshot.accessToken()
+                     .token()
+                     .equals(accessToken.value())) {
+            throw new AuthenticationNotFoundException("Authentication session not found in repository for access token");
+        }
+
+        return jwtAuthenticationMapper.toJwtAuthentication(snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Resolved from the Redis snapshot; falls back to the database when the token is not indexed in Redis.
+     */
+    @Override
+    public JwtAuthentication findByRefreshToken(EncodedToken refreshToken) {
+        logger.trace("[WRITE_BEHIND_JWT_AUTH_REPOSITORY] Finding authentication by refresh token");
+        var snapshot = findSnapshotByIndex(REFRESH_TOKEN_INDEX_PREFIX + refreshToken.value());
+        if (snapshot == null) {
+            return jdbcRepository.findByRefreshToken(refreshToken);
+        }
+        if (!snapshot.refreshToken()
+                     .token()
+                     .equals(refreshToken.value())) {
+            throw new AuthenticationNotFoundException("Authentication session not found in repository for refresh token");
+        }
+
+        return jwtAuthenticationMapper.toJwtAuthentication(snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Merges the database records with the Redis snapshots not yet written behind; snapshots take precedence.
+     */
+    @Override
+    public List<JwtAuthentication> findAllByUserId(UserId userId) {
+        logger.trace("[WRITE_BEHIND_JWT_AUTH_REPOSITORY] Finding all authentications by userId={}", userId.value());
+        var authentications = new LinkedHashMap<JwtAuthenticationId, JwtAuthentication>();
+        jdbcRepository.findAllByUserId(userId)
+                      .forEach(authentication -> authentications.put(authentication.getId(), authentication));
+        findSnapshotsByUserId(userId).stream()
+                                     .map(jwtAuthenticationMapper::toJwtAuthentication)
+                                     .forEach(authentication -> authentications.put(authentication.getId(), authentication));
+
+        return List.copyOf(authentications.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Assigns a time-ordered ID to unauthenticated instances, then stores the snapshot, refreshes the indexes and appends a {@code SAVE} entry to the outbox in
+     * a single pipelined round trip.
+     */
+    @Override
+    public JwtAuthentication save(JwtAuthentication jwtAuthentication) {
+        logger.trace("[WRITE_BEHIND_JWT_AUTH_REPOSITORY] Saving authentication");
+        var entity = jwtAuthenticationMapper.toJdbcJwtAuthenticationEntity(jwtAuthentication);
+        var id = Objects.requireNonNullElseGet(entity.id(), TimeOrderedUuidGenerator::generate);
+        var entityToSave = new JdbcJwtAuthenticationEntity(id, entity.userId(), entity.accessToken(), entity.refreshToken());
+
+        var payload = serialize(entityToSave);
+        var idValue = id.toString();
+        var accessToken = entityToSave.accessToken();
+        var refreshToken = entityToSave.refreshToken();
+        var accessTtl = calculateTtl(accessToken.expiration());
+        var refreshTtl = calculateTtl(refreshToken.expiration());
+        var snapshotKey = SNAPSHOT_PREFIX + idValue;
+        var accessIndexKey = ACCESS_TOKEN_INDEX_PREFIX + accessToken.token();
+        var refreshIndexKey = REFRESH_TOKEN_INDEX_PREFIX + refreshToken.token();
+        var userIndexKey = USER_INDEX_PREFIX + entityToSave.userId();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisStringCommands redisStringCommands = connection.stringCommands();
+            redisStringCommands.setEx(snapshotKey.getBytes(), refreshTtl, payload.getBytes(StandardCharsets.UTF_8));
+            redisStringCommands.setEx(accessIndexKey.getBytes(), accessTtl, idValue.getBytes());
+            redisStringCommands.setEx(refreshIndexKey.getBytes(), refreshTtl, idValue.getBytes());
+
+            connection.setCommands()
+                      .sAdd(userIndexKey.getBytes(), idValue.getBytes());
+            connection.keyCommands()
+                      .expire(userIndexKey.getBytes(), refreshTtl);
+            connection.streamCommands()
+                      .xAdd(OUTBOX_STREAM_KEY.getBytes(), outboxEntry(SAVE_OPERATION, idValue, payload));
+
+            return null;
+        });
+
+        return jwtAuthenticationMapper.toJwtAuthentication(entityToSave);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Evicts the snapshot and its indexes and appends a {@code DELETE} entry to the outbox, so the deletion is applied after any pending {@code SAVE} of the same
+     * authentication.
+     */
+    @Override
+    public void deleteById(JwtAuthenticationId jwtAuthenticationId) {
+        logger.trace("[WRITE_BEHIND_JWT_AUTH_REPOSITORY] Deleting authentication by authenticationId={}", jwtAuthenticationId.value());
+        var idValue = jwtAuthenticationId.value()
+                                         .toString();
+        var snapshot = findSnapshotById(idValue);
+
+        enqueueDeletion(idValue, snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * While the snapshot is live, evicts it and appends a {@code DELETE} entry to the outbox, as {@link #deleteById(JwtAuthenticationId)} does; otherwise the
+     * authentication has already been written behind and is deleted synchronously from the database.
+     */
+    @Override
+    public EncodedTokenPair deleteByAccessToken(EncodedToken accessToken) {
+        logger.trace("[WRITE_BEHIND_JWT_AUTH_REPOSITORY] Deleting authentication by access token");
+        var snapshot = findSnapshotByIndex(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value());
+        if (snapshot == null) {
+            return jdbcRepository.deleteByAccessToken(accessToken);
+        }
+        if (!snapshot.accessToken()
+                     .token()
+                     .equals(accessToken.value())) {
+            throw new AuthenticationNotFoundException("Authentication session not found in repository for access token");
+        }
+
+        enqueueDeletion(String.valueOf(snapshot.id()), snapshot);
+
+        return toEncodedTokenPair(snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Deletes synchronously from the database, so it can run in the same transaction as the user deletion, then evicts the user's snapshots. Pending
+     * {@code SAVE} entries of the deleted user are discarded by the relay, since their user no longer exists.
+     * <p>
+     * The returned tokens merge the deleted records with the evicted snapshots not yet written behind.
+     */
+    @Override
+    public List<EncodedTokenPair> deleteAllByUserId(UserId userId) {
+        logger.trace("[WRITE_BEHIND_JWT_AUTH_REPOSITORY] Deleting all authentications by userId={}", userId.value());
+        var tokenPairs = new LinkedHashSet<>(jdbcRepository.deleteAllByUserId(userId));
+
+        var snapshots = findSnapshotsByUserId(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            snapshots.forEach(snapshot -> evictSnapshot(connection, snapshot));
+            connection.keyCommands()
+                      .del((USER_INDEX_PREFIX + userId.value()).getBytes());
+
+            return null;
+        });
+        snapshots.stream()
+                 .map(this::toEncodedTokenPair)
+                 .forEach(tokenPairs::add);
+
+        return List.copyOf(tokenPairs);
+    }
+
+    @Override
+    public Integer deleteAllByRefreshTokenExpiredBefore(Instant expiredBefore) {
+        return jdbcRepository.deleteAllByRefreshTokenExpiredBefore(expiredBefore);
+    }
+
+    /**
+     * Resolves a snapshot through one of the token indexes.
+     *
+     * @param indexKey the index key pointing to the authentication ID
+     * @return the {@link JdbcJwtAuthenticationEntity} snapshot, or {@code null} if the index or the snapshot does not exist
+     */
+    private JdbcJwtAuthenticationEntity findSnapshotByIndex(String indexKey) {
+        var id = redisTemplate.opsForValue()
+                              .get(indexKey);
+        return id != null ? findSnapshotById(id) : null;
+    }
+
+    /**
+     * Reads a snapshot by authentication ID.
+     *
+     * @param id the authentication ID
+     * @return the {@link JdbcJwtAuthenticationEntity} snapshot, or {@code null} if it does not exist
+     */
+    private JdbcJwtAuthenticationEntity findSnapshotById(String id) {
+        var payload = redisTemplate.opsForValue()
+                                   .get(SNAPSHOT_PREFIX + id);
+        return payload != null ? deserialize(payload) : null;
+    }
+
+    /**
+     * Reads every live snapshot of a user.
+     *
+     * @param userId the user's unique identifier
+     * @return the {@link JdbcJwtAuthenticationEntity} snapshots, empty if none exist
+     */
+    private List<JdbcJwtAuthenticationEntity> findSnapshotsByUserId(UserId userId) {
+        var ids = redisTemplate.opsForSet()
+                               .members(USER_INDEX_PREFIX + userId.value());
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        var keys = ids.stream()
+                      .map(id -> SNAPSHOT_PREFIX + id)
+                      .toList();
+        var payloads = redisTemplate.opsForValue()
+                                    .multiGet(keys);
+
+        return deserializeAll(payloads);
+    }
+
+    /**
+     * Evicts the snapshot, if any, and appends a {@code DELETE} entry to the outbox in a single pipelined round trip.
+     * <p>
+     * The outbox entry ensures the deletion is applied after any pending {@code SAVE} of the same authentication.
+     *
+     * @param idValue  the authentication ID
+     * @param snapshot the live snapshot of the authentication, or {@code null} if it has already expired
+     */
+    private void enqueueDeletion(String idValue, JdbcJwtAuthenticationEntity snapshot) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            if (snapshot != null) {
+                evictSnapshot(connection, snapshot);
+                connection.setCommands()
+                          .sRem((USER_INDEX_PREFIX + snapshot.userId()).getBytes(), idValue.getBytes());
+            }
+            connection.streamCommands()
+                      .xAdd(OUTBOX_STREAM_KEY.getBytes(), outboxEntry(DELETE_OPERATION, idValue, ""));
+
+            return null;
+        });
+    }
+
+    /**
+     * Extracts the encoded tokens of a snapshot.
+     *
+     * @param snapshot the snapshot
+     * @return the {@link EncodedTokenPair} of the snapshot
+     */
+    private EncodedTokenPair toEncodedTokenPair(JdbcJwtAuthenticationEntity snapshot) {
+        var accessToken = snapshot.accessToken()
+                                  .token();
+        var refreshToken = snapshot.refreshToken()
+                                   .token();
+        return jwtAuthenticationMapper.toEncodedTokenPair(new JdbcJwtTokenPair(accessToken, refreshToken));
+    }
+
+    /**
+     * Deletes a snapshot and its token indexes.
+     *
+     * @param connection the pipelined Redis connection
+     * @param snapshot   the snapshot to evict
+     */
+    private static void evictSnapshot(RedisConnection connection, JdbcJwtAuthenticationEntity snapshot) {
+        var snapshotKey = SNAPSHOT_PREFIX + snapshot.id();
+        var accessIndexKey = ACCESS_TOKEN_INDEX_PREFIX + snapshot.accessToken()
+                                                                 .token();
+        var refreshIndexKey = REFRESH_TOKEN_INDEX_PREFIX + snapshot.refreshToken()
+                                                                   .token();
+
+        connection.keyCommands()
+                  .del(snapshotKey.getBytes(), accessIndexKey.getBytes(), refreshIndexKey.getBytes());
+    }
+
+    /**
+     * Builds the raw fields of an outbox entry.
+     *
+     * @param operation the operation type
+     * @param id        the authentication ID
+     * @param payload   the JSON snapshot, empty for deletions
+     * @return the raw outbox entry fields
+     */
+    private static Map<byte[], byte[]> outboxEntry(String operation, String id, String payload) {
+        var entry = new LinkedHashMap<byte[], byte[]>();
+        entry.put(OPERATION_FIELD.getBytes(), operation.getBytes());
+        entry.put(ID_FIELD.getBytes(), id.getBytes());
+        entry.put(PAYLOAD_FIELD.getBytes(), payload.getBytes(StandardCharsets.UTF_8));
+        return entry;
+    }
+
+    /**
+     * Serializes a snapshot to JSON.
+     *
+     * @param entity the entity to serialize
+     * @return the JSON representation
+     * @throws IllegalStateException if serialization fails
+     */
+    private String serialize(JdbcJwtAuthenticationEntity entity) {
+        try {
+            return objectMapper.writeValueAsString(entity);
+        } catch (JacksonException e) {
+            throw new IllegalStateException("Could not serialize authentication snapshot", e);
+        }
+    }
+
+    /**
+     * Deserializes a JSON snapshot.
+     *
+     * @param payload the JSON representation
+     * @return the {@link JdbcJwtAuthenticationEntity}
+     * @throws IllegalStateException if deserialization fails
+     */
+    private JdbcJwtAuthenticationEntity deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, JdbcJwtAuthenticationEntity.class);
+        } catch (JacksonException e) {
+            throw new IllegalStateException("Could not deserialize authentication snapshot", e);
+        }
+    }
+
+    /**
+     * Deserializes the non-expired snapshots of a multi-get.
+     *
+     * @param payloads the JSON representations, with {@code null} for expired keys
+     * @return the {@link JdbcJwtAuthenticationEntity} snapshots
+     */
+    private List<JdbcJwtAuthenticationEntity> deserializeAll(Collection<String> payloads) {
+        var snapshots = new ArrayList<JdbcJwtAuthenticationEntity>();
+        if (payloads != null) {
+            payloads.stream()
+                    .filter(Objects::nonNull)
+                    .map(this::deserialize)
+                    .forEach(snapshots::add);
+        }
+        return snapshots;
+    }
+
+    /**
+     * Calculates the time-to-live (TTL) in seconds for a key based on a token expiration.
+     *
+     * @param expiration the token's expiration timestamp
+     * @return the TTL in seconds, minimum value of 1
+     */
+    private static long calculateTtl(Instant expiration) {
+        var ttl = Duration.between(Instant.now(), expiration)
+                          .getSeconds();
+        return Math.max(ttl, 1);
+    }
+
+}
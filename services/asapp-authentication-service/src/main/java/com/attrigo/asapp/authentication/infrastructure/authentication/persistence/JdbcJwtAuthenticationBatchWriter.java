@@ -0,0 +1,216 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.authentication.persistence;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk writer for {@link JdbcJwtAuthenticationEntity} records drained from the write-behind outbox.
+ * <p>
+ * Issues JDBC batches instead of one statement per authentication, so a whole outbox batch reaches PostgreSQL in a single round trip per statement type.
+ * <p>
+ * Upserts are idempotent, which makes redelivered outbox entries harmless, and skip authentications whose user no longer exists, so a user deletion is never
+ * undone by a late {@code SAVE}. A stale upsert never overwrites a newer token pair, since updates only apply when the incoming refresh token was issued later.
+ * <p>
+ * Deletions leave a tombstone in {@code jwt_authentication_tombstones} and upserts skip tombstoned authentications, so a {@code SAVE} applied after the
+ * {@code DELETE} of the same authentication, e.g. claimed from a stopped replica, never revives a revoked authentication. A tombstone is kept for the refresh
+ * token lifetime: any {@code SAVE} enqueued before the deletion carries a refresh token that expires before the tombstone does, and upserts skip expired
+ * refresh tokens.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+@ConditionalOnProperty(name = "asapp.security.jwt.write-behind.enabled", havingValue = "true")
+public class JdbcJwtAuthenticationBatchWriter {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO jwt_authentications (id, user_id,
+                access_token_token, access_token_type, access_token_subject, access_token_claims, access_token_issued, access_token_expiration,
+                refresh_token_token, refresh_token_type, refresh_token_subject, refresh_token_claims, refresh_token_issued, refresh_token_expiration)
+            SELECT :id, :userId,
+                :accessToken, :accessType, :accessSubject, CAST(:accessClaims AS jsonb), :accessIssued, :accessExpiration,
+                :refreshToken, :refreshType, :refreshSubject, CAST(:refreshClaims AS jsonb), :refreshIssued, :refreshExpiration
+            WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = :userId)
+                AND NOT EXISTS (SELECT 1 FROM jwt_authentication_tombstones t WHERE t.id = :id)
+                AND CAST(:refreshExpiration AS timestamp) > CAST(:now AS timestamp)
+            ON CONFLICT (id) DO UPDATE SET
+                access_token_token = EXCLUDED.access_token_token,
+                access_token_type = EXCLUDED.access_token_type,
+                access_token_subject = EXCLUDED.access_token_subject,
+                access_token_claims = EXCLUDED.access_token_claims,
+                access_token_issued = EXCLUDED.access_token_issued,
+                access_token_expiration = EXCLUDED.access_token_expiration,
+                refresh_token_token = EXCLUDED.refresh_token_token,
+                refresh_token_type = EXCLUDED.refresh_token_type,
+                refresh_token_subject = EXCLUDED.refresh_token_subject,
+                refresh_token_claims = EXCLUDED.refresh_token_claims,
+                refresh_token_issued = EXCLUDED.refresh_token_issued,
+                refresh_token_expiration = EXCLUDED.refresh_token_expiration
+            WHERE jwt_authentications.refresh_token_issued <= EXCLUDED.refresh_token_issued
+            """;
+
+    private static final String INSERT_TOMBSTONE_SQL = """
+            INSERT INTO jwt_authentication_tombstones (id, expires_at)
+            VALUES (:id, :expiresAt)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM jwt_authentications WHERE id = :id";
+
+    private static final String DELETE_EXPIRED_TOMBSTONES_SQL = "DELETE FROM jwt_authentication_tombstones WHERE expires_at < :now";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration tombstoneRetention;
+
+    /**
+     * Constructs a new {@code JdbcJwtAuthenticationBatchWriter} with required dependencies.
+     *
+     * @param jdbcTemplate               the named parameter JDBC template
+     * @param objectMapper               the Jackson ObjectMapper for claims serialization
+     * @param refreshTokenExpirationTime the refresh token lifetime in milliseconds, kept as tombstone retention
+     */
+    public JdbcJwtAuthenticationBatchWriter(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+            @Value("${asapp.security.refresh-token.expiration-time}") long refreshTokenExpirationTime) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.tombstoneRetention = Duration.ofMillis(refreshTokenExpirationTime);
+    }
+
+    /**
+     * Inserts or updates the given authentications in a single JDBC batch.
+     * <p>
+     * Tombstoned authentications and authentications whose refresh token already expired are skipped.
+     *
+     * @param entities the authentications to upsert
+     */
+    public void upsertAll(Collection<JdbcJwtAuthenticationEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        var now = Timestamp.from(Instant.now());
+        var parameters = entities.stream()
+                                 .map(entity -> toParameters(entity).addValue("now", now))
+                                 .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, parameters);
+    }
+
+    /**
+     * Tombstones and deletes the given authentications, in a single JDBC batch per statement.
+     *
+     * @param ids the identifiers of the authentications to delete
+     */
+    public void deleteAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        var expiresAt = Timestamp.from(Instant.now()
+                                              .plus(tombstoneRetention));
+        var parameters = ids.stream()
+                            .map(id -> new MapSqlParameterSource("id", id).addValue("expiresAt", expiresAt))
+                            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE_SQL, parameters);
+        jdbcTemplate.batchUpdate(DELETE_SQL, parameters);
+    }
+
+    /**
+     * Deletes the tombstones whose retention elapsed.
+     *
+     * @return the number of deleted tombstones
+     */
+    public int deleteExpiredTombstones() {
+        return jdbcTemplate.update(DELETE_EXPIRED_TOMBSTONES_SQL, new MapSqlParameterSource("now", Timestamp.from(Instant.now())));
+    }
+
+    /**
+     * Checks whether the database answers a trivial query.
+     *
+     * @return {@code true} if the database is reachable, {@code false} otherwise
+     */
+    public boolean isDatabaseAvailable() {
+        try {
+            jdbcTemplate.getJdbcTemplate()
+                        .queryForObject("SELECT 1", Integer.class);
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Builds the upsert parameters of an authentication.
+     *
+     * @param entity the authentication entity
+     * @return the {@link MapSqlParameterSource} for {@code UPSERT_SQL}, without the current time
+     */
+    private MapSqlParameterSource toParameters(JdbcJwtAuthenticationEntity entity) {
+        var accessToken = entity.accessToken();
+        var refreshToken = entity.refreshToken();
+
+        return new MapSqlParameterSource().addValue("id", entity.id())
+                                          .addValue("userId", entity.userId())
+                                          .addValue("accessToken", accessToken.token())
+                                          .addValue("accessType", accessToken.type())
+                                          .addValue("accessSubject", accessToken.subject())
+                                          .addValue("accessClaims", toJson(accessToken.claims()))
+                                          .addValue("accessIssued", Timestamp.from(accessToken.issued()))
+                                          .addValue("accessExpiration", Timestamp.from(accessToken.expiration()))
+                                          .addValue("refreshToken", refreshToken.token())
+                                          .addValue("refreshType", refreshToken.type())
+                                          .addValue("refreshSubject", refreshToken.subject())
+                                          .addValue("refreshClaims", toJson(refreshToken.claims()))
+                                          .addValue("refreshIssued", Timestamp.from(refreshToken.issued()))
+                                          .addValue("refreshExpiration", Timestamp.from(refreshToken.expiration()));
+    }
+
+    /**
+     * Serializes JWT claims to a JSON string.
+     *
+     * @param claims the JWT claims entity
+     * @return the JSON representation of the claims
+     * @throws IllegalArgumentException if JSON serialization fails
+     */
+    private String toJson(JdbcJwtClaimsEntity claims) {
+        try {
+            return objectMapper.writeValueAsString(claims.claims());
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Failed to convert JWT claims to JSON", e);
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ import java.util.UUID;
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Data JDBC repository for JWT authentication persistence operations.
@@ -63,13 +64,36 @@ public interface JdbcJwtAuthenticationRepository extends ListCrudRepository<Jdbc
     List<JdbcJwtAuthenticationEntity> findAllByUserId(UUID userId);
 
     /**
-     * Deletes all JWT authentications associated with a user.
+     * Deletes a JWT authentication by its access token and returns its tokens in a single statement.
+     * <p>
+     * Declared read-write since the statement modifies the row while being executed as a query.
+     *
+     * @param accessToken the access token string
+     * @return an {@link Optional} containing the {@link JdbcJwtTokenPair} of the deleted authentication, {@link Optional#empty} if no row matched
+     */
+    @Transactional
+    @Query(value = """
+            DELETE FROM jwt_authentications
+            WHERE access_token_token = :accessToken
+            RETURNING access_token_token, refresh_token_token
+            """, rowMapperClass = JdbcJwtTokenPairRowMapper.class)
+    Optional<JdbcJwtTokenPair> deleteByAccessTokenToken(String accessToken);
+
+    /**
+     * Deletes all JWT authentications associated with a user and returns their tokens in a single statement.
+     * <p>
+     * Declared read-write since the statement modifies the rows while being executed as a query.
      *
      * @param userId the user's unique identifier
+     * @return a {@link List} of {@link JdbcJwtTokenPair} of the deleted authentications, empty list if none found
      */
-    @Modifying
-    @Query("DELETE FROM jwt_authentications a WHERE a.user_id = :userId")
-    void deleteAllByUserId(UUID userId);
+    @Transactional
+    @Query(value = """
+            DELETE FROM jwt_authentications
+            WHERE user_id = :userId
+            RETURNING access_token_token, refresh_token_token
+            """, rowMapperClass = JdbcJwtTokenPairRowMapper.class)
+    List<JdbcJwtTokenPair> deleteAllByUserId(UUID userId);
 
     /**
      * Deletes all JWT authentications with refresh tokens expired before the given instant.
@@ -0,0 +1,33 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.authentication.persistence;
+
+/**
+ * Encoded tokens of a JWT authentication row.
+ * <p>
+ * Returned by the deletions of {@link JdbcJwtAuthenticationRepository} instead of the full {@link JdbcJwtAuthenticationEntity}, as only the token values are
+ * needed to revoke the deleted authentications from the fast-access store.
+ *
+ * @param accessToken  the encoded access token
+ * @param refreshToken the encoded refresh token
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record JdbcJwtTokenPair(
+        String accessToken,
+        String refreshToken
+) {}
@@ -0,0 +1,37 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.authentication.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * {@link RowMapper} reading a {@link JdbcJwtTokenPair} from the {@code access_token_token} and {@code refresh_token_token} columns.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class JdbcJwtTokenPairRowMapper implements RowMapper<JdbcJwtTokenPair> {
+
+    @Override
+    public JdbcJwtTokenPair mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new JdbcJwtTokenPair(rs.getString("access_token_token"), rs.getString("refresh_token_token"));
+    }
+
+}
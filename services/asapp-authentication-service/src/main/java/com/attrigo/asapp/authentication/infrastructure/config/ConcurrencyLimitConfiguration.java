@@ -0,0 +1,70 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.authentication.infrastructure.limiter.AdaptiveConcurrencyLimit;
+import com.attrigo.asapp.authentication.infrastructure.limiter.ConcurrencyLimitFilter;
+
+/**
+ * Configuration class for the adaptive concurrency limit of the incoming requests.
+ * <p>
+ * Only active when {@code asapp.concurrency-limit.enabled} is {@code true}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "asapp.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+    /**
+     * Registers the filter admitting the incoming requests under the concurrency limit, ahead of the security filter chains.
+     *
+     * @param objectMapper  the Spring-managed Jackson object mapper
+     * @param meterRegistry the registry where the limiter metrics are published
+     * @param initialLimit  the concurrency limit before any request completes
+     * @param minLimit      the lowest the concurrency limit can shrink to
+     * @param maxLimit      the highest the concurrency limit can grow to
+     * @param tolerance     the factor by which latency may exceed its long-term average before the limit shrinks
+     * @param priorityPaths the path patterns of the requests bypassing the limit
+     * @return the {@link FilterRegistrationBean} of the {@link ConcurrencyLimitFilter}
+     */
+    @Bean
+    FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${asapp.concurrency-limit.initial-limit:20}") int initialLimit, @Value("${asapp.concurrency-limit.min-limit:20}") int minLimit,
+            @Value("${asapp.concurrency-limit.max-limit:200}") int maxLimit, @Value("${asapp.concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${asapp.concurrency-limit.priority-paths:/actuator/health/**}") List<String> priorityPaths) {
+
+        var concurrencyLimit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, System::nanoTime);
+        var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(concurrencyLimit, priorityPaths, objectMapper, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+}
@@ -0,0 +1,58 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.attrigo.asapp.authentication.infrastructure.security.UserDetailsCacheEvictionListener;
+import com.attrigo.asapp.authentication.infrastructure.user.out.UserCredentialsCacheAdapter;
+
+/**
+ * Configuration class for Redis pub/sub messaging.
+ * <p>
+ * Subscribes the listeners of the messages broadcast between replicas of the service.
+ *
+ * @since 0.5.0
+ * @see RedisMessageListenerContainer
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class RedisMessagingConfiguration {
+
+    /**
+     * Creates the container subscribing the pub/sub listeners.
+     *
+     * @param redisConnectionFactory           the Redis connection factory
+     * @param userDetailsCacheEvictionListener the listener of user credentials evictions
+     * @return the configured {@link RedisMessageListenerContainer}
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+            UserDetailsCacheEvictionListener userDetailsCacheEvictionListener) {
+
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(userDetailsCacheEvictionListener, ChannelTopic.of(UserCredentialsCacheAdapter.EVICTIONS_CHANNEL));
+        return container;
+    }
+
+}
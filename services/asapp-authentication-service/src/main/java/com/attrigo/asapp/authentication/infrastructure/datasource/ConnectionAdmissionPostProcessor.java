@@ -0,0 +1,77 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.datasource;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bean post-processor putting every Hikari connection pool bean behind an {@link AdmissionControlledDataSource}.
+ * <p>
+ * Each pool gets its own {@link ConnectionAdmission}, sized to its maximum pool size and named after its bean. Pools built outside of the container, such as
+ * the read replicas, are left untouched: they already fail over quickly to the primary.
+ *
+ * @since 0.5.0
+ * @see AdmissionControlledDataSource
+ * @author attrigo
+ */
+public class ConnectionAdmissionPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final int maxQueueSize;
+
+    private final Duration maxWait;
+
+    /**
+     * Constructs a new {@code ConnectionAdmissionPostProcessor}.
+     *
+     * @param meterRegistry the registry where the admission metrics are published, resolved lazily
+     * @param maxQueueSize  the maximum number of callers waiting for a connection of each pool
+     * @param maxWait       the maximum time a caller waits for a connection
+     */
+    public ConnectionAdmissionPostProcessor(ObjectProvider<MeterRegistry> meterRegistry, int maxQueueSize, Duration maxWait) {
+        this.meterRegistry = meterRegistry;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Wraps the bean in an {@link AdmissionControlledDataSource} if it is a Hikari connection pool.
+     *
+     * @param bean     the initialized bean
+     * @param beanName the name of the bean
+     * @return the wrapped pool, or the bean itself if it is not a Hikari connection pool
+     */
+    @Override
+    public @NonNull Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (!(bean instanceof HikariDataSource hikariDataSource)) {
+            return bean;
+        }
+
+        var admission = new ConnectionAdmission(beanName, hikariDataSource.getMaximumPoolSize(), maxQueueSize, maxWait, meterRegistry.getObject());
+        return new AdmissionControlledDataSource(hikariDataSource, admission);
+    }
+
+}
@@ -0,0 +1,127 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * A read replica of the primary database, with its own connection pool and replication state.
+ * <p>
+ * A replica is available while its last health check succeeded and its replication lag stayed within the configured maximum; it is made unavailable
+ * immediately when a connection to it cannot be obtained, until the next successful health check.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class ReadReplica implements Closeable {
+
+    private final String name;
+
+    private final HikariDataSource dataSource;
+
+    private volatile boolean available;
+
+    private volatile long lagMillis = -1;
+
+    /**
+     * Constructs a new {@code ReadReplica}, initially unavailable until its first health check.
+     *
+     * @param name       the replica name, used in logs and metrics
+     * @param dataSource the connection pool of the replica
+     */
+    public ReadReplica(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Obtains a connection from the replica pool.
+     *
+     * @return a replica {@link Connection}
+     * @throws SQLException if a connection cannot be obtained
+     */
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Records the result of a successful health check.
+     *
+     * @param lag    the measured replication lag
+     * @param maxLag the maximum replication lag for the replica to serve reads
+     */
+    public void updateLag(Duration lag, Duration maxLag) {
+        this.lagMillis = lag.toMillis();
+        this.available = lag.compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * Makes the replica unavailable until the next successful health check.
+     */
+    public void markUnavailable() {
+        this.available = false;
+    }
+
+    /**
+     * Returns the replica name.
+     *
+     * @return the replica name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the connection pool of the replica.
+     *
+     * @return the replica {@link DataSource}
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Checks whether the replica is serving reads.
+     *
+     * @return {@code true} if the replica is available, {@code false} otherwise
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Returns the replication lag measured by the last successful health check.
+     *
+     * @return the lag in milliseconds, or {@code -1} if never measured
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+}
@@ -0,0 +1,71 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.datasource;
+
+import java.util.Optional;
+
+import com.attrigo.asapp.authentication.application.UseCasePriority;
+
+/**
+ * Holds the {@link UseCasePriority.Level} of the use case running on the current thread.
+ * <p>
+ * Set by the {@link UseCasePriorityInterceptor} around every use case declaring a priority, and read by the {@link ConnectionAdmission} when the use case
+ * asks for a database connection.
+ *
+ * @since 0.5.0
+ * @see UseCasePriorityInterceptor
+ * @author attrigo
+ */
+public final class UseCasePriorityContext {
+
+    private static final ThreadLocal<UseCasePriority.Level> CURRENT = new ThreadLocal<>();
+
+    private UseCasePriorityContext() {}
+
+    /**
+     * Returns the priority of the use case running on the current thread.
+     *
+     * @return the declared priority, or {@link UseCasePriority.Level#NORMAL} if none was declared
+     */
+    public static UseCasePriority.Level current() {
+        return Optional.ofNullable(CURRENT.get())
+                       .orElse(UseCasePriority.Level.NORMAL);
+    }
+
+    /**
+     * Binds the priority to the current thread, or unbinds it when {@code null}.
+     *
+     * @param level the priority of the use case, or {@code null}
+     */
+    static void set(UseCasePriority.Level level) {
+        if (level == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(level);
+        }
+    }
+
+    /**
+     * Returns the priority bound to the current thread, if any.
+     *
+     * @return the bound priority, or {@code null} if none is bound
+     */
+    static UseCasePriority.Level get() {
+        return CURRENT.get();
+    }
+
+}
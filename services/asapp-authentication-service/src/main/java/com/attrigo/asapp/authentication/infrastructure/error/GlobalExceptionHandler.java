@@ -28,6 +28,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -314,6 +316,28 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                              .body(problemDetail);
     }
 
+    /**
+     * Handles database connection shortages.
+     * <p>
+     * Catches {@link CannotGetJdbcConnectionException} and {@link CannotCreateTransactionException} when no database connection could be obtained in time,
+     * for instance because the connection pool is saturated.
+     * <p>
+     * Returns HTTP 503 Service Unavailable with a generic message so callers back off instead of waiting on an exhausted pool.
+     *
+     * @param ex the {@link CannotGetJdbcConnectionException} or {@link CannotCreateTransactionException}
+     * @return a {@link ResponseEntity} with status 503 and generic error message
+     */
+    @ExceptionHandler({ CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class })
+    protected ResponseEntity<ProblemDetail> handleDatabaseConnectionException(RuntimeException ex) {
+        logger.warn("Database connection unavailable: {}", ex.getMessage());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE_DETAIL);
+        problemDetail.setTitle(SERVICE_UNAVAILABLE_TITLE);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .body(problemDetail);
+    }
+
     /**
      * Handles cache store failures.
      * <p>
@@ -0,0 +1,174 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.limiter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Servlet filter admitting incoming requests under an {@link AdaptiveConcurrencyLimit}.
+ * <p>
+ * With virtual threads the servlet container accepts any number of concurrent requests, so saturation of a downstream resource shows up as latency growing
+ * for every request. Bounding the requests in flight by a limit derived from that latency keeps it in check: excess requests are rejected straight away with
+ * a RFC 7807 {@link ProblemDetail} 503 response and a {@code Retry-After} header, before any other filter does work on them.
+ * <p>
+ * Requests matching a priority path (e.g. the health probes) bypass the limit so a busy instance is not deemed dead.
+ * <p>
+ * Publishes the following metrics:
+ * <ul>
+ * <li>{@code asapp.concurrency-limit.limit}: the current concurrency limit</li>
+ * <li>{@code asapp.concurrency-limit.in-flight}: the number of admitted requests in flight</li>
+ * <li>{@code asapp.concurrency-limit.rejections}: the number of requests rejected</li>
+ * </ul>
+ *
+ * @since 0.5.0
+ * @see AdaptiveConcurrencyLimit
+ * @author attrigo
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    static final String SERVICE_UNAVAILABLE_TITLE = "Service Unavailable";
+
+    static final String OVERLOADED_DETAIL = "Service temporarily overloaded";
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    private final List<RequestMatcher> priorityMatchers;
+
+    private final ObjectMapper objectMapper;
+
+    private final Counter rejections;
+
+    /**
+     * Constructs a new {@code ConcurrencyLimitFilter} with required dependencies.
+     *
+     * @param concurrencyLimit the limit the requests are admitted under
+     * @param priorityPaths    the path patterns of the requests bypassing the limit
+     * @param objectMapper     the Spring-managed Jackson object mapper carrying RFC 7807 ProblemDetail serialization support
+     * @param meterRegistry    the registry where the limiter metrics are published
+     */
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit concurrencyLimit, List<String> priorityPaths, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+
+        this.concurrencyLimit = concurrencyLimit;
+        this.objectMapper = objectMapper;
+
+        var path = PathPatternRequestMatcher.withDefaults();
+        this.priorityMatchers = priorityPaths.stream()
+                                             .<RequestMatcher> map(path::matcher)
+                                             .toList();
+
+        Gauge.builder("asapp.concurrency-limit.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+             .description("Current concurrency limit of the incoming requests")
+             .register(meterRegistry);
+        Gauge.builder("asapp.concurrency-limit.in-flight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight)
+             .description("Incoming requests admitted and not yet completed")
+             .register(meterRegistry);
+        this.rejections = Counter.builder("asapp.concurrency-limit.rejections")
+                                 .description("Incoming requests rejected by the concurrency limit")
+                                 .register(meterRegistry);
+    }
+
+    /**
+     * Admits the request under the concurrency limit, or rejects it when the limit is reached.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (isPriority(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var permit = concurrencyLimit.tryAcquire();
+        if (permit.isEmpty()) {
+            reject(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimit.release(permit.get());
+        }
+    }
+
+    /**
+     * Checks whether the request bypasses the concurrency limit.
+     *
+     * @param request the HTTP request
+     * @return {@code true} if the request matches a priority path, {@code false} otherwise
+     */
+    private boolean isPriority(HttpServletRequest request) {
+        return priorityMatchers.stream()
+                               .anyMatch(matcher -> matcher.matches(request));
+    }
+
+    /**
+     * Writes a RFC 7807 {@link ProblemDetail} 503 body as {@code application/problem+json}, asking the client to retry after a second.
+     *
+     * @param request  the rejected HTTP request
+     * @param response the HTTP response
+     * @throws IOException if the response cannot be written
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        rejections.increment();
+        logger.debug("Rejected request to {} {}: concurrency limit of {} reached", request.getMethod(), request.getRequestURI(), concurrencyLimit.getLimit());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, OVERLOADED_DETAIL);
+        problemDetail.setTitle(SERVICE_UNAVAILABLE_TITLE);
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), problemDetail);
+    }
+
+}
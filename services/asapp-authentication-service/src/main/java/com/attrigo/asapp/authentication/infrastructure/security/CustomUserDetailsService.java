@@ -43,19 +43,24 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final JdbcUserRepository userRepository;
 
+    private final UserDetailsCache userDetailsCache;
+
     /**
      * Constructs a new {@code CustomUserDetailsService} with required dependencies.
      *
-     * @param userRepository the user JDBC repository
+     * @param userRepository   the user JDBC repository
+     * @param userDetailsCache the read-through cache of users loaded at authentication time
      */
-    public CustomUserDetailsService(JdbcUserRepository userRepository) {
+    public CustomUserDetailsService(JdbcUserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
      * Loads user details by username.
      * <p>
-     * Retrieves the user from the database and constructs a {@link CustomUserDetails} instance with user ID, credentials, and authorities.
+     * Retrieves the user through the {@link UserDetailsCache}, reading from the database on a miss, and constructs a new {@link CustomUserDetails} instance with
+     * user ID, credentials, and authorities.
      *
      * @param username the username to search for
      * @return the {@link UserDetails} containing user information
@@ -66,8 +71,8 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(@NonNull String username) throws UsernameNotFoundException {
         logger.debug("Loading user with username {}", username);
 
-        var user = userRepository.findByUsername(username)
-                                 .orElseThrow(() -> new UsernameNotFoundException("User not exists by username: " + username));
+        var user = userDetailsCache.get(username, userRepository::findByUsername)
+                                   .orElseThrow(() -> new UsernameNotFoundException("User not exists by username: " + username));
         var authorities = AuthorityUtils.createAuthorityList(user.role());
 
         return new CustomUserDetails(user.id(), user.username(), user.password(), authorities);
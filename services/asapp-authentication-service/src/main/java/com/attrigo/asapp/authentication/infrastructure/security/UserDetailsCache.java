@@ -0,0 +1,152 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import com.attrigo.asapp.authentication.infrastructure.user.persistence.JdbcUserEntity;
+
+/**
+ * Bounded in-memory cache of the users loaded at authentication time, keyed by username.
+ * <p>
+ * Caches both found users and absent usernames; absent usernames expire sooner, so login floods for non-existent usernames do not each reach the database
+ * while newly registered users become visible quickly even if an eviction is missed.
+ * <p>
+ * Loads are performed atomically per username, so an eviction issued while a load is in flight discards the loaded value instead of racing with it.
+ * <p>
+ * Entries are immutable database records; callers must build a new {@link CustomUserDetails} per lookup, as Spring Security erases the credentials of the
+ * returned instance after authentication.
+ * <p>
+ * Publishes the standard cache metrics under the {@code user-details} cache name.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, Optional<JdbcUserEntity>> users;
+
+    private final ConcurrentMap<UUID, String> usernamesByUserId = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code UserDetailsCache} with required dependencies.
+     *
+     * @param meterRegistry the registry where the cache metrics are published
+     * @param maximumSize   the maximum number of cached usernames
+     * @param ttl           the time in milliseconds a found user stays cached
+     * @param negativeTtl   the time in milliseconds an absent username stays cached
+     */
+    public UserDetailsCache(MeterRegistry meterRegistry, @Value("${asapp.security.user-details-cache.maximum-size:10000}") long maximumSize,
+            @Value("${asapp.security.user-details-cache.ttl:60000}") long ttl,
+            @Value("${asapp.security.user-details-cache.negative-ttl:5000}") long negativeTtl) {
+
+        this.users = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfter(new UserExpiry(Duration.ofMillis(ttl), Duration.ofMillis(negativeTtl)))
+                             .executor(Runnable::run)
+                             .removalListener((String username, Optional<JdbcUserEntity> user, RemovalCause cause) -> {
+                                 if (username != null && user != null) {
+                                     user.ifPresent(removedUser -> usernamesByUserId.remove(removedUser.id(), username));
+                                 }
+                             })
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "user-details");
+    }
+
+    /**
+     * Returns the user cached for a username, loading and caching it on a miss.
+     *
+     * @param username the username to look up
+     * @param loader   the function loading the user from the database; exceptions are propagated and nothing is cached
+     * @return an {@link Optional} containing the {@link JdbcUserEntity} if the user exists, {@link Optional#empty} otherwise
+     */
+    public Optional<JdbcUserEntity> get(String username, Function<String, Optional<JdbcUserEntity>> loader) {
+        var user = users.get(username, loader);
+        user.ifPresent(foundUser -> usernamesByUserId.put(foundUser.id(), username));
+        return user;
+    }
+
+    /**
+     * Evicts the user cached for a user ID, if any.
+     *
+     * @param userId the user's unique identifier
+     */
+    public void evictByUserId(UUID userId) {
+        var username = usernamesByUserId.remove(userId);
+        if (username != null) {
+            users.invalidate(username);
+        }
+    }
+
+    /**
+     * Evicts the user, or the absence of user, cached for a username.
+     *
+     * @param username the username
+     */
+    public void evictByUsername(String username) {
+        users.invalidate(username);
+    }
+
+    /**
+     * Expiry policy applying a different time-to-live to found users and absent usernames.
+     *
+     * @param ttl         the time-to-live of found users
+     * @param negativeTtl the time-to-live of absent usernames
+     */
+    private record UserExpiry(
+            Duration ttl,
+            Duration negativeTtl
+    ) implements Expiry<String, Optional<JdbcUserEntity>> {
+
+        @Override
+        public long expireAfterCreate(String username, Optional<JdbcUserEntity> user, long currentTime) {
+            return user.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String username, Optional<JdbcUserEntity> user, long currentTime, long currentDuration) {
+            return expireAfterCreate(username, user, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String username, Optional<JdbcUserEntity> user, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
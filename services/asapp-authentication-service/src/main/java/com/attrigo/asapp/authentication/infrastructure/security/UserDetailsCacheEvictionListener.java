@@ -0,0 +1,86 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.infrastructure.security;
+
+import static com.attrigo.asapp.authentication.infrastructure.user.out.UserCredentialsCacheAdapter.USERNAME_PREFIX;
+import static com.attrigo.asapp.authentication.infrastructure.user.out.UserCredentialsCacheAdapter.USER_ID_PREFIX;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.attrigo.asapp.authentication.infrastructure.user.out.UserCredentialsCacheAdapter;
+
+/**
+ * Redis pub/sub listener applying the user credentials evictions broadcast by {@link UserCredentialsCacheAdapter} to the local {@link UserDetailsCache}.
+ * <p>
+ * Evictions broadcast by this same replica are received as well and re-applied, which is harmless.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class UserDetailsCacheEvictionListener implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsCacheEvictionListener.class);
+
+    private final UserDetailsCache userDetailsCache;
+
+    /**
+     * Constructs a new {@code UserDetailsCacheEvictionListener} with required dependencies.
+     *
+     * @param userDetailsCache the local cache of users loaded at authentication time
+     */
+    public UserDetailsCacheEvictionListener(UserDetailsCache userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    /**
+     * Applies a broadcast eviction to the local cache.
+     * <p>
+     * Malformed messages are logged and ignored.
+     *
+     * @param message the eviction message
+     * @param pattern the matched channel pattern, if any
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte @Nullable [] pattern) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        logger.trace("Received user credentials eviction {}", body);
+
+        try {
+            if (body.startsWith(USER_ID_PREFIX)) {
+                userDetailsCache.evictByUserId(UUID.fromString(body.substring(USER_ID_PREFIX.length())));
+            } else if (body.startsWith(USERNAME_PREFIX)) {
+                userDetailsCache.evictByUsername(body.substring(USERNAME_PREFIX.length()));
+            } else {
+                logger.warn("Ignoring unknown user credentials eviction {}", body);
+            }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring malformed user credentials eviction {}", body, e);
+        }
+    }
+
+}
@@ -0,0 +1,428 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.infrastructure.security.scheduler;
+
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.DELETE_OPERATION;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.ID_FIELD;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.OPERATION_FIELD;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.OUTBOX_STREAM_KEY;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.PAYLOAD_FIELD;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.SAVE_OPERATION;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationBatchWriter;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationEntity;
+
+/**
+ * Scheduled relay draining the JWT authentication write-behind outbox into the database.
+ * <p>
+ * Reads the outbox stream written by {@link WriteBehindJwtAuthenticationRepository} through a Redis consumer group, coalesces the entries of a batch per
+ * authentication (last operation wins) and applies them with {@link JdbcJwtAuthenticationBatchWriter} in a single transaction. Entries are acknowledged and
+ * removed from the stream only after the transaction commits, giving at-least-once delivery; a failed batch stays pending and is retried on the next run.
+ * <p>
+ * Pending entries are retried one by one so a poison entry cannot stall the outbox: an entry that still fails once delivered
+ * {@code asapp.security.jwt.write-behind.max-deliveries} times is moved to the {@value #DEAD_LETTER_STREAM_KEY} stream, with the failure, and acknowledged.
+ * <p>
+ * Every replica joins the same consumer group, so the outbox is shared between them; entries left pending by a replica that stopped are claimed by the others
+ * once idle for longer than {@code asapp.security.jwt.write-behind.claim-min-idle}.
+ * <p>
+ * Exposes the following metrics:
+ * <ul>
+ * <li>{@code asapp.jwt.write.behind.flush}: time spent applying a batch</li>
+ * <li>{@code asapp.jwt.write.behind.batch.size}: entries per applied batch</li>
+ * <li>{@code asapp.jwt.write.behind.lag}: time from the oldest entry of a batch being enqueued to the batch being applied</li>
+ * <li>{@code asapp.jwt.write.behind.backlog}: entries still in the outbox stream after the last run</li>
+ * <li>{@code asapp.jwt.write.behind.entries} tagged {@code result=applied|discarded|dead-lettered}: processed entries</li>
+ * </ul>
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+@ConditionalOnProperty(name = "asapp.security.jwt.write-behind.enabled", havingValue = "true")
+public class JwtAuthenticationWriteBehindRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationWriteBehindRelay.class);
+
+    /**
+     * Consumer group shared by every replica.
+     */
+    public static final String CONSUMER_GROUP = "jwt-authentications-relay";
+
+    /**
+     * Redis Stream key where entries that exhausted their deliveries are moved.
+     */
+    public static final String DEAD_LETTER_STREAM_KEY = OUTBOX_STREAM_KEY + ":dead-letter";
+
+    /**
+     * Dead-letter entry field holding the failure of the last delivery.
+     */
+    public static final String FAILURE_FIELD = "failure";
+
+    private final StreamOperations<String, Object, Object> streamOperations;
+
+    private final JdbcJwtAuthenticationBatchWriter batchWriter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Consumer consumer;
+
+    private final long batchSize;
+
+    private final Duration claimMinIdle;
+
+    private final long maxDeliveries;
+
+    private final Timer flushTimer;
+
+    private final Timer lagTimer;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final Counter appliedCounter;
+
+    private final Counter discardedCounter;
+
+    private final Counter deadLetteredCounter;
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    private volatile boolean consumerGroupCreated;
+
+    /**
+     * Constructs a new {@code JwtAuthenticationWriteBehindRelay} with required dependencies.
+     *
+     * @param redisTemplate       the Spring Data Redis template for executing Redis operations
+     * @param batchWriter         the bulk writer applying the batches
+     * @param transactionTemplate the template wrapping each batch in a transaction
+     * @param objectMapper        the Jackson ObjectMapper for snapshot deserialization
+     * @param meterRegistry       the registry where the relay metrics are published
+     * @param batchSize           the maximum number of entries drained per run
+     * @param claimMinIdle        the idle time in milliseconds after which entries pending on another consumer are claimed
+     * @param maxDeliveries       the deliveries after which an entry that still fails is dead-lettered
+     */
+    public JwtAuthenticationWriteBehindRelay(RedisTemplate<String, String> redisTemplate, JdbcJwtAuthenticationBatchWriter batchWriter,
+            TransactionTemplate transactionTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${asapp.security.jwt.write-behind.batch-size:500}") long batchSize,
+            @Value("${asapp.security.jwt.write-behind.claim-min-idle:30000}") long claimMinIdle,
+            @Value("${asapp.security.jwt.write-behind.max-deliveries:5}") long maxDeliveries) {
+
+        this.streamOperations = redisTemplate.opsForStream();
+        this.batchWriter = batchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.consumer = Consumer.from(CONSUMER_GROUP, "relay-" + UUID.randomUUID());
+        this.batchSize = batchSize;
+        this.claimMinIdle = Duration.ofMillis(claimMinIdle);
+        this.maxDeliveries = maxDeliveries;
+
+        this.flushTimer = Timer.builder("asapp.jwt.write.behind.flush")
+                               .description("Time spent applying a write-behind batch")
+                               .register(meterRegistry);
+        this.lagTimer = Timer.builder("asapp.jwt.write.behind.lag")
+                             .description("Time from the oldest entry of a batch being enqueued to the batch being applied")
+                             .publishPercentileHistogram()
+                             .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("asapp.jwt.write.behind.batch.size")
+                                                   .description("Entries per applied write-behind batch")
+                                                   .register(meterRegistry);
+        this.appliedCounter = Counter.builder("asapp.jwt.write.behind.entries")
+                                     .tag("result", "applied")
+                                     .register(meterRegistry);
+        this.discardedCounter = Counter.builder("asapp.jwt.write.behind.entries")
+                                       .tag("result", "discarded")
+                                       .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("asapp.jwt.write.behind.entries")
+                                          .tag("result", "dead-lettered")
+                                          .register(meterRegistry);
+        Gauge.builder("asapp.jwt.write.behind.backlog", backlog, AtomicLong::get)
+             .description("Entries still in the write-behind outbox")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled job draining one batch of the outbox.
+     * <p>
+     * Retries the entries still pending on this consumer first; otherwise applies entries abandoned by other consumers, or else new entries.
+     * <p>
+     * Default delay between runs: 200 milliseconds; configure via {@code asapp.security.jwt.write-behind.poll-interval} property.
+     */
+    @Scheduled(fixedDelayString = "${asapp.security.jwt.write-behind.poll-interval:200}")
+    public void drain() {
+        ensureConsumerGroup();
+
+        var pending = readOwnPending();
+        if (!pending.isEmpty()) {
+            retry(pending);
+        } else {
+            var records = claimAbandoned();
+            if (records.isEmpty()) {
+                records = readNew();
+            }
+            if (!records.isEmpty()) {
+                apply(records);
+            }
+        }
+
+        backlog.set(streamOperations.size(OUTBOX_STREAM_KEY));
+    }
+
+    /**
+     * Scheduled job deleting the write-behind tombstones whose retention elapsed.
+     * <p>
+     * Default delay between runs: 1 hour; configure via {@code asapp.security.jwt.write-behind.tombstone-prune-interval} property.
+     */
+    @Scheduled(fixedDelayString = "${asapp.security.jwt.write-behind.tombstone-prune-interval:3600000}")
+    public void pruneTombstones() {
+        var deletedCount = batchWriter.deleteExpiredTombstones();
+        logger.debug("Deleted {} expired write-behind tombstones", deletedCount);
+    }
+
+    /**
+     * Retries the entries still pending on this consumer one by one, in stream order.
+     * <p>
+     * Pending entries belong to a batch whose transaction failed, so each one is applied in its own transaction to isolate the entry that fails. An entry that
+     * still fails once delivered {@code maxDeliveries} times is dead-lettered, unless the database is unreachable, so an outage never dead-letters the backlog.
+     * The first entry that fails without being dead-lettered ends the run, keeping the remaining entries in order for the next one.
+     *
+     * @param records the pending entries to retry
+     */
+    private void retry(List<MapRecord<String, Object, Object>> records) {
+        var deliveryCounts = deliveryCounts();
+        for (var record : records) {
+            try {
+                apply(List.of(record));
+            } catch (RuntimeException e) {
+                var deliveryCount = deliveryCounts.getOrDefault(record.getId(), 0L);
+                if (deliveryCount < maxDeliveries || !batchWriter.isDatabaseAvailable()) {
+                    logger.warn("Could not apply write-behind entry {} on delivery {}, retrying on the next run", record.getId(), deliveryCount, e);
+                    return;
+                }
+                deadLetter(record, deliveryCount, e);
+            }
+        }
+    }
+
+    /**
+     * Moves an entry to the dead-letter stream, with the failure of its last delivery, and acknowledges it.
+     *
+     * @param record        the entry that exhausted its deliveries
+     * @param deliveryCount the number of times the entry was delivered
+     * @param cause         the failure of the last delivery
+     */
+    private void deadLetter(MapRecord<String, Object, Object> record, long deliveryCount, RuntimeException cause) {
+        var entry = new LinkedHashMap<Object, Object>(record.getValue());
+        entry.put(FAILURE_FIELD, String.valueOf(cause.getMessage()));
+        streamOperations.add(StreamRecords.newRecord()
+                                          .in(DEAD_LETTER_STREAM_KEY)
+                                          .ofMap(entry));
+        streamOperations.acknowledge(OUTBOX_STREAM_KEY, CONSUMER_GROUP, record.getId());
+        streamOperations.delete(OUTBOX_STREAM_KEY, record.getId());
+        deadLetteredCounter.increment();
+
+        logger.error("Moved write-behind entry {} to {} after {} deliveries", record.getId(), DEAD_LETTER_STREAM_KEY, deliveryCount, cause);
+    }
+
+    /**
+     * Reads how many times each entry pending on this consumer was delivered.
+     *
+     * @return the delivery count of each pending entry
+     */
+    private Map<RecordId, Long> deliveryCounts() {
+        return streamOperations.pending(OUTBOX_STREAM_KEY, consumer, Range.unbounded(), batchSize)
+                               .stream()
+                               .collect(Collectors.toMap(PendingMessage::getId, PendingMessage::getTotalDeliveryCount));
+    }
+
+    /**
+     * Applies a batch of outbox entries in a single transaction and acknowledges them once committed.
+     *
+     * @param records the outbox entries to apply
+     */
+    private void apply(List<MapRecord<String, Object, Object>> records) {
+        var operations = new LinkedHashMap<UUID, JdbcJwtAuthenticationEntity>();
+        var deletions = new ArrayList<UUID>();
+        var discarded = 0;
+        for (var record : records) {
+            try {
+                var id = UUID.fromString(String.valueOf(record.getValue()
+                                                              .get(ID_FIELD)));
+                var operation = String.valueOf(record.getValue()
+                                                     .get(OPERATION_FIELD));
+                operations.remove(id);
+                deletions.remove(id);
+                switch (operation) {
+                    case SAVE_OPERATION -> operations.put(id, deserialize(String.valueOf(record.getValue()
+                                                                                               .get(PAYLOAD_FIELD))));
+                    case DELETE_OPERATION -> deletions.add(id);
+                    default -> throw new IllegalArgumentException("Unknown write-behind operation " + operation);
+                }
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.error("Discarding malformed write-behind entry {}", record.getId(), e);
+                discarded++;
+            }
+        }
+
+        var oldestEnqueued = Instant.ofEpochMilli(records.getFirst()
+                                                         .getId()
+                                                         .getTimestamp());
+        flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            batchWriter.upsertAll(operations.values());
+            batchWriter.deleteAllById(deletions);
+        }));
+
+        var recordIds = records.stream()
+                               .map(MapRecord::getId)
+                               .toArray(RecordId[]::new);
+        streamOperations.acknowledge(OUTBOX_STREAM_KEY, CONSUMER_GROUP, recordIds);
+        streamOperations.delete(OUTBOX_STREAM_KEY, recordIds);
+
+        lagTimer.record(Duration.between(oldestEnqueued, Instant.now()));
+        batchSizeSummary.record(records.size());
+        appliedCounter.increment(records.size() - discarded);
+        discardedCounter.increment(discarded);
+
+        logger.debug("Applied {} write-behind entries ({} discarded)", records.size() - discarded, discarded);
+    }
+
+    /**
+     * Reads the entries delivered to this consumer but not yet acknowledged.
+     *
+     * @return the pending entries, empty if none
+     */
+    private List<MapRecord<String, Object, Object>> readOwnPending() {
+        return read(ReadOffset.from("0"));
+    }
+
+    /**
+     * Reads entries never delivered to any consumer of the group.
+     *
+     * @return the new entries, empty if none
+     */
+    private List<MapRecord<String, Object, Object>> readNew() {
+        return read(ReadOffset.lastConsumed());
+    }
+
+    /**
+     * Reads a batch of entries from the outbox through the consumer group.
+     *
+     * @param readOffset the offset to read from
+     * @return the entries read, empty if none
+     */
+    private List<MapRecord<String, Object, Object>> read(ReadOffset readOffset) {
+        var records = streamOperations.read(consumer, StreamReadOptions.empty()
+                                                                       .count(batchSize),
+                StreamOffset.create(OUTBOX_STREAM_KEY, readOffset));
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * Claims entries left pending by other consumers for longer than the configured idle time.
+     *
+     * @return the claimed entries, empty if none
+     */
+    private List<MapRecord<String, Object, Object>> claimAbandoned() {
+        var pendingMessages = streamOperations.pending(OUTBOX_STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize);
+        var abandonedIds = pendingMessages.stream()
+                                          .filter(message -> message.getElapsedTimeSinceLastDelivery()
+                                                                    .compareTo(claimMinIdle) >= 0)
+                                          .map(PendingMessage::getId)
+                                          .toArray(RecordId[]::new);
+        if (abandonedIds.length == 0) {
+            return List.of();
+        }
+
+        logger.info("Claiming {} abandoned write-behind entries", abandonedIds.length);
+        return streamOperations.claim(OUTBOX_STREAM_KEY, CONSUMER_GROUP, consumer.getName(), claimMinIdle, abandonedIds);
+    }
+
+    /**
+     * Creates the consumer group, and the outbox stream if missing, the first time the relay runs.
+     */
+    private void ensureConsumerGroup() {
+        if (consumerGroupCreated) {
+            return;
+        }
+
+        try {
+            streamOperations.createGroup(OUTBOX_STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+        } catch (RedisSystemException e) {
+            if (e.getMessage() == null || !e.getMessage()
+                                            .contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        consumerGroupCreated = true;
+    }
+
+    /**
+     * Deserializes a JSON snapshot.
+     *
+     * @param payload the JSON representation
+     * @return the {@link JdbcJwtAuthenticationEntity}
+     * @throws IllegalStateException if deserialization fails
+     */
+    private JdbcJwtAuthenticationEntity deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, JdbcJwtAuthenticationEntity.class);
+        } catch (JacksonException e) {
+            throw new IllegalStateException("Could not deserialize authentication snapshot", e);
+        }
+    }
+
+}
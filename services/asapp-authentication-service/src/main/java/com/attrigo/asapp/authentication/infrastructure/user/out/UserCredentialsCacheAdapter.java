@@ -0,0 +1,127 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.infrastructure.user.out;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.attrigo.asapp.authentication.application.user.out.UserCredentialsCache;
+import com.attrigo.asapp.authentication.domain.user.UserId;
+import com.attrigo.asapp.authentication.domain.user.Username;
+import com.attrigo.asapp.authentication.infrastructure.security.UserDetailsCache;
+
+/**
+ * Adapter implementation of {@link UserCredentialsCache} for the in-memory {@link UserDetailsCache}.
+ * <p>
+ * Evicts the local cache immediately and broadcasts the eviction to the other replicas through Redis pub/sub. When called within a transaction, the local
+ * eviction is repeated and the broadcast is deferred until after commit, so no replica can reload the credentials before the change is visible.
+ * <p>
+ * Broadcast failures are logged and not propagated; the other replicas then rely on the cache time-to-live.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class UserCredentialsCacheAdapter implements UserCredentialsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCredentialsCacheAdapter.class);
+
+    /**
+     * Redis channel where evictions are broadcast.
+     */
+    public static final String EVICTIONS_CHANNEL = "users:credentials:evictions";
+
+    /**
+     * Message prefix for evictions by user ID.
+     */
+    public static final String USER_ID_PREFIX = "user-id:";
+
+    /**
+     * Message prefix for evictions by username.
+     */
+    public static final String USERNAME_PREFIX = "username:";
+
+    private final UserDetailsCache userDetailsCache;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Constructs a new {@code UserCredentialsCacheAdapter} with required dependencies.
+     *
+     * @param userDetailsCache the local cache of users loaded at authentication time
+     * @param redisTemplate    the Spring Data Redis template for publishing evictions
+     */
+    public UserCredentialsCacheAdapter(UserDetailsCache userDetailsCache, RedisTemplate<String, String> redisTemplate) {
+        this.userDetailsCache = userDetailsCache;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void evictByUserId(UserId userId) {
+        var id = userId.value();
+        evict(() -> userDetailsCache.evictByUserId(id), USER_ID_PREFIX + id);
+    }
+
+    @Override
+    public void evictByUsername(Username username) {
+        var value = username.value();
+        evict(() -> userDetailsCache.evictByUsername(value), USERNAME_PREFIX + value);
+    }
+
+    /**
+     * Evicts locally and broadcasts the eviction, after commit when a transaction is active.
+     *
+     * @param localEviction the local eviction
+     * @param message       the eviction message to broadcast
+     */
+    private void evict(Runnable localEviction, String message) {
+        localEviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    localEviction.run();
+                    broadcast(message);
+                }
+
+            });
+        } else {
+            broadcast(message);
+        }
+    }
+
+    /**
+     * Publishes an eviction message to the other replicas.
+     *
+     * @param message the eviction message
+     */
+    private void broadcast(String message) {
+        try {
+            redisTemplate.convertAndSend(EVICTIONS_CHANNEL, message);
+        } catch (RuntimeException e) {
+            logger.warn("Could not broadcast user credentials eviction {}", message, e);
+        }
+    }
+
+}
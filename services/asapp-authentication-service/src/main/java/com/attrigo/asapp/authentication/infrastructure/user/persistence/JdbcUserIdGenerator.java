@@ -0,0 +1,51 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.user.persistence;
+
+import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import com.attrigo.asapp.authentication.infrastructure.datasource.TimeOrderedUuidGenerator;
+
+/**
+ * Assigns a time-ordered identifier to new {@link JdbcUserEntity} instances before they are inserted.
+ * <p>
+ * Spring Data JDBC decides whether an entity is new before invoking this callback, so assigning the identifier here still results in an {@code INSERT}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ * @see TimeOrderedUuidGenerator
+ */
+@Component
+public class JdbcUserIdGenerator implements BeforeConvertCallback<JdbcUserEntity> {
+
+    /**
+     * Assigns a new identifier to the user if it does not have one yet.
+     *
+     * @param user the user about to be saved
+     * @return the user with an identifier
+     */
+    @Override
+    public JdbcUserEntity onBeforeConvert(JdbcUserEntity user) {
+        if (user.id() != null) {
+            return user;
+        }
+
+        return new JdbcUserEntity(TimeOrderedUuidGenerator.generate(), user.username(), user.password(), user.role());
+    }
+
+}
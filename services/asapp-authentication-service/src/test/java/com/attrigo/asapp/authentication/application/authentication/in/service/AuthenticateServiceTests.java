@@ -34,8 +34,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.authentication.InvalidCredentialsException;
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
 import com.attrigo.asapp.authentication.application.authentication.in.command.AuthenticateCommand;
@@ -49,6 +51,7 @@ import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
 import com.attrigo.asapp.authentication.domain.authentication.UserAuthentication;
 import com.attrigo.asapp.authentication.domain.user.RawPassword;
 import com.attrigo.asapp.authentication.domain.user.Username;
+import com.attrigo.asapp.authentication.testutil.PassThroughUseCaseStepObserver;
 
 /**
  * Tests {@link AuthenticateService} credential validation, token generation, and persistence.
@@ -76,6 +79,9 @@ class AuthenticateServiceTests {
     @Mock
     private TokenStore tokenStore;
 
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private AuthenticateService authenticateService;
 
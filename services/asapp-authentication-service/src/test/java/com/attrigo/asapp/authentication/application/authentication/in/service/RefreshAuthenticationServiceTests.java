@@ -33,9 +33,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.attrigo.asapp.authentication.application.CompensatingTransactionException;
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
 import com.attrigo.asapp.authentication.application.authentication.UnexpectedJwtTypeException;
@@ -48,6 +50,7 @@ import com.attrigo.asapp.authentication.domain.authentication.JwtAuthentication;
 import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
 import com.attrigo.asapp.authentication.domain.authentication.Subject;
 import com.attrigo.asapp.authentication.domain.user.Role;
+import com.attrigo.asapp.authentication.testutil.PassThroughUseCaseStepObserver;
 
 /**
  * Tests {@link RefreshAuthenticationService} token rotation, store activation, and compensation on failure.
@@ -76,6 +79,9 @@ class RefreshAuthenticationServiceTests {
     @Mock
     private TokenStore tokenStore;
 
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private RefreshAuthenticationService refreshAuthenticationService;
 
@@ -16,24 +16,28 @@
 
 package com.attrigo.asapp.authentication.application.authentication.in.service;
 
-import static com.attrigo.asapp.authentication.testutil.fixture.JwtAuthenticationMother.aJwtAuthenticationBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
 import com.attrigo.asapp.authentication.application.authentication.UnexpectedJwtTypeException;
@@ -41,7 +45,8 @@ import com.attrigo.asapp.authentication.application.authentication.out.JwtAuthen
 import com.attrigo.asapp.authentication.application.authentication.out.TokenStore;
 import com.attrigo.asapp.authentication.application.authentication.out.TokenVerifier;
 import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
-import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
+import com.attrigo.asapp.authentication.testutil.PassThroughUseCaseStepObserver;
 
 /**
  * Tests {@link RevokeAuthenticationService} token revocation and store deactivation.
@@ -49,14 +54,20 @@ import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
  * Coverage:
  * <li>Token verification failures propagate without executing revocation operations</li>
  * <li>Type mismatch failures (refresh token provided) propagate without executing revocation operations</li>
- * <li>Authentication retrieval failures propagate without executing revocation operations</li>
+ * <li>Authentication not found in repository propagates without executing token deactivation</li>
  * <li>DB deletion failures propagate without executing token deactivation</li>
  * <li>Token deactivation failures propagate after DB deletion has completed</li>
- * <li>Successful revocation verifies token, retrieves authentication, deletes from repository, and deactivates in store</li>
+ * <li>Successful revocation verifies token, deletes from repository retrieving the tokens, and deactivates them in store</li>
  */
 @ExtendWith(MockitoExtension.class)
 class RevokeAuthenticationServiceTests {
 
+    private static final String ACCESS_TOKEN_VALUE = "access.token.value";
+
+    private static final EncodedToken ENCODED_ACCESS_TOKEN = EncodedToken.of(ACCESS_TOKEN_VALUE);
+
+    private static final EncodedTokenPair TOKEN_PAIR = EncodedTokenPair.of(ENCODED_ACCESS_TOKEN, EncodedToken.of("refresh.token.value"));
+
     @Mock
     private TokenVerifier tokenVerifier;
 
@@ -66,6 +77,9 @@ class RevokeAuthenticationServiceTests {
     @Mock
     private TokenStore tokenStore;
 
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private RevokeAuthenticationService revokeAuthenticationService;
 
@@ -75,142 +89,112 @@ class RevokeAuthenticationServiceTests {
         @Test
         void RevokesAuthentication_ValidAccessToken() {
             // Given
-            var accessTokenValue = "access.token.value";
-            var encodedAccessToken = EncodedToken.of(accessTokenValue);
-            var jwtAuthentication = aJwtAuthenticationBuilder().withTokenValues(accessTokenValue, "refresh.token.value")
-                                                               .build();
-            var jwtPair = jwtAuthentication.getJwtPair();
-
-            given(jwtAuthenticationRepository.findByAccessToken(encodedAccessToken)).willReturn(jwtAuthentication);
+            given(jwtAuthenticationRepository.deleteByAccessToken(ENCODED_ACCESS_TOKEN)).willReturn(TOKEN_PAIR);
 
             // When & Then
-            assertThatCode(() -> revokeAuthenticationService.revokeAuthentication(accessTokenValue)).doesNotThrowAnyException();
+            assertThatCode(() -> revokeAuthenticationService.revokeAuthentication(ACCESS_TOKEN_VALUE)).doesNotThrowAnyException();
 
             then(tokenVerifier).should(times(1))
-                               .verifyAccessToken(encodedAccessToken);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .findByAccessToken(encodedAccessToken);
+                               .verifyAccessToken(ENCODED_ACCESS_TOKEN);
             then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteById(jwtAuthentication.getId());
+                                             .deleteByAccessToken(ENCODED_ACCESS_TOKEN);
+            then(jwtAuthenticationRepository).should(never())
+                                             .findByAccessToken(any(EncodedToken.class));
             then(tokenStore).should(times(1))
-                            .delete(jwtPair);
+                            .deleteAll(List.of(TOKEN_PAIR));
         }
 
         @Test
         void ThrowsUnexpectedJwtTypeException_TokenNotAccessType() {
             // Given
-            var accessTokenValue = "access.token.value";
-            var encodedAccessToken = EncodedToken.of(accessTokenValue);
-
             willThrow(new UnexpectedJwtTypeException("Token is not an access token")).given(tokenVerifier)
-                                                                                     .verifyAccessToken(encodedAccessToken);
+                                                                                     .verifyAccessToken(ENCODED_ACCESS_TOKEN);
 
             // When
-            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(accessTokenValue));
+            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(ACCESS_TOKEN_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(UnexpectedJwtTypeException.class)
                               .hasMessage("Token is not an access token");
 
             then(tokenVerifier).should(times(1))
-                               .verifyAccessToken(encodedAccessToken);
+                               .verifyAccessToken(ENCODED_ACCESS_TOKEN);
             then(jwtAuthenticationRepository).should(never())
-                                             .findByAccessToken(any(EncodedToken.class));
+                                             .deleteByAccessToken(any(EncodedToken.class));
         }
 
         @Test
         void ThrowsAuthenticationNotFoundException_TokenNotFoundInStore() {
             // Given
-            var accessTokenValue = "access.token.value";
-            var encodedAccessToken = EncodedToken.of(accessTokenValue);
-
             willThrow(new AuthenticationNotFoundException("Access token not found in active sessions")).given(tokenVerifier)
-                                                                                                       .verifyAccessToken(encodedAccessToken);
+                                                                                                       .verifyAccessToken(ENCODED_ACCESS_TOKEN);
 
             // When
-            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(accessTokenValue));
+            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(ACCESS_TOKEN_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(AuthenticationNotFoundException.class)
                               .hasMessage("Access token not found in active sessions");
 
             then(tokenVerifier).should(times(1))
-                               .verifyAccessToken(encodedAccessToken);
+                               .verifyAccessToken(ENCODED_ACCESS_TOKEN);
             then(jwtAuthenticationRepository).should(never())
-                                             .findByAccessToken(any(EncodedToken.class));
+                                             .deleteByAccessToken(any(EncodedToken.class));
         }
 
         @Test
         void ThrowsAuthenticationNotFoundException_TokenNotFoundInRepository() {
             // Given
-            var accessTokenValue = "access.token.value";
-            var encodedAccessToken = EncodedToken.of(accessTokenValue);
-
-            given(jwtAuthenticationRepository.findByAccessToken(encodedAccessToken)).willThrow(
+            given(jwtAuthenticationRepository.deleteByAccessToken(ENCODED_ACCESS_TOKEN)).willThrow(
                     new AuthenticationNotFoundException("Authentication session not found in repository for access token"));
 
             // When
-            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(accessTokenValue));
+            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(ACCESS_TOKEN_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(AuthenticationNotFoundException.class)
                               .hasMessage("Authentication session not found in repository for access token");
 
             then(tokenVerifier).should(times(1))
-                               .verifyAccessToken(encodedAccessToken);
+                               .verifyAccessToken(ENCODED_ACCESS_TOKEN);
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findByAccessToken(encodedAccessToken);
+                                             .deleteByAccessToken(ENCODED_ACCESS_TOKEN);
             then(tokenStore).should(never())
-                            .delete(any(JwtPair.class));
+                            .deleteAll(anyCollection());
         }
 
         @Test
         void ThrowsException_AuthenticationDeletionFails() {
             // Given
-            var accessTokenValue = "access.token.value";
-            var encodedAccessToken = EncodedToken.of(accessTokenValue);
-            var jwtAuthentication = aJwtAuthenticationBuilder().withTokenValues(accessTokenValue, "refresh.token.value")
-                                                               .build();
-            var jwtAuthenticationId = jwtAuthentication.getId();
-
-            given(jwtAuthenticationRepository.findByAccessToken(encodedAccessToken)).willReturn(jwtAuthentication);
-            willThrow(new RuntimeException("Repository delete failed")).given(jwtAuthenticationRepository)
-                                                                       .deleteById(jwtAuthenticationId);
+            given(jwtAuthenticationRepository.deleteByAccessToken(ENCODED_ACCESS_TOKEN)).willThrow(new RuntimeException("Repository delete failed"));
 
             // When
-            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(accessTokenValue));
+            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(ACCESS_TOKEN_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(RuntimeException.class)
                               .hasMessage("Repository delete failed");
 
             then(tokenVerifier).should(times(1))
-                               .verifyAccessToken(encodedAccessToken);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .findByAccessToken(encodedAccessToken);
+                               .verifyAccessToken(ENCODED_ACCESS_TOKEN);
             then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteById(jwtAuthenticationId);
+                                             .deleteByAccessToken(ENCODED_ACCESS_TOKEN);
             then(tokenStore).should(never())
-                            .delete(any(JwtPair.class));
+                            .deleteAll(anyCollection());
         }
 
         @Test
         void ThrowsTokenStoreException_TokenDeactivationFails() {
             // Given
-            var accessTokenValue = "access.token.value";
-            var encodedAccessToken = EncodedToken.of(accessTokenValue);
-            var jwtAuthentication = aJwtAuthenticationBuilder().withTokenValues(accessTokenValue, "refresh.token.value")
-                                                               .build();
-            var jwtPair = jwtAuthentication.getJwtPair();
             var tokenStoreException = new TokenStoreException("Could not delete tokens from fast-access store",
                     new RuntimeException("Token store connection failed"));
 
-            given(jwtAuthenticationRepository.findByAccessToken(encodedAccessToken)).willReturn(jwtAuthentication);
+            given(jwtAuthenticationRepository.deleteByAccessToken(ENCODED_ACCESS_TOKEN)).willReturn(TOKEN_PAIR);
             willThrow(tokenStoreException).given(tokenStore)
-                                          .delete(jwtPair);
+                                          .deleteAll(List.of(TOKEN_PAIR));
 
             // When
-            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(accessTokenValue));
+            var actual = catchThrowable(() -> revokeAuthenticationService.revokeAuthentication(ACCESS_TOKEN_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(TokenStoreException.class)
@@ -218,15 +202,11 @@ class RevokeAuthenticationServiceTests {
                               .hasCauseInstanceOf(RuntimeException.class);
 
             then(tokenVerifier).should(times(1))
-                               .verifyAccessToken(encodedAccessToken);
+                               .verifyAccessToken(ENCODED_ACCESS_TOKEN);
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findByAccessToken(encodedAccessToken);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteById(jwtAuthentication.getId());
+                                             .deleteByAccessToken(ENCODED_ACCESS_TOKEN);
             then(tokenStore).should(times(1))
-                            .delete(jwtPair);
-            then(tokenStore).should(never())
-                            .save(any(JwtPair.class));
+                            .deleteAll(List.of(TOKEN_PAIR));
         }
 
     }
@@ -33,14 +33,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.user.in.command.CreateUserCommand;
+import com.attrigo.asapp.authentication.application.user.out.UserCredentialsCache;
 import com.attrigo.asapp.authentication.application.user.out.UserRepository;
 import com.attrigo.asapp.authentication.domain.user.EncodedPassword;
 import com.attrigo.asapp.authentication.domain.user.PasswordService;
 import com.attrigo.asapp.authentication.domain.user.RawPassword;
 import com.attrigo.asapp.authentication.domain.user.User;
+import com.attrigo.asapp.authentication.testutil.PassThroughUseCaseStepObserver;
 
 /**
  * Tests {@link CreateUserService} password encoding and user persistence.
@@ -48,7 +52,7 @@ import com.attrigo.asapp.authentication.domain.user.User;
  * Coverage:
  * <li>Password encoding failures propagate without completing creation workflow</li>
  * <li>Persistence failures propagate without completing creation workflow</li>
- * <li>Successful creation encodes password, persists user, and returns assigned identity</li>
+ * <li>Successful creation encodes password, persists user, evicts cached credentials of the username, and returns assigned identity</li>
  */
 @ExtendWith(MockitoExtension.class)
 class CreateUserServiceTests {
@@ -59,6 +63,12 @@ class CreateUserServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCredentialsCache userCredentialsCache;
+
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private CreateUserService createUserService;
 
@@ -97,6 +107,8 @@ class CreateUserServiceTests {
                                  .encode(rawPassword);
             then(userRepository).should(times(1))
                                 .save(any(User.class));
+            then(userCredentialsCache).should(times(1))
+                                      .evictByUsername(username);
         }
 
         @Test
@@ -149,6 +161,7 @@ class CreateUserServiceTests {
                                  .encode(rawPassword);
             then(userRepository).should(times(1))
                                 .save(any(User.class));
+            then(userCredentialsCache).shouldHaveNoInteractions();
         }
 
     }
@@ -16,10 +16,10 @@
 
 package com.attrigo.asapp.authentication.application.user.in.service;
 
-import static com.attrigo.asapp.authentication.testutil.fixture.JwtAuthenticationMother.aJwtAuthenticationBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
@@ -39,8 +39,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
 import com.attrigo.asapp.authentication.application.authentication.out.JwtAuthenticationRepository;
 import com.attrigo.asapp.authentication.application.authentication.out.TokenStore;
+import com.attrigo.asapp.authentication.application.user.out.UserCredentialsCache;
 import com.attrigo.asapp.authentication.application.user.out.UserRepository;
-import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
+import com.attrigo.asapp.authentication.domain.authentication.JwtAuthenticationId;
 import com.attrigo.asapp.authentication.domain.user.UserId;
 
 /**
@@ -49,11 +52,20 @@ import com.attrigo.asapp.authentication.domain.user.UserId;
  * Coverage:
  * <li>DB deletion failures propagate without executing token deactivation</li>
  * <li>Token deactivation failures propagate after DB deletion has completed</li>
- * <li>Successful deletion cascades to authentication records and deactivates all user tokens</li>
+ * <li>Successful deletion cascades to authentication records, deactivates the returned tokens at once, and evicts cached credentials</li>
+ * <li>Authentication tokens are taken from the deletion itself, without reading the authentications first</li>
  */
 @ExtendWith(MockitoExtension.class)
 class DeleteUserServiceTests {
 
+    private static final UUID USER_ID_VALUE = UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7");
+
+    private static final UserId USER_ID = UserId.of(USER_ID_VALUE);
+
+    private static final EncodedTokenPair TOKEN_PAIR_1 = EncodedTokenPair.of(EncodedToken.of("token1.access.value"), EncodedToken.of("token1.refresh.value"));
+
+    private static final EncodedTokenPair TOKEN_PAIR_2 = EncodedTokenPair.of(EncodedToken.of("token2.access.value"), EncodedToken.of("token2.refresh.value"));
+
     @Mock
     private TokenStore tokenStore;
 
@@ -63,6 +75,9 @@ class DeleteUserServiceTests {
     @Mock
     private JwtAuthenticationRepository jwtAuthenticationRepository;
 
+    @Mock
+    private UserCredentialsCache userCredentialsCache;
+
     @InjectMocks
     private DeleteUserService deleteUserService;
 
@@ -72,180 +87,130 @@ class DeleteUserServiceTests {
         @Test
         void ReturnsTrue_UserExistsWithoutAuthentications() {
             // Given
-            var userIdValue = UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7");
-            var userId = UserId.of(userIdValue);
-
-            given(jwtAuthenticationRepository.findAllByUserId(userId)).willReturn(List.of());
-            given(userRepository.deleteById(userId)).willReturn(true);
+            given(jwtAuthenticationRepository.deleteAllByUserId(USER_ID)).willReturn(List.of());
+            given(userRepository.deleteById(USER_ID)).willReturn(true);
 
             // When
-            var actual = deleteUserService.deleteUserById(userIdValue);
+            var actual = deleteUserService.deleteUserById(USER_ID_VALUE);
 
             // Then
             assertThat(actual).isTrue();
 
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findAllByUserId(userId);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteAllByUserId(userId);
+                                             .deleteAllByUserId(USER_ID);
             then(userRepository).should(times(1))
-                                .deleteById(userId);
-            then(tokenStore).should(never())
-                            .delete(any(JwtPair.class));
+                                .deleteById(USER_ID);
+            then(tokenStore).should(times(1))
+                            .deleteAll(List.of());
+            then(userCredentialsCache).should(times(1))
+                                      .evictByUserId(USER_ID);
         }
 
         @Test
         void ReturnsTrue_UserHasMultipleAuthentications() {
             // Given
-            var userIdValue = UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7");
-            var userId = UserId.of(userIdValue);
-            var jwtAuthentication1 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token1.access", "token1.refresh")
-                                                                .build();
-            var jwtAuthentication2 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token2.access", "token2.refresh")
-                                                                .build();
-            var jwtPair1 = jwtAuthentication1.getJwtPair();
-            var jwtPair2 = jwtAuthentication2.getJwtPair();
-
-            given(jwtAuthenticationRepository.findAllByUserId(userId)).willReturn(List.of(jwtAuthentication1, jwtAuthentication2));
-            given(userRepository.deleteById(userId)).willReturn(true);
+            var tokenPairs = List.of(TOKEN_PAIR_1, TOKEN_PAIR_2);
+
+            given(jwtAuthenticationRepository.deleteAllByUserId(USER_ID)).willReturn(tokenPairs);
+            given(userRepository.deleteById(USER_ID)).willReturn(true);
 
             // When
-            var actual = deleteUserService.deleteUserById(userIdValue);
+            var actual = deleteUserService.deleteUserById(USER_ID_VALUE);
 
             // Then
             assertThat(actual).isTrue();
 
+            then(jwtAuthenticationRepository).should(never())
+                                             .findAllByUserId(any(UserId.class));
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findAllByUserId(userId);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteAllByUserId(userId);
+                                             .deleteAllByUserId(USER_ID);
+            then(jwtAuthenticationRepository).should(never())
+                                             .deleteById(any(JwtAuthenticationId.class));
             then(userRepository).should(times(1))
-                                .deleteById(userId);
-            then(tokenStore).should(times(1))
-                            .delete(jwtPair1);
+                                .deleteById(USER_ID);
             then(tokenStore).should(times(1))
-                            .delete(jwtPair2);
-            then(tokenStore).should(never())
-                            .save(any(JwtPair.class));
+                            .deleteAll(tokenPairs);
+            then(userCredentialsCache).should(times(1))
+                                      .evictByUserId(USER_ID);
         }
 
         @Test
         void ReturnsFalse_UserNotExists() {
             // Given
-            var userIdValue = UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7");
-            var userId = UserId.of(userIdValue);
-
-            given(jwtAuthenticationRepository.findAllByUserId(userId)).willReturn(List.of());
-            given(userRepository.deleteById(userId)).willReturn(false);
+            given(jwtAuthenticationRepository.deleteAllByUserId(USER_ID)).willReturn(List.of());
+            given(userRepository.deleteById(USER_ID)).willReturn(false);
 
             // When
-            var actual = deleteUserService.deleteUserById(userIdValue);
+            var actual = deleteUserService.deleteUserById(USER_ID_VALUE);
 
             // Then
             assertThat(actual).isFalse();
 
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findAllByUserId(userId);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteAllByUserId(userId);
+                                             .deleteAllByUserId(USER_ID);
             then(userRepository).should(times(1))
-                                .deleteById(userId);
+                                .deleteById(USER_ID);
             then(tokenStore).should(never())
-                            .delete(any(JwtPair.class));
-            then(tokenStore).should(never())
-                            .save(any(JwtPair.class));
+                            .deleteAll(anyCollection());
+            then(userCredentialsCache).shouldHaveNoInteractions();
         }
 
         @Test
         void ThrowsException_AuthenticationsDeletionFails() {
             // Given
-            var userIdValue = UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7");
-            var userId = UserId.of(userIdValue);
-            var jwtAuthentication1 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token1.access", "token1.refresh")
-                                                                .build();
-            var jwtAuthentication2 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token2.access", "token2.refresh")
-                                                                .build();
-
-            given(jwtAuthenticationRepository.findAllByUserId(userId)).willReturn(List.of(jwtAuthentication1, jwtAuthentication2));
-            willThrow(new RuntimeException("Repository delete failed")).given(jwtAuthenticationRepository)
-                                                                       .deleteAllByUserId(userId);
+            given(jwtAuthenticationRepository.deleteAllByUserId(USER_ID)).willThrow(new RuntimeException("Repository delete failed"));
 
             // When
-            var actual = catchThrowable(() -> deleteUserService.deleteUserById(userIdValue));
+            var actual = catchThrowable(() -> deleteUserService.deleteUserById(USER_ID_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(RuntimeException.class)
                               .hasMessage("Repository delete failed");
 
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findAllByUserId(userId);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteAllByUserId(userId);
+                                             .deleteAllByUserId(USER_ID);
             then(userRepository).should(never())
                                 .deleteById(any(UserId.class));
             then(tokenStore).should(never())
-                            .delete(any(JwtPair.class));
+                            .deleteAll(anyCollection());
         }
 
         @Test
         void ThrowsException_UserDeletionFails() {
             // Given
-            var userIdValue = UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7");
-            var userId = UserId.of(userIdValue);
-            var jwtAuthentication1 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token1.access", "token1.refresh")
-                                                                .build();
-            var jwtAuthentication2 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token2.access", "token2.refresh")
-                                                                .build();
-
-            given(jwtAuthenticationRepository.findAllByUserId(userId)).willReturn(List.of(jwtAuthentication1, jwtAuthentication2));
+            given(jwtAuthenticationRepository.deleteAllByUserId(USER_ID)).willReturn(List.of(TOKEN_PAIR_1, TOKEN_PAIR_2));
             willThrow(new RuntimeException("Repository delete failed")).given(userRepository)
-                                                                       .deleteById(userId);
+                                                                       .deleteById(USER_ID);
 
             // When
-            var actual = catchThrowable(() -> deleteUserService.deleteUserById(userIdValue));
+            var actual = catchThrowable(() -> deleteUserService.deleteUserById(USER_ID_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(RuntimeException.class)
                               .hasMessage("Repository delete failed");
 
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findAllByUserId(userId);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteAllByUserId(userId);
+                                             .deleteAllByUserId(USER_ID);
             then(userRepository).should(times(1))
-                                .deleteById(userId);
+                                .deleteById(USER_ID);
             then(tokenStore).should(never())
-                            .delete(any(JwtPair.class));
+                            .deleteAll(anyCollection());
         }
 
         @Test
         void ThrowsTokenStoreException_TokenDeactivationFails() {
             // Given
-            var userIdValue = UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7");
-            var userId = UserId.of(userIdValue);
-            var jwtAuthentication1 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token1.access", "token1.refresh")
-                                                                .build();
-            var jwtAuthentication2 = aJwtAuthenticationBuilder().withUserId(userIdValue)
-                                                                .withTokenValues("token2.access", "token2.refresh")
-                                                                .build();
+            var tokenPairs = List.of(TOKEN_PAIR_1, TOKEN_PAIR_2);
             var tokenStoreException = new TokenStoreException("Could not delete tokens from fast-access store",
                     new RuntimeException("Token store connection failed"));
-            var jwtPair1 = jwtAuthentication1.getJwtPair();
 
-            given(jwtAuthenticationRepository.findAllByUserId(userId)).willReturn(List.of(jwtAuthentication1, jwtAuthentication2));
-            given(userRepository.deleteById(userId)).willReturn(true);
+            given(jwtAuthenticationRepository.deleteAllByUserId(USER_ID)).willReturn(tokenPairs);
+            given(userRepository.deleteById(USER_ID)).willReturn(true);
             willThrow(tokenStoreException).given(tokenStore)
-                                          .delete(jwtPair1);
+                                          .deleteAll(tokenPairs);
 
             // When
-            var actual = catchThrowable(() -> deleteUserService.deleteUserById(userIdValue));
+            var actual = catchThrowable(() -> deleteUserService.deleteUserById(USER_ID_VALUE));
 
             // Then
             assertThat(actual).isInstanceOf(TokenStoreException.class)
@@ -253,15 +218,12 @@ class DeleteUserServiceTests {
                               .hasCauseInstanceOf(RuntimeException.class);
 
             then(jwtAuthenticationRepository).should(times(1))
-                                             .findAllByUserId(userId);
-            then(jwtAuthenticationRepository).should(times(1))
-                                             .deleteAllByUserId(userId);
+                                             .deleteAllByUserId(USER_ID);
             then(userRepository).should(times(1))
-                                .deleteById(userId);
+                                .deleteById(USER_ID);
             then(tokenStore).should(times(1))
-                            .delete(jwtPair1);
-            then(tokenStore).should(never())
-                            .save(any(JwtPair.class));
+                            .deleteAll(tokenPairs);
+            then(userCredentialsCache).shouldHaveNoInteractions();
         }
 
     }
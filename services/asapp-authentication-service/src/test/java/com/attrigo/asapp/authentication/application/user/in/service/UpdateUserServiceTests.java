@@ -38,15 +38,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.authentication.application.UseCaseStepObserver;
 import com.attrigo.asapp.authentication.application.user.in.command.UpdateUserCommand;
+import com.attrigo.asapp.authentication.application.user.out.UserCredentialsCache;
 import com.attrigo.asapp.authentication.application.user.out.UserRepository;
 import com.attrigo.asapp.authentication.domain.user.EncodedPassword;
 import com.attrigo.asapp.authentication.domain.user.PasswordService;
 import com.attrigo.asapp.authentication.domain.user.RawPassword;
 import com.attrigo.asapp.authentication.domain.user.User;
 import com.attrigo.asapp.authentication.domain.user.UserId;
+import com.attrigo.asapp.authentication.testutil.PassThroughUseCaseStepObserver;
 
 /**
  * Tests {@link UpdateUserService} two-phase fetch-then-persist with optional password re-encoding.
@@ -55,7 +59,7 @@ import com.attrigo.asapp.authentication.domain.user.UserId;
  * <li>Retrieval failures propagate without executing update operations</li>
  * <li>Password encoding failures propagate when password update requested</li>
  * <li>Persistence failures propagate without completing update workflow</li>
- * <li>Successful update retrieves user, re-encodes password if provided, updates data, and persists changes</li>
+ * <li>Successful update retrieves user, re-encodes password if provided, updates data, persists changes, and evicts cached credentials</li>
  */
 @ExtendWith(MockitoExtension.class)
 class UpdateUserServiceTests {
@@ -66,6 +70,12 @@ class UpdateUserServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCredentialsCache userCredentialsCache;
+
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private UpdateUserService updateUserService;
 
@@ -123,6 +133,11 @@ class UpdateUserServiceTests {
                 softly.assertThat(userArgumentCaptor.getValue().getRole()).as("saved role").isEqualTo(newRole);
                 // @formatter:on
             });
+
+            then(userCredentialsCache).should(times(1))
+                                      .evictByUserId(existingUserId);
+            then(userCredentialsCache).should(times(1))
+                                      .evictByUsername(newUsername);
         }
 
         @Test
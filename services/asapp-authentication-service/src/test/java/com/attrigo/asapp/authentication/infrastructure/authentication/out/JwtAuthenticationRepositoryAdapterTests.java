@@ -25,6 +25,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,10 +38,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
 import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.authentication.JwtAuthenticationId;
 import com.attrigo.asapp.authentication.domain.user.UserId;
 import com.attrigo.asapp.authentication.infrastructure.authentication.mapper.JwtAuthenticationMapper;
 import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationRepository;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtTokenPair;
 
 /**
  * Tests {@link JwtAuthenticationRepositoryAdapter} authentication lookup with not-found handling and deletion operations.
@@ -51,7 +54,8 @@ import com.attrigo.asapp.authentication.infrastructure.authentication.persistenc
  * <li>Authentication lookup by refresh token returns the authentication when found</li>
  * <li>Authentication lookup by refresh token throws domain exception when not found</li>
  * <li>Authentication deletion by ID completes without error when database operation succeeds</li>
- * <li>Bulk authentication deletion by user ID completes without error when database operation succeeds</li>
+ * <li>Authentication deletion by access token returns the deleted tokens, or throws domain exception when not found</li>
+ * <li>Bulk authentication deletion by user ID returns the deleted tokens</li>
  */
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationRepositoryAdapterTests {
@@ -174,21 +178,85 @@ class JwtAuthenticationRepositoryAdapterTests {
 
     }
 
+    @Nested
+    class DeleteByAccessToken {
+
+        @Test
+        void ReturnsTokenPair_AccessTokenFound() {
+            // Given
+            var accessToken = EncodedToken.of("access.token.value");
+            var jdbcTokenPair = new JdbcJwtTokenPair("access.token.value", "refresh.token.value");
+            var tokenPair = EncodedTokenPair.of(accessToken, EncodedToken.of("refresh.token.value"));
+
+            given(jwtAuthenticationRepository.deleteByAccessTokenToken(accessToken.value())).willReturn(Optional.of(jdbcTokenPair));
+            given(jwtAuthenticationMapper.toEncodedTokenPair(jdbcTokenPair)).willReturn(tokenPair);
+
+            // When
+            var actual = jwtAuthenticationRepositoryAdapter.deleteByAccessToken(accessToken);
+
+            // Then
+            assertThat(actual).isEqualTo(tokenPair);
+
+            then(jwtAuthenticationRepository).should(times(1))
+                                             .deleteByAccessTokenToken(accessToken.value());
+        }
+
+        @Test
+        void ThrowsAuthenticationNotFoundException_AccessTokenNotFound() {
+            // Given
+            var accessToken = EncodedToken.of("access.token.value");
+
+            given(jwtAuthenticationRepository.deleteByAccessTokenToken(accessToken.value())).willReturn(Optional.empty());
+
+            // When
+            var actual = catchThrowable(() -> jwtAuthenticationRepositoryAdapter.deleteByAccessToken(accessToken));
+
+            // Then
+            assertThat(actual).isInstanceOf(AuthenticationNotFoundException.class)
+                              .hasMessage("Authentication session not found in repository for access token");
+
+            then(jwtAuthenticationMapper).shouldHaveNoInteractions();
+        }
+
+    }
+
     @Nested
     class DeleteAllByUserId {
 
         @Test
-        void DeletesAllAuthentications_DatabaseOperationSucceeds() {
+        void ReturnsDeletedTokenPairs_DatabaseOperationSucceeds() {
             // Given
             var userId = UserId.of(UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7"));
+            var jdbcTokenPair = new JdbcJwtTokenPair("access.token.value", "refresh.token.value");
+            var tokenPair = EncodedTokenPair.of(EncodedToken.of("access.token.value"), EncodedToken.of("refresh.token.value"));
 
-            // When & Then
-            assertThatCode(() -> jwtAuthenticationRepositoryAdapter.deleteAllByUserId(userId)).doesNotThrowAnyException();
+            given(jwtAuthenticationRepository.deleteAllByUserId(userId.value())).willReturn(List.of(jdbcTokenPair));
+            given(jwtAuthenticationMapper.toEncodedTokenPair(jdbcTokenPair)).willReturn(tokenPair);
+
+            // When
+            var actual = jwtAuthenticationRepositoryAdapter.deleteAllByUserId(userId);
+
+            // Then
+            assertThat(actual).containsExactly(tokenPair);
 
             then(jwtAuthenticationRepository).should(times(1))
                                              .deleteAllByUserId(userId.value());
         }
 
+        @Test
+        void ReturnsEmptyList_UserWithoutAuthentications() {
+            // Given
+            var userId = UserId.of(UUID.fromString("a1b2c3d4-e5f6-4789-a0b1-c2d3e4f5a6b7"));
+
+            given(jwtAuthenticationRepository.deleteAllByUserId(userId.value())).willReturn(List.of());
+
+            // When
+            var actual = jwtAuthenticationRepositoryAdapter.deleteAllByUserId(userId);
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
     }
 
 }
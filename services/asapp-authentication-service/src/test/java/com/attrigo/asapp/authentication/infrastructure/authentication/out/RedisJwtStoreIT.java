@@ -25,6 +25,7 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.awaitility.Awaitility.await;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +36,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 import com.attrigo.asapp.authentication.domain.authentication.JwtPair;
 import com.attrigo.asapp.authentication.testutil.TestContainerConfiguration;
 
@@ -48,7 +50,7 @@ import com.attrigo.asapp.authentication.testutil.TestContainerConfiguration;
  * Coverage:
  * <li>Activates token pairs in Redis with calculated TTL from expiration timestamps</li>
  * <li>Verifies token existence checks return correct status</li>
- * <li>Deactivates token pairs removing them from Redis</li>
+ * <li>Deactivates token pairs removing them from Redis, one at a time or in bulk</li>
  * <li>Tests actual Redis operations with TestContainers</li>
  */
 @SpringBootTest
@@ -322,6 +324,25 @@ class RedisJwtStoreIT {
 
     }
 
+    @Nested
+    class DeleteAll {
+
+        @Test
+        void DeletesEveryJwtPair_JwtPairsExist() {
+            // Given
+            var jwtPair1 = createJwtPair();
+            var jwtPair2 = createJwtPair();
+
+            // When
+            redisJwtStore.deleteAll(List.of(toEncodedTokenPair(jwtPair1), toEncodedTokenPair(jwtPair2)));
+
+            // Then
+            assertJwtPairNotExistInRedis(jwtPair1);
+            assertJwtPairNotExistInRedis(jwtPair2);
+        }
+
+    }
+
     // Test Data Creation Helpers
 
     private JwtPair createJwtPair() {
@@ -332,6 +353,13 @@ class RedisJwtStoreIT {
         return jwtPair;
     }
 
+    private EncodedTokenPair toEncodedTokenPair(JwtPair jwtPair) {
+        return EncodedTokenPair.of(jwtPair.accessToken()
+                                          .encodedToken(),
+                jwtPair.refreshToken()
+                       .encodedToken());
+    }
+
     // Assertions Helpers
 
     private void assertJwtPairNotExistInRedis(JwtPair jwtPair) {
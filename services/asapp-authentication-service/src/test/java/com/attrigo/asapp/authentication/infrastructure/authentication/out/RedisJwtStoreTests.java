@@ -16,14 +16,19 @@
 
 package com.attrigo.asapp.authentication.infrastructure.authentication.out;
 
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.RedisJwtStore.ACCESS_TOKEN_PREFIX;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.RedisJwtStore.REFRESH_TOKEN_PREFIX;
 import static com.attrigo.asapp.authentication.testutil.fixture.JwtPairMother.aJwtPair;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +39,8 @@ import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import com.attrigo.asapp.authentication.application.authentication.TokenStoreException;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
 
 /**
  * Tests {@link RedisJwtStore} token existence checks and exception translation on Redis operation failures.
@@ -43,6 +50,8 @@ import com.attrigo.asapp.authentication.application.authentication.TokenStoreExc
  * <li>Translates Redis failures during token pair storage to store exception</li>
  * <li>Deletes token pair via pipelined delete operation</li>
  * <li>Translates Redis failures during token pair deletion to store exception</li>
+ * <li>Deletes every key of several token pairs in a single command, skipping Redis when there are none</li>
+ * <li>Translates Redis failures during bulk token deletion to store exception</li>
  */
 @ExtendWith(MockitoExtension.class)
 class RedisJwtStoreTests {
@@ -121,4 +130,48 @@ class RedisJwtStoreTests {
 
     }
 
+    @Nested
+    class DeleteAll {
+
+        @Test
+        void DeletesTokensInSingleCommand_ValidTokenPairs() {
+            // Given
+            var tokenPair = EncodedTokenPair.of(EncodedToken.of("access.token.value"), EncodedToken.of("refresh.token.value"));
+            var expectedKeys = List.of(ACCESS_TOKEN_PREFIX + "access.token.value", REFRESH_TOKEN_PREFIX + "refresh.token.value");
+
+            // When
+            redisJwtStore.deleteAll(List.of(tokenPair));
+
+            // Then
+            then(redisTemplate).should(times(1))
+                               .delete(expectedKeys);
+        }
+
+        @Test
+        void SkipsRedis_EmptyTokenPairs() {
+            // When
+            redisJwtStore.deleteAll(List.of());
+
+            // Then
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void ThrowsTokenStoreException_DeleteOperationFails() {
+            // Given
+            var tokenPair = EncodedTokenPair.of(EncodedToken.of("access.token.value"), EncodedToken.of("refresh.token.value"));
+
+            willThrow(new RuntimeException("Redis connection failed")).given(redisTemplate)
+                                                                      .delete(anyCollection());
+
+            // When
+            var actual = catchThrowable(() -> redisJwtStore.deleteAll(List.of(tokenPair)));
+
+            // Then
+            assertThat(actual).isInstanceOf(TokenStoreException.class)
+                              .hasMessage("Could not delete tokens from fast-access store");
+        }
+
+    }
+
 }
@@ -0,0 +1,459 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+
+package com.attrigo.asapp.authentication.infrastructure.authentication.out;
+
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.ACCESS_TOKEN_INDEX_PREFIX;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.REFRESH_TOKEN_INDEX_PREFIX;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.SNAPSHOT_PREFIX;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.USER_INDEX_PREFIX;
+import static com.attrigo.asapp.authentication.testutil.fixture.JwtAuthenticationMother.aJwtAuthenticationBuilder;
+import static com.attrigo.asapp.authentication.testutil.fixture.JwtAuthenticationMother.anAuthenticatedJwtAuthentication;
+import static com.attrigo.asapp.authentication.testutil.fixture.JwtAuthenticationMother.anUnauthenticatedJwtAuthentication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.Mockito.never;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedToken;
+import com.attrigo.asapp.authentication.domain.authentication.EncodedTokenPair;
+import com.attrigo.asapp.authentication.domain.user.UserId;
+import com.attrigo.asapp.authentication.infrastructure.authentication.mapper.JwtAuthenticationMapper;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationEntity;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtTokenPair;
+
+/**
+ * Tests {@link WriteBehindJwtAuthenticationRepository} Redis-first reads with database fallback and pipelined writes to the outbox.
+ * <p>
+ * Coverage:
+ * <li>Authentication lookup by token returns the Redis snapshot when indexed</li>
+ * <li>Authentication lookup by token falls back to the database when not indexed</li>
+ * <li>Authentication lookup by token throws domain exception when the snapshot holds another token</li>
+ * <li>Authentication lookup by user merges database records with Redis snapshots, snapshots taking precedence</li>
+ * <li>Authentication save assigns an ID and writes snapshot, indexes and outbox entry in a single pipeline</li>
+ * <li>Authentication deletion by ID evicts the snapshot and enqueues the deletion in a single pipeline</li>
+ * <li>Authentication deletion by access token enqueues the deletion when the snapshot is live and deletes from the database otherwise</li>
+ * <li>Bulk authentication deletion by user ID deletes synchronously from the database, evicts the snapshots and returns the tokens of both</li>
+ * <li>Expired authentication cleanup delegates to the database</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindJwtAuthenticationRepositoryTests {
+
+    @Mock
+    private JwtAuthenticationRepositoryAdapter jdbcRepository;
+
+    @Mock
+    private JwtAuthenticationMapper jwtAuthenticationMapper;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @InjectMocks
+    private WriteBehindJwtAuthenticationRepository writeBehindJwtAuthenticationRepository;
+
+    @Nested
+    class FindByAccessToken {
+
+        @Test
+        void ReturnsSnapshot_AccessTokenIndexed() {
+            // Given
+            var snapshot = aJdbcJwtAuthenticationSnapshot();
+            var accessToken = EncodedToken.of(snapshot.accessToken()
+                                                      .token());
+            var jwtAuthentication = anAuthenticatedJwtAuthentication();
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value())).willReturn(snapshot.id()
+                                                                                                           .toString());
+            given(valueOperations.get(SNAPSHOT_PREFIX + snapshot.id())).willReturn("snapshot");
+            given(objectMapper.readValue("snapshot", JdbcJwtAuthenticationEntity.class)).willReturn(snapshot);
+            given(jwtAuthenticationMapper.toJwtAuthentication(snapshot)).willReturn(jwtAuthentication);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.findByAccessToken(accessToken);
+
+            // Then
+            assertThat(actual).isEqualTo(jwtAuthentication);
+
+            then(jdbcRepository).should(never())
+                                .findByAccessToken(accessToken);
+        }
+
+        @Test
+        void ReturnsDatabaseRecord_AccessTokenNotIndexed() {
+            // Given
+            var accessToken = EncodedToken.of("access.token.value");
+            var jwtAuthentication = anAuthenticatedJwtAuthentication();
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value())).willReturn(null);
+            given(jdbcRepository.findByAccessToken(accessToken)).willReturn(jwtAuthentication);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.findByAccessToken(accessToken);
+
+            // Then
+            assertThat(actual).isEqualTo(jwtAuthentication);
+
+            then(jdbcRepository).should(times(1))
+                                .findByAccessToken(accessToken);
+        }
+
+        @Test
+        void ThrowsAuthenticationNotFoundException_SnapshotHoldsAnotherAccessToken() {
+            // Given
+            var snapshot = aJdbcJwtAuthenticationSnapshot();
+            var accessToken = EncodedToken.of("access.token.value");
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value())).willReturn(snapshot.id()
+                                                                                                           .toString());
+            given(valueOperations.get(SNAPSHOT_PREFIX + snapshot.id())).willReturn("snapshot");
+            given(objectMapper.readValue("snapshot", JdbcJwtAuthenticationEntity.class)).willReturn(snapshot);
+
+            // When
+            var actual = catchThrowable(() -> writeBehindJwtAuthenticationRepository.findByAccessToken(accessToken));
+
+            // Then
+            assertThat(actual).isInstanceOf(AuthenticationNotFoundException.class)
+                              .hasMessage("Authentication session not found in repository for access token");
+        }
+
+    }
+
+    @Nested
+    class FindByRefreshToken {
+
+        @Test
+        void ReturnsSnapshot_RefreshTokenIndexed() {
+            // Given
+            var snapshot = aJdbcJwtAuthenticationSnapshot();
+            var refreshToken = EncodedToken.of(snapshot.refreshToken()
+                                                       .token());
+            var jwtAuthentication = anAuthenticatedJwtAuthentication();
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(REFRESH_TOKEN_INDEX_PREFIX + refreshToken.value())).willReturn(snapshot.id()
+                                                                                                             .toString());
+            given(valueOperations.get(SNAPSHOT_PREFIX + snapshot.id())).willReturn("snapshot");
+            given(objectMapper.readValue("snapshot", JdbcJwtAuthenticationEntity.class)).willReturn(snapshot);
+            given(jwtAuthenticationMapper.toJwtAuthentication(snapshot)).willReturn(jwtAuthentication);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.findByRefreshToken(refreshToken);
+
+            // Then
+            assertThat(actual).isEqualTo(jwtAuthentication);
+
+            then(jdbcRepository).should(never())
+                                .findByRefreshToken(refreshToken);
+        }
+
+        @Test
+        void ReturnsDatabaseRecord_RefreshTokenNotIndexed() {
+            // Given
+            var refreshToken = EncodedToken.of("refresh.token.value");
+            var jwtAuthentication = anAuthenticatedJwtAuthentication();
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(REFRESH_TOKEN_INDEX_PREFIX + refreshToken.value())).willReturn(null);
+            given(jdbcRepository.findByRefreshToken(refreshToken)).willReturn(jwtAuthentication);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.findByRefreshToken(refreshToken);
+
+            // Then
+            assertThat(actual).isEqualTo(jwtAuthentication);
+
+            then(jdbcRepository).should(times(1))
+                                .findByRefreshToken(refreshToken);
+        }
+
+    }
+
+    @Nested
+    class FindAllByUserId {
+
+        @Test
+        void ReturnsMergedAuthentications_SnapshotsTakePrecedence() {
+            // Given
+            var userId = UserId.of(UUID.randomUUID());
+            var persistedAuthentication = anAuthenticatedJwtAuthentication();
+            var snapshotAuthentication = anAuthenticatedJwtAuthentication();
+            var snapshot = aJdbcJwtAuthenticationSnapshot();
+            var snapshotKey = SNAPSHOT_PREFIX + snapshot.id();
+
+            given(jdbcRepository.findAllByUserId(userId)).willReturn(List.of(persistedAuthentication));
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(USER_INDEX_PREFIX + userId.value())).willReturn(Set.of(snapshot.id()
+                                                                                                       .toString()));
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of(snapshotKey))).willReturn(List.of("snapshot"));
+            given(objectMapper.readValue("snapshot", JdbcJwtAuthenticationEntity.class)).willReturn(snapshot);
+            given(jwtAuthenticationMapper.toJwtAuthentication(snapshot)).willReturn(snapshotAuthentication);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.findAllByUserId(userId);
+
+            // Then
+            assertThat(actual).containsExactly(snapshotAuthentication);
+        }
+
+    }
+
+    @Nested
+    class Save {
+
+        @Test
+        void AssignsIdAndWritesInSinglePipeline_UnauthenticatedJwtAuthentication() {
+            // Given
+            var jwtAuthentication = anUnauthenticatedJwtAuthentication();
+            var entity = aJwtAuthenticationBuilder().withAuthenticationId(null)
+                                                    .buildJdbc();
+            var savedAuthentication = anAuthenticatedJwtAuthentication();
+            var entityCaptor = ArgumentCaptor.forClass(JdbcJwtAuthenticationEntity.class);
+
+            given(jwtAuthenticationMapper.toJdbcJwtAuthenticationEntity(jwtAuthentication)).willReturn(entity);
+            given(objectMapper.writeValueAsString(any(JdbcJwtAuthenticationEntity.class))).willReturn("snapshot");
+            given(jwtAuthenticationMapper.toJwtAuthentication(entityCaptor.capture())).willReturn(savedAuthentication);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.save(jwtAuthentication);
+
+            // Then
+            assertThat(actual).isEqualTo(savedAuthentication);
+            assertThat(entityCaptor.getValue()
+                                   .id()).isNotNull();
+
+            then(redisTemplate).should(times(1))
+                               .executePipelined(any(RedisCallback.class));
+            then(jdbcRepository).shouldHaveNoInteractions();
+        }
+
+    }
+
+    @Nested
+    class DeleteById {
+
+        @Test
+        void EnqueuesDeletionInSinglePipeline_SnapshotAlreadyExpired() {
+            // Given
+            var jwtAuthentication = anAuthenticatedJwtAuthentication();
+            var authenticationId = jwtAuthentication.getId();
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(SNAPSHOT_PREFIX + authenticationId.value())).willReturn(null);
+
+            // When
+            writeBehindJwtAuthenticationRepository.deleteById(authenticationId);
+
+            // Then
+            then(redisTemplate).should(times(1))
+                               .executePipelined(any(RedisCallback.class));
+            then(jdbcRepository).shouldHaveNoInteractions();
+        }
+
+    }
+
+    @Nested
+    class DeleteByAccessToken {
+
+        @Test
+        void EnqueuesDeletionAndReturnsTokens_AccessTokenIndexed() {
+            // Given
+            var snapshot = aJdbcJwtAuthenticationSnapshot();
+            var accessTokenValue = snapshot.accessToken()
+                                           .token();
+            var refreshTokenValue = snapshot.refreshToken()
+                                            .token();
+            var accessToken = EncodedToken.of(accessTokenValue);
+            var tokenPair = EncodedTokenPair.of(accessToken, EncodedToken.of(refreshTokenValue));
+            var expectedJdbcTokenPair = new JdbcJwtTokenPair(accessTokenValue, refreshTokenValue);
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value())).willReturn(snapshot.id()
+                                                                                                           .toString());
+            given(valueOperations.get(SNAPSHOT_PREFIX + snapshot.id())).willReturn("snapshot");
+            given(objectMapper.readValue("snapshot", JdbcJwtAuthenticationEntity.class)).willReturn(snapshot);
+            given(jwtAuthenticationMapper.toEncodedTokenPair(expectedJdbcTokenPair)).willReturn(tokenPair);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.deleteByAccessToken(accessToken);
+
+            // Then
+            assertThat(actual).isEqualTo(tokenPair);
+
+            then(redisTemplate).should(times(1))
+                               .executePipelined(any(RedisCallback.class));
+            then(jdbcRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void DeletesFromDatabase_AccessTokenNotIndexed() {
+            // Given
+            var accessToken = EncodedToken.of("access.token.value");
+            var tokenPair = EncodedTokenPair.of(accessToken, EncodedToken.of("refresh.token.value"));
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value())).willReturn(null);
+            given(jdbcRepository.deleteByAccessToken(accessToken)).willReturn(tokenPair);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.deleteByAccessToken(accessToken);
+
+            // Then
+            assertThat(actual).isEqualTo(tokenPair);
+
+            then(redisTemplate).should(never())
+                               .executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        void ThrowsAuthenticationNotFoundException_SnapshotHoldsAnotherAccessToken() {
+            // Given
+            var snapshot = aJdbcJwtAuthenticationSnapshot();
+            var accessToken = EncodedToken.of("access.token.value");
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(ACCESS_TOKEN_INDEX_PREFIX + accessToken.value())).willReturn(snapshot.id()
+                                                                                                           .toString());
+            given(valueOperations.get(SNAPSHOT_PREFIX + snapshot.id())).willReturn("snapshot");
+            given(objectMapper.readValue("snapshot", JdbcJwtAuthenticationEntity.class)).willReturn(snapshot);
+
+            // When
+            var actual = catchThrowable(() -> writeBehindJwtAuthenticationRepository.deleteByAccessToken(accessToken));
+
+            // Then
+            assertThat(actual).isInstanceOf(AuthenticationNotFoundException.class)
+                              .hasMessage("Authentication session not found in repository for access token");
+
+            then(redisTemplate).should(never())
+                               .executePipelined(any(RedisCallback.class));
+        }
+
+    }
+
+    @Nested
+    class DeleteAllByUserId {
+
+        @Test
+        void ReturnsDeletedTokens_DatabaseRecordsAndSnapshots() {
+            // Given
+            var userId = UserId.of(UUID.randomUUID());
+            var snapshot = aJdbcJwtAuthenticationSnapshot();
+            var snapshotKey = SNAPSHOT_PREFIX + snapshot.id();
+            var persistedTokenPair = EncodedTokenPair.of(EncodedToken.of("token1.access.value"), EncodedToken.of("token1.refresh.value"));
+            var snapshotTokenPair = EncodedTokenPair.of(EncodedToken.of("token2.access.value"), EncodedToken.of("token2.refresh.value"));
+
+            given(jdbcRepository.deleteAllByUserId(userId)).willReturn(List.of(persistedTokenPair));
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(USER_INDEX_PREFIX + userId.value())).willReturn(Set.of(snapshot.id()
+                                                                                                       .toString()));
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of(snapshotKey))).willReturn(List.of("snapshot"));
+            given(objectMapper.readValue("snapshot", JdbcJwtAuthenticationEntity.class)).willReturn(snapshot);
+            given(jwtAuthenticationMapper.toEncodedTokenPair(any(JdbcJwtTokenPair.class))).willReturn(snapshotTokenPair);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.deleteAllByUserId(userId);
+
+            // Then
+            assertThat(actual).containsExactly(persistedTokenPair, snapshotTokenPair);
+
+            then(redisTemplate).should(times(1))
+                               .executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        void ReturnsDatabaseTokens_NoSnapshots() {
+            // Given
+            var userId = UserId.of(UUID.randomUUID());
+            var persistedTokenPair = EncodedTokenPair.of(EncodedToken.of("token1.access.value"), EncodedToken.of("token1.refresh.value"));
+
+            given(jdbcRepository.deleteAllByUserId(userId)).willReturn(List.of(persistedTokenPair));
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(USER_INDEX_PREFIX + userId.value())).willReturn(Set.of());
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.deleteAllByUserId(userId);
+
+            // Then
+            assertThat(actual).containsExactly(persistedTokenPair);
+
+            then(redisTemplate).should(times(1))
+                               .executePipelined(any(RedisCallback.class));
+        }
+
+    }
+
+    @Nested
+    class DeleteAllByRefreshTokenExpiredBefore {
+
+        @Test
+        void DelegatesToDatabase_ValidInstant() {
+            // Given
+            var expiredBefore = Instant.now();
+
+            given(jdbcRepository.deleteAllByRefreshTokenExpiredBefore(expiredBefore)).willReturn(3);
+
+            // When
+            var actual = writeBehindJwtAuthenticationRepository.deleteAllByRefreshTokenExpiredBefore(expiredBefore);
+
+            // Then
+            assertThat(actual).isEqualTo(3);
+        }
+
+    }
+
+    private static JdbcJwtAuthenticationEntity aJdbcJwtAuthenticationSnapshot() {
+        var entity = aJwtAuthenticationBuilder().buildJdbc();
+        return new JdbcJwtAuthenticationEntity(UUID.randomUUID(), entity.userId(), entity.accessToken(), entity.refreshToken());
+    }
+
+}
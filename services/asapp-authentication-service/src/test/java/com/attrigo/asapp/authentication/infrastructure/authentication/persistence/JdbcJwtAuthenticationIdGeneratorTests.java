@@ -0,0 +1,74 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.authentication.persistence;
+
+import static com.attrigo.asapp.authentication.testutil.fixture.JwtAuthenticationMother.aJdbcJwtAuthentication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link JdbcJwtAuthenticationIdGenerator} identifier assignment before conversion.
+ * <p>
+ * Coverage:
+ * <li>Assigns a time-ordered identifier to authentications without one, keeping the remaining columns</li>
+ * <li>Keeps the identifier of authentications that already have one</li>
+ */
+class JdbcJwtAuthenticationIdGeneratorTests {
+
+    private final JdbcJwtAuthenticationIdGenerator jdbcJwtAuthenticationIdGenerator = new JdbcJwtAuthenticationIdGenerator();
+
+    @Nested
+    class OnBeforeConvert {
+
+        @Test
+        void AssignsTimeOrderedId_AuthenticationWithoutId() {
+            // Given
+            var authentication = aJdbcJwtAuthentication();
+
+            // When
+            var actual = jdbcJwtAuthenticationIdGenerator.onBeforeConvert(authentication);
+
+            // Then
+            assertThat(actual.id()).isNotNull();
+            assertThat(actual.id()
+                             .version()).isEqualTo(7);
+            assertThat(actual).usingRecursiveComparison()
+                              .ignoringFields("id")
+                              .isEqualTo(authentication);
+        }
+
+        @Test
+        void KeepsId_AuthenticationWithId() {
+            // Given
+            var authentication = aJdbcJwtAuthentication();
+            var authenticationWithId = new JdbcJwtAuthenticationEntity(UUID.randomUUID(), authentication.userId(), authentication.accessToken(),
+                    authentication.refreshToken());
+
+            // When
+            var actual = jdbcJwtAuthenticationIdGenerator.onBeforeConvert(authenticationWithId);
+
+            // Then
+            assertThat(actual).isSameAs(authenticationWithId);
+        }
+
+    }
+
+}
@@ -49,7 +49,7 @@ import com.attrigo.asapp.authentication.testutil.TestContainerConfiguration;
  * Coverage:
  * <li>Persists and retrieves authentication sessions by multiple identifiers (ID, access token, refresh token)</li>
  * <li>Queries authentications by user identifier and expiration criteria</li>
- * <li>Deletes authentication sessions with cascading cleanup</li>
+ * <li>Deletes authentication sessions with cascading cleanup, returning the deleted token values</li>
  * <li>Tests actual database operations with TestContainers PostgreSQL</li>
  */
 @DataJdbcTest
@@ -170,27 +170,80 @@ class JdbcJwtAuthenticationRepositoryIT {
 
     }
 
+    @Nested
+    class DeleteByAccessTokenToken {
+
+        @Test
+        void ReturnsDeletedTokens_JwtAuthenticationExists() {
+            // Given
+            var createdUser = createUser();
+            var createdJwtAuthentication = createJwtAuthenticationForUser(createdUser);
+            var accessToken = createdJwtAuthentication.accessToken()
+                                                      .token();
+            var refreshToken = createdJwtAuthentication.refreshToken()
+                                                       .token();
+
+            // When
+            var actual = jwtAuthenticationRepository.deleteByAccessTokenToken(accessToken);
+
+            // Then
+            assertThat(actual).contains(new JdbcJwtTokenPair(accessToken, refreshToken));
+            assertThat(jwtAuthenticationRepository.findByAccessTokenToken(accessToken)).isEmpty();
+        }
+
+        @Test
+        void ReturnsEmptyOptional_JwtAuthenticationNotExists() {
+            // Given
+            var encodedAccessToken = encodedAccessToken();
+
+            // When
+            var actual = jwtAuthenticationRepository.deleteByAccessTokenToken(encodedAccessToken);
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
     @Nested
     class DeleteAllByUserId {
 
         @Test
-        void DeletesUserJwtAuthentications_JwtAuthenticationsExistForUserId() {
+        void ReturnsDeletedTokens_JwtAuthenticationsExistForUserId() {
             // Given
             var createdUser = createUser();
             var userId = createdUser.id();
             var createdJwtAuthentication1 = createJwtAuthenticationForUser(createdUser);
             var createdJwtAuthentication2 = createJwtAuthenticationForUser(createdUser);
+            var accessToken1 = createdJwtAuthentication1.accessToken()
+                                                        .token();
+            var accessToken2 = createdJwtAuthentication2.accessToken()
+                                                        .token();
+            var tokenPair1 = new JdbcJwtTokenPair(accessToken1, createdJwtAuthentication1.refreshToken()
+                                                                                         .token());
+            var tokenPair2 = new JdbcJwtTokenPair(accessToken2, createdJwtAuthentication2.refreshToken()
+                                                                                         .token());
 
             // When
-            jwtAuthenticationRepository.deleteAllByUserId(userId);
+            var actual = jwtAuthenticationRepository.deleteAllByUserId(userId);
 
             // Then
-            var deletedJwtAuthentication1 = jwtAuthenticationRepository.findByAccessTokenToken(createdJwtAuthentication1.accessToken()
-                                                                                                                        .token());
-            var deletedJwtAuthentication2 = jwtAuthenticationRepository.findByAccessTokenToken(createdJwtAuthentication2.accessToken()
-                                                                                                                        .token());
-            assertThat(deletedJwtAuthentication1).isEmpty();
-            assertThat(deletedJwtAuthentication2).isEmpty();
+            assertThat(actual).containsExactlyInAnyOrder(tokenPair1, tokenPair2);
+            assertThat(jwtAuthenticationRepository.findByAccessTokenToken(accessToken1)).isEmpty();
+            assertThat(jwtAuthenticationRepository.findByAccessTokenToken(accessToken2)).isEmpty();
+        }
+
+        @Test
+        void ReturnsEmptyList_JwtAuthenticationsNotExistForUserId() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+
+            // When
+            var actual = jwtAuthenticationRepository.deleteAllByUserId(userId);
+
+            // Then
+            assertThat(actual).isEmpty();
         }
 
     }
@@ -0,0 +1,123 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import com.attrigo.asapp.authentication.application.UseCasePriority;
+
+/**
+ * Tests {@link UseCasePriorityInterceptor} binding of use case priorities.
+ * <p>
+ * Coverage:
+ * <li>Binds the declared priority while the use case runs and unbinds it afterwards</li>
+ * <li>Keeps the enclosing priority for use cases without declared priority</li>
+ * <li>Restores the enclosing priority once a nested use case completes, even when it fails</li>
+ */
+class UseCasePriorityInterceptorTests {
+
+    private final UseCases useCases = proxy(new UseCases());
+
+    @AfterEach
+    void afterEach() {
+        UseCasePriorityContext.set(null);
+    }
+
+    @Nested
+    class Invoke {
+
+        @Test
+        void BindsDeclaredPriority_AnnotatedUseCase() {
+            // When
+            var actual = useCases.lowPriority();
+
+            // Then
+            assertThat(actual).isEqualTo(UseCasePriority.Level.LOW);
+            assertThat(UseCasePriorityContext.get()).isNull();
+        }
+
+        @Test
+        void KeepsEnclosingPriority_UseCaseWithoutPriority() {
+            // Given
+            UseCasePriorityContext.set(UseCasePriority.Level.HIGH);
+
+            // When
+            var actual = useCases.withoutPriority();
+
+            // Then
+            assertThat(actual).isEqualTo(UseCasePriority.Level.HIGH);
+        }
+
+        @Test
+        void RestoresEnclosingPriority_NestedUseCaseCompleted() {
+            // Given
+            UseCasePriorityContext.set(UseCasePriority.Level.HIGH);
+
+            // When
+            useCases.lowPriority();
+
+            // Then
+            assertThat(UseCasePriorityContext.current()).isEqualTo(UseCasePriority.Level.HIGH);
+        }
+
+        @Test
+        void RestoresEnclosingPriority_NestedUseCaseFailed() {
+            // Given
+            UseCasePriorityContext.set(UseCasePriority.Level.HIGH);
+
+            // When
+            var actual = catchThrowable(useCases::failingLowPriority);
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalStateException.class);
+            assertThat(UseCasePriorityContext.current()).isEqualTo(UseCasePriority.Level.HIGH);
+        }
+
+    }
+
+    private static UseCases proxy(UseCases target) {
+        var proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new UseCasePriorityInterceptor());
+        return (UseCases) proxyFactory.getProxy();
+    }
+
+    static class UseCases {
+
+        @UseCasePriority(UseCasePriority.Level.LOW)
+        public UseCasePriority.Level lowPriority() {
+            return UseCasePriorityContext.current();
+        }
+
+        @UseCasePriority(UseCasePriority.Level.LOW)
+        public void failingLowPriority() {
+            throw new IllegalStateException("Use case failed");
+        }
+
+        public UseCasePriority.Level withoutPriority() {
+            return UseCasePriorityContext.current();
+        }
+
+    }
+
+}
@@ -25,12 +25,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
+import java.sql.SQLTransientConnectionException;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import com.attrigo.asapp.authentication.application.CompensatingTransactionException;
 import com.attrigo.asapp.authentication.application.authentication.AuthenticationNotFoundException;
@@ -56,7 +60,7 @@ import com.attrigo.asapp.authentication.testutil.fixture.EncodedTokenMother;
  * <li>Routes authentication failures escaping a use case to a 401 Problem Detail</li>
  * <li>Routes token-type and JWT validation failures escaping a use case to a 401 Problem Detail</li>
  * <li>Routes compensating-transaction, JWT signing and database failures escaping a use case to a 500 Problem Detail flagged critical</li>
- * <li>Routes token-store and cache connection failures escaping a use case to a 503 Problem Detail</li>
+ * <li>Routes token-store, cache connection and database connection failures escaping a use case to a 503 Problem Detail</li>
  * <li>Routes any otherwise-unhandled exception escaping a use case to a 500 Problem Detail instead of a raw Spring error</li>
  * <p>
  * Request-body validation (MethodArgumentNotValid) failures (400) surface before any use case runs, so they are covered by the controller integration tests
@@ -405,6 +409,66 @@ class GlobalExceptionHandlerIT extends WebMvcTestContext {
 
     }
 
+    @Nested
+    class HandleDatabaseConnectionException {
+
+        @Test
+        void ReturnsStatusServiceUnavailableAndBodyWithProblemDetail_ConnectionAdmissionRefused() {
+            // Given
+            var requestBody = """
+                    {
+                    "username": "user@asapp.com",
+                    "password": "TEST@09_password?!"
+                    }
+                    """;
+            var requestBuilder = post(AUTH_TOKEN_FULL_PATH).contentType(MediaType.APPLICATION_JSON)
+                                                           .content(requestBody);
+
+            given(authenticateUseCase.authenticate(any())).willThrow(
+                    new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", new SQLTransientConnectionException("Connection admission refused")));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Service Unavailable")
+                                                                     .containsEntry("detail", "Service temporarily unavailable"));
+        }
+
+        @Test
+        void ReturnsStatusServiceUnavailableAndBodyWithProblemDetail_TransactionConnectionUnavailable() {
+            // Given
+            var requestBody = """
+                    {
+                    "username": "user@asapp.com",
+                    "password": "TEST@09_password?!"
+                    }
+                    """;
+            var requestBuilder = post(AUTH_TOKEN_FULL_PATH).contentType(MediaType.APPLICATION_JSON)
+                                                           .content(requestBody);
+
+            given(authenticateUseCase.authenticate(any())).willThrow(new CannotCreateTransactionException("Could not open JDBC Connection for transaction"));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Service Unavailable")
+                                                                     .containsEntry("detail", "Service temporarily unavailable"));
+        }
+
+    }
+
     @Nested
     class HandleRedisException {
 
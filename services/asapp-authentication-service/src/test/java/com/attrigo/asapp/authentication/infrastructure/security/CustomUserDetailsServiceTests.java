@@ -34,10 +34,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import com.attrigo.asapp.authentication.domain.user.Role;
 import com.attrigo.asapp.authentication.infrastructure.user.persistence.JdbcUserEntity;
 import com.attrigo.asapp.authentication.infrastructure.user.persistence.JdbcUserRepository;
@@ -50,6 +53,9 @@ import com.attrigo.asapp.authentication.infrastructure.user.persistence.JdbcUser
  * <li>Translates repository entity to Spring Security user details with authorities</li>
  * <li>Throws an exception when the username is not registered</li>
  * <li>Supports all role types (USER, ADMIN)</li>
+ * <li>Serves repeated lookups from the cache, including lookups of unregistered usernames</li>
+ * <li>Returns a new user details instance per lookup, unaffected by credential erasure of previous ones</li>
+ * <li>Reloads the user from the repository once evicted</li>
  */
 @ExtendWith(MockitoExtension.class)
 class CustomUserDetailsServiceTests {
@@ -57,6 +63,9 @@ class CustomUserDetailsServiceTests {
     @Mock
     private JdbcUserRepository userRepository;
 
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(new SimpleMeterRegistry(), 100, 60_000, 5_000);
+
     @InjectMocks
     private CustomUserDetailsService customUserDetailsService;
 
@@ -110,6 +119,73 @@ class CustomUserDetailsServiceTests {
                                 .findByUsername(username);
         }
 
+        @Test
+        void ReturnsCachedUserDetails_UsernameLoadedBefore() {
+            // Given
+            var userId = UUID.fromString("36f65be6-b9b7-43ef-9f89-b49a724aea0a");
+            var username = "user@asapp.com";
+            var password = "{bcrypt}password";
+            var user = new JdbcUserEntity(userId, username, password, Role.USER.name());
+
+            given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
+
+            var firstUserDetails = (CustomUserDetails) customUserDetailsService.loadUserByUsername(username);
+            firstUserDetails.eraseCredentials();
+
+            // When
+            var actual = customUserDetailsService.loadUserByUsername(username);
+
+            // Then
+            assertThat(actual).isNotSameAs(firstUserDetails);
+            assertThat(actual.getPassword()).isEqualTo(password);
+
+            then(userRepository).should(times(1))
+                                .findByUsername(username);
+        }
+
+        @Test
+        void ThrowsUsernameNotFoundException_UsernameCachedAsNotExisting() {
+            // Given
+            var username = "user@asapp.com";
+
+            given(userRepository.findByUsername(username)).willReturn(Optional.empty());
+
+            catchThrowable(() -> customUserDetailsService.loadUserByUsername(username));
+
+            // When
+            var actual = catchThrowable(() -> customUserDetailsService.loadUserByUsername(username));
+
+            // Then
+            assertThat(actual).isInstanceOf(UsernameNotFoundException.class)
+                              .hasMessage("User not exists by username: user@asapp.com");
+
+            then(userRepository).should(times(1))
+                                .findByUsername(username);
+        }
+
+        @Test
+        void ReturnsReloadedUserDetails_CachedUserEvictedByUserId() {
+            // Given
+            var userId = UUID.fromString("36f65be6-b9b7-43ef-9f89-b49a724aea0a");
+            var username = "user@asapp.com";
+            var user = new JdbcUserEntity(userId, username, "{bcrypt}password", Role.USER.name());
+            var updatedUser = new JdbcUserEntity(userId, username, "{bcrypt}newPassword", Role.USER.name());
+
+            given(userRepository.findByUsername(username)).willReturn(Optional.of(user), Optional.of(updatedUser));
+
+            customUserDetailsService.loadUserByUsername(username);
+            userDetailsCache.evictByUserId(userId);
+
+            // When
+            var actual = customUserDetailsService.loadUserByUsername(username);
+
+            // Then
+            assertThat(actual.getPassword()).isEqualTo("{bcrypt}newPassword");
+
+            then(userRepository).should(times(2))
+                                .findByUsername(username);
+        }
+
     }
 
 }
@@ -0,0 +1,317 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.security.scheduler;
+
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.DELETE_OPERATION;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.ID_FIELD;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.OPERATION_FIELD;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.OUTBOX_STREAM_KEY;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.PAYLOAD_FIELD;
+import static com.attrigo.asapp.authentication.infrastructure.authentication.out.WriteBehindJwtAuthenticationRepository.SAVE_OPERATION;
+import static com.attrigo.asapp.authentication.infrastructure.security.scheduler.JwtAuthenticationWriteBehindRelay.CONSUMER_GROUP;
+import static com.attrigo.asapp.authentication.infrastructure.security.scheduler.JwtAuthenticationWriteBehindRelay.DEAD_LETTER_STREAM_KEY;
+import static com.attrigo.asapp.authentication.infrastructure.security.scheduler.JwtAuthenticationWriteBehindRelay.FAILURE_FIELD;
+import static com.attrigo.asapp.authentication.testutil.fixture.JwtAuthenticationMother.aJwtAuthenticationBuilder;
+import static com.attrigo.asapp.authentication.testutil.fixture.UserMother.aJdbcUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationEntity;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtAuthenticationRepository;
+import com.attrigo.asapp.authentication.infrastructure.authentication.persistence.JdbcJwtEntity;
+import com.attrigo.asapp.authentication.infrastructure.user.persistence.JdbcUserEntity;
+import com.attrigo.asapp.authentication.infrastructure.user.persistence.JdbcUserRepository;
+import com.attrigo.asapp.authentication.testutil.TestContainerConfiguration;
+
+/**
+ * Tests {@link JwtAuthenticationWriteBehindRelay} draining of the write-behind outbox from Redis into the database.
+ * <p>
+ * Setup:
+ * <li>Loads the full application context backed by Testcontainers PostgreSQL and Redis instances, with write-behind enabled</li>
+ * <li>Schedules the relay far apart so each test drives it by hand, claiming abandoned entries at once and dead-lettering after 3 deliveries</li>
+ * <li>Clears the authentication, tombstone and user tables, and recreates the outbox stream and its consumer group before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Applies saved authentications and acknowledges and removes their entries</li>
+ * <li>Applies the last operation of an authentication, tombstoning deleted authentications</li>
+ * <li>Skips saves of tombstoned authentications, e.g. a stale save applied after the delete</li>
+ * <li>Claims and applies entries abandoned by a stopped consumer</li>
+ * <li>Keeps the entries of a failed batch pending for redelivery</li>
+ * <li>Dead-letters a poison entry once its deliveries are exhausted and applies the entries behind it</li>
+ * <li>Prunes tombstones whose retention elapsed</li>
+ */
+@SpringBootTest
+@Import(TestContainerConfiguration.class)
+// @formatter:off
+@TestPropertySource(properties = {
+        "asapp.security.jwt.write-behind.enabled=true",
+        "asapp.security.jwt.write-behind.poll-interval=3600000",
+        "asapp.security.jwt.write-behind.tombstone-prune-interval=3600000",
+        "asapp.security.jwt.write-behind.claim-min-idle=0",
+        "asapp.security.jwt.write-behind.max-deliveries=3" })
+// @formatter:on
+class JwtAuthenticationWriteBehindRelayIT {
+
+    @Autowired
+    private JwtAuthenticationWriteBehindRelay relay;
+
+    @Autowired
+    private JdbcJwtAuthenticationRepository jwtAuthenticationRepository;
+
+    @Autowired
+    private JdbcUserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private JdbcUserEntity user;
+
+    @BeforeEach
+    void beforeEach() {
+        jwtAuthenticationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM jwt_authentication_tombstones");
+        userRepository.deleteAll();
+
+        redisTemplate.delete(OUTBOX_STREAM_KEY);
+        redisTemplate.delete(DEAD_LETTER_STREAM_KEY);
+        streamOperations = redisTemplate.opsForStream();
+        streamOperations.createGroup(OUTBOX_STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+
+        user = userRepository.save(aJdbcUser());
+    }
+
+    @Nested
+    class Drain {
+
+        @Test
+        void AppliesAndAcknowledgesEntries_SavesEnqueued() {
+            // Given
+            var authentication1 = anAuthentication();
+            var authentication2 = anAuthentication();
+            enqueueSave(authentication1);
+            enqueueSave(authentication2);
+
+            // When
+            relay.drain();
+
+            // Then
+            assertThat(jwtAuthenticationRepository.findById(authentication1.id())).isPresent();
+            assertThat(jwtAuthenticationRepository.findById(authentication2.id())).isPresent();
+            assertOutboxDrained();
+        }
+
+        @Test
+        void DeletesAndTombstonesAuthentication_SaveThenDeleteEnqueued() {
+            // Given
+            var authentication = anAuthentication();
+            enqueueSave(authentication);
+            enqueueDelete(authentication.id());
+
+            // When
+            relay.drain();
+
+            // Then
+            assertThat(jwtAuthenticationRepository.findById(authentication.id())).isEmpty();
+            assertThat(countTombstones(authentication.id())).isEqualTo(1);
+            assertOutboxDrained();
+        }
+
+        @Test
+        void SkipsSave_AuthenticationTombstoned() {
+            // Given
+            var authentication = anAuthentication();
+            enqueueDelete(authentication.id());
+            relay.drain();
+            enqueueSave(authentication);
+
+            // When
+            relay.drain();
+
+            // Then
+            assertThat(jwtAuthenticationRepository.findById(authentication.id())).isEmpty();
+            assertOutboxDrained();
+        }
+
+        @Test
+        void ClaimsAndAppliesEntries_EntriesAbandonedByStoppedConsumer() {
+            // Given
+            var authentication = anAuthentication();
+            enqueueSave(authentication);
+            var stoppedConsumer = Consumer.from(CONSUMER_GROUP, "stopped-relay");
+            streamOperations.read(stoppedConsumer, StreamReadOptions.empty()
+                                                                   .count(10),
+                    StreamOffset.create(OUTBOX_STREAM_KEY, ReadOffset.lastConsumed()));
+
+            // When
+            relay.drain();
+
+            // Then
+            assertThat(jwtAuthenticationRepository.findById(authentication.id())).isPresent();
+            assertOutboxDrained();
+        }
+
+        @Test
+        void KeepsEntriesPending_BatchFails() {
+            // Given
+            var poisonAuthentication = aPoisonAuthentication();
+            var authentication = anAuthentication();
+            enqueueSave(poisonAuthentication);
+            enqueueSave(authentication);
+
+            // When
+            var thrown = catchThrowable(() -> relay.drain());
+
+            // Then
+            assertThat(thrown).isNotNull();
+            assertThat(jwtAuthenticationRepository.findById(authentication.id())).isEmpty();
+            assertThat(streamOperations.size(OUTBOX_STREAM_KEY)).isEqualTo(2);
+            assertThat(streamOperations.pending(OUTBOX_STREAM_KEY, CONSUMER_GROUP)
+                                       .getTotalPendingMessages()).isEqualTo(2);
+        }
+
+        @Test
+        void DeadLettersPoisonEntryAndAppliesTheRest_PoisonEntryExhaustsDeliveries() {
+            // Given
+            var poisonAuthentication = aPoisonAuthentication();
+            var authentication = anAuthentication();
+            enqueueSave(poisonAuthentication);
+            enqueueSave(authentication);
+            catchThrowable(() -> relay.drain());
+
+            // When
+            relay.drain();
+            relay.drain();
+
+            // Then
+            assertThat(jwtAuthenticationRepository.findById(poisonAuthentication.id())).isEmpty();
+            assertThat(jwtAuthenticationRepository.findById(authentication.id())).isPresent();
+            assertOutboxDrained();
+            var deadLetters = streamOperations.range(DEAD_LETTER_STREAM_KEY, Range.unbounded());
+            assertThat(deadLetters).singleElement()
+                                   .satisfies(deadLetter -> {
+                                       assertThat(deadLetter.getValue()).containsEntry(ID_FIELD, poisonAuthentication.id()
+                                                                                                                    .toString());
+                                       assertThat(deadLetter.getValue()).containsKey(FAILURE_FIELD);
+                                   });
+        }
+
+    }
+
+    @Nested
+    class PruneTombstones {
+
+        @Test
+        void DeletesOnlyExpiredTombstones_ExpiredAndActiveTombstonesExist() {
+            // Given
+            var expiredId = UUID.randomUUID();
+            var activeId = UUID.randomUUID();
+            insertTombstone(expiredId, Instant.now()
+                                              .minusSeconds(60));
+            insertTombstone(activeId, Instant.now()
+                                             .plusSeconds(3600));
+
+            // When
+            relay.pruneTombstones();
+
+            // Then
+            assertThat(countTombstones(expiredId)).isZero();
+            assertThat(countTombstones(activeId)).isEqualTo(1);
+        }
+
+    }
+
+    // Test Data Creation Helpers
+
+    private JdbcJwtAuthenticationEntity anAuthentication() {
+        var authentication = aJwtAuthenticationBuilder().withUserId(user.id())
+                                                        .buildJdbc();
+        return new JdbcJwtAuthenticationEntity(UUID.randomUUID(), authentication.userId(), authentication.accessToken(), authentication.refreshToken());
+    }
+
+    private JdbcJwtAuthenticationEntity aPoisonAuthentication() {
+        var authentication = anAuthentication();
+        var accessToken = authentication.accessToken();
+        var oversizedAccessToken = new JdbcJwtEntity("x".repeat(2001), accessToken.type(), accessToken.subject(), accessToken.claims(), accessToken.issued(),
+                accessToken.expiration());
+        return new JdbcJwtAuthenticationEntity(authentication.id(), authentication.userId(), oversizedAccessToken, authentication.refreshToken());
+    }
+
+    private void enqueueSave(JdbcJwtAuthenticationEntity authentication) {
+        enqueue(SAVE_OPERATION, authentication.id(), objectMapper.writeValueAsString(authentication));
+    }
+
+    private void enqueueDelete(UUID authenticationId) {
+        enqueue(DELETE_OPERATION, authenticationId, "");
+    }
+
+    private void enqueue(String operation, UUID authenticationId, String payload) {
+        var entry = new LinkedHashMap<Object, Object>();
+        entry.put(OPERATION_FIELD, operation);
+        entry.put(ID_FIELD, authenticationId.toString());
+        entry.put(PAYLOAD_FIELD, payload);
+        streamOperations.add(StreamRecords.newRecord()
+                                          .in(OUTBOX_STREAM_KEY)
+                                          .ofMap(entry));
+    }
+
+    private void insertTombstone(UUID authenticationId, Instant expiresAt) {
+        jdbcTemplate.update("INSERT INTO jwt_authentication_tombstones (id, expires_at) VALUES (?, ?)", authenticationId, Timestamp.from(expiresAt));
+    }
+
+    private Integer countTombstones(UUID authenticationId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM jwt_authentication_tombstones WHERE id = ?", Integer.class, authenticationId);
+    }
+
+    private void assertOutboxDrained() {
+        assertThat(streamOperations.size(OUTBOX_STREAM_KEY)).isZero();
+        assertThat(streamOperations.pending(OUTBOX_STREAM_KEY, CONSUMER_GROUP)
+                                   .getTotalPendingMessages()).isZero();
+    }
+
+}
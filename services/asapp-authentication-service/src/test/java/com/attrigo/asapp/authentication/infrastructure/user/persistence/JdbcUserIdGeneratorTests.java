@@ -0,0 +1,73 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.authentication.infrastructure.user.persistence;
+
+import static com.attrigo.asapp.authentication.testutil.fixture.UserMother.aJdbcUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link JdbcUserIdGenerator} identifier assignment before conversion.
+ * <p>
+ * Coverage:
+ * <li>Assigns a time-ordered identifier to users without one, keeping the remaining columns</li>
+ * <li>Keeps the identifier of users that already have one</li>
+ */
+class JdbcUserIdGeneratorTests {
+
+    private final JdbcUserIdGenerator jdbcUserIdGenerator = new JdbcUserIdGenerator();
+
+    @Nested
+    class OnBeforeConvert {
+
+        @Test
+        void AssignsTimeOrderedId_UserWithoutId() {
+            // Given
+            var user = aJdbcUser();
+
+            // When
+            var actual = jdbcUserIdGenerator.onBeforeConvert(user);
+
+            // Then
+            assertThat(actual.id()).isNotNull();
+            assertThat(actual.id()
+                             .version()).isEqualTo(7);
+            assertThat(actual).usingRecursiveComparison()
+                              .ignoringFields("id")
+                              .isEqualTo(user);
+        }
+
+        @Test
+        void KeepsId_UserWithId() {
+            // Given
+            var user = aJdbcUser();
+            var userWithId = new JdbcUserEntity(UUID.randomUUID(), user.username(), user.password(), user.role());
+
+            // When
+            var actual = jdbcUserIdGenerator.onBeforeConvert(userWithId);
+
+            // Then
+            assertThat(actual).isSameAs(userWithId);
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main application entry point for the ASAPP reactive tasks Service.
+ * <p>
+ * Initializes and launches the Spring Boot application context on WebFlux and R2DBC, serving the core task operations of the tasks service without blocking
+ * threads.
+ *
+ * @since 0.5.0
+ * @see SpringApplication
+ * @see SpringBootApplication
+ * @author attrigo
+ */
+@SpringBootApplication
+public class AsappTasksReactiveServiceApplication {
+
+    /**
+     * Starts the Spring Boot application.
+     *
+     * @param args command line arguments passed to the application
+     */
+    static void main(String[] args) {
+        SpringApplication.run(AsappTasksReactiveServiceApplication.class, args);
+    }
+
+}
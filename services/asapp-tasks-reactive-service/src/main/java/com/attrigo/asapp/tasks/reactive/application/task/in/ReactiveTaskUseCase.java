@@ -0,0 +1,81 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.application.task.in;
+
+import java.util.UUID;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
+import com.attrigo.asapp.tasks.domain.task.Task;
+
+/**
+ * Use case for the core task operations served without blocking.
+ * <p>
+ * Defines the non-blocking contract of the read, create, update and delete use cases of the tasks service, reusing their commands and domain model.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface ReactiveTaskUseCase {
+
+    /**
+     * Gets a task by its unique identifier.
+     *
+     * @param id the task's unique identifier
+     * @return a {@link Mono} emitting the {@link Task} if found, empty otherwise
+     */
+    Mono<Task> getTaskById(UUID id);
+
+    /**
+     * Gets all tasks belonging to a user.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link Flux} emitting the user's tasks
+     */
+    Flux<Task> getTasksByUserId(UUID userId);
+
+    /**
+     * Creates a new task.
+     *
+     * @param command the task creation command
+     * @return a {@link Mono} emitting the created {@link Task}, or signalling an {@code IllegalArgumentException} if the command is invalid or an
+     *         {@code UnknownUserException} if the user does not exist
+     */
+    Mono<Task> createTask(CreateTaskCommand command);
+
+    /**
+     * Updates an existing task by its unique identifier.
+     *
+     * @param command the task update command
+     * @return a {@link Mono} emitting the updated {@link Task}, empty if the task does not exist, or signalling an {@code IllegalArgumentException} if the
+     *         command is invalid, an {@code UnknownUserException} if the user does not exist or a {@code TaskVersionMismatchException} if the task has
+     *         another version than expected
+     */
+    Mono<Task> updateTaskById(UpdateTaskCommand command);
+
+    /**
+     * Deletes an existing task by its unique identifier.
+     *
+     * @param id the task's unique identifier
+     * @return a {@link Mono} emitting {@code true} if the task was deleted, {@code false} if not found
+     */
+    Mono<Boolean> deleteTaskById(UUID id);
+
+}
@@ -0,0 +1,167 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.application.task.in.service;
+
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
+import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskFactory;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.reactive.application.ApplicationService;
+import com.attrigo.asapp.tasks.reactive.application.task.in.ReactiveTaskUseCase;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveKnownUserRepository;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveTaskEventPublisher;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveTaskRepository;
+
+/**
+ * Application service responsible for orchestrating the core task operations without blocking.
+ * <p>
+ * Follows the same workflows as the blocking application services of the tasks service, composing the repository calls into a single pipeline per operation
+ * instead of running them on the calling thread.
+ * <p>
+ * Each change runs in an R2DBC transaction together with the outbox event announcing it, as the blocking services do within their JDBC transactions.
+ * <p>
+ * Domain validation runs lazily, so an invalid command is signalled as an error of the returned publisher rather than thrown.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@ApplicationService
+public class ReactiveTaskService implements ReactiveTaskUseCase {
+
+    private final ReactiveTaskRepository taskRepository;
+
+    private final ReactiveKnownUserRepository knownUserRepository;
+
+    private final ReactiveTaskEventPublisher taskEventPublisher;
+
+    /**
+     * Constructs a new {@code ReactiveTaskService} with required dependencies.
+     *
+     * @param taskRepository      the non-blocking repository for task data access
+     * @param knownUserRepository the non-blocking repository of the existing users
+     * @param taskEventPublisher  the non-blocking publisher of task events
+     */
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository, ReactiveKnownUserRepository knownUserRepository,
+            ReactiveTaskEventPublisher taskEventPublisher) {
+        this.taskRepository = taskRepository;
+        this.knownUserRepository = knownUserRepository;
+        this.taskEventPublisher = taskEventPublisher;
+    }
+
+    @Override
+    public Mono<Task> getTaskById(UUID id) {
+        return Mono.defer(() -> taskRepository.findById(TaskId.of(id)));
+    }
+
+    @Override
+    public Flux<Task> getTasksByUserId(UUID userId) {
+        return Flux.defer(() -> taskRepository.findByUserId(UserId.of(userId)));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Task> createTask(CreateTaskCommand command) {
+        return Mono.defer(() -> {
+            var task = TaskFactory.create(command.userId(), command.title(), command.description(), command.startDate(), command.endDate());
+
+            return validateUserExists(task.getUserId()).then(Mono.defer(() -> taskRepository.save(task)))
+                                                       .flatMap(createdTask -> taskEventPublisher.publishTaskCreated(createdTask)
+                                                                                                 .thenReturn(createdTask));
+        });
+    }
+
+    @Override
+    @Transactional
+    public Mono<Task> updateTaskById(UpdateTaskCommand command) {
+        return Mono.defer(() -> {
+            var taskId = TaskId.of(command.taskId());
+            var newUserId = UserId.of(command.userId());
+            var newTitle = Title.of(command.title());
+            var newDescription = Description.ofNullable(command.description());
+            var newStartDate = StartDate.ofNullable(command.startDate());
+            var newEndDate = EndDate.ofNullable(command.endDate());
+
+            var updatedTask = Mono.defer(
+                    () -> taskRepository.updateById(taskId, newUserId, newTitle, newDescription, newStartDate, newEndDate, command.expectedVersion()));
+
+            return validateUserExists(newUserId).then(updatedTask)
+                                                .flatMap(task -> taskEventPublisher.publishTaskUpdated(task)
+                                                                                   .thenReturn(task))
+                                                .switchIfEmpty(Mono.defer(() -> rejectVersionMismatch(taskId, command.expectedVersion())));
+        });
+    }
+
+    @Override
+    @Transactional
+    public Mono<Boolean> deleteTaskById(UUID id) {
+        return Mono.defer(() -> {
+            var taskId = TaskId.of(id);
+
+            return taskRepository.deleteById(taskId)
+                                 .flatMap(deleted -> deleted ? taskEventPublisher.publishTaskDeleted(taskId)
+                                                                                 .thenReturn(true) : Mono.just(false));
+        });
+    }
+
+    /**
+     * Validates that a user is known.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link Mono} completing empty if the user exists, or signalling an {@link UnknownUserException} otherwise
+     */
+    private Mono<Void> validateUserExists(UserId userId) {
+        return knownUserRepository.existsById(userId)
+                                  .filter(Boolean::booleanValue)
+                                  .switchIfEmpty(Mono.error(() -> new UnknownUserException("User %s does not exist".formatted(userId.value()))))
+                                  .then();
+    }
+
+    /**
+     * Explains why a conditional update matched no task.
+     * <p>
+     * An unconditional update, or one whose task no longer exists, completes empty so the caller reports the task as not found.
+     *
+     * @param taskId          the task's unique identifier
+     * @param expectedVersion the version the task was expected to have, may be {@code null}
+     * @return a {@link Mono} completing empty, or signalling a {@link TaskVersionMismatchException} if the task exists with another version
+     */
+    private Mono<Task> rejectVersionMismatch(TaskId taskId, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.empty();
+        }
+
+        return taskRepository.findById(taskId)
+                             .flatMap(task -> Mono.error(new TaskVersionMismatchException(
+                                     "Task %s has version %d but version %d was expected".formatted(taskId.value(), task.getVersion(), expectedVersion))));
+    }
+
+}
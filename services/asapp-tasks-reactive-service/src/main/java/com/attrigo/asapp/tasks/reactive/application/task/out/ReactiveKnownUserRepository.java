@@ -0,0 +1,39 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.application.task.out;
+
+import reactor.core.publisher.Mono;
+
+import com.attrigo.asapp.tasks.domain.task.UserId;
+
+/**
+ * Non-blocking counterpart of the {@code KnownUserRepository} port.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface ReactiveKnownUserRepository {
+
+    /**
+     * Checks whether a user exists.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link Mono} emitting {@code true} if the user exists, {@code false} otherwise
+     */
+    Mono<Boolean> existsById(UserId userId);
+
+}
@@ -0,0 +1,86 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.application.task.out;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+
+/**
+ * Non-blocking counterpart of the {@code TaskRepository} port.
+ * <p>
+ * Defines the same task persistence operations, emitting results asynchronously instead of returning them to the calling thread.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface ReactiveTaskRepository {
+
+    /**
+     * Finds a task by its unique identifier.
+     *
+     * @param taskId the task's unique identifier
+     * @return a {@link Mono} emitting the {@link Task} if found, empty otherwise
+     */
+    Mono<Task> findById(TaskId taskId);
+
+    /**
+     * Finds all tasks belonging to a user.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link Flux} emitting the user's tasks
+     */
+    Flux<Task> findByUserId(UserId userId);
+
+    /**
+     * Saves a new task.
+     *
+     * @param task the task to save
+     * @return a {@link Mono} emitting the saved {@link Task} with its generated identifier
+     */
+    Mono<Task> save(Task task);
+
+    /**
+     * Updates an existing task by its unique identifier.
+     *
+     * @param taskId          the task's unique identifier
+     * @param userId          the new user's unique identifier
+     * @param title           the new title
+     * @param description     the new description
+     * @param startDate       the new start date
+     * @param endDate         the new end date
+     * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+     * @return a {@link Mono} emitting the updated {@link Task}, empty if no task matched
+     */
+    Mono<Task> updateById(TaskId taskId, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate, Long expectedVersion);
+
+    /**
+     * Deletes a task by its unique identifier.
+     *
+     * @param taskId the task's unique identifier
+     * @return a {@link Mono} emitting {@code true} if the task was deleted, {@code false} if it did not exist
+     */
+    Mono<Boolean> deleteById(TaskId taskId);
+
+}
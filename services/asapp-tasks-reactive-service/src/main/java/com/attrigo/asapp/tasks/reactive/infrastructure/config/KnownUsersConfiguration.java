@@ -0,0 +1,49 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.out.ReactiveKnownUserRepositoryAdapter;
+
+/**
+ * Configuration class for the lookup of the known users.
+ * <p>
+ * Reads the replica of the users maintained by the blocking tasks service, which stays in charge of keeping it up to date.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class KnownUsersConfiguration {
+
+    /**
+     * Creates the non-blocking repository of the known users.
+     *
+     * @param databaseClient the non-blocking database client
+     * @param enforced       whether users missing from the replica are rejected, as configured for the blocking tasks service
+     * @return the {@link ReactiveKnownUserRepositoryAdapter}
+     */
+    @Bean
+    ReactiveKnownUserRepositoryAdapter knownUserRepository(DatabaseClient databaseClient, @Value("${asapp.known-users.enforce:false}") boolean enforced) {
+        return new ReactiveKnownUserRepositoryAdapter(databaseClient, enforced);
+    }
+
+}
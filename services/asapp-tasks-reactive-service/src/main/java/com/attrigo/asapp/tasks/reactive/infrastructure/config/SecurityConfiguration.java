@@ -0,0 +1,84 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.attrigo.asapp.tasks.reactive.infrastructure.security.JwtDecoder;
+import com.attrigo.asapp.tasks.reactive.infrastructure.security.ReactiveJwtVerifier;
+import com.attrigo.asapp.tasks.reactive.infrastructure.security.web.JwtAuthenticationEntryPoint;
+import com.attrigo.asapp.tasks.reactive.infrastructure.security.web.JwtAuthenticationWebFilter;
+
+/**
+ * Security configuration for the reactive variant.
+ * <p>
+ * Applies the API rules of the blocking tasks service to a WebFlux filter chain: every request requires a valid access token except the health probes.
+ * <p>
+ * The token decoding is reused from the blocking tasks service, while the session lookup goes through the non-blocking {@link ReactiveJwtVerifier}.
+ *
+ * @since 0.5.0
+ * @see EnableWebFluxSecurity
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableWebFluxSecurity
+@Import({ JwtCryptoConfiguration.class, JwtDecoder.class })
+public class SecurityConfiguration {
+
+    /**
+     * Paths reachable without authentication.
+     */
+    static final String[] WHITELIST_URLS = { "/readyz", "/livez", "/actuator/health/**" };
+
+    /**
+     * Configures the security filter chain.
+     * <p>
+     * Requests are stateless: the security context is never stored, every request authenticates through its own Bearer token.
+     *
+     * @param http                        the {@link ServerHttpSecurity} to configure
+     * @param jwtVerifier                 the non-blocking verifier of access tokens
+     * @param jwtAuthenticationEntryPoint the entry point answering unauthenticated requests
+     * @return the configured {@link SecurityWebFilterChain}
+     */
+    @Bean
+    SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, ReactiveJwtVerifier jwtVerifier,
+            JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+
+        http.csrf(ServerHttpSecurity.CsrfSpec::disable);
+        http.httpBasic(ServerHttpSecurity.HttpBasicSpec::disable);
+        http.formLogin(ServerHttpSecurity.FormLoginSpec::disable);
+        http.securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        http.authorizeExchange(exchange -> {
+            exchange.pathMatchers(WHITELIST_URLS)
+                    .permitAll();
+            exchange.anyExchange()
+                    .authenticated();
+        });
+        http.addFilterAt(new JwtAuthenticationWebFilter(jwtVerifier), SecurityWebFiltersOrder.AUTHENTICATION);
+        http.exceptionHandling(exception -> exception.authenticationEntryPoint(jwtAuthenticationEntryPoint));
+
+        return http.build();
+    }
+
+}
@@ -0,0 +1,205 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.error;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
+
+/**
+ * Global exception handler for the reactive REST controllers.
+ * <p>
+ * Maps the failures the reactive variant can raise to the same RFC 7807 {@link ProblemDetail} responses, status codes and generic messages as the blocking
+ * tasks service, so clients cannot tell both variants apart by their errors.
+ * <p>
+ * Request validation failures are mapped by the {@link ResponseEntityExceptionHandler} superclass, without the per-field breakdown of the blocking service.
+ *
+ * @since 0.5.0
+ * @see RestControllerAdvice
+ * @see ResponseEntityExceptionHandler
+ * @author attrigo
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    static final String INVALID_ARGUMENT_TITLE = "Invalid Argument";
+
+    static final String CONFLICT_TITLE = "Conflict";
+
+    static final String PRECONDITION_FAILED_TITLE = "Precondition Failed";
+
+    static final String UNPROCESSABLE_CONTENT_TITLE = "Unprocessable Content";
+
+    static final String INTERNAL_SERVER_ERROR_TITLE = "Internal Server Error";
+
+    static final String SERVICE_UNAVAILABLE_TITLE = "Service Unavailable";
+
+    static final String INVALID_ARGUMENT_DETAIL = "Invalid argument provided";
+
+    static final String CONCURRENT_MODIFICATION_DETAIL = "The resource was modified concurrently";
+
+    static final String PRECONDITION_FAILED_DETAIL = "The resource does not match the requested version";
+
+    static final String UNKNOWN_USER_DETAIL = "The referenced user does not exist";
+
+    static final String INTERNAL_ERROR_DETAIL = "An internal error occurred";
+
+    static final String SERVICE_UNAVAILABLE_DETAIL = "Service temporarily unavailable";
+
+    static final String CRITICAL_PROPERTY = "critical";
+
+    /**
+     * Handles illegal argument exceptions.
+     * <p>
+     * Returns HTTP 400 Bad Request with a fixed error message (never the raw exception message).
+     *
+     * @param ex the {@link IllegalArgumentException}
+     * @return a {@link ResponseEntity} containing the error details
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    protected ResponseEntity<ProblemDetail> handleIllegalArgumentException(IllegalArgumentException ex) {
+        logger.warn("Invalid argument: {}", ex.getMessage());
+        return problem(HttpStatus.BAD_REQUEST, INVALID_ARGUMENT_TITLE, INVALID_ARGUMENT_DETAIL);
+    }
+
+    /**
+     * Handles optimistic locking failures.
+     * <p>
+     * Returns HTTP 409 Conflict so the client can re-read the resource and retry.
+     *
+     * @param ex the {@link OptimisticLockingFailureException}
+     * @return a {@link ResponseEntity} with status 409 and generic error message
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+        return problem(HttpStatus.CONFLICT, CONFLICT_TITLE, CONCURRENT_MODIFICATION_DETAIL);
+    }
+
+    /**
+     * Handles task version mismatches.
+     * <p>
+     * Returns HTTP 412 Precondition Failed so the client can re-read the task before retrying.
+     *
+     * @param ex the {@link TaskVersionMismatchException}
+     * @return a {@link ResponseEntity} with status 412 and generic error message
+     */
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    protected ResponseEntity<ProblemDetail> handleTaskVersionMismatchException(TaskVersionMismatchException ex) {
+        logger.warn("Precondition failed: {}", ex.getMessage());
+        return problem(HttpStatus.PRECONDITION_FAILED, PRECONDITION_FAILED_TITLE, PRECONDITION_FAILED_DETAIL);
+    }
+
+    /**
+     * Handles references to users that do not exist.
+     * <p>
+     * Returns HTTP 422 Unprocessable Content: the request is well-formed but its user cannot own a task.
+     *
+     * @param ex the {@link UnknownUserException}
+     * @return a {@link ResponseEntity} with status 422 and generic error message
+     */
+    @ExceptionHandler(UnknownUserException.class)
+    protected ResponseEntity<ProblemDetail> handleUnknownUserException(UnknownUserException ex) {
+        logger.warn("Unknown user: {}", ex.getMessage());
+        return problem(HttpStatus.UNPROCESSABLE_CONTENT, UNPROCESSABLE_CONTENT_TITLE, UNKNOWN_USER_DETAIL);
+    }
+
+    /**
+     * Handles database access failures.
+     * <p>
+     * Returns HTTP 500 Internal Server Error with a generic message and a critical flag for monitoring alerts.
+     *
+     * @param ex the {@link DataAccessException}
+     * @return a {@link ResponseEntity} with status 500 and generic error message
+     */
+    @ExceptionHandler(DataAccessException.class)
+    protected ResponseEntity<ProblemDetail> handleDataAccessException(DataAccessException ex) {
+        logger.error("Database operation failed: {}", ex.getMessage(), ex);
+        return criticalProblem();
+    }
+
+    /**
+     * Handles Redis connection failures.
+     * <p>
+     * Returns HTTP 503 Service Unavailable with a generic message to avoid exposing Redis infrastructure details.
+     *
+     * @param ex the {@link RedisConnectionFailureException}
+     * @return a {@link ResponseEntity} with status 503 and generic error message
+     */
+    @ExceptionHandler(RedisConnectionFailureException.class)
+    protected ResponseEntity<ProblemDetail> handleRedisException(RedisConnectionFailureException ex) {
+        logger.error("Redis operation failed: {}", ex.getMessage(), ex);
+        return problem(HttpStatus.SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE_TITLE, SERVICE_UNAVAILABLE_DETAIL);
+    }
+
+    /**
+     * Handles any otherwise-unhandled exception as a last resort.
+     * <p>
+     * Returns HTTP 500 Internal Server Error with a generic message and a critical flag for monitoring alerts.
+     *
+     * @param ex the unhandled {@link Exception}
+     * @return a {@link ResponseEntity} with status 500 and generic error message
+     */
+    @ExceptionHandler(Exception.class)
+    protected ResponseEntity<ProblemDetail> handleUnexpectedException(Exception ex) {
+        logger.error("Unexpected error: {}", ex.getMessage(), ex);
+        return criticalProblem();
+    }
+
+    /**
+     * Builds a problem detail response.
+     *
+     * @param status the response status
+     * @param title  the problem title
+     * @param detail the problem detail
+     * @return a {@link ResponseEntity} wrapping the {@link ProblemDetail}
+     */
+    private static ResponseEntity<ProblemDetail> problem(HttpStatus status, String title, String detail) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle(title);
+
+        return ResponseEntity.status(status)
+                             .body(problemDetail);
+    }
+
+    /**
+     * Builds the problem detail response of an internal failure.
+     *
+     * @return a {@link ResponseEntity} with status 500 wrapping a {@link ProblemDetail} flagged as critical
+     */
+    private static ResponseEntity<ProblemDetail> criticalProblem() {
+        var response = problem(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR_TITLE, INTERNAL_ERROR_DETAIL);
+        response.getBody()
+                .setProperty(CRITICAL_PROPERTY, true);
+
+        return response;
+    }
+
+}
@@ -0,0 +1,43 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.security;
+
+/**
+ * JWT type header values used in ASAPP authentication tokens.
+ * <p>
+ * Defines the token type values that appear in the JWT header "typ" field.
+ * <p>
+ * These types distinguish between access tokens and refresh tokens in the ASAPP authentication system.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public final class JwtTypeNames {
+
+    /**
+     * Access token type for authorizing API requests. Used in the JWT header "typ" field.
+     */
+    public static final String ACCESS_TOKEN_TYPE = "at+jwt";
+
+    /**
+     * Refresh token type for obtaining new access tokens. Used in the JWT header "typ" field.
+     */
+    public static final String REFRESH_TOKEN_TYPE = "rt+jwt";
+
+    private JwtTypeNames() {}
+
+}
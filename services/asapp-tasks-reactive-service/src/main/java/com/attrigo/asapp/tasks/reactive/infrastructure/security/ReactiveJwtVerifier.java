@@ -0,0 +1,104 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+
+/**
+ * Non-blocking verifier of access tokens.
+ * <p>
+ * Runs the same pipeline as the blocking {@code JwtVerifier}: decodes the token, checks it is an access token and checks its session is still active in the
+ * {@link ReactiveRedisJwtStore}. Only the session lookup performs I/O, so it is the only step composed asynchronously.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class ReactiveJwtVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveJwtVerifier.class);
+
+    private final JwtDecoder jwtDecoder;
+
+    private final ReactiveRedisJwtStore redisJwtStore;
+
+    /**
+     * Constructs a new {@code ReactiveJwtVerifier} with required dependencies.
+     *
+     * @param jwtDecoder    the decoder for parsing and validating JWTs
+     * @param redisJwtStore the non-blocking store for checking token presence
+     */
+    public ReactiveJwtVerifier(JwtDecoder jwtDecoder, ReactiveRedisJwtStore redisJwtStore) {
+        this.jwtDecoder = jwtDecoder;
+        this.redisJwtStore = redisJwtStore;
+    }
+
+    /**
+     * Verifies an access token.
+     *
+     * @param accessToken the access token to verify
+     * @return a {@link Mono} emitting the {@link DecodedJwt} if valid, or signalling an {@link UnexpectedJwtTypeException} if it is not an access token, an
+     *         {@link AuthenticationNotFoundException} if its session is not active, or an {@link InvalidJwtException} if it cannot be verified
+     */
+    public Mono<DecodedJwt> verifyAccessToken(String accessToken) {
+        logger.debug("[JWT_VERIFIER] Verifying access token");
+
+        return Mono.fromCallable(() -> decodeAccessToken(accessToken))
+                   .flatMap(decodedJwt -> checkAccessTokenInActiveStore(accessToken).thenReturn(decodedJwt))
+                   .onErrorMap(e -> !(e instanceof UnexpectedJwtTypeException || e instanceof AuthenticationNotFoundException),
+                           e -> new InvalidJwtException("Access token is not valid", e));
+    }
+
+    /**
+     * Decodes the token and verifies it is an access token.
+     *
+     * @param accessToken the access token
+     * @return the {@link DecodedJwt}
+     * @throws UnexpectedJwtTypeException if the token is not an access token
+     */
+    private DecodedJwt decodeAccessToken(String accessToken) {
+        logger.trace("[JWT_VERIFIER] Step 1/3: Decoding and validating token");
+        var decodedJwt = jwtDecoder.decode(accessToken);
+
+        logger.trace("[JWT_VERIFIER] Step 2/3: Verifying token type is ACCESS");
+        if (!decodedJwt.isAccessToken()) {
+            throw new UnexpectedJwtTypeException("JWT is not an access token");
+        }
+
+        return decodedJwt;
+    }
+
+    /**
+     * Checks the access token session is active.
+     *
+     * @param accessToken the access token
+     * @return a {@link Mono} completing empty if the session is active, or signalling an {@link AuthenticationNotFoundException} otherwise
+     */
+    private Mono<Void> checkAccessTokenInActiveStore(String accessToken) {
+        logger.trace("[JWT_VERIFIER] Step 3/3: Checking access token exists in store");
+        return redisJwtStore.accessTokenExists(accessToken)
+                            .filter(Boolean::booleanValue)
+                            .switchIfEmpty(Mono.error(() -> new AuthenticationNotFoundException("Authentication session not found in store for access token")))
+                            .then();
+    }
+
+}
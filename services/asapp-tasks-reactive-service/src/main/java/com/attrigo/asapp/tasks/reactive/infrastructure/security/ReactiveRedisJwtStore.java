@@ -0,0 +1,71 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking store for checking JWT presence in Redis.
+ * <p>
+ * Looks up the same keys as the blocking {@code RedisJwtStore} through the reactive Lettuce driver, so checking a token does not hold a thread while Redis
+ * answers.
+ *
+ * @since 0.5.0
+ * @see ReactiveStringRedisTemplate
+ * @author attrigo
+ */
+@Component
+public class ReactiveRedisJwtStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRedisJwtStore.class);
+
+    /**
+     * Redis key prefix for access tokens.
+     * <p>
+     * Matches the prefix the authentication service stores access tokens under.
+     */
+    public static final String ACCESS_TOKEN_PREFIX = "jwt:access_token:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    /**
+     * Constructs a new {@code ReactiveRedisJwtStore} with required dependencies.
+     *
+     * @param redisTemplate the reactive Redis template for string operations
+     */
+    public ReactiveRedisJwtStore(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Checks if an access token exists in Redis.
+     *
+     * @param accessToken the access token to check
+     * @return a {@link Mono} emitting {@code true} if the token exists, {@code false} otherwise
+     */
+    public Mono<Boolean> accessTokenExists(String accessToken) {
+        logger.trace("[JWT_STORE] Checking if access token exists in Redis");
+        var key = ACCESS_TOKEN_PREFIX + accessToken;
+        return redisTemplate.hasKey(key);
+    }
+
+}
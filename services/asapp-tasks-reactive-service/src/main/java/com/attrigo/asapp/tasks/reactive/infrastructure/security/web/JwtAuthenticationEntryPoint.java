@@ -0,0 +1,119 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.security.web;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Reactive authentication entry point for handling JWT authentication failures.
+ * <p>
+ * Answers unauthenticated requests with the same RFC 7807 {@link ProblemDetail} and {@code WWW-Authenticate} challenge as the blocking tasks service.
+ *
+ * @since 0.5.0
+ * @see ServerAuthenticationEntryPoint
+ * @author attrigo
+ */
+@Component
+public class JwtAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationEntryPoint.class);
+
+    static final String AUTHENTICATION_FAILED_TITLE = "Authentication Failed";
+
+    static final String INVALID_CREDENTIALS_DETAIL = "Invalid credentials";
+
+    static final String INVALID_TOKEN_ERROR = "invalid_token";
+
+    static final String ERROR_PROPERTY = "error";
+
+    static final String BEARER_CHALLENGE = "Bearer";
+
+    static final String BEARER_CHALLENGE_INVALID_TOKEN = "Bearer error=\"invalid_token\"";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code JwtAuthenticationEntryPoint} with required dependencies.
+     *
+     * @param objectMapper the mapper used to serialize the problem detail
+     */
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes a 401 Unauthorized problem detail response.
+     * <p>
+     * The challenge reports an invalid token when the request carried a Bearer token.
+     *
+     * @param exchange      the current server exchange
+     * @param authException the authentication exception that triggered the entry point
+     * @return a {@link Mono} completing when the response has been written
+     */
+    @Override
+    public @NonNull Mono<Void> commence(@NonNull ServerWebExchange exchange, @NonNull AuthenticationException authException) {
+        var request = exchange.getRequest();
+        logger.warn("Unauthorized request to {} {}: {}", request.getMethod(), request.getPath(), authException.getMessage());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, INVALID_CREDENTIALS_DETAIL);
+        problemDetail.setTitle(AUTHENTICATION_FAILED_TITLE);
+
+        String authenticateChallenge = BEARER_CHALLENGE;
+        if (isBearerTokenPresent(exchange)) {
+            problemDetail.setProperty(ERROR_PROPERTY, INVALID_TOKEN_ERROR);
+            authenticateChallenge = BEARER_CHALLENGE_INVALID_TOKEN;
+        }
+
+        var response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders()
+                .set(HttpHeaders.WWW_AUTHENTICATE, authenticateChallenge);
+        response.getHeaders()
+                .setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+
+        var body = response.bufferFactory()
+                           .wrap(objectMapper.writeValueAsBytes(problemDetail));
+        return response.writeWith(Mono.just(body));
+    }
+
+    /**
+     * Checks whether the request carried a Bearer token.
+     *
+     * @param exchange the current server exchange
+     * @return {@code true} if the Authorization header holds a Bearer token, {@code false} otherwise
+     */
+    private boolean isBearerTokenPresent(ServerWebExchange exchange) {
+        var authorizationHeader = exchange.getRequest()
+                                          .getHeaders()
+                                          .getFirst(HttpHeaders.AUTHORIZATION);
+        return authorizationHeader != null && authorizationHeader.startsWith("Bearer ");
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.security.web;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import com.attrigo.asapp.tasks.reactive.infrastructure.security.JwtAuthenticationToken;
+import com.attrigo.asapp.tasks.reactive.infrastructure.security.ReactiveJwtVerifier;
+
+/**
+ * Web filter for JWT-based authentication of reactive requests.
+ * <p>
+ * Extracts the Bearer token from the Authorization header, verifies it through the {@link ReactiveJwtVerifier} and, when valid, exposes a
+ * {@link JwtAuthenticationToken} to the rest of the chain through the reactive security context.
+ * <p>
+ * If no token is present or validation fails, the request continues without authentication, leaving the authorization rules to reject it. Failures of the
+ * rest of the chain are not handled here, so a request is never processed twice.
+ * <p>
+ * Not declared as a bean, since WebFlux would then apply it to every request outside the security filter chain as well.
+ *
+ * @since 0.5.0
+ * @see ReactiveSecurityContextHolder
+ * @author attrigo
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ReactiveJwtVerifier jwtVerifier;
+
+    /**
+     * Constructs a new {@code JwtAuthenticationWebFilter} with required dependencies.
+     *
+     * @param jwtVerifier the non-blocking verifier of access tokens
+     */
+    public JwtAuthenticationWebFilter(ReactiveJwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
+    }
+
+    /**
+     * Performs JWT authentication for each request.
+     *
+     * @param exchange the current server exchange
+     * @param chain    the filter chain
+     * @return a {@link Mono} completing when the request has been handled
+     */
+    @Override
+    public @NonNull Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        var authorizationHeader = exchange.getRequest()
+                                          .getHeaders()
+                                          .getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            logger.debug("[JWT_FILTER] No Bearer token present, continuing as anonymous request");
+            return chain.filter(exchange);
+        }
+
+        var bearerToken = authorizationHeader.substring(BEARER_PREFIX.length());
+        return jwtVerifier.verifyAccessToken(bearerToken)
+                          .map(JwtAuthenticationToken::authenticated)
+                          .doOnNext(authentication -> logger.debug("[JWT_FILTER] Authentication successful for user: {}", authentication.getName()))
+                          .doOnError(e -> logger.warn("[JWT_FILTER] Authentication failed - reason={}", e.getMessage()))
+                          .onErrorComplete()
+                          .map(ReactiveSecurityContextHolder::withAuthentication)
+                          .defaultIfEmpty(Context.empty())
+                          .flatMap(securityContext -> chain.filter(exchange)
+                                                           .contextWrite(securityContext));
+    }
+
+}
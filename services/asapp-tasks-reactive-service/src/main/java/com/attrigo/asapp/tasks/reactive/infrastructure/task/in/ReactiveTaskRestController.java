@@ -0,0 +1,217 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.in;
+
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CREATE_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_DELETE_BY_ID_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_ID_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_USER_ID_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_ROOT_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_UPDATE_BY_ID_PATH;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.reactive.application.task.in.ReactiveTaskUseCase;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.in.request.CreateTaskRequest;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.in.request.UpdateTaskRequest;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.in.response.CreateTaskResponse;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.in.response.GetTaskByIdResponse;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.in.response.GetTasksByUserIdResponse;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.in.response.UpdateTaskResponse;
+
+/**
+ * Reactive REST controller serving the core operations of the {@code TaskApi} contract.
+ * <p>
+ * Exposes the same paths, request and response bodies and status codes as the blocking tasks service for reading, creating, updating and deleting tasks,
+ * so the same clients and load plans can target either variant.
+ * <p>
+ * Responses carry the task's version as their {@code ETag}, but conditional requests are not evaluated: {@code If-None-Match} and {@code If-Match} are
+ * ignored.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@RestController
+@RequestMapping(TASKS_ROOT_PATH)
+public class ReactiveTaskRestController {
+
+    private final ReactiveTaskUseCase taskUseCase;
+
+    /**
+     * Constructs a new {@code ReactiveTaskRestController} with required dependencies.
+     *
+     * @param taskUseCase the use case for the core task operations
+     */
+    public ReactiveTaskRestController(ReactiveTaskUseCase taskUseCase) {
+        this.taskUseCase = taskUseCase;
+    }
+
+    /**
+     * Gets a task by its unique identifier.
+     *
+     * @param id the task's unique identifier
+     * @return a {@link Mono} emitting a {@link ResponseEntity} wrapping the {@link GetTaskByIdResponse} if found, or a 404 Not Found otherwise
+     */
+    @GetMapping(value = TASKS_GET_BY_ID_PATH, produces = "application/json")
+    public Mono<ResponseEntity<GetTaskByIdResponse>> getTaskById(@PathVariable UUID id) {
+        return taskUseCase.getTaskById(id)
+                          .map(task -> ResponseEntity.ok()
+                                                     .eTag(Long.toString(task.getVersion()))
+                                                     .body(toGetTaskByIdResponse(task)))
+                          .defaultIfEmpty(ResponseEntity.notFound()
+                                                        .build());
+    }
+
+    /**
+     * Gets all tasks for a specific user by their unique identifier.
+     *
+     * @param id the user's unique identifier
+     * @return a {@link Flux} emitting a {@link GetTasksByUserIdResponse} per task of the user
+     */
+    @GetMapping(value = TASKS_GET_BY_USER_ID_PATH, produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<GetTasksByUserIdResponse> getTasksByUserId(@PathVariable UUID id) {
+        return taskUseCase.getTasksByUserId(id)
+                          .map(ReactiveTaskRestController::toGetTasksByUserIdResponse);
+    }
+
+    /**
+     * Creates a new task.
+     *
+     * @param request the {@link CreateTaskRequest} containing task data
+     * @return a {@link Mono} emitting the {@link CreateTaskResponse} containing the created task's identifier
+     */
+    @PostMapping(value = TASKS_CREATE_PATH, consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CreateTaskResponse> createTask(@RequestBody @Valid CreateTaskRequest request) {
+        return Mono.fromCallable(() -> toCreateTaskCommand(request))
+                   .flatMap(taskUseCase::createTask)
+                   .map(task -> new CreateTaskResponse(task.getId()
+                                                           .value()));
+    }
+
+    /**
+     * Updates an existing task by its unique identifier.
+     *
+     * @param id      the task's unique identifier
+     * @param request the {@link UpdateTaskRequest} containing the new task data
+     * @return a {@link Mono} emitting a {@link ResponseEntity} wrapping the {@link UpdateTaskResponse} if updated, or a 404 Not Found otherwise
+     */
+    @PutMapping(value = TASKS_UPDATE_BY_ID_PATH, consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<UpdateTaskResponse>> updateTaskById(@PathVariable UUID id, @RequestBody @Valid UpdateTaskRequest request) {
+        return Mono.fromCallable(() -> toUpdateTaskCommand(id, request))
+                   .flatMap(taskUseCase::updateTaskById)
+                   .map(task -> ResponseEntity.ok()
+                                              .eTag(Long.toString(task.getVersion()))
+                                              .body(new UpdateTaskResponse(task.getId()
+                                                                               .value())))
+                   .defaultIfEmpty(ResponseEntity.notFound()
+                                                 .build());
+    }
+
+    /**
+     * Deletes an existing task by its unique identifier.
+     *
+     * @param id the task's unique identifier
+     * @return a {@link Mono} emitting a {@link ResponseEntity} with 204 No Content if deleted, or 404 Not Found otherwise
+     */
+    @DeleteMapping(value = TASKS_DELETE_BY_ID_PATH, produces = "application/json")
+    public Mono<ResponseEntity<Void>> deleteTaskById(@PathVariable UUID id) {
+        return taskUseCase.deleteTaskById(id)
+                          .map(deleted -> ResponseEntity.status(deleted ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND)
+                                                        .build());
+    }
+
+    /**
+     * Maps a create request to its command.
+     *
+     * @param request the {@link CreateTaskRequest}
+     * @return the {@link CreateTaskCommand}
+     * @throws IllegalArgumentException if the user ID is not a valid UUID
+     */
+    private static CreateTaskCommand toCreateTaskCommand(CreateTaskRequest request) {
+        return new CreateTaskCommand(UUID.fromString(request.userId()), request.title(), request.description(), request.startDate(), request.endDate());
+    }
+
+    /**
+     * Maps an update request to its unconditional command.
+     *
+     * @param id      the task's unique identifier
+     * @param request the {@link UpdateTaskRequest}
+     * @return the {@link UpdateTaskCommand}
+     * @throws IllegalArgumentException if the user ID is not a valid UUID
+     */
+    private static UpdateTaskCommand toUpdateTaskCommand(UUID id, UpdateTaskRequest request) {
+        return new UpdateTaskCommand(id, UUID.fromString(request.userId()), request.title(), request.description(), request.startDate(), request.endDate(),
+                null);
+    }
+
+    /**
+     * Maps a task to its get-by-id response.
+     *
+     * @param task the task
+     * @return the {@link GetTaskByIdResponse}
+     */
+    private static GetTaskByIdResponse toGetTaskByIdResponse(Task task) {
+        var taskId = task.getId()
+                         .value();
+        var userId = task.getUserId()
+                         .value();
+        var title = task.getTitle()
+                        .value();
+        var description = task.getDescription() != null ? task.getDescription()
+                                                              .value() : null;
+        var startDate = task.getStartDate() != null ? task.getStartDate()
+                                                          .value() : null;
+        var endDate = task.getEndDate() != null ? task.getEndDate()
+                                                      .value() : null;
+
+        return new GetTaskByIdResponse(taskId, userId, title, description, startDate, endDate);
+    }
+
+    /**
+     * Maps a task to its get-by-user-id response.
+     *
+     * @param task the task
+     * @return the {@link GetTasksByUserIdResponse}
+     */
+    private static GetTasksByUserIdResponse toGetTasksByUserIdResponse(Task task) {
+        var response = toGetTaskByIdResponse(task);
+        return new GetTasksByUserIdResponse(response.taskId(), response.userId(), response.title(), response.description(), response.startDate(),
+                response.endDate());
+    }
+
+}
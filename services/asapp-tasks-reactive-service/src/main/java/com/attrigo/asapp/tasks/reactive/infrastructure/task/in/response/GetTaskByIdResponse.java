@@ -14,15 +14,13 @@
 * limitations under the License.
 */
 
-package com.attrigo.asapp.tasks.application.task.in.command;
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.in.response;
 
 import java.time.Instant;
 import java.util.UUID;
 
 /**
- * Command to update an existing task in the system.
- * <p>
- * Encapsulates the data required to modify a task.
+ * Response for retrieving a task by its unique identifier.
  *
  * @param taskId      the task's unique identifier
  * @param userId      the task's user unique identifier
@@ -30,10 +28,10 @@ import java.util.UUID;
  * @param description the task's description
  * @param startDate   the task's start date
  * @param endDate     the task's end date
- * @since 0.2.0
+ * @since 0.5.0
  * @author attrigo
  */
-public record UpdateTaskCommand(
+public record GetTaskByIdResponse(
         UUID taskId,
         UUID userId,
         String title,
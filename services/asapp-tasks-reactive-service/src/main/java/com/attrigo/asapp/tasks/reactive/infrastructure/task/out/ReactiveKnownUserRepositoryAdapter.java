@@ -0,0 +1,66 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.out;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Mono;
+
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveKnownUserRepository;
+
+/**
+ * Adapter implementation of {@link ReactiveKnownUserRepository} backed by the {@code known_users} table.
+ * <p>
+ * Queries the replica of the users maintained by the blocking tasks service. Unless enforced, every user is considered to exist, matching the blocking
+ * service until the replica has been bootstrapped.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class ReactiveKnownUserRepositoryAdapter implements ReactiveKnownUserRepository {
+
+    private static final String EXISTS_USER = "SELECT EXISTS (SELECT 1 FROM known_users WHERE user_id = :userId AND NOT deleted)";
+
+    private final DatabaseClient databaseClient;
+
+    private final boolean enforced;
+
+    /**
+     * Constructs a new {@code ReactiveKnownUserRepositoryAdapter} with required dependencies.
+     *
+     * @param databaseClient the non-blocking database client
+     * @param enforced       whether users missing from the replica are rejected
+     */
+    public ReactiveKnownUserRepositoryAdapter(DatabaseClient databaseClient, boolean enforced) {
+        this.databaseClient = databaseClient;
+        this.enforced = enforced;
+    }
+
+    @Override
+    public Mono<Boolean> existsById(UserId userId) {
+        if (!enforced) {
+            return Mono.just(true);
+        }
+
+        return databaseClient.sql(EXISTS_USER)
+                             .bind("userId", userId.value())
+                             .map(row -> row.get(0, Boolean.class))
+                             .one();
+    }
+
+}
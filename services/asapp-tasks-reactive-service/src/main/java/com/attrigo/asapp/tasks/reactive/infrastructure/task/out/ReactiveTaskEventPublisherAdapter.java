@@ -0,0 +1,156 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.out;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveTaskEventPublisher;
+
+/**
+ * Adapter implementation of {@link ReactiveTaskEventPublisher} backed by the {@code outbox_events} table.
+ * <p>
+ * Appends the same events as the blocking tasks service, with the same aggregate type, event types and payloads, so its outbox relay publishes the changes
+ * made through this service as well.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class ReactiveTaskEventPublisherAdapter implements ReactiveTaskEventPublisher {
+
+    /**
+     * Aggregate type of the task events.
+     */
+    public static final String AGGREGATE_TYPE = "task";
+
+    /**
+     * Event type of the task creations.
+     */
+    public static final String TASK_CREATED = "TaskCreated";
+
+    /**
+     * Event type of the task updates.
+     */
+    public static final String TASK_UPDATED = "TaskUpdated";
+
+    /**
+     * Event type of the task deletions.
+     */
+    public static final String TASK_DELETED = "TaskDeleted";
+
+    private static final String APPEND_EVENT = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload)
+            VALUES (:aggregateType, :aggregateId, :eventType, CAST(:payload AS jsonb))
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code ReactiveTaskEventPublisherAdapter} with required dependencies.
+     *
+     * @param databaseClient the non-blocking database client
+     * @param objectMapper   the Jackson ObjectMapper for JSON serialization of the event payloads
+     */
+    public ReactiveTaskEventPublisherAdapter(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> publishTaskCreated(Task task) {
+        return append(task.getId(), TASK_CREATED, toTaskState(task));
+    }
+
+    @Override
+    public Mono<Void> publishTaskUpdated(Task task) {
+        return append(task.getId(), TASK_UPDATED, toTaskState(task));
+    }
+
+    @Override
+    public Mono<Void> publishTaskDeleted(TaskId taskId) {
+        return append(taskId, TASK_DELETED, new TaskReference(taskId.value()));
+    }
+
+    private Mono<Void> append(TaskId taskId, String eventType, Object payload) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(payload))
+                   .flatMap(json -> databaseClient.sql(APPEND_EVENT)
+                                                  .bind("aggregateType", AGGREGATE_TYPE)
+                                                  .bind("aggregateId", taskId.value())
+                                                  .bind("eventType", eventType)
+                                                  .bind("payload", json)
+                                                  .then());
+    }
+
+    private static TaskState toTaskState(Task task) {
+        var description = task.getDescription() != null ? task.getDescription()
+                                                              .value() : null;
+        var startDate = task.getStartDate() != null ? task.getStartDate()
+                                                          .value() : null;
+        var endDate = task.getEndDate() != null ? task.getEndDate()
+                                                      .value() : null;
+
+        return new TaskState(task.getId()
+                                 .value(),
+                task.getUserId()
+                    .value(),
+                task.getTitle()
+                    .value(),
+                description, startDate, endDate, task.getVersion());
+    }
+
+    /**
+     * Payload of the events carrying the task's state.
+     *
+     * @param taskId      the task's unique identifier
+     * @param userId      the unique identifier of the user the task belongs to
+     * @param title       the task's title
+     * @param description the task's description, or {@code null} if it has none
+     * @param startDate   the task's start date, or {@code null} if it has none
+     * @param endDate     the task's end date, or {@code null} if it has none
+     * @param version     the task's version
+     */
+    record TaskState(
+            UUID taskId,
+            UUID userId,
+            String title,
+            String description,
+            Instant startDate,
+            Instant endDate,
+            Long version
+    ) {}
+
+    /**
+     * Payload of the events carrying only the task's identifier.
+     *
+     * @param taskId the task's unique identifier
+     */
+    record TaskReference(
+            UUID taskId
+    ) {}
+
+}
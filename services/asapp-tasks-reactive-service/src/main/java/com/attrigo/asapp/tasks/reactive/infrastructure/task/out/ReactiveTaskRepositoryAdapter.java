@@ -0,0 +1,128 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.out;
+
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskFactory;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveTaskRepository;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.persistence.R2dbcTaskEntity;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.persistence.R2dbcTaskRepository;
+
+/**
+ * Adapter implementation of {@link ReactiveTaskRepository} for R2DBC persistence.
+ * <p>
+ * Bridges the application layer with the infrastructure layer by translating between domain entities and R2DBC entities and delegating to Spring Data R2DBC.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class ReactiveTaskRepositoryAdapter implements ReactiveTaskRepository {
+
+    private final R2dbcTaskRepository taskRepository;
+
+    /**
+     * Constructs a new {@code ReactiveTaskRepositoryAdapter} with required dependencies.
+     *
+     * @param taskRepository the Spring Data R2DBC repository
+     */
+    public ReactiveTaskRepositoryAdapter(R2dbcTaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public Mono<Task> findById(TaskId taskId) {
+        return taskRepository.findById(taskId.value())
+                             .map(ReactiveTaskRepositoryAdapter::toTask);
+    }
+
+    @Override
+    public Flux<Task> findByUserId(UserId userId) {
+        return taskRepository.findByUserId(userId.value())
+                             .map(ReactiveTaskRepositoryAdapter::toTask);
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        return taskRepository.save(toR2dbcTaskEntity(task))
+                             .map(ReactiveTaskRepositoryAdapter::toTask);
+    }
+
+    @Override
+    public Mono<Task> updateById(TaskId taskId, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate,
+            Long expectedVersion) {
+
+        var descriptionValue = description != null ? description.value() : null;
+        var startDateValue = startDate != null ? startDate.value() : null;
+        var endDateValue = endDate != null ? endDate.value() : null;
+
+        return taskRepository.updateTaskById(taskId.value(), userId.value(), title.value(), descriptionValue, startDateValue, endDateValue, expectedVersion)
+                             .map(ReactiveTaskRepositoryAdapter::toTask);
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(TaskId taskId) {
+        return taskRepository.deleteTaskById(taskId.value())
+                             .map(deletedRows -> deletedRows > 0);
+    }
+
+    /**
+     * Maps a domain task to its R2DBC entity.
+     *
+     * @param task the domain task
+     * @return the {@link R2dbcTaskEntity}, without identifier nor version for a new task
+     */
+    private static R2dbcTaskEntity toR2dbcTaskEntity(Task task) {
+        var id = task.getId() != null ? task.getId()
+                                            .value() : null;
+        var userId = task.getUserId()
+                         .value();
+        var title = task.getTitle()
+                        .value();
+        var description = task.getDescription() != null ? task.getDescription()
+                                                              .value() : null;
+        var startDate = task.getStartDate() != null ? task.getStartDate()
+                                                          .value() : null;
+        var endDate = task.getEndDate() != null ? task.getEndDate()
+                                                      .value() : null;
+
+        return new R2dbcTaskEntity(id, userId, title, description, startDate, endDate, task.getVersion());
+    }
+
+    /**
+     * Reconstitutes a domain task from its R2DBC entity.
+     *
+     * @param entity the R2DBC entity
+     * @return the reconstituted {@link Task}
+     */
+    private static Task toTask(R2dbcTaskEntity entity) {
+        return TaskFactory.reconstitute(entity.id(), entity.userId(), entity.title(), entity.description(), entity.startDate(), entity.endDate(),
+                entity.version());
+    }
+
+}
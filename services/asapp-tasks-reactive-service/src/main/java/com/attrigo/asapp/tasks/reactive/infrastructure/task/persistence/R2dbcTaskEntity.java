@@ -0,0 +1,54 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.persistence;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Entity representing a task in the database for R2DBC access.
+ * <p>
+ * Maps to the same {@code tasks} table as the blocking tasks service, whose Liquibase changelog owns the schema.
+ * <p>
+ * The {@code version} column enables optimistic locking: a {@code null} version marks a new entity, and every update is conditioned on the stored version and
+ * increments it.
+ *
+ * @param id          the task's unique identifier
+ * @param userId      the task's user id
+ * @param title       the task's title
+ * @param description the task's description
+ * @param startDate   the task's start date
+ * @param endDate     the task's end date
+ * @param version     the task's row version; {@code null} for new tasks
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Table("tasks")
+public record R2dbcTaskEntity(
+        @Id UUID id,
+        @Column("user_id") UUID userId,
+        String title,
+        String description,
+        Instant startDate,
+        Instant endDate,
+        @Version Long version
+) {}
@@ -0,0 +1,80 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.persistence;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC repository for task persistence operations.
+ * <p>
+ * Provides non-blocking database access methods for {@link R2dbcTaskEntity}, running the same statements as the blocking {@code JdbcTaskRepository}.
+ * <p>
+ * Extends {@link ReactiveCrudRepository} to inherit standard CRUD operations.
+ *
+ * @since 0.5.0
+ * @see ReactiveCrudRepository
+ * @author attrigo
+ */
+public interface R2dbcTaskRepository extends ReactiveCrudRepository<R2dbcTaskEntity, UUID> {
+
+    /**
+     * Finds all task entities by their user's unique identifier.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link Flux} emitting the {@link R2dbcTaskEntity} entities belonging to the user
+     */
+    Flux<R2dbcTaskEntity> findByUserId(UUID userId);
+
+    /**
+     * Updates a task by its unique identifier, incrementing its version.
+     *
+     * @param id              the task's unique identifier
+     * @param userId          the new user unique identifier
+     * @param title           the new title
+     * @param description     the new description
+     * @param startDate       the new start date
+     * @param endDate         the new end date
+     * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+     * @return a {@link Mono} emitting the updated {@link R2dbcTaskEntity}, empty if no row matched
+     */
+    @Query("""
+            UPDATE tasks
+            SET user_id = :userId, title = :title, description = :description, start_date = :startDate, end_date = :endDate, version = version + 1
+            WHERE id = :id AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """)
+    Mono<R2dbcTaskEntity> updateTaskById(UUID id, UUID userId, String title, String description, Instant startDate, Instant endDate, Long expectedVersion);
+
+    /**
+     * Deletes a task by its unique identifier.
+     *
+     * @param id the task's unique identifier
+     * @return a {@link Mono} emitting the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM tasks WHERE id = :id")
+    Mono<Long> deleteTaskById(UUID id);
+
+}
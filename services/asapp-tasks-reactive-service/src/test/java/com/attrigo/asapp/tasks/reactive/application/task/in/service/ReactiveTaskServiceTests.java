@@ -0,0 +1,390 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.application.task.in.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
+import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskFactory;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveKnownUserRepository;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveTaskEventPublisher;
+import com.attrigo.asapp.tasks.reactive.application.task.out.ReactiveTaskRepository;
+
+/**
+ * Tests {@link ReactiveTaskService} non-blocking orchestration of the core task operations.
+ * <p>
+ * Coverage:
+ * <li>Reads emit the tasks found by the repository, empty when there are none</li>
+ * <li>Creation saves the task once its user is known and publishes its creation, and never saves a task of an unknown user</li>
+ * <li>Invalid values are signalled as errors before reaching the repository</li>
+ * <li>Update emits the updated task and publishes its update, empty without publishing when the task does not exist</li>
+ * <li>Update rejects a task that exists with another version than the expected one</li>
+ * <li>Deletion emits whether the task existed, publishing the deletion only when it did</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceTests {
+
+    private static final UUID TASK_ID = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
+
+    private static final UUID USER_ID = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
+
+    private static final Instant START_DATE = Instant.parse("2025-03-03T13:00:00Z");
+
+    private static final Instant END_DATE = Instant.parse("2025-04-04T14:00:00Z");
+
+    @Mock
+    private ReactiveTaskRepository taskRepository;
+
+    @Mock
+    private ReactiveKnownUserRepository knownUserRepository;
+
+    @Mock
+    private ReactiveTaskEventPublisher taskEventPublisher;
+
+    @InjectMocks
+    private ReactiveTaskService reactiveTaskService;
+
+    @Nested
+    class GetTaskById {
+
+        @Test
+        void EmitsTask_TaskExists() {
+            // Given
+            var task = aTask(1L);
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Mono.just(task));
+
+            // When
+            var actual = reactiveTaskService.getTaskById(TASK_ID);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(task)
+                        .verifyComplete();
+        }
+
+        @Test
+        void CompletesEmpty_TaskNotExists() {
+            // Given
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskService.getTaskById(TASK_ID);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyComplete();
+        }
+
+        @Test
+        void SignalsIllegalArgumentException_NullId() {
+            // When
+            var actual = reactiveTaskService.getTaskById(null);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyError(IllegalArgumentException.class);
+
+            then(taskRepository).should(never())
+                                .findById(any(TaskId.class));
+        }
+
+    }
+
+    @Nested
+    class GetTasksByUserId {
+
+        @Test
+        void EmitsTasks_UserHasTasks() {
+            // Given
+            var task = aTask(1L);
+
+            given(taskRepository.findByUserId(UserId.of(USER_ID))).willReturn(Flux.just(task));
+
+            // When
+            var actual = reactiveTaskService.getTasksByUserId(USER_ID);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(task)
+                        .verifyComplete();
+        }
+
+        @Test
+        void CompletesEmpty_UserHasNoTasks() {
+            // Given
+            given(taskRepository.findByUserId(UserId.of(USER_ID))).willReturn(Flux.empty());
+
+            // When
+            var actual = reactiveTaskService.getTasksByUserId(USER_ID);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyComplete();
+        }
+
+    }
+
+    @Nested
+    class CreateTask {
+
+        @Test
+        void EmitsCreatedTask_UserKnown() {
+            // Given
+            var command = new CreateTaskCommand(USER_ID, "Title", "Description", START_DATE, END_DATE);
+            var createdTask = aTask(0L);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(Mono.just(true));
+            given(taskRepository.save(any(Task.class))).willReturn(Mono.just(createdTask));
+            given(taskEventPublisher.publishTaskCreated(createdTask)).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskService.createTask(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(createdTask)
+                        .verifyComplete();
+
+            then(taskRepository).should(times(1))
+                                .save(any(Task.class));
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskCreated(createdTask);
+        }
+
+        @Test
+        void SignalsUnknownUserException_UserNotKnown() {
+            // Given
+            var command = new CreateTaskCommand(USER_ID, "Title", "Description", START_DATE, END_DATE);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(Mono.just(false));
+
+            // When
+            var actual = reactiveTaskService.createTask(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(UnknownUserException.class)
+                                                                        .hasMessage("User %s does not exist".formatted(USER_ID)))
+                        .verify();
+
+            then(taskRepository).should(never())
+                                .save(any(Task.class));
+            then(taskEventPublisher).should(never())
+                                    .publishTaskCreated(any(Task.class));
+        }
+
+        @Test
+        void SignalsIllegalArgumentException_BlankTitle() {
+            // Given
+            var command = new CreateTaskCommand(USER_ID, " ", "Description", START_DATE, END_DATE);
+
+            // When
+            var actual = reactiveTaskService.createTask(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyError(IllegalArgumentException.class);
+
+            then(knownUserRepository).should(never())
+                                     .existsById(any(UserId.class));
+            then(taskRepository).should(never())
+                                .save(any(Task.class));
+        }
+
+    }
+
+    @Nested
+    class UpdateTaskById {
+
+        @Test
+        void EmitsUpdatedTask_TaskExists() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", "New Description", START_DATE, END_DATE, null);
+            var updatedTask = aTask(2L);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(Mono.just(true));
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), Description.of("New Description"),
+                    StartDate.of(START_DATE), EndDate.of(END_DATE), null)).willReturn(Mono.just(updatedTask));
+            given(taskEventPublisher.publishTaskUpdated(updatedTask)).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskService.updateTaskById(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(updatedTask)
+                        .verifyComplete();
+
+            then(taskRepository).should(never())
+                                .findById(any(TaskId.class));
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskUpdated(updatedTask);
+        }
+
+        @Test
+        void CompletesEmpty_TaskNotExists() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, null);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(Mono.just(true));
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), null, null, null, null)).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskService.updateTaskById(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyComplete();
+
+            then(taskRepository).should(never())
+                                .findById(any(TaskId.class));
+            then(taskEventPublisher).should(never())
+                                    .publishTaskUpdated(any(Task.class));
+        }
+
+        @Test
+        void SignalsTaskVersionMismatchException_TaskHasAnotherVersion() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, 1L);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(Mono.just(true));
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), null, null, null, 1L)).willReturn(Mono.empty());
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Mono.just(aTask(3L)));
+
+            // When
+            var actual = reactiveTaskService.updateTaskById(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyError(TaskVersionMismatchException.class);
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskUpdated(any(Task.class));
+        }
+
+        @Test
+        void CompletesEmpty_ConditionalUpdateOfMissingTask() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, 1L);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(Mono.just(true));
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), null, null, null, 1L)).willReturn(Mono.empty());
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskService.updateTaskById(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyComplete();
+        }
+
+        @Test
+        void SignalsUnknownUserException_UserNotKnown() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, null);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(Mono.just(false));
+
+            // When
+            var actual = reactiveTaskService.updateTaskById(command);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyError(UnknownUserException.class);
+
+            then(taskRepository).should(never())
+                                .updateById(any(), any(), any(), any(), any(), any(), any());
+        }
+
+    }
+
+    @Nested
+    class DeleteTaskById {
+
+        @Test
+        void EmitsTrue_TaskExists() {
+            // Given
+            given(taskRepository.deleteById(TaskId.of(TASK_ID))).willReturn(Mono.just(true));
+            given(taskEventPublisher.publishTaskDeleted(TaskId.of(TASK_ID))).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskService.deleteTaskById(TASK_ID);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(true)
+                        .verifyComplete();
+
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskDeleted(TaskId.of(TASK_ID));
+        }
+
+        @Test
+        void EmitsFalse_TaskNotExists() {
+            // Given
+            given(taskRepository.deleteById(TaskId.of(TASK_ID))).willReturn(Mono.just(false));
+
+            // When
+            var actual = reactiveTaskService.deleteTaskById(TASK_ID);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(false)
+                        .verifyComplete();
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskDeleted(any(TaskId.class));
+        }
+
+    }
+
+    private static Task aTask(Long version) {
+        return TaskFactory.reconstitute(TASK_ID, USER_ID, "Title", "Description", START_DATE, END_DATE, version);
+    }
+
+}
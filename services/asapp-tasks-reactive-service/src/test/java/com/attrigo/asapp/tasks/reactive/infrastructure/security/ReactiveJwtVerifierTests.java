@@ -0,0 +1,170 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.security;
+
+import static com.attrigo.asapp.tasks.reactive.infrastructure.security.JwtClaimNames.ACCESS_TOKEN_USE;
+import static com.attrigo.asapp.tasks.reactive.infrastructure.security.JwtClaimNames.REFRESH_TOKEN_USE;
+import static com.attrigo.asapp.tasks.reactive.infrastructure.security.JwtClaimNames.TOKEN_USE;
+import static com.attrigo.asapp.tasks.reactive.infrastructure.security.JwtTypeNames.ACCESS_TOKEN_TYPE;
+import static com.attrigo.asapp.tasks.reactive.infrastructure.security.JwtTypeNames.REFRESH_TOKEN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.willThrow;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+
+/**
+ * Tests {@link ReactiveJwtVerifier} decode-then-verify pipeline and non-blocking session validation.
+ * <p>
+ * Coverage:
+ * <li>Successful verification emits the decoded JWT once its session is found in the store</li>
+ * <li>Decoding failures are signalled as invalid JWT errors without reaching the store</li>
+ * <li>Token type mismatches are signalled without reaching the store</li>
+ * <li>Missing session in store is signalled as authentication not found</li>
+ * <li>Store failures are signalled as invalid JWT errors</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveJwtVerifierTests {
+
+    private static final String ENCODED_TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtDecoder jwtDecoder;
+
+    @Mock
+    private ReactiveRedisJwtStore redisJwtStore;
+
+    @InjectMocks
+    private ReactiveJwtVerifier reactiveJwtVerifier;
+
+    @Nested
+    class VerifyAccessToken {
+
+        @Test
+        void EmitsDecodedJwt_ValidAccessToken() {
+            // Given
+            var decodedJwt = new DecodedJwt(ENCODED_TOKEN, ACCESS_TOKEN_TYPE, "user@asapp.com", Map.of(TOKEN_USE, ACCESS_TOKEN_USE));
+
+            given(jwtDecoder.decode(ENCODED_TOKEN)).willReturn(decodedJwt);
+            given(redisJwtStore.accessTokenExists(ENCODED_TOKEN)).willReturn(Mono.just(true));
+
+            // When
+            var actual = reactiveJwtVerifier.verifyAccessToken(ENCODED_TOKEN);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(decodedJwt)
+                        .verifyComplete();
+
+            then(redisJwtStore).should(times(1))
+                               .accessTokenExists(ENCODED_TOKEN);
+        }
+
+        @Test
+        void SignalsInvalidJwtException_DecoderFails() {
+            // Given
+            willThrow(new RuntimeException("Decoder failed")).given(jwtDecoder)
+                                                             .decode(ENCODED_TOKEN);
+
+            // When
+            var actual = reactiveJwtVerifier.verifyAccessToken(ENCODED_TOKEN);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(InvalidJwtException.class)
+                                                                        .hasMessage("Access token is not valid")
+                                                                        .hasCauseInstanceOf(RuntimeException.class))
+                        .verify();
+
+            then(redisJwtStore).should(never())
+                               .accessTokenExists(anyString());
+        }
+
+        @Test
+        void SignalsUnexpectedJwtTypeException_NonAccessToken() {
+            // Given
+            var decodedJwt = new DecodedJwt(ENCODED_TOKEN, REFRESH_TOKEN_TYPE, "user@asapp.com", Map.of(TOKEN_USE, REFRESH_TOKEN_USE));
+
+            given(jwtDecoder.decode(ENCODED_TOKEN)).willReturn(decodedJwt);
+
+            // When
+            var actual = reactiveJwtVerifier.verifyAccessToken(ENCODED_TOKEN);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(UnexpectedJwtTypeException.class)
+                                                                        .hasMessage("JWT is not an access token"))
+                        .verify();
+
+            then(redisJwtStore).should(never())
+                               .accessTokenExists(anyString());
+        }
+
+        @Test
+        void SignalsAuthenticationNotFoundException_AccessTokenNotInStore() {
+            // Given
+            var decodedJwt = new DecodedJwt(ENCODED_TOKEN, ACCESS_TOKEN_TYPE, "user@asapp.com", Map.of(TOKEN_USE, ACCESS_TOKEN_USE));
+
+            given(jwtDecoder.decode(ENCODED_TOKEN)).willReturn(decodedJwt);
+            given(redisJwtStore.accessTokenExists(ENCODED_TOKEN)).willReturn(Mono.just(false));
+
+            // When
+            var actual = reactiveJwtVerifier.verifyAccessToken(ENCODED_TOKEN);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(AuthenticationNotFoundException.class)
+                                                                        .hasMessage("Authentication session not found in store for access token"))
+                        .verify();
+        }
+
+        @Test
+        void SignalsInvalidJwtException_StoreFails() {
+            // Given
+            var decodedJwt = new DecodedJwt(ENCODED_TOKEN, ACCESS_TOKEN_TYPE, "user@asapp.com", Map.of(TOKEN_USE, ACCESS_TOKEN_USE));
+
+            given(jwtDecoder.decode(ENCODED_TOKEN)).willReturn(decodedJwt);
+            given(redisJwtStore.accessTokenExists(ENCODED_TOKEN)).willReturn(Mono.error(new IllegalStateException("Redis unavailable")));
+
+            // When
+            var actual = reactiveJwtVerifier.verifyAccessToken(ENCODED_TOKEN);
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(InvalidJwtException.class)
+                                                                        .hasCauseInstanceOf(IllegalStateException.class))
+                        .verify();
+        }
+
+    }
+
+}
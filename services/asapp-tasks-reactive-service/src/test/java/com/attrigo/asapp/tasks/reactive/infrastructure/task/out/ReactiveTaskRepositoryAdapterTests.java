@@ -0,0 +1,226 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.reactive.infrastructure.task.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
+import com.attrigo.asapp.tasks.domain.task.TaskFactory;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.persistence.R2dbcTaskEntity;
+import com.attrigo.asapp.tasks.reactive.infrastructure.task.persistence.R2dbcTaskRepository;
+
+/**
+ * Tests {@link ReactiveTaskRepositoryAdapter} translation between domain tasks and R2DBC entities.
+ * <p>
+ * Coverage:
+ * <li>Found entities are reconstituted as domain tasks, keeping their version</li>
+ * <li>New tasks are saved without identifier nor version so they are inserted</li>
+ * <li>Updates pass the raw values and the expected version, unset optional values as {@code null}</li>
+ * <li>Deletion reports whether a row was deleted</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskRepositoryAdapterTests {
+
+    private static final UUID TASK_ID = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
+
+    private static final UUID USER_ID = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
+
+    private static final Instant START_DATE = Instant.parse("2025-03-03T13:00:00Z");
+
+    private static final Instant END_DATE = Instant.parse("2025-04-04T14:00:00Z");
+
+    private static final R2dbcTaskEntity TASK_ENTITY = new R2dbcTaskEntity(TASK_ID, USER_ID, "Title", "Description", START_DATE, END_DATE, 2L);
+
+    @Mock
+    private R2dbcTaskRepository r2dbcTaskRepository;
+
+    @InjectMocks
+    private ReactiveTaskRepositoryAdapter reactiveTaskRepositoryAdapter;
+
+    @Nested
+    class FindById {
+
+        @Test
+        void EmitsTask_EntityExists() {
+            // Given
+            given(r2dbcTaskRepository.findById(TASK_ID)).willReturn(Mono.just(TASK_ENTITY));
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.findById(TaskId.of(TASK_ID));
+
+            // Then
+            StepVerifier.create(actual)
+                        .assertNext(task -> {
+                            assertThat(task.getId()).isEqualTo(TaskId.of(TASK_ID));
+                            assertThat(task.getUserId()).isEqualTo(UserId.of(USER_ID));
+                            assertThat(task.getTitle()).isEqualTo(Title.of("Title"));
+                            assertThat(task.getVersion()).isEqualTo(2L);
+                        })
+                        .verifyComplete();
+        }
+
+        @Test
+        void CompletesEmpty_EntityNotExists() {
+            // Given
+            given(r2dbcTaskRepository.findById(TASK_ID)).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.findById(TaskId.of(TASK_ID));
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyComplete();
+        }
+
+    }
+
+    @Nested
+    class FindByUserId {
+
+        @Test
+        void EmitsTasks_UserHasEntities() {
+            // Given
+            given(r2dbcTaskRepository.findByUserId(USER_ID)).willReturn(Flux.just(TASK_ENTITY));
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.findByUserId(UserId.of(USER_ID));
+
+            // Then
+            StepVerifier.create(actual)
+                        .assertNext(task -> assertThat(task.getId()).isEqualTo(TaskId.of(TASK_ID)))
+                        .verifyComplete();
+        }
+
+    }
+
+    @Nested
+    class Save {
+
+        @Test
+        void SavesEntityWithoutIdentifier_NewTask() {
+            // Given
+            var task = TaskFactory.create(USER_ID, "Title", null, null, null);
+            var entityCaptor = ArgumentCaptor.forClass(R2dbcTaskEntity.class);
+
+            given(r2dbcTaskRepository.save(any(R2dbcTaskEntity.class))).willReturn(Mono.just(TASK_ENTITY));
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.save(task);
+
+            // Then
+            StepVerifier.create(actual)
+                        .assertNext(savedTask -> assertThat(savedTask.getId()).isEqualTo(TaskId.of(TASK_ID)))
+                        .verifyComplete();
+
+            then(r2dbcTaskRepository).should(times(1))
+                                     .save(entityCaptor.capture());
+            assertThat(entityCaptor.getValue()).isEqualTo(new R2dbcTaskEntity(null, USER_ID, "Title", null, null, null, null));
+        }
+
+    }
+
+    @Nested
+    class UpdateById {
+
+        @Test
+        void EmitsUpdatedTask_EntityUpdated() {
+            // Given
+            given(r2dbcTaskRepository.updateTaskById(TASK_ID, USER_ID, "Title", "Description", START_DATE, END_DATE, 1L)).willReturn(Mono.just(TASK_ENTITY));
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("Title"), Description.of("Description"),
+                    StartDate.of(START_DATE), EndDate.of(END_DATE), 1L);
+
+            // Then
+            StepVerifier.create(actual)
+                        .assertNext(task -> assertThat(task.getVersion()).isEqualTo(2L))
+                        .verifyComplete();
+        }
+
+        @Test
+        void PassesNullValues_OptionalValuesUnset() {
+            // Given
+            given(r2dbcTaskRepository.updateTaskById(TASK_ID, USER_ID, "Title", null, null, null, null)).willReturn(Mono.empty());
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("Title"), null, null, null, null);
+
+            // Then
+            StepVerifier.create(actual)
+                        .verifyComplete();
+        }
+
+    }
+
+    @Nested
+    class DeleteById {
+
+        @Test
+        void EmitsTrue_RowDeleted() {
+            // Given
+            given(r2dbcTaskRepository.deleteTaskById(TASK_ID)).willReturn(Mono.just(1L));
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.deleteById(TaskId.of(TASK_ID));
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(true)
+                        .verifyComplete();
+        }
+
+        @Test
+        void EmitsFalse_NoRowDeleted() {
+            // Given
+            given(r2dbcTaskRepository.deleteTaskById(TASK_ID)).willReturn(Mono.just(0L));
+
+            // When
+            var actual = reactiveTaskRepositoryAdapter.deleteById(TaskId.of(TASK_ID));
+
+            // Then
+            StepVerifier.create(actual)
+                        .expectNext(false)
+                        .verifyComplete();
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how important a use case is when the resources it needs are saturated.
+ * <p>
+ * Use cases without this annotation have a {@link Level#NORMAL} priority. The infrastructure layer reads it to decide which use cases keep being served, and
+ * which are turned away first, once database connections run short.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseCasePriority {
+
+    /**
+     * Returns the priority of the use case.
+     *
+     * @return the priority level
+     */
+    Level value();
+
+    /**
+     * Priority levels of a use case.
+     */
+    enum Level {
+
+        /**
+         * Background or bulk work, such as listings, turned away first.
+         */
+        LOW,
+
+        /**
+         * Regular work.
+         */
+        NORMAL,
+
+        /**
+         * Critical work, such as logins, served as long as possible.
+         */
+        HIGH
+
+    }
+
+}
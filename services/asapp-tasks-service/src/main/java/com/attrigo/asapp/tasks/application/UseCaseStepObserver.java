@@ -0,0 +1,56 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application;
+
+import java.util.function.Supplier;
+
+/**
+ * Port for observing the steps of an application use case.
+ * <p>
+ * Lets application services time and trace each step of their orchestration without depending on an instrumentation technology.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface UseCaseStepObserver {
+
+    /**
+     * Runs a step returning a result within its observation.
+     *
+     * @param useCase the use case name
+     * @param step    the step name
+     * @param action  the step action
+     * @param <T>     the type of the step result
+     * @return the step result
+     */
+    <T> T observe(String useCase, String step, Supplier<T> action);
+
+    /**
+     * Runs a step within its observation.
+     *
+     * @param useCase the use case name
+     * @param step    the step name
+     * @param action  the step action
+     */
+    default void observe(String useCase, String step, Runnable action) {
+        observe(useCase, step, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,45 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task.in;
+
+import java.util.Optional;
+
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.in.command.PatchTaskCommand;
+import com.attrigo.asapp.tasks.domain.task.Task;
+
+/**
+ * Use case for partially updating an existing task in the system.
+ * <p>
+ * Defines the contract for modifying a subset of a task's fields.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface PatchTaskUseCase {
+
+    /**
+     * Partially updates an existing task based on the provided command.
+     *
+     * @param command the {@link PatchTaskCommand} containing the fields to modify
+     * @return an {@link Optional} containing the updated {@link Task} if found, {@link Optional#empty} otherwise
+     * @throws IllegalArgumentException     if any modified value within the command is invalid
+     * @throws TaskVersionMismatchException if the task does not have the expected version
+     */
+    Optional<Task> patchTaskById(PatchTaskCommand command);
+
+}
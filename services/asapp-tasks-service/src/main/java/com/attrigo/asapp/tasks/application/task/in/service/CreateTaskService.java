@@ -19,11 +19,15 @@ package com.attrigo.asapp.tasks.application.task.in.service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.tasks.application.ApplicationService;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
 import com.attrigo.asapp.tasks.application.task.in.CreateTaskUseCase;
 import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.out.KnownUserRepository;
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
 import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
 import com.attrigo.asapp.tasks.domain.task.Task;
 import com.attrigo.asapp.tasks.domain.task.TaskFactory;
+import com.attrigo.asapp.tasks.domain.task.UserId;
 
 /**
  * Application service responsible for orchestrating task creation operations.
@@ -33,7 +37,9 @@ import com.attrigo.asapp.tasks.domain.task.TaskFactory;
  * <strong>Orchestration Flow:</strong>
  * <ol>
  * <li>Creates {@link Task} domain object via {@link TaskFactory}</li>
+ * <li>Rejects the task if its owner is not a known user</li>
  * <li>Persists task to repository</li>
+ * <li>Publishes the task creation</li>
  * </ol>
  *
  * @since 0.2.0
@@ -44,21 +50,45 @@ public class CreateTaskService implements CreateTaskUseCase {
 
     private final TaskRepository taskRepository;
 
+    private final TaskEventPublisher taskEventPublisher;
+
+    private final KnownUserRepository knownUserRepository;
+
     /**
      * Constructs a new {@code CreateTaskService} with required dependencies.
      *
-     * @param taskRepository the repository for task data access
+     * @param taskRepository      the repository for task data access
+     * @param taskEventPublisher  the publisher of task events
+     * @param knownUserRepository the repository of the existing users
      */
-    public CreateTaskService(TaskRepository taskRepository) {
+    public CreateTaskService(TaskRepository taskRepository, TaskEventPublisher taskEventPublisher, KnownUserRepository knownUserRepository) {
         this.taskRepository = taskRepository;
+        this.taskEventPublisher = taskEventPublisher;
+        this.knownUserRepository = knownUserRepository;
     }
 
     @Override
     @Transactional
     public Task createTask(CreateTaskCommand command) {
         var task = TaskFactory.create(command.userId(), command.title(), command.description(), command.startDate(), command.endDate());
+        validateUserExists(task.getUserId());
+
+        var createdTask = persistTask(task);
+        taskEventPublisher.publishTaskCreated(createdTask);
+
+        return createdTask;
+    }
 
-        return persistTask(task);
+    /**
+     * Validates that the task's owner is a known user.
+     *
+     * @param userId the user's unique identifier
+     * @throws UnknownUserException if the user does not exist
+     */
+    private void validateUserExists(UserId userId) {
+        if (!knownUserRepository.existsById(userId)) {
+            throw new UnknownUserException("User %s does not exist".formatted(userId.value()));
+        }
     }
 
     /**
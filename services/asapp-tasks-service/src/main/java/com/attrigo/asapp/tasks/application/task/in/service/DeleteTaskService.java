@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.tasks.application.ApplicationService;
 import com.attrigo.asapp.tasks.application.task.in.DeleteTaskUseCase;
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
 import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
 import com.attrigo.asapp.tasks.domain.task.TaskId;
 
@@ -34,6 +35,7 @@ import com.attrigo.asapp.tasks.domain.task.TaskId;
  * <ol>
  * <li>Transforms UUID into domain value object {@link TaskId}</li>
  * <li>Deletes task from repository</li>
+ * <li>Publishes the task deletion if the task existed</li>
  * </ol>
  *
  * @since 0.2.0
@@ -44,13 +46,17 @@ public class DeleteTaskService implements DeleteTaskUseCase {
 
     private final TaskRepository taskRepository;
 
+    private final TaskEventPublisher taskEventPublisher;
+
     /**
      * Constructs a new {@code DeleteTaskService} with required dependencies.
      *
-     * @param taskRepository the repository for task data access
+     * @param taskRepository     the repository for task data access
+     * @param taskEventPublisher the publisher of task events
      */
-    public DeleteTaskService(TaskRepository taskRepository) {
+    public DeleteTaskService(TaskRepository taskRepository, TaskEventPublisher taskEventPublisher) {
         this.taskRepository = taskRepository;
+        this.taskEventPublisher = taskEventPublisher;
     }
 
     @Override
@@ -58,7 +64,12 @@ public class DeleteTaskService implements DeleteTaskUseCase {
     public Boolean deleteTaskById(UUID id) {
         var taskId = TaskId.of(id);
 
-        return deleteTask(taskId);
+        var deleted = deleteTask(taskId);
+        if (deleted) {
+            taskEventPublisher.publishTaskDeleted(taskId);
+        }
+
+        return deleted;
     }
 
     /**
@@ -0,0 +1,207 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task.in.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.attrigo.asapp.tasks.application.ApplicationService;
+import com.attrigo.asapp.tasks.application.UseCaseStepObserver;
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
+import com.attrigo.asapp.tasks.application.task.in.PatchTaskUseCase;
+import com.attrigo.asapp.tasks.application.task.in.command.PatchTaskCommand;
+import com.attrigo.asapp.tasks.application.task.out.KnownUserRepository;
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
+import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskField;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+
+/**
+ * Application service responsible for orchestrating partial task update operations.
+ * <p>
+ * Coordinates the partial update workflow so that only the fields the caller modifies, and whose value actually differs, are written back.
+ * <p>
+ * <strong>Orchestration Flow:</strong>
+ * <ol>
+ * <li>Transforms the modified command parameters into domain value objects</li>
+ * <li>Retrieves existing task from repository by ID</li>
+ * <li>Returns empty if task not found</li>
+ * <li>Rejects the update if the task's version differs from the expected one</li>
+ * <li>Applies the changes to the task domain object, which tracks the changed fields</li>
+ * <li>Rejects the update if the owner changed to a user that is not known</li>
+ * <li>Persists only the changed fields to repository</li>
+ * <li>Publishes the task update if any field changed</li>
+ * </ol>
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@ApplicationService
+public class PatchTaskService implements PatchTaskUseCase {
+
+    private static final String USE_CASE = "patch-task";
+
+    private final TaskRepository taskRepository;
+
+    private final TaskEventPublisher taskEventPublisher;
+
+    private final KnownUserRepository knownUserRepository;
+
+    private final UseCaseStepObserver stepObserver;
+
+    /**
+     * Constructs a new {@code PatchTaskService} with required dependencies.
+     *
+     * @param taskRepository      the repository for task data access
+     * @param taskEventPublisher  the publisher of task events
+     * @param knownUserRepository the repository of the existing users
+     * @param stepObserver        the observer of the use case steps
+     */
+    public PatchTaskService(TaskRepository taskRepository, TaskEventPublisher taskEventPublisher, KnownUserRepository knownUserRepository,
+            UseCaseStepObserver stepObserver) {
+        this.taskRepository = taskRepository;
+        this.taskEventPublisher = taskEventPublisher;
+        this.knownUserRepository = knownUserRepository;
+        this.stepObserver = stepObserver;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Task> patchTaskById(PatchTaskCommand command) {
+        var taskId = TaskId.of(command.taskId());
+        var changes = toChanges(command);
+
+        var optionalTask = stepObserver.observe(USE_CASE, "retrieve-task", () -> retrieveTask(taskId));
+        if (optionalTask.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var task = optionalTask.get();
+        validateExpectedVersion(task, command.expectedVersion());
+        changes.forEach(change -> change.accept(task));
+        var changed = !task.getChangedFields()
+                           .isEmpty();
+        if (task.getChangedFields()
+                .contains(TaskField.USER_ID)) {
+            validateUserExists(task.getUserId());
+        }
+
+        var patchedTask = stepObserver.observe(USE_CASE, "persist-task", () -> persistTaskChanges(task));
+        if (changed) {
+            taskEventPublisher.publishTaskUpdated(patchedTask);
+        }
+        return Optional.of(patchedTask);
+    }
+
+    /**
+     * Transforms the modified command parameters into changes to apply to the task.
+     * <p>
+     * Value objects are built upfront, so invalid values are rejected before the task is retrieved.
+     *
+     * @param command the command containing the fields to modify
+     * @return the {@link List} of changes to apply to the task
+     * @throws IllegalArgumentException if any value object validation fails
+     */
+    private List<Consumer<Task>> toChanges(PatchTaskCommand command) {
+        var fields = command.fields();
+        var changes = new ArrayList<Consumer<Task>>();
+
+        if (fields.contains(TaskField.USER_ID)) {
+            var newUserId = UserId.of(command.userId());
+            changes.add(task -> task.changeUserId(newUserId));
+        }
+        if (fields.contains(TaskField.TITLE)) {
+            var newTitle = Title.of(command.title());
+            changes.add(task -> task.changeTitle(newTitle));
+        }
+        if (fields.contains(TaskField.DESCRIPTION)) {
+            var newDescription = Description.ofNullable(command.description());
+            changes.add(task -> task.changeDescription(newDescription));
+        }
+        if (fields.contains(TaskField.START_DATE)) {
+            var newStartDate = StartDate.ofNullable(command.startDate());
+            changes.add(task -> task.changeStartDate(newStartDate));
+        }
+        if (fields.contains(TaskField.END_DATE)) {
+            var newEndDate = EndDate.ofNullable(command.endDate());
+            changes.add(task -> task.changeEndDate(newEndDate));
+        }
+
+        return changes;
+    }
+
+    /**
+     * Retrieves task from repository by identifier.
+     *
+     * @param taskId the task's unique identifier
+     * @return an {@link Optional} containing the {@link Task} if found, {@link Optional#empty} otherwise
+     */
+    private Optional<Task> retrieveTask(TaskId taskId) {
+        return taskRepository.findById(taskId);
+    }
+
+    /**
+     * Validates that the task still has the version the caller expects.
+     * <p>
+     * A {@code null} expected version skips the check; concurrent updates are still detected when the changes are persisted.
+     *
+     * @param task            the retrieved task
+     * @param expectedVersion the version the caller expects, or {@code null} to update unconditionally
+     * @throws TaskVersionMismatchException if the task's version differs from the expected one
+     */
+    private void validateExpectedVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            var message = "Task %s has version %d but version %d was expected".formatted(task.getId()
+                                                                                              .value(), task.getVersion(), expectedVersion);
+            throw new TaskVersionMismatchException(message);
+        }
+    }
+
+    /**
+     * Validates that the task's owner is a known user.
+     *
+     * @param userId the user's unique identifier
+     * @throws UnknownUserException if the user does not exist
+     */
+    private void validateUserExists(UserId userId) {
+        if (!knownUserRepository.existsById(userId)) {
+            throw new UnknownUserException("User %s does not exist".formatted(userId.value()));
+        }
+    }
+
+    /**
+     * Persists the changed fields of the task to repository.
+     *
+     * @param task the task domain object whose changes are persisted
+     * @return the persisted {@link Task}
+     */
+    private Task persistTaskChanges(Task task) {
+        return taskRepository.saveChanges(task);
+    }
+
+}
@@ -1,87 +0,0 @@
-/**
-* Copyright 2023 the original author or authors.
-*
-* Licensed under the Apache License, Version 2.0 (the "License");
-* you may not use this file except in compliance with the License.
-* You may obtain a copy of the License at
-*
-*     https://www.apache.org/licenses/LICENSE-2.0
-*
-* Unless required by applicable law or agreed to in writing, software
-* distributed under the License is distributed on an "AS IS" BASIS,
-* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
-* See the License for the specific language governing permissions and
-* limitations under the License.
-*/
-
-package com.attrigo.asapp.tasks.application.task.in.service;
-
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
-
-import com.attrigo.asapp.tasks.application.ApplicationService;
-import com.attrigo.asapp.tasks.application.task.in.ReadTaskUseCase;
-import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
-import com.attrigo.asapp.tasks.domain.task.Task;
-import com.attrigo.asapp.tasks.domain.task.TaskId;
-import com.attrigo.asapp.tasks.domain.task.UserId;
-
-/**
- * Application service responsible for orchestrating task retrieval operations.
- * <p>
- * Coordinates task query operations including single task retrieval and bulk task listing.
- *
- * @since 0.2.0
- * @author attrigo
- */
-@ApplicationService
-public class ReadTaskService implements ReadTaskUseCase {
-
-    private final TaskRepository taskRepository;
-
-    /**
-     * Constructs a new {@code ReadTaskService} with required dependencies.
-     *
-     * @param taskRepository the repository for task data access
-     */
-    public ReadTaskService(TaskRepository taskRepository) {
-        this.taskRepository = taskRepository;
-    }
-
-    @Override
-    public Optional<Task> getTaskById(UUID id) {
-        var taskId = TaskId.of(id);
-
-        return this.taskRepository.findById(taskId);
-    }
-
-    @Override
-    public List<Task> getTasksByIds(List<UUID> ids) {
-        var taskIds = ids.stream()
-                         .map(TaskId::of)
-                         .collect(Collectors.toUnmodifiableSet());
-
-        return taskRepository.findByIds(taskIds)
-                             .stream()
-                             .toList();
-    }
-
-    @Override
-    public List<Task> getTasksByUserId(UUID userId) {
-        var userIdObj = UserId.of(userId);
-
-        return taskRepository.findByUserId(userIdObj)
-                             .stream()
-                             .toList();
-    }
-
-    @Override
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll()
-                             .stream()
-                             .toList();
-    }
-
-}
@@ -21,8 +21,13 @@ import java.util.Optional;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.tasks.application.ApplicationService;
+import com.attrigo.asapp.tasks.application.UseCaseStepObserver;
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
 import com.attrigo.asapp.tasks.application.task.in.UpdateTaskUseCase;
 import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.out.KnownUserRepository;
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
 import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
 import com.attrigo.asapp.tasks.domain.task.Description;
 import com.attrigo.asapp.tasks.domain.task.EndDate;
@@ -35,15 +40,16 @@ import com.attrigo.asapp.tasks.domain.task.UserId;
 /**
  * Application service responsible for orchestrating task update operations.
  * <p>
- * Coordinates the task update workflow including task retrieval, parameter transformation, domain object update, and persistence.
+ * Coordinates the task update workflow including parameter transformation and a single-round-trip persistence of the new state.
  * <p>
  * <strong>Orchestration Flow:</strong>
  * <ol>
- * <li>Retrieves existing task from repository by ID</li>
- * <li>Returns empty if task not found</li>
  * <li>Transforms command parameters into domain value objects</li>
- * <li>Updates task domain object</li>
- * <li>Persists updated task to repository</li>
+ * <li>Rejects the update if the new owner is not a known user</li>
+ * <li>Updates the task in the repository, returning its new state</li>
+ * <li>Publishes the task update if the task was updated</li>
+ * <li>If nothing was updated while a version was expected, rejects the update if the task exists with another version</li>
+ * <li>Returns empty if task not found</li>
  * </ol>
  *
  * @since 0.2.0
@@ -52,32 +58,64 @@ import com.attrigo.asapp.tasks.domain.task.UserId;
 @ApplicationService
 public class UpdateTaskService implements UpdateTaskUseCase {
 
+    private static final String USE_CASE = "update-task";
+
     private final TaskRepository taskRepository;
 
+    private final TaskEventPublisher taskEventPublisher;
+
+    private final KnownUserRepository knownUserRepository;
+
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code UpdateTaskService} with required dependencies.
      *
-     * @param taskRepository the repository for task data access
+     * @param taskRepository      the repository for task data access
+     * @param taskEventPublisher  the publisher of task events
+     * @param knownUserRepository the repository of the existing users
+     * @param stepObserver        the observer of the use case steps
      */
-    public UpdateTaskService(TaskRepository taskRepository) {
+    public UpdateTaskService(TaskRepository taskRepository, TaskEventPublisher taskEventPublisher, KnownUserRepository knownUserRepository,
+            UseCaseStepObserver stepObserver) {
         this.taskRepository = taskRepository;
+        this.taskEventPublisher = taskEventPublisher;
+        this.knownUserRepository = knownUserRepository;
+        this.stepObserver = stepObserver;
     }
 
     @Override
     @Transactional
     public Optional<Task> updateTaskById(UpdateTaskCommand command) {
         var taskId = TaskId.of(command.taskId());
+        var newUserId = UserId.of(command.userId());
+        var newTitle = Title.of(command.title());
+        var newDescription = Description.ofNullable(command.description());
+        var newStartDate = StartDate.ofNullable(command.startDate());
+        var newEndDate = EndDate.ofNullable(command.endDate());
+        validateUserExists(newUserId);
 
-        var optionalTask = retrieveTask(taskId);
-        if (optionalTask.isEmpty()) {
-            return Optional.empty();
+        var updatedTask = stepObserver.observe(USE_CASE, "persist-task",
+                () -> taskRepository.updateById(taskId, newUserId, newTitle, newDescription, newStartDate, newEndDate, command.expectedVersion()));
+        if (updatedTask.isEmpty() && command.expectedVersion() != null) {
+            stepObserver.observe(USE_CASE, "retrieve-task", () -> retrieveTask(taskId))
+                        .ifPresent(task -> rejectVersionMismatch(task, command.expectedVersion()));
         }
+        updatedTask.ifPresent(taskEventPublisher::publishTaskUpdated);
 
-        var task = optionalTask.get();
-        updateTaskDomain(task, command);
+        return updatedTask;
+    }
 
-        var updatedTask = persistTask(task);
-        return Optional.of(updatedTask);
+    /**
+     * Validates that the task's owner is a known user.
+     *
+     * @param userId the user's unique identifier
+     * @throws UnknownUserException if the user does not exist
+     */
+    private void validateUserExists(UserId userId) {
+        if (!knownUserRepository.existsById(userId)) {
+            throw new UnknownUserException("User %s does not exist".formatted(userId.value()));
+        }
     }
 
     /**
@@ -91,32 +129,16 @@ public class UpdateTaskService implements UpdateTaskUseCase {
     }
 
     /**
-     * Updates task domain object with new values from command.
-     * <p>
-     * Transforms command parameters into value objects and delegates to domain update method.
-     *
-     * @param task    the task domain object to update
-     * @param command the command containing new values
-     * @throws IllegalArgumentException if any value object validation fails
-     */
-    private void updateTaskDomain(Task task, UpdateTaskCommand command) {
-        var newUserId = UserId.of(command.userId());
-        var newTitle = Title.of(command.title());
-        var newDescription = Description.ofNullable(command.description());
-        var newStartDate = StartDate.ofNullable(command.startDate());
-        var newEndDate = EndDate.ofNullable(command.endDate());
-
-        task.update(newUserId, newTitle, newDescription, newStartDate, newEndDate);
-    }
-
-    /**
-     * Persists updated task to repository.
+     * Rejects an update that did not apply because the task no longer has the version the caller expects.
      *
-     * @param task the task domain object to persist
-     * @return the persisted {@link Task}
+     * @param task            the current task
+     * @param expectedVersion the version the caller expects
+     * @throws TaskVersionMismatchException always, describing the task's current and expected versions
      */
-    private Task persistTask(Task task) {
-        return taskRepository.save(task);
+    private void rejectVersionMismatch(Task task, Long expectedVersion) {
+        var message = "Task %s has version %d but version %d was expected".formatted(task.getId()
+                                                                                          .value(), task.getVersion(), expectedVersion);
+        throw new TaskVersionMismatchException(message);
     }
 
 }
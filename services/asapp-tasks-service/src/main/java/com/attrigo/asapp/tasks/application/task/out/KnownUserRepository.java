@@ -0,0 +1,40 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task.out;
+
+import com.attrigo.asapp.tasks.domain.task.UserId;
+
+/**
+ * Repository port for checking which users exist in the users bounded context.
+ * <p>
+ * Implementations answer from a local replica of the existing users rather than calling the users service, so a task can be validated against its owner
+ * without a remote call.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface KnownUserRepository {
+
+    /**
+     * Checks whether a user exists.
+     *
+     * @param userId the user's unique identifier
+     * @return {@code true} if the user exists, {@code false} otherwise
+     */
+    boolean existsById(UserId userId);
+
+}
@@ -0,0 +1,53 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task.out;
+
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+
+/**
+ * Publisher port for announcing task changes to other bounded contexts.
+ * <p>
+ * Implementations must record the events within the caller's transaction, so an event is published if and only if the change it describes is committed.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface TaskEventPublisher {
+
+    /**
+     * Publishes that a task has been created.
+     *
+     * @param task the created task, with its generated ID
+     */
+    void publishTaskCreated(Task task);
+
+    /**
+     * Publishes that a task has been updated.
+     *
+     * @param task the task with its new state and version
+     */
+    void publishTaskUpdated(Task task);
+
+    /**
+     * Publishes that a task has been deleted.
+     *
+     * @param taskId the deleted task's unique identifier
+     */
+    void publishTaskDeleted(TaskId taskId);
+
+}
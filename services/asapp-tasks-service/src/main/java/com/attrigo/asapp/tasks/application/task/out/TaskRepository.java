@@ -16,11 +16,14 @@
 
 package com.attrigo.asapp.tasks.application.task.out;
 
-import java.util.Collection;
 import java.util.Optional;
 
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
 import com.attrigo.asapp.tasks.domain.task.Task;
 import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
 import com.attrigo.asapp.tasks.domain.task.UserId;
 
 /**
@@ -42,39 +45,45 @@ public interface TaskRepository {
     Optional<Task> findById(TaskId taskId);
 
     /**
-     * Finds tasks by their unique identifiers.
-     *
-     * @param taskIds the collection of task identifiers
-     * @return a {@link Collection} of {@link Task} entities found
-     */
-    Collection<Task> findByIds(Collection<TaskId> taskIds);
-
-    /**
-     * Finds all tasks by their user's unique identifier.
+     * Saves a task to the repository.
+     * <p>
+     * If the task is new (without ID), it will be persisted and returned with a generated ID.
+     * <p>
+     * If the task is reconstituted (with ID), it will be updated.
      *
-     * @param userId the user's unique identifier
-     * @return a {@link Collection} of {@link Task} entities belonging to the user
+     * @param task the {@link Task} to save
+     * @return the saved {@link Task} with a persistent ID
      */
-    Collection<Task> findByUserId(UserId userId);
+    Task save(Task task);
 
     /**
-     * Retrieves all tasks from the repository.
+     * Persists the changed fields of a reconstituted task, leaving the other fields untouched.
+     * <p>
+     * A task without changed fields is returned as is, without accessing the repository.
      *
-     * @return a {@link Collection} of all {@link Task} entities
+     * @param task the reconstituted {@link Task} whose changed fields are persisted
+     * @return the persisted {@link Task} with its new version
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the task was modified or deleted since it was retrieved
      */
-    Collection<Task> findAll();
+    Task saveChanges(Task task);
 
     /**
-     * Saves a task to the repository.
+     * Updates the information of an existing task in a single round trip, returning the updated task.
      * <p>
-     * If the task is new (without ID), it will be persisted and returned with a generated ID.
+     * The update and the read of the resulting state happen atomically, incrementing the task's version.
      * <p>
-     * If the task is reconstituted (with ID), it will be updated.
+     * If an expected version is provided, the task is only updated while it still has that version.
      *
-     * @param task the {@link Task} to save
-     * @return the saved {@link Task} with a persistent ID
+     * @param taskId          the task's unique identifier
+     * @param userId          the new user unique identifier
+     * @param title           the new title
+     * @param description     the new description, or {@code null} to clear it
+     * @param startDate       the new start date, or {@code null} to clear it
+     * @param endDate         the new end date, or {@code null} to clear it
+     * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+     * @return an {@link Optional} containing the updated {@link Task}, {@link Optional#empty} if no task with the ID (and expected version) exists
      */
-    Task save(Task task);
+    Optional<Task> updateById(TaskId taskId, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate, Long expectedVersion);
 
     /**
      * Deletes a task by their unique identifier.
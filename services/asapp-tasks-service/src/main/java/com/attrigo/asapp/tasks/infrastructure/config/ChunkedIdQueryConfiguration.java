@@ -0,0 +1,53 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.attrigo.asapp.tasks.infrastructure.datasource.ChunkedIdQuery;
+
+/**
+ * Configuration class for the queries filtered by a list of identifiers.
+ * <p>
+ * Wires the {@link ChunkedIdQuery} with the bound on the identifiers a query accepts and how they are split into concurrent chunks.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class ChunkedIdQueryConfiguration {
+
+    /**
+     * Creates the runner of the queries filtered by a list of identifiers.
+     *
+     * @param transactionManager the transaction manager of the application data source
+     * @param maxIds             the maximum number of distinct identifiers a query accepts
+     * @param chunkSize          the maximum number of identifiers bound per statement
+     * @param parallelism        the maximum number of chunks of a query running concurrently
+     * @return the configured {@link ChunkedIdQuery}
+     */
+    @Bean
+    ChunkedIdQuery chunkedIdQuery(PlatformTransactionManager transactionManager, @Value("${asapp.id-query.max-ids:1000}") int maxIds,
+            @Value("${asapp.id-query.chunk-size:100}") int chunkSize, @Value("${asapp.id-query.parallelism:4}") int parallelism) {
+
+        return new ChunkedIdQuery(transactionManager, maxIds, chunkSize, parallelism);
+    }
+
+}
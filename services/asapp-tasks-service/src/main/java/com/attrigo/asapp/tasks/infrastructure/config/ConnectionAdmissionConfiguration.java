@@ -0,0 +1,85 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.attrigo.asapp.tasks.application.UseCasePriority;
+import com.attrigo.asapp.tasks.infrastructure.datasource.AdmissionControlledDataSource;
+import com.attrigo.asapp.tasks.infrastructure.datasource.ConnectionAdmission;
+import com.attrigo.asapp.tasks.infrastructure.datasource.ConnectionAdmissionPostProcessor;
+import com.attrigo.asapp.tasks.infrastructure.datasource.UseCasePriorityInterceptor;
+
+/**
+ * Configuration class for the admission control of the database connections.
+ * <p>
+ * Puts every connection pool behind an {@link AdmissionControlledDataSource}, and makes the {@link UseCasePriority} declared by use cases available to their
+ * {@link ConnectionAdmission}.
+ * <p>
+ * Only active when {@code asapp.datasource.admission.enabled} is {@code true}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "asapp.datasource.admission.enabled", havingValue = "true")
+public class ConnectionAdmissionConfiguration {
+
+    /**
+     * Creates the post-processor putting the connection pools behind their admission control.
+     *
+     * @param meterRegistry the registry where the admission metrics are published
+     * @param maxQueueSize  the maximum number of callers waiting for a connection of each pool
+     * @param maxWait       the maximum time in milliseconds a caller waits for a connection
+     * @return the configured {@link ConnectionAdmissionPostProcessor}
+     */
+    @Bean
+    static ConnectionAdmissionPostProcessor connectionAdmissionPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${asapp.datasource.admission.max-queue-size:50}") int maxQueueSize, @Value("${asapp.datasource.admission.max-wait:1000}") long maxWait) {
+
+        return new ConnectionAdmissionPostProcessor(meterRegistry, maxQueueSize, Duration.ofMillis(maxWait));
+    }
+
+    /**
+     * Creates the advisor binding the priority of the use cases while they run, ahead of the transaction advisor so the priority is known when their
+     * transaction obtains its connection.
+     *
+     * @return the use case priority {@link Advisor}
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor useCasePriorityAdvisor() {
+        var advisor = new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(UseCasePriority.class), new UseCasePriorityInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+}
@@ -0,0 +1,125 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.autoconfigure.JdbcProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineFilter;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineInterceptor;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineJdbcTemplate;
+
+/**
+ * Configuration class for the end-to-end request deadlines.
+ * <p>
+ * Every incoming request gets a deadline from the {@link DeadlineFilter}, which then bounds:
+ * <ul>
+ * <li>The outgoing HTTP calls, through the {@link DeadlineInterceptor} registered by {@link RestClientConfiguration}</li>
+ * <li>The JDBC statements, through the {@link DeadlineJdbcTemplate} replacing Boot's auto-configured {@link JdbcTemplate}</li>
+ * </ul>
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class DeadlineConfiguration {
+
+    /**
+     * Registers the filter setting the deadline of each incoming request ahead of any other filter, security included.
+     *
+     * @param defaultTimeout the timeout in milliseconds of the requests matching no route
+     * @param routeTimeouts  the timeouts by route, each formatted as {@code <path-pattern>=<milliseconds>}
+     * @return the {@link FilterRegistrationBean} of the {@link DeadlineFilter}
+     */
+    @Bean
+    FilterRegistrationBean<DeadlineFilter> deadlineFilter(@Value("${asapp.deadline.default-timeout:5000}") long defaultTimeout,
+            @Value("${asapp.deadline.route-timeouts:}") List<String> routeTimeouts) {
+
+        var registration = new FilterRegistrationBean<>(new DeadlineFilter(Duration.ofMillis(defaultTimeout), parseRouteTimeouts(routeTimeouts)));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * Creates the {@link JdbcTemplate} bounding every statement by the deadline of the current request.
+     * <p>
+     * Configured from {@code spring.jdbc.template.*} as Boot's auto-configured template is, so the {@code JdbcClient} and Spring Data JDBC repositories built
+     * on it are bounded too.
+     *
+     * @param dataSource           the data source
+     * @param jdbcProperties       the JDBC properties bound from {@code spring.jdbc.*}
+     * @param exceptionTranslators the optional SQL exception translator
+     * @return the configured {@link DeadlineJdbcTemplate}
+     */
+    @Bean
+    JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties jdbcProperties, ObjectProvider<SQLExceptionTranslator> exceptionTranslators) {
+        var template = jdbcProperties.getTemplate();
+
+        var jdbcTemplate = new DeadlineJdbcTemplate(dataSource);
+        jdbcTemplate.setIgnoreWarnings(template.isIgnoreWarnings());
+        jdbcTemplate.setFetchSize(template.getFetchSize());
+        jdbcTemplate.setMaxRows(template.getMaxRows());
+        if (template.getQueryTimeout() != null) {
+            jdbcTemplate.setQueryTimeout((int) template.getQueryTimeout()
+                                                       .toSeconds());
+        }
+        jdbcTemplate.setSkipResultsProcessing(template.isSkipResultsProcessing());
+        jdbcTemplate.setSkipUndeclaredResults(template.isSkipUndeclaredResults());
+        jdbcTemplate.setResultsMapCaseInsensitive(template.isResultsMapCaseInsensitive());
+        exceptionTranslators.ifUnique(jdbcTemplate::setExceptionTranslator);
+        return jdbcTemplate;
+    }
+
+    /**
+     * Parses the route timeouts, keeping their declaration order.
+     *
+     * @param routeTimeouts the timeouts by route, each formatted as {@code <path-pattern>=<milliseconds>}
+     * @return the timeouts by path pattern
+     * @throws IllegalArgumentException if a route timeout is malformed
+     */
+    private static Map<String, Duration> parseRouteTimeouts(List<String> routeTimeouts) {
+        var timeoutsByPattern = new LinkedHashMap<String, Duration>();
+        for (var routeTimeout : routeTimeouts) {
+            var separator = routeTimeout.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Route timeout must be formatted as <path-pattern>=<milliseconds>: " + routeTimeout);
+            }
+
+            var pattern = routeTimeout.substring(0, separator)
+                                      .strip();
+            var timeout = Long.parseLong(routeTimeout.substring(separator + 1)
+                                                     .strip());
+            timeoutsByPattern.put(pattern, Duration.ofMillis(timeout));
+        }
+        return timeoutsByPattern;
+    }
+
+}
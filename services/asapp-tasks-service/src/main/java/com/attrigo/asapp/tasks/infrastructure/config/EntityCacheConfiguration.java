@@ -0,0 +1,129 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.tasks.infrastructure.cache.EntityCache;
+import com.attrigo.asapp.tasks.infrastructure.cache.TwoTierEntityCache;
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskEntity;
+
+/**
+ * Configuration class for the cache of tasks by id.
+ * <p>
+ * When {@code asapp.entity-cache.enabled} is {@code true}, wires a {@link TwoTierEntityCache} backed by Redis and subscribes it to the evictions broadcast by
+ * the other replicas; otherwise the cache is disabled and every lookup reads the database.
+ * <p>
+ * When read replicas are enabled, the cache misses are loaded in a separate read-only transaction, which is routed to the primary, so entities are never
+ * cached from a lagging replica.
+ *
+ * @since 0.5.0
+ * @see EntityCache
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class EntityCacheConfiguration {
+
+    /**
+     * Creates the two-tier cache of tasks by id.
+     *
+     * @param redisTemplate      the Spring Data Redis template for the shared tier and the evictions broadcast
+     * @param objectMapper       the Jackson ObjectMapper for the JSON serialization of the shared tier
+     * @param meterRegistry      the registry where the cache metrics are published
+     * @param maximumSize        the maximum number of tasks held in memory
+     * @param ttl                the time in milliseconds a task stays in memory
+     * @param sharedTtl          the time in milliseconds a task stays in Redis
+     * @param verificationRate   the fraction of the cache hits verified against the database
+     * @param transactionManager the transaction manager running the cache misses on the primary
+     * @param replicasEnabled    whether read-only use cases are routed to read replicas
+     * @return the configured {@link TwoTierEntityCache}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "asapp.entity-cache.enabled", havingValue = "true")
+    TwoTierEntityCache<JdbcTaskEntity> taskEntityCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${asapp.entity-cache.maximum-size:10000}") long maximumSize, @Value("${asapp.entity-cache.ttl:60000}") long ttl,
+            @Value("${asapp.entity-cache.shared-ttl:600000}") long sharedTtl, @Value("${asapp.entity-cache.verification-rate:0.01}") double verificationRate,
+            PlatformTransactionManager transactionManager, @Value("${asapp.datasource.replica.enabled:false}") boolean replicasEnabled) {
+
+        return new TwoTierEntityCache<>("tasks", JdbcTaskEntity.class, redisTemplate, objectMapper, meterRegistry, maximumSize, Duration.ofMillis(ttl),
+                Duration.ofMillis(sharedTtl), verificationRate, databaseReads(transactionManager, replicasEnabled));
+    }
+
+    /**
+     * Creates the container subscribing the cache of tasks by id to the evictions broadcast by the other replicas.
+     *
+     * @param redisConnectionFactory the Redis connection factory
+     * @param taskEntityCache        the two-tier cache of tasks by id
+     * @return the configured {@link RedisMessageListenerContainer}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "asapp.entity-cache.enabled", havingValue = "true")
+    RedisMessageListenerContainer entityCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+            TwoTierEntityCache<JdbcTaskEntity> taskEntityCache) {
+
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(taskEntityCache, ChannelTopic.of(taskEntityCache.getEvictionsChannel()));
+        return container;
+    }
+
+    /**
+     * Creates the disabled cache of tasks by id, used unless the entity cache is enabled.
+     *
+     * @return the disabled {@link EntityCache}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "asapp.entity-cache.enabled", havingValue = "false", matchIfMissing = true)
+    EntityCache<JdbcTaskEntity> disabledTaskEntityCache() {
+        return EntityCache.disabled();
+    }
+
+    /**
+     * Creates the transaction operations the cache misses are loaded through.
+     *
+     * @param transactionManager the transaction manager
+     * @param replicasEnabled    whether read-only use cases are routed to read replicas
+     * @return a new read-only transaction, routed to the primary, when replicas are enabled; the caller's transaction otherwise
+     */
+    private static TransactionOperations databaseReads(PlatformTransactionManager transactionManager, boolean replicasEnabled) {
+        if (!replicasEnabled) {
+            return TransactionOperations.withoutTransaction();
+        }
+
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ServerCredentials;
+import io.grpc.ServerInterceptors;
+import io.grpc.TlsServerCredentials;
+
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineServerInterceptor;
+import com.attrigo.asapp.tasks.infrastructure.grpc.GrpcServerLifecycle;
+import com.attrigo.asapp.tasks.infrastructure.security.JwtVerifier;
+import com.attrigo.asapp.tasks.infrastructure.security.grpc.JwtServerInterceptor;
+import com.attrigo.asapp.tasks.infrastructure.task.in.TaskLookupGrpcService;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler;
+
+/**
+ * Configuration class for the internal gRPC API.
+ * <p>
+ * Serves the {@link TaskLookupGrpcService} on its own port, next to the REST API. Calls are authenticated by the {@link JwtServerInterceptor} and bounded by
+ * their deadline through the {@link DeadlineServerInterceptor}, and each one runs on a virtual thread, as the blocking JDBC reads behind them do on the
+ * servlet side.
+ * <p>
+ * The server serves TLS with the key and certificate of the Spring SSL bundle named by {@code asapp.grpc.server.ssl-bundle}; when the bundle also holds a trust
+ * store, clients must present a certificate it trusts. Without a bundle the server listens in plaintext, where the bearer tokens of the calls can be read by
+ * anyone on the network path, so it must then only be reachable from a trusted private network.
+ * <p>
+ * Only active when {@code asapp.grpc.server.enabled} is {@code true}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "asapp.grpc.server.enabled", havingValue = "true")
+public class GrpcServerConfiguration {
+
+    /**
+     * Creates the credentials of the gRPC server.
+     *
+     * @param sslBundles the registry of the Spring SSL bundles
+     * @param sslBundle  the name of the SSL bundle holding the server key and certificate, empty to listen in plaintext
+     * @return TLS {@link ServerCredentials}, requiring client certificates if the bundle has a trust store, or insecure credentials without bundle
+     */
+    @Bean
+    ServerCredentials grpcServerCredentials(SslBundles sslBundles, @Value("${asapp.grpc.server.ssl-bundle:}") String sslBundle) {
+        if (!StringUtils.hasText(sslBundle)) {
+            return InsecureServerCredentials.create();
+        }
+
+        var bundle = sslBundles.getBundle(sslBundle);
+        var credentials = TlsServerCredentials.newBuilder()
+                                              .keyManager(bundle.getManagers()
+                                                                .getKeyManagers());
+        if (bundle.getStores()
+                  .getTrustStore() != null) {
+            credentials.trustManager(bundle.getManagers()
+                                           .getTrustManagers())
+                       .clientAuth(TlsServerCredentials.ClientAuth.REQUIRE);
+        }
+        return credentials.build();
+    }
+
+    /**
+     * Creates the lifecycle of the gRPC server serving the task lookups.
+     *
+     * @param taskQueryHandler       the query handler for task reads
+     * @param jwtVerifier            the JWT verifier authenticating the calls
+     * @param grpcServerCredentials  the credentials of the server
+     * @param applicationInfoManager the optional manager of the instance registered with the discovery service
+     * @param port                   the port of the gRPC server
+     * @param streamBatchSize        the number of users read per batch by the streaming lookup
+     * @param shutdownGracePeriod    the maximum time in milliseconds calls in flight have to complete on shutdown
+     * @return the configured {@link GrpcServerLifecycle}
+     */
+    @Bean
+    GrpcServerLifecycle grpcServerLifecycle(TaskQueryHandler taskQueryHandler, JwtVerifier jwtVerifier, ServerCredentials grpcServerCredentials,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager, @Value("${asapp.grpc.server.port:9081}") int port,
+            @Value("${asapp.grpc.server.stream-batch-size:500}") int streamBatchSize,
+            @Value("${asapp.grpc.server.shutdown-grace-period:10000}") long shutdownGracePeriod) {
+
+        var taskLookupService = ServerInterceptors.intercept(new TaskLookupGrpcService(taskQueryHandler, streamBatchSize), new DeadlineServerInterceptor(),
+                new JwtServerInterceptor(jwtVerifier));
+        var server = Grpc.newServerBuilderForPort(port, grpcServerCredentials)
+                         .executor(Executors.newVirtualThreadPerTaskExecutor())
+                         .addService(taskLookupService)
+                         .build();
+
+        return new GrpcServerLifecycle(server, Duration.ofMillis(shutdownGracePeriod), applicationInfoManager);
+    }
+
+}
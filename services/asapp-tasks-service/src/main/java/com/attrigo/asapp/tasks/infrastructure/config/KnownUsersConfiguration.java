@@ -0,0 +1,95 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUserEventConsumer;
+import com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUserStore;
+import com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUsers;
+import com.attrigo.asapp.tasks.infrastructure.task.out.KnownUserRepositoryAdapter;
+
+/**
+ * Configuration class for the known users replica.
+ * <p>
+ * Wires the in-memory {@link KnownUsers} in front of the {@link KnownUserStore}, the {@link KnownUserEventConsumer} feeding it from the users stream in
+ * Redis, and the {@link KnownUserRepositoryAdapter} validating task owners against it.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class KnownUsersConfiguration {
+
+    /**
+     * Creates the in-memory replica of the known users.
+     *
+     * @param knownUserStore  the store of the known users
+     * @param meterRegistry   the registry where the known users meters are published
+     * @param refreshInterval the delay in milliseconds between reloads of the users held in memory
+     * @return the configured {@link KnownUsers}
+     */
+    @Bean
+    KnownUsers knownUsers(KnownUserStore knownUserStore, MeterRegistry meterRegistry,
+            @Value("${asapp.known-users.refresh-interval:60000}") long refreshInterval) {
+        return new KnownUsers(knownUserStore, Duration.ofMillis(refreshInterval), meterRegistry);
+    }
+
+    /**
+     * Creates the consumer applying the user events to the known users.
+     *
+     * @param knownUsers    the replica the events are applied to
+     * @param redisTemplate the Spring Data Redis template for executing Redis operations
+     * @param meterRegistry the registry where the consumer meters are published
+     * @param streamKey     the key of the stream where the user events are published
+     * @param consumerGroup the consumer group the replicas read the events as
+     * @param consumerName  the name of this replica within the consumer group
+     * @param batchSize     the maximum number of events read per batch
+     * @param pollInterval  the delay in milliseconds between polls once the stream is drained
+     * @return the configured {@link KnownUserEventConsumer}
+     */
+    @Bean
+    KnownUserEventConsumer knownUserEventConsumer(KnownUsers knownUsers, RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+            @Value("${asapp.known-users.stream-key:events:users}") String streamKey,
+            @Value("${asapp.known-users.consumer-group:asapp-tasks-service}") String consumerGroup,
+            @Value("${asapp.known-users.consumer-name:${HOSTNAME:asapp-tasks-service}}") String consumerName,
+            @Value("${asapp.known-users.batch-size:100}") int batchSize, @Value("${asapp.known-users.poll-interval:500}") long pollInterval) {
+
+        return new KnownUserEventConsumer(knownUsers, redisTemplate, streamKey, consumerGroup, consumerName, batchSize, Duration.ofMillis(pollInterval),
+                meterRegistry);
+    }
+
+    /**
+     * Creates the adapter validating task owners against the known users.
+     *
+     * @param knownUsers the replica of the existing users
+     * @param enforced   whether users missing from the replica are rejected, to be enabled once it has been bootstrapped
+     * @return the configured {@link KnownUserRepositoryAdapter}
+     */
+    @Bean
+    KnownUserRepositoryAdapter knownUserRepository(KnownUsers knownUsers, @Value("${asapp.known-users.enforce:false}") boolean enforced) {
+        return new KnownUserRepositoryAdapter(knownUsers, enforced);
+    }
+
+}
@@ -0,0 +1,147 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.attrigo.asapp.tasks.infrastructure.datasource.ReadReplica;
+import com.attrigo.asapp.tasks.infrastructure.datasource.ReadReplicaMonitor;
+import com.attrigo.asapp.tasks.infrastructure.datasource.ReadReplicaRoutingDataSource;
+
+/**
+ * Configuration class for routing read-only use cases to read replicas.
+ * <p>
+ * Replaces the auto-configured data source with a {@link LazyConnectionDataSourceProxy} over a {@link ReadReplicaRoutingDataSource}, which sends the
+ * connections of use cases annotated with {@code @Transactional(readOnly = true)} to the replicas listed in {@code asapp.datasource.replica.urls} and everything
+ * else to the primary configured by the standard {@code spring.datasource.*} properties.
+ * <p>
+ * Enabled when {@code asapp.datasource.replica.enabled} is {@code true}.
+ *
+ * @since 0.5.0
+ * @see ReadReplicaRoutingDataSource
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "asapp.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfiguration {
+
+    /**
+     * Creates the primary connection pool, configured by the standard {@code spring.datasource.*} properties.
+     *
+     * @param dataSourceProperties the standard data source properties
+     * @return the primary {@link HikariDataSource}
+     */
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                                   .type(HikariDataSource.class)
+                                   .build();
+    }
+
+    /**
+     * Creates the data source routing read-only use cases to the replicas.
+     *
+     * @param primaryDataSource the primary connection pool
+     * @param meterRegistry     the registry where the replica pool metrics are published
+     * @param urls              the JDBC URLs of the replicas
+     * @param username          the replicas username, defaults to the primary one
+     * @param password          the replicas password, defaults to the primary one
+     * @param maximumPoolSize   the maximum size of each replica pool
+     * @param connectionTimeout the maximum time in milliseconds to wait for a replica connection before falling back to the primary
+     * @return the configured {@link ReadReplicaRoutingDataSource}
+     */
+    @Bean(defaultCandidate = false)
+    ReadReplicaRoutingDataSource readReplicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource, MeterRegistry meterRegistry,
+            @Value("${asapp.datasource.replica.urls}") List<String> urls,
+            @Value("${asapp.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${asapp.datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${asapp.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${asapp.datasource.replica.connection-timeout:1000}") long connectionTimeout) {
+
+        var replicas = IntStream.range(0, urls.size())
+                                .mapToObj(index -> {
+                                    var name = "replica-" + index;
+                                    var dataSource = DataSourceBuilder.create()
+                                                                      .type(HikariDataSource.class)
+                                                                      .url(urls.get(index))
+                                                                      .username(username)
+                                                                      .password(password)
+                                                                      .build();
+                                    dataSource.setPoolName(name);
+                                    dataSource.setReadOnly(true);
+                                    dataSource.setMaximumPoolSize(maximumPoolSize);
+                                    dataSource.setConnectionTimeout(connectionTimeout);
+                                    dataSource.setInitializationFailTimeout(-1);
+                                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+                                    return new ReadReplica(name, dataSource);
+                                })
+                                .toList();
+
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * Creates the monitor checking the replication lag of the replicas.
+     *
+     * @param readReplicaRoutingDataSource the routing data source holding the replicas
+     * @param meterRegistry                the registry where the replica gauges are published
+     * @param maxLag                       the maximum replication lag in milliseconds for a replica to serve reads
+     * @param checkInterval                the delay in milliseconds between health checks
+     * @return the configured {@link ReadReplicaMonitor}
+     */
+    @Bean
+    ReadReplicaMonitor readReplicaMonitor(@Qualifier("readReplicaRoutingDataSource") ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+            MeterRegistry meterRegistry, @Value("${asapp.datasource.replica.max-lag:5000}") long maxLag,
+            @Value("${asapp.datasource.replica.check-interval:5000}") long checkInterval) {
+
+        return new ReadReplicaMonitor(readReplicaRoutingDataSource.getReplicas(), Duration.ofMillis(maxLag), Duration.ofMillis(checkInterval), meterRegistry);
+    }
+
+    /**
+     * Creates the application data source, obtaining connections lazily so that routing sees the transaction attributes.
+     *
+     * @param readReplicaRoutingDataSource the routing data source
+     * @return the application {@link DataSource}
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("readReplicaRoutingDataSource") ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+}
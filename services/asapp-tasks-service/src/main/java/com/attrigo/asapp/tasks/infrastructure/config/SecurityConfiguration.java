@@ -16,6 +16,7 @@
 
 package com.attrigo.asapp.tasks.infrastructure.config;
 
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_KNOWN_USERS_RESYNC_FULL_PATH;
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
 import java.util.Set;
@@ -26,6 +27,7 @@ import org.springframework.boot.security.autoconfigure.actuate.web.servlet.Endpo
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -38,6 +40,8 @@ import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 import com.attrigo.asapp.tasks.infrastructure.security.web.EmptyBodyBasicAuthenticationEntryPoint;
 import com.attrigo.asapp.tasks.infrastructure.security.web.JwtAuthenticationEntryPoint;
 import com.attrigo.asapp.tasks.infrastructure.security.web.JwtAuthenticationFilter;
@@ -78,6 +82,11 @@ public class SecurityConfiguration {
      */
     private static final String ROOT_MATCHER = "/**";
 
+    /**
+     * The authority granted by the administrator role claim.
+     */
+    private static final String ADMIN_AUTHORITY = "ADMIN";
+
     /**
      * Set of root URL patterns that are excluded from authentication checks.
      */
@@ -126,6 +135,9 @@ public class SecurityConfiguration {
      * <li>Disables CSRF: authentication is stateless (JWT Bearer header); no session cookies exist to hijack.</li>
      * <li>No CORS configuration: endpoints are consumed server-to-server; CORS is a browser-only enforcement mechanism.</li>
      * <li>Configures JWT authentication for the incoming requests that matches {@literal /api/**}.</li>
+     * <li>Permits the async dispatch that ends a streamed response, such as the task changes stream: the request was authenticated when it started, and the
+     * stateless security context is not available to the dispatch.</li>
+     * <li>Restricts the known users resync to administrators.</li>
      * <li>Adds the JWT authentication entry point, which renders an RFC 7807 ProblemDetail 401 when authentication fails or is missing.</li>
      * <li>Adds the JWT authentication filter.</li>
      * </ul>
@@ -138,8 +150,14 @@ public class SecurityConfiguration {
     DefaultSecurityFilterChain apiFilterChain(HttpSecurity http) {
         http.csrf(AbstractHttpConfigurer::disable);
         http.securityMatcher(API_MATCHER)
-            .authorizeHttpRequests(auth -> auth.anyRequest()
-                                               .authenticated());
+            .authorizeHttpRequests(auth -> {
+                auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll();
+                auth.requestMatchers(HttpMethod.POST, TASKS_KNOWN_USERS_RESYNC_FULL_PATH)
+                    .hasAuthority(ADMIN_AUTHORITY);
+                auth.anyRequest()
+                    .authenticated();
+            });
         http.sessionManagement(session -> session.sessionCreationPolicy(STATELESS));
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         http.exceptionHandling(exception -> exception.authenticationEntryPoint(jwtAuthenticationEntryPoint));
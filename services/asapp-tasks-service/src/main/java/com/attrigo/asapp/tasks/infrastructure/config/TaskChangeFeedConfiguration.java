@@ -0,0 +1,84 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.attrigo.asapp.tasks.infrastructure.task.changes.TaskChangeBroadcaster;
+import com.attrigo.asapp.tasks.infrastructure.task.changes.TaskChangeListener;
+import com.attrigo.asapp.tasks.infrastructure.task.changes.TaskChangeLog;
+
+/**
+ * Configuration class for the task change feed.
+ * <p>
+ * Wires the {@link TaskChangeListener}, which receives the changes announced by the database on a single connection, to the {@link TaskChangeBroadcaster},
+ * which fans them out to the clients streaming the task changes of a user.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class TaskChangeFeedConfiguration {
+
+    /**
+     * Creates the broadcaster fanning out task changes to their subscribers.
+     *
+     * @param taskChangeLog     the log replaying the changes missed by resuming subscribers
+     * @param meterRegistry     the registry where the change feed meters are published
+     * @param bufferSize        the maximum number of changes waiting to be sent to a subscriber before it is disconnected
+     * @param heartbeatInterval the idle time in milliseconds after which a subscriber is sent a keep-alive comment
+     * @param timeout           the time in milliseconds after which a subscription is closed, letting the client reconnect
+     * @return the configured {@link TaskChangeBroadcaster}
+     */
+    @Bean
+    TaskChangeBroadcaster taskChangeBroadcaster(TaskChangeLog taskChangeLog, MeterRegistry meterRegistry,
+            @Value("${asapp.task-changes.buffer-size:256}") int bufferSize, @Value("${asapp.task-changes.heartbeat-interval:15000}") long heartbeatInterval,
+            @Value("${asapp.task-changes.timeout:1800000}") long timeout) {
+
+        return new TaskChangeBroadcaster(taskChangeLog, bufferSize, Duration.ofMillis(heartbeatInterval), Duration.ofMillis(timeout), meterRegistry);
+    }
+
+    /**
+     * Creates the listener receiving the task changes announced by the database.
+     *
+     * @param dataSource            the application data source, whose primary provides the listening connection
+     * @param taskChangeBroadcaster the broadcaster fanning out the changes
+     * @param taskChangeLog         the log pruned of expired changes
+     * @param pollTimeout           the maximum time in milliseconds to wait for notifications before checking whether the listener was stopped
+     * @param reconnectDelay        the delay in milliseconds before reconnecting after the listening connection is lost
+     * @param retention             how long in milliseconds changes are kept for subscribers to resume from
+     * @param pruneInterval         the delay in milliseconds between deletions of expired changes
+     * @return the configured {@link TaskChangeListener}
+     */
+    @Bean
+    TaskChangeListener taskChangeListener(DataSource dataSource, TaskChangeBroadcaster taskChangeBroadcaster, TaskChangeLog taskChangeLog,
+            @Value("${asapp.task-changes.poll-timeout:1000}") long pollTimeout, @Value("${asapp.task-changes.reconnect-delay:5000}") long reconnectDelay,
+            @Value("${asapp.task-changes.retention:604800000}") long retention, @Value("${asapp.task-changes.prune-interval:3600000}") long pruneInterval) {
+
+        return new TaskChangeListener(dataSource, taskChangeBroadcaster, taskChangeLog, Duration.ofMillis(pollTimeout), Duration.ofMillis(reconnectDelay),
+                Duration.ofMillis(retention), Duration.ofMillis(pruneInterval));
+    }
+
+}
@@ -0,0 +1,44 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.service.registry.ImportHttpServices;
+
+import com.attrigo.asapp.http.clients.users.UsersHttpClient;
+
+/**
+ * Registers the {@code users} HTTP service group.
+ * <p>
+ * Imports the {@link UsersHttpClient} declarative client as the {@code users} HTTP service group via {@link ImportHttpServices}.
+ * <p>
+ * The underlying Http client is configured generically by {@link RestClientConfiguration}.
+ *
+ * @since 0.5.0
+ * @see ImportHttpServices
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportHttpServices(group = UsersHttpClientConfiguration.USERS_CLIENT_NAME, types = UsersHttpClient.class)
+public class UsersHttpClientConfiguration {
+
+    /**
+     * Logical name identifying the users-service client, shared across its consumer-side wiring.
+     */
+    public static final String USERS_CLIENT_NAME = "users";
+
+}
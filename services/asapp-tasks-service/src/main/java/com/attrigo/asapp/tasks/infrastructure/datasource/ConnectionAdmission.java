@@ -0,0 +1,222 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.datasource;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.attrigo.asapp.tasks.application.UseCasePriority;
+import com.attrigo.asapp.tasks.infrastructure.deadline.Deadline;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineContext;
+
+/**
+ * Admission control in front of a connection pool.
+ * <p>
+ * With virtual threads nothing bounds how many callers pile up waiting for a pooled connection, so a saturated database turns into thousands of callers
+ * timing out together long after their clients gave up. Callers are admitted instead through a fair semaphore holding one permit per pooled connection:
+ * <ul>
+ * <li>A caller takes a free permit straight away, in arrival order</li>
+ * <li>Otherwise it joins a bounded wait queue, whose share open to it depends on the {@link UseCasePriority} of its use case: the whole queue for
+ * {@code HIGH}, three quarters for {@code NORMAL} and half for {@code LOW}; once its share is full it is refused at once</li>
+ * <li>A queued caller waits at most the maximum wait, and never past the {@link Deadline} of its request; it is refused when no permit frees up by then</li>
+ * </ul>
+ * Refusals raise a {@link ConnectionAdmissionException}.
+ * <p>
+ * Publishes the following metrics, tagged by data source:
+ * <ul>
+ * <li>{@code asapp.datasource.admission.wait}: the time spent waiting for a permit, tagged by priority</li>
+ * <li>{@code asapp.datasource.admission.queue-depth}: the number of callers waiting for a permit</li>
+ * <li>{@code asapp.datasource.admission.rejections}: the number of callers refused, tagged by reason</li>
+ * </ul>
+ *
+ * @since 0.5.0
+ * @see AdmissionControlledDataSource
+ * @author attrigo
+ */
+public class ConnectionAdmission {
+
+    private final String name;
+
+    private final Semaphore permits;
+
+    private final int maxQueueSize;
+
+    private final Duration maxWait;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter queueFullRejections;
+
+    private final Counter timeoutRejections;
+
+    /**
+     * Constructs a new {@code ConnectionAdmission}.
+     *
+     * @param name          the name of the data source, used as metrics tag
+     * @param poolSize      the maximum number of connections of the pool
+     * @param maxQueueSize  the maximum number of callers waiting for a connection
+     * @param maxWait       the maximum time a caller waits for a connection
+     * @param meterRegistry the registry where the admission metrics are published
+     * @throws IllegalArgumentException if the pool size is not positive or the maximum queue size is negative
+     */
+    public ConnectionAdmission(String name, int poolSize, int maxQueueSize, Duration maxWait, MeterRegistry meterRegistry) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Connection admission pool size must be positive");
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("Connection admission maximum queue size must not be negative");
+        }
+
+        this.name = name;
+        this.permits = new Semaphore(poolSize, true);
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("asapp.datasource.admission.queue-depth", waiting, AtomicInteger::get)
+             .description("Callers waiting to be admitted to a database connection")
+             .tag("datasource", name)
+             .register(meterRegistry);
+        this.queueFullRejections = rejectionCounter("queue-full");
+        this.timeoutRejections = rejectionCounter("timeout");
+    }
+
+    /**
+     * Admits the caller to a connection, waiting for one to free up if needed.
+     *
+     * @throws ConnectionAdmissionException if the caller's share of the wait queue is full or no connection freed up in time
+     * @throws SQLException                 if the caller is interrupted while waiting
+     */
+    public void acquire() throws SQLException {
+        var priority = UseCasePriorityContext.current();
+        var startNanos = System.nanoTime();
+
+        if (!tryAcquire(priority)) {
+            throw new ConnectionAdmissionException("Connection admission to " + name + " refused");
+        }
+
+        var priorityTag = priority.name()
+                                  .toLowerCase();
+        Timer.builder("asapp.datasource.admission.wait")
+             .description("Time waited to be admitted to a database connection")
+             .tags("datasource", name, "priority", priorityTag)
+             .register(meterRegistry)
+             .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gives back the permit of a caller whose connection was closed, or could not be obtained.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Returns the number of callers waiting for a connection.
+     *
+     * @return the current depth of the wait queue
+     */
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    /**
+     * Tries to obtain a permit within the caller's share of the wait queue and time budget.
+     *
+     * @param priority the priority of the caller's use case
+     * @return {@code true} if a permit was obtained, {@code false} if the caller was refused
+     * @throws SQLException if the caller is interrupted while waiting
+     */
+    private boolean tryAcquire(UseCasePriority.Level priority) throws SQLException {
+        try {
+            // A zero timeout, unlike tryAcquire(), honours the fairness of the semaphore
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+
+            if (waiting.incrementAndGet() > queueShare(priority)) {
+                waiting.decrementAndGet();
+                queueFullRejections.increment();
+                return false;
+            }
+
+            try {
+                var acquired = permits.tryAcquire(waitBudget().toNanos(), TimeUnit.NANOSECONDS);
+                if (!acquired) {
+                    timeoutRejections.increment();
+                }
+                return acquired;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SQLException("Interrupted while waiting for a connection of " + name, e);
+        }
+    }
+
+    /**
+     * Returns how many callers may be waiting when a caller of the given priority joins the queue.
+     *
+     * @param priority the priority of the caller's use case
+     * @return the share of the wait queue open to the caller
+     */
+    private int queueShare(UseCasePriority.Level priority) {
+        return switch (priority) {
+            case HIGH -> maxQueueSize;
+            case NORMAL -> maxQueueSize * 3 / 4;
+            case LOW -> maxQueueSize / 2;
+        };
+    }
+
+    /**
+     * Returns how long the caller may wait, the maximum wait bounded by the remaining time of its request.
+     *
+     * @return the wait budget of the caller
+     */
+    private Duration waitBudget() {
+        return DeadlineContext.current()
+                              .map(Deadline::remaining)
+                              .filter(remaining -> remaining.compareTo(maxWait) < 0)
+                              .orElse(maxWait);
+    }
+
+    /**
+     * Registers the counter of the callers refused for the given reason.
+     *
+     * @param reason the reason of the refusals
+     * @return the registered {@link Counter}
+     */
+    private Counter rejectionCounter(String reason) {
+        return Counter.builder("asapp.datasource.admission.rejections")
+                      .description("Callers refused a database connection")
+                      .tags("datasource", name, "reason", reason)
+                      .register(meterRegistry);
+    }
+
+}
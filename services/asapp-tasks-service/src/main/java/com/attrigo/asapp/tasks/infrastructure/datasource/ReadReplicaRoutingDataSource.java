@@ -0,0 +1,149 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.attrigo.asapp.tasks.application.ApplicationService;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler;
+
+/**
+ * {@link DataSource} routing the connections of read-only use cases to read replicas.
+ * <p>
+ * A connection is routed to a replica only when the current transaction is read-only and was started by an {@link ApplicationService} or by the
+ * {@link TaskQueryHandler}, that is, a use case or query annotated with {@code @Transactional(readOnly = true)}. The read-only transactions Spring Data
+ * opens by default around repository calls made outside those stay on the primary, preserving read-your-writes for callers such as the login flow.
+ * <p>
+ * Replicas are used in round-robin order, skipping the unavailable ones; when no replica is available or a connection cannot be obtained, the connection falls
+ * back to the primary.
+ * <p>
+ * Must be wrapped in a {@link LazyConnectionDataSourceProxy}, so the connection is obtained after the transaction attributes are bound to the thread.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private static final List<String> USE_CASE_TRANSACTION_PREFIXES = List.of(ApplicationService.class.getPackageName() + ".",
+            TaskQueryHandler.class.getPackageName() + ".");
+
+    private final DataSource primary;
+
+    private final List<ReadReplica> replicas;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Constructs a new {@code ReadReplicaRoutingDataSource}.
+     *
+     * @param primary  the primary data source, serving writes and fallback reads
+     * @param replicas the read replicas
+     */
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReadReplica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (isReadOnlyUseCase()) {
+            var replicaConnection = getReplicaConnection();
+            if (replicaConnection != null) {
+                return replicaConnection;
+            }
+        }
+
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Returns the read replicas.
+     *
+     * @return the read replicas
+     */
+    public List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Closes the replica pools; the primary is closed by its owner.
+     */
+    @Override
+    public void close() {
+        replicas.forEach(ReadReplica::close);
+    }
+
+    /**
+     * Checks whether the current transaction belongs to a read-only use case.
+     *
+     * @return {@code true} if the current transaction is read-only and was started by an application service or a query handler, {@code false} otherwise
+     */
+    private static boolean isReadOnlyUseCase() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+
+        var transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        return transactionName != null && USE_CASE_TRANSACTION_PREFIXES.stream()
+                                                                       .anyMatch(transactionName::startsWith);
+    }
+
+    /**
+     * Obtains a connection from the next available replica.
+     *
+     * @return a replica {@link Connection}, or {@code null} if no replica can serve it
+     */
+    private Connection getReplicaConnection() {
+        var size = replicas.size();
+        var start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (var i = 0; i < size; i++) {
+            var replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                continue;
+            }
+
+            try {
+                return replica.getConnection();
+            } catch (SQLException | RuntimeException e) {
+                logger.warn("Read replica {} unavailable, falling back", replica.getName(), e);
+                replica.markUnavailable();
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,68 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.datasource;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered version 7 UUIDs, as specified by RFC 9562, to be used as primary keys.
+ * <p>
+ * The 48 most significant bits hold the Unix timestamp in milliseconds, so identifiers generated one after another are appended to the right-most leaf of
+ * the primary key index instead of landing on random pages, which keeps inserts free of page splits and the hot part of the index in cache.
+ * <p>
+ * The 12 bits following the version hold a counter that restarts on every new millisecond, making identifiers generated by this process strictly increasing;
+ * when the counter overflows, the timestamp is advanced by one millisecond. The remaining 62 bits are random.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public final class TimeOrderedUuidGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private static final long VERSION_BITS = 0x7000L;
+
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    private TimeOrderedUuidGenerator() {}
+
+    /**
+     * Generates a new time-ordered UUID, greater than any previously generated by this process.
+     *
+     * @return a version 7 {@link UUID}
+     */
+    public static UUID generate() {
+        var now = System.currentTimeMillis() << COUNTER_BITS;
+        var state = LAST_STATE.updateAndGet(last -> Math.max(now, last + 1));
+
+        var timestamp = state >>> COUNTER_BITS;
+        var counter = state & ((1L << COUNTER_BITS) - 1);
+        var mostSignificantBits = timestamp << 16 | VERSION_BITS | counter;
+        var leastSignificantBits = RANDOM.nextLong() & RANDOM_MASK | VARIANT_BITS;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+}
@@ -0,0 +1,131 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.deadline;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter setting the end-to-end {@link Deadline} of each incoming request.
+ * <p>
+ * The request timeout is resolved, in order, from:
+ * <ol>
+ * <li>The {@value #REQUEST_TIMEOUT_HEADER} header, in milliseconds, carrying the budget left by the calling service or client; it can only tighten the
+ * route timeout, never extend it</li>
+ * <li>The timeout of the first route pattern matching the request path</li>
+ * <li>The default timeout</li>
+ * </ol>
+ * <p>
+ * The deadline is bound to the {@link DeadlineContext} for the duration of the request and always cleared afterwards.
+ *
+ * @since 0.5.0
+ * @see DeadlineContext
+ * @author attrigo
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    /**
+     * Header carrying the remaining budget of a request in milliseconds.
+     */
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineFilter.class);
+
+    private final Duration defaultTimeout;
+
+    private final Map<RequestMatcher, Duration> routeTimeouts = new LinkedHashMap<>();
+
+    /**
+     * Constructs a new {@code DeadlineFilter} with the given timeouts.
+     *
+     * @param defaultTimeout the timeout of the requests matching no route
+     * @param routeTimeouts  the timeouts by path pattern, checked in iteration order
+     */
+    public DeadlineFilter(Duration defaultTimeout, Map<String, Duration> routeTimeouts) {
+        this.defaultTimeout = defaultTimeout;
+
+        var path = PathPatternRequestMatcher.withDefaults();
+        routeTimeouts.forEach((pattern, timeout) -> this.routeTimeouts.put(path.matcher(pattern), timeout));
+    }
+
+    /**
+     * Binds the deadline of the request to the {@link DeadlineContext} while the rest of the chain runs.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        DeadlineContext.set(Deadline.after(resolveTimeout(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DeadlineContext.clear();
+        }
+    }
+
+    /**
+     * Resolves the timeout of the request.
+     * <p>
+     * A malformed {@value #REQUEST_TIMEOUT_HEADER} header is ignored, and a negative one is treated as an already expired budget.
+     *
+     * @param request the HTTP request
+     * @return the time the request has to complete
+     */
+    private Duration resolveTimeout(HttpServletRequest request) {
+        var routeTimeout = routeTimeouts.entrySet()
+                                        .stream()
+                                        .filter(route -> route.getKey()
+                                                              .matches(request))
+                                        .map(Map.Entry::getValue)
+                                        .findFirst()
+                                        .orElse(defaultTimeout);
+
+        var header = request.getHeader(REQUEST_TIMEOUT_HEADER);
+        if (header == null) {
+            return routeTimeout;
+        }
+
+        try {
+            var requestTimeout = Duration.ofMillis(Math.max(0, Long.parseLong(header.strip())));
+            return requestTimeout.compareTo(routeTimeout) < 0 ? requestTimeout : routeTimeout;
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring malformed {} header: {}", REQUEST_TIMEOUT_HEADER, header);
+            return routeTimeout;
+        }
+    }
+
+}
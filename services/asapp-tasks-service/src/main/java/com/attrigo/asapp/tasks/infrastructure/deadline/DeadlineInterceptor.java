@@ -0,0 +1,76 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.deadline;
+
+import static com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineFilter.REQUEST_TIMEOUT_HEADER;
+
+import java.io.IOException;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * HTTP request interceptor for propagating the remaining request budget to downstream services.
+ * <p>
+ * Intercepts outgoing HTTP client requests to inject the time left before the {@link Deadline} of the current request into the
+ * {@value DeadlineFilter#REQUEST_TIMEOUT_HEADER} header, so the downstream service abandons its work once the caller has given up on it.
+ * <p>
+ * Requests made outside of any request (e.g. by a scheduled job) carry no deadline and are sent unchanged.
+ *
+ * @since 0.5.0
+ * @see DeadlineContext
+ * @author attrigo
+ */
+public class DeadlineInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * Intercepts the HTTP request to inject the remaining budget of the current request.
+     * <p>
+     * Injects the budget with format: {@code X-Request-Timeout: <milliseconds>}
+     *
+     * @param request   the HTTP request being intercepted
+     * @param body      the request body
+     * @param execution the request execution chain
+     * @return the HTTP response after execution
+     * @throws IOException                if an I/O error occurs during request execution
+     * @throws DeadlineExceededException if the deadline of the current request has already expired, so the request is not sent
+     */
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(@NonNull HttpRequest request, byte @NonNull [] body, @NonNull ClientHttpRequestExecution execution) throws IOException {
+        var deadline = DeadlineContext.current();
+
+        if (deadline.isPresent()) {
+            if (deadline.get()
+                        .isExpired()) {
+                throw new DeadlineExceededException("Request deadline expired before calling " + request.getURI());
+            }
+
+            var remainingMillis = Math.max(1, deadline.get()
+                                                      .remaining()
+                                                      .toMillis());
+            request.getHeaders()
+                   .set(REQUEST_TIMEOUT_HEADER, String.valueOf(remainingMillis));
+        }
+
+        return execution.execute(request, body);
+    }
+
+}
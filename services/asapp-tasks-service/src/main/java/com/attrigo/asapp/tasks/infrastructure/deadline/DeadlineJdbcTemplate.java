@@ -0,0 +1,81 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.deadline;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link JdbcTemplate} bounding every statement by the {@link Deadline} of the current request.
+ * <p>
+ * On top of the regular statement settings (template and transaction timeouts), each statement gets a query timeout no longer than the time left to the
+ * current request, so the database cancels work nobody waits for anymore. JDBC query timeouts have a granularity of seconds, hence the remaining time is
+ * rounded up. A statement about to run after the deadline has expired is not executed at all.
+ * <p>
+ * Statements executed outside of any request (e.g. by a scheduled job) keep the regular settings.
+ *
+ * @since 0.5.0
+ * @see DeadlineContext
+ * @author attrigo
+ */
+public class DeadlineJdbcTemplate extends JdbcTemplate {
+
+    /**
+     * Constructs a new {@code DeadlineJdbcTemplate} for the given data source.
+     *
+     * @param dataSource the JDBC data source
+     */
+    public DeadlineJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    /**
+     * Applies the regular statement settings, then tightens the query timeout to the remaining time of the current request.
+     *
+     * @param stmt the JDBC statement about to be executed
+     * @throws SQLException              if the statement settings cannot be applied
+     * @throws DeadlineExceededException if the deadline of the current request has already expired
+     */
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+
+        var deadline = DeadlineContext.current();
+        if (deadline.isEmpty()) {
+            return;
+        }
+
+        if (deadline.get()
+                    .isExpired()) {
+            throw new DeadlineExceededException("Request deadline expired before executing the statement");
+        }
+
+        var remainingMillis = deadline.get()
+                                      .remaining()
+                                      .toMillis();
+        var remainingSeconds = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (remainingMillis + 999) / 1000));
+        var queryTimeout = stmt.getQueryTimeout();
+        if (queryTimeout == 0 || remainingSeconds < queryTimeout) {
+            stmt.setQueryTimeout(remainingSeconds);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Context;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * gRPC server interceptor exposing the deadline of each call as the {@link DeadlineContext} of the threads serving it.
+ * <p>
+ * gRPC carries the caller's remaining budget natively ({@code grpc-timeout}), so this is the gRPC counterpart of the {@link DeadlineFilter}: it bounds the
+ * JDBC statements of the call through the {@link DeadlineJdbcTemplate}. Calls without deadline run unbounded.
+ *
+ * @since 0.5.0
+ * @see DeadlineFilter
+ * @author attrigo
+ */
+public class DeadlineServerInterceptor implements ServerInterceptor {
+
+    /**
+     * Binds the deadline of the call, if any, around each callback of its listener.
+     *
+     * @param <ReqT>  the type of the request messages
+     * @param <RespT> the type of the response messages
+     * @param call    the call being started
+     * @param headers the metadata sent by the caller
+     * @param next    the next handler of the call
+     * @return the listener of the call
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        var grpcDeadline = Context.current()
+                                  .getDeadline();
+        if (grpcDeadline == null) {
+            return next.startCall(call, headers);
+        }
+
+        var deadline = Deadline.after(Duration.ofNanos(grpcDeadline.timeRemaining(TimeUnit.NANOSECONDS)));
+        return new DeadlineListener<>(next.startCall(call, headers), deadline);
+    }
+
+    /**
+     * Listener binding a deadline to the thread running each of its callbacks.
+     *
+     * @param <ReqT> the type of the request messages
+     */
+    private static final class DeadlineListener<ReqT> extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private final Deadline deadline;
+
+        private DeadlineListener(ServerCall.Listener<ReqT> delegate, Deadline deadline) {
+            super(delegate);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            withDeadline(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            withDeadline(super::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            withDeadline(super::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            withDeadline(super::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            withDeadline(super::onReady);
+        }
+
+        private void withDeadline(Runnable callback) {
+            DeadlineContext.set(deadline);
+            try {
+                callback.run();
+            } finally {
+                DeadlineContext.clear();
+            }
+        }
+
+    }
+
+}
@@ -22,20 +22,32 @@ import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import jakarta.validation.ConstraintViolationException;
 
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineExceededException;
+
 /**
  * Handles REST API exceptions and maps them to RFC 7807 {@link ProblemDetail} responses.
  * <p>
@@ -139,6 +151,81 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                              .body(problemDetail);
     }
 
+    // ============================================================================
+    // 409 CONFLICT - Concurrent Modifications
+    // ============================================================================
+
+    /**
+     * Handles optimistic locking failures.
+     * <p>
+     * Catches {@link OptimisticLockingFailureException} when a concurrent request modified the same row between its read and its conditional update.
+     * <p>
+     * Returns HTTP 409 Conflict so the client can re-read the resource and retry.
+     *
+     * @param ex the {@link OptimisticLockingFailureException}
+     * @return a {@link ResponseEntity} with status 409 and generic error message
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, CONCURRENT_MODIFICATION_DETAIL);
+        problemDetail.setTitle(CONFLICT_TITLE);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                             .body(problemDetail);
+    }
+
+    // ============================================================================
+    // 412 PRECONDITION FAILED - Conditional Request Failures
+    // ============================================================================
+
+    /**
+     * Handles task version mismatches.
+     * <p>
+     * Catches {@link TaskVersionMismatchException} when the version supplied in an {@code If-Match} header no longer matches the stored task.
+     * <p>
+     * Returns HTTP 412 Precondition Failed so the client can re-read the task before retrying.
+     *
+     * @param ex the {@link TaskVersionMismatchException}
+     * @return a {@link ResponseEntity} with status 412 and generic error message
+     */
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    protected ResponseEntity<ProblemDetail> handleTaskVersionMismatchException(TaskVersionMismatchException ex) {
+        logger.warn("Precondition failed: {}", ex.getMessage());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, PRECONDITION_FAILED_DETAIL);
+        problemDetail.setTitle(PRECONDITION_FAILED_TITLE);
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                             .body(problemDetail);
+    }
+
+    // ============================================================================
+    // 422 UNPROCESSABLE CONTENT - Business Rule Violations
+    // ============================================================================
+
+    /**
+     * Handles references to users that do not exist.
+     * <p>
+     * Catches {@link UnknownUserException} when a task is created for, or reassigned to, a user that is not known.
+     * <p>
+     * Returns HTTP 422 Unprocessable Content: the request is well-formed but its user cannot own a task.
+     *
+     * @param ex the {@link UnknownUserException}
+     * @return a {@link ResponseEntity} with status 422 and generic error message
+     */
+    @ExceptionHandler(UnknownUserException.class)
+    protected ResponseEntity<ProblemDetail> handleUnknownUserException(UnknownUserException ex) {
+        logger.warn("Unknown user: {}", ex.getMessage());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_CONTENT, UNKNOWN_USER_DETAIL);
+        problemDetail.setTitle(UNPROCESSABLE_CONTENT_TITLE);
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT)
+                             .body(problemDetail);
+    }
+
     // ============================================================================
     // 500 INTERNAL SERVER ERROR - Server/Infrastructure Failures
     // ============================================================================
@@ -169,6 +256,28 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     // 503 SERVICE UNAVAILABLE - External Service Failures
     // ============================================================================
 
+    /**
+     * Handles database connection shortages.
+     * <p>
+     * Catches {@link CannotGetJdbcConnectionException} and {@link CannotCreateTransactionException} when no database connection could be obtained in time,
+     * for instance because the connection pool is saturated.
+     * <p>
+     * Returns HTTP 503 Service Unavailable with a generic message so callers back off instead of waiting on an exhausted pool.
+     *
+     * @param ex the {@link CannotGetJdbcConnectionException} or {@link CannotCreateTransactionException}
+     * @return a {@link ResponseEntity} with status 503 and generic error message
+     */
+    @ExceptionHandler({ CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class })
+    protected ResponseEntity<ProblemDetail> handleDatabaseConnectionException(RuntimeException ex) {
+        logger.warn("Database connection unavailable: {}", ex.getMessage());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE_DETAIL);
+        problemDetail.setTitle(SERVICE_UNAVAILABLE_TITLE);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .body(problemDetail);
+    }
+
     /**
      * Handles cache store failures.
      * <p>
@@ -190,6 +299,54 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                              .body(problemDetail);
     }
 
+    /**
+     * Handles downstream service failures.
+     * <p>
+     * Catches {@link ResourceAccessException} and {@link HttpServerErrorException} when a downstream service, such as the users service, cannot be reached
+     * or fails.
+     * <p>
+     * Returns HTTP 503 Service Unavailable with a generic message to avoid exposing the downstream failure.
+     *
+     * @param ex the {@link ResourceAccessException} or {@link HttpServerErrorException}
+     * @return a {@link ResponseEntity} with status 503 and generic error message
+     */
+    @ExceptionHandler({ ResourceAccessException.class, HttpServerErrorException.class })
+    protected ResponseEntity<ProblemDetail> handleDownstreamServiceException(RestClientException ex) {
+        logger.error("Downstream service call failed: {}", ex.getMessage(), ex);
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE_DETAIL);
+        problemDetail.setTitle(SERVICE_UNAVAILABLE_TITLE);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .body(problemDetail);
+    }
+
+    // ============================================================================
+    // 504 GATEWAY TIMEOUT - Request Deadline Exceeded
+    // ============================================================================
+
+    /**
+     * Handles requests running out of time.
+     * <p>
+     * Catches {@link DeadlineExceededException} when the deadline of the request expired before some of its work could start, and
+     * {@link QueryTimeoutException} or {@link TransactionTimedOutException} when the database gave up on a statement or transaction bounded by it.
+     * <p>
+     * Returns HTTP 504 Gateway Timeout with a generic message; the caller has most likely stopped waiting already.
+     *
+     * @param ex the {@link DeadlineExceededException}, {@link QueryTimeoutException} or {@link TransactionTimedOutException}
+     * @return a {@link ResponseEntity} with status 504 and generic error message
+     */
+    @ExceptionHandler({ DeadlineExceededException.class, QueryTimeoutException.class, TransactionTimedOutException.class })
+    protected ResponseEntity<ProblemDetail> handleDeadlineExceededException(RuntimeException ex) {
+        logger.warn("Request deadline exceeded: {}", ex.getMessage());
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.GATEWAY_TIMEOUT, DEADLINE_EXCEEDED_DETAIL);
+        problemDetail.setTitle(GATEWAY_TIMEOUT_TITLE);
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                             .body(problemDetail);
+    }
+
     // ============================================================================
     // FALLBACK - Any Otherwise-Unhandled Exception (500 Internal Server Error)
     // ============================================================================
@@ -0,0 +1,125 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.grpc;
+
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.GRPC_PORT_INSTANCE_METADATA;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+
+import io.grpc.Server;
+
+/**
+ * Starts and stops the gRPC server along with the application context.
+ * <p>
+ * The server starts before the instance registers with the discovery service and stops after it deregisters, so it is only advertised while it accepts calls.
+ * Once started, its port is published in the instance metadata under {@code grpc-port} for clients to find it.
+ * <p>
+ * On shutdown, calls in flight get up to the grace period to complete before the server is forcibly stopped.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    /**
+     * Phase ahead of the discovery service registration, which runs in phase {@code 0}.
+     */
+    private static final int PHASE = -1;
+
+    private final Server server;
+
+    private final Duration shutdownGracePeriod;
+
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    private volatile boolean running;
+
+    /**
+     * Constructs a new {@code GrpcServerLifecycle}.
+     *
+     * @param server                 the gRPC server, not yet started
+     * @param shutdownGracePeriod    the maximum time calls in flight have to complete on shutdown
+     * @param applicationInfoManager the optional manager of the instance registered with the discovery service
+     */
+    public GrpcServerLifecycle(Server server, Duration shutdownGracePeriod, ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+        this.server = server;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+        this.applicationInfoManager = applicationInfoManager;
+    }
+
+    /**
+     * Starts the server and advertises its port in the instance metadata.
+     *
+     * @throws UncheckedIOException if the server cannot bind its port
+     */
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the gRPC server", e);
+        }
+        running = true;
+        logger.info("gRPC server started on port {}", server.getPort());
+
+        applicationInfoManager.ifAvailable(manager -> manager.registerAppMetadata(Map.of(GRPC_PORT_INSTANCE_METADATA, String.valueOf(server.getPort()))));
+    }
+
+    /**
+     * Stops the server, waiting up to the grace period for calls in flight to complete.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("gRPC calls still in flight after {} ms, stopping the gRPC server forcibly", shutdownGracePeriod.toMillis());
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            server.shutdownNow();
+        }
+        logger.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+}
@@ -0,0 +1,284 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Compact in-memory set of {@link UUID}s.
+ * <p>
+ * Stores each identifier as its two {@code long} halves in a single open-addressing table with linear probing, instead of boxing it into a {@link UUID}
+ * object and a hash-set node: an entry takes 16 bytes of a flat {@code long[]}, at most half of it empty, and a lookup touches a couple of adjacent cache
+ * lines without allocating.
+ * <p>
+ * The nil {@link UUID} marks the empty slots of the table, so its membership is kept apart in a flag. Removals shift the following entries of the probe
+ * sequence back instead of leaving tombstones, so lookups never degrade as identifiers are added and removed.
+ * <p>
+ * The set is thread-safe: writers take an exclusive lock, while readers probe the table optimistically and only fall back to a shared lock when a write ran
+ * concurrently.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public final class CompactUuidSet {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] table;
+
+    private int size;
+
+    private boolean containsNil;
+
+    /**
+     * Constructs a new empty {@code CompactUuidSet} with a default initial capacity.
+     */
+    public CompactUuidSet() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new empty {@code CompactUuidSet} sized to hold the expected number of identifiers without growing.
+     *
+     * @param expectedSize the number of identifiers the set is expected to hold
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public CompactUuidSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        this.table = new long[2 * capacityFor(expectedSize)];
+    }
+
+    /**
+     * Returns whether the set contains the given identifier.
+     *
+     * @param uuid the identifier to look up
+     * @return {@code true} if the set contains the identifier, {@code false} otherwise
+     */
+    public boolean contains(UUID uuid) {
+        var msb = uuid.getMostSignificantBits();
+        var lsb = uuid.getLeastSignificantBits();
+
+        var stamp = lock.tryOptimisticRead();
+        var found = find(msb, lsb);
+        if (lock.validate(stamp)) {
+            return found;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return find(msb, lsb);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Adds the given identifier to the set, growing the table when it gets half full.
+     *
+     * @param uuid the identifier to add
+     * @return {@code true} if the identifier was added, {@code false} if the set already contained it
+     */
+    public boolean add(UUID uuid) {
+        var msb = uuid.getMostSignificantBits();
+        var lsb = uuid.getLeastSignificantBits();
+
+        var stamp = lock.writeLock();
+        try {
+            if (isNil(msb, lsb)) {
+                var added = !containsNil;
+                containsNil = true;
+                return added;
+            }
+
+            if (2 * (size + 1) > capacity(table)) {
+                table = rehash(table, 2 * capacity(table));
+            }
+            if (!insert(table, msb, lsb)) {
+                return false;
+            }
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the given identifier from the set.
+     *
+     * @param uuid the identifier to remove
+     * @return {@code true} if the identifier was removed, {@code false} if the set did not contain it
+     */
+    public boolean remove(UUID uuid) {
+        var msb = uuid.getMostSignificantBits();
+        var lsb = uuid.getLeastSignificantBits();
+
+        var stamp = lock.writeLock();
+        try {
+            if (isNil(msb, lsb)) {
+                var removed = containsNil;
+                containsNil = false;
+                return removed;
+            }
+
+            var slot = indexOf(table, msb, lsb);
+            if (slot < 0) {
+                return false;
+            }
+            shiftBack(table, slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of identifiers in the set.
+     *
+     * @return the number of identifiers in the set
+     */
+    public int size() {
+        var stamp = lock.readLock();
+        try {
+            return containsNil ? size + 1 : size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Probes the current table for the given identifier.
+     * <p>
+     * Reads the table without locking, so the probe is bounded by the capacity of the table it read: a concurrent write may make it return a wrong answer,
+     * never loop forever or read out of bounds.
+     *
+     * @param msb the most significant bits of the identifier
+     * @param lsb the least significant bits of the identifier
+     * @return {@code true} if the identifier was found, {@code false} otherwise
+     */
+    private boolean find(long msb, long lsb) {
+        if (isNil(msb, lsb)) {
+            return containsNil;
+        }
+        return indexOf(table, msb, lsb) >= 0;
+    }
+
+    private static int indexOf(long[] table, long msb, long lsb) {
+        var capacity = capacity(table);
+        var mask = capacity - 1;
+        var slot = hash(msb, lsb) & mask;
+
+        for (var probes = 0; probes < capacity; probes++) {
+            var slotMsb = table[2 * slot];
+            var slotLsb = table[2 * slot + 1];
+            if (slotMsb == msb && slotLsb == lsb) {
+                return slot;
+            }
+            if (isNil(slotMsb, slotLsb)) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static boolean insert(long[] table, long msb, long lsb) {
+        var mask = capacity(table) - 1;
+        var slot = hash(msb, lsb) & mask;
+
+        while (!isNil(table[2 * slot], table[2 * slot + 1])) {
+            if (table[2 * slot] == msb && table[2 * slot + 1] == lsb) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[2 * slot] = msb;
+        table[2 * slot + 1] = lsb;
+        return true;
+    }
+
+    /**
+     * Empties a slot, moving back the following entries of its probe sequence that would no longer be reachable past the gap.
+     *
+     * @param table the table holding the slot
+     * @param slot  the slot to empty
+     */
+    private static void shiftBack(long[] table, int slot) {
+        var mask = capacity(table) - 1;
+        var gap = slot;
+        var next = (gap + 1) & mask;
+
+        while (!isNil(table[2 * next], table[2 * next + 1])) {
+            var home = hash(table[2 * next], table[2 * next + 1]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[2 * gap] = table[2 * next];
+                table[2 * gap + 1] = table[2 * next + 1];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[2 * gap] = 0L;
+        table[2 * gap + 1] = 0L;
+    }
+
+    private static long[] rehash(long[] table, int capacity) {
+        var rehashed = new long[2 * capacity];
+        for (var slot = 0; slot < capacity(table); slot++) {
+            var msb = table[2 * slot];
+            var lsb = table[2 * slot + 1];
+            if (!isNil(msb, lsb)) {
+                insert(rehashed, msb, lsb);
+            }
+        }
+        return rehashed;
+    }
+
+    private static int capacity(long[] table) {
+        return table.length / 2;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        var capacity = MINIMUM_CAPACITY;
+        while (capacity < 2L * expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static boolean isNil(long msb, long lsb) {
+        return msb == 0L && lsb == 0L;
+    }
+
+    /**
+     * Spreads the bits of both halves of an identifier, since time-ordered identifiers share most of their high bits.
+     *
+     * @param msb the most significant bits of the identifier
+     * @param lsb the least significant bits of the identifier
+     * @return the hash of the identifier
+     */
+    private static int hash(long msb, long lsb) {
+        var hash = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+}
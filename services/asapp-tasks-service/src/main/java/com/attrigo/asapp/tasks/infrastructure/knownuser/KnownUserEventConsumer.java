@@ -0,0 +1,251 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import static com.attrigo.asapp.tasks.infrastructure.outbox.OutboxRelay.AGGREGATE_ID_FIELD;
+import static com.attrigo.asapp.tasks.infrastructure.outbox.OutboxRelay.EVENT_TYPE_FIELD;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Periodic consumer of the user events stream, applying them to the {@link KnownUsers} replica.
+ * <p>
+ * Events are read as a member of a consumer group, so every event is applied by a single replica, and acknowledged once the whole batch was applied. Each
+ * poll first reads the events this consumer read but did not acknowledge, so a batch that failed half way is retried before reading new events. Batches are
+ * drained back to back while they come full, then the consumer waits for the poll interval.
+ * <p>
+ * Applying an event is idempotent, so the at-least-once delivery of the stream is harmless: creations and updates record the user and deletions record its
+ * tombstone. Events that are not about an existing or deleted user, or that cannot be read, are acknowledged and skipped.
+ * <p>
+ * The consumer group is created, along with the stream, if the users service has not created it yet.
+ * <p>
+ * Publishes the {@code asapp.known-users.events} and {@code asapp.known-users.failures} counters.
+ *
+ * @since 0.5.0
+ * @see KnownUsers
+ * @author attrigo
+ */
+public class KnownUserEventConsumer implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(KnownUserEventConsumer.class);
+
+    /**
+     * Event type of the user creations.
+     */
+    public static final String USER_CREATED = "UserCreated";
+
+    /**
+     * Event type of the user updates.
+     */
+    public static final String USER_UPDATED = "UserUpdated";
+
+    /**
+     * Event type of the user deletions.
+     */
+    public static final String USER_DELETED = "UserDeleted";
+
+    private static final ReadOffset PENDING_EVENTS = ReadOffset.from("0");
+
+    private final KnownUsers knownUsers;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String streamKey;
+
+    private final String consumerGroup;
+
+    private final Consumer consumer;
+
+    private final int batchSize;
+
+    private final Duration pollInterval;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter eventsCounter;
+
+    private final Counter failuresCounter;
+
+    private volatile boolean consumerGroupCreated;
+
+    /**
+     * Constructs a new {@code KnownUserEventConsumer}.
+     *
+     * @param knownUsers    the replica the events are applied to
+     * @param redisTemplate the Spring Data Redis template for executing Redis operations
+     * @param streamKey     the key of the stream where the user events are published
+     * @param consumerGroup the consumer group the replicas read the events as
+     * @param consumerName  the name of this replica within the consumer group, which must be unique and stable across restarts
+     * @param batchSize     the maximum number of events read per batch
+     * @param pollInterval  the delay between polls once the stream is drained
+     * @param meterRegistry the registry where the consumer meters are published
+     */
+    public KnownUserEventConsumer(KnownUsers knownUsers, RedisTemplate<String, String> redisTemplate, String streamKey, String consumerGroup,
+            String consumerName, int batchSize, Duration pollInterval, MeterRegistry meterRegistry) {
+        this.knownUsers = knownUsers;
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey;
+        this.consumerGroup = consumerGroup;
+        this.consumer = Consumer.from(consumerGroup, consumerName);
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                                                                          .name("known-users-consumer")
+                                                                          .daemon()
+                                                                          .factory());
+
+        this.eventsCounter = Counter.builder("asapp.known-users.events")
+                                    .tag("stream", streamKey)
+                                    .description("User events applied to the known users")
+                                    .register(meterRegistry);
+        this.failuresCounter = Counter.builder("asapp.known-users.failures")
+                                      .tag("stream", streamKey)
+                                      .description("User event polls that failed and were left unacknowledged")
+                                      .register(meterRegistry);
+    }
+
+    /**
+     * Schedules the polls of the stream.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.scheduleWithFixedDelay(this::consume, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Applies the pending events, draining the stream batch by batch.
+     */
+    void consume() {
+        try {
+            createConsumerGroup();
+            int consumed;
+            do {
+                consumed = consumeBatch();
+            } while (consumed == batchSize);
+        } catch (RuntimeException e) {
+            failuresCounter.increment();
+            logger.warn("Consumption of stream {} failed, retrying in {} ms", streamKey, pollInterval.toMillis(), e);
+        }
+    }
+
+    /**
+     * Reads a batch of events, preferring the unacknowledged ones, applies them and acknowledges them.
+     *
+     * @return the number of consumed events
+     */
+    int consumeBatch() {
+        var records = read(PENDING_EVENTS);
+        if (records.isEmpty()) {
+            records = read(ReadOffset.lastConsumed());
+        }
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        records.forEach(this::apply);
+        var recordIds = records.stream()
+                               .map(MapRecord::getId)
+                               .toArray(RecordId[]::new);
+        redisTemplate.opsForStream()
+                     .acknowledge(streamKey, consumerGroup, recordIds);
+        eventsCounter.increment(records.size());
+        return records.size();
+    }
+
+    /**
+     * Creates the consumer group if it does not exist yet, along with the stream, reading from its beginning.
+     */
+    private void createConsumerGroup() {
+        if (consumerGroupCreated) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForStream()
+                         .createGroup(streamKey, ReadOffset.from("0-0"), consumerGroup);
+            logger.info("Created consumer group {} on stream {}", consumerGroup, streamKey);
+        } catch (DataAccessException e) {
+            var message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e)
+                                                             .getMessage());
+            if (!message.startsWith("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        consumerGroupCreated = true;
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset readOffset) {
+        var readOptions = StreamReadOptions.empty()
+                                           .count(batchSize);
+        var records = redisTemplate.opsForStream()
+                                   .read(consumer, readOptions, StreamOffset.create(streamKey, readOffset));
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * Applies a user event to the known users.
+     *
+     * @param record the stream record of the event
+     */
+    private void apply(MapRecord<String, Object, Object> record) {
+        var fields = record.getValue();
+        var eventType = String.valueOf(fields.get(EVENT_TYPE_FIELD));
+        var aggregateId = String.valueOf(fields.get(AGGREGATE_ID_FIELD));
+
+        UUID userId;
+        try {
+            userId = UUID.fromString(aggregateId);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping event {} of stream {} with invalid user id {}", record.getId(), streamKey, aggregateId);
+            return;
+        }
+
+        switch (eventType) {
+            case USER_CREATED, USER_UPDATED -> knownUsers.add(userId);
+            case USER_DELETED -> knownUsers.remove(userId);
+            default -> logger.debug("Skipping event {} of stream {} with type {}", record.getId(), streamKey, eventType);
+        }
+    }
+
+}
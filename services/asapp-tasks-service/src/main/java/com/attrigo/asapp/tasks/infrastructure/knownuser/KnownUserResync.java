@@ -0,0 +1,85 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import com.attrigo.asapp.http.clients.users.UsersHttpClient;
+import com.attrigo.asapp.http.clients.users.response.UsersResponse;
+
+/**
+ * Full resync of the {@link KnownUsers} replica from the users service, used to bootstrap it and to repair it after missed events.
+ * <p>
+ * Lists every existing user through the {@link UsersHttpClient}, on behalf of the caller whose token is forwarded, and replaces the known users with them.
+ * The database time is read before listing the users, so the events applied while the resync runs are kept over the older list.
+ *
+ * @since 0.5.0
+ * @see KnownUserStore#resyncUsers(java.util.Collection, java.time.Instant)
+ * @author attrigo
+ */
+@Component
+public class KnownUserResync {
+
+    private static final Logger logger = LoggerFactory.getLogger(KnownUserResync.class);
+
+    private final KnownUsers knownUsers;
+
+    private final KnownUserStore knownUserStore;
+
+    private final UsersHttpClient usersHttpClient;
+
+    /**
+     * Constructs a new {@code KnownUserResync} with required dependencies.
+     *
+     * @param knownUsers      the replica to resync
+     * @param knownUserStore  the store of the known users, whose clock the resync is stamped with
+     * @param usersHttpClient the declarative HTTP client for communicating with the users-service
+     */
+    public KnownUserResync(KnownUsers knownUsers, KnownUserStore knownUserStore, UsersHttpClient usersHttpClient) {
+        this.knownUsers = knownUsers;
+        this.knownUserStore = knownUserStore;
+        this.usersHttpClient = usersHttpClient;
+    }
+
+    /**
+     * Replaces the known users with the users currently existing in the users service.
+     *
+     * @return the {@link KnownUserResyncResult} with the number of listed and deleted users
+     * @throws RestClientException   if the call to the users service fails
+     * @throws IllegalStateException if the users service returns no body, which must never be taken as an empty list of users
+     */
+    public KnownUserResyncResult resync() {
+        var syncStartedAt = knownUserStore.currentTime();
+
+        var users = usersHttpClient.getUsers();
+        if (users == null) {
+            throw new IllegalStateException("Users Service returned no users");
+        }
+
+        var userIds = users.stream()
+                           .map(UsersResponse::userId)
+                           .toList();
+        var deletedUsers = knownUsers.resync(userIds, syncStartedAt);
+        logger.info("Resynced {} known users, deleted {} users no longer existing", userIds.size(), deletedUsers);
+
+        return new KnownUserResyncResult(userIds.size(), deletedUsers);
+    }
+
+}
@@ -0,0 +1,197 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Local projection of the users existing in the users service, stored in the {@code known_users} table.
+ * <p>
+ * Deleted users are kept as tombstones rather than removed: user identifiers are never reused, so a creation event redelivered or relayed after the deletion
+ * of its user leaves the tombstone untouched instead of bringing the user back.
+ * <p>
+ * Every change stamps the row with the database time, which lets a full resync tell the rows changed by events while it ran from the stale ones.
+ *
+ * @since 0.5.0
+ * @see KnownUsers
+ * @author attrigo
+ */
+@Component
+public class KnownUserStore {
+
+    private static final String INSERT_USER = """
+            WITH inserted AS (
+                INSERT INTO known_users (user_id)
+                VALUES (:userId)
+                ON CONFLICT (user_id) DO NOTHING
+                RETURNING user_id
+            )
+            SELECT EXISTS (SELECT 1 FROM inserted) OR EXISTS (SELECT 1 FROM known_users WHERE user_id = :userId AND NOT deleted)
+            """;
+
+    private static final String DELETE_USER = """
+            INSERT INTO known_users (user_id, deleted)
+            VALUES (:userId, true)
+            ON CONFLICT (user_id) DO UPDATE SET deleted = true, updated_at = now()
+            """;
+
+    private static final String EXISTS_USER = "SELECT EXISTS (SELECT 1 FROM known_users WHERE user_id = :userId AND NOT deleted)";
+
+    private static final String COUNT_USERS = "SELECT count(*) FROM known_users WHERE NOT deleted";
+
+    private static final String SELECT_USER_IDS = "SELECT user_id FROM known_users WHERE NOT deleted";
+
+    private static final String CURRENT_TIME = "SELECT clock_timestamp()";
+
+    private static final String RESYNC_USER = """
+            INSERT INTO known_users (user_id)
+            VALUES (:userId)
+            ON CONFLICT (user_id) DO UPDATE SET deleted = false, updated_at = now()
+            WHERE known_users.updated_at < :syncStartedAt
+            """;
+
+    private static final String RESYNC_DELETED_USERS = """
+            UPDATE known_users
+            SET deleted = true, updated_at = now()
+            WHERE NOT deleted AND updated_at < :syncStartedAt
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code KnownUserStore} with required dependencies.
+     *
+     * @param jdbcClient   the JDBC client bound to the application data source
+     * @param jdbcTemplate the named parameter JDBC template bound to the application data source, used for batches
+     */
+    public KnownUserStore(JdbcClient jdbcClient, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records an existing user, unless it is already known or was deleted.
+     *
+     * @param userId the user's unique identifier
+     * @return {@code true} if the user is known, {@code false} if it was deleted
+     */
+    public boolean insertUser(UUID userId) {
+        return jdbcClient.sql(INSERT_USER)
+                         .param("userId", userId)
+                         .query(Boolean.class)
+                         .single();
+    }
+
+    /**
+     * Records a deleted user as a tombstone, whether it was known or not.
+     *
+     * @param userId the user's unique identifier
+     */
+    public void deleteUser(UUID userId) {
+        jdbcClient.sql(DELETE_USER)
+                  .param("userId", userId)
+                  .update();
+    }
+
+    /**
+     * Checks whether a user is known and not deleted.
+     *
+     * @param userId the user's unique identifier
+     * @return {@code true} if the user is known and not deleted, {@code false} otherwise
+     */
+    public boolean existsUser(UUID userId) {
+        return jdbcClient.sql(EXISTS_USER)
+                         .param("userId", userId)
+                         .query(Boolean.class)
+                         .single();
+    }
+
+    /**
+     * Counts the known users that are not deleted.
+     *
+     * @return the number of known users
+     */
+    public int countUsers() {
+        return jdbcClient.sql(COUNT_USERS)
+                         .query(Integer.class)
+                         .single();
+    }
+
+    /**
+     * Streams the identifiers of the known users that are not deleted, without collecting them.
+     *
+     * @param action the action applied to each user identifier
+     */
+    public void forEachUserId(Consumer<UUID> action) {
+        RowCallbackHandler rowCallbackHandler = rs -> action.accept(rs.getObject("user_id", UUID.class));
+        jdbcClient.sql(SELECT_USER_IDS)
+                  .query(rowCallbackHandler);
+    }
+
+    /**
+     * Reads the current time of the database, the clock every change is stamped with.
+     *
+     * @return the current database time
+     */
+    public Instant currentTime() {
+        return jdbcClient.sql(CURRENT_TIME)
+                         .query(OffsetDateTime.class)
+                         .single()
+                         .toInstant();
+    }
+
+    /**
+     * Replaces the projection with the full list of existing users, read from the users service after the given instant.
+     * <p>
+     * Listed users are recorded, or restored if they were deleted, and every other user is deleted. Rows changed by events after the sync started are left
+     * untouched either way, since those events are newer than the list.
+     *
+     * @param userIds       the identifiers of every existing user
+     * @param syncStartedAt the database time read before the users were listed
+     * @return the number of users deleted because they were not listed
+     */
+    @Transactional
+    public int resyncUsers(Collection<UUID> userIds, Instant syncStartedAt) {
+        var startedAt = OffsetDateTime.ofInstant(syncStartedAt, ZoneOffset.UTC);
+
+        var parameters = userIds.stream()
+                                .map(userId -> new MapSqlParameterSource().addValue("userId", userId)
+                                                                          .addValue("syncStartedAt", startedAt))
+                                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RESYNC_USER, parameters);
+
+        return jdbcClient.sql(RESYNC_DELETED_USERS)
+                         .param("syncStartedAt", startedAt)
+                         .update();
+    }
+
+}
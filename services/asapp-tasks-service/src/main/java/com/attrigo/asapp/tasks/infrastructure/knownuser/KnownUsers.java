@@ -0,0 +1,175 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replica of the users existing in the users service, held in memory in front of the {@link KnownUserStore}.
+ * <p>
+ * Lookups are answered from a {@link CompactUuidSet} of the known users. A user missing from it is looked up in the store, and added to the set when found,
+ * so users recorded by another replica or not loaded yet are never rejected; only the rejections themselves cost a database round trip.
+ * <p>
+ * Changes are written to the store first and then applied to the set. Every replica consumes a share of the user events only, so the set is periodically
+ * reloaded from the store to pick up the deletions applied by the other replicas; until then a deleted user may still be reported as known. A reload builds a
+ * new set and swaps it in, so lookups never wait for it.
+ * <p>
+ * Publishes the {@code asapp.known-users.size} gauge with the number of users held in memory and the {@code asapp.known-users.misses} counter of lookups
+ * answered by the store.
+ *
+ * @since 0.5.0
+ * @see KnownUserStore
+ * @author attrigo
+ */
+public class KnownUsers implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(KnownUsers.class);
+
+    private final KnownUserStore knownUserStore;
+
+    private final Duration refreshInterval;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter missesCounter;
+
+    private volatile CompactUuidSet userIds = new CompactUuidSet();
+
+    /**
+     * Constructs a new {@code KnownUsers}.
+     *
+     * @param knownUserStore  the store of the known users
+     * @param refreshInterval the delay between reloads of the users held in memory
+     * @param meterRegistry   the registry where the known users meters are published
+     */
+    public KnownUsers(KnownUserStore knownUserStore, Duration refreshInterval, MeterRegistry meterRegistry) {
+        this.knownUserStore = knownUserStore;
+        this.refreshInterval = refreshInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                                                                          .name("known-users-refresh")
+                                                                          .daemon()
+                                                                          .factory());
+
+        this.missesCounter = Counter.builder("asapp.known-users.misses")
+                                    .description("Known user lookups answered by the database")
+                                    .register(meterRegistry);
+        Gauge.builder("asapp.known-users.size", this, knownUsers -> knownUsers.userIds.size())
+             .description("Known users held in memory")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Schedules the reloads of the users held in memory, the first one right away.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Checks whether a user exists, falling back to the store when it is not held in memory.
+     *
+     * @param userId the user's unique identifier
+     * @return {@code true} if the user is known and not deleted, {@code false} otherwise
+     */
+    public boolean contains(UUID userId) {
+        var currentUserIds = userIds;
+        if (currentUserIds.contains(userId)) {
+            return true;
+        }
+
+        missesCounter.increment();
+        if (!knownUserStore.existsUser(userId)) {
+            return false;
+        }
+        currentUserIds.add(userId);
+        return true;
+    }
+
+    /**
+     * Records an existing user, unless it was deleted.
+     *
+     * @param userId the user's unique identifier
+     */
+    public void add(UUID userId) {
+        if (knownUserStore.insertUser(userId)) {
+            userIds.add(userId);
+        }
+    }
+
+    /**
+     * Records a deleted user.
+     *
+     * @param userId the user's unique identifier
+     */
+    public void remove(UUID userId) {
+        knownUserStore.deleteUser(userId);
+        userIds.remove(userId);
+    }
+
+    /**
+     * Replaces the known users with the full list of existing users and reloads them in memory.
+     *
+     * @param existingUserIds the identifiers of every existing user
+     * @param syncStartedAt   the database time read before the users were listed
+     * @return the number of users deleted because they were not listed
+     * @see KnownUserStore#resyncUsers(Collection, Instant)
+     */
+    public int resync(Collection<UUID> existingUserIds, Instant syncStartedAt) {
+        var deletedUsers = knownUserStore.resyncUsers(existingUserIds, syncStartedAt);
+        reload();
+        return deletedUsers;
+    }
+
+    /**
+     * Reloads the users held in memory from the store.
+     */
+    void reload() {
+        var reloadedUserIds = new CompactUuidSet(knownUserStore.countUsers());
+        knownUserStore.forEachUserId(reloadedUserIds::add);
+        userIds = reloadedUserIds;
+    }
+
+    private void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.warn("Known users reload failed, retrying in {} ms", refreshInterval.toMillis(), e);
+        }
+    }
+
+}
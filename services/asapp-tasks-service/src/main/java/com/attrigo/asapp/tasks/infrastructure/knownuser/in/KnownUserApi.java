@@ -0,0 +1,83 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser.in;
+
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_KNOWN_USERS_RESYNC_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_ROOT_PATH;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.attrigo.asapp.tasks.infrastructure.knownuser.in.response.ResyncKnownUsersResponse;
+
+/**
+ * API contract for the maintenance of the known users replica.
+ * <p>
+ * Serves as the service's inbound HTTP entry point, implemented by the controller.
+ * <p>
+ * Defines the HTTP endpoints for administering the local replica of the existing users, including OpenAPI documentation.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@RequestMapping(TASKS_ROOT_PATH)
+@Tag(name = "Known User Operations", description = "API contract for maintaining the known users replica")
+@SecurityRequirement(name = "Bearer Authentication")
+public interface KnownUserApi {
+
+    /**
+     * Resyncs the known users from the users service.
+     * <p>
+     * Replaces the local replica of the existing users with the users currently listed by the users service, on behalf of the caller. Restricted to
+     * administrators.
+     * <p>
+     * Response codes:
+     * <ul>
+     * <li>200-OK: Known users resynced successfully.</li>
+     * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
+     * <li>403-FORBIDDEN: The caller is not an administrator.</li>
+     * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during the resync.</li>
+     * <li>503-SERVICE_UNAVAILABLE: The users service is unavailable.</li>
+     * </ul>
+     *
+     * @return the {@link ResyncKnownUsersResponse} with the number of listed and deleted users
+     */
+    @PostMapping(value = TASKS_KNOWN_USERS_RESYNC_PATH, produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Resyncs the known users from the users service", description = "Replaces the local replica of the existing users with the users currently listed by the users service, on behalf of the caller. Restricted to administrators.")
+    @ApiResponse(responseCode = "200", description = "Known users resynced successfully", content = {
+            @Content(schema = @Schema(implementation = ResyncKnownUsersResponse.class)) })
+    @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "403", description = "The caller is not an administrator", content = { @Content })
+    @ApiResponse(responseCode = "500", description = "An internal error occurred during the resync", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "503", description = "The users service is unavailable", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    ResyncKnownUsersResponse resyncKnownUsers();
+
+}
@@ -0,0 +1,53 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser.in;
+
+import org.springframework.web.bind.annotation.RestController;
+
+import com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUserResync;
+import com.attrigo.asapp.tasks.infrastructure.knownuser.in.response.ResyncKnownUsersResponse;
+
+/**
+ * REST controller implementing known users maintenance endpoints.
+ * <p>
+ * Delegates the resync to the {@link KnownUserResync}, which calls the users service with the caller's token.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@RestController
+public class KnownUserRestController implements KnownUserApi {
+
+    private final KnownUserResync knownUserResync;
+
+    /**
+     * Constructs a new {@code KnownUserRestController} with required dependencies.
+     *
+     * @param knownUserResync the full resync of the known users
+     */
+    public KnownUserRestController(KnownUserResync knownUserResync) {
+        this.knownUserResync = knownUserResync;
+    }
+
+    @Override
+    public ResyncKnownUsersResponse resyncKnownUsers() {
+        var result = knownUserResync.resync();
+
+        return new ResyncKnownUsersResponse(result.knownUsers(), result.deletedUsers());
+    }
+
+}
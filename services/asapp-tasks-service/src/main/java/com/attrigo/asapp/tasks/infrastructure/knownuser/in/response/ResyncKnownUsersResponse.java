@@ -0,0 +1,30 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser.in.response;
+
+/**
+ * Response for a full resync of the known users.
+ *
+ * @param knownUsers   the number of existing users listed by the users service
+ * @param deletedUsers the number of known users deleted because they were not listed
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record ResyncKnownUsersResponse(
+        int knownUsers,
+        int deletedUsers
+) {}
@@ -0,0 +1,159 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.security.grpc;
+
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.AUTHORIZATION;
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.BEARER_PREFIX;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import com.attrigo.asapp.tasks.infrastructure.security.JwtAuthenticationToken;
+import com.attrigo.asapp.tasks.infrastructure.security.JwtVerifier;
+import com.attrigo.asapp.tasks.infrastructure.security.web.JwtAuthenticationFilter;
+
+/**
+ * gRPC server interceptor authenticating calls with the caller's access token.
+ * <p>
+ * The gRPC counterpart of the {@link JwtAuthenticationFilter}: the token is read from the {@code authorization} metadata, verified by the
+ * {@link JwtVerifier}, and exposed as the {@link SecurityContext} of the threads serving the call. Unlike the REST API there are no anonymous endpoints, so
+ * calls without a valid access token are closed at once with {@link Status#UNAUTHENTICATED}.
+ *
+ * @since 0.5.0
+ * @see JwtAuthenticationFilter
+ * @author attrigo
+ */
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtServerInterceptor.class);
+
+    private final JwtVerifier jwtVerifier;
+
+    /**
+     * Constructs a new {@code JwtServerInterceptor} with required dependencies.
+     *
+     * @param jwtVerifier the JWT verifier for validating tokens
+     */
+    public JwtServerInterceptor(JwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
+    }
+
+    /**
+     * Authenticates the call, closing it when the caller has no valid access token.
+     *
+     * @param <ReqT>  the type of the request messages
+     * @param <RespT> the type of the response messages
+     * @param call    the call being started
+     * @param headers the metadata sent by the caller
+     * @param next    the next handler of the call
+     * @return the listener of the call, running its callbacks as the authenticated caller
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        var authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            logger.debug("[JWT_GRPC] No Bearer token present in call metadata");
+            return reject(call, "Missing bearer token");
+        }
+
+        SecurityContext securityContext;
+        try {
+            var decodedJwt = jwtVerifier.verifyAccessToken(authorization.substring(BEARER_PREFIX.length()));
+            securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(JwtAuthenticationToken.authenticated(decodedJwt));
+        } catch (RuntimeException e) {
+            logger.warn("[JWT_GRPC] Authentication failed - reason={}", e.getMessage());
+            return reject(call, "Invalid bearer token");
+        }
+
+        return new SecurityContextListener<>(next.startCall(call, headers), securityContext);
+    }
+
+    /**
+     * Closes the call as unauthenticated.
+     *
+     * @param <ReqT>      the type of the request messages
+     * @param <RespT>     the type of the response messages
+     * @param call        the call to close
+     * @param description the description of the failure sent to the caller
+     * @return a listener ignoring the rest of the call
+     */
+    private static <ReqT, RespT> ServerCall.Listener<ReqT> reject(ServerCall<ReqT, RespT> call, String description) {
+        call.close(Status.UNAUTHENTICATED.withDescription(description), new Metadata());
+        return new ServerCall.Listener<>() {};
+    }
+
+    /**
+     * Listener binding a security context to the thread running each of its callbacks.
+     *
+     * @param <ReqT> the type of the request messages
+     */
+    private static final class SecurityContextListener<ReqT> extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private final SecurityContext securityContext;
+
+        private SecurityContextListener(ServerCall.Listener<ReqT> delegate, SecurityContext securityContext) {
+            super(delegate);
+            this.securityContext = securityContext;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            withSecurityContext(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            withSecurityContext(super::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            withSecurityContext(super::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            withSecurityContext(super::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            withSecurityContext(super::onReady);
+        }
+
+        private void withSecurityContext(Runnable callback) {
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                callback.run();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import java.util.UUID;
+
+/**
+ * A change to one of a user's tasks, as recorded in the {@code task_changes} feed.
+ *
+ * @param changeId the position of the change in the feed; a user's changes are committed in increasing order
+ * @param userId   the unique identifier of the user owning the task
+ * @param taskId   the unique identifier of the changed task
+ * @param type     the kind of change
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record TaskChange(
+        long changeId,
+        UUID userId,
+        UUID taskId,
+        Type type
+) {
+
+    /**
+     * The kinds of change to a task.
+     * <p>
+     * Moving a task to another user is seen as a deletion by its previous owner and as a creation by its new one.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Parses a change from the payload of a {@code task_changes} notification.
+     * <p>
+     * The payload holds the change id, user id, task id and change type separated by commas, as sent by the {@code record_task_change} trigger.
+     *
+     * @param payload the notification payload
+     * @return the {@link TaskChange} described by the payload
+     * @throws IllegalArgumentException if the payload is not a well-formed task change
+     */
+    public static TaskChange fromPayload(String payload) {
+        var fields = payload.split(",", -1);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Malformed task change notification: " + payload);
+        }
+
+        try {
+            return new TaskChange(Long.parseLong(fields[0]), UUID.fromString(fields[1]), UUID.fromString(fields[2]), Type.valueOf(fields[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed task change notification: " + payload, e);
+        }
+    }
+
+}
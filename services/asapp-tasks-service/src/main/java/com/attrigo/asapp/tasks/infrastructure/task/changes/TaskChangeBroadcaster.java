@@ -0,0 +1,178 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fans out task changes to the clients subscribed to them.
+ * <p>
+ * Subscriptions are indexed by user, so publishing a change only touches the subscribers of its user. Each subscription has a bounded buffer drained by its
+ * own virtual thread; a subscriber that falls behind is disconnected rather than slowing down the others, and resumes from the last change it received when
+ * it reconnects.
+ * <p>
+ * Publishes the {@code asapp.tasks.changes.subscribers} gauge and the {@code asapp.tasks.changes.published} and {@code asapp.tasks.changes.overflows}
+ * counters.
+ *
+ * @since 0.5.0
+ * @see TaskChangeListener
+ * @author attrigo
+ */
+public class TaskChangeBroadcaster implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeBroadcaster.class);
+
+    private final ConcurrentMap<UUID, Set<TaskChangeSubscription>> subscriptions = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final TaskChangeLog taskChangeLog;
+
+    private final int bufferSize;
+
+    private final Duration heartbeatInterval;
+
+    private final Duration timeout;
+
+    private final Counter publishedChanges;
+
+    private final Counter overflows;
+
+    /**
+     * Constructs a new {@code TaskChangeBroadcaster}.
+     *
+     * @param taskChangeLog     the log replaying the changes missed by resuming subscribers
+     * @param bufferSize        the maximum number of changes waiting to be sent to a subscriber before it is disconnected
+     * @param heartbeatInterval the idle time after which a subscriber is sent a comment to keep its connection open
+     * @param timeout           the time after which a subscription is closed, letting the client reconnect
+     * @param meterRegistry     the registry where the change feed meters are published
+     */
+    public TaskChangeBroadcaster(TaskChangeLog taskChangeLog, int bufferSize, Duration heartbeatInterval, Duration timeout, MeterRegistry meterRegistry) {
+        this.taskChangeLog = taskChangeLog;
+        this.bufferSize = bufferSize;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeout = timeout;
+        this.publishedChanges = Counter.builder("asapp.tasks.changes.published")
+                                       .description("Task changes received from the database and fanned out to subscribers")
+                                       .register(meterRegistry);
+        this.overflows = Counter.builder("asapp.tasks.changes.overflows")
+                                .description("Subscribers disconnected because they fell behind the task changes")
+                                .register(meterRegistry);
+        Gauge.builder("asapp.tasks.changes.subscribers", subscriberCount, AtomicInteger::get)
+             .description("Clients subscribed to task changes")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes a client to the task changes of a user.
+     *
+     * @param userId       the user's unique identifier
+     * @param lastChangeId the last change the client received, or {@code null} to receive only changes that happen from now on
+     * @return the {@link SseEmitter} streaming the changes to the client
+     */
+    public SseEmitter subscribe(UUID userId, Long lastChangeId) {
+        var emitter = new SseEmitter(timeout.toMillis());
+        var subscription = new TaskChangeSubscription(userId, lastChangeId, emitter, taskChangeLog, bufferSize, heartbeatInterval, this::unsubscribe);
+
+        subscriptions.compute(userId, (_, userSubscriptions) -> {
+            var updated = userSubscriptions != null ? userSubscriptions : ConcurrentHashMap.<TaskChangeSubscription>newKeySet();
+            updated.add(subscription);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(_ -> subscription.close());
+        subscription.start();
+
+        return emitter;
+    }
+
+    /**
+     * Hands a change over to the subscribers of its user, disconnecting those whose buffer is full.
+     *
+     * @param change the change to publish
+     */
+    public void publish(TaskChange change) {
+        publishedChanges.increment();
+
+        var userSubscriptions = subscriptions.get(change.userId());
+        if (userSubscriptions == null) {
+            return;
+        }
+
+        userSubscriptions.forEach(subscription -> {
+            if (!subscription.offer(change) && !subscription.isClosed()) {
+                logger.debug("Disconnecting a subscriber of user {} that fell behind the task changes", change.userId());
+                overflows.increment();
+                subscription.close();
+            }
+        });
+    }
+
+    /**
+     * Disconnects every subscriber, so that they reconnect and resume from the last change they received.
+     * <p>
+     * Used when changes may have been missed, such as after the connection listening for them was lost.
+     */
+    public void disconnectAll() {
+        subscriptions.values()
+                     .stream()
+                     .flatMap(Set::stream)
+                     .toList()
+                     .forEach(TaskChangeSubscription::close);
+    }
+
+    /**
+     * Gets the number of clients currently subscribed.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        disconnectAll();
+    }
+
+    private void unsubscribe(TaskChangeSubscription subscription) {
+        subscriptions.computeIfPresent(subscription.getUserId(), (_, userSubscriptions) -> {
+            if (userSubscriptions.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+            }
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+
+}
@@ -0,0 +1,190 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Listens for the task changes announced by PostgreSQL and hands them over to the {@link TaskChangeBroadcaster}.
+ * <p>
+ * A single connection, held for as long as the listener runs, subscribes to the {@code task_changes} notification channel fed by the
+ * {@code record_task_change} trigger, so the number of database connections does not grow with the number of subscribers. Notifications are delivered when
+ * the transaction that made the change commits.
+ * <p>
+ * If the connection is lost every subscriber is disconnected, since the changes announced meanwhile were missed; subscribers resume from the feed when they
+ * reconnect. The listener also deletes the changes older than the retention period from the feed.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class TaskChangeListener implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeListener.class);
+
+    static final String CHANNEL = "task_changes";
+
+    private final DataSource dataSource;
+
+    private final TaskChangeBroadcaster taskChangeBroadcaster;
+
+    private final TaskChangeLog taskChangeLog;
+
+    private final Duration pollTimeout;
+
+    private final Duration reconnectDelay;
+
+    private final Duration retention;
+
+    private final Duration pruneInterval;
+
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    private Instant nextPruneAt = Instant.MIN;
+
+    /**
+     * Constructs a new {@code TaskChangeListener}.
+     *
+     * @param dataSource            the data source of the primary database, providing the listening connection
+     * @param taskChangeBroadcaster the broadcaster fanning out the changes
+     * @param taskChangeLog         the log pruned of changes older than the retention period
+     * @param pollTimeout           the maximum time to wait for notifications before checking whether the listener was stopped
+     * @param reconnectDelay        the delay before reconnecting after the listening connection is lost
+     * @param retention             how long changes are kept in the feed for subscribers to resume from
+     * @param pruneInterval         the delay between deletions of expired changes
+     */
+    public TaskChangeListener(DataSource dataSource, TaskChangeBroadcaster taskChangeBroadcaster, TaskChangeLog taskChangeLog, Duration pollTimeout,
+            Duration reconnectDelay, Duration retention, Duration pruneInterval) {
+
+        this.dataSource = dataSource;
+        this.taskChangeBroadcaster = taskChangeBroadcaster;
+        this.taskChangeLog = taskChangeLog;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.retention = retention;
+        this.pruneInterval = pruneInterval;
+        this.thread = Thread.ofPlatform()
+                            .name("task-changes-listener")
+                            .daemon()
+                            .unstarted(this::listen);
+    }
+
+    /**
+     * Starts listening for task changes in the background.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        thread.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(pollTimeout.multipliedBy(2)
+                               .toMillis());
+    }
+
+    private void listen() {
+        while (running) {
+            try (var connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Lost the connection listening for task changes, reconnecting in {} ms", reconnectDelay.toMillis(), e);
+                taskChangeBroadcaster.disconnectAll();
+                sleep(reconnectDelay);
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        logger.info("Listening for task changes on channel {}", CHANNEL);
+
+        try {
+            var pgConnection = connection.unwrap(PGConnection.class);
+            while (running) {
+                var notifications = pgConnection.getNotifications(Math.toIntExact(pollTimeout.toMillis()));
+                if (notifications != null) {
+                    for (var notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+                pruneIfDue();
+            }
+        } finally {
+            if (!connection.isClosed()) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN " + CHANNEL);
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            taskChangeBroadcaster.publish(TaskChange.fromPayload(payload));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring task change notification: {}", e.getMessage());
+        }
+    }
+
+    private void pruneIfDue() {
+        var now = Instant.now();
+        if (now.isBefore(nextPruneAt)) {
+            return;
+        }
+
+        nextPruneAt = now.plus(pruneInterval);
+        try {
+            var deletedChanges = taskChangeLog.deleteChangesOlderThan(retention);
+            if (deletedChanges > 0) {
+                logger.debug("Deleted {} task changes older than {}", deletedChanges, retention);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to delete expired task changes", e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+}
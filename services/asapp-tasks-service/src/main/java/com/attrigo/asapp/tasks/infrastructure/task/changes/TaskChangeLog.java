@@ -0,0 +1,107 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads and prunes the {@code task_changes} feed.
+ * <p>
+ * The feed is written by the {@code record_task_change} trigger in the same transaction as every task change. It is always read from the primary: the
+ * notifications announcing new changes come from the primary, so a lagging read replica could miss changes that were already announced.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class TaskChangeLog {
+
+    private static final RowMapper<TaskChange> TASK_CHANGE_MAPPER = (rs, rowNum) -> new TaskChange(rs.getLong("id"), rs.getObject("user_id", UUID.class),
+            rs.getObject("task_id", UUID.class), TaskChange.Type.valueOf(rs.getString("change_type")));
+
+    private static final String CHANGES_AFTER = """
+            SELECT id, user_id, task_id, change_type
+            FROM task_changes
+            WHERE user_id = :userId
+              AND id > :afterChangeId
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String OLDEST_CHANGE_ID = "SELECT min(id) FROM task_changes";
+
+    private static final String DELETE_CHANGES_OLDER_THAN = "DELETE FROM task_changes WHERE changed_at < now() - make_interval(secs => :retentionSeconds)";
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Constructs a new {@code TaskChangeLog} with required dependencies.
+     *
+     * @param jdbcClient the JDBC client used to run the queries
+     */
+    public TaskChangeLog(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Gets a page of a user's changes that follow a position of the feed, in feed order.
+     *
+     * @param userId        the user's unique identifier
+     * @param afterChangeId the position after which changes are returned, exclusive
+     * @param limit         the maximum number of changes to return
+     * @return the user's changes after the position, oldest first
+     */
+    public List<TaskChange> getChangesAfter(UUID userId, long afterChangeId, int limit) {
+        return jdbcClient.sql(CHANGES_AFTER)
+                         .param("userId", userId)
+                         .param("afterChangeId", afterChangeId)
+                         .param("limit", limit)
+                         .query(TASK_CHANGE_MAPPER)
+                         .list();
+    }
+
+    /**
+     * Gets the position of the oldest change still held by the feed.
+     *
+     * @return the id of the oldest retained change, or empty if the feed is empty
+     */
+    public Optional<Long> getOldestChangeId() {
+        return jdbcClient.sql(OLDEST_CHANGE_ID)
+                         .query(Long.class)
+                         .optional();
+    }
+
+    /**
+     * Deletes the changes recorded longer ago than the retention period.
+     *
+     * @param retention how long changes are kept
+     * @return the number of deleted changes
+     */
+    public int deleteChangesOlderThan(Duration retention) {
+        return jdbcClient.sql(DELETE_CHANGES_OLDER_THAN)
+                         .param("retentionSeconds", retention.toSeconds())
+                         .update();
+    }
+
+}
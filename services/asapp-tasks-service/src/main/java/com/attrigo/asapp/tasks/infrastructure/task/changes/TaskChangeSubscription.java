@@ -0,0 +1,211 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * A client subscribed to the task changes of a user.
+ * <p>
+ * Changes are handed over through a bounded buffer and written to the client by a virtual thread of its own, so a slow client never holds up the listener
+ * or the other subscribers. When the buffer overflows the subscription is closed instead of growing, and the client is expected to reconnect and resume from
+ * the last change it received.
+ * <p>
+ * On start, the changes recorded after the resume position are replayed from the {@link TaskChangeLog} before the buffered live changes are sent. Live
+ * changes that were already replayed are skipped, which relies on the changes of a user being committed in increasing order.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+final class TaskChangeSubscription {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeSubscription.class);
+
+    static final String RESET_EVENT_NAME = "reset";
+
+    static final int REPLAY_PAGE_SIZE = 500;
+
+    private final UUID userId;
+
+    private final Long lastChangeId;
+
+    private final SseEmitter emitter;
+
+    private final TaskChangeLog taskChangeLog;
+
+    private final Duration heartbeatInterval;
+
+    private final BlockingQueue<TaskChange> buffer;
+
+    private final Consumer<TaskChangeSubscription> onClose;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile Thread thread;
+
+    /**
+     * Constructs a new {@code TaskChangeSubscription}.
+     *
+     * @param userId            the unique identifier of the user whose task changes are sent
+     * @param lastChangeId      the last change the client received, or {@code null} to send only changes that happen from now on
+     * @param emitter           the emitter writing to the client
+     * @param taskChangeLog     the log replaying the changes after {@code lastChangeId}
+     * @param bufferSize        the maximum number of live changes waiting to be sent
+     * @param heartbeatInterval the idle time after which a comment is sent to keep the connection open and detect gone clients
+     * @param onClose           the callback invoked once when the subscription is closed
+     */
+    TaskChangeSubscription(UUID userId, Long lastChangeId, SseEmitter emitter, TaskChangeLog taskChangeLog, int bufferSize, Duration heartbeatInterval,
+            Consumer<TaskChangeSubscription> onClose) {
+
+        this.userId = userId;
+        this.lastChangeId = lastChangeId;
+        this.emitter = emitter;
+        this.taskChangeLog = taskChangeLog;
+        this.heartbeatInterval = heartbeatInterval;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.onClose = onClose;
+    }
+
+    UUID getUserId() {
+        return userId;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Starts sending changes to the client on a new virtual thread.
+     */
+    void start() {
+        thread = Thread.ofVirtual()
+                       .name("task-changes-" + userId)
+                       .start(this::run);
+    }
+
+    /**
+     * Buffers a live change to be sent to the client.
+     *
+     * @param change the change to send
+     * @return {@code true} if the change was buffered, {@code false} if the subscription is closed or its buffer is full
+     */
+    boolean offer(TaskChange change) {
+        return !closed.get() && buffer.offer(change);
+    }
+
+    /**
+     * Closes the subscription, completing the response to the client. Closing an already closed subscription has no effect.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        var sender = thread;
+        if (sender != null && sender != Thread.currentThread()) {
+            sender.interrupt();
+        }
+        try {
+            emitter.complete();
+        } catch (RuntimeException e) {
+            logger.debug("Failed to complete the task changes stream of user {}", userId, e);
+        }
+        onClose.accept(this);
+    }
+
+    private void run() {
+        try {
+            var lastSentId = replay();
+            while (!closed.get()) {
+                var change = buffer.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (change == null) {
+                    emitter.send(SseEmitter.event()
+                                           .comment("keep-alive"));
+                } else if (change.changeId() > lastSentId) {
+                    send(change);
+                    lastSentId = change.changeId();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Task changes stream of user {} is no longer writable", userId, e);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to stream the task changes of user {}", userId, e);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Sends the changes recorded after the resume position.
+     * <p>
+     * When the log may no longer hold every change after the position, a {@code reset} event is sent instead, telling the client to reload the user's tasks.
+     *
+     * @return the position of the last change sent, or of the resume position if none was sent
+     * @throws IOException if the client cannot be written to
+     */
+    private long replay() throws IOException {
+        if (lastChangeId == null) {
+            return 0;
+        }
+
+        var oldestChangeId = taskChangeLog.getOldestChangeId();
+        if (oldestChangeId.isEmpty() || oldestChangeId.get() > lastChangeId + 1) {
+            emitter.send(SseEmitter.event()
+                                   .name(RESET_EVENT_NAME)
+                                   .data("Changes after " + lastChangeId + " are no longer retained"));
+            return lastChangeId;
+        }
+
+        var lastSentId = lastChangeId.longValue();
+        List<TaskChange> page;
+        do {
+            page = taskChangeLog.getChangesAfter(userId, lastSentId, REPLAY_PAGE_SIZE);
+            for (var change : page) {
+                send(change);
+                lastSentId = change.changeId();
+            }
+        } while (page.size() == REPLAY_PAGE_SIZE);
+        return lastSentId;
+    }
+
+    private void send(TaskChange change) throws IOException {
+        emitter.send(SseEmitter.event()
+                               .id(Long.toString(change.changeId()))
+                               .name(change.type()
+                                           .name()
+                                           .toLowerCase(Locale.ROOT))
+                               .data(change, MediaType.APPLICATION_JSON));
+    }
+
+}
@@ -16,30 +16,50 @@
 
 package com.attrigo.asapp.tasks.infrastructure.task.in;
 
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_CURSOR_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FROM_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_TO_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_USER_ID_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CREATE_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_DELETE_BY_ID_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_ID_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_USER_ID_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_CHANGES_BY_USER_ID_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_STATS_BY_USER_ID_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_IDS_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_ROOT_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_CURSOR_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_QUERY_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_USER_ID_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_STATS_FROM_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_STATS_TO_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_UPDATE_BY_ID_PATH;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -49,14 +69,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.CreateTaskRequest;
+import com.attrigo.asapp.tasks.infrastructure.task.in.request.PatchTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.UpdateTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.CreateTaskResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetCalendarTasksResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskByIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskStatsResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksByUserIdResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.SearchTasksResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.UpdateTaskResponse;
 
 /**
@@ -77,23 +104,27 @@ public interface TaskApi {
     /**
      * Gets a task by their unique identifier.
      * <p>
-     * Retrieves detailed information about a specific task by their unique identifier.
+     * Retrieves detailed information about a specific task by their unique identifier. The response carries the task's version as its {@code ETag}; when
+     * the {@code If-None-Match} header already matches it, only the version is read and no body is returned.
      * <p>
      * Response codes:
      * <ul>
      * <li>200-OK: Task found.</li>
+     * <li>304-NOT_MODIFIED: Task unchanged since the version in {@code If-None-Match}.</li>
      * <li>400-BAD_REQUEST: Invalid task identifier format.</li>
      * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
      * <li>404-NOT_FOUND: Task not found.</li>
      * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during retrieval.</li>
      * </ul>
      *
-     * @param id the task's unique identifier
-     * @return a {@link ResponseEntity} wrapping the {@link GetTaskByIdResponse} if found, otherwise wrapping empty
+     * @param id          the task's unique identifier
+     * @param ifNoneMatch the entity tags the client already has, may be {@code null}
+     * @return a {@link ResponseEntity} wrapping the {@link GetTaskByIdResponse} if found and modified, otherwise wrapping empty
      */
     @GetMapping(value = TASKS_GET_BY_ID_PATH, produces = "application/json")
     @Operation(summary = "Gets a task by their unique identifier", description = "Retrieves detailed information about a specific task by their unique identifier.")
     @ApiResponse(responseCode = "200", description = "Task found", content = { @Content(schema = @Schema(implementation = GetTaskByIdResponse.class)) })
+    @ApiResponse(responseCode = "304", description = "Task not modified", content = { @Content })
     @ApiResponse(responseCode = "400", description = "Invalid task identifier format", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
@@ -101,7 +132,8 @@ public interface TaskApi {
     @ApiResponse(responseCode = "404", description = "Task not found", content = { @Content })
     @ApiResponse(responseCode = "500", description = "An internal error occurred during retrieval", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
-    ResponseEntity<GetTaskByIdResponse> getTaskById(@PathVariable @Parameter(description = "Identifier of the task to get") UUID id);
+    ResponseEntity<GetTaskByIdResponse> getTaskById(@PathVariable @Parameter(description = "Identifier of the task to get") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "Entity tags of the task versions the client already has") String ifNoneMatch);
 
     /**
      * Gets all tasks for a specific user by their unique identifier.
@@ -133,6 +165,73 @@ public interface TaskApi {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     List<GetTasksByUserIdResponse> getTasksByUserId(@PathVariable @Parameter(description = "Identifier of the user whose tasks to retrieve") UUID id);
 
+    /**
+     * Gets the task statistics of a specific user by their unique identifier.
+     * <p>
+     * Returns how many tasks the user has, how many are scheduled and how many are overdue, without retrieving the tasks. A task is scheduled when it has a
+     * start date, and overdue once its end date, or its start date when it has no end date, has passed. When a range is supplied, also returns how many
+     * scheduled tasks overlap it. A user without tasks has zero counts.
+     * <p>
+     * Response codes:
+     * <ul>
+     * <li>200-OK: Statistics retrieved successfully.</li>
+     * <li>400-BAD_REQUEST: Invalid user identifier format, or the range is invalid, incomplete or does not end after it starts.</li>
+     * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
+     * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during retrieval.</li>
+     * </ul>
+     *
+     * @param id   the user's unique identifier
+     * @param from the start of the range to count tasks in, inclusive, may be {@code null}
+     * @param to   the end of the range to count tasks in, exclusive, may be {@code null}
+     * @return the {@link GetTaskStatsResponse} of the user
+     */
+    @GetMapping(value = TASKS_GET_STATS_BY_USER_ID_PATH, produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Gets the task statistics of a specific user by their unique identifier", description = "Returns how many tasks the user has, how many are scheduled and how many are overdue, without retrieving the tasks. A task is scheduled when it has a start date, and overdue once its end date, or its start date when it has no end date, has passed. When a range is supplied, also returns how many scheduled tasks overlap it. A user without tasks has zero counts.")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully", content = {
+            @Content(schema = @Schema(implementation = GetTaskStatsResponse.class)) })
+    @ApiResponse(responseCode = "400", description = "Invalid user identifier format, or invalid or incomplete range", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "500", description = "An internal error occurred during retrieval", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    GetTaskStatsResponse getTaskStatsByUserId(@PathVariable @Parameter(description = "Identifier of the user whose task statistics to retrieve") UUID id,
+            @RequestParam(name = TASKS_STATS_FROM_PARAM, required = false) @Parameter(description = "Start of the range to count tasks in, inclusive, in ISO 8601 format; requires to") Instant from,
+            @RequestParam(name = TASKS_STATS_TO_PARAM, required = false) @Parameter(description = "End of the range to count tasks in, exclusive, in ISO 8601 format; requires from") Instant to);
+
+    /**
+     * Streams the changes to the tasks of a specific user as server-sent events.
+     * <p>
+     * Sends a {@code created}, {@code updated} or {@code deleted} event each time one of the user's tasks changes; moving a task to another user is sent as a
+     * deletion to its previous owner. The id of each event is its position in the change feed: a client reconnecting with it in the {@code Last-Event-ID}
+     * header first receives the changes it missed, or a {@code reset} event when they are no longer retained, meaning the user's tasks must be reloaded.
+     * Without the header, only changes that happen from now on are sent.
+     * <p>
+     * The stream is closed after a while, or when the client falls too far behind, and is expected to be resumed by reconnecting.
+     * <p>
+     * Response codes:
+     * <ul>
+     * <li>200-OK: Stream opened successfully.</li>
+     * <li>400-BAD_REQUEST: Invalid user identifier or Last-Event-ID format.</li>
+     * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
+     * </ul>
+     *
+     * @param id          the user's unique identifier
+     * @param lastEventId the id of the last event the client received, may be {@code null}
+     * @return the {@link SseEmitter} streaming the user's task changes
+     */
+    @GetMapping(value = TASKS_GET_CHANGES_BY_USER_ID_PATH, produces = "text/event-stream")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Streams the changes to the tasks of a specific user as server-sent events", description = "Sends a created, updated or deleted event each time one of the user's tasks changes; moving a task to another user is sent as a deletion to its previous owner. The id of each event is its position in the change feed: a client reconnecting with it in the Last-Event-ID header first receives the changes it missed, or a reset event when they are no longer retained, meaning the user's tasks must be reloaded. Without the header, only changes that happen from now on are sent.")
+    @ApiResponse(responseCode = "200", description = "Stream opened successfully", content = { @Content(mediaType = "text/event-stream") })
+    @ApiResponse(responseCode = "400", description = "Invalid user identifier or Last-Event-ID format", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    SseEmitter getTaskChangesByUserId(@PathVariable @Parameter(description = "Identifier of the user whose task changes to stream") UUID id,
+            @RequestHeader(name = "Last-Event-ID", required = false) @Parameter(description = "Id of the last event received, to resume the stream after it") Long lastEventId);
+
     /**
      * Gets tasks, optionally filtered by their unique identifiers.
      * <p>
@@ -164,6 +263,85 @@ public interface TaskApi {
     List<GetTasksResponse> getTasks(
             @RequestParam(name = TASKS_IDS_PARAM, required = false) @Parameter(description = "Optional list of task identifiers to filter by; omit to return all tasks") @Size(min = 1, max = 50, message = "Tasks identifiers list must contain between 1 and 50 elements") List<UUID> ids);
 
+    /**
+     * Searches a user's tasks by title and description.
+     * <p>
+     * Returns the user's tasks whose title or description contain the words of the query, or whose title is similar to or starts with the query, best match
+     * first. Results are paginated: when more tasks match, the response carries a {@code nextCursor} to pass in the {@code cursor} query parameter to get the
+     * next page.
+     * <p>
+     * Response codes:
+     * <ul>
+     * <li>200-OK: Search completed successfully.</li>
+     * <li>400-BAD_REQUEST: userId or query is missing or invalid, limit is out of range, or cursor is malformed.</li>
+     * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
+     * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during the search.</li>
+     * </ul>
+     *
+     * @param userId the user's unique identifier
+     * @param query  the search text
+     * @param limit  the maximum number of tasks to return
+     * @param cursor the cursor returned with the previous page, may be {@code null} for the first page
+     * @return the {@link SearchTasksResponse} with the page of matching tasks and the cursor of the next page, if any
+     */
+    @GetMapping(value = TASKS_SEARCH_PATH, produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Searches a user's tasks by title and description", description = "Returns the user's tasks whose title or description contain the words of the query, or whose title is similar to or starts with the query, best match first. When more tasks match, the response carries a `nextCursor` to pass in the `cursor` query parameter to get the next page.")
+    @ApiResponse(responseCode = "200", description = "Search completed successfully", content = {
+            @Content(schema = @Schema(implementation = SearchTasksResponse.class)) })
+    @ApiResponse(responseCode = "400", description = "User identifier or query missing or invalid, limit out of range, or cursor malformed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "500", description = "An internal error occurred during the search", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    SearchTasksResponse searchTasks(
+            @RequestParam(name = TASKS_SEARCH_USER_ID_PARAM) @Parameter(description = "Identifier of the user whose tasks to search") UUID userId,
+            @RequestParam(name = TASKS_SEARCH_QUERY_PARAM) @Parameter(description = "Search text, in web search syntax") @NotBlank(message = "Search query must not be blank") @Size(max = 100, message = "Search query must not exceed 100 characters") String query,
+            @RequestParam(name = TASKS_SEARCH_LIMIT_PARAM, defaultValue = "20") @Parameter(description = "Maximum number of tasks to return") @Min(value = 1, message = "Search limit must be between 1 and 100") @Max(value = 100, message = "Search limit must be between 1 and 100") int limit,
+            @RequestParam(name = TASKS_SEARCH_CURSOR_PARAM, required = false) @Parameter(description = "Cursor returned with the previous page; omit for the first page") String cursor);
+
+    /**
+     * Gets a user's tasks scheduled within a date range.
+     * <p>
+     * Returns the user's tasks whose schedule overlaps the range, by start date. A task spans from its start date to its end date, or only its start date when
+     * it has no end date; tasks without start date are not returned. Results are paginated: when more tasks overlap the range, the response carries a
+     * {@code nextCursor} to pass in the {@code cursor} query parameter to get the next page.
+     * <p>
+     * Response codes:
+     * <ul>
+     * <li>200-OK: Tasks retrieved successfully.</li>
+     * <li>400-BAD_REQUEST: userId, from or to is missing or invalid, the range does not end after it starts, limit is out of range, or cursor is
+     * malformed.</li>
+     * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
+     * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during retrieval.</li>
+     * </ul>
+     *
+     * @param userId the user's unique identifier
+     * @param from   the start of the range, inclusive
+     * @param to     the end of the range, exclusive
+     * @param limit  the maximum number of tasks to return
+     * @param cursor the cursor returned with the previous page, may be {@code null} for the first page
+     * @return the {@link GetCalendarTasksResponse} with the page of tasks and the cursor of the next page, if any
+     */
+    @GetMapping(value = TASKS_CALENDAR_PATH, produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Gets a user's tasks scheduled within a date range", description = "Returns the user's tasks whose schedule overlaps the range, by start date. A task spans from its start date to its end date, or only its start date when it has no end date; tasks without start date are not returned. When more tasks overlap the range, the response carries a `nextCursor` to pass in the `cursor` query parameter to get the next page.")
+    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully", content = {
+            @Content(schema = @Schema(implementation = GetCalendarTasksResponse.class)) })
+    @ApiResponse(responseCode = "400", description = "User identifier or range missing or invalid, limit out of range, or cursor malformed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "500", description = "An internal error occurred during retrieval", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    GetCalendarTasksResponse getCalendarTasks(
+            @RequestParam(name = TASKS_CALENDAR_USER_ID_PARAM) @Parameter(description = "Identifier of the user whose tasks to retrieve") UUID userId,
+            @RequestParam(name = TASKS_CALENDAR_FROM_PARAM) @Parameter(description = "Start of the range, inclusive, in ISO 8601 format") Instant from,
+            @RequestParam(name = TASKS_CALENDAR_TO_PARAM) @Parameter(description = "End of the range, exclusive, in ISO 8601 format") Instant to,
+            @RequestParam(name = TASKS_CALENDAR_LIMIT_PARAM, defaultValue = "100") @Parameter(description = "Maximum number of tasks to return") @Min(value = 1, message = "Calendar limit must be between 1 and 500") @Max(value = 500, message = "Calendar limit must be between 1 and 500") int limit,
+            @RequestParam(name = TASKS_CALENDAR_CURSOR_PARAM, required = false) @Parameter(description = "Cursor returned with the previous page; omit for the first page") String cursor);
+
     /**
      * Creates a new task.
      * <p>
@@ -198,7 +376,8 @@ public interface TaskApi {
      * Updates an existing task by their unique identifier.
      * <p>
      * Updates the information of an existing task identified by their unique identifier. Only the fields provided in the request will be updated. Returns the
-     * task identifier. Use the GET endpoint to retrieve full task details.
+     * task identifier. Use the GET endpoint to retrieve full task details. When the {@code If-Match} header carries a task version, the update only applies if
+     * the task still has that version.
      * <p>
      * Response codes:
      * <ul>
@@ -206,10 +385,13 @@ public interface TaskApi {
      * <li>400-BAD_REQUEST: The task identifier format is invalid or the request body is malformed or contains invalid data.</li>
      * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
      * <li>404-NOT_FOUND: Task not found.</li>
+     * <li>409-CONFLICT: The task was modified concurrently.</li>
+     * <li>412-PRECONDITION_FAILED: The task does not have the version in {@code If-Match}.</li>
      * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during task update.</li>
      * </ul>
      *
      * @param id      the task's unique identifier
+     * @param ifMatch the entity tag of the task version the update is based on, may be {@code null}
      * @param request the {@link UpdateTaskRequest} containing updated task data
      * @return a {@link ResponseEntity} wrapping the {@link UpdateTaskResponse} with the task identifier if found, otherwise wrapping empty
      */
@@ -223,11 +405,60 @@ public interface TaskApi {
     @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     @ApiResponse(responseCode = "404", description = "Task not found", content = { @Content })
+    @ApiResponse(responseCode = "409", description = "The task was modified concurrently", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "412", description = "The task does not have the expected version", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     @ApiResponse(responseCode = "500", description = "An internal error occurred during task update", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     ResponseEntity<UpdateTaskResponse> updateTaskById(@PathVariable @Parameter(description = "Identifier of the task to update") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "Entity tag of the task version the update is based on") String ifMatch,
             @RequestBody @Valid UpdateTaskRequest request);
 
+    /**
+     * Partially updates an existing task by their unique identifier.
+     * <p>
+     * Applies a JSON Merge Patch (RFC 7396) to an existing task identified by their unique identifier: members present in the patch replace the task's fields,
+     * members set to {@code null} remove optional fields and absent members leave fields untouched. Only the modified fields are written, and nothing is
+     * written when the patch does not change the task. Returns the task identifier. When the {@code If-Match} header carries a task version, the patch only
+     * applies if the task still has that version.
+     * <p>
+     * Response codes:
+     * <ul>
+     * <li>200-OK: Task patched successfully.</li>
+     * <li>400-BAD_REQUEST: The task identifier format is invalid or the patch document is malformed or contains invalid data.</li>
+     * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
+     * <li>404-NOT_FOUND: Task not found.</li>
+     * <li>409-CONFLICT: The task was modified concurrently.</li>
+     * <li>412-PRECONDITION_FAILED: The task does not have the version in {@code If-Match}.</li>
+     * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during task patch.</li>
+     * </ul>
+     *
+     * @param id      the task's unique identifier
+     * @param ifMatch the entity tag of the task version the patch is based on, may be {@code null}
+     * @param request the {@link PatchTaskRequest} containing the merge patch document
+     * @return a {@link ResponseEntity} wrapping the {@link UpdateTaskResponse} with the task identifier if found, otherwise wrapping empty
+     */
+    @PatchMapping(value = TASKS_UPDATE_BY_ID_PATH, consumes = "application/merge-patch+json", produces = "application/json")
+    @Operation(summary = "Partially updates an existing task by their unique identifier", description = "Applies a JSON Merge Patch to an existing task identified by their unique identifier. Members set to null remove optional fields and absent members are left untouched. Returns the task identifier. Use the GET endpoint to retrieve full task details.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "JSON Merge Patch document containing the task fields to be modified", required = true, content = @Content(mediaType = "application/merge-patch+json", schema = @Schema(implementation = PatchTaskRequest.class)))
+    @ApiResponse(responseCode = "200", description = "Task patched successfully", content = {
+            @Content(schema = @Schema(implementation = UpdateTaskResponse.class)) })
+    @ApiResponse(responseCode = "400", description = "The task identifier format is invalid or the patch document is malformed or contains invalid data", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "404", description = "Task not found", content = { @Content })
+    @ApiResponse(responseCode = "409", description = "The task was modified concurrently", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "412", description = "The task does not have the expected version", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "500", description = "An internal error occurred during task patch", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    ResponseEntity<UpdateTaskResponse> patchTaskById(@PathVariable @Parameter(description = "Identifier of the task to patch") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "Entity tag of the task version the patch is based on") String ifMatch,
+            @RequestBody @Valid PatchTaskRequest request);
+
     /**
      * Deletes a task by their unique identifier.
      * <p>
@@ -0,0 +1,193 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.in;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdResponse;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsResponse;
+import com.attrigo.asapp.grpc.clients.tasks.TaskLookupServiceGrpc;
+import com.attrigo.asapp.grpc.clients.tasks.UuidMapper;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineExceededException;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler;
+import com.attrigo.asapp.tasks.infrastructure.task.query.UserTaskIds;
+
+/**
+ * gRPC service implementing the internal task lookups used by the other ASAPP services.
+ * <p>
+ * The gRPC counterpart of the task-by-user reads of the {@link TaskRestController}, restricted to task identifiers: reads are served by the
+ * {@link TaskQueryHandler}. The streaming lookup reads the requested users in batches, sending each user's task identifiers as soon as its batch is read,
+ * and stops reading once the caller cancels the call.
+ * <p>
+ * Failures are translated into gRPC statuses mirroring the REST error handling: invalid requests into {@link Status#INVALID_ARGUMENT}, database outages into
+ * {@link Status#UNAVAILABLE}, exhausted deadlines into {@link Status#DEADLINE_EXCEEDED}, and anything else into {@link Status#INTERNAL}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class TaskLookupGrpcService extends TaskLookupServiceGrpc.TaskLookupServiceImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskLookupGrpcService.class);
+
+    private final TaskQueryHandler taskQueryHandler;
+
+    private final int streamBatchSize;
+
+    /**
+     * Constructs a new {@code TaskLookupGrpcService} with required dependencies.
+     *
+     * @param taskQueryHandler the query handler for task reads
+     * @param streamBatchSize  the number of users read per batch by the streaming lookup
+     */
+    public TaskLookupGrpcService(TaskQueryHandler taskQueryHandler, int streamBatchSize) {
+        this.taskQueryHandler = taskQueryHandler;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    /**
+     * Retrieves the identifiers of the tasks of a user.
+     *
+     * @param request          the request, carrying the user's unique identifier
+     * @param responseObserver the observer receiving the task identifiers
+     */
+    @Override
+    public void getTaskIdsByUserId(GetTaskIdsByUserIdRequest request, StreamObserver<GetTaskIdsByUserIdResponse> responseObserver) {
+        if (!request.hasUserId()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("user_id is required")
+                                                            .asRuntimeException());
+            return;
+        }
+
+        try {
+            var taskIds = taskQueryHandler.getTaskIdsByUserId(UuidMapper.fromMessage(request.getUserId()));
+            responseObserver.onNext(GetTaskIdsByUserIdResponse.newBuilder()
+                                                              .addAllTaskIds(UuidMapper.toMessages(taskIds))
+                                                              .build());
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    /**
+     * Retrieves the identifiers of the tasks of several users in a single response.
+     *
+     * @param request          the request, carrying the users' unique identifiers
+     * @param responseObserver the observer receiving the task identifiers of every requested user, in the order they were requested
+     */
+    @Override
+    public void getTaskIdsByUserIds(GetTaskIdsByUserIdsRequest request, StreamObserver<GetTaskIdsByUserIdsResponse> responseObserver) {
+        try {
+            var users = taskQueryHandler.getTaskIdsByUserIds(UuidMapper.fromMessages(request.getUserIdsList()))
+                                        .stream()
+                                        .map(TaskLookupGrpcService::toMessage)
+                                        .toList();
+            responseObserver.onNext(GetTaskIdsByUserIdsResponse.newBuilder()
+                                                               .addAllUsers(users)
+                                                               .build());
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    /**
+     * Streams the identifiers of the tasks of several users, one message per user.
+     * <p>
+     * Duplicate identifiers are ignored. The users are read in batches of the configured size, so there is no upper bound on how many can be requested.
+     *
+     * @param request          the request, carrying the users' unique identifiers
+     * @param responseObserver the observer receiving the task identifiers of each requested user, in the order they were requested
+     */
+    @Override
+    public void streamTaskIdsByUserIds(GetTaskIdsByUserIdsRequest request,
+            StreamObserver<com.attrigo.asapp.grpc.clients.tasks.UserTaskIds> responseObserver) {
+        var userIds = List.copyOf(new LinkedHashSet<>(UuidMapper.fromMessages(request.getUserIdsList())));
+
+        try {
+            for (var batch : partition(userIds, streamBatchSize)) {
+                if (isCancelled(responseObserver)) {
+                    logger.debug("[GRPC] Task ids stream cancelled by the caller, {} users requested", userIds.size());
+                    return;
+                }
+                taskQueryHandler.getTaskIdsByUserIds(batch)
+                                .forEach(userTaskIds -> responseObserver.onNext(toMessage(userTaskIds)));
+            }
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    private static com.attrigo.asapp.grpc.clients.tasks.UserTaskIds toMessage(UserTaskIds userTaskIds) {
+        return com.attrigo.asapp.grpc.clients.tasks.UserTaskIds.newBuilder()
+                                                               .setUserId(UuidMapper.toMessage(userTaskIds.userId()))
+                                                               .addAllTaskIds(UuidMapper.toMessages(userTaskIds.taskIds()))
+                                                               .build();
+    }
+
+    private static List<List<UUID>> partition(List<UUID> userIds, int batchSize) {
+        var batches = new ArrayList<List<UUID>>();
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            batches.add(userIds.subList(from, Math.min(from + batchSize, userIds.size())));
+        }
+        return batches;
+    }
+
+    private static boolean isCancelled(StreamObserver<?> responseObserver) {
+        return responseObserver instanceof ServerCallStreamObserver<?> serverCallStreamObserver && serverCallStreamObserver.isCancelled();
+    }
+
+    /**
+     * Translates a failed lookup into the gRPC status sent to the caller.
+     *
+     * @param cause the failure of the lookup
+     * @return the {@link StatusRuntimeException} describing the failure
+     */
+    private static StatusRuntimeException toStatusException(RuntimeException cause) {
+        Status status;
+        if (cause instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT.withDescription(cause.getMessage());
+        } else if (cause instanceof DeadlineExceededException || cause instanceof QueryTimeoutException) {
+            status = Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded");
+        } else if (cause instanceof DataAccessResourceFailureException || cause instanceof CannotCreateTransactionException) {
+            status = Status.UNAVAILABLE.withDescription("Database unavailable");
+        } else {
+            logger.error("[GRPC] Unexpected failure looking up task ids", cause);
+            status = Status.INTERNAL.withDescription("Internal error");
+        }
+        return status.withCause(cause)
+                     .asRuntimeException();
+    }
+
+}
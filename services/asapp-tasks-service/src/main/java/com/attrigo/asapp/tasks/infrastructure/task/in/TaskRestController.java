@@ -16,6 +16,7 @@
 
 package com.attrigo.asapp.tasks.infrastructure.task.in;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,24 +24,37 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.attrigo.asapp.tasks.application.task.in.CreateTaskUseCase;
 import com.attrigo.asapp.tasks.application.task.in.DeleteTaskUseCase;
-import com.attrigo.asapp.tasks.application.task.in.ReadTaskUseCase;
+import com.attrigo.asapp.tasks.application.task.in.PatchTaskUseCase;
 import com.attrigo.asapp.tasks.application.task.in.UpdateTaskUseCase;
+import com.attrigo.asapp.tasks.infrastructure.task.changes.TaskChangeBroadcaster;
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.CreateTaskRequest;
+import com.attrigo.asapp.tasks.infrastructure.task.in.request.PatchTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.UpdateTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.CreateTaskResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetCalendarTasksResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskByIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskStatsResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksByUserIdResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.SearchTasksResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.UpdateTaskResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.mapper.TaskMapper;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler;
 
 /**
  * REST controller implementing task management endpoints.
  * <p>
- * Handles HTTP requests for task operations by delegating to application use cases and mapping between DTOs.
+ * Handles HTTP requests for task operations by delegating commands to application use cases and mapping between DTOs; reads are served by the
+ * {@link TaskQueryHandler}, which maps rows straight into the response DTOs.
+ * <p>
+ * Single-task reads and updates expose the task's row version as a strong {@code ETag}, supporting conditional {@code If-None-Match} reads and
+ * {@code If-Match} updates.
+ * <p>
+ * Task changes are streamed as server-sent events by the {@link TaskChangeBroadcaster}.
  *
  * @since 0.2.0
  * @author attrigo
@@ -49,59 +63,90 @@ import com.attrigo.asapp.tasks.infrastructure.task.mapper.TaskMapper;
 @Validated
 public class TaskRestController implements TaskApi {
 
-    private final ReadTaskUseCase readTaskUseCase;
+    private final TaskQueryHandler taskQueryHandler;
 
     private final CreateTaskUseCase createTaskUseCase;
 
     private final UpdateTaskUseCase updateTaskUseCase;
 
+    private final PatchTaskUseCase patchTaskUseCase;
+
     private final DeleteTaskUseCase deleteTaskUseCase;
 
     private final TaskMapper taskMapper;
 
+    private final TaskChangeBroadcaster taskChangeBroadcaster;
+
     /**
      * Constructs a new {@code TaskRestController} with required dependencies.
      *
-     * @param readTaskUseCase   the use case for reading tasks
-     * @param createTaskUseCase the use case for creating tasks
-     * @param updateTaskUseCase the use case for updating tasks
-     * @param deleteTaskUseCase the use case for deleting tasks
-     * @param taskMapper        the mapper for task DTOs
+     * @param taskQueryHandler      the query handler for reading tasks
+     * @param createTaskUseCase     the use case for creating tasks
+     * @param updateTaskUseCase     the use case for updating tasks
+     * @param patchTaskUseCase      the use case for partially updating tasks
+     * @param deleteTaskUseCase     the use case for deleting tasks
+     * @param taskMapper            the mapper for task DTOs
+     * @param taskChangeBroadcaster the broadcaster streaming task changes
      */
-    public TaskRestController(ReadTaskUseCase readTaskUseCase, CreateTaskUseCase createTaskUseCase, UpdateTaskUseCase updateTaskUseCase,
-            DeleteTaskUseCase deleteTaskUseCase, TaskMapper taskMapper) {
+    public TaskRestController(TaskQueryHandler taskQueryHandler, CreateTaskUseCase createTaskUseCase, UpdateTaskUseCase updateTaskUseCase,
+            PatchTaskUseCase patchTaskUseCase, DeleteTaskUseCase deleteTaskUseCase, TaskMapper taskMapper, TaskChangeBroadcaster taskChangeBroadcaster) {
 
-        this.readTaskUseCase = readTaskUseCase;
+        this.taskQueryHandler = taskQueryHandler;
         this.createTaskUseCase = createTaskUseCase;
         this.updateTaskUseCase = updateTaskUseCase;
+        this.patchTaskUseCase = patchTaskUseCase;
         this.deleteTaskUseCase = deleteTaskUseCase;
         this.taskMapper = taskMapper;
+        this.taskChangeBroadcaster = taskChangeBroadcaster;
     }
 
     @Override
-    public ResponseEntity<GetTaskByIdResponse> getTaskById(UUID id) {
-        return readTaskUseCase.getTaskById(id)
-                              .map(taskMapper::toGetTaskByIdResponse)
-                              .map(ResponseEntity::ok)
-                              .orElseGet(() -> ResponseEntity.notFound()
-                                                             .build());
+    public ResponseEntity<GetTaskByIdResponse> getTaskById(UUID id, String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            var version = taskQueryHandler.getTaskVersion(id);
+            if (version.isPresent() && VersionETags.matches(ifNoneMatch, version.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                     .eTag(VersionETags.of(version.get()))
+                                     .build();
+            }
+        }
+
+        return taskQueryHandler.getTaskById(id)
+                               .map(task -> ResponseEntity.ok()
+                                                          .eTag(VersionETags.of(task.version()))
+                                                          .body(task.value()))
+                               .orElseGet(() -> ResponseEntity.notFound()
+                                                              .build());
     }
 
     @Override
     public List<GetTasksByUserIdResponse> getTasksByUserId(UUID id) {
-        return readTaskUseCase.getTasksByUserId(id)
-                              .stream()
-                              .map(taskMapper::toGetTasksByUserIdResponse)
-                              .toList();
+        return taskQueryHandler.getTasksByUserId(id);
+    }
+
+    @Override
+    public GetTaskStatsResponse getTaskStatsByUserId(UUID id, Instant from, Instant to) {
+        return taskQueryHandler.getTaskStatsByUserId(id, from, to);
+    }
+
+    @Override
+    public SseEmitter getTaskChangesByUserId(UUID id, Long lastEventId) {
+        return taskChangeBroadcaster.subscribe(id, lastEventId);
     }
 
     @Override
     public List<GetTasksResponse> getTasks(List<UUID> ids) {
-        var tasks = ids == null ? readTaskUseCase.getAllTasks() : readTaskUseCase.getTasksByIds(ids);
+        return ids == null ? taskQueryHandler.getAllTasks() : taskQueryHandler.getTasksByIds(ids);
+    }
 
-        return tasks.stream()
-                    .map(taskMapper::toGetTasksResponse)
-                    .toList();
+    @Override
+    public SearchTasksResponse searchTasks(UUID userId, String query, int limit, String cursor) {
+        return taskQueryHandler.searchTasks(userId, query, limit, cursor);
+    }
+
+    @Override
+    public GetCalendarTasksResponse getCalendarTasks(UUID userId, Instant from, Instant to, int limit, String cursor) {
+        return taskQueryHandler.getCalendarTasks(userId, from, to, limit, cursor);
     }
 
     @Override
@@ -114,16 +159,29 @@ public class TaskRestController implements TaskApi {
     }
 
     @Override
-    public ResponseEntity<UpdateTaskResponse> updateTaskById(UUID id, UpdateTaskRequest request) {
-        var command = taskMapper.toUpdateTaskCommand(id, request);
+    public ResponseEntity<UpdateTaskResponse> updateTaskById(UUID id, String ifMatch, UpdateTaskRequest request) {
+        var command = taskMapper.toUpdateTaskCommand(id, VersionETags.expectedVersion(ifMatch), request);
 
         return updateTaskUseCase.updateTaskById(command)
-                                .map(taskMapper::toUpdateTaskResponse)
-                                .map(ResponseEntity::ok)
+                                .map(task -> ResponseEntity.ok()
+                                                           .eTag(VersionETags.of(task.getVersion()))
+                                                           .body(taskMapper.toUpdateTaskResponse(task)))
                                 .orElseGet(() -> ResponseEntity.notFound()
                                                                .build());
     }
 
+    @Override
+    public ResponseEntity<UpdateTaskResponse> patchTaskById(UUID id, String ifMatch, PatchTaskRequest request) {
+        var command = taskMapper.toPatchTaskCommand(id, VersionETags.expectedVersion(ifMatch), request);
+
+        return patchTaskUseCase.patchTaskById(command)
+                               .map(task -> ResponseEntity.ok()
+                                                          .eTag(VersionETags.of(task.getVersion()))
+                                                          .body(taskMapper.toUpdateTaskResponse(task)))
+                               .orElseGet(() -> ResponseEntity.notFound()
+                                                              .build());
+    }
+
     @Override
     public ResponseEntity<Void> deleteTaskById(UUID id) {
         boolean taskHasBeenDeleted = deleteTaskUseCase.deleteTaskById(id);
@@ -0,0 +1,108 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.in;
+
+import org.springframework.http.ETag;
+
+/**
+ * Translates row versions to and from HTTP entity tags.
+ * <p>
+ * A version is exposed as the strong entity tag {@code "<version>"}. Versions are never negative, so tags that can never match one (weak or non-numeric tags
+ * in {@code If-Match}) are translated to {@link #UNMATCHABLE_VERSION}, which fails the precondition like any other stale version.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+final class VersionETags {
+
+    static final long UNMATCHABLE_VERSION = -1L;
+
+    private VersionETags() {}
+
+    /**
+     * Builds the entity tag of a version.
+     *
+     * @param version the row version
+     * @return the quoted strong entity tag of the version, ready to be sent as an {@code ETag} header
+     */
+    static String of(long version) {
+        return toETag(version).formattedTag();
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} header matches a version.
+     * <p>
+     * Uses weak comparison, as required for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch the header value, may be {@code null}
+     * @param version     the current row version
+     * @return {@code true} if the header is a wildcard or lists the version's tag, {@code false} otherwise
+     */
+    static boolean matches(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        var current = toETag(version);
+        return ETag.parse(ifNoneMatch)
+                   .stream()
+                   .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    /**
+     * Extracts the version a client expects from an {@code If-Match} header.
+     *
+     * @param ifMatch the header value, may be {@code null}
+     * @return {@code null} if the header is absent or a wildcard, the version of a single strong numeric tag, or {@link #UNMATCHABLE_VERSION} otherwise
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        var tags = ETag.parse(ifMatch);
+        if (tags.size() != 1) {
+            return UNMATCHABLE_VERSION;
+        }
+
+        var tag = tags.getFirst();
+        if (tag.isWildcard()) {
+            return null;
+        }
+        if (tag.weak()) {
+            return UNMATCHABLE_VERSION;
+        }
+
+        try {
+            var version = Long.parseLong(tag.tag());
+            return version >= 0 ? version : UNMATCHABLE_VERSION;
+        } catch (NumberFormatException _) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+
+    /**
+     * Builds the strong {@link ETag} of a version.
+     *
+     * @param version the row version
+     * @return the {@link ETag}
+     */
+    private static ETag toETag(long version) {
+        return new ETag(Long.toString(version), false);
+    }
+
+}
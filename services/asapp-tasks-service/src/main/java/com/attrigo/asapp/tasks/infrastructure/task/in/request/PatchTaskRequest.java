@@ -0,0 +1,44 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.in.request;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request for partially updating an existing task, following JSON Merge Patch (RFC 7396) semantics.
+ * <p>
+ * Each component distinguishes the three states of a merge patch member: a {@code null} component means the member is absent and the field is left unchanged,
+ * an empty {@link Optional} means the member is {@code null} and the field is removed, and a present {@link Optional} carries the field's new value.
+ *
+ * @param userId      the task's new user unique identifier; must not be blank when present
+ * @param title       the task's new title; must not be blank when present
+ * @param description the task's new description
+ * @param startDate   the task's new start date
+ * @param endDate     the task's new end date
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record PatchTaskRequest(
+        Optional<@NotBlank(message = "The user ID must not be empty") String> userId,
+        Optional<@NotBlank(message = "The title must not be empty") String> title,
+        Optional<String> description,
+        Optional<Instant> startDate,
+        Optional<Instant> endDate
+) {}
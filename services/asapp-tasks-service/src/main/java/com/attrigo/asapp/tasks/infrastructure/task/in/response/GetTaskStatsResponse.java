@@ -0,0 +1,40 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.in.response;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Response for retrieving the task statistics of a user.
+ *
+ * @param userId         the user's unique identifier
+ * @param totalTasks     the number of tasks of the user
+ * @param scheduledTasks the number of tasks of the user with a start date
+ * @param overdueTasks   the number of scheduled tasks of the user that ended before now
+ * @param tasksInRange   the number of scheduled tasks of the user overlapping the requested range; omitted when no range is requested
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record GetTaskStatsResponse(
+        UUID userId,
+        long totalTasks,
+        long scheduledTasks,
+        long overdueTasks,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long tasksInRange
+) {}
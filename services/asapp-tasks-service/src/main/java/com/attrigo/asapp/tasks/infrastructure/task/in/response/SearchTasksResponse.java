@@ -0,0 +1,32 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.in.response;
+
+import java.util.List;
+
+/**
+ * Response for searching a user's tasks.
+ *
+ * @param tasks      the matching tasks, best match first
+ * @param nextCursor the opaque cursor to request the next page with; {@code null} on the last page
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record SearchTasksResponse(
+        List<GetTasksResponse> tasks,
+        String nextCursor
+) {}
@@ -16,20 +16,22 @@
 
 package com.attrigo.asapp.tasks.infrastructure.task.mapper;
 
+import java.util.EnumSet;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.in.command.PatchTaskCommand;
 import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
 import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskField;
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.CreateTaskRequest;
+import com.attrigo.asapp.tasks.infrastructure.task.in.request.PatchTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.UpdateTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.CreateTaskResponse;
-import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskByIdResponse;
-import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksByUserIdResponse;
-import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.UpdateTaskResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskEntity;
 
@@ -56,13 +58,39 @@ public interface TaskMapper {
     CreateTaskCommand toCreateTaskCommand(CreateTaskRequest request);
 
     /**
-     * Maps a {@link UpdateTaskRequest} and the task ID to a {@link UpdateTaskCommand}.
+     * Maps a {@link UpdateTaskRequest}, the task ID and the expected version to a {@link UpdateTaskCommand}.
      *
-     * @param taskId  the task's unique identifier
-     * @param request the {@link UpdateTaskRequest}
+     * @param taskId          the task's unique identifier
+     * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+     * @param request         the {@link UpdateTaskRequest}
      * @return the {@link UpdateTaskCommand}
      */
-    UpdateTaskCommand toUpdateTaskCommand(UUID taskId, UpdateTaskRequest request);
+    UpdateTaskCommand toUpdateTaskCommand(UUID taskId, Long expectedVersion, UpdateTaskRequest request);
+
+    /**
+     * Maps a {@link PatchTaskRequest}, the task ID and the expected version to a {@link PatchTaskCommand}.
+     * <p>
+     * Every member present in the merge patch, including members set to {@code null}, becomes a modified field of the command.
+     *
+     * @param taskId          the task's unique identifier
+     * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+     * @param request         the {@link PatchTaskRequest}
+     * @return the {@link PatchTaskCommand}
+     * @throws IllegalArgumentException if the user ID is not a valid UUID
+     */
+    default PatchTaskCommand toPatchTaskCommand(UUID taskId, Long expectedVersion, PatchTaskRequest request) {
+        var fields = EnumSet.noneOf(TaskField.class);
+        addIfPresent(fields, TaskField.USER_ID, request.userId());
+        addIfPresent(fields, TaskField.TITLE, request.title());
+        addIfPresent(fields, TaskField.DESCRIPTION, request.description());
+        addIfPresent(fields, TaskField.START_DATE, request.startDate());
+        addIfPresent(fields, TaskField.END_DATE, request.endDate());
+
+        var userId = valueOf(request.userId()) != null ? UUID.fromString(valueOf(request.userId())) : null;
+
+        return new PatchTaskCommand(taskId, fields, userId, valueOf(request.title()), valueOf(request.description()), valueOf(request.startDate()),
+                valueOf(request.endDate()), expectedVersion);
+    }
 
     /**
      * Maps a domain {@link Task} to a database {@link JdbcTaskEntity} entity.
@@ -70,6 +98,7 @@ public interface TaskMapper {
      * @param task the {@link Task} domain entity
      * @return the {@link JdbcTaskEntity} database entity
      */
+    @Mapping(target = "withVersion", ignore = true)
     JdbcTaskEntity toJdbcTaskEntity(Task task);
 
     /**
@@ -86,51 +115,50 @@ public interface TaskMapper {
     @Mapping(target = "description", ignore = true)
     @Mapping(target = "startDate", ignore = true)
     @Mapping(target = "endDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changedFields", ignore = true)
     Task toTask(JdbcTaskEntity jdbcTaskEntity);
 
     /**
-     * Maps a domain {@link Task} to a {@link GetTaskByIdResponse}.
-     *
-     * @param task the {@link Task} domain entity
-     * @return the {@link GetTaskByIdResponse}
-     */
-    @Mapping(target = "taskId", source = "id")
-    GetTaskByIdResponse toGetTaskByIdResponse(Task task);
-
-    /**
-     * Maps a domain {@link Task} to a {@link GetTasksByUserIdResponse}.
+     * Maps a domain {@link Task} to a {@link CreateTaskResponse}.
      *
      * @param task the {@link Task} domain entity
-     * @return the {@link GetTasksByUserIdResponse}
+     * @return the {@link CreateTaskResponse}
      */
     @Mapping(target = "taskId", source = "id")
-    GetTasksByUserIdResponse toGetTasksByUserIdResponse(Task task);
+    CreateTaskResponse toCreateTaskResponse(Task task);
 
     /**
-     * Maps a domain {@link Task} to a {@link GetTasksResponse}.
+     * Maps a domain {@link Task} to a {@link UpdateTaskResponse}.
      *
      * @param task the {@link Task} domain entity
-     * @return the {@link GetTasksResponse}
+     * @return the {@link UpdateTaskResponse}
      */
     @Mapping(target = "taskId", source = "id")
-    GetTasksResponse toGetTasksResponse(Task task);
+    UpdateTaskResponse toUpdateTaskResponse(Task task);
 
     /**
-     * Maps a domain {@link Task} to a {@link CreateTaskResponse}.
+     * Adds a field to the modified fields if its merge patch member is present.
      *
-     * @param task the {@link Task} domain entity
-     * @return the {@link CreateTaskResponse}
+     * @param fields the modified fields
+     * @param field  the field
+     * @param member the merge patch member, {@code null} if absent
      */
-    @Mapping(target = "taskId", source = "id")
-    CreateTaskResponse toCreateTaskResponse(Task task);
+    private static void addIfPresent(EnumSet<TaskField> fields, TaskField field, Optional<?> member) {
+        if (member != null) {
+            fields.add(field);
+        }
+    }
 
     /**
-     * Maps a domain {@link Task} to a {@link UpdateTaskResponse}.
+     * Returns the value of a merge patch member.
      *
-     * @param task the {@link Task} domain entity
-     * @return the {@link UpdateTaskResponse}
+     * @param member the merge patch member, {@code null} if absent
+     * @param <T>    the type of the value
+     * @return the member's value, or {@code null} if the member is absent or {@code null}
      */
-    @Mapping(target = "taskId", source = "id")
-    UpdateTaskResponse toUpdateTaskResponse(Task task);
+    private static <T> T valueOf(Optional<T> member) {
+        return member != null ? member.orElse(null) : null;
+    }
 
 }
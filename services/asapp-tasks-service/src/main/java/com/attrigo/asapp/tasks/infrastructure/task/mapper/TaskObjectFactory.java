@@ -44,7 +44,8 @@ public class TaskObjectFactory {
      */
     @ObjectFactory
     public Task toTask(JdbcTaskEntity source) {
-        return TaskFactory.reconstitute(source.id(), source.userId(), source.title(), source.description(), source.startDate(), source.endDate());
+        return TaskFactory.reconstitute(source.id(), source.userId(), source.title(), source.description(), source.startDate(), source.endDate(),
+                source.version());
     }
 
 }
@@ -0,0 +1,54 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.out;
+
+import com.attrigo.asapp.tasks.application.task.out.KnownUserRepository;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUsers;
+
+/**
+ * Adapter implementation of {@link KnownUserRepository} answering from the local {@link KnownUsers} replica.
+ * <p>
+ * Enforcement is switched on once the replica has been bootstrapped with a full resync: until then every user is reported as existing, so tasks of users
+ * created before the replica existed are not rejected.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class KnownUserRepositoryAdapter implements KnownUserRepository {
+
+    private final KnownUsers knownUsers;
+
+    private final boolean enforced;
+
+    /**
+     * Constructs a new {@code KnownUserRepositoryAdapter} with required dependencies.
+     *
+     * @param knownUsers the local replica of the existing users
+     * @param enforced   whether users missing from the replica are reported as not existing
+     */
+    public KnownUserRepositoryAdapter(KnownUsers knownUsers, boolean enforced) {
+        this.knownUsers = knownUsers;
+        this.enforced = enforced;
+    }
+
+    @Override
+    public boolean existsById(UserId userId) {
+        return !enforced || knownUsers.contains(userId.value());
+    }
+
+}
@@ -0,0 +1,144 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.out;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.infrastructure.outbox.Outbox;
+
+/**
+ * Adapter implementation of {@link TaskEventPublisher} recording task events in the transactional {@link Outbox}.
+ * <p>
+ * Events are appended within the caller's transaction and relayed to the tasks stream afterwards. Creations and updates carry the task's state and version,
+ * so consumers can discard events older than the state they already hold; deletions carry only the task's identifier.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class TaskEventPublisherAdapter implements TaskEventPublisher {
+
+    /**
+     * Aggregate type of the task events.
+     */
+    public static final String AGGREGATE_TYPE = "task";
+
+    /**
+     * Event type of the task creations.
+     */
+    public static final String TASK_CREATED = "TaskCreated";
+
+    /**
+     * Event type of the task updates.
+     */
+    public static final String TASK_UPDATED = "TaskUpdated";
+
+    /**
+     * Event type of the task deletions.
+     */
+    public static final String TASK_DELETED = "TaskDeleted";
+
+    private final Outbox outbox;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code TaskEventPublisherAdapter} with required dependencies.
+     *
+     * @param outbox       the outbox where the events are recorded
+     * @param objectMapper the Jackson ObjectMapper for JSON serialization of the event payloads
+     */
+    public TaskEventPublisherAdapter(Outbox outbox, ObjectMapper objectMapper) {
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publishTaskCreated(Task task) {
+        append(task.getId(), TASK_CREATED, toTaskState(task));
+    }
+
+    @Override
+    public void publishTaskUpdated(Task task) {
+        append(task.getId(), TASK_UPDATED, toTaskState(task));
+    }
+
+    @Override
+    public void publishTaskDeleted(TaskId taskId) {
+        append(taskId, TASK_DELETED, new TaskReference(taskId.value()));
+    }
+
+    private void append(TaskId taskId, String eventType, Object payload) {
+        outbox.append(AGGREGATE_TYPE, taskId.value(), eventType, objectMapper.writeValueAsString(payload));
+    }
+
+    private static TaskState toTaskState(Task task) {
+        var description = task.getDescription() != null ? task.getDescription()
+                                                              .value() : null;
+        var startDate = task.getStartDate() != null ? task.getStartDate()
+                                                          .value() : null;
+        var endDate = task.getEndDate() != null ? task.getEndDate()
+                                                      .value() : null;
+
+        return new TaskState(task.getId()
+                                 .value(),
+                task.getUserId()
+                    .value(),
+                task.getTitle()
+                    .value(),
+                description, startDate, endDate, task.getVersion());
+    }
+
+    /**
+     * Payload of the events carrying the task's state.
+     *
+     * @param taskId      the task's unique identifier
+     * @param userId      the unique identifier of the user the task belongs to
+     * @param title       the task's title
+     * @param description the task's description, or {@code null} if it has none
+     * @param startDate   the task's start date, or {@code null} if it has none
+     * @param endDate     the task's end date, or {@code null} if it has none
+     * @param version     the task's version
+     */
+    record TaskState(
+            UUID taskId,
+            UUID userId,
+            String title,
+            String description,
+            Instant startDate,
+            Instant endDate,
+            Long version
+    ) {}
+
+    /**
+     * Payload of the events carrying only the task's identifier.
+     *
+     * @param taskId the task's unique identifier
+     */
+    record TaskReference(
+            UUID taskId
+    ) {}
+
+}
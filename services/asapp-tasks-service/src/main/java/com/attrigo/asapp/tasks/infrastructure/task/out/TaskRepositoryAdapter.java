@@ -16,16 +16,25 @@
 
 package com.attrigo.asapp.tasks.infrastructure.task.out;
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Optional;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
 import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskField;
 import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
 import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.infrastructure.cache.EntityCache;
 import com.attrigo.asapp.tasks.infrastructure.task.mapper.TaskMapper;
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskColumnUpdater;
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskEntity;
 import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskRepository;
 
 /**
@@ -33,6 +42,8 @@ import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskRepositor
  * <p>
  * Bridges the application layer with the infrastructure layer by translating domain operations to JDBC repository calls and mapping between domain entities and
  * database entities.
+ * <p>
+ * Tasks read by id go through the {@link EntityCache}; every write or delete of an existing task evicts it.
  *
  * @since 0.2.0
  * @author attrigo
@@ -42,65 +53,107 @@ public class TaskRepositoryAdapter implements TaskRepository {
 
     private final JdbcTaskRepository taskRepository;
 
+    private final JdbcTaskColumnUpdater taskColumnUpdater;
+
     private final TaskMapper taskMapper;
 
+    private final EntityCache<JdbcTaskEntity> taskCache;
+
     /**
      * Constructs a new {@code TaskRepositoryAdapter} with required dependencies.
      *
-     * @param taskRepository the Spring Data JDBC repository
-     * @param taskMapper     the mapper for converting between domain and database entities
+     * @param taskRepository    the Spring Data JDBC repository
+     * @param taskColumnUpdater the writer of partial task updates
+     * @param taskMapper        the mapper for converting between domain and database entities
+     * @param taskCache         the cache of tasks by id
      */
-    public TaskRepositoryAdapter(JdbcTaskRepository taskRepository, TaskMapper taskMapper) {
+    public TaskRepositoryAdapter(JdbcTaskRepository taskRepository, JdbcTaskColumnUpdater taskColumnUpdater, TaskMapper taskMapper,
+            EntityCache<JdbcTaskEntity> taskCache) {
         this.taskRepository = taskRepository;
+        this.taskColumnUpdater = taskColumnUpdater;
         this.taskMapper = taskMapper;
+        this.taskCache = taskCache;
     }
 
     @Override
     public Optional<Task> findById(TaskId taskId) {
-        return taskRepository.findById(taskId.value())
-                             .map(taskMapper::toTask);
+        return taskCache.get(taskId.value(), taskRepository::findById)
+                        .map(taskMapper::toTask);
     }
 
     @Override
-    public Collection<Task> findByIds(Collection<TaskId> taskIds) {
-        var ids = taskIds.stream()
-                         .map(TaskId::value)
-                         .toList();
-
-        return taskRepository.findAllById(ids)
-                             .stream()
-                             .map(taskMapper::toTask)
-                             .toList();
-    }
+    public Task save(Task task) {
+        var taskToSave = taskMapper.toJdbcTaskEntity(task);
 
-    @Override
-    public Collection<Task> findByUserId(UserId userId) {
-        return taskRepository.findByUserId(userId.value())
-                             .stream()
-                             .map(taskMapper::toTask)
-                             .toList();
+        var taskSaved = taskRepository.save(taskToSave);
+        if (taskToSave.id() != null) {
+            taskCache.evict(taskSaved.id());
+        }
+
+        return taskMapper.toTask(taskSaved);
     }
 
     @Override
-    public Collection<Task> findAll() {
-        return taskRepository.findAll()
-                             .stream()
-                             .map(taskMapper::toTask)
-                             .toList();
+    public Task saveChanges(Task task) {
+        var changedFields = task.getChangedFields();
+        if (changedFields.isEmpty()) {
+            return task;
+        }
+
+        // Declaration order keeps the statement identical for a given set of changed fields
+        var changedColumns = Arrays.stream(TaskField.values())
+                                   .filter(changedFields::contains)
+                                   .map(TaskRepositoryAdapter::toColumn)
+                                   .toList();
+        var taskToSave = taskMapper.toJdbcTaskEntity(task);
+
+        var newVersion = taskColumnUpdater.updateColumns(taskToSave, changedColumns)
+                                          .orElseThrow(() -> new OptimisticLockingFailureException(
+                                                  "Task %s was modified or deleted concurrently".formatted(taskToSave.id())));
+        taskCache.evict(taskToSave.id());
+
+        return taskMapper.toTask(taskToSave.withVersion(newVersion));
     }
 
     @Override
-    public Task save(Task task) {
-        var taskToSave = taskMapper.toJdbcTaskEntity(task);
+    public Optional<Task> updateById(TaskId taskId, UserId userId, Title title, Description description, StartDate startDate, EndDate endDate,
+            Long expectedVersion) {
 
-        var taskSaved = taskRepository.save(taskToSave);
+        var descriptionValue = description != null ? description.value() : null;
+        var startDateValue = startDate != null ? startDate.value() : null;
+        var endDateValue = endDate != null ? endDate.value() : null;
 
-        return taskMapper.toTask(taskSaved);
+        var taskUpdated = taskRepository.updateTaskById(taskId.value(), userId.value(), title.value(), descriptionValue, startDateValue, endDateValue,
+                expectedVersion);
+        taskUpdated.ifPresent(updated -> taskCache.evict(updated.id()));
+
+        return taskUpdated.map(taskMapper::toTask);
     }
 
     @Override
     public Boolean deleteById(TaskId taskId) {
-        return taskRepository.deleteTaskById(taskId.value()) > 0;
+        var deleted = taskRepository.deleteTaskById(taskId.value()) > 0;
+        if (deleted) {
+            taskCache.evict(taskId.value());
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Maps a task field to the column storing it.
+     *
+     * @param field the {@link TaskField}
+     * @return the column name
+     */
+    private static String toColumn(TaskField field) {
+        return switch (field) {
+            case USER_ID -> "user_id";
+            case TITLE -> "title";
+            case DESCRIPTION -> "description";
+            case START_DATE -> "start_date";
+            case END_DATE -> "end_date";
+        };
     }
 
 }
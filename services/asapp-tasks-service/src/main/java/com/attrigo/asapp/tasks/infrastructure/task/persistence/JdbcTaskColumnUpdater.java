@@ -0,0 +1,134 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.persistence;
+
+import static java.util.stream.Collectors.joining;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes a subset of the columns of a {@link JdbcTaskEntity} with a dynamically built {@code UPDATE} statement.
+ * <p>
+ * Unlike a Spring Data JDBC save, which rewrites every column, only the given columns are set, sparing the write-ahead log and the indexes of the untouched
+ * columns. The update is conditioned on the entity's version and increments it, like an optimistic-locking save.
+ * <p>
+ * Column names never come from user input: only the columns declared in {@code COLUMNS} are accepted, the values are always bound as parameters.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class JdbcTaskColumnUpdater {
+
+    private static final Map<String, ColumnBinding> COLUMNS = Map.of(
+            "user_id", new ColumnBinding(JdbcTaskEntity::userId, Types.OTHER),
+            "title", new ColumnBinding(JdbcTaskEntity::title, Types.VARCHAR),
+            "description", new ColumnBinding(JdbcTaskEntity::description, Types.VARCHAR),
+            "start_date", new ColumnBinding(task -> toTimestamp(task.startDate()), Types.TIMESTAMP),
+            "end_date", new ColumnBinding(task -> toTimestamp(task.endDate()), Types.TIMESTAMP));
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Constructs a new {@code JdbcTaskColumnUpdater} with required dependencies.
+     *
+     * @param jdbcClient the JDBC client used to run the updates
+     */
+    public JdbcTaskColumnUpdater(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Updates the given columns of a task row to the entity's values, provided the row still has the entity's version.
+     *
+     * @param task    the entity holding the new column values, its identifier and its current version
+     * @param columns the names of the columns to update, in statement order
+     * @return an {@link Optional} containing the row's new version, {@link Optional#empty} if no row has the entity's identifier and version
+     * @throws IllegalArgumentException if no column is given or a column is not updatable
+     */
+    public Optional<Long> updateColumns(JdbcTaskEntity task, List<String> columns) {
+        validateColumns(columns);
+
+        var assignments = columns.stream()
+                                 .map(column -> column + " = :" + column)
+                                 .collect(joining(", "));
+        var sql = "UPDATE tasks SET " + assignments + ", version = version + 1 WHERE id = :id AND version = :version RETURNING version";
+
+        var parameters = new MapSqlParameterSource().addValue("id", task.id())
+                                                    .addValue("version", task.version());
+        columns.forEach(column -> {
+            var binding = COLUMNS.get(column);
+            parameters.addValue(column, binding.value()
+                                               .apply(task), binding.sqlType());
+        });
+
+        return jdbcClient.sql(sql)
+                         .paramSource(parameters)
+                         .query(Long.class)
+                         .optional();
+    }
+
+    /**
+     * Validates that at least one column is given and that every column is updatable.
+     *
+     * @param columns the column names to validate
+     * @throws IllegalArgumentException if no column is given or a column is not updatable
+     */
+    private static void validateColumns(List<String> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one column must be updated");
+        }
+        columns.stream()
+               .filter(column -> !COLUMNS.containsKey(column))
+               .findFirst()
+               .ifPresent(column -> {
+                   throw new IllegalArgumentException("Column " + column + " is not updatable");
+               });
+    }
+
+    /**
+     * Converts a nullable {@link Instant} into a {@link Timestamp}.
+     *
+     * @param instant the instant to convert
+     * @return the {@link Timestamp}, or {@code null} if the instant is {@code null}
+     */
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    /**
+     * Binding of an updatable column to its value in the entity and its JDBC type.
+     *
+     * @param value   the function extracting the column value from the entity
+     * @param sqlType the JDBC type of the column, used to bind {@code null} values
+     */
+    private record ColumnBinding(
+            Function<JdbcTaskEntity, Object> value,
+            int sqlType
+    ) {}
+
+}
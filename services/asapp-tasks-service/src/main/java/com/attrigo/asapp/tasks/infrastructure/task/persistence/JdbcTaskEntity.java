@@ -20,6 +20,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -30,6 +31,9 @@ import jakarta.validation.constraints.NotNull;
  * Entity representing a task in the database.
  * <p>
  * Maps to the {@code tasks} table and provides persistence representation for task domain entities.
+ * <p>
+ * The {@code version} column enables optimistic locking: a {@code null} version marks a new entity, and every update is conditioned on the stored version and
+ * increments it.
  *
  * @param id          the task's unique identifier
  * @param userId      the task's user id; must not be {@code null}
@@ -37,6 +41,7 @@ import jakarta.validation.constraints.NotNull;
  * @param description the task's description
  * @param startDate   the task's start date
  * @param endDate     the task's end date
+ * @param version     the task's row version; {@code null} for new tasks
  * @since 0.2.0
  * @author attrigo
  */
@@ -47,5 +52,18 @@ public record JdbcTaskEntity(
         @NotBlank String title,
         String description,
         Instant startDate,
-        Instant endDate
-) {}
+        Instant endDate,
+        @Version Long version
+) {
+
+    /**
+     * Returns a copy of this entity carrying the given version.
+     *
+     * @param version the new row version
+     * @return a {@code JdbcTaskEntity} with the same columns and the given version
+     */
+    public JdbcTaskEntity withVersion(Long version) {
+        return new JdbcTaskEntity(id, userId, title, description, startDate, endDate, version);
+    }
+
+}
@@ -0,0 +1,52 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.persistence;
+
+import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import com.attrigo.asapp.tasks.infrastructure.datasource.TimeOrderedUuidGenerator;
+
+/**
+ * Assigns a time-ordered identifier to new {@link JdbcTaskEntity} instances before they are inserted.
+ * <p>
+ * Spring Data JDBC decides whether an entity is new before invoking this callback, so assigning the identifier here still results in an {@code INSERT}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ * @see TimeOrderedUuidGenerator
+ */
+@Component
+public class JdbcTaskIdGenerator implements BeforeConvertCallback<JdbcTaskEntity> {
+
+    /**
+     * Assigns a new identifier to the task if it does not have one yet.
+     *
+     * @param task the task about to be saved
+     * @return the task with an identifier
+     */
+    @Override
+    public JdbcTaskEntity onBeforeConvert(JdbcTaskEntity task) {
+        if (task.id() != null) {
+            return task;
+        }
+
+        return new JdbcTaskEntity(TimeOrderedUuidGenerator.generate(), task.userId(), task.title(), task.description(), task.startDate(), task.endDate(),
+                task.version());
+    }
+
+}
@@ -16,12 +16,15 @@
 
 package com.attrigo.asapp.tasks.infrastructure.task.persistence;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Data JDBC repository for task persistence operations.
@@ -44,6 +47,31 @@ public interface JdbcTaskRepository extends ListCrudRepository<JdbcTaskEntity, U
      */
     Collection<JdbcTaskEntity> findByUserId(UUID userId);
 
+    /**
+     * Updates a task's columns and returns the updated row in a single statement.
+     * <p>
+     * Increments the version column; if {@code expectedVersion} is not {@code null} the row is only updated while it still has that version.
+     * <p>
+     * Declared read-write since the statement modifies the row while being executed as a query.
+     *
+     * @param id              the task's unique identifier
+     * @param userId          the new user unique identifier
+     * @param title           the new title
+     * @param description     the new description
+     * @param startDate       the new start date
+     * @param endDate         the new end date
+     * @param expectedVersion the version the task is expected to have, or {@code null} to update unconditionally
+     * @return an {@link Optional} containing the updated {@link JdbcTaskEntity}, {@link Optional#empty} if no row matched
+     */
+    @Transactional
+    @Query("""
+            UPDATE tasks
+            SET user_id = :userId, title = :title, description = :description, start_date = :startDate, end_date = :endDate, version = version + 1
+            WHERE id = :id AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """)
+    Optional<JdbcTaskEntity> updateTaskById(UUID id, UUID userId, String title, String description, Instant startDate, Instant endDate, Long expectedVersion);
+
     /**
      * Deletes a task by their unique identifier.
      *
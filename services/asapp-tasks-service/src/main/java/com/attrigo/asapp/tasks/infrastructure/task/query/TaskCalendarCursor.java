@@ -0,0 +1,81 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last task of a calendar page, from which the next page starts.
+ * <p>
+ * Calendar tasks are ordered by start date, then by identifier; the next page holds the tasks that sort strictly after this position, so pages are read
+ * with a keyset condition instead of an {@code OFFSET} that rescans every skipped row.
+ * <p>
+ * Clients receive the cursor as an opaque URL-safe string.
+ *
+ * @param startDate the start date of the last task of the page
+ * @param id        the identifier of the last task of the page
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record TaskCalendarCursor(
+        Instant startDate,
+        UUID id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param cursor the opaque cursor
+     * @return the decoded {@code TaskCalendarCursor}
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static TaskCalendarCursor decode(String cursor) {
+        var decoded = new String(Base64.getUrlDecoder()
+                                       .decode(cursor), StandardCharsets.UTF_8);
+        var separatorIndex = decoded.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException("Calendar cursor is malformed");
+        }
+
+        try {
+            var startDate = Instant.parse(decoded.substring(0, separatorIndex));
+            var id = UUID.fromString(decoded.substring(separatorIndex + 1));
+            return new TaskCalendarCursor(startDate, id);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Calendar cursor is malformed", e);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        var raw = startDate + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
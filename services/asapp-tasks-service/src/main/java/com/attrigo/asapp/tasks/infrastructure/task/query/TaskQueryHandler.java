@@ -0,0 +1,469 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.query;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.attrigo.asapp.tasks.application.UseCasePriority;
+import com.attrigo.asapp.tasks.infrastructure.cache.EntityCache;
+import com.attrigo.asapp.tasks.infrastructure.datasource.ChunkedIdQuery;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetCalendarTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskByIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskStatsResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksByUserIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.SearchTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskEntity;
+
+/**
+ * Query-side handler serving the task read endpoints straight from the database.
+ * <p>
+ * Rows are mapped directly into the response records, skipping the persistence entity and the {@code Task} aggregate with its validated value objects: data
+ * that is only being read was already validated when it was written. Commands keep going through the domain model.
+ * <p>
+ * The task by id is the exception: it is read as the persistence entity through the {@link EntityCache} shared with the repository adapter, so the writes that
+ * evict it there also evict it here.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+@Transactional(readOnly = true)
+public class TaskQueryHandler {
+
+    private static final String SELECT_TASKS = "SELECT id, user_id, title, description, start_date, end_date, version FROM tasks";
+
+    private static final RowMapper<JdbcTaskEntity> TASK_ENTITY_MAPPER = (rs, rowNum) -> new JdbcTaskEntity(rs.getObject("id", UUID.class),
+            rs.getObject("user_id", UUID.class), rs.getString("title"), rs.getString("description"), getInstant(rs, "start_date"),
+            getInstant(rs, "end_date"), rs.getLong("version"));
+
+    private static final RowMapper<GetTasksByUserIdResponse> GET_TASKS_BY_USER_ID_MAPPER = (rs, rowNum) -> new GetTasksByUserIdResponse(
+            rs.getObject("id", UUID.class), rs.getObject("user_id", UUID.class), rs.getString("title"), rs.getString("description"),
+            getInstant(rs, "start_date"), getInstant(rs, "end_date"));
+
+    private static final String SELECT_TASK_IDS_BY_USER_IDS = """
+            SELECT user_id, array_agg(id ORDER BY id) AS task_ids
+            FROM tasks
+            WHERE user_id = ANY(:ids)
+            GROUP BY user_id
+            """;
+
+    private static final RowMapper<UserTaskIds> USER_TASK_IDS_MAPPER = (rs, rowNum) -> new UserTaskIds(rs.getObject("user_id", UUID.class),
+            Arrays.asList((UUID[]) rs.getArray("task_ids")
+                                     .getArray()));
+
+    private static final RowMapper<GetTasksResponse> GET_TASKS_MAPPER = (rs, rowNum) -> new GetTasksResponse(rs.getObject("id", UUID.class),
+            rs.getObject("user_id", UUID.class), rs.getString("title"), rs.getString("description"), getInstant(rs, "start_date"),
+            getInstant(rs, "end_date"));
+
+    private static final RowMapper<RankedTask> SEARCH_TASKS_MAPPER = (rs, rowNum) -> new RankedTask(GET_TASKS_MAPPER.mapRow(rs, rowNum),
+            new TaskSearchCursor(rs.getDouble("rank"), rs.getObject("id", UUID.class)));
+
+    private static final String SEARCH_TASKS = """
+            WITH matches AS (
+                SELECT id, user_id, title, description, start_date, end_date,
+                       (ts_rank(search_vector, websearch_to_tsquery('simple', :query)) + similarity(title, :query))::float8 AS rank
+                FROM tasks
+                WHERE user_id = :userId
+                  AND (search_vector @@ websearch_to_tsquery('simple', :query) OR title % :query OR title ILIKE :prefix)
+            )
+            SELECT id, user_id, title, description, start_date, end_date, rank
+            FROM matches
+            """;
+
+    private static final String SEARCH_TASKS_AFTER_CURSOR = "WHERE (rank, id) < (:cursorRank, :cursorId)\n";
+
+    private static final String SEARCH_TASKS_ORDER = "ORDER BY rank DESC, id DESC LIMIT :limit";
+
+    private static final RowMapper<ScheduledTask> CALENDAR_TASKS_MAPPER = (rs, rowNum) -> new ScheduledTask(GET_TASKS_MAPPER.mapRow(rs, rowNum),
+            new TaskCalendarCursor(getInstant(rs, "start_date"), rs.getObject("id", UUID.class)));
+
+    private static final String CALENDAR_TASKS = """
+            SELECT id, user_id, title, description, start_date, end_date
+            FROM tasks
+            WHERE user_id = :userId
+              AND start_date IS NOT NULL
+              AND tsrange(start_date, greatest(start_date, end_date), '[]') && tsrange(CAST(:from AS timestamp), CAST(:to AS timestamp), '[)')
+            """;
+
+    private static final String CALENDAR_TASKS_AFTER_CURSOR = "AND (start_date, id) > (CAST(:cursorStartDate AS timestamp), :cursorId)\n";
+
+    private static final String CALENDAR_TASKS_ORDER = "ORDER BY start_date, id LIMIT :limit";
+
+    private static final String TASK_STATS = """
+            SELECT requested.user_id,
+                   coalesce(stats.total_tasks, 0) AS total_tasks,
+                   coalesce(stats.scheduled_tasks, 0) AS scheduled_tasks,
+                   (SELECT count(*)
+                    FROM tasks
+                    WHERE user_id = requested.user_id
+                      AND start_date IS NOT NULL
+                      AND tsrange(start_date, greatest(start_date, end_date), '[]') << tsrange(CAST(:now AS timestamp), NULL)) AS overdue_tasks,
+            """;
+
+    private static final String TASK_STATS_IN_RANGE = """
+                   (SELECT count(*)
+                    FROM tasks
+                    WHERE user_id = requested.user_id
+                      AND start_date IS NOT NULL
+                      AND tsrange(start_date, greatest(start_date, end_date), '[]') && tsrange(CAST(:from AS timestamp), CAST(:to AS timestamp), '[)')) AS tasks_in_range
+            """;
+
+    private static final String TASK_STATS_NO_RANGE = "       CAST(NULL AS bigint) AS tasks_in_range\n";
+
+    private static final String TASK_STATS_FROM = """
+            FROM (VALUES (CAST(:userId AS uuid))) AS requested (user_id)
+                     LEFT JOIN task_stats stats ON stats.user_id = requested.user_id
+            """;
+
+    private static final RowMapper<GetTaskStatsResponse> GET_TASK_STATS_MAPPER = (rs, rowNum) -> new GetTaskStatsResponse(rs.getObject("user_id", UUID.class),
+            rs.getLong("total_tasks"), rs.getLong("scheduled_tasks"), rs.getLong("overdue_tasks"), rs.getObject("tasks_in_range", Long.class));
+
+    private final JdbcClient jdbcClient;
+
+    private final ChunkedIdQuery chunkedIdQuery;
+
+    private final EntityCache<JdbcTaskEntity> taskCache;
+
+    /**
+     * Constructs a new {@code TaskQueryHandler} with required dependencies.
+     *
+     * @param jdbcClient     the JDBC client used to run the queries
+     * @param chunkedIdQuery the runner of the queries filtered by a list of identifiers
+     * @param taskCache      the cache of tasks by id
+     */
+    public TaskQueryHandler(JdbcClient jdbcClient, ChunkedIdQuery chunkedIdQuery, EntityCache<JdbcTaskEntity> taskCache) {
+        this.jdbcClient = jdbcClient;
+        this.chunkedIdQuery = chunkedIdQuery;
+        this.taskCache = taskCache;
+    }
+
+    /**
+     * Retrieves a task by its unique identifier.
+     *
+     * @param id the task's unique identifier
+     * @return an {@link Optional} containing the {@link GetTaskByIdResponse} with its version if found, {@link Optional#empty} otherwise
+     */
+    public Optional<Versioned<GetTaskByIdResponse>> getTaskById(UUID id) {
+        return taskCache.get(id, this::findTaskEntity)
+                        .map(task -> new Versioned<>(new GetTaskByIdResponse(task.id(), task.userId(), task.title(), task.description(),
+                                task.startDate(), task.endDate()), task.version()));
+    }
+
+    /**
+     * Retrieves only the version of a task.
+     * <p>
+     * Lets conditional requests be answered without reading the task itself.
+     *
+     * @param id the task's unique identifier
+     * @return an {@link Optional} containing the task's version if found, {@link Optional#empty} otherwise
+     */
+    public Optional<Long> getTaskVersion(UUID id) {
+        return jdbcClient.sql("SELECT version FROM tasks WHERE id = :id")
+                         .param("id", id)
+                         .query(Long.class)
+                         .optional();
+    }
+
+    /**
+     * Retrieves all tasks of a user.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link List} of {@link GetTasksByUserIdResponse}, or an empty list if the user has no tasks
+     */
+    public List<GetTasksByUserIdResponse> getTasksByUserId(UUID userId) {
+        return jdbcClient.sql(SELECT_TASKS + " WHERE user_id = :userId")
+                         .param("userId", userId)
+                         .query(GET_TASKS_BY_USER_ID_MAPPER)
+                         .list();
+    }
+
+    /**
+     * Retrieves the identifiers of the tasks of a user.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link List} of the task identifiers, or an empty list if the user has no tasks
+     */
+    public List<UUID> getTaskIdsByUserId(UUID userId) {
+        return jdbcClient.sql("SELECT id FROM tasks WHERE user_id = :userId")
+                         .param("userId", userId)
+                         .query(UUID.class)
+                         .list();
+    }
+
+    /**
+     * Retrieves the identifiers of the tasks of several users.
+     * <p>
+     * Duplicate identifiers are ignored. Like {@link #getTasksByIds(Collection)}, the users are read in chunks through the {@link ChunkedIdQuery}, joining the
+     * caller's transaction when there is one.
+     *
+     * @param userIds the identifiers of the users
+     * @return a {@link List} with the {@link UserTaskIds} of every requested user, in the order they were requested; users without tasks get an empty list
+     * @throws IllegalArgumentException if there are more distinct identifiers than the configured maximum
+     * @see ChunkedIdQuery
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<UserTaskIds> getTaskIdsByUserIds(Collection<UUID> userIds) {
+        var taskIdsByUserId = chunkedIdQuery.query(userIds, UserTaskIds::userId, ids -> jdbcClient.sql(SELECT_TASK_IDS_BY_USER_IDS)
+                                                                                                 .param("ids", ids)
+                                                                                                 .query(USER_TASK_IDS_MAPPER)
+                                                                                                 .list())
+                                            .stream()
+                                            .collect(Collectors.toMap(UserTaskIds::userId, Function.identity()));
+
+        return new LinkedHashSet<>(userIds).stream()
+                                           .map(userId -> taskIdsByUserId.getOrDefault(userId, new UserTaskIds(userId, List.of())))
+                                           .toList();
+    }
+
+    /**
+     * Retrieves tasks by their unique identifiers.
+     * <p>
+     * Duplicate identifiers are ignored. The identifiers are bound as a single array and large lists are read in concurrent chunks, so the method joins the
+     * caller's transaction when there is one instead of starting its own.
+     *
+     * @param ids the identifiers of the tasks
+     * @return a {@link List} of {@link GetTasksResponse} found, in the order their identifiers were requested, or an empty list if none match
+     * @throws IllegalArgumentException if there are more distinct identifiers than the configured maximum
+     * @see ChunkedIdQuery
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<GetTasksResponse> getTasksByIds(Collection<UUID> ids) {
+        return chunkedIdQuery.query(ids, GetTasksResponse::taskId, taskIds -> jdbcClient.sql(SELECT_TASKS + " WHERE id = ANY(:ids)")
+                                                                                       .param("ids", taskIds)
+                                                                                       .query(GET_TASKS_MAPPER)
+                                                                                       .list());
+    }
+
+    /**
+     * Retrieves all tasks.
+     *
+     * @return a {@link List} of all {@link GetTasksResponse}
+     */
+    @UseCasePriority(UseCasePriority.Level.LOW)
+    public List<GetTasksResponse> getAllTasks() {
+        return jdbcClient.sql(SELECT_TASKS)
+                         .query(GET_TASKS_MAPPER)
+                         .list();
+    }
+
+    /**
+     * Searches a user's tasks by title and description, best match first.
+     * <p>
+     * A task matches when its title or description contain the words of the query, in web search syntax, or when its title is similar to or starts with the
+     * query, which tolerates typos and partial words. Matches are ranked by full-text relevance plus title similarity.
+     * <p>
+     * Pages are delimited by keyset: one more task than the limit is read to know whether a next page exists, and the cursor of the last task returned is
+     * where the next page starts.
+     *
+     * @param userId the user's unique identifier
+     * @param query  the search text
+     * @param limit  the maximum number of tasks to return
+     * @param cursor the cursor returned with the previous page, {@code null} for the first page
+     * @return the {@link SearchTasksResponse} with the page of matching tasks and the cursor of the next page, if any
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @UseCasePriority(UseCasePriority.Level.LOW)
+    public SearchTasksResponse searchTasks(UUID userId, String query, int limit, String cursor) {
+        var afterCursor = cursor != null ? TaskSearchCursor.decode(cursor) : null;
+        var sql = SEARCH_TASKS + (afterCursor != null ? SEARCH_TASKS_AFTER_CURSOR : "") + SEARCH_TASKS_ORDER;
+
+        var statement = jdbcClient.sql(sql)
+                                  .param("userId", userId)
+                                  .param("query", query)
+                                  .param("prefix", escapeLikePattern(query) + "%")
+                                  .param("limit", limit + 1);
+        if (afterCursor != null) {
+            statement = statement.param("cursorRank", afterCursor.rank())
+                                 .param("cursorId", afterCursor.id());
+        }
+        var rankedTasks = statement.query(SEARCH_TASKS_MAPPER)
+                                   .list();
+
+        var hasNextPage = rankedTasks.size() > limit;
+        var page = hasNextPage ? rankedTasks.subList(0, limit) : rankedTasks;
+        var nextCursor = hasNextPage ? page.getLast()
+                                           .cursor()
+                                           .encode() : null;
+        var tasks = page.stream()
+                        .map(RankedTask::task)
+                        .toList();
+        return new SearchTasksResponse(tasks, nextCursor);
+    }
+
+    /**
+     * Retrieves a user's tasks whose schedule overlaps a date range, by start date.
+     * <p>
+     * A task spans from its start date to its end date, or only its start date when it has no end date; tasks without start date are not scheduled and never
+     * returned. The overlap is answered by the range index on each user's task spans, so the cost depends on the tasks in the range rather than on all the
+     * tasks of the user.
+     * <p>
+     * Pages are delimited by keyset: one more task than the limit is read to know whether a next page exists, and the cursor of the last task returned is
+     * where the next page starts.
+     *
+     * @param userId the user's unique identifier
+     * @param from   the start of the range, inclusive
+     * @param to     the end of the range, exclusive
+     * @param limit  the maximum number of tasks to return
+     * @param cursor the cursor returned with the previous page, {@code null} for the first page
+     * @return the {@link GetCalendarTasksResponse} with the page of tasks and the cursor of the next page, if any
+     * @throws IllegalArgumentException if the range does not end after it starts, or the cursor is malformed
+     */
+    public GetCalendarTasksResponse getCalendarTasks(UUID userId, Instant from, Instant to, int limit, String cursor) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Calendar range must end after it starts");
+        }
+
+        var afterCursor = cursor != null ? TaskCalendarCursor.decode(cursor) : null;
+        var sql = CALENDAR_TASKS + (afterCursor != null ? CALENDAR_TASKS_AFTER_CURSOR : "") + CALENDAR_TASKS_ORDER;
+
+        var statement = jdbcClient.sql(sql)
+                                  .param("userId", userId)
+                                  .param("from", Timestamp.from(from))
+                                  .param("to", Timestamp.from(to))
+                                  .param("limit", limit + 1);
+        if (afterCursor != null) {
+            statement = statement.param("cursorStartDate", Timestamp.from(afterCursor.startDate()))
+                                 .param("cursorId", afterCursor.id());
+        }
+        var scheduledTasks = statement.query(CALENDAR_TASKS_MAPPER)
+                                      .list();
+
+        var hasNextPage = scheduledTasks.size() > limit;
+        var page = hasNextPage ? scheduledTasks.subList(0, limit) : scheduledTasks;
+        var nextCursor = hasNextPage ? page.getLast()
+                                           .cursor()
+                                           .encode() : null;
+        var tasks = page.stream()
+                        .map(ScheduledTask::task)
+                        .toList();
+        return new GetCalendarTasksResponse(tasks, nextCursor);
+    }
+
+    /**
+     * Retrieves the task statistics of a user.
+     * <p>
+     * Total and scheduled counts are read from the {@code task_stats} read model, kept up to date by the database in the same transaction as every task write,
+     * so they cost a single-row lookup however many tasks the user has. Overdue and in-range counts depend on the current time or the requested range and are
+     * counted through the range index on each user's task spans; a task spans from its start date to its end date, or only its start date when it has no end
+     * date, and is overdue once its span ended.
+     *
+     * @param userId the user's unique identifier
+     * @param from   the start of the range to count tasks in, inclusive, or {@code null} to skip the in-range count
+     * @param to     the end of the range to count tasks in, exclusive, or {@code null} to skip the in-range count
+     * @return the {@link GetTaskStatsResponse} of the user, with zero counts if the user has no tasks
+     * @throws IllegalArgumentException if only one end of the range is given, or the range does not end after it starts
+     */
+    public GetTaskStatsResponse getTaskStatsByUserId(UUID userId, Instant from, Instant to) {
+        if ((from == null) != (to == null)) {
+            throw new IllegalArgumentException("Statistics range must have both a start and an end");
+        }
+        if (from != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Statistics range must end after it starts");
+        }
+
+        var sql = TASK_STATS + (from != null ? TASK_STATS_IN_RANGE : TASK_STATS_NO_RANGE) + TASK_STATS_FROM;
+
+        var statement = jdbcClient.sql(sql)
+                                  .param("userId", userId)
+                                  .param("now", Timestamp.from(Instant.now()));
+        if (from != null) {
+            statement = statement.param("from", Timestamp.from(from))
+                                 .param("to", Timestamp.from(to));
+        }
+        return statement.query(GET_TASK_STATS_MAPPER)
+                        .single();
+    }
+
+    /**
+     * Escapes the {@code LIKE} wildcards of a text so it is matched literally.
+     *
+     * @param text the text to escape
+     * @return the escaped text
+     */
+    private static String escapeLikePattern(String text) {
+        return text.replace("\\", "\\\\")
+                   .replace("%", "\\%")
+                   .replace("_", "\\_");
+    }
+
+    /**
+     * Reads a task from the database as its persistence entity.
+     *
+     * @param id the task's unique identifier
+     * @return an {@link Optional} containing the {@link JdbcTaskEntity} if found, {@link Optional#empty} otherwise
+     */
+    private Optional<JdbcTaskEntity> findTaskEntity(UUID id) {
+        return jdbcClient.sql(SELECT_TASKS + " WHERE id = :id")
+                         .param("id", id)
+                         .query(TASK_ENTITY_MAPPER)
+                         .optional();
+    }
+
+    /**
+     * Reads a nullable timestamp column the same way Spring Data JDBC reads it into an {@link Instant}.
+     *
+     * @param rs     the result set positioned on the current row
+     * @param column the column label
+     * @return the column value as an {@link Instant}, or {@code null} if the column is {@code null}
+     * @throws SQLException if the column cannot be read
+     */
+    private static Instant getInstant(ResultSet rs, String column) throws SQLException {
+        var timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    /**
+     * A search match together with its position in the results.
+     *
+     * @param task   the matching task
+     * @param cursor the position of the task in the results
+     */
+    private record RankedTask(
+            GetTasksResponse task,
+            TaskSearchCursor cursor
+    ) {}
+
+    /**
+     * A calendar task together with its position in the calendar.
+     *
+     * @param task   the scheduled task
+     * @param cursor the position of the task in the calendar
+     */
+    private record ScheduledTask(
+            GetTasksResponse task,
+            TaskCalendarCursor cursor
+    ) {}
+
+}
@@ -0,0 +1,75 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last task of a search results page, from which the next page starts.
+ * <p>
+ * Search results are ordered by descending rank, then by descending identifier; the next page holds the tasks that sort strictly after this position, so
+ * pages are read with an index-friendly keyset condition instead of an {@code OFFSET} that rescans every skipped row.
+ * <p>
+ * Clients receive the cursor as an opaque URL-safe string.
+ *
+ * @param rank the rank of the last task of the page
+ * @param id   the identifier of the last task of the page
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record TaskSearchCursor(
+        double rank,
+        UUID id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param cursor the opaque cursor
+     * @return the decoded {@code TaskSearchCursor}
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static TaskSearchCursor decode(String cursor) {
+        var decoded = new String(Base64.getUrlDecoder()
+                                       .decode(cursor), StandardCharsets.UTF_8);
+        var separatorIndex = decoded.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException("Search cursor is malformed");
+        }
+
+        var rank = Double.parseDouble(decoded.substring(0, separatorIndex));
+        var id = UUID.fromString(decoded.substring(separatorIndex + 1));
+        return new TaskSearchCursor(rank, id);
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        var raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
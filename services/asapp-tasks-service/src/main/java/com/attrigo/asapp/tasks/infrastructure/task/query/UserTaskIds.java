@@ -0,0 +1,33 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.query;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The identifiers of the tasks of a user.
+ *
+ * @param userId  the user's unique identifier
+ * @param taskIds the identifiers of the user's tasks, empty if the user has none
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record UserTaskIds(
+        UUID userId,
+        List<UUID> taskIds
+) {}
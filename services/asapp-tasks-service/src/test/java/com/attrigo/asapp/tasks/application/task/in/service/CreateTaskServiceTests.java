@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
@@ -36,9 +37,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
 import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.out.KnownUserRepository;
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
 import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
 import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.UserId;
 
 /**
  * Tests {@link CreateTaskService} task creation and persistence.
@@ -47,6 +52,8 @@ import com.attrigo.asapp.tasks.domain.task.Task;
  * <li>Persistence failures propagate without completing creation workflow</li>
  * <li>Successful creation persists task with assigned identity</li>
  * <li>Domain constraints validated before persistence</li>
+ * <li>Publishes the creation only once the task is persisted</li>
+ * <li>Rejects a task whose user is not known before persisting it</li>
  */
 @ExtendWith(MockitoExtension.class)
 class CreateTaskServiceTests {
@@ -54,6 +61,12 @@ class CreateTaskServiceTests {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskEventPublisher taskEventPublisher;
+
+    @Mock
+    private KnownUserRepository knownUserRepository;
+
     @InjectMocks
     private CreateTaskService createTaskService;
 
@@ -71,6 +84,7 @@ class CreateTaskServiceTests {
             var endDate = task.getEndDate();
             var command = new CreateTaskCommand(userId.value(), title.value(), description.value(), startDate.value(), endDate.value());
 
+            given(knownUserRepository.existsById(userId)).willReturn(true);
             given(taskRepository.save(any(Task.class))).willReturn(task);
 
             // When
@@ -91,6 +105,9 @@ class CreateTaskServiceTests {
 
             then(taskRepository).should(times(1))
                                 .save(any(Task.class));
+
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskCreated(task);
         }
 
         @Test
@@ -103,6 +120,7 @@ class CreateTaskServiceTests {
             var endDate = Instant.parse("2025-01-02T10:00:00Z");
             var command = new CreateTaskCommand(userId, title, description, startDate, endDate);
 
+            given(knownUserRepository.existsById(UserId.of(userId))).willReturn(true);
             willThrow(new RuntimeException("Database connection failed")).given(taskRepository)
                                                                          .save(any(Task.class));
 
@@ -115,6 +133,31 @@ class CreateTaskServiceTests {
 
             then(taskRepository).should(times(1))
                                 .save(any(Task.class));
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskCreated(any(Task.class));
+        }
+
+        @Test
+        void ThrowsUnknownUserException_UserNotExists() {
+            // Given
+            var userId = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
+            var command = new CreateTaskCommand(userId, "Title", null, null, null);
+
+            given(knownUserRepository.existsById(UserId.of(userId))).willReturn(false);
+
+            // When
+            var actual = catchThrowable(() -> createTaskService.createTask(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(UnknownUserException.class)
+                              .hasMessageContaining(userId.toString());
+
+            then(taskRepository).should(never())
+                                .save(any(Task.class));
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskCreated(any(Task.class));
         }
 
     }
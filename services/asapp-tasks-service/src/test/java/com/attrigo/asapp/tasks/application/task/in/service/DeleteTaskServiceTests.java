@@ -18,7 +18,9 @@ package com.attrigo.asapp.tasks.application.task.in.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
@@ -32,6 +34,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
 import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
 import com.attrigo.asapp.tasks.domain.task.TaskId;
 
@@ -42,6 +45,7 @@ import com.attrigo.asapp.tasks.domain.task.TaskId;
  * <li>Deletion failures propagate without completing workflow</li>
  * <li>Returns false when task does not exist</li>
  * <li>Returns true when task successfully deleted</li>
+ * <li>Publishes the deletion only when the task existed</li>
  */
 @ExtendWith(MockitoExtension.class)
 class DeleteTaskServiceTests {
@@ -49,6 +53,9 @@ class DeleteTaskServiceTests {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskEventPublisher taskEventPublisher;
+
     @InjectMocks
     private DeleteTaskService deleteTaskService;
 
@@ -71,6 +78,9 @@ class DeleteTaskServiceTests {
 
             then(taskRepository).should(times(1))
                                 .deleteById(taskId);
+
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskDeleted(taskId);
         }
 
         @Test
@@ -89,6 +99,9 @@ class DeleteTaskServiceTests {
 
             then(taskRepository).should(times(1))
                                 .deleteById(taskId);
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskDeleted(any(TaskId.class));
         }
 
         @Test
@@ -109,6 +122,9 @@ class DeleteTaskServiceTests {
 
             then(taskRepository).should(times(1))
                                 .deleteById(taskId);
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskDeleted(any(TaskId.class));
         }
 
     }
@@ -0,0 +1,260 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.application.task.in.service;
+
+import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTaskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.attrigo.asapp.tasks.application.UseCaseStepObserver;
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
+import com.attrigo.asapp.tasks.application.task.in.command.PatchTaskCommand;
+import com.attrigo.asapp.tasks.application.task.out.KnownUserRepository;
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
+import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
+import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskField;
+import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.testutil.PassThroughUseCaseStepObserver;
+
+/**
+ * Tests {@link PatchTaskService} merge patch application with changed-field tracking.
+ * <p>
+ * Coverage:
+ * <li>Applies only the modified fields and persists the fields whose value actually changes</li>
+ * <li>Removes optional fields set to {@code null} in the patch</li>
+ * <li>Hands a task without changed fields to the repository when the patch repeats the current values</li>
+ * <li>Returns empty when task does not exist, without persisting</li>
+ * <li>Rejects the patch when the task has another version than the expected one</li>
+ * <li>Invalid values are rejected before the task is retrieved</li>
+ * <li>Concurrent modification failures propagate</li>
+ * <li>Publishes the update only when a field value changes</li>
+ * <li>Rejects a change of owner to a user that is not known before persisting it</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class PatchTaskServiceTests {
+
+    private static final UUID TASK_ID = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskEventPublisher taskEventPublisher;
+
+    @Mock
+    private KnownUserRepository knownUserRepository;
+
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
+    @InjectMocks
+    private PatchTaskService patchTaskService;
+
+    @Nested
+    class PatchTaskById {
+
+        @Test
+        void ReturnsPatchedTaskWithOnlyChangedFields_TaskExists() {
+            // Given
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.TITLE, TaskField.DESCRIPTION), null, "New Title", null, null, null, null);
+            var task = aTaskBuilder().withTaskId(TASK_ID)
+                                     .build();
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.of(task));
+            given(taskRepository.saveChanges(any(Task.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            var actual = patchTaskService.patchTaskById(command);
+
+            // Then
+            assertThat(actual).hasValueSatisfying(patchedTask -> {
+                assertThat(patchedTask.getChangedFields()).containsExactlyInAnyOrder(TaskField.TITLE, TaskField.DESCRIPTION);
+                assertThat(patchedTask.getTitle()
+                                      .value()).isEqualTo("New Title");
+                assertThat(patchedTask.getDescription()).isNull();
+                assertThat(patchedTask.getStartDate()).isNotNull();
+            });
+
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskUpdated(any(Task.class));
+        }
+
+        @Test
+        void PersistsTaskWithoutChangedFields_PatchRepeatsCurrentValues() {
+            // Given
+            var task = aTaskBuilder().withTaskId(TASK_ID)
+                                     .build();
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.TITLE), null, task.getTitle()
+                                                                                           .value(), null, null, null, null);
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.of(task));
+            given(taskRepository.saveChanges(task)).willReturn(task);
+
+            // When
+            var actual = patchTaskService.patchTaskById(command);
+
+            // Then
+            assertThat(actual).hasValueSatisfying(patchedTask -> assertThat(patchedTask.getChangedFields()).isEmpty());
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskUpdated(any(Task.class));
+        }
+
+        @Test
+        void ReturnsEmpty_TaskNotExists() {
+            // Given
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.TITLE), null, "New Title", null, null, null, null);
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.empty());
+
+            // When
+            var actual = patchTaskService.patchTaskById(command);
+
+            // Then
+            assertThat(actual).isEmpty();
+
+            then(taskRepository).should(never())
+                                .saveChanges(any(Task.class));
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskUpdated(any(Task.class));
+        }
+
+        @Test
+        void ThrowsTaskVersionMismatchException_ExpectedVersionDiffers() {
+            // Given
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.TITLE), null, "New Title", null, null, null, 2L);
+            var task = aTaskBuilder().withTaskId(TASK_ID)
+                                     .withVersion(3L)
+                                     .build();
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.of(task));
+
+            // When
+            var actual = catchThrowable(() -> patchTaskService.patchTaskById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(TaskVersionMismatchException.class)
+                              .hasMessageContaining("version 3 but version 2 was expected");
+
+            then(taskRepository).should(never())
+                                .saveChanges(any(Task.class));
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_BlankTitle() {
+            // Given
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.TITLE), null, " ", null, null, null, null);
+
+            // When
+            var actual = catchThrowable(() -> patchTaskService.patchTaskById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+
+            then(taskRepository).should(never())
+                                .findById(any(TaskId.class));
+        }
+
+        @Test
+        void ThrowsOptimisticLockingFailureException_TaskModifiedConcurrently() {
+            // Given
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.TITLE), null, "New Title", null, null, null, null);
+            var task = aTaskBuilder().withTaskId(TASK_ID)
+                                     .build();
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.of(task));
+            given(taskRepository.saveChanges(task)).willThrow(new OptimisticLockingFailureException("Task was modified or deleted concurrently"));
+
+            // When
+            var actual = catchThrowable(() -> patchTaskService.patchTaskById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(OptimisticLockingFailureException.class);
+        }
+
+        @Test
+        void ReturnsPatchedTask_NewUserExists() {
+            // Given
+            var newUserId = UUID.fromString("7f3e2a1b-4c5d-4e6f-8a9b-0c1d2e3f4a5b");
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.USER_ID), newUserId, null, null, null, null, null);
+            var task = aTaskBuilder().withTaskId(TASK_ID)
+                                     .build();
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.of(task));
+            given(knownUserRepository.existsById(UserId.of(newUserId))).willReturn(true);
+            given(taskRepository.saveChanges(task)).willReturn(task);
+
+            // When
+            var actual = patchTaskService.patchTaskById(command);
+
+            // Then
+            assertThat(actual).hasValueSatisfying(patchedTask -> assertThat(patchedTask.getUserId()).isEqualTo(UserId.of(newUserId)));
+
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskUpdated(task);
+        }
+
+        @Test
+        void ThrowsUnknownUserException_NewUserNotExists() {
+            // Given
+            var newUserId = UUID.fromString("7f3e2a1b-4c5d-4e6f-8a9b-0c1d2e3f4a5b");
+            var command = new PatchTaskCommand(TASK_ID, Set.of(TaskField.USER_ID), newUserId, null, null, null, null, null);
+            var task = aTaskBuilder().withTaskId(TASK_ID)
+                                     .build();
+
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.of(task));
+            given(knownUserRepository.existsById(UserId.of(newUserId))).willReturn(false);
+
+            // When
+            var actual = catchThrowable(() -> patchTaskService.patchTaskById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(UnknownUserException.class)
+                              .hasMessageContaining(newUserId.toString());
+
+            then(taskRepository).should(never())
+                                .saveChanges(any(Task.class));
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskUpdated(any(Task.class));
+        }
+
+    }
+
+}
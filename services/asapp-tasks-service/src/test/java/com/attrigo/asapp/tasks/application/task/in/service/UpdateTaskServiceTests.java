@@ -16,11 +16,9 @@
 
 package com.attrigo.asapp.tasks.application.task.in.service;
 
-import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTask;
 import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTaskBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
-import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
@@ -37,28 +35,61 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.tasks.application.UseCaseStepObserver;
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
 import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.out.KnownUserRepository;
+import com.attrigo.asapp.tasks.application.task.out.TaskEventPublisher;
 import com.attrigo.asapp.tasks.application.task.out.TaskRepository;
+import com.attrigo.asapp.tasks.domain.task.Description;
+import com.attrigo.asapp.tasks.domain.task.EndDate;
+import com.attrigo.asapp.tasks.domain.task.StartDate;
 import com.attrigo.asapp.tasks.domain.task.Task;
 import com.attrigo.asapp.tasks.domain.task.TaskId;
+import com.attrigo.asapp.tasks.domain.task.Title;
+import com.attrigo.asapp.tasks.domain.task.UserId;
+import com.attrigo.asapp.tasks.testutil.PassThroughUseCaseStepObserver;
 
 /**
- * Tests {@link UpdateTaskService} two-phase fetch-then-persist with field updates.
+ * Tests {@link UpdateTaskService} single-round-trip update with version-mismatch diagnosis.
  * <p>
  * Coverage:
- * <li>Fetch failures prevent update workflow execution</li>
- * <li>Persistence failures after successful fetch propagate</li>
+ * <li>Successful update persists the new values in one repository call, without reading the task first</li>
  * <li>Returns empty when task does not exist (no-op update)</li>
- * <li>Successful update completes fetch, mutation, and persistence phases</li>
+ * <li>Passes the expected version to the repository update</li>
+ * <li>Rejects the update when the task exists with another version than the expected one</li>
+ * <li>Invalid values are rejected before reaching the repository</li>
+ * <li>Persistence failures propagate</li>
+ * <li>Publishes the update only when the task was updated</li>
+ * <li>Rejects an update to a user that is not known before reaching the repository</li>
  */
 @ExtendWith(MockitoExtension.class)
 class UpdateTaskServiceTests {
 
+    private static final UUID TASK_ID = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
+
+    private static final UUID USER_ID = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
+
+    private static final Instant START_DATE = Instant.parse("2025-03-03T13:00:00Z");
+
+    private static final Instant END_DATE = Instant.parse("2025-04-04T14:00:00Z");
+
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskEventPublisher taskEventPublisher;
+
+    @Mock
+    private KnownUserRepository knownUserRepository;
+
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private UpdateTaskService updateTaskService;
 
@@ -68,59 +99,36 @@ class UpdateTaskServiceTests {
         @Test
         void ReturnsUpdatedTask_TaskExists() {
             // Given
-            var existingTask = aTask();
-            var existingTaskId = existingTask.getId();
-            var existingUserId = existingTask.getUserId();
-            var newTask = aTaskBuilder().withTitle("New Title")
-                                        .withDescription("New Description")
-                                        .withStartDate(Instant.parse("2025-03-03T13:00:00Z"))
-                                        .withEndDate(Instant.parse("2025-04-04T14:00:00Z"))
-                                        .build();
-            var newTitle = newTask.getTitle();
-            var newDescription = newTask.getDescription();
-            var newStartDate = newTask.getStartDate();
-            var newEndDate = newTask.getEndDate();
-            var command = new UpdateTaskCommand(existingTaskId.value(), existingUserId.value(), newTitle.value(), newDescription.value(), newStartDate.value(),
-                    newEndDate.value());
-
-            given(taskRepository.findById(existingTaskId)).willReturn(Optional.of(existingTask));
-            given(taskRepository.save(existingTask)).willReturn(existingTask); // Returns same reference so assertions verify the in-place domain mutation
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", "New Description", START_DATE, END_DATE, null);
+            var updatedTask = aTaskBuilder().withTaskId(TASK_ID)
+                                            .withTitle("New Title")
+                                            .withVersion(1L)
+                                            .build();
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(true);
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), Description.of("New Description"),
+                    StartDate.of(START_DATE), EndDate.of(END_DATE), null)).willReturn(Optional.of(updatedTask));
 
             // When
             var actual = updateTaskService.updateTaskById(command);
 
             // Then
-            assertThat(actual).isPresent();
-            assertSoftly(softly -> {
-                // @formatter:off
-                softly.assertThat(actual.get().getId()).as("ID").isEqualTo(existingTaskId);
-                softly.assertThat(actual.get().getUserId()).as("user ID").isEqualTo(existingUserId);
-                softly.assertThat(actual.get().getTitle()).as("title").isEqualTo(newTitle);
-                softly.assertThat(actual.get().getDescription()).as("description").isEqualTo(newDescription);
-                softly.assertThat(actual.get().getStartDate()).as("start date").isEqualTo(newStartDate);
-                softly.assertThat(actual.get().getEndDate()).as("end date").isEqualTo(newEndDate);
-                // @formatter:on
-            });
+            assertThat(actual).contains(updatedTask);
 
-            then(taskRepository).should(times(1))
-                                .findById(existingTaskId);
-            then(taskRepository).should(times(1))
-                                .save(existingTask);
+            then(taskRepository).should(never())
+                                .findById(any(TaskId.class));
+
+            then(taskEventPublisher).should(times(1))
+                                    .publishTaskUpdated(updatedTask);
         }
 
         @Test
         void ReturnsEmpty_TaskNotExists() {
             // Given
-            var taskIdValue = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
-            var userId = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
-            var title = "Title";
-            var description = "Description";
-            var startDate = Instant.parse("2025-01-01T10:00:00Z");
-            var endDate = Instant.parse("2025-01-02T10:00:00Z");
-            var command = new UpdateTaskCommand(taskIdValue, userId, title, description, startDate, endDate);
-            var taskId = TaskId.of(taskIdValue);
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "Title", null, null, null, null);
 
-            given(taskRepository.findById(taskId)).willReturn(Optional.empty());
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(true);
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("Title"), null, null, null, null)).willReturn(Optional.empty());
 
             // When
             var actual = updateTaskService.updateTaskById(command);
@@ -128,55 +136,97 @@ class UpdateTaskServiceTests {
             // Then
             assertThat(actual).isEmpty();
 
-            then(taskRepository).should(times(1))
-                                .findById(taskId);
             then(taskRepository).should(never())
-                                .save(any(Task.class));
+                                .findById(any(TaskId.class));
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskUpdated(any(Task.class));
         }
 
         @Test
-        void ThrowsException_TaskRetrievalFails() {
+        void ReturnsUpdatedTask_ExpectedVersionMatches() {
             // Given
-            var taskIdValue = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
-            var userId = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
-            var title = "Title";
-            var description = "Description";
-            var startDate = Instant.parse("2025-01-01T10:00:00Z");
-            var endDate = Instant.parse("2025-01-02T10:00:00Z");
-            var command = new UpdateTaskCommand(taskIdValue, userId, title, description, startDate, endDate);
-            var taskId = TaskId.of(taskIdValue);
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, 3L);
+            var updatedTask = aTaskBuilder().withTaskId(TASK_ID)
+                                            .withVersion(4L)
+                                            .build();
+            var newTitle = Title.of("New Title");
 
-            willThrow(new RuntimeException("Database connection failed")).given(taskRepository)
-                                                                         .findById(taskId);
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(true);
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), newTitle, null, null, null, 3L)).willReturn(Optional.of(updatedTask));
+
+            // When
+            var actual = updateTaskService.updateTaskById(command);
+
+            // Then
+            assertThat(actual).contains(updatedTask);
+
+            then(taskRepository).should(never())
+                                .findById(any(TaskId.class));
+        }
+
+        @Test
+        void ThrowsTaskVersionMismatchException_ExpectedVersionDiffers() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, 2L);
+            var currentTask = aTaskBuilder().withTaskId(TASK_ID)
+                                            .withVersion(3L)
+                                            .build();
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(true);
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), null, null, null, 2L)).willReturn(Optional.empty());
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.of(currentTask));
 
             // When
             var actual = catchThrowable(() -> updateTaskService.updateTaskById(command));
 
             // Then
-            assertThat(actual).isInstanceOf(RuntimeException.class)
-                              .hasMessage("Database connection failed");
+            assertThat(actual).isInstanceOf(TaskVersionMismatchException.class)
+                              .hasMessage("Task " + TASK_ID + " has version 3 but version 2 was expected");
+        }
+
+        @Test
+        void ReturnsEmpty_ExpectedVersionAndTaskNotExists() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, 2L);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(true);
+            given(taskRepository.updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), null, null, null, 2L)).willReturn(Optional.empty());
+            given(taskRepository.findById(TaskId.of(TASK_ID))).willReturn(Optional.empty());
+
+            // When
+            var actual = updateTaskService.updateTaskById(command);
+
+            // Then
+            assertThat(actual).isEmpty();
 
             then(taskRepository).should(times(1))
-                                .findById(taskId);
-            then(taskRepository).should(never())
-                                .save(any(Task.class));
+                                .findById(TaskId.of(TASK_ID));
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_BlankTitle() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, " ", null, null, null, null);
+
+            // When
+            var actual = catchThrowable(() -> updateTaskService.updateTaskById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+
+            then(taskRepository).shouldHaveNoInteractions();
         }
 
         @Test
         void ThrowsException_TaskPersistenceFails() {
             // Given
-            var existingTask = aTask();
-            var existingTaskId = existingTask.getId();
-            var existingUserId = existingTask.getUserId();
-            var newTitle = "New Title";
-            var newDescription = "New Description";
-            var newStartDate = Instant.parse("2025-03-03T13:00:00Z");
-            var newEndDate = Instant.parse("2025-04-04T14:00:00Z");
-            var command = new UpdateTaskCommand(existingTaskId.value(), existingUserId.value(), newTitle, newDescription, newStartDate, newEndDate);
-
-            given(taskRepository.findById(existingTaskId)).willReturn(Optional.of(existingTask));
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, null);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(true);
             willThrow(new RuntimeException("Database connection failed")).given(taskRepository)
-                                                                         .save(existingTask);
+                                                                         .updateById(TaskId.of(TASK_ID), UserId.of(USER_ID), Title.of("New Title"), null, null,
+                                                                                 null, null);
 
             // When
             var actual = catchThrowable(() -> updateTaskService.updateTaskById(command));
@@ -185,10 +235,28 @@ class UpdateTaskServiceTests {
             assertThat(actual).isInstanceOf(RuntimeException.class)
                               .hasMessage("Database connection failed");
 
-            then(taskRepository).should(times(1))
-                                .findById(existingTaskId);
-            then(taskRepository).should(times(1))
-                                .save(existingTask);
+            then(taskRepository).should(never())
+                                .findById(any(TaskId.class));
+        }
+
+        @Test
+        void ThrowsUnknownUserException_UserNotExists() {
+            // Given
+            var command = new UpdateTaskCommand(TASK_ID, USER_ID, "New Title", null, null, null, null);
+
+            given(knownUserRepository.existsById(UserId.of(USER_ID))).willReturn(false);
+
+            // When
+            var actual = catchThrowable(() -> updateTaskService.updateTaskById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(UnknownUserException.class)
+                              .hasMessageContaining(USER_ID.toString());
+
+            then(taskRepository).shouldHaveNoInteractions();
+
+            then(taskEventPublisher).should(never())
+                                    .publishTaskUpdated(any(Task.class));
         }
 
     }
@@ -0,0 +1,420 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskEntity;
+
+/**
+ * Tests {@link TwoTierEntityCache} read-through, invalidation and metrics.
+ * <p>
+ * Coverage:
+ * <li>Reads through the in-memory tier, then the Redis tier, then the database, populating the tiers above</li>
+ * <li>Caches no absent entities and treats Redis failures as misses</li>
+ * <li>Bypasses both tiers within a read-write transaction</li>
+ * <li>Loads the misses through the database read transaction operations, outside the caller's transaction</li>
+ * <li>Evicts both tiers on writes and broadcasts the eviction, after commit within a transaction</li>
+ * <li>Evicts the in-memory tier on evictions broadcast by other replicas, ignoring malformed ones</li>
+ * <li>Counts and evicts the stale hits found by verification</li>
+ */
+class TwoTierEntityCacheTests {
+
+    private static final String EVICTIONS_CHANNEL = "cache:tasks:evictions";
+
+    private static final UUID USER_ID = UUID.fromString("0190a9b0-6c2e-7b3a-8f1d-2e4c6a8b0d2a");
+
+    private static final Instant START_DATE = Instant.parse("2026-10-18T09:00:00Z");
+
+    private static final Instant END_DATE = Instant.parse("2026-10-19T09:00:00Z");
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+                                                        .build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final UUID id = UUID.fromString("0190a9b0-6c2e-7b3a-8f1d-2e4c6a8b0d1f");
+
+    private final JdbcTaskEntity task = new JdbcTaskEntity(id, USER_ID, "Title", "Description", START_DATE, END_DATE, 1L);
+
+    private final AtomicInteger databaseReads = new AtomicInteger();
+
+    @BeforeEach
+    void beforeEach() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @AfterEach
+    void afterEach() {
+        TransactionSynchronizationManager.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    class Get {
+
+        @Test
+        void ReturnsEntityFromDatabaseAndCachesIt_MissInBothTiers() {
+            // Given
+            var cache = newCache(0);
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(databaseReads).hasValue(1);
+            then(valueOperations).should()
+                                 .set("cache:tasks:" + id, objectMapper.writeValueAsString(task), Duration.ofMinutes(10));
+            assertThat(l2Requests("miss")).isEqualTo(1);
+        }
+
+        @Test
+        void ReturnsEntityFromSharedTier_HitInSharedTier() {
+            // Given
+            given(valueOperations.get("cache:tasks:" + id)).willReturn(objectMapper.writeValueAsString(task));
+            var cache = newCache(0);
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(databaseReads).hasValue(0);
+            assertThat(l2Requests("hit")).isEqualTo(1);
+        }
+
+        @Test
+        void ReturnsEntityFromMemory_SecondRead() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(task));
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(databaseReads).hasValue(1);
+            then(valueOperations).should(times(1))
+                                 .get("cache:tasks:" + id);
+        }
+
+        @Test
+        void ReturnsEmptyAndCachesNothing_EntityNotFound() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(null));
+
+            // When
+            var actual = cache.get(id, databaseReturning(null));
+
+            // Then
+            assertThat(actual).isEmpty();
+            assertThat(databaseReads).hasValue(2);
+            then(valueOperations).should(never())
+                                 .set(anyString(), anyString(), any(Duration.class));
+        }
+
+        @Test
+        void ReturnsEntityFromDatabase_SharedTierUnavailable() {
+            // Given
+            willThrow(new RedisConnectionFailureException("Connection refused")).given(valueOperations)
+                                                                                .get("cache:tasks:" + id);
+            var cache = newCache(0);
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(databaseReads).hasValue(1);
+            assertThat(l2Requests("error")).isEqualTo(1);
+        }
+
+        @Test
+        void ReturnsEntityFromDatabase_ReadWriteTransaction() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(task));
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(databaseReads).hasValue(2);
+        }
+
+        @Test
+        void ReturnsEntityFromMemory_ReadOnlyTransaction() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(task));
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(databaseReads).hasValue(1);
+        }
+
+        @Test
+        void LoadsEntityThroughDatabaseReads_MissInReadOnlyTransaction() {
+            // Given
+            var transactions = new AtomicInteger();
+            var databaseReadsOperations = new TransactionOperations() {
+
+                @Override
+                public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+                    transactions.incrementAndGet();
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                }
+
+            };
+            var cache = new TwoTierEntityCache<>("tasks", JdbcTaskEntity.class, redisTemplate, objectMapper, meterRegistry, 100, Duration.ofMinutes(1),
+                    Duration.ofMinutes(10), 0, databaseReadsOperations);
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(databaseReads).hasValue(1);
+            assertThat(transactions).hasValue(1);
+        }
+
+        @Test
+        void ReturnsDatabaseEntityAndEvictsStaleEntry_VerifiedHitIsStale() {
+            // Given
+            var updatedTask = new JdbcTaskEntity(id, USER_ID, "New Title", "Description", START_DATE, END_DATE, 2L);
+            given(valueOperations.get("cache:tasks:" + id)).willReturn(objectMapper.writeValueAsString(task));
+            var cache = newCache(1.0);
+
+            // When
+            var actual = cache.get(id, databaseReturning(updatedTask));
+
+            // Then
+            assertThat(actual).contains(updatedTask);
+            assertThat(meterRegistry.get("asapp.entity-cache.verifications")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+            assertThat(meterRegistry.get("asapp.entity-cache.stale")
+                                    .tag("tier", "l2")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+            assertThat(evictions("stale")).isEqualTo(1);
+            then(redisTemplate).should()
+                               .delete("cache:tasks:" + id);
+        }
+
+        @Test
+        void ReturnsCachedEntity_VerifiedHitIsCurrent() {
+            // Given
+            given(valueOperations.get("cache:tasks:" + id)).willReturn(objectMapper.writeValueAsString(task));
+            var cache = newCache(1.0);
+
+            // When
+            var actual = cache.get(id, databaseReturning(task));
+
+            // Then
+            assertThat(actual).contains(task);
+            assertThat(meterRegistry.find("asapp.entity-cache.stale")
+                                    .counter()).isNull();
+            assertThat(evictions("stale")).isZero();
+        }
+
+    }
+
+    @Nested
+    class Evict {
+
+        @Test
+        void EvictsBothTiersAndBroadcasts_NoTransaction() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(task));
+
+            // When
+            cache.evict(id);
+
+            // Then
+            then(redisTemplate).should()
+                               .delete("cache:tasks:" + id);
+            then(redisTemplate).should()
+                               .convertAndSend(EVICTIONS_CHANNEL, id.toString());
+            cache.get(id, databaseReturning(task));
+            assertThat(databaseReads).hasValue(2);
+            assertThat(evictions("write")).isEqualTo(1);
+        }
+
+        @Test
+        void BroadcastsAfterCommit_TransactionActive() {
+            // Given
+            var cache = newCache(0);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            cache.evict(id);
+
+            // Then
+            then(redisTemplate).should(never())
+                               .convertAndSend(EVICTIONS_CHANNEL, id.toString());
+            TransactionSynchronizationManager.getSynchronizations()
+                                             .forEach(TransactionSynchronization::afterCommit);
+            then(redisTemplate).should(times(2))
+                               .delete("cache:tasks:" + id);
+            then(redisTemplate).should()
+                               .convertAndSend(EVICTIONS_CHANNEL, id.toString());
+        }
+
+        @Test
+        void EvictsMemory_SharedTierUnavailable() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(task));
+            willThrow(new RedisConnectionFailureException("Connection refused")).given(redisTemplate)
+                                                                                .delete("cache:tasks:" + id);
+
+            // When
+            cache.evict(id);
+
+            // Then
+            cache.get(id, databaseReturning(task));
+            assertThat(databaseReads).hasValue(2);
+        }
+
+    }
+
+    @Nested
+    class OnMessage {
+
+        @Test
+        void EvictsMemory_EvictionReceived() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(task));
+
+            // When
+            cache.onMessage(message(id.toString()), null);
+
+            // Then
+            cache.get(id, databaseReturning(task));
+            assertThat(databaseReads).hasValue(2);
+            assertThat(evictions("remote")).isEqualTo(1);
+            then(redisTemplate).should(never())
+                               .delete("cache:tasks:" + id);
+        }
+
+        @Test
+        void IgnoresMessage_MalformedIdentifier() {
+            // Given
+            var cache = newCache(0);
+            cache.get(id, databaseReturning(task));
+
+            // When
+            cache.onMessage(message("not-a-uuid"), null);
+
+            // Then
+            cache.get(id, databaseReturning(task));
+            assertThat(databaseReads).hasValue(1);
+            assertThat(evictions("remote")).isZero();
+        }
+
+    }
+
+    private TwoTierEntityCache<JdbcTaskEntity> newCache(double verificationRate) {
+        return new TwoTierEntityCache<>("tasks", JdbcTaskEntity.class, redisTemplate, objectMapper, meterRegistry, 100, Duration.ofMinutes(1),
+                Duration.ofMinutes(10), verificationRate, TransactionOperations.withoutTransaction());
+    }
+
+    private Function<UUID, Optional<JdbcTaskEntity>> databaseReturning(JdbcTaskEntity entity) {
+        return key -> {
+            databaseReads.incrementAndGet();
+            return Optional.ofNullable(entity);
+        };
+    }
+
+    private double l2Requests(String result) {
+        return meterRegistry.get("asapp.entity-cache.l2.requests")
+                            .tag("result", result)
+                            .counter()
+                            .count();
+    }
+
+    private double evictions(String cause) {
+        return meterRegistry.get("asapp.entity-cache.evictions")
+                            .tag("cause", cause)
+                            .counter()
+                            .count();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(EVICTIONS_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,93 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package com.attrigo.asapp.tasks.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreDetails;
+
+import io.grpc.InsecureServerCredentials;
+import io.grpc.TlsServerCredentials;
+
+/**
+ * Tests {@link GrpcServerConfiguration} gRPC server credentials creation.
+ * <p>
+ * Coverage:
+ * <li>Creates plaintext credentials when no SSL bundle is configured</li>
+ * <li>Creates TLS credentials with the bundle key, without client authentication when the bundle has no trust store</li>
+ * <li>Requires client certificates when the bundle has a trust store</li>
+ */
+class GrpcServerConfigurationTests {
+
+    private static final String SSL_BUNDLE = "grpc";
+
+    private static final PemSslStoreDetails SERVER_KEY = PemSslStoreDetails.forCertificate("classpath:tls/grpc.crt")
+                                                                           .withPrivateKey("classpath:tls/grpc.key");
+
+    private static final PemSslStoreDetails CLIENT_TRUST = PemSslStoreDetails.forCertificate("classpath:tls/grpc.crt");
+
+    private final GrpcServerConfiguration configuration = new GrpcServerConfiguration();
+
+    @Nested
+    class GrpcServerCredentials {
+
+        @Test
+        void ReturnsInsecureCredentials_NoSslBundle() {
+            // When
+            var actual = configuration.grpcServerCredentials(new DefaultSslBundleRegistry(), "");
+
+            // Then
+            assertThat(actual).isInstanceOf(InsecureServerCredentials.class);
+        }
+
+        @Test
+        void ReturnsTlsCredentialsWithoutClientAuth_SslBundleWithoutTrustStore() {
+            // Given
+            var sslBundles = new DefaultSslBundleRegistry(SSL_BUNDLE, SslBundle.of(new PemSslStoreBundle(SERVER_KEY, null)));
+
+            // When
+            var actual = configuration.grpcServerCredentials(sslBundles, SSL_BUNDLE);
+
+            // Then
+            assertThat(actual).isInstanceOfSatisfying(TlsServerCredentials.class, credentials -> {
+                assertThat(credentials.getKeyManagers()).isNotEmpty();
+                assertThat(credentials.getClientAuth()).isEqualTo(TlsServerCredentials.ClientAuth.NONE);
+            });
+        }
+
+        @Test
+        void ReturnsTlsCredentialsRequiringClientCertificates_SslBundleWithTrustStore() {
+            // Given
+            var sslBundles = new DefaultSslBundleRegistry(SSL_BUNDLE, SslBundle.of(new PemSslStoreBundle(SERVER_KEY, CLIENT_TRUST)));
+
+            // When
+            var actual = configuration.grpcServerCredentials(sslBundles, SSL_BUNDLE);
+
+            // Then
+            assertThat(actual).isInstanceOfSatisfying(TlsServerCredentials.class, credentials -> {
+                assertThat(credentials.getTrustManagers()).isNotEmpty();
+                assertThat(credentials.getClientAuth()).isEqualTo(TlsServerCredentials.ClientAuth.REQUIRE);
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,320 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.attrigo.asapp.tasks.application.UseCasePriority;
+import com.attrigo.asapp.tasks.infrastructure.deadline.Deadline;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineContext;
+
+/**
+ * Tests {@link ChunkedIdQuery} de-duplication, bounding, chunking and ordering of the queries filtered by a list of identifiers.
+ * <p>
+ * Coverage:
+ * <li>Binds each chunk as a single {@code uuid[]} of at most the chunk size, without duplicates</li>
+ * <li>Returns the rows in the order their identifiers were first requested, skipping identifiers without row</li>
+ * <li>Runs the chunks concurrently, each in a read-only transaction named after the caller's, outside a transaction</li>
+ * <li>Re-binds the caller's deadline and priority on the concurrent chunks</li>
+ * <li>Runs the chunks one after another on the caller's transaction inside a transaction</li>
+ * <li>Rejects lists above the maximum and propagates chunk failures</li>
+ */
+class ChunkedIdQueryTests {
+
+    private static final String CALLER_TRANSACTION = "com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler.getTasksByIds";
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final List<UUID[]> boundChunks = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void beforeEach() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        TransactionSynchronizationManager.setCurrentTransactionName(CALLER_TRANSACTION);
+    }
+
+    @AfterEach
+    void afterEach() {
+        TransactionSynchronizationManager.clear();
+        DeadlineContext.clear();
+        UseCasePriorityContext.set(null);
+    }
+
+    @Nested
+    class Query {
+
+        @Test
+        void ReturnsRowsInRequestedOrder_DuplicateIds() {
+            // Given
+            var ids = randomIds(5);
+            var requestedIds = List.of(ids.get(3), ids.get(0), ids.get(3), ids.get(4), ids.get(1), ids.get(0), ids.get(2));
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 10, 2, 4);
+
+            // When
+            var actual = chunkedIdQuery.query(requestedIds, id -> id, chunk -> findReversed(chunk));
+
+            // Then
+            assertThat(actual).containsExactly(ids.get(3), ids.get(0), ids.get(4), ids.get(1), ids.get(2));
+            assertThat(boundChunks).hasSize(3)
+                                   .allMatch(chunk -> chunk.length <= 2);
+            assertThat(boundChunks.stream()
+                                  .flatMap(Arrays::stream)
+                                  .toList()).containsExactlyInAnyOrderElementsOf(ids);
+        }
+
+        @Test
+        void SkipsIds_RowsNotFound() {
+            // Given
+            var ids = randomIds(3);
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 10, 2, 4);
+
+            // When
+            var actual = chunkedIdQuery.query(ids, id -> id, chunk -> findAll(chunk).stream()
+                                                                                    .filter(id -> !id.equals(ids.get(1)))
+                                                                                    .toList());
+
+            // Then
+            assertThat(actual).containsExactly(ids.get(0), ids.get(2));
+        }
+
+        @Test
+        void ReturnsEmptyList_NoIds() {
+            // Given
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 10, 2, 4);
+
+            // When
+            var actual = chunkedIdQuery.query(List.of(), id -> id, chunk -> findAll(chunk));
+
+            // Then
+            assertThat(actual).isEmpty();
+            assertThat(boundChunks).isEmpty();
+            then(transactionManager).should(never())
+                                    .getTransaction(any());
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_ExceedMaxIds() {
+            // Given
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 3, 2, 4);
+
+            // When
+            var actual = catchThrowable(() -> chunkedIdQuery.query(randomIds(4), id -> id, chunk -> findAll(chunk)));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Identifiers list must not exceed 3 elements");
+            assertThat(boundChunks).isEmpty();
+        }
+
+        @Test
+        void RunsChunksConcurrentlyInReadOnlyTransactions_NoTransactionActive() {
+            // Given
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 10, 2, 2);
+            var bothWorkersStarted = new CountDownLatch(2);
+            var threads = ConcurrentHashMap.<Thread> newKeySet();
+
+            // When
+            var actual = chunkedIdQuery.query(randomIds(8), id -> id, chunk -> {
+                threads.add(Thread.currentThread());
+                bothWorkersStarted.countDown();
+                await(bothWorkersStarted);
+                return findAll(chunk);
+            });
+
+            // Then
+            assertThat(actual).hasSize(8);
+            assertThat(threads).hasSize(2)
+                               .allMatch(Thread::isVirtual);
+            var definitionCaptor = ArgumentCaptor.forClass(TransactionDefinition.class);
+            then(transactionManager).should(times(2))
+                                    .getTransaction(definitionCaptor.capture());
+            assertThat(definitionCaptor.getAllValues()).allSatisfy(definition -> {
+                assertThat(definition.isReadOnly()).isTrue();
+                assertThat(definition.getName()).isEqualTo(CALLER_TRANSACTION);
+            });
+        }
+
+        @Test
+        void BindsCallerDeadlineAndPriorityOnChunks_NoTransactionActive() {
+            // Given
+            var deadline = Deadline.after(Duration.ofSeconds(5));
+            DeadlineContext.set(deadline);
+            UseCasePriorityContext.set(UseCasePriority.Level.LOW);
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 10, 2, 2);
+            var caller = Thread.currentThread();
+            var chunkDeadlines = Collections.synchronizedList(new ArrayList<Deadline>());
+            var chunkPriorities = Collections.synchronizedList(new ArrayList<UseCasePriority.Level>());
+            var chunkThreads = ConcurrentHashMap.<Thread> newKeySet();
+
+            // When
+            var actual = chunkedIdQuery.query(randomIds(4), id -> id, chunk -> {
+                chunkThreads.add(Thread.currentThread());
+                chunkDeadlines.add(DeadlineContext.current()
+                                                  .orElse(null));
+                chunkPriorities.add(UseCasePriorityContext.current());
+                return findAll(chunk);
+            });
+
+            // Then
+            assertThat(actual).hasSize(4);
+            assertThat(chunkThreads).doesNotContain(caller);
+            assertThat(chunkDeadlines).hasSize(2)
+                                      .containsOnly(deadline);
+            assertThat(chunkPriorities).hasSize(2)
+                                       .containsOnly(UseCasePriority.Level.LOW);
+            assertThat(DeadlineContext.current()).contains(deadline);
+            assertThat(UseCasePriorityContext.current()).isEqualTo(UseCasePriority.Level.LOW);
+        }
+
+        @Test
+        void RunsChunksOnCallerTransaction_TransactionActive() {
+            // Given
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 10, 2, 2);
+            var caller = Thread.currentThread();
+            var chunkThreads = ConcurrentHashMap.<Thread> newKeySet();
+
+            // When
+            var actual = chunkedIdQuery.query(randomIds(5), id -> id, chunk -> {
+                chunkThreads.add(Thread.currentThread());
+                return findAll(chunk);
+            });
+
+            // Then
+            assertThat(actual).hasSize(5);
+            assertThat(boundChunks).hasSize(3);
+            assertThat(chunkThreads).containsExactly(caller);
+            then(transactionManager).should(never())
+                                    .getTransaction(any());
+        }
+
+        @Test
+        void ThrowsChunkFailure_ChunkQueryFails() {
+            // Given
+            var chunkedIdQuery = new ChunkedIdQuery(transactionManager, 10, 2, 2);
+            var failure = new DataAccessResourceFailureException("Connection refused");
+            Function<SqlTypeValue, List<UUID>> failingQuery = chunk -> {
+                throw failure;
+            };
+
+            // When
+            var actual = catchThrowable(() -> chunkedIdQuery.query(randomIds(4), id -> id, failingQuery));
+
+            // Then
+            assertThat(actual).isSameAs(failure);
+        }
+
+    }
+
+    @Nested
+    class Create {
+
+        @Test
+        void ThrowsIllegalArgumentException_NonPositiveLimit() {
+            // When
+            var actual = catchThrowable(() -> new ChunkedIdQuery(transactionManager, 10, 0, 2));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Identifier query limits must be positive");
+        }
+
+    }
+
+    private List<UUID> findAll(SqlTypeValue chunk) {
+        var ids = boundIds(chunk);
+        boundChunks.add(ids);
+        return List.of(ids);
+    }
+
+    private List<UUID> findReversed(SqlTypeValue chunk) {
+        return findAll(chunk).reversed();
+    }
+
+    /**
+     * Reads the identifiers bound by a chunk by binding it to a mocked statement.
+     */
+    private static UUID[] boundIds(SqlTypeValue chunk) {
+        try {
+            var connection = mock(Connection.class);
+            var statement = mock(PreparedStatement.class);
+            given(statement.getConnection()).willReturn(connection);
+
+            chunk.setTypeValue(statement, 1, SqlTypeValue.TYPE_UNKNOWN, null);
+
+            var idsCaptor = ArgumentCaptor.forClass(Object[].class);
+            then(connection).should()
+                            .createArrayOf(eq("uuid"), idsCaptor.capture());
+            return (UUID[]) idsCaptor.getValue();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<UUID> randomIds(int count) {
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.attrigo.asapp.tasks.application.UseCasePriority;
+import com.attrigo.asapp.tasks.infrastructure.deadline.Deadline;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineContext;
+
+/**
+ * Tests {@link ConnectionAdmission} priority-aware admission to a connection pool.
+ * <p>
+ * Coverage:
+ * <li>Rejects a non-positive pool size and a negative maximum queue size</li>
+ * <li>Admits callers straight away while permits are free, recording their wait by priority</li>
+ * <li>Refuses callers at once when their share of the wait queue is full, leaving room for higher priorities</li>
+ * <li>Refuses queued callers once the maximum wait or the request deadline runs out</li>
+ * <li>Admits a queued caller as soon as a permit is released</li>
+ */
+class ConnectionAdmissionTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void afterEach() {
+        UseCasePriorityContext.set(null);
+        DeadlineContext.clear();
+    }
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void ThrowsIllegalArgumentException_NonPositivePoolSize() {
+            // When
+            var actual = catchThrowable(() -> new ConnectionAdmission("dataSource", 0, 10, Duration.ofSeconds(1), meterRegistry));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Connection admission pool size must be positive");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NegativeMaxQueueSize() {
+            // When
+            var actual = catchThrowable(() -> new ConnectionAdmission("dataSource", 10, -1, Duration.ofSeconds(1), meterRegistry));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Connection admission maximum queue size must not be negative");
+        }
+
+    }
+
+    @Nested
+    class Acquire {
+
+        @Test
+        void AdmitsCaller_PermitFree() {
+            // Given
+            var admission = new ConnectionAdmission("dataSource", 1, 10, Duration.ofSeconds(1), meterRegistry);
+            UseCasePriorityContext.set(UseCasePriority.Level.LOW);
+
+            // When
+            var actual = catchThrowable(admission::acquire);
+
+            // Then
+            assertThat(actual).isNull();
+            assertThat(meterRegistry.get("asapp.datasource.admission.wait")
+                                    .tags("datasource", "dataSource", "priority", "low")
+                                    .timer()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void ThrowsConnectionAdmissionException_QueueShareFull() throws Exception {
+            // Given
+            var admission = new ConnectionAdmission("dataSource", 1, 2, Duration.ofSeconds(5), meterRegistry);
+            admission.acquire();
+            var waiter = Thread.startVirtualThread(() -> acquireQuietly(admission));
+            await().atMost(5, TimeUnit.SECONDS)
+                   .until(() -> admission.getQueueDepth() == 1);
+            UseCasePriorityContext.set(UseCasePriority.Level.LOW);
+
+            // When
+            var actual = catchThrowable(admission::acquire);
+
+            // Then
+            assertThat(actual).isInstanceOf(ConnectionAdmissionException.class)
+                              .hasMessage("Connection admission to dataSource refused");
+            assertThat(meterRegistry.get("asapp.datasource.admission.rejections")
+                                    .tags("datasource", "dataSource", "reason", "queue-full")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+
+            admission.release();
+            waiter.join();
+        }
+
+        @Test
+        void AdmitsCaller_HighPriorityQueueShareLeft() throws Exception {
+            // Given
+            var admission = new ConnectionAdmission("dataSource", 1, 2, Duration.ofSeconds(5), meterRegistry);
+            admission.acquire();
+            var waiter = Thread.startVirtualThread(() -> acquireQuietly(admission));
+            await().atMost(5, TimeUnit.SECONDS)
+                   .until(() -> admission.getQueueDepth() == 1);
+
+            // When
+            var highPriorityWaiter = Thread.startVirtualThread(() -> {
+                UseCasePriorityContext.set(UseCasePriority.Level.HIGH);
+                acquireQuietly(admission);
+            });
+
+            // Then
+            await().atMost(5, TimeUnit.SECONDS)
+                   .until(() -> admission.getQueueDepth() == 2);
+            admission.release();
+            admission.release();
+            waiter.join();
+            highPriorityWaiter.join();
+            assertThat(admission.getQueueDepth()).isZero();
+            assertThat(meterRegistry.get("asapp.datasource.admission.wait")
+                                    .tags("datasource", "dataSource", "priority", "high")
+                                    .timer()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void ThrowsConnectionAdmissionException_MaxWaitElapsed() throws Exception {
+            // Given
+            var admission = new ConnectionAdmission("dataSource", 1, 10, Duration.ofMillis(50), meterRegistry);
+            admission.acquire();
+
+            // When
+            var actual = catchThrowable(admission::acquire);
+
+            // Then
+            assertThat(actual).isInstanceOf(ConnectionAdmissionException.class);
+            assertThat(admission.getQueueDepth()).isZero();
+            assertThat(meterRegistry.get("asapp.datasource.admission.rejections")
+                                    .tags("datasource", "dataSource", "reason", "timeout")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void ThrowsConnectionAdmissionException_RequestDeadlineExpired() throws Exception {
+            // Given
+            var admission = new ConnectionAdmission("dataSource", 1, 10, Duration.ofSeconds(30), meterRegistry);
+            admission.acquire();
+            DeadlineContext.set(Deadline.after(Duration.ZERO));
+
+            // When
+            var actual = catchThrowable(admission::acquire);
+
+            // Then
+            assertThat(actual).isInstanceOf(ConnectionAdmissionException.class);
+        }
+
+        @Test
+        void AdmitsQueuedCaller_PermitReleased() throws Exception {
+            // Given
+            var admission = new ConnectionAdmission("dataSource", 1, 10, Duration.ofSeconds(5), meterRegistry);
+            admission.acquire();
+            var waiter = Thread.startVirtualThread(() -> acquireQuietly(admission));
+            await().atMost(5, TimeUnit.SECONDS)
+                   .until(() -> admission.getQueueDepth() == 1);
+
+            // When
+            admission.release();
+
+            // Then
+            waiter.join();
+            assertThat(admission.getQueueDepth()).isZero();
+            assertThat(meterRegistry.get("asapp.datasource.admission.rejections")
+                                    .counters()).allSatisfy(counter -> assertThat(counter.count()).isZero());
+        }
+
+    }
+
+    private static void acquireQuietly(ConnectionAdmission admission) {
+        try {
+            admission.acquire();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
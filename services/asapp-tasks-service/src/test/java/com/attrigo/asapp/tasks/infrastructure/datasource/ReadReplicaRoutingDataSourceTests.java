@@ -0,0 +1,195 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Tests {@link ReadReplicaRoutingDataSource} connection routing.
+ * <p>
+ * Coverage:
+ * <li>Routes read-only use case and query handler transactions to the replicas in round-robin order</li>
+ * <li>Keeps read-write transactions, read-only transactions outside use cases and non-transactional calls on the primary</li>
+ * <li>Skips unavailable replicas and falls back to the primary when none can serve the connection</li>
+ */
+class ReadReplicaRoutingDataSourceTests {
+
+    private static final String USE_CASE_TRANSACTION = "com.attrigo.asapp.tasks.application.task.in.service.ReadService.read";
+
+    private final DataSource primary = mock(DataSource.class);
+
+    private final HikariDataSource firstPool = mock(HikariDataSource.class);
+
+    private final HikariDataSource secondPool = mock(HikariDataSource.class);
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection firstConnection = mock(Connection.class);
+
+    private final Connection secondConnection = mock(Connection.class);
+
+    private ReadReplica firstReplica;
+
+    private ReadReplica secondReplica;
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(firstPool.getConnection()).willReturn(firstConnection);
+        given(secondPool.getConnection()).willReturn(secondConnection);
+
+        firstReplica = new ReadReplica("replica-0", firstPool);
+        secondReplica = new ReadReplica("replica-1", secondPool);
+        firstReplica.updateLag(Duration.ZERO, Duration.ofSeconds(5));
+        secondReplica.updateLag(Duration.ZERO, Duration.ofSeconds(5));
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica));
+    }
+
+    @AfterEach
+    void afterEach() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    private static void bindTransaction(String name, boolean readOnly) {
+        TransactionSynchronizationManager.setCurrentTransactionName(name);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    @Nested
+    class GetConnection {
+
+        @Test
+        void ReturnsReplicaConnectionsInRoundRobin_ReadOnlyUseCaseTransaction() throws SQLException {
+            // Given
+            bindTransaction(USE_CASE_TRANSACTION, true);
+
+            // When
+            var actualFirst = routingDataSource.getConnection();
+            var actualSecond = routingDataSource.getConnection();
+            var actualThird = routingDataSource.getConnection();
+
+            // Then
+            assertThat(actualFirst).isSameAs(firstConnection);
+            assertThat(actualSecond).isSameAs(secondConnection);
+            assertThat(actualThird).isSameAs(firstConnection);
+            then(primary).should(never())
+                         .getConnection();
+        }
+
+        @Test
+        void ReturnsReplicaConnection_ReadOnlyQueryHandlerTransaction() throws SQLException {
+            // Given
+            bindTransaction("com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler.getAllTasks", true);
+
+            // When
+            var actual = routingDataSource.getConnection();
+
+            // Then
+            assertThat(actual).isSameAs(firstConnection);
+        }
+
+        @Test
+        void ReturnsPrimaryConnection_ReadWriteUseCaseTransaction() throws SQLException {
+            // Given
+            bindTransaction(USE_CASE_TRANSACTION, false);
+
+            // When
+            var actual = routingDataSource.getConnection();
+
+            // Then
+            assertThat(actual).isSameAs(primaryConnection);
+        }
+
+        @Test
+        void ReturnsPrimaryConnection_ReadOnlyTransactionOutsideUseCase() throws SQLException {
+            // Given
+            bindTransaction("org.springframework.data.jdbc.repository.support.SimpleJdbcRepository.findById", true);
+
+            // When
+            var actual = routingDataSource.getConnection();
+
+            // Then
+            assertThat(actual).isSameAs(primaryConnection);
+        }
+
+        @Test
+        void ReturnsPrimaryConnection_NoTransaction() throws SQLException {
+            // When
+            var actual = routingDataSource.getConnection();
+
+            // Then
+            assertThat(actual).isSameAs(primaryConnection);
+        }
+
+        @Test
+        void SkipsUnavailableReplica_ReplicaUnavailable() throws SQLException {
+            // Given
+            bindTransaction(USE_CASE_TRANSACTION, true);
+            firstReplica.updateLag(Duration.ofSeconds(10), Duration.ofSeconds(5));
+
+            // When
+            var actualFirst = routingDataSource.getConnection();
+            var actualSecond = routingDataSource.getConnection();
+
+            // Then
+            assertThat(actualFirst).isSameAs(secondConnection);
+            assertThat(actualSecond).isSameAs(secondConnection);
+            then(firstPool).should(never())
+                           .getConnection();
+        }
+
+        @Test
+        void ReturnsPrimaryConnectionAndMarksReplicasUnavailable_ReplicaConnectionsFail() throws SQLException {
+            // Given
+            bindTransaction(USE_CASE_TRANSACTION, true);
+            given(firstPool.getConnection()).willThrow(new SQLException("Connection refused"));
+            given(secondPool.getConnection()).willThrow(new SQLException("Connection refused"));
+
+            // When
+            var actual = routingDataSource.getConnection();
+
+            // Then
+            assertThat(actual).isSameAs(primaryConnection);
+            assertThat(firstReplica.isAvailable()).isFalse();
+            assertThat(secondReplica.isAvailable()).isFalse();
+        }
+
+    }
+
+}
@@ -0,0 +1,175 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.deadline;
+
+import static com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineFilter.REQUEST_TIMEOUT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Tests {@link DeadlineFilter} deadline resolution and binding.
+ * <p>
+ * Coverage:
+ * <li>Applies the default timeout when no route matches and no header is sent</li>
+ * <li>Applies the timeout of the first matching route</li>
+ * <li>Applies the header budget only when it is shorter than the route timeout</li>
+ * <li>Treats a negative header budget as expired and ignores a malformed one</li>
+ * <li>Clears the deadline once the request completes, even exceptionally</li>
+ */
+class DeadlineFilterTests {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Duration SEARCH_TIMEOUT = Duration.ofSeconds(2);
+
+    private final DeadlineFilter deadlineFilter = new DeadlineFilter(DEFAULT_TIMEOUT, Map.of("/api/tasks/search", SEARCH_TIMEOUT));
+
+    @AfterEach
+    void afterEach() {
+        DeadlineContext.clear();
+    }
+
+    @Nested
+    class DoFilter {
+
+        @Test
+        void SetsDefaultTimeout_NoRouteMatchesAndNoHeader() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/1");
+
+            // When
+            var actual = filterAndCaptureDeadline(request);
+
+            // Then
+            assertThat(actual.remaining()).isBetween(DEFAULT_TIMEOUT.minusSeconds(1), DEFAULT_TIMEOUT);
+        }
+
+        @Test
+        void SetsRouteTimeout_RouteMatches() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/search");
+
+            // When
+            var actual = filterAndCaptureDeadline(request);
+
+            // Then
+            assertThat(actual.remaining()).isBetween(SEARCH_TIMEOUT.minusSeconds(1), SEARCH_TIMEOUT);
+        }
+
+        @Test
+        void SetsHeaderTimeout_HeaderShorterThanRouteTimeout() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/search");
+            request.addHeader(REQUEST_TIMEOUT_HEADER, "800");
+
+            // When
+            var actual = filterAndCaptureDeadline(request);
+
+            // Then
+            assertThat(actual.remaining()).isBetween(Duration.ZERO, Duration.ofMillis(800));
+        }
+
+        @Test
+        void SetsRouteTimeout_HeaderLongerThanRouteTimeout() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/search");
+            request.addHeader(REQUEST_TIMEOUT_HEADER, "60000");
+
+            // When
+            var actual = filterAndCaptureDeadline(request);
+
+            // Then
+            assertThat(actual.remaining()).isBetween(SEARCH_TIMEOUT.minusSeconds(1), SEARCH_TIMEOUT);
+        }
+
+        @Test
+        void SetsExpiredDeadline_HeaderNegative() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/1");
+            request.addHeader(REQUEST_TIMEOUT_HEADER, "-1");
+
+            // When
+            var actual = filterAndCaptureDeadline(request);
+
+            // Then
+            assertThat(actual.isExpired()).isTrue();
+        }
+
+        @Test
+        void SetsRouteTimeout_HeaderMalformed() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/1");
+            request.addHeader(REQUEST_TIMEOUT_HEADER, "soon");
+
+            // When
+            var actual = filterAndCaptureDeadline(request);
+
+            // Then
+            assertThat(actual.remaining()).isBetween(DEFAULT_TIMEOUT.minusSeconds(1), DEFAULT_TIMEOUT);
+        }
+
+        @Test
+        void ClearsDeadline_RequestCompleted() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/1");
+
+            // When
+            filterAndCaptureDeadline(request);
+
+            // Then
+            assertThat(DeadlineContext.current()).isEmpty();
+        }
+
+        @Test
+        void ClearsDeadline_RequestFailed() {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/1");
+            FilterChain failingChain = (_, _) -> {
+                throw new ServletException("Request failed");
+            };
+
+            // When
+            var actual = catchThrowable(() -> deadlineFilter.doFilter(request, new MockHttpServletResponse(), failingChain));
+
+            // Then
+            assertThat(actual).isInstanceOf(ServletException.class);
+            assertThat(DeadlineContext.current()).isEmpty();
+        }
+
+    }
+
+    private Deadline filterAndCaptureDeadline(MockHttpServletRequest request) throws Exception {
+        var deadline = new AtomicReference<Deadline>();
+        deadlineFilter.doFilter(request, new MockHttpServletResponse(), (_, _) -> deadline.set(DeadlineContext.current()
+                                                                                                               .orElseThrow()));
+        return deadline.get();
+    }
+
+}
@@ -0,0 +1,143 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests {@link DeadlineJdbcTemplate} statement timeouts derived from the request deadline.
+ * <p>
+ * Coverage:
+ * <li>Keeps the regular statement settings when no deadline is bound</li>
+ * <li>Sets the remaining time, rounded up to seconds, as query timeout</li>
+ * <li>Keeps a configured query timeout shorter than the remaining time</li>
+ * <li>Rejects statements once the deadline has expired</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadlineJdbcTemplateTests {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Statement statement;
+
+    private DeadlineJdbcTemplate deadlineJdbcTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        deadlineJdbcTemplate = new DeadlineJdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void afterEach() {
+        DeadlineContext.clear();
+    }
+
+    @Nested
+    class ApplyStatementSettings {
+
+        @Test
+        void KeepsQueryTimeout_NoDeadline() throws SQLException {
+            // When
+            deadlineJdbcTemplate.applyStatementSettings(statement);
+
+            // Then
+            then(statement).should(times(0))
+                           .setQueryTimeout(anyInt());
+        }
+
+        @Test
+        void SetsRemainingSecondsRoundedUp_NoQueryTimeout() throws SQLException {
+            // Given
+            DeadlineContext.set(Deadline.after(Duration.ofMillis(2500)));
+
+            given(statement.getQueryTimeout()).willReturn(0);
+
+            // When
+            deadlineJdbcTemplate.applyStatementSettings(statement);
+
+            // Then
+            then(statement).should(times(1))
+                           .setQueryTimeout(3);
+        }
+
+        @Test
+        void SetsRemainingSeconds_QueryTimeoutLonger() throws SQLException {
+            // Given
+            DeadlineContext.set(Deadline.after(Duration.ofSeconds(2)));
+
+            given(statement.getQueryTimeout()).willReturn(30);
+
+            // When
+            deadlineJdbcTemplate.applyStatementSettings(statement);
+
+            // Then
+            then(statement).should(times(1))
+                           .setQueryTimeout(2);
+        }
+
+        @Test
+        void KeepsQueryTimeout_QueryTimeoutShorter() throws SQLException {
+            // Given
+            DeadlineContext.set(Deadline.after(Duration.ofMinutes(1)));
+
+            given(statement.getQueryTimeout()).willReturn(5);
+
+            // When
+            deadlineJdbcTemplate.applyStatementSettings(statement);
+
+            // Then
+            then(statement).should(times(0))
+                           .setQueryTimeout(anyInt());
+        }
+
+        @Test
+        void ThrowsDeadlineExceededException_DeadlineExpired() {
+            // Given
+            DeadlineContext.set(Deadline.after(Duration.ZERO));
+
+            // When
+            var actual = catchThrowable(() -> deadlineJdbcTemplate.applyStatementSettings(statement));
+
+            // Then
+            assertThat(actual).isInstanceOf(DeadlineExceededException.class)
+                              .hasMessage("Request deadline expired before executing the statement");
+        }
+
+    }
+
+}
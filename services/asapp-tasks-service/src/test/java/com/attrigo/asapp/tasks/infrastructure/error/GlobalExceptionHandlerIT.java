@@ -17,20 +17,31 @@
 package com.attrigo.asapp.tasks.infrastructure.error;
 
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_ID_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_UPDATE_BY_ID_FULL_PATH;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineExceededException;
 import com.attrigo.asapp.tasks.testutil.WebMvcTestContext;
 
 /**
@@ -41,7 +52,11 @@ import com.attrigo.asapp.tasks.testutil.WebMvcTestContext;
  * <p>
  * Coverage:
  * <li>Routes invalid-argument failures escaping a use case to a 400 Problem Detail</li>
+ * <li>Routes concurrent modification failures escaping a use case to a 409 Problem Detail</li>
+ * <li>Routes task version mismatches escaping a use case to a 412 Problem Detail</li>
  * <li>Routes database failures escaping a use case to a 500 Problem Detail flagged critical</li>
+ * <li>Routes database connection shortages escaping a use case to a 503 Problem Detail</li>
+ * <li>Routes expired deadlines and database query timeouts escaping a use case to a 504 Problem Detail</li>
  * <li>Routes any otherwise-unhandled exception escaping a use case to a 500 Problem Detail instead of a raw Spring error</li>
  * <p>
  * Request-body and parameter validation failures (400) surface before any use case runs, so they are covered by the controller integration tests rather than
@@ -50,6 +65,13 @@ import com.attrigo.asapp.tasks.testutil.WebMvcTestContext;
 @WithMockUser
 class GlobalExceptionHandlerIT extends WebMvcTestContext {
 
+    private static final String UPDATE_TASK_REQUEST_BODY = """
+            {
+                "userId": "09726a94-df21-48ad-864a-f3612499ff3d",
+                "title": "Title"
+            }
+            """;
+
     @Nested
     class HandleIllegalArgumentException {
 
@@ -59,7 +81,7 @@ class GlobalExceptionHandlerIT extends WebMvcTestContext {
             var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
             var requestBuilder = get(TASKS_GET_BY_ID_FULL_PATH, taskId);
 
-            given(readTaskUseCase.getTaskById(taskId)).willThrow(new IllegalArgumentException("Username must be a valid email address"));
+            given(taskQueryHandler.getTaskById(taskId)).willThrow(new IllegalArgumentException("Username must be a valid email address"));
 
             // When
             var actual = mockMvcTester.perform(requestBuilder);
@@ -75,6 +97,61 @@ class GlobalExceptionHandlerIT extends WebMvcTestContext {
 
     }
 
+    @Nested
+    class HandleOptimisticLockingFailureException {
+
+        @Test
+        void ReturnsStatusConflictAndBodyWithProblemDetail_ConcurrentModification() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBuilder = put(TASKS_UPDATE_BY_ID_FULL_PATH, taskId).contentType(MediaType.APPLICATION_JSON)
+                                                                          .content(UPDATE_TASK_REQUEST_BODY);
+
+            given(updateTaskUseCase.updateTaskById(any())).willThrow(new OptimisticLockingFailureException("Row was updated by another transaction"));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.CONFLICT)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Conflict")
+                                                                     .containsEntry("detail", "The resource was modified concurrently"));
+        }
+
+    }
+
+    @Nested
+    class HandleTaskVersionMismatchException {
+
+        @Test
+        void ReturnsStatusPreconditionFailedAndBodyWithProblemDetail_StaleIfMatch() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBuilder = put(TASKS_UPDATE_BY_ID_FULL_PATH, taskId).contentType(MediaType.APPLICATION_JSON)
+                                                                          .header(HttpHeaders.IF_MATCH, "\"2\"")
+                                                                          .content(UPDATE_TASK_REQUEST_BODY);
+
+            given(updateTaskUseCase.updateTaskById(any())).willThrow(new TaskVersionMismatchException("Task has version 3 but version 2 was expected"));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.PRECONDITION_FAILED)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Precondition Failed")
+                                                                     .containsEntry("detail", "The resource does not match the requested version"));
+        }
+
+    }
+
     @Nested
     class HandleDataAccessException {
 
@@ -84,7 +161,7 @@ class GlobalExceptionHandlerIT extends WebMvcTestContext {
             var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
             var requestBuilder = get(TASKS_GET_BY_ID_FULL_PATH, taskId);
 
-            given(readTaskUseCase.getTaskById(taskId)).willThrow(new DataAccessException("Database connection failed") {});
+            given(taskQueryHandler.getTaskById(taskId)).willThrow(new DataAccessException("Database connection failed") {});
 
             // When
             var actual = mockMvcTester.perform(requestBuilder);
@@ -101,6 +178,101 @@ class GlobalExceptionHandlerIT extends WebMvcTestContext {
 
     }
 
+    @Nested
+    class HandleDatabaseConnectionException {
+
+        @Test
+        void ReturnsStatusServiceUnavailableAndBodyWithProblemDetail_ConnectionAdmissionRefused() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBuilder = get(TASKS_GET_BY_ID_FULL_PATH, taskId);
+
+            given(taskQueryHandler.getTaskById(taskId)).willThrow(
+                    new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", new SQLTransientConnectionException("Connection admission refused")));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Service Unavailable")
+                                                                     .containsEntry("detail", "Service temporarily unavailable"));
+        }
+
+        @Test
+        void ReturnsStatusServiceUnavailableAndBodyWithProblemDetail_TransactionConnectionUnavailable() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBuilder = get(TASKS_GET_BY_ID_FULL_PATH, taskId);
+
+            given(taskQueryHandler.getTaskById(taskId)).willThrow(new CannotCreateTransactionException("Could not open JDBC Connection for transaction"));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Service Unavailable")
+                                                                     .containsEntry("detail", "Service temporarily unavailable"));
+        }
+
+    }
+
+    @Nested
+    class HandleDeadlineExceededException {
+
+        @Test
+        void ReturnsStatusGatewayTimeoutAndBodyWithProblemDetail_DeadlineExpired() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBuilder = get(TASKS_GET_BY_ID_FULL_PATH, taskId);
+
+            given(taskQueryHandler.getTaskById(taskId)).willThrow(new DeadlineExceededException("Request deadline expired before executing the statement"));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.GATEWAY_TIMEOUT)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Gateway Timeout")
+                                                                     .containsEntry("detail", "The request could not be completed in time"));
+        }
+
+        @Test
+        void ReturnsStatusGatewayTimeoutAndBodyWithProblemDetail_QueryTimedOut() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBuilder = get(TASKS_GET_BY_ID_FULL_PATH, taskId);
+
+            given(taskQueryHandler.getTaskById(taskId)).willThrow(new QueryTimeoutException("Statement cancelled by query timeout"));
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.GATEWAY_TIMEOUT)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Gateway Timeout")
+                                                                     .containsEntry("detail", "The request could not be completed in time"));
+        }
+
+    }
+
     @Nested
     class HandleUnexpectedException {
 
@@ -110,7 +282,7 @@ class GlobalExceptionHandlerIT extends WebMvcTestContext {
             var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
             var requestBuilder = get(TASKS_GET_BY_ID_FULL_PATH, taskId);
 
-            given(readTaskUseCase.getTaskById(taskId)).willThrow(new RuntimeException("Simulated unexpected failure"));
+            given(taskQueryHandler.getTaskById(taskId)).willThrow(new RuntimeException("Simulated unexpected failure"));
 
             // When
             var actual = mockMvcTester.perform(requestBuilder);
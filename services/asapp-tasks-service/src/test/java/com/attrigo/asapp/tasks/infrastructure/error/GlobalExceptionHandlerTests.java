@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -35,21 +36,29 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
 
+import com.attrigo.asapp.tasks.application.task.TaskVersionMismatchException;
+import com.attrigo.asapp.tasks.application.task.UnknownUserException;
+
 /**
  * Tests {@link GlobalExceptionHandler} exception-to-ProblemDetail translation and HTTP status mapping.
  * <p>
  * Coverage:
  * <li>Translates request validation failures to 400 Bad Request with sorted field errors</li>
  * <li>Translates invalid arguments to 400 Bad Request with a generic detail</li>
+ * <li>Translates optimistic locking failures to 409 Conflict</li>
+ * <li>Translates task version mismatches to 412 Precondition Failed</li>
+ * <li>Translates references to unknown users to 422 Unprocessable Content</li>
  * <li>Translates database failures to 500 Internal Server Error with generic messages</li>
  * <li>Translates unexpected exceptions to 500 Internal Server Error flagged critical</li>
  * <li>Translates cache connection failures to 503 Service Unavailable</li>
+ * <li>Translates downstream service outages to 503 Service Unavailable</li>
  * <li>All responses follow RFC 7807 Problem Details structure with error codes</li>
  */
 class GlobalExceptionHandlerTests {
@@ -160,6 +169,84 @@ class GlobalExceptionHandlerTests {
 
     }
 
+    @Nested
+    class HandleOptimisticLockingFailureException {
+
+        @Test
+        void ReturnsConflictAndProblemDetail_ConcurrentModification() {
+            // Given
+            var exception = new OptimisticLockingFailureException("Row was updated by another transaction");
+
+            // When
+            var actual = globalExceptionHandler.handleOptimisticLockingFailureException(exception);
+
+            // Then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            var problemDetail = actual.getBody();
+            assertThat(problemDetail).isNotNull();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(problemDetail.getTitle()).as("title").isEqualTo("Conflict");
+                softly.assertThat(problemDetail.getStatus()).as("status").isEqualTo(409);
+                softly.assertThat(problemDetail.getDetail()).as("detail").isEqualTo("The resource was modified concurrently");
+                // @formatter:on
+            });
+        }
+
+    }
+
+    @Nested
+    class HandleTaskVersionMismatchException {
+
+        @Test
+        void ReturnsPreconditionFailedAndProblemDetail_VersionMismatch() {
+            // Given
+            var exception = new TaskVersionMismatchException("Task has version 3 but version 2 was expected");
+
+            // When
+            var actual = globalExceptionHandler.handleTaskVersionMismatchException(exception);
+
+            // Then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+            var problemDetail = actual.getBody();
+            assertThat(problemDetail).isNotNull();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(problemDetail.getTitle()).as("title").isEqualTo("Precondition Failed");
+                softly.assertThat(problemDetail.getStatus()).as("status").isEqualTo(412);
+                softly.assertThat(problemDetail.getDetail()).as("detail").isEqualTo("The resource does not match the requested version");
+                // @formatter:on
+            });
+        }
+
+    }
+
+    @Nested
+    class HandleUnknownUserException {
+
+        @Test
+        void ReturnsUnprocessableContentAndProblemDetail_UnknownUser() {
+            // Given
+            var exception = new UnknownUserException("User 8c1d2e6a-7f5b-4c3d-9e8f-0a1b2c3d4e5f does not exist");
+
+            // When
+            var actual = globalExceptionHandler.handleUnknownUserException(exception);
+
+            // Then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_CONTENT);
+            var problemDetail = actual.getBody();
+            assertThat(problemDetail).isNotNull();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(problemDetail.getTitle()).as("title").isEqualTo("Unprocessable Content");
+                softly.assertThat(problemDetail.getStatus()).as("status").isEqualTo(422);
+                softly.assertThat(problemDetail.getDetail()).as("detail").isEqualTo("The referenced user does not exist");
+                // @formatter:on
+            });
+        }
+
+    }
+
     @Nested
     class HandleDataAccessException {
 
@@ -214,6 +301,32 @@ class GlobalExceptionHandlerTests {
 
     }
 
+    @Nested
+    class HandleDownstreamServiceException {
+
+        @Test
+        void ReturnsServiceUnavailableAndProblemDetail_DownstreamServiceUnreachable() {
+            // Given
+            var exception = new ResourceAccessException("I/O error on GET request: Connection refused");
+
+            // When
+            var actual = globalExceptionHandler.handleDownstreamServiceException(exception);
+
+            // Then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            var problemDetail = actual.getBody();
+            assertThat(problemDetail).isNotNull();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(problemDetail.getTitle()).as("title").isEqualTo("Service Unavailable");
+                softly.assertThat(problemDetail.getStatus()).as("status").isEqualTo(503);
+                softly.assertThat(problemDetail.getDetail()).as("detail").isEqualTo("Service temporarily unavailable");
+                // @formatter:on
+            });
+        }
+
+    }
+
     @Nested
     class HandleUnexpectedException {
 
@@ -0,0 +1,195 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CompactUuidSet} membership, growth and removal.
+ * <p>
+ * Coverage:
+ * <li>Adds identifiers once, reporting whether the set changed</li>
+ * <li>Keeps every identifier reachable while the table grows past its initial capacity</li>
+ * <li>Removes identifiers keeping the rest of their probe sequence reachable</li>
+ * <li>Handles the nil identifier, which cannot be stored in the table</li>
+ * <li>Rejects a negative expected size</li>
+ */
+class CompactUuidSetTests {
+
+    private static final UUID NIL_UUID = new UUID(0L, 0L);
+
+    @Nested
+    class Add {
+
+        @Test
+        void ReturnsTrue_IdentifierNotInSet() {
+            // Given
+            var set = new CompactUuidSet();
+            var uuid = UUID.randomUUID();
+
+            // When
+            var actual = set.add(uuid);
+
+            // Then
+            assertThat(actual).isTrue();
+            assertThat(set.contains(uuid)).isTrue();
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        void ReturnsFalse_IdentifierAlreadyInSet() {
+            // Given
+            var set = new CompactUuidSet();
+            var uuid = UUID.randomUUID();
+            set.add(uuid);
+
+            // When
+            var actual = set.add(uuid);
+
+            // Then
+            assertThat(actual).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        void ContainsEveryIdentifier_SetGrows() {
+            // Given
+            var set = new CompactUuidSet(1);
+            var uuids = new ArrayList<UUID>();
+            for (int i = 0; i < 10_000; i++) {
+                uuids.add(UUID.randomUUID());
+            }
+
+            // When
+            uuids.forEach(set::add);
+
+            // Then
+            assertThat(set.size()).isEqualTo(10_000);
+            assertThat(uuids).allMatch(set::contains);
+            assertThat(set.contains(UUID.randomUUID())).isFalse();
+        }
+
+        @Test
+        void ReturnsTrue_NilIdentifier() {
+            // Given
+            var set = new CompactUuidSet();
+
+            // When
+            var actual = set.add(NIL_UUID);
+
+            // Then
+            assertThat(actual).isTrue();
+            assertThat(set.contains(NIL_UUID)).isTrue();
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void ReturnsTrue_IdentifierInSet() {
+            // Given
+            var set = new CompactUuidSet();
+            var uuid = UUID.randomUUID();
+            set.add(uuid);
+
+            // When
+            var actual = set.remove(uuid);
+
+            // Then
+            assertThat(actual).isTrue();
+            assertThat(set.contains(uuid)).isFalse();
+            assertThat(set.size()).isZero();
+        }
+
+        @Test
+        void ReturnsFalse_IdentifierNotInSet() {
+            // Given
+            var set = new CompactUuidSet();
+            set.add(UUID.randomUUID());
+
+            // When
+            var actual = set.remove(UUID.randomUUID());
+
+            // Then
+            assertThat(actual).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        void ContainsRemainingIdentifiers_HalfRemoved() {
+            // Given
+            var set = new CompactUuidSet();
+            var uuids = new ArrayList<UUID>();
+            for (int i = 0; i < 5_000; i++) {
+                var uuid = UUID.randomUUID();
+                uuids.add(uuid);
+                set.add(uuid);
+            }
+            var removed = uuids.subList(0, 2_500);
+            var remaining = uuids.subList(2_500, 5_000);
+
+            // When
+            removed.forEach(set::remove);
+
+            // Then
+            assertThat(set.size()).isEqualTo(2_500);
+            assertThat(remaining).allMatch(set::contains);
+            assertThat(removed).noneMatch(set::contains);
+        }
+
+        @Test
+        void ReturnsTrue_NilIdentifierInSet() {
+            // Given
+            var set = new CompactUuidSet();
+            set.add(NIL_UUID);
+
+            // When
+            var actual = set.remove(NIL_UUID);
+
+            // Then
+            assertThat(actual).isTrue();
+            assertThat(set.contains(NIL_UUID)).isFalse();
+            assertThat(set.size()).isZero();
+        }
+
+    }
+
+    @Nested
+    class Create {
+
+        @Test
+        void ThrowsIllegalArgumentException_NegativeExpectedSize() {
+            // When
+            var actual = catchThrowable(() -> new CompactUuidSet(-1));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
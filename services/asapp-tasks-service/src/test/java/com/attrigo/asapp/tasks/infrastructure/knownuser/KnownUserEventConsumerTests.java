@@ -0,0 +1,292 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import static com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUserEventConsumer.USER_CREATED;
+import static com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUserEventConsumer.USER_DELETED;
+import static com.attrigo.asapp.tasks.infrastructure.knownuser.KnownUserEventConsumer.USER_UPDATED;
+import static com.attrigo.asapp.tasks.infrastructure.outbox.OutboxRelay.AGGREGATE_ID_FIELD;
+import static com.attrigo.asapp.tasks.infrastructure.outbox.OutboxRelay.EVENT_TYPE_FIELD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.willThrow;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link KnownUserEventConsumer} event application, acknowledgement and consumer group creation.
+ * <p>
+ * Coverage:
+ * <li>Applies user creations, updates and deletions to the known users and acknowledges them</li>
+ * <li>Retries the unacknowledged events before reading new ones</li>
+ * <li>Drains full batches back to back until a partial batch is read</li>
+ * <li>Acknowledges and skips events with an invalid user id or an unrelated type</li>
+ * <li>Leaves the batch unacknowledged when applying it fails</li>
+ * <li>Creates the consumer group once, tolerating a group that already exists</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class KnownUserEventConsumerTests {
+
+    private static final String STREAM_KEY = "events:users";
+
+    private static final String CONSUMER_GROUP = "asapp-tasks-service";
+
+    private static final Consumer CONSUMER = Consumer.from(CONSUMER_GROUP, "tasks-1");
+
+    private static final StreamOffset<String> PENDING_EVENTS = StreamOffset.create(STREAM_KEY, ReadOffset.from("0"));
+
+    private static final StreamOffset<String> NEW_EVENTS = StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed());
+
+    @Mock
+    private KnownUsers knownUsers;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private KnownUserEventConsumer knownUserEventConsumer;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        knownUserEventConsumer = new KnownUserEventConsumer(knownUsers, redisTemplate, STREAM_KEY, CONSUMER_GROUP, "tasks-1", 2, Duration.ofMillis(500),
+                meterRegistry);
+
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+    }
+
+    @AfterEach
+    void afterEach() {
+        knownUserEventConsumer.destroy();
+    }
+
+    @Nested
+    class Consume {
+
+        @Test
+        void AppliesAndAcknowledgesEvents_NewEvents() {
+            // Given
+            var createdUserId = UUID.randomUUID();
+            var deletedUserId = UUID.randomUUID();
+            var created = anEvent("1-0", createdUserId.toString(), USER_CREATED);
+            var deleted = anEvent("2-0", deletedUserId.toString(), USER_DELETED);
+            givenPendingEvents(List.of());
+            givenNewEvents(List.of(created, deleted), List.of());
+
+            // When
+            knownUserEventConsumer.consume();
+
+            // Then
+            then(knownUsers).should(times(1))
+                            .add(createdUserId);
+            then(knownUsers).should(times(1))
+                            .remove(deletedUserId);
+            then(streamOperations).should(times(1))
+                                  .acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+            assertThat(meterRegistry.get("asapp.known-users.events")
+                                    .counter()
+                                    .count()).isEqualTo(2);
+        }
+
+        @Test
+        void AppliesPendingEventsFirst_UnacknowledgedEvents() {
+            // Given
+            var userId = UUID.randomUUID();
+            var updated = anEvent("1-0", userId.toString(), USER_UPDATED);
+            givenPendingEvents(List.of(updated));
+
+            // When
+            knownUserEventConsumer.consume();
+
+            // Then
+            then(knownUsers).should(times(1))
+                            .add(userId);
+            then(streamOperations).should(never())
+                                  .read(eq(CONSUMER), any(StreamReadOptions.class), eq(NEW_EVENTS));
+            then(streamOperations).should(times(1))
+                                  .acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("1-0"));
+        }
+
+        @Test
+        void DrainsBatchesBackToBack_FullBatchRead() {
+            // Given
+            var firstBatch = List.of(aCreatedUserEvent("1-0"), aCreatedUserEvent("2-0"));
+            var secondBatch = List.of(aCreatedUserEvent("3-0"));
+            givenPendingEvents(List.of());
+            givenNewEvents(firstBatch, secondBatch);
+
+            // When
+            knownUserEventConsumer.consume();
+
+            // Then
+            then(knownUsers).should(times(3))
+                            .add(any());
+            assertThat(meterRegistry.get("asapp.known-users.events")
+                                    .counter()
+                                    .count()).isEqualTo(3);
+        }
+
+        @Test
+        void AcknowledgesAndSkipsEvents_InvalidOrUnrelatedEvents() {
+            // Given
+            var invalidUserId = anEvent("1-0", "not-a-uuid", USER_CREATED);
+            var unrelatedType = anEvent("2-0", String.valueOf(UUID.randomUUID()), "UserLoggedIn");
+            givenPendingEvents(List.of());
+            givenNewEvents(List.of(invalidUserId, unrelatedType), List.of());
+
+            // When
+            knownUserEventConsumer.consume();
+
+            // Then
+            then(knownUsers).shouldHaveNoInteractions();
+            then(streamOperations).should(times(1))
+                                  .acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+        }
+
+        @Test
+        void LeavesEventsUnacknowledged_ApplyingEventFails() {
+            // Given
+            var userId = UUID.randomUUID();
+            givenPendingEvents(List.of());
+            givenNewEvents(List.of(anEvent("1-0", userId.toString(), USER_CREATED)));
+            willThrow(new IllegalStateException("Database is unavailable")).given(knownUsers)
+                                                                          .add(userId);
+
+            // When
+            knownUserEventConsumer.consume();
+
+            // Then
+            then(streamOperations).should(never())
+                                  .acknowledge(any(String.class), any(String.class), any(RecordId[].class));
+            assertThat(meterRegistry.get("asapp.known-users.failures")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+    }
+
+    @Nested
+    class CreateConsumerGroup {
+
+        @Test
+        void CreatesConsumerGroupOnce_SeveralPolls() {
+            // Given
+            givenPendingEvents(List.of());
+            givenNewEvents(List.of());
+
+            // When
+            knownUserEventConsumer.consume();
+            knownUserEventConsumer.consume();
+
+            // Then
+            then(streamOperations).should(times(1))
+                                  .createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP);
+        }
+
+        @Test
+        void ConsumesEvents_ConsumerGroupAlreadyExists() {
+            // Given
+            var busyGroup = new RedisSystemException("Error in execution", new IllegalStateException("BUSYGROUP Consumer Group name already exists"));
+            willThrow(busyGroup).given(streamOperations)
+                                .createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP);
+            givenPendingEvents(List.of());
+            givenNewEvents(List.of());
+
+            // When
+            knownUserEventConsumer.consume();
+
+            // Then
+            assertThat(meterRegistry.get("asapp.known-users.failures")
+                                    .counter()
+                                    .count()).isZero();
+        }
+
+        @Test
+        void RetriesConsumerGroupCreation_RedisUnavailable() {
+            // Given
+            var redisUnavailable = new RedisConnectionFailureException("Redis is unavailable");
+            given(streamOperations.createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP)).willThrow(redisUnavailable)
+                                                                                                   .willReturn("OK");
+            givenPendingEvents(List.of());
+            givenNewEvents(List.of());
+
+            // When
+            knownUserEventConsumer.consume();
+            knownUserEventConsumer.consume();
+
+            // Then
+            then(streamOperations).should(times(2))
+                                  .createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP);
+            assertThat(meterRegistry.get("asapp.known-users.failures")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+    }
+
+    private void givenPendingEvents(List<MapRecord<String, Object, Object>> events) {
+        given(streamOperations.read(eq(CONSUMER), any(StreamReadOptions.class), eq(PENDING_EVENTS))).willReturn(events);
+    }
+
+    @SafeVarargs
+    private void givenNewEvents(List<MapRecord<String, Object, Object>> events, List<MapRecord<String, Object, Object>>... nextEvents) {
+        given(streamOperations.read(eq(CONSUMER), any(StreamReadOptions.class), eq(NEW_EVENTS))).willReturn(events, nextEvents);
+    }
+
+    private static MapRecord<String, Object, Object> aCreatedUserEvent(String recordId) {
+        return anEvent(recordId, String.valueOf(UUID.randomUUID()), USER_CREATED);
+    }
+
+    private static MapRecord<String, Object, Object> anEvent(String recordId, String userId, String eventType) {
+        Map<Object, Object> fields = Map.of(AGGREGATE_ID_FIELD, userId, EVENT_TYPE_FIELD, eventType);
+        return MapRecord.create(STREAM_KEY, fields)
+                        .withId(RecordId.of(recordId));
+    }
+
+}
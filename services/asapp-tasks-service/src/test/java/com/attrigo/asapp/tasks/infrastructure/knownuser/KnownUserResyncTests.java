@@ -0,0 +1,119 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.attrigo.asapp.http.clients.users.UsersHttpClient;
+import com.attrigo.asapp.http.clients.users.response.UsersResponse;
+
+/**
+ * Tests {@link KnownUserResync} listing of the existing users and replacement of the known users.
+ * <p>
+ * Coverage:
+ * <li>Replaces the known users with the listed users, stamped with the database time read before listing them</li>
+ * <li>Leaves the known users untouched when the users service fails or returns no body</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class KnownUserResyncTests {
+
+    private static final Instant SYNC_STARTED_AT = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Mock
+    private KnownUsers knownUsers;
+
+    @Mock
+    private KnownUserStore knownUserStore;
+
+    @Mock
+    private UsersHttpClient usersHttpClient;
+
+    @InjectMocks
+    private KnownUserResync knownUserResync;
+
+    @Nested
+    class Resync {
+
+        @Test
+        void ReturnsResyncResult_UsersListed() {
+            // Given
+            var userId = UUID.randomUUID();
+            var otherUserId = UUID.randomUUID();
+            given(knownUserStore.currentTime()).willReturn(SYNC_STARTED_AT);
+            given(usersHttpClient.getUsers()).willReturn(List.of(new UsersResponse(userId), new UsersResponse(otherUserId)));
+            given(knownUsers.resync(List.of(userId, otherUserId), SYNC_STARTED_AT)).willReturn(1);
+
+            // When
+            var actual = knownUserResync.resync();
+
+            // Then
+            assertThat(actual).isEqualTo(new KnownUserResyncResult(2, 1));
+        }
+
+        @Test
+        void ThrowsResourceAccessException_UsersServiceUnavailable() {
+            // Given
+            given(knownUserStore.currentTime()).willReturn(SYNC_STARTED_AT);
+            willThrow(new ResourceAccessException("Connection refused")).given(usersHttpClient)
+                                                                        .getUsers();
+
+            // When
+            var actual = catchThrowable(() -> knownUserResync.resync());
+
+            // Then
+            assertThat(actual).isInstanceOf(ResourceAccessException.class);
+            then(knownUsers).should(never())
+                            .resync(any(), any());
+        }
+
+        @Test
+        void ThrowsIllegalStateException_NullResponseBody() {
+            // Given
+            given(knownUserStore.currentTime()).willReturn(SYNC_STARTED_AT);
+            given(usersHttpClient.getUsers()).willReturn(null);
+
+            // When
+            var actual = catchThrowable(() -> knownUserResync.resync());
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalStateException.class)
+                              .hasMessage("Users Service returned no users");
+            then(knownUsers).should(never())
+                            .resync(any(), any());
+        }
+
+    }
+
+}
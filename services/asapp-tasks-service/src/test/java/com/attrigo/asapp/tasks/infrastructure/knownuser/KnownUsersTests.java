@@ -0,0 +1,223 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.knownuser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.willAnswer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link KnownUsers} lookups, event application, reloads and resyncs.
+ * <p>
+ * Coverage:
+ * <li>Answers lookups of users held in memory without querying the store</li>
+ * <li>Falls back to the store on a miss, holding the user in memory when it exists</li>
+ * <li>Holds created users in memory unless the store reports them as deleted</li>
+ * <li>Drops deleted users from memory after recording their tombstone</li>
+ * <li>Replaces the users held in memory on reload and resync</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class KnownUsersTests {
+
+    @Mock
+    private KnownUserStore knownUserStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private KnownUsers knownUsers;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        knownUsers = new KnownUsers(knownUserStore, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Nested
+    class Contains {
+
+        @Test
+        void ReturnsTrue_UserHeldInMemory() {
+            // Given
+            var userId = UUID.randomUUID();
+            givenStoredUsers(userId);
+            knownUsers.reload();
+
+            // When
+            var actual = knownUsers.contains(userId);
+
+            // Then
+            assertThat(actual).isTrue();
+            then(knownUserStore).should(never())
+                                .existsUser(any());
+            assertThat(meterRegistry.get("asapp.known-users.misses")
+                                    .counter()
+                                    .count()).isZero();
+        }
+
+        @Test
+        void ReturnsTrueAndHoldsUser_UserOnlyInStore() {
+            // Given
+            var userId = UUID.randomUUID();
+            given(knownUserStore.existsUser(userId)).willReturn(true);
+
+            // When
+            var actual = knownUsers.contains(userId);
+            var actualSecondLookup = knownUsers.contains(userId);
+
+            // Then
+            assertThat(actual).isTrue();
+            assertThat(actualSecondLookup).isTrue();
+            then(knownUserStore).should(times(1))
+                                .existsUser(userId);
+            assertThat(meterRegistry.get("asapp.known-users.misses")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void ReturnsFalse_UserNotKnown() {
+            // Given
+            var userId = UUID.randomUUID();
+            given(knownUserStore.existsUser(userId)).willReturn(false);
+
+            // When
+            var actual = knownUsers.contains(userId);
+
+            // Then
+            assertThat(actual).isFalse();
+            assertThat(meterRegistry.get("asapp.known-users.size")
+                                    .gauge()
+                                    .value()).isZero();
+        }
+
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void HoldsUserInMemory_UserRecorded() {
+            // Given
+            var userId = UUID.randomUUID();
+            given(knownUserStore.insertUser(userId)).willReturn(true);
+
+            // When
+            knownUsers.add(userId);
+
+            // Then
+            assertThat(knownUsers.contains(userId)).isTrue();
+            then(knownUserStore).should(never())
+                                .existsUser(any());
+        }
+
+        @Test
+        void DoesNotHoldUserInMemory_UserDeleted() {
+            // Given
+            var userId = UUID.randomUUID();
+            given(knownUserStore.insertUser(userId)).willReturn(false);
+
+            // When
+            knownUsers.add(userId);
+
+            // Then
+            assertThat(meterRegistry.get("asapp.known-users.size")
+                                    .gauge()
+                                    .value()).isZero();
+        }
+
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void DropsUserFromMemory_UserHeldInMemory() {
+            // Given
+            var userId = UUID.randomUUID();
+            givenStoredUsers(userId);
+            knownUsers.reload();
+
+            // When
+            knownUsers.remove(userId);
+
+            // Then
+            then(knownUserStore).should(times(1))
+                                .deleteUser(userId);
+            assertThat(meterRegistry.get("asapp.known-users.size")
+                                    .gauge()
+                                    .value()).isZero();
+        }
+
+    }
+
+    @Nested
+    class Resync {
+
+        @Test
+        void ReturnsDeletedUsersAndReloads_UsersListed() {
+            // Given
+            var userId = UUID.randomUUID();
+            var otherUserId = UUID.randomUUID();
+            var syncStartedAt = Instant.parse("2026-10-18T10:00:00Z");
+            given(knownUserStore.resyncUsers(List.of(userId, otherUserId), syncStartedAt)).willReturn(3);
+            givenStoredUsers(userId, otherUserId);
+
+            // When
+            var actual = knownUsers.resync(List.of(userId, otherUserId), syncStartedAt);
+
+            // Then
+            assertThat(actual).isEqualTo(3);
+            assertThat(knownUsers.contains(userId)).isTrue();
+            assertThat(knownUsers.contains(otherUserId)).isTrue();
+            assertThat(meterRegistry.get("asapp.known-users.size")
+                                    .gauge()
+                                    .value()).isEqualTo(2);
+        }
+
+    }
+
+    private void givenStoredUsers(UUID... userIds) {
+        given(knownUserStore.countUsers()).willReturn(userIds.length);
+        willAnswer(invocation -> {
+            Consumer<UUID> action = invocation.getArgument(0);
+            List.of(userIds)
+                .forEach(action);
+            return null;
+        }).given(knownUserStore)
+          .forEachUserId(any());
+    }
+
+}
@@ -0,0 +1,167 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AdaptiveConcurrencyLimit} admission and latency-driven limit adjustments.
+ * <p>
+ * Coverage:
+ * <li>Rejects inconsistent limits and a tolerance lower than 1</li>
+ * <li>Admits requests up to the limit and frees a slot once a request completes</li>
+ * <li>Grows the limit while latency stays steady under load</li>
+ * <li>Shrinks the limit down to its minimum once latency climbs under load</li>
+ * <li>Leaves the limit unchanged while it is lightly used</li>
+ */
+class AdaptiveConcurrencyLimitTests {
+
+    private static final Duration STEADY_LATENCY = Duration.ofMillis(10);
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(20, 10, 200, 1.5, nanoClock::get);
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void ThrowsIllegalArgumentException_MinLimitAboveInitialLimit() {
+            // When
+            var actual = catchThrowable(() -> new AdaptiveConcurrencyLimit(20, 30, 200, 1.5, nanoClock::get));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Concurrency limits must satisfy 1 <= min-limit <= initial-limit <= max-limit");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_ToleranceLowerThanOne() {
+            // When
+            var actual = catchThrowable(() -> new AdaptiveConcurrencyLimit(20, 10, 200, 0.9, nanoClock::get));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Concurrency limit tolerance must be at least 1");
+        }
+
+    }
+
+    @Nested
+    class TryAcquire {
+
+        @Test
+        void ReturnsEmpty_LimitReached() {
+            // Given
+            for (var i = 0; i < 20; i++) {
+                concurrencyLimit.tryAcquire();
+            }
+
+            // When
+            var actual = concurrencyLimit.tryAcquire();
+
+            // Then
+            assertThat(actual).isEmpty();
+            assertThat(concurrencyLimit.getInFlight()).isEqualTo(20);
+        }
+
+        @Test
+        void ReturnsPermit_RequestCompletedAfterLimitReached() {
+            // Given
+            var permit = concurrencyLimit.tryAcquire()
+                                         .orElseThrow();
+            for (var i = 1; i < 20; i++) {
+                concurrencyLimit.tryAcquire();
+            }
+            concurrencyLimit.release(permit);
+
+            // When
+            var actual = concurrencyLimit.tryAcquire();
+
+            // Then
+            assertThat(actual).isPresent();
+        }
+
+    }
+
+    @Nested
+    class Release {
+
+        @Test
+        void GrowsLimit_SteadyLatencyUnderLoad() {
+            // When
+            for (var round = 0; round < 20; round++) {
+                saturate(STEADY_LATENCY);
+            }
+
+            // Then
+            assertThat(concurrencyLimit.getLimit()).isGreaterThan(20);
+            assertThat(concurrencyLimit.getInFlight()).isZero();
+        }
+
+        @Test
+        void ShrinksLimitToMinimum_LatencyClimbsUnderLoad() {
+            // Given
+            saturate(STEADY_LATENCY);
+
+            // When
+            for (var round = 0; round < 20; round++) {
+                saturate(STEADY_LATENCY.multipliedBy(10));
+            }
+
+            // Then
+            assertThat(concurrencyLimit.getLimit()).isEqualTo(10);
+        }
+
+        @Test
+        void KeepsLimit_LightlyUsed() {
+            // When
+            for (var request = 0; request < 100; request++) {
+                var permit = concurrencyLimit.tryAcquire()
+                                             .orElseThrow();
+                nanoClock.addAndGet(STEADY_LATENCY.multipliedBy(request % 10 + 1)
+                                                  .toNanos());
+                concurrencyLimit.release(permit);
+            }
+
+            // Then
+            assertThat(concurrencyLimit.getLimit()).isEqualTo(20);
+        }
+
+    }
+
+    private void saturate(Duration latency) {
+        var permits = new ArrayList<AdaptiveConcurrencyLimit.Permit>();
+        var permit = concurrencyLimit.tryAcquire();
+        while (permit.isPresent()) {
+            permits.add(permit.get());
+            permit = concurrencyLimit.tryAcquire();
+        }
+
+        nanoClock.addAndGet(latency.toNanos());
+        permits.forEach(concurrencyLimit::release);
+    }
+
+}
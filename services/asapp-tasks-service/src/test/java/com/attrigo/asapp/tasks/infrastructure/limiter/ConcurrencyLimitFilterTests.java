@@ -0,0 +1,148 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.limiter;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Tests {@link ConcurrencyLimitFilter} admission of incoming requests and rendering of a RFC 7807 503 response on rejection.
+ * <p>
+ * Coverage:
+ * <li>Admits requests under the limit and gives their permit back once completed</li>
+ * <li>Rejects requests over the limit with a 503 Problem Detail and a Retry-After header, without running the chain</li>
+ * <li>Admits priority requests even when the limit is reached</li>
+ * <li>Publishes the limit, in-flight and rejection metrics</li>
+ */
+class ConcurrencyLimitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(1, 1, 1, 1.5, System::nanoTime);
+
+    private final ConcurrencyLimitFilter concurrencyLimitFilter = new ConcurrencyLimitFilter(concurrencyLimit, List.of("/actuator/health/**"),
+            JsonMapper.builder()
+                      .addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class)
+                      .build(),
+            meterRegistry);
+
+    @Nested
+    class DoFilter {
+
+        @Test
+        void RunsChainAndReleasesPermit_LimitNotReached() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/1");
+            var response = new MockHttpServletResponse();
+            var inFlightDuringChain = new AtomicInteger();
+            FilterChain chain = (_, _) -> inFlightDuringChain.set(concurrencyLimit.getInFlight());
+
+            // When
+            concurrencyLimitFilter.doFilter(request, response, chain);
+
+            // Then
+            assertThat(inFlightDuringChain).hasValue(1);
+            assertThat(concurrencyLimit.getInFlight()).isZero();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        @Test
+        void ReturnsServiceUnavailableAndProblemDetail_LimitReached() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/api/tasks/1");
+            var response = new MockHttpServletResponse();
+            var chainCalls = new AtomicInteger();
+            FilterChain chain = (_, _) -> chainCalls.incrementAndGet();
+
+            concurrencyLimit.tryAcquire();
+
+            // When
+            concurrencyLimitFilter.doFilter(request, response, chain);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(response.getStatus()).as("status").isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+                softly.assertThat(response.getContentType()).as("content type").startsWith(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+                softly.assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).as("Retry-After header").isEqualTo("1");
+                softly.assertThat(chainCalls).as("chain calls").hasValue(0);
+                softly.assertThat(meterRegistry.get("asapp.concurrency-limit.rejections").counter().count()).as("rejections").isEqualTo(1.0);
+                // @formatter:on
+            });
+            assertThatJson(response.getContentAsString()).isObject()
+                                                         .containsEntry("title", "Service Unavailable")
+                                                         .containsEntry("status", 503)
+                                                         .containsEntry("detail", "Service temporarily overloaded");
+        }
+
+        @Test
+        void RunsChain_PriorityRequestAndLimitReached() throws Exception {
+            // Given
+            var request = new MockHttpServletRequest("GET", "/actuator/health/liveness");
+            var response = new MockHttpServletResponse();
+            var chainCalls = new AtomicInteger();
+            FilterChain chain = (_, _) -> chainCalls.incrementAndGet();
+
+            concurrencyLimit.tryAcquire();
+
+            // When
+            concurrencyLimitFilter.doFilter(request, response, chain);
+
+            // Then
+            assertThat(chainCalls).hasValue(1);
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        @Test
+        void PublishesLimitAndInFlight_RequestInFlight() {
+            // Given
+            concurrencyLimit.tryAcquire();
+
+            // When
+            var limit = meterRegistry.get("asapp.concurrency-limit.limit")
+                                     .gauge()
+                                     .value();
+            var inFlight = meterRegistry.get("asapp.concurrency-limit.in-flight")
+                                        .gauge()
+                                        .value();
+
+            // Then
+            assertThat(limit).isEqualTo(1.0);
+            assertThat(inFlight).isEqualTo(1.0);
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.security.grpc;
+
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.AUTHORIZATION;
+import static com.attrigo.asapp.tasks.testutil.fixture.DecodedJwtMother.decodedAccessToken;
+import static com.attrigo.asapp.tasks.testutil.fixture.EncodedTokenMother.encodedAccessToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+import com.attrigo.asapp.tasks.infrastructure.security.InvalidJwtException;
+import com.attrigo.asapp.tasks.infrastructure.security.JwtAuthenticationToken;
+import com.attrigo.asapp.tasks.infrastructure.security.JwtVerifier;
+
+/**
+ * Tests {@link JwtServerInterceptor} authentication of incoming gRPC calls.
+ * <p>
+ * Setup:
+ * <li>Resets the security context before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Closes calls without authorization metadata as unauthenticated</li>
+ * <li>Closes calls with a non-Bearer authorization as unauthenticated</li>
+ * <li>Closes calls whose token fails verification as unauthenticated</li>
+ * <li>Binds the authenticated caller around the listener callbacks and clears it after</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtServerInterceptorTests {
+
+    @Mock
+    private JwtVerifier jwtVerifier;
+
+    @Mock
+    private ServerCall<Object, Object> call;
+
+    @Mock
+    private ServerCallHandler<Object, Object> next;
+
+    @Mock
+    private ServerCall.Listener<Object> listener;
+
+    @InjectMocks
+    private JwtServerInterceptor jwtServerInterceptor;
+
+    @BeforeEach
+    void beforeEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    class InterceptCall {
+
+        @Test
+        void ClosesCallAsUnauthenticated_AuthorizationMissing() {
+            // Given
+            var headers = new Metadata();
+
+            // When
+            jwtServerInterceptor.interceptCall(call, headers, next);
+
+            // Then
+            then(call).should(times(1))
+                      .close(argThat(status -> status.getCode() == Status.Code.UNAUTHENTICATED), any(Metadata.class));
+            then(next).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void ClosesCallAsUnauthenticated_AuthorizationNotBearer() {
+            // Given
+            var headers = new Metadata();
+            headers.put(AUTHORIZATION, "Basic dXNlcjpzZWNyZXQ=");
+
+            // When
+            jwtServerInterceptor.interceptCall(call, headers, next);
+
+            // Then
+            then(call).should(times(1))
+                      .close(argThat(status -> status.getCode() == Status.Code.UNAUTHENTICATED), any(Metadata.class));
+            then(next).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void ClosesCallAsUnauthenticated_InvalidToken() {
+            // Given
+            var headers = new Metadata();
+            headers.put(AUTHORIZATION, "Bearer invalid");
+
+            willThrow(new InvalidJwtException("invalid token", null)).given(jwtVerifier)
+                                                                      .verifyAccessToken("invalid");
+
+            // When
+            jwtServerInterceptor.interceptCall(call, headers, next);
+
+            // Then
+            then(call).should(times(1))
+                      .close(argThat(status -> status.getCode() == Status.Code.UNAUTHENTICATED), any(Metadata.class));
+            then(next).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void BindsAuthenticationAroundCallbacks_ValidToken() {
+            // Given
+            var encodedAccessToken = encodedAccessToken();
+            var decodedJwt = decodedAccessToken();
+            var headers = new Metadata();
+            headers.put(AUTHORIZATION, "Bearer " + encodedAccessToken);
+            var authenticationDuringCallback = new AtomicReference<Authentication>();
+
+            given(jwtVerifier.verifyAccessToken(encodedAccessToken)).willReturn(decodedJwt);
+            given(next.startCall(call, headers)).willReturn(listener);
+            willAnswer(invocation -> {
+                authenticationDuringCallback.set(SecurityContextHolder.getContext()
+                                                                      .getAuthentication());
+                return null;
+            }).given(listener)
+              .onHalfClose();
+
+            // When
+            jwtServerInterceptor.interceptCall(call, headers, next)
+                                .onHalfClose();
+
+            // Then
+            assertThat(authenticationDuringCallback.get()).isInstanceOfSatisfying(JwtAuthenticationToken.class,
+                    authentication -> assertThat(authentication.getJwt()).isEqualTo(decodedJwt.encodedToken()));
+            assertThat(SecurityContextHolder.getContext()
+                                            .getAuthentication()).isNull();
+            then(call).should(times(0))
+                      .close(any(), any());
+        }
+
+    }
+
+}
@@ -46,6 +46,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.client.RestTestClient;
 import org.springframework.web.util.UriBuilder;
@@ -74,6 +75,7 @@ import com.attrigo.asapp.tasks.testutil.TestContainerConfiguration;
  * <li>Retrieves tasks by user ownership returning empty or collection</li>
  * <li>Creates task persisting to database and returning assigned identifier</li>
  * <li>Updates existing task persisting changes and returning updated data</li>
+ * <li>Patches existing task persisting only the changed fields, without writing when nothing changes</li>
  * <li>Deletes existing task removing from database</li>
  * <li>Tests complete flow: HTTP → Security → Controller → Service → Repository → Database</li>
  */
@@ -82,6 +84,8 @@ import com.attrigo.asapp.tasks.testutil.TestContainerConfiguration;
 @Import(TestContainerConfiguration.class)
 class TaskE2EIT {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     @Autowired
     private JdbcTaskRepository taskRepository;
 
@@ -142,6 +146,27 @@ class TaskE2EIT {
             // @formatter:on
         }
 
+        @Test
+        void ReturnsStatusNotModifiedAndEmptyBody_IfNoneMatchCurrentVersion() {
+            // Given
+            var createdTask = createTask();
+            var taskId = createdTask.id();
+
+            // When & Then
+            restTestClient.get()
+                          .uri(TASKS_GET_BY_ID_FULL_PATH, taskId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                          .header(HttpHeaders.IF_NONE_MATCH, "\"" + createdTask.version() + "\"")
+                          .exchange()
+                          .expectStatus()
+                          .isNotModified()
+                          .expectHeader()
+                          .valueEquals(HttpHeaders.ETAG, "\"" + createdTask.version() + "\"")
+                          .expectBody()
+                          .isEmpty();
+        }
+
         @Test
         void ReturnsStatusNotFoundAndEmptyBody_TaskNotExists() {
             // Given
@@ -708,6 +733,59 @@ class TaskE2EIT {
             });
         }
 
+        @Test
+        void ReturnsStatusOkAndNewETag_IfMatchCurrentVersion() {
+            // Given
+            var createdTask = createTask();
+            var taskId = createdTask.id();
+            var updateTaskRequest = new UpdateTaskRequest(createdTask.userId()
+                                                                     .toString(), "New Title", null, null, null);
+
+            // When & Then
+            restTestClient.put()
+                          .uri(TASKS_UPDATE_BY_ID_FULL_PATH, taskId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                          .header(HttpHeaders.IF_MATCH, "\"" + createdTask.version() + "\"")
+                          .body(updateTaskRequest)
+                          .exchange()
+                          .expectStatus()
+                          .isOk()
+                          .expectHeader()
+                          .valueEquals(HttpHeaders.ETAG, "\"" + (createdTask.version() + 1) + "\"");
+        }
+
+        @Test
+        void ReturnsStatusPreconditionFailedAndProblemDetail_IfMatchStaleVersion() {
+            // Given
+            var createdTask = createTask();
+            var taskId = createdTask.id();
+            var updateTaskRequest = new UpdateTaskRequest(createdTask.userId()
+                                                                     .toString(), "New Title", null, null, null);
+
+            // When
+            var actual = restTestClient.put()
+                                       .uri(TASKS_UPDATE_BY_ID_FULL_PATH, taskId)
+                                       .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                                       .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                       .header(HttpHeaders.IF_MATCH, "\"" + (createdTask.version() + 1) + "\"")
+                                       .body(updateTaskRequest)
+                                       .exchange()
+                                       .expectStatus()
+                                       .isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                                       .expectBody(String.class)
+                                       .returnResult()
+                                       .getResponseBody();
+
+            // Then
+            assertThatJson(actual).isObject()
+                                  .containsEntry("title", "Precondition Failed")
+                                  .containsEntry("status", 412);
+            assertThat(taskRepository.findById(taskId)).get()
+                                                       .extracting(JdbcTaskEntity::title)
+                                                       .isEqualTo(createdTask.title());
+        }
+
         @Test
         void ReturnsStatusNotFoundAndEmptyBody_TaskNotExists() {
             // Given
@@ -763,6 +841,131 @@ class TaskE2EIT {
 
     }
 
+    @Nested
+    class PatchTaskById {
+
+        @Test
+        void ReturnsStatusOkAndPatchesOnlyGivenFields_TaskExists() {
+            // Given
+            var createdTask = createTask();
+            var taskId = createdTask.id();
+            var requestBody = """
+                    {"title": "New Title", "description": null}
+                    """;
+
+            // When
+            var actual = restTestClient.patch()
+                                       .uri(TASKS_UPDATE_BY_ID_FULL_PATH, taskId)
+                                       .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                                       .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                                       .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                                       .body(requestBody)
+                                       .exchange()
+                                       .expectStatus()
+                                       .isOk()
+                                       .expectHeader()
+                                       .valueEquals(HttpHeaders.ETAG, "\"" + (createdTask.version() + 1) + "\"")
+                                       .expectBody(String.class)
+                                       .returnResult()
+                                       .getResponseBody();
+
+            // Then
+            assertThatJson(actual).isObject()
+                                  .containsOnlyKeys("taskId")
+                                  .containsEntry("taskId", taskId.toString());
+
+            // Assert only the patched fields have changed
+            var patchedTask = taskRepository.findById(taskId);
+            assertThat(patchedTask).isPresent();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(patchedTask.get().userId()).as("userId").isEqualTo(createdTask.userId());
+                softly.assertThat(patchedTask.get().title()).as("title").isEqualTo("New Title");
+                softly.assertThat(patchedTask.get().description()).as("description").isNull();
+                softly.assertThat(patchedTask.get().startDate()).as("startDate").isEqualTo(createdTask.startDate());
+                softly.assertThat(patchedTask.get().endDate()).as("endDate").isEqualTo(createdTask.endDate());
+                softly.assertThat(patchedTask.get().version()).as("version").isEqualTo(createdTask.version() + 1);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsStatusOkAndUnchangedETag_PatchRepeatsCurrentValues() {
+            // Given
+            var createdTask = createTask();
+            var taskId = createdTask.id();
+            var requestBody = """
+                    {"title": "%s"}
+                    """.formatted(createdTask.title());
+
+            // When & Then
+            restTestClient.patch()
+                          .uri(TASKS_UPDATE_BY_ID_FULL_PATH, taskId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                          .body(requestBody)
+                          .exchange()
+                          .expectStatus()
+                          .isOk()
+                          .expectHeader()
+                          .valueEquals(HttpHeaders.ETAG, "\"" + createdTask.version() + "\"");
+
+            assertThat(taskRepository.findById(taskId)).contains(createdTask);
+        }
+
+        @Test
+        void ReturnsStatusPreconditionFailedAndProblemDetail_IfMatchStaleVersion() {
+            // Given
+            var createdTask = createTask();
+            var taskId = createdTask.id();
+            var requestBody = """
+                    {"title": "New Title"}
+                    """;
+
+            // When
+            var actual = restTestClient.patch()
+                                       .uri(TASKS_UPDATE_BY_ID_FULL_PATH, taskId)
+                                       .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                                       .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                                       .header(HttpHeaders.IF_MATCH, "\"" + (createdTask.version() + 1) + "\"")
+                                       .body(requestBody)
+                                       .exchange()
+                                       .expectStatus()
+                                       .isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                                       .expectBody(String.class)
+                                       .returnResult()
+                                       .getResponseBody();
+
+            // Then
+            assertThatJson(actual).isObject()
+                                  .containsEntry("title", "Precondition Failed")
+                                  .containsEntry("status", 412);
+            assertThat(taskRepository.findById(taskId)).contains(createdTask);
+        }
+
+        @Test
+        void ReturnsStatusNotFoundAndEmptyBody_TaskNotExists() {
+            // Given
+            var taskId = UUID.fromString("b7f3a8d1-4e9c-4118-8f2b-6d9e3a5c7b1f");
+            var requestBody = """
+                    {"title": "New Title"}
+                    """;
+
+            // When & Then
+            restTestClient.patch()
+                          .uri(TASKS_UPDATE_BY_ID_FULL_PATH, taskId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                          .body(requestBody)
+                          .exchange()
+                          .expectStatus()
+                          .isNotFound()
+                          .expectBody()
+                          .isEmpty();
+        }
+
+    }
+
     @Nested
     class DeleteTaskById {
 
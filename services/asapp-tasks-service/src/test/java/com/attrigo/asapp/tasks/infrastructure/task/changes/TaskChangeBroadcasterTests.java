@@ -0,0 +1,182 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link TaskChangeBroadcaster} subscription tracking, fan-out and back-pressure.
+ * <p>
+ * Coverage:
+ * <li>Tracks subscribers and releases them when disconnected</li>
+ * <li>Replays the changes after the last received one before streaming live changes</li>
+ * <li>Disconnects a subscriber whose buffer overflows, counting the overflow</li>
+ * <li>Delivers changes only to the subscribers of the changed task's user</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskChangeBroadcasterTests {
+
+    private static final UUID USER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    private static final UUID OTHER_USER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440099");
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    private final CountDownLatch replayReleased = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TaskChangeBroadcaster taskChangeBroadcaster;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskChangeBroadcaster = new TaskChangeBroadcaster(taskChangeLog, 1, Duration.ofMinutes(1), Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @AfterEach
+    void afterEach() {
+        replayReleased.countDown();
+        taskChangeBroadcaster.destroy();
+    }
+
+    @Nested
+    class Subscribe {
+
+        @Test
+        void ReturnsSubscriberCount_ClientsSubscribed() {
+            // When
+            taskChangeBroadcaster.subscribe(USER_ID, null);
+            taskChangeBroadcaster.subscribe(OTHER_USER_ID, null);
+
+            // Then
+            assertThat(taskChangeBroadcaster.getSubscriberCount()).isEqualTo(2);
+        }
+
+        @Test
+        void ReplaysChangesAfterLastChangeId_LastChangeIdPresent() {
+            // Given
+            given(taskChangeLog.getOldestChangeId()).willReturn(Optional.of(1L));
+            given(taskChangeLog.getChangesAfter(USER_ID, 5L, TaskChangeSubscription.REPLAY_PAGE_SIZE)).willReturn(
+                    List.of(new TaskChange(6L, USER_ID, UUID.randomUUID(), TaskChange.Type.CREATED)));
+
+            // When
+            taskChangeBroadcaster.subscribe(USER_ID, 5L);
+
+            // Then
+            then(taskChangeLog).should(timeout(1000))
+                               .getChangesAfter(USER_ID, 5L, TaskChangeSubscription.REPLAY_PAGE_SIZE);
+        }
+
+    }
+
+    @Nested
+    class Publish {
+
+        @Test
+        void DisconnectsSubscriber_BufferOverflows() throws InterruptedException {
+            // Given
+            var replayStarted = blockReplay();
+            taskChangeBroadcaster.subscribe(USER_ID, 5L);
+            replayStarted.await();
+
+            // When
+            taskChangeBroadcaster.publish(new TaskChange(6L, USER_ID, UUID.randomUUID(), TaskChange.Type.CREATED));
+            taskChangeBroadcaster.publish(new TaskChange(7L, USER_ID, UUID.randomUUID(), TaskChange.Type.UPDATED));
+
+            // Then
+            assertThat(taskChangeBroadcaster.getSubscriberCount()).isZero();
+            assertThat(meterRegistry.counter("asapp.tasks.changes.overflows")
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void KeepsSubscriber_ChangesOfOtherUser() throws InterruptedException {
+            // Given
+            var replayStarted = blockReplay();
+            taskChangeBroadcaster.subscribe(USER_ID, 5L);
+            replayStarted.await();
+
+            // When
+            taskChangeBroadcaster.publish(new TaskChange(6L, OTHER_USER_ID, UUID.randomUUID(), TaskChange.Type.CREATED));
+            taskChangeBroadcaster.publish(new TaskChange(7L, OTHER_USER_ID, UUID.randomUUID(), TaskChange.Type.UPDATED));
+
+            // Then
+            assertThat(taskChangeBroadcaster.getSubscriberCount()).isEqualTo(1);
+            assertThat(meterRegistry.counter("asapp.tasks.changes.published")
+                                    .count()).isEqualTo(2);
+            assertThat(meterRegistry.counter("asapp.tasks.changes.overflows")
+                                    .count()).isZero();
+        }
+
+    }
+
+    @Nested
+    class DisconnectAll {
+
+        @Test
+        void ReleasesAllSubscribers_SubscribersConnected() {
+            // Given
+            taskChangeBroadcaster.subscribe(USER_ID, null);
+            taskChangeBroadcaster.subscribe(USER_ID, null);
+            taskChangeBroadcaster.subscribe(OTHER_USER_ID, null);
+
+            // When
+            taskChangeBroadcaster.disconnectAll();
+
+            // Then
+            assertThat(taskChangeBroadcaster.getSubscriberCount()).isZero();
+        }
+
+    }
+
+    /**
+     * Holds subscribers in their replay until the test ends, so that nothing drains their buffers.
+     *
+     * @return a latch released once a subscriber has started its replay
+     */
+    private CountDownLatch blockReplay() {
+        var replayStarted = new CountDownLatch(1);
+        given(taskChangeLog.getOldestChangeId()).willAnswer(_ -> {
+            replayStarted.countDown();
+            replayReleased.await();
+            return Optional.empty();
+        });
+        return replayStarted;
+    }
+
+}
@@ -0,0 +1,161 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTaskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskEntity;
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskRepository;
+import com.attrigo.asapp.tasks.testutil.TestContainerConfiguration;
+
+/**
+ * Tests {@link TaskChangeLog} against the change feed written by the {@code record_task_change} trigger in PostgreSQL.
+ * <p>
+ * Setup:
+ * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
+ * <p>
+ * Coverage:
+ * <li>Records task creations, updates and deletions in feed order</li>
+ * <li>Records moving a task to another user as a deletion for its previous owner and a creation for its new one</li>
+ * <li>Pages through a user's changes after a position, ignoring other users' changes</li>
+ * <li>Deletes only the changes older than the retention period</li>
+ */
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TestContainerConfiguration.class, TaskChangeLog.class })
+class TaskChangeLogIT {
+
+    @Autowired
+    private TaskChangeLog taskChangeLog;
+
+    @Autowired
+    private JdbcTaskRepository taskRepository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Nested
+    class GetChangesAfter {
+
+        @Test
+        void ReturnsChangesInFeedOrder_TaskCreatedUpdatedAndDeleted() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task = createTask(userId);
+            taskRepository.save(new JdbcTaskEntity(task.id(), userId, "New Title", task.description(), task.startDate(), task.endDate(), task.version()));
+            taskRepository.deleteTaskById(task.id());
+
+            // When
+            var actual = taskChangeLog.getChangesAfter(userId, 0, 10);
+
+            // Then
+            assertThat(actual).extracting(TaskChange::taskId, TaskChange::type)
+                              .containsExactly(tuple(task.id(), TaskChange.Type.CREATED), tuple(task.id(), TaskChange.Type.UPDATED),
+                                      tuple(task.id(), TaskChange.Type.DELETED));
+            assertThat(actual).extracting(TaskChange::changeId)
+                              .isSorted();
+        }
+
+        @Test
+        void ReturnsDeletionAndCreation_TaskMovedToAnotherUser() {
+            // Given
+            var userId = UUID.randomUUID();
+            var otherUserId = UUID.randomUUID();
+            var task = createTask(userId);
+            taskRepository.save(new JdbcTaskEntity(task.id(), otherUserId, task.title(), task.description(), task.startDate(), task.endDate(),
+                    task.version()));
+
+            // When
+            var actual = taskChangeLog.getChangesAfter(userId, 0, 10);
+            var actualOther = taskChangeLog.getChangesAfter(otherUserId, 0, 10);
+
+            // Then
+            assertThat(actual).extracting(TaskChange::type)
+                              .containsExactly(TaskChange.Type.CREATED, TaskChange.Type.DELETED);
+            assertThat(actualOther).extracting(TaskChange::type)
+                                   .containsExactly(TaskChange.Type.CREATED);
+        }
+
+        @Test
+        void ReturnsNextPage_AfterPosition() {
+            // Given
+            var userId = UUID.randomUUID();
+            createTask(userId);
+            createTask(UUID.randomUUID());
+            var task2 = createTask(userId);
+            var task3 = createTask(userId);
+            var firstChange = taskChangeLog.getChangesAfter(userId, 0, 1)
+                                           .getFirst();
+
+            // When
+            var actual = taskChangeLog.getChangesAfter(userId, firstChange.changeId(), 10);
+
+            // Then
+            assertThat(actual).extracting(TaskChange::taskId)
+                              .containsExactly(task2.id(), task3.id());
+        }
+
+    }
+
+    @Nested
+    class DeleteChangesOlderThan {
+
+        @Test
+        void DeletesOnlyExpiredChanges_ChangesOfDifferentAges() {
+            // Given
+            var userId = UUID.randomUUID();
+            var expiredTask = createTask(userId);
+            var recentTask = createTask(userId);
+            jdbcClient.sql("UPDATE task_changes SET changed_at = now() - interval '8 days' WHERE task_id = :taskId")
+                      .param("taskId", expiredTask.id())
+                      .update();
+
+            // When
+            var actual = taskChangeLog.deleteChangesOlderThan(Duration.ofDays(7));
+
+            // Then
+            assertThat(actual).isEqualTo(1);
+            assertThat(taskChangeLog.getChangesAfter(userId, 0, 10)).extracting(TaskChange::taskId)
+                                                                    .containsExactly(recentTask.id());
+        }
+
+    }
+
+    // Test Data Creation Helpers
+
+    private JdbcTaskEntity createTask(UUID userId) {
+        var task = aTaskBuilder().withUserId(userId)
+                                 .buildJdbc();
+        var createdTask = taskRepository.save(task);
+        return taskRepository.findById(createdTask.id())
+                             .orElseThrow();
+    }
+
+}
@@ -0,0 +1,94 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TaskChange} notification payload parsing.
+ * <p>
+ * Coverage:
+ * <li>Parses the change id, user id, task id and change type sent by the database trigger</li>
+ * <li>Rejects payloads with a wrong number of fields, malformed identifiers or an unknown change type</li>
+ */
+class TaskChangeTests {
+
+    @Nested
+    class FromPayload {
+
+        @Test
+        void ReturnsTaskChange_WellFormedPayload() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var taskId = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+            var payload = "42," + userId + "," + taskId + ",UPDATED";
+
+            // When
+            var actual = TaskChange.fromPayload(payload);
+
+            // Then
+            assertThat(actual).isEqualTo(new TaskChange(42L, userId, taskId, TaskChange.Type.UPDATED));
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_MissingFields() {
+            // Given
+            var payload = "42,550e8400-e29b-41d4-a716-446655440000,CREATED";
+
+            // When
+            var actual = catchThrowable(() -> TaskChange.fromPayload(payload));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Malformed task change notification: " + payload);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_MalformedChangeId() {
+            // Given
+            var payload = "forty-two,550e8400-e29b-41d4-a716-446655440000,660e8400-e29b-41d4-a716-446655440001,CREATED";
+
+            // When
+            var actual = catchThrowable(() -> TaskChange.fromPayload(payload));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Malformed task change notification: " + payload);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_UnknownChangeType() {
+            // Given
+            var payload = "42,550e8400-e29b-41d4-a716-446655440000,660e8400-e29b-41d4-a716-446655440001,MOVED";
+
+            // When
+            var actual = catchThrowable(() -> TaskChange.fromPayload(payload));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Malformed task change notification: " + payload);
+        }
+
+    }
+
+}
@@ -17,12 +17,24 @@
 package com.attrigo.asapp.tasks.infrastructure.task.in;
 
 import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTask;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FROM_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_TO_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_USER_ID_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CREATE_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_DELETE_BY_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_USER_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_STATS_BY_USER_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_IDS_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_QUERY_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_USER_ID_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_STATS_FROM_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_STATS_TO_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_UPDATE_BY_ID_FULL_PATH;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -31,9 +43,11 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -45,26 +59,39 @@ import static org.springframework.restdocs.request.RequestDocumentation.pathPara
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import com.attrigo.asapp.tasks.application.task.in.command.CreateTaskCommand;
+import com.attrigo.asapp.tasks.application.task.in.command.PatchTaskCommand;
 import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
 import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskField;
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.CreateTaskRequest;
+import com.attrigo.asapp.tasks.infrastructure.task.in.request.PatchTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.request.UpdateTaskRequest;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.CreateTaskResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetCalendarTasksResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskByIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskStatsResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksByUserIdResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.SearchTasksResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.UpdateTaskResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskCalendarCursor;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskSearchCursor;
+import com.attrigo.asapp.tasks.infrastructure.task.query.Versioned;
 import com.attrigo.asapp.tasks.testutil.RestDocsConstrainedFields;
 import com.attrigo.asapp.tasks.testutil.RestDocsWebMvcTestContext;
 
@@ -105,8 +132,7 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
                                        .value();
             var response = new GetTaskByIdResponse(taskIdValue, taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue, taskEndDateValue);
 
-            given(readTaskUseCase.getTaskById(any(UUID.class))).willReturn(Optional.of(task));
-            given(taskMapper.toGetTaskByIdResponse(any(Task.class))).willReturn(response);
+            given(taskQueryHandler.getTaskById(any(UUID.class))).willReturn(Optional.of(new Versioned<>(response, 0L)));
 
             // When & Then
             mockMvc.perform(get(TASKS_GET_BY_ID_FULL_PATH, taskIdValue).accept(APPLICATION_JSON)
@@ -123,7 +149,8 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
                                            fieldWithPath("title").description("The task's title"),
                                            fieldWithPath("description").description("The task's description"),
                                            fieldWithPath("startDate").description("The task's start date in ISO 8601 format"),
-                                           fieldWithPath("endDate").description("The task's end date in ISO 8601 format"))
+                                           fieldWithPath("endDate").description("The task's end date in ISO 8601 format")),
+                                   responseHeaders(headerWithName("ETag").description("The task's version, usable in If-None-Match and If-Match headers"))
                            )
                    // @formatter:on
                    );
@@ -153,8 +180,7 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
             var response = new GetTasksByUserIdResponse(taskIdValue, taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue,
                     taskEndDateValue);
 
-            given(readTaskUseCase.getTasksByUserId(any(UUID.class))).willReturn(List.of(task));
-            given(taskMapper.toGetTasksByUserIdResponse(any(Task.class))).willReturn(response);
+            given(taskQueryHandler.getTasksByUserId(any(UUID.class))).willReturn(List.of(response));
 
             // When & Then
             mockMvc.perform(get(TASKS_GET_BY_USER_ID_FULL_PATH, taskUserIdValue).accept(APPLICATION_JSON)
@@ -201,8 +227,7 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
                                        .value();
             var response = new GetTasksResponse(taskIdValue, taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue, taskEndDateValue);
 
-            given(readTaskUseCase.getTasksByIds(anyList())).willReturn(List.of(task));
-            given(taskMapper.toGetTasksResponse(any(Task.class))).willReturn(response);
+            given(taskQueryHandler.getTasksByIds(anyList())).willReturn(List.of(response));
 
             // When & Then
             mockMvc.perform(get(TASKS_GET_FULL_PATH).param(TASKS_IDS_PARAM, taskIdValue.toString())
@@ -244,8 +269,7 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
                                        .value();
             var response = new GetTasksResponse(taskIdValue, taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue, taskEndDateValue);
 
-            given(readTaskUseCase.getAllTasks()).willReturn(List.of(task));
-            given(taskMapper.toGetTasksResponse(any(Task.class))).willReturn(response);
+            given(taskQueryHandler.getAllTasks()).willReturn(List.of(response));
 
             // When & Then
             mockMvc.perform(get(TASKS_GET_FULL_PATH).accept(APPLICATION_JSON)
@@ -269,6 +293,165 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
 
     }
 
+    @Nested
+    class SearchTasks {
+
+        @Test
+        void DocumentsSearchTasks() throws Exception {
+            // Given
+            var task = aTask();
+            var taskIdValue = task.getId()
+                                  .value();
+            var taskUserIdValue = task.getUserId()
+                                      .value();
+            var taskTitleValue = task.getTitle()
+                                     .value();
+            var taskDescriptionValue = task.getDescription()
+                                           .value();
+            var taskStartDateValue = task.getStartDate()
+                                         .value();
+            var taskEndDateValue = task.getEndDate()
+                                       .value();
+            var nextCursor = new TaskSearchCursor(0.6079271, taskIdValue).encode();
+            var response = new SearchTasksResponse(
+                    List.of(new GetTasksResponse(taskIdValue, taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue, taskEndDateValue)),
+                    nextCursor);
+
+            given(taskQueryHandler.searchTasks(taskUserIdValue, "groceries", 1, null)).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(get(TASKS_SEARCH_FULL_PATH).param(TASKS_SEARCH_USER_ID_PARAM, taskUserIdValue.toString())
+                                                       .param(TASKS_SEARCH_QUERY_PARAM, "groceries")
+                                                       .param(TASKS_SEARCH_LIMIT_PARAM, "1")
+                                                       .accept(APPLICATION_JSON)
+                                                       .header(AUTHORIZATION, "Bearer sample.access.token"))
+                   .andExpect(status().isOk())
+                   .andDo(
+                   // @formatter:off
+                           document("search-tasks",
+                                   requestHeaders(headerWithName("Authorization").description("Bearer JWT access token")),
+                                   queryParameters(
+                                           parameterWithName("userId").description("The unique identifier of the user whose tasks are searched"),
+                                           parameterWithName("query").description("The search text, matched against titles and descriptions; supports quoted phrases, `or` and `-` exclusions, tolerates typos and matches title prefixes"),
+                                           parameterWithName("limit").description("Optional maximum number of tasks per page, between 1 and 100; defaults to 20"),
+                                           parameterWithName("cursor").optional().description("Optional cursor returned by the previous page; omit to get the first page")),
+                                   responseFields(
+                                           fieldWithPath("tasks[].taskId").description("The task's unique identifier"),
+                                           fieldWithPath("tasks[].userId").description("The task's owner unique identifier"),
+                                           fieldWithPath("tasks[].title").description("The task's title"),
+                                           fieldWithPath("tasks[].description").description("The task's description"),
+                                           fieldWithPath("tasks[].startDate").description("The task's start date in ISO 8601 format"),
+                                           fieldWithPath("tasks[].endDate").description("The task's end date in ISO 8601 format"),
+                                           fieldWithPath("nextCursor").type(JsonFieldType.STRING).optional().description("Cursor of the next page, or null when this is the last page"))
+                           )
+                   // @formatter:on
+                   );
+        }
+
+    }
+
+    @Nested
+    class GetCalendarTasks {
+
+        @Test
+        void DocumentsGetCalendarTasks() throws Exception {
+            // Given
+            var task = aTask();
+            var taskIdValue = task.getId()
+                                  .value();
+            var taskUserIdValue = task.getUserId()
+                                      .value();
+            var taskTitleValue = task.getTitle()
+                                     .value();
+            var taskDescriptionValue = task.getDescription()
+                                           .value();
+            var taskStartDateValue = task.getStartDate()
+                                         .value();
+            var taskEndDateValue = task.getEndDate()
+                                       .value();
+            var from = taskStartDateValue.minus(Duration.ofDays(1));
+            var to = from.plus(Duration.ofDays(7));
+            var nextCursor = new TaskCalendarCursor(taskStartDateValue, taskIdValue).encode();
+            var response = new GetCalendarTasksResponse(
+                    List.of(new GetTasksResponse(taskIdValue, taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue, taskEndDateValue)),
+                    nextCursor);
+
+            given(taskQueryHandler.getCalendarTasks(taskUserIdValue, from, to, 1, null)).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(get(TASKS_CALENDAR_FULL_PATH).param(TASKS_CALENDAR_USER_ID_PARAM, taskUserIdValue.toString())
+                                                         .param(TASKS_CALENDAR_FROM_PARAM, from.toString())
+                                                         .param(TASKS_CALENDAR_TO_PARAM, to.toString())
+                                                         .param(TASKS_CALENDAR_LIMIT_PARAM, "1")
+                                                         .accept(APPLICATION_JSON)
+                                                         .header(AUTHORIZATION, "Bearer sample.access.token"))
+                   .andExpect(status().isOk())
+                   .andDo(
+                   // @formatter:off
+                           document("get-calendar-tasks",
+                                   requestHeaders(headerWithName("Authorization").description("Bearer JWT access token")),
+                                   queryParameters(
+                                           parameterWithName("userId").description("The unique identifier of the user whose tasks are retrieved"),
+                                           parameterWithName("from").description("The start of the range, inclusive, in ISO 8601 format"),
+                                           parameterWithName("to").description("The end of the range, exclusive, in ISO 8601 format; must be after `from`"),
+                                           parameterWithName("limit").description("Optional maximum number of tasks per page, between 1 and 500; defaults to 100"),
+                                           parameterWithName("cursor").optional().description("Optional cursor returned by the previous page; omit to get the first page")),
+                                   responseFields(
+                                           fieldWithPath("tasks[].taskId").description("The task's unique identifier"),
+                                           fieldWithPath("tasks[].userId").description("The task's owner unique identifier"),
+                                           fieldWithPath("tasks[].title").description("The task's title"),
+                                           fieldWithPath("tasks[].description").description("The task's description"),
+                                           fieldWithPath("tasks[].startDate").description("The task's start date in ISO 8601 format"),
+                                           fieldWithPath("tasks[].endDate").description("The task's end date in ISO 8601 format"),
+                                           fieldWithPath("nextCursor").type(JsonFieldType.STRING).optional().description("Cursor of the next page, or null when this is the last page"))
+                           )
+                   // @formatter:on
+                   );
+        }
+
+    }
+
+    @Nested
+    class GetTaskStatsByUserId {
+
+        @Test
+        void DocumentsGetTaskStatsByUserId() throws Exception {
+            // Given
+            var userId = aTask().getUserId()
+                                .value();
+            var from = Instant.parse("2026-10-19T00:00:00Z");
+            var to = Instant.parse("2026-10-26T00:00:00Z");
+            var response = new GetTaskStatsResponse(userId, 12, 9, 2, 4L);
+
+            given(taskQueryHandler.getTaskStatsByUserId(userId, from, to)).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(get(TASKS_GET_STATS_BY_USER_ID_FULL_PATH, userId).param(TASKS_STATS_FROM_PARAM, from.toString())
+                                                                             .param(TASKS_STATS_TO_PARAM, to.toString())
+                                                                             .accept(APPLICATION_JSON)
+                                                                             .header(AUTHORIZATION, "Bearer sample.access.token"))
+                   .andExpect(status().isOk())
+                   .andDo(
+                   // @formatter:off
+                           document("get-task-stats-by-user-id",
+                                   requestHeaders(headerWithName("Authorization").description("Bearer JWT access token")),
+                                   pathParameters(parameterWithName("id").description("The unique identifier of the user whose tasks are counted")),
+                                   queryParameters(
+                                           parameterWithName("from").optional().description("Optional start of the range to count tasks in, inclusive, in ISO 8601 format; requires `to`"),
+                                           parameterWithName("to").optional().description("Optional end of the range to count tasks in, exclusive, in ISO 8601 format; requires `from` and must be after it")),
+                                   responseFields(
+                                           fieldWithPath("userId").description("The user's unique identifier"),
+                                           fieldWithPath("totalTasks").description("The number of tasks the user owns"),
+                                           fieldWithPath("scheduledTasks").description("The number of the user's tasks with a start date"),
+                                           fieldWithPath("overdueTasks").description("The number of the user's scheduled tasks whose schedule has already ended"),
+                                           fieldWithPath("tasksInRange").type(JsonFieldType.NUMBER).optional().description("The number of the user's tasks overlapping the range; omitted when no range is given"))
+                           )
+                   // @formatter:on
+                   );
+        }
+
+    }
+
     @Nested
     class CreateTask {
 
@@ -359,10 +542,10 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
                     }
                     """.formatted(taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue, taskEndDateValue);
             var updateTaskCommand = new UpdateTaskCommand(taskIdValue, taskUserIdValue, taskTitleValue, taskDescriptionValue, taskStartDateValue,
-                    taskEndDateValue);
+                    taskEndDateValue, null);
             var response = new UpdateTaskResponse(taskIdValue);
 
-            given(taskMapper.toUpdateTaskCommand(any(UUID.class), any(UpdateTaskRequest.class))).willReturn(updateTaskCommand);
+            given(taskMapper.toUpdateTaskCommand(any(UUID.class), any(), any(UpdateTaskRequest.class))).willReturn(updateTaskCommand);
             given(updateTaskUseCase.updateTaskById(any(UpdateTaskCommand.class))).willReturn(Optional.of(task));
             given(taskMapper.toUpdateTaskResponse(any(Task.class))).willReturn(response);
 
@@ -383,7 +566,60 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
                                            fields.withPath("startDate").description("The task's start date in ISO 8601 format").optional(),
                                            fields.withPath("endDate").description("The task's end date in ISO 8601 format").optional()
                                    ),
-                                   responseFields(fieldWithPath("taskId").description("The updated task's unique identifier"))
+                                   responseFields(fieldWithPath("taskId").description("The updated task's unique identifier")),
+                                   responseHeaders(headerWithName("ETag").description("The updated task's version"))
+                           )
+                   // @formatter:on
+                   );
+        }
+
+    }
+
+    @Nested
+    class PatchTaskById {
+
+        @Test
+        void DocumentsPatchTaskById_TaskFound() throws Exception {
+            // Given
+            var fields = new RestDocsConstrainedFields(PatchTaskRequest.class);
+            var task = aTask();
+            var taskIdValue = task.getId()
+                                  .value();
+            var taskTitleValue = task.getTitle()
+                                     .value();
+            var requestBody = """
+                    {
+                        "title": "%s",
+                        "description": null
+                    }
+                    """.formatted(taskTitleValue);
+            var patchTaskCommand = new PatchTaskCommand(taskIdValue, Set.of(TaskField.TITLE, TaskField.DESCRIPTION), null, taskTitleValue, null, null, null,
+                    null);
+            var response = new UpdateTaskResponse(taskIdValue);
+
+            given(taskMapper.toPatchTaskCommand(any(UUID.class), any(), any(PatchTaskRequest.class))).willReturn(patchTaskCommand);
+            given(patchTaskUseCase.patchTaskById(any(PatchTaskCommand.class))).willReturn(Optional.of(task));
+            given(taskMapper.toUpdateTaskResponse(any(Task.class))).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(patch(TASKS_UPDATE_BY_ID_FULL_PATH, taskIdValue).contentType("application/merge-patch+json")
+                                                                            .content(requestBody)
+                                                                            .header(AUTHORIZATION, "Bearer sample.access.token"))
+                   .andExpect(status().isOk())
+                   .andDo(
+                   // @formatter:off
+                           document("patch-task-by-id",
+                                   requestHeaders(headerWithName("Authorization").description("Bearer JWT access token")),
+                                   pathParameters(parameterWithName("id").description("The task's unique identifier")),
+                                   requestFields(
+                                           fields.withPath("userId").type(JsonFieldType.STRING).description("The task's new owner unique identifier").optional(),
+                                           fields.withPath("title").type(JsonFieldType.STRING).description("The task's new title").optional(),
+                                           fields.withPath("description").type(JsonFieldType.STRING).description("The task's new description, null removes it").optional(),
+                                           fields.withPath("startDate").type(JsonFieldType.STRING).description("The task's new start date, null removes it").optional(),
+                                           fields.withPath("endDate").type(JsonFieldType.STRING).description("The task's new end date, null removes it").optional()
+                                   ),
+                                   responseFields(fieldWithPath("taskId").description("The patched task's unique identifier")),
+                                   responseHeaders(headerWithName("ETag").description("The patched task's version"))
                            )
                    // @formatter:on
                    );
@@ -510,7 +746,7 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
             // Given
             var taskIdValue = UUID.fromString("00000000-0000-0000-0000-000000000001");
 
-            given(readTaskUseCase.getTaskById(any(UUID.class))).willReturn(Optional.empty());
+            given(taskQueryHandler.getTaskById(any(UUID.class))).willReturn(Optional.empty());
 
             // When & Then
             mockMvc.perform(get(TASKS_GET_BY_ID_FULL_PATH, taskIdValue).accept(APPLICATION_JSON))
@@ -523,7 +759,7 @@ class TaskApiDocumentationIT extends RestDocsWebMvcTestContext {
             // Given
             var taskIdValue = UUID.fromString("00000000-0000-0000-0000-000000000001");
 
-            given(readTaskUseCase.getTaskById(any(UUID.class))).willThrow(new DataRetrievalFailureException("Database error"));
+            given(taskQueryHandler.getTaskById(any(UUID.class))).willThrow(new DataRetrievalFailureException("Database error"));
 
             // When & Then
             mockMvc.perform(get(TASKS_GET_BY_ID_FULL_PATH, taskIdValue).accept(APPLICATION_JSON))
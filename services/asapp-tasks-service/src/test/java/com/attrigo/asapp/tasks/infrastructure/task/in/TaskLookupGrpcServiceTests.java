@@ -0,0 +1,274 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.in;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdResponse;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsResponse;
+import com.attrigo.asapp.grpc.clients.tasks.UuidMapper;
+import com.attrigo.asapp.tasks.infrastructure.deadline.DeadlineExceededException;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler;
+import com.attrigo.asapp.tasks.infrastructure.task.query.UserTaskIds;
+
+/**
+ * Tests {@link TaskLookupGrpcService} lookups, streaming in batches and failure translation.
+ * <p>
+ * Coverage:
+ * <li>Returns the task ids of a user</li>
+ * <li>Rejects lookups without user id as invalid</li>
+ * <li>Returns the task ids of several users in a single response</li>
+ * <li>Translates too many ids into an invalid argument status</li>
+ * <li>Streams the task ids of each user, reading the users in batches</li>
+ * <li>Stops streaming once the caller cancels the call</li>
+ * <li>Translates database outages into an unavailable status and exhausted deadlines into a deadline exceeded status</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskLookupGrpcServiceTests {
+
+    private static final UUID USER_ID_1 = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    private static final UUID USER_ID_2 = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    private static final UUID USER_ID_3 = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    private static final UUID TASK_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+
+    @Mock
+    private TaskQueryHandler taskQueryHandler;
+
+    @Mock
+    private StreamObserver<GetTaskIdsByUserIdResponse> unaryObserver;
+
+    @Mock
+    private StreamObserver<GetTaskIdsByUserIdsResponse> batchObserver;
+
+    @Mock
+    private ServerCallStreamObserver<com.attrigo.asapp.grpc.clients.tasks.UserTaskIds> streamObserver;
+
+    private TaskLookupGrpcService taskLookupGrpcService() {
+        return new TaskLookupGrpcService(taskQueryHandler, 2);
+    }
+
+    private static GetTaskIdsByUserIdsRequest requestOf(UUID... userIds) {
+        return GetTaskIdsByUserIdsRequest.newBuilder()
+                                         .addAllUserIds(UuidMapper.toMessages(List.of(userIds)))
+                                         .build();
+    }
+
+    private static boolean hasCode(Throwable throwable, Status.Code code) {
+        return throwable instanceof StatusRuntimeException statusException && statusException.getStatus()
+                                                                                             .getCode() == code;
+    }
+
+    @Nested
+    class GetTaskIdsByUserId {
+
+        @Test
+        void ReturnsTaskIds_UserHasTasks() {
+            // Given
+            var request = GetTaskIdsByUserIdRequest.newBuilder()
+                                                   .setUserId(UuidMapper.toMessage(USER_ID_1))
+                                                   .build();
+
+            given(taskQueryHandler.getTaskIdsByUserId(USER_ID_1)).willReturn(List.of(TASK_ID));
+
+            // When
+            taskLookupGrpcService().getTaskIdsByUserId(request, unaryObserver);
+
+            // Then
+            then(unaryObserver).should(times(1))
+                               .onNext(GetTaskIdsByUserIdResponse.newBuilder()
+                                                                 .addTaskIds(UuidMapper.toMessage(TASK_ID))
+                                                                 .build());
+            then(unaryObserver).should(times(1))
+                               .onCompleted();
+        }
+
+        @Test
+        void FailsWithInvalidArgument_UserIdMissing() {
+            // Given
+            var request = GetTaskIdsByUserIdRequest.getDefaultInstance();
+
+            // When
+            taskLookupGrpcService().getTaskIdsByUserId(request, unaryObserver);
+
+            // Then
+            then(unaryObserver).should(times(1))
+                               .onError(argThat(error -> hasCode(error, Status.Code.INVALID_ARGUMENT)));
+            then(taskQueryHandler).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void FailsWithUnavailable_DatabaseUnavailable() {
+            // Given
+            var request = GetTaskIdsByUserIdRequest.newBuilder()
+                                                   .setUserId(UuidMapper.toMessage(USER_ID_1))
+                                                   .build();
+
+            given(taskQueryHandler.getTaskIdsByUserId(USER_ID_1)).willThrow(new CannotGetJdbcConnectionException("no connection"));
+
+            // When
+            taskLookupGrpcService().getTaskIdsByUserId(request, unaryObserver);
+
+            // Then
+            then(unaryObserver).should(times(1))
+                               .onError(argThat(error -> hasCode(error, Status.Code.UNAVAILABLE)));
+            then(unaryObserver).should(times(0))
+                               .onCompleted();
+        }
+
+        @Test
+        void FailsWithDeadlineExceeded_DeadlineExpired() {
+            // Given
+            var request = GetTaskIdsByUserIdRequest.newBuilder()
+                                                   .setUserId(UuidMapper.toMessage(USER_ID_1))
+                                                   .build();
+
+            given(taskQueryHandler.getTaskIdsByUserId(USER_ID_1)).willThrow(new DeadlineExceededException("expired"));
+
+            // When
+            taskLookupGrpcService().getTaskIdsByUserId(request, unaryObserver);
+
+            // Then
+            then(unaryObserver).should(times(1))
+                               .onError(argThat(error -> hasCode(error, Status.Code.DEADLINE_EXCEEDED)));
+        }
+
+    }
+
+    @Nested
+    class GetTaskIdsByUserIds {
+
+        @Test
+        void ReturnsTaskIdsOfEveryUser_SeveralUsers() {
+            // Given
+            given(taskQueryHandler.getTaskIdsByUserIds(List.of(USER_ID_1, USER_ID_2))).willReturn(
+                    List.of(new UserTaskIds(USER_ID_1, List.of(TASK_ID)), new UserTaskIds(USER_ID_2, List.of())));
+
+            // When
+            taskLookupGrpcService().getTaskIdsByUserIds(requestOf(USER_ID_1, USER_ID_2), batchObserver);
+
+            // Then
+            var response = ArgumentCaptor.forClass(GetTaskIdsByUserIdsResponse.class);
+            then(batchObserver).should(times(1))
+                               .onNext(response.capture());
+            then(batchObserver).should(times(1))
+                               .onCompleted();
+
+            assertThat(response.getValue()
+                               .getUsersList()).extracting(user -> UuidMapper.fromMessage(user.getUserId()), user -> user.getTaskIdsCount())
+                                               .containsExactly(tuple(USER_ID_1, 1),
+                                                       tuple(USER_ID_2, 0));
+        }
+
+        @Test
+        void FailsWithInvalidArgument_TooManyUserIds() {
+            // Given
+            given(taskQueryHandler.getTaskIdsByUserIds(List.of(USER_ID_1, USER_ID_2))).willThrow(new IllegalArgumentException("Too many ids"));
+
+            // When
+            taskLookupGrpcService().getTaskIdsByUserIds(requestOf(USER_ID_1, USER_ID_2), batchObserver);
+
+            // Then
+            then(batchObserver).should(times(1))
+                               .onError(argThat(error -> hasCode(error, Status.Code.INVALID_ARGUMENT)));
+        }
+
+    }
+
+    @Nested
+    class StreamTaskIdsByUserIds {
+
+        @Test
+        void StreamsTaskIdsInBatches_MoreUsersThanBatchSize() {
+            // Given
+            given(taskQueryHandler.getTaskIdsByUserIds(List.of(USER_ID_1, USER_ID_2))).willReturn(
+                    List.of(new UserTaskIds(USER_ID_1, List.of(TASK_ID)), new UserTaskIds(USER_ID_2, List.of())));
+            given(taskQueryHandler.getTaskIdsByUserIds(List.of(USER_ID_3))).willReturn(List.of(new UserTaskIds(USER_ID_3, List.of())));
+
+            // When
+            taskLookupGrpcService().streamTaskIdsByUserIds(requestOf(USER_ID_1, USER_ID_2, USER_ID_1, USER_ID_3), streamObserver);
+
+            // Then
+            var messages = ArgumentCaptor.forClass(com.attrigo.asapp.grpc.clients.tasks.UserTaskIds.class);
+            then(streamObserver).should(times(3))
+                                .onNext(messages.capture());
+            then(streamObserver).should(times(1))
+                                .onCompleted();
+
+            assertThat(messages.getAllValues()).extracting(message -> UuidMapper.fromMessage(message.getUserId()))
+                                               .containsExactly(USER_ID_1, USER_ID_2, USER_ID_3);
+        }
+
+        @Test
+        void StopsStreaming_CallCancelled() {
+            // Given
+            given(streamObserver.isCancelled()).willReturn(false, true);
+            given(taskQueryHandler.getTaskIdsByUserIds(List.of(USER_ID_1, USER_ID_2))).willReturn(
+                    List.of(new UserTaskIds(USER_ID_1, List.of()), new UserTaskIds(USER_ID_2, List.of())));
+
+            // When
+            taskLookupGrpcService().streamTaskIdsByUserIds(requestOf(USER_ID_1, USER_ID_2, USER_ID_3), streamObserver);
+
+            // Then
+            then(taskQueryHandler).should(times(0))
+                                  .getTaskIdsByUserIds(List.of(USER_ID_3));
+            then(streamObserver).should(times(0))
+                                .onCompleted();
+        }
+
+        @Test
+        void FailsWithUnavailable_DatabaseUnavailable() {
+            // Given
+            given(taskQueryHandler.getTaskIdsByUserIds(any())).willThrow(new CannotGetJdbcConnectionException("no connection"));
+
+            // When
+            taskLookupGrpcService().streamTaskIdsByUserIds(requestOf(USER_ID_1), streamObserver);
+
+            // Then
+            then(streamObserver).should(times(1))
+                                .onError(argThat(error -> hasCode(error, Status.Code.UNAVAILABLE)));
+        }
+
+    }
+
+}
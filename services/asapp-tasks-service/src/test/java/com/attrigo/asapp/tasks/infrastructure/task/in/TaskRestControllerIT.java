@@ -16,21 +16,36 @@
 
 package com.attrigo.asapp.tasks.infrastructure.task.in;
 
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FROM_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_TO_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CALENDAR_USER_ID_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_CREATE_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_DELETE_BY_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_BY_USER_ID_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_CHANGES_BY_USER_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_GET_STATS_BY_USER_ID_FULL_PATH;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_IDS_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_ROOT_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_FULL_PATH;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_LIMIT_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_QUERY_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_SEARCH_USER_ID_PARAM;
+import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_STATS_FROM_PARAM;
 import static com.attrigo.asapp.url.tasks.TaskApiUrl.TASKS_UPDATE_BY_ID_FULL_PATH;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.UUID;
 import java.util.stream.IntStream;
@@ -40,7 +55,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.attrigo.asapp.tasks.infrastructure.task.changes.TaskChange;
 import com.attrigo.asapp.tasks.testutil.WebMvcTestContext;
 
 /**
@@ -51,15 +68,21 @@ import com.attrigo.asapp.tasks.testutil.WebMvcTestContext;
  * <p>
  * Coverage:
  * <li>Validates path parameter format (UUID required for task and user IDs)</li>
- * <li>Validates request content type (JSON required for POST/PUT operations)</li>
+ * <li>Validates request content type (JSON required for POST/PUT operations, JSON Merge Patch for PATCH)</li>
  * <li>Validates request body presence and structure</li>
- * <li>Validates mandatory field constraints (user ID, title)</li>
+ * <li>Validates mandatory field constraints (user ID, title), including their removal through a merge patch</li>
+ * <li>Validates search parameters (user ID, query, limit)</li>
+ * <li>Validates calendar parameters (user ID, range, limit)</li>
+ * <li>Validates statistics parameters (user ID, range)</li>
+ * <li>Streams task changes as server-sent events and validates the Last-Event-ID header</li>
  * <li>Returns RFC 7807 Problem Details for all validation failures</li>
- * <li>Tests all HTTP endpoints (GET by ID, GET by IDs, GET by user, POST, PUT, DELETE)</li>
+ * <li>Tests all HTTP endpoints (GET by ID, GET by IDs, GET by user, search, calendar, statistics, changes, POST, PUT, PATCH, DELETE)</li>
  */
 @WithMockUser
 class TaskRestControllerIT extends WebMvcTestContext {
 
+    private static final MediaType MERGE_PATCH_JSON = MediaType.valueOf("application/merge-patch+json");
+
     @Nested
     class GetTaskById {
 
@@ -241,6 +264,264 @@ class TaskRestControllerIT extends WebMvcTestContext {
 
     }
 
+    @Nested
+    class SearchTasks {
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_BlankQuery() {
+            // Given
+            var requestBuilder = get(TASKS_SEARCH_FULL_PATH).param(TASKS_SEARCH_USER_ID_PARAM, UUID.randomUUID()
+                                                                                                   .toString())
+                                                            .param(TASKS_SEARCH_QUERY_PARAM, " ");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/tasks/search");
+                                  assertThatJson(json).node("fieldErrors")
+                                                      .isArray()
+                                                      .hasSize(1);
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "query")
+                                                      .containsEntry("message", "Search query must not be blank");
+                              });
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_LimitOutOfRange() {
+            // Given
+            var requestBuilder = get(TASKS_SEARCH_FULL_PATH).param(TASKS_SEARCH_USER_ID_PARAM, UUID.randomUUID()
+                                                                                                   .toString())
+                                                            .param(TASKS_SEARCH_QUERY_PARAM, "groceries")
+                                                            .param(TASKS_SEARCH_LIMIT_PARAM, "101");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/tasks/search");
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "limit")
+                                                      .containsEntry("message", "Search limit must be between 1 and 100");
+                              });
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_MissingUserId() {
+            // Given
+            var requestBuilder = get(TASKS_SEARCH_FULL_PATH).param(TASKS_SEARCH_QUERY_PARAM, "groceries");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("instance", "/api/tasks/search"));
+        }
+
+    }
+
+    @Nested
+    class GetCalendarTasks {
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_LimitOutOfRange() {
+            // Given
+            var requestBuilder = get(TASKS_CALENDAR_FULL_PATH).param(TASKS_CALENDAR_USER_ID_PARAM, UUID.randomUUID()
+                                                                                                       .toString())
+                                                              .param(TASKS_CALENDAR_FROM_PARAM, "2026-10-19T00:00:00Z")
+                                                              .param(TASKS_CALENDAR_TO_PARAM, "2026-10-26T00:00:00Z")
+                                                              .param(TASKS_CALENDAR_LIMIT_PARAM, "501");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/tasks/calendar");
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "limit")
+                                                      .containsEntry("message", "Calendar limit must be between 1 and 500");
+                              });
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidFrom() {
+            // Given
+            var requestBuilder = get(TASKS_CALENDAR_FULL_PATH).param(TASKS_CALENDAR_USER_ID_PARAM, UUID.randomUUID()
+                                                                                                       .toString())
+                                                              .param(TASKS_CALENDAR_FROM_PARAM, "next monday")
+                                                              .param(TASKS_CALENDAR_TO_PARAM, "2026-10-26T00:00:00Z");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("instance", "/api/tasks/calendar"));
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_MissingTo() {
+            // Given
+            var requestBuilder = get(TASKS_CALENDAR_FULL_PATH).param(TASKS_CALENDAR_USER_ID_PARAM, UUID.randomUUID()
+                                                                                                       .toString())
+                                                              .param(TASKS_CALENDAR_FROM_PARAM, "2026-10-19T00:00:00Z");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("instance", "/api/tasks/calendar"));
+        }
+
+    }
+
+    @Nested
+    class GetTaskStatsByUserId {
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidUserId() {
+            // Given
+            var userId = 1L;
+            var requestBuilder = get(TASKS_GET_STATS_BY_USER_ID_FULL_PATH, userId);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("detail", "Failed to convert 'id' with value: '1'")
+                                                                     .containsEntry("instance", "/api/tasks/user/1/stats"));
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidFrom() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var requestBuilder = get(TASKS_GET_STATS_BY_USER_ID_FULL_PATH, userId).param(TASKS_STATS_FROM_PARAM, "next monday");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("instance", "/api/tasks/user/" + userId + "/stats"));
+        }
+
+    }
+
+    @Nested
+    class GetTaskChangesByUserId {
+
+        @Test
+        void ReturnsStatusOkAndEventStream_ChangesPublished() throws IOException {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var taskId = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+            var emitter = new SseEmitter();
+            emitter.send(SseEmitter.event()
+                                   .id("43")
+                                   .name("created")
+                                   .data(new TaskChange(43L, userId, taskId, TaskChange.Type.CREATED), MediaType.APPLICATION_JSON));
+            emitter.complete();
+            var requestBuilder = get(TASKS_GET_CHANGES_BY_USER_ID_FULL_PATH, userId).header("Last-Event-ID", "42");
+
+            given(taskChangeBroadcaster.subscribe(userId, 42L)).willReturn(emitter);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.OK)
+                              .hasContentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                              .bodyText()
+                              .contains("id:43", "event:created", "\"taskId\":\"" + taskId + "\"");
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidLastEventId() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var requestBuilder = get(TASKS_GET_CHANGES_BY_USER_ID_FULL_PATH, userId).header("Last-Event-ID", "latest");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("instance", "/api/tasks/user/" + userId + "/changes"));
+        }
+
+    }
+
     @Nested
     class CreateTask {
 
@@ -560,6 +841,162 @@ class TaskRestControllerIT extends WebMvcTestContext {
 
     }
 
+    @Nested
+    class PatchTaskById {
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidTaskId() {
+            // Given
+            var taskId = 1L;
+            var requestBody = """
+                    {
+                    "title": "New Title"
+                    }
+                    """;
+            var requestBuilder = patch(TASKS_UPDATE_BY_ID_FULL_PATH, taskId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("detail", "Failed to convert 'id' with value: '1'")
+                                                                     .containsEntry("instance", "/api/tasks/1"));
+        }
+
+        @Test
+        void ReturnsStatusUnsupportedMediaTypeAndBodyWithProblemDetail_NonMergePatchRequestBody() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBody = """
+                    {
+                    "title": "New Title"
+                    }
+                    """;
+            var requestBuilder = patch(TASKS_UPDATE_BY_ID_FULL_PATH, taskId).contentType(MediaType.APPLICATION_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Unsupported Media Type")
+                                                                     .containsEntry("status", 415)
+                                                                     .containsEntry("detail", "Content-Type 'application/json' is not supported.")
+                                                                     .containsEntry("instance", "/api/tasks/" + taskId));
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_MissingRequestBody() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBody = "";
+            var requestBuilder = patch(TASKS_UPDATE_BY_ID_FULL_PATH, taskId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("detail", "Failed to read request")
+                                                                     .containsEntry("instance", "/api/tasks/" + taskId));
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_NullMandatoryFields() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBody = """
+                    {
+                    "userId": null,
+                    "title": null
+                    }
+                    """;
+            var requestBuilder = patch(TASKS_UPDATE_BY_ID_FULL_PATH, taskId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/tasks/" + taskId);
+                                  assertThatJson(json).node("fieldErrors")
+                                                      .isArray()
+                                                      .hasSize(2);
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "title")
+                                                      .containsEntry("message", "The title must not be empty");
+                                  assertThatJson(json).node("fieldErrors[1]")
+                                                      .isObject()
+                                                      .containsEntry("field", "userId")
+                                                      .containsEntry("message", "The user ID must not be empty");
+                              });
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_EmptyMandatoryFields() {
+            // Given
+            var taskId = UUID.fromString("e3a8c5d1-7f9b-482b-9f6a-2d8e5b7c9f3a");
+            var requestBody = """
+                    {
+                    "userId": "",
+                    "title": ""
+                    }
+                    """;
+            var requestBuilder = patch(TASKS_UPDATE_BY_ID_FULL_PATH, taskId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/tasks/" + taskId);
+                                  assertThatJson(json).node("fieldErrors")
+                                                      .isArray()
+                                                      .hasSize(2);
+                              });
+        }
+
+    }
+
     @Nested
     class DeleteTaskById {
 
@@ -17,13 +17,18 @@
 package com.attrigo.asapp.tasks.infrastructure.task.in;
 
 import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTask;
+import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTaskBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.any;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -31,32 +36,237 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.attrigo.asapp.tasks.application.task.in.ReadTaskUseCase;
+import com.attrigo.asapp.tasks.application.task.in.PatchTaskUseCase;
+import com.attrigo.asapp.tasks.application.task.in.UpdateTaskUseCase;
+import com.attrigo.asapp.tasks.application.task.in.command.PatchTaskCommand;
+import com.attrigo.asapp.tasks.application.task.in.command.UpdateTaskCommand;
 import com.attrigo.asapp.tasks.domain.task.Task;
+import com.attrigo.asapp.tasks.domain.task.TaskField;
+import com.attrigo.asapp.tasks.infrastructure.task.in.request.PatchTaskRequest;
+import com.attrigo.asapp.tasks.infrastructure.task.in.request.UpdateTaskRequest;
+import com.attrigo.asapp.tasks.infrastructure.task.changes.TaskChangeBroadcaster;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetCalendarTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskByIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskStatsResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.SearchTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.UpdateTaskResponse;
 import com.attrigo.asapp.tasks.infrastructure.task.mapper.TaskMapper;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler;
+import com.attrigo.asapp.tasks.infrastructure.task.query.Versioned;
 
 /**
- * Tests {@link TaskRestController} request dispatch between retrieving all tasks and retrieving tasks by identifiers.
+ * Tests {@link TaskRestController} request dispatch and conditional request handling.
  * <p>
  * Coverage:
+ * <li>Answers a matching {@code If-None-Match} with 304 from the version alone, without reading the task</li>
+ * <li>Returns the task with its version as {@code ETag} when the header is absent or stale</li>
+ * <li>Passes the {@code If-Match} version to the update command and returns the new version as {@code ETag}</li>
+ * <li>Passes the {@code If-Match} version to the patch command and returns the new version as {@code ETag}, or 404 when the task does not exist</li>
  * <li>Retrieves all tasks when no identifiers are supplied</li>
  * <li>Retrieves only the requested tasks when identifiers are supplied</li>
  * <li>Skips the unused retrieval path on each branch</li>
+ * <li>Delegates task searches to the query handler</li>
+ * <li>Delegates calendar range queries to the query handler</li>
+ * <li>Delegates task statistics queries to the query handler</li>
+ * <li>Subscribes task change streams to the broadcaster, resuming after the last event id</li>
  */
 @ExtendWith(MockitoExtension.class)
 class TaskRestControllerTests {
 
     @Mock
-    private ReadTaskUseCase readTaskUseCase;
+    private TaskQueryHandler taskQueryHandler;
+
+    @Mock
+    private UpdateTaskUseCase updateTaskUseCase;
+
+    @Mock
+    private PatchTaskUseCase patchTaskUseCase;
 
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskChangeBroadcaster taskChangeBroadcaster;
+
     @InjectMocks
     private TaskRestController taskRestController;
 
+    @Nested
+    class GetTaskById {
+
+        @Test
+        void ReturnsStatusNotModifiedWithoutReadingTask_IfNoneMatchCurrentVersion() {
+            // Given
+            var taskId = aTask().getId()
+                                .value();
+
+            given(taskQueryHandler.getTaskVersion(taskId)).willReturn(Optional.of(3L));
+
+            // When
+            var actual = taskRestController.getTaskById(taskId, "\"3\"");
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.NOT_MODIFIED);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isEqualTo("\"3\"");
+                softly.assertThat(actual.getBody()).as("body").isNull();
+                // @formatter:on
+            });
+
+            then(taskQueryHandler).should(never())
+                                  .getTaskById(any());
+        }
+
+        @Test
+        void ReturnsTaskWithETag_IfNoneMatchStaleVersion() {
+            // Given
+            var task = aTask();
+            var taskId = task.getId()
+                             .value();
+            var response = buildGetTaskByIdResponse(task);
+
+            given(taskQueryHandler.getTaskVersion(taskId)).willReturn(Optional.of(4L));
+            given(taskQueryHandler.getTaskById(taskId)).willReturn(Optional.of(new Versioned<>(response, 4L)));
+
+            // When
+            var actual = taskRestController.getTaskById(taskId, "\"3\"");
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isEqualTo("\"4\"");
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsTaskWithETagWithoutVersionQuery_NoIfNoneMatch() {
+            // Given
+            var task = aTask();
+            var taskId = task.getId()
+                             .value();
+            var response = buildGetTaskByIdResponse(task);
+
+            given(taskQueryHandler.getTaskById(taskId)).willReturn(Optional.of(new Versioned<>(response, 0L)));
+
+            // When
+            var actual = taskRestController.getTaskById(taskId, null);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isEqualTo("\"0\"");
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+
+            then(taskQueryHandler).should(never())
+                                  .getTaskVersion(any());
+        }
+
+    }
+
+    @Nested
+    class UpdateTaskById {
+
+        @Test
+        void PassesIfMatchVersionAndReturnsNewETag_IfMatchPresent() {
+            // Given
+            var task = aTaskBuilder().withVersion(4L)
+                                     .build();
+            var taskId = task.getId()
+                             .value();
+            var request = new UpdateTaskRequest(task.getUserId()
+                                                    .value()
+                                                    .toString(), "Title", null, null, null);
+            var command = new UpdateTaskCommand(taskId, task.getUserId()
+                                                            .value(), "Title", null, null, null, 3L);
+            var response = new UpdateTaskResponse(taskId);
+
+            given(taskMapper.toUpdateTaskCommand(taskId, 3L, request)).willReturn(command);
+            given(updateTaskUseCase.updateTaskById(command)).willReturn(Optional.of(task));
+            given(taskMapper.toUpdateTaskResponse(task)).willReturn(response);
+
+            // When
+            var actual = taskRestController.updateTaskById(taskId, "\"3\"", request);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getFirst(HttpHeaders.ETAG)).as("ETag").isEqualTo("\"4\"");
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+    }
+
+    @Nested
+    class PatchTaskById {
+
+        @Test
+        void PassesIfMatchVersionAndReturnsNewETag_IfMatchPresent() {
+            // Given
+            var task = aTaskBuilder().withVersion(4L)
+                                     .build();
+            var taskId = task.getId()
+                             .value();
+            var request = new PatchTaskRequest(null, Optional.of("Title"), Optional.empty(), null, null);
+            var command = new PatchTaskCommand(taskId, Set.of(TaskField.TITLE, TaskField.DESCRIPTION), null, "Title", null, null, null, 3L);
+            var response = new UpdateTaskResponse(taskId);
+
+            given(taskMapper.toPatchTaskCommand(taskId, 3L, request)).willReturn(command);
+            given(patchTaskUseCase.patchTaskById(command)).willReturn(Optional.of(task));
+            given(taskMapper.toUpdateTaskResponse(task)).willReturn(response);
+
+            // When
+            var actual = taskRestController.patchTaskById(taskId, "\"3\"", request);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getFirst(HttpHeaders.ETAG)).as("ETag").isEqualTo("\"4\"");
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsStatusNotFound_TaskNotExists() {
+            // Given
+            var taskId = aTask().getId()
+                                .value();
+            var request = new PatchTaskRequest(null, Optional.of("Title"), null, null, null);
+            var command = new PatchTaskCommand(taskId, Set.of(TaskField.TITLE), null, "Title", null, null, null, null);
+
+            given(taskMapper.toPatchTaskCommand(taskId, null, request)).willReturn(command);
+            given(patchTaskUseCase.patchTaskById(command)).willReturn(Optional.empty());
+
+            // When
+            var actual = taskRestController.patchTaskById(taskId, null, request);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(actual.getBody()).as("body").isNull();
+                // @formatter:on
+            });
+        }
+
+    }
+
     @Nested
     class GetTasks {
 
@@ -66,8 +276,7 @@ class TaskRestControllerTests {
             var task = aTask();
             var response = buildGetTasksResponse(task);
 
-            given(readTaskUseCase.getAllTasks()).willReturn(List.of(task));
-            given(taskMapper.toGetTasksResponse(task)).willReturn(response);
+            given(taskQueryHandler.getAllTasks()).willReturn(List.of(response));
 
             // When
             var actual = taskRestController.getTasks(null);
@@ -75,10 +284,10 @@ class TaskRestControllerTests {
             // Then
             assertThat(actual).containsExactly(response);
 
-            then(readTaskUseCase).should()
-                                 .getAllTasks();
-            then(readTaskUseCase).should(never())
-                                 .getTasksByIds(any());
+            then(taskQueryHandler).should()
+                                  .getAllTasks();
+            then(taskQueryHandler).should(never())
+                                  .getTasksByIds(any());
         }
 
         @Test
@@ -89,8 +298,7 @@ class TaskRestControllerTests {
                                       .value());
             var response = buildGetTasksResponse(task);
 
-            given(readTaskUseCase.getTasksByIds(taskIds)).willReturn(List.of(task));
-            given(taskMapper.toGetTasksResponse(task)).willReturn(response);
+            given(taskQueryHandler.getTasksByIds(taskIds)).willReturn(List.of(response));
 
             // When
             var actual = taskRestController.getTasks(taskIds);
@@ -98,14 +306,114 @@ class TaskRestControllerTests {
             // Then
             assertThat(actual).containsExactly(response);
 
-            then(readTaskUseCase).should()
-                                 .getTasksByIds(taskIds);
-            then(readTaskUseCase).should(never())
-                                 .getAllTasks();
+            then(taskQueryHandler).should()
+                                  .getTasksByIds(taskIds);
+            then(taskQueryHandler).should(never())
+                                  .getAllTasks();
+        }
+
+    }
+
+    @Nested
+    class SearchTasks {
+
+        @Test
+        void ReturnsSearchResults_ValidQuery() {
+            // Given
+            var task = aTask();
+            var userId = task.getUserId()
+                             .value();
+            var response = new SearchTasksResponse(List.of(buildGetTasksResponse(task)), "next-cursor");
+
+            given(taskQueryHandler.searchTasks(userId, "groceries", 20, "cursor")).willReturn(response);
+
+            // When
+            var actual = taskRestController.searchTasks(userId, "groceries", 20, "cursor");
+
+            // Then
+            assertThat(actual).isEqualTo(response);
+        }
+
+    }
+
+    @Nested
+    class GetCalendarTasks {
+
+        @Test
+        void ReturnsCalendarTasks_ValidRange() {
+            // Given
+            var task = aTask();
+            var userId = task.getUserId()
+                             .value();
+            var from = Instant.parse("2026-10-19T00:00:00Z");
+            var to = Instant.parse("2026-10-26T00:00:00Z");
+            var response = new GetCalendarTasksResponse(List.of(buildGetTasksResponse(task)), "next-cursor");
+
+            given(taskQueryHandler.getCalendarTasks(userId, from, to, 100, "cursor")).willReturn(response);
+
+            // When
+            var actual = taskRestController.getCalendarTasks(userId, from, to, 100, "cursor");
+
+            // Then
+            assertThat(actual).isEqualTo(response);
         }
 
     }
 
+    @Nested
+    class GetTaskStatsByUserId {
+
+        @Test
+        void ReturnsTaskStats_ValidRange() {
+            // Given
+            var userId = aTask().getUserId()
+                                .value();
+            var from = Instant.parse("2026-10-19T00:00:00Z");
+            var to = Instant.parse("2026-10-26T00:00:00Z");
+            var response = new GetTaskStatsResponse(userId, 12, 9, 2, 4L);
+
+            given(taskQueryHandler.getTaskStatsByUserId(userId, from, to)).willReturn(response);
+
+            // When
+            var actual = taskRestController.getTaskStatsByUserId(userId, from, to);
+
+            // Then
+            assertThat(actual).isEqualTo(response);
+        }
+
+    }
+
+    @Nested
+    class GetTaskChangesByUserId {
+
+        @Test
+        void ReturnsSubscriptionEmitter_LastEventIdPresent() {
+            // Given
+            var userId = aTask().getUserId()
+                                .value();
+            var emitter = new SseEmitter();
+
+            given(taskChangeBroadcaster.subscribe(userId, 42L)).willReturn(emitter);
+
+            // When
+            var actual = taskRestController.getTaskChangesByUserId(userId, 42L);
+
+            // Then
+            assertThat(actual).isSameAs(emitter);
+        }
+
+    }
+
+    private static GetTaskByIdResponse buildGetTaskByIdResponse(Task task) {
+        var id = task.getId();
+        var userId = task.getUserId();
+        var title = task.getTitle();
+        var description = task.getDescription();
+        var startDate = task.getStartDate();
+        var endDate = task.getEndDate();
+        return new GetTaskByIdResponse(id.value(), userId.value(), title.value(), description.value(), startDate.value(), endDate.value());
+    }
+
     private static GetTasksResponse buildGetTasksResponse(Task task) {
         var id = task.getId();
         var userId = task.getUserId();
@@ -0,0 +1,94 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.in.request;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Tests {@link PatchTaskRequest} JSON Merge Patch deserialization.
+ * <p>
+ * Setup:
+ * <li>Enables {@link DeserializationFeature#USE_NULL_FOR_MISSING_REFERENCE_VALUES}, as the shared Jackson configuration does</li>
+ * <p>
+ * Coverage:
+ * <li>Absent members deserialize to {@code null} components, leaving the fields untouched</li>
+ * <li>Members set to {@code null} deserialize to empty {@link Optional} components, removing the fields</li>
+ * <li>Members with a value deserialize to present {@link Optional} components</li>
+ */
+class PatchTaskRequestTests {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder()
+                                                    .enable(DeserializationFeature.USE_NULL_FOR_MISSING_REFERENCE_VALUES)
+                                                    .build();
+
+    @Nested
+    class Deserialize {
+
+        @Test
+        void ReturnsTriStateComponents_MergePatchDocument() {
+            // Given
+            var json = """
+                    {"title": "New Title", "description": null, "startDate": "2025-01-01T10:00:00Z"}
+                    """;
+
+            // When
+            var actual = jsonMapper.readValue(json, PatchTaskRequest.class);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.userId()).as("user ID").isNull();
+                softly.assertThat(actual.title()).as("title").contains("New Title");
+                softly.assertThat(actual.description()).as("description").isEmpty();
+                softly.assertThat(actual.startDate()).as("start date").contains(Instant.parse("2025-01-01T10:00:00Z"));
+                softly.assertThat(actual.endDate()).as("end date").isNull();
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsAllComponentsNull_EmptyMergePatchDocument() {
+            // Given
+            var json = "{}";
+
+            // When
+            var actual = jsonMapper.readValue(json, PatchTaskRequest.class);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.userId()).as("user ID").isNull();
+                softly.assertThat(actual.title()).as("title").isNull();
+                softly.assertThat(actual.description()).as("description").isNull();
+                softly.assertThat(actual.startDate()).as("start date").isNull();
+                softly.assertThat(actual.endDate()).as("end date").isNull();
+                // @formatter:on
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.persistence;
+
+import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aJdbcTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import com.attrigo.asapp.tasks.testutil.TestContainerConfiguration;
+
+/**
+ * Tests {@link JdbcTaskColumnUpdater} partial column updates against PostgreSQL.
+ * <p>
+ * Setup:
+ * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
+ * <li>Clears the task table before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Updates only the given columns returning the incremented version</li>
+ * <li>Clears nullable columns set to {@code null}</li>
+ * <li>Leaves the task unchanged returning empty when the version differs</li>
+ * <li>Rejects empty and non-updatable column lists</li>
+ */
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TestContainerConfiguration.class, JdbcTaskColumnUpdater.class })
+class JdbcTaskColumnUpdaterIT {
+
+    @Autowired
+    private JdbcTaskColumnUpdater taskColumnUpdater;
+
+    @Autowired
+    private JdbcTaskRepository taskRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        taskRepository.deleteAll();
+    }
+
+    @Nested
+    class UpdateColumns {
+
+        @Test
+        void ReturnsIncrementedVersionAndUpdatesOnlyGivenColumns_VersionMatches() {
+            // Given
+            var createdTask = createTask();
+            var changedTask = new JdbcTaskEntity(createdTask.id(), createdTask.userId(), "New Title", "New Description", createdTask.startDate(),
+                    createdTask.endDate(), createdTask.version());
+
+            // When
+            var actual = taskColumnUpdater.updateColumns(changedTask, List.of("title"));
+
+            // Then
+            assertThat(actual).contains(createdTask.version() + 1);
+            assertThat(taskRepository.findById(createdTask.id())).hasValueSatisfying(task -> assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(task.title()).as("title").isEqualTo("New Title");
+                softly.assertThat(task.description()).as("description").isEqualTo(createdTask.description());
+                softly.assertThat(task.version()).as("version").isEqualTo(createdTask.version() + 1);
+                // @formatter:on
+            }));
+        }
+
+        @Test
+        void ClearsColumns_NullValues() {
+            // Given
+            var createdTask = createTask();
+            var changedTask = new JdbcTaskEntity(createdTask.id(), createdTask.userId(), createdTask.title(), null, null, null, createdTask.version());
+
+            // When
+            var actual = taskColumnUpdater.updateColumns(changedTask, List.of("description", "start_date", "end_date"));
+
+            // Then
+            assertThat(actual).isPresent();
+            assertThat(taskRepository.findById(createdTask.id())).hasValueSatisfying(task -> assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(task.description()).as("description").isNull();
+                softly.assertThat(task.startDate()).as("start date").isNull();
+                softly.assertThat(task.endDate()).as("end date").isNull();
+                // @formatter:on
+            }));
+        }
+
+        @Test
+        void ReturnsEmptyOptionalAndLeavesTaskUnchanged_VersionDiffers() {
+            // Given
+            var createdTask = createTask();
+            var staleTask = new JdbcTaskEntity(createdTask.id(), createdTask.userId(), "New Title", createdTask.description(), createdTask.startDate(),
+                    createdTask.endDate(), createdTask.version() + 1);
+
+            // When
+            var actual = taskColumnUpdater.updateColumns(staleTask, List.of("title"));
+
+            // Then
+            assertThat(actual).isEmpty();
+            assertThat(taskRepository.findById(createdTask.id())).contains(createdTask);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NoColumns() {
+            // Given
+            var createdTask = createTask();
+
+            // When
+            var actual = catchThrowable(() -> taskColumnUpdater.updateColumns(createdTask, List.of()));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("At least one column must be updated");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_ColumnNotUpdatable() {
+            // Given
+            var createdTask = createTask();
+
+            // When
+            var actual = catchThrowable(() -> taskColumnUpdater.updateColumns(createdTask, List.of("version")));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Column version is not updatable");
+        }
+
+    }
+
+    // Test Data Creation Helpers
+
+    private JdbcTaskEntity createTask() {
+        var createdTask = taskRepository.save(aJdbcTask());
+        assertThat(createdTask).isNotNull();
+        return createdTask;
+    }
+
+}
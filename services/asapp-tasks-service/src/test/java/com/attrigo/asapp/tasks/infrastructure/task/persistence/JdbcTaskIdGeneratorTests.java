@@ -0,0 +1,74 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.persistence;
+
+import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aJdbcTask;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link JdbcTaskIdGenerator} identifier assignment before conversion.
+ * <p>
+ * Coverage:
+ * <li>Assigns a time-ordered identifier to tasks without one, keeping the remaining columns</li>
+ * <li>Keeps the identifier of tasks that already have one</li>
+ */
+class JdbcTaskIdGeneratorTests {
+
+    private final JdbcTaskIdGenerator jdbcTaskIdGenerator = new JdbcTaskIdGenerator();
+
+    @Nested
+    class OnBeforeConvert {
+
+        @Test
+        void AssignsTimeOrderedId_TaskWithoutId() {
+            // Given
+            var task = aJdbcTask();
+
+            // When
+            var actual = jdbcTaskIdGenerator.onBeforeConvert(task);
+
+            // Then
+            assertThat(actual.id()).isNotNull();
+            assertThat(actual.id()
+                             .version()).isEqualTo(7);
+            assertThat(actual).usingRecursiveComparison()
+                              .ignoringFields("id")
+                              .isEqualTo(task);
+        }
+
+        @Test
+        void KeepsId_TaskWithId() {
+            // Given
+            var task = aJdbcTask();
+            var taskWithId = new JdbcTaskEntity(UUID.randomUUID(), task.userId(), task.title(), task.description(), task.startDate(), task.endDate(),
+                    task.version());
+
+            // When
+            var actual = jdbcTaskIdGenerator.onBeforeConvert(taskWithId);
+
+            // Then
+            assertThat(actual).isSameAs(taskWithId);
+        }
+
+    }
+
+}
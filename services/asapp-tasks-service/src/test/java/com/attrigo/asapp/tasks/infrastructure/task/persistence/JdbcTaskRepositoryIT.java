@@ -19,7 +19,9 @@ package com.attrigo.asapp.tasks.infrastructure.task.persistence;
 import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aJdbcTask;
 import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTaskBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,7 +35,7 @@ import org.springframework.context.annotation.Import;
 import com.attrigo.asapp.tasks.testutil.TestContainerConfiguration;
 
 /**
- * Tests {@link JdbcTaskRepository} query and delete operations against PostgreSQL.
+ * Tests {@link JdbcTaskRepository} query, update and delete operations against PostgreSQL.
  * <p>
  * Setup:
  * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
@@ -42,6 +44,9 @@ import com.attrigo.asapp.tasks.testutil.TestContainerConfiguration;
  * Coverage:
  * <li>Queries tasks by user ownership returning empty when none found</li>
  * <li>Queries tasks by user ownership returning all matching tasks</li>
+ * <li>Updates task by identifier returning the updated row with an incremented version</li>
+ * <li>Updates task by identifier only while it has the expected version</li>
+ * <li>Updates task by identifier returning empty when not found</li>
  * <li>Deletes task by identifier returning zero when not found</li>
  * <li>Deletes task by identifier returning count when successfully deleted</li>
  * <li>Tests actual database operations with TestContainers PostgreSQL</li>
@@ -99,6 +104,78 @@ class JdbcTaskRepositoryIT {
 
     }
 
+    @Nested
+    class UpdateTaskById {
+
+        @Test
+        void ReturnsUpdatedTaskWithIncrementedVersion_TaskExists() {
+            // Given
+            var createdTask = createTask();
+            var taskId = createdTask.id();
+            var newUserId = UUID.fromString("b1c2d3e4-f5a6-4b7c-8d9e-0f1a2b3c4d5e");
+            var newStartDate = Instant.parse("2025-03-03T13:00:00Z");
+
+            // When
+            var actual = taskRepository.updateTaskById(taskId, newUserId, "New Title", null, newStartDate, null, null);
+
+            // Then
+            assertThat(actual).isPresent();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.get().id()).as("ID").isEqualTo(taskId);
+                softly.assertThat(actual.get().userId()).as("user ID").isEqualTo(newUserId);
+                softly.assertThat(actual.get().title()).as("title").isEqualTo("New Title");
+                softly.assertThat(actual.get().description()).as("description").isNull();
+                softly.assertThat(actual.get().startDate()).as("start date").isEqualTo(newStartDate);
+                softly.assertThat(actual.get().endDate()).as("end date").isNull();
+                softly.assertThat(actual.get().version()).as("version").isEqualTo(createdTask.version() + 1);
+                // @formatter:on
+            });
+            assertThat(taskRepository.findById(taskId)).contains(actual.get());
+        }
+
+        @Test
+        void ReturnsUpdatedTask_ExpectedVersionMatches() {
+            // Given
+            var createdTask = createTask();
+
+            // When
+            var actual = taskRepository.updateTaskById(createdTask.id(), createdTask.userId(), "New Title", null, null, null, createdTask.version());
+
+            // Then
+            assertThat(actual).get()
+                              .extracting(JdbcTaskEntity::title)
+                              .isEqualTo("New Title");
+        }
+
+        @Test
+        void ReturnsEmptyOptionalAndLeavesTaskUnchanged_ExpectedVersionDiffers() {
+            // Given
+            var createdTask = createTask();
+
+            // When
+            var actual = taskRepository.updateTaskById(createdTask.id(), createdTask.userId(), "New Title", null, null, null, createdTask.version() + 1);
+
+            // Then
+            assertThat(actual).isEmpty();
+            assertThat(taskRepository.findById(createdTask.id())).contains(createdTask);
+        }
+
+        @Test
+        void ReturnsEmptyOptional_TaskNotExists() {
+            // Given
+            var taskId = UUID.fromString("e2a7c9f4-6b3d-48ab-9f1a-8d5b3e7c2a9f");
+            var userId = UUID.fromString("c8e5a2f9-4d7b-46af-9d8e-6b3f1c9a5e2d");
+
+            // When
+            var actual = taskRepository.updateTaskById(taskId, userId, "New Title", null, null, null, null);
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
     @Nested
     class DeleteTaskById {
 
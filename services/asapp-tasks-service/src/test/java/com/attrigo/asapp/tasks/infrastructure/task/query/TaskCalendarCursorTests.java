@@ -0,0 +1,108 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TaskCalendarCursor} encoding and decoding.
+ * <p>
+ * Coverage:
+ * <li>Decodes an encoded cursor back to the same start date and identifier</li>
+ * <li>Encodes cursors as URL-safe strings</li>
+ * <li>Rejects malformed cursors with an illegal argument exception</li>
+ */
+class TaskCalendarCursorTests {
+
+    @Nested
+    class Encode {
+
+        @Test
+        void ReturnsUrlSafeCursor_ValidCursor() {
+            // Given
+            var cursor = new TaskCalendarCursor(Instant.parse("2026-10-20T09:00:00.123456Z"), UUID.randomUUID());
+
+            // When
+            var actual = cursor.encode();
+
+            // Then
+            assertThat(actual).matches("[A-Za-z0-9_-]+");
+        }
+
+    }
+
+    @Nested
+    class Decode {
+
+        @Test
+        void ReturnsSameCursor_EncodedCursor() {
+            // Given
+            var cursor = new TaskCalendarCursor(Instant.parse("2026-10-20T09:00:00.123456Z"), UUID.randomUUID());
+            var encodedCursor = cursor.encode();
+
+            // When
+            var actual = TaskCalendarCursor.decode(encodedCursor);
+
+            // Then
+            assertThat(actual).isEqualTo(cursor);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NotBase64() {
+            // When
+            var actual = catchThrowable(() -> TaskCalendarCursor.decode("not a cursor"));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_MissingSeparator() {
+            // Given
+            var cursor = "bm8tc2VwYXJhdG9y";
+
+            // When
+            var actual = catchThrowable(() -> TaskCalendarCursor.decode(cursor));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Calendar cursor is malformed");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_InvalidStartDate() {
+            // Given
+            var cursor = "eWVzdGVyZGF5fDU1MGU4NDAwLWUyOWItNDFkNC1hNzE2LTQ0NjY1NTQ0MDAwMA";
+
+            // When
+            var actual = catchThrowable(() -> TaskCalendarCursor.decode(cursor));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Calendar cursor is malformed");
+        }
+
+    }
+
+}
@@ -0,0 +1,694 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.query;
+
+import static com.attrigo.asapp.tasks.testutil.fixture.TaskMother.aTaskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import com.attrigo.asapp.tasks.infrastructure.config.ChunkedIdQueryConfiguration;
+import com.attrigo.asapp.tasks.infrastructure.config.EntityCacheConfiguration;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskByIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTaskStatsResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksByUserIdResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.in.response.GetTasksResponse;
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskEntity;
+import com.attrigo.asapp.tasks.infrastructure.task.persistence.JdbcTaskRepository;
+import com.attrigo.asapp.tasks.testutil.TestContainerConfiguration;
+
+/**
+ * Tests {@link TaskQueryHandler} row mapping against PostgreSQL.
+ * <p>
+ * Setup:
+ * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
+ * <li>Clears the task table before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Maps rows into response records with the same values Spring Data JDBC reads into the entity</li>
+ * <li>Maps null optional columns to null response fields</li>
+ * <li>Filters tasks by identifier, by identifiers and by user</li>
+ * <li>Returns the task identifiers of one or several users, one entry per distinct user in the requested order</li>
+ * <li>Returns tasks requested by identifiers in the requested order across chunks, rejecting lists above the configured maximum</li>
+ * <li>Reads the row version alone and alongside the task, tracking updates</li>
+ * <li>Searches a user's tasks by full text, similarity and prefix, ranking title matches first and paginating by keyset</li>
+ * <li>Retrieves a user's tasks overlapping a date range by start date, treating tasks without end date as spanning their start date, and paginating by keyset</li>
+ * <li>Counts a user's tasks from the statistics kept by the database triggers across inserts, reassignments, rescheduling and deletes</li>
+ * <li>Counts a user's overdue tasks and tasks overlapping a date range live</li>
+ * <li>Returns empty results when nothing matches</li>
+ */
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TestContainerConfiguration.class, ChunkedIdQueryConfiguration.class, EntityCacheConfiguration.class, TaskQueryHandler.class })
+class TaskQueryHandlerIT {
+
+    @Autowired
+    private TaskQueryHandler taskQueryHandler;
+
+    @Autowired
+    private JdbcTaskRepository taskRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        taskRepository.deleteAll();
+    }
+
+    @Nested
+    class GetTaskById {
+
+        @Test
+        void ReturnsTask_TaskExists() {
+            // Given
+            var task = createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTaskById(task.id());
+
+            // Then
+            assertThat(actual).contains(new Versioned<>(new GetTaskByIdResponse(task.id(), task.userId(), task.title(), task.description(),
+                    task.startDate(), task.endDate()), task.version()));
+        }
+
+        @Test
+        void ReturnsTaskWithNullFields_OptionalColumnsNull() {
+            // Given
+            var task = taskRepository.save(aTaskBuilder().withDescription(null)
+                                                         .withStartDate(null)
+                                                         .withEndDate(null)
+                                                         .buildJdbc());
+
+            // When
+            var actual = taskQueryHandler.getTaskById(task.id());
+
+            // Then
+            assertThat(actual).contains(new Versioned<>(new GetTaskByIdResponse(task.id(), task.userId(), task.title(), null, null, null), task.version()));
+        }
+
+        @Test
+        void ReturnsEmptyOptional_TaskNotExists() {
+            // Given
+            var taskId = UUID.fromString("c7d8e9f0-a1b2-4c3d-9e4f-5a6b7c8d9e0f");
+
+            // When
+            var actual = taskQueryHandler.getTaskById(taskId);
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class GetTaskVersion {
+
+        @Test
+        void ReturnsVersion_TaskExists() {
+            // Given
+            var task = createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTaskVersion(task.id());
+
+            // Then
+            assertThat(actual).contains(0L);
+        }
+
+        @Test
+        void ReturnsIncrementedVersion_TaskUpdated() {
+            // Given
+            var task = createTask(UUID.randomUUID());
+            taskRepository.save(new JdbcTaskEntity(task.id(), task.userId(), "New Title", task.description(), task.startDate(), task.endDate(),
+                    task.version()));
+
+            // When
+            var actual = taskQueryHandler.getTaskVersion(task.id());
+
+            // Then
+            assertThat(actual).contains(1L);
+        }
+
+        @Test
+        void ReturnsEmptyOptional_TaskNotExists() {
+            // Given
+            var taskId = UUID.fromString("c7d8e9f0-a1b2-4c3d-9e4f-5a6b7c8d9e0f");
+
+            // When
+            var actual = taskQueryHandler.getTaskVersion(taskId);
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class GetTasksByUserId {
+
+        @Test
+        void ReturnsUserTasks_UserHasTasks() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task1 = createTask(userId);
+            var task2 = createTask(userId);
+            createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTasksByUserId(userId);
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(toGetTasksByUserIdResponse(task1), toGetTasksByUserIdResponse(task2));
+        }
+
+        @Test
+        void ReturnsEmptyList_UserHasNoTasks() {
+            // Given
+            createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTasksByUserId(UUID.randomUUID());
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class GetTaskIdsByUserId {
+
+        @Test
+        void ReturnsUserTaskIds_UserHasTasks() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task1 = createTask(userId);
+            var task2 = createTask(userId);
+            createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTaskIdsByUserId(userId);
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(task1.id(), task2.id());
+        }
+
+        @Test
+        void ReturnsEmptyList_UserHasNoTasks() {
+            // Given
+            createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTaskIdsByUserId(UUID.randomUUID());
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class GetTaskIdsByUserIds {
+
+        @Test
+        void ReturnsTaskIdsOfEveryUserInRequestedOrder_SomeUsersHaveTasks() {
+            // Given
+            var userId1 = UUID.randomUUID();
+            var userId2 = UUID.randomUUID();
+            var userWithoutTasks = UUID.randomUUID();
+            var task1 = createTask(userId1);
+            var task2 = createTask(userId1);
+            var task3 = createTask(userId2);
+            createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTaskIdsByUserIds(List.of(userId2, userWithoutTasks, userId1, userId2));
+
+            // Then
+            assertThat(actual).extracting(UserTaskIds::userId)
+                              .containsExactly(userId2, userWithoutTasks, userId1);
+            assertThat(actual.get(0)
+                             .taskIds()).containsExactly(task3.id());
+            assertThat(actual.get(1)
+                             .taskIds()).isEmpty();
+            assertThat(actual.get(2)
+                             .taskIds()).containsExactlyInAnyOrder(task1.id(), task2.id());
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_ExceedMaxIds() {
+            // Given
+            var ids = new ArrayList<UUID>();
+            for (int i = 0; i < 1001; i++) {
+                ids.add(UUID.randomUUID());
+            }
+
+            // When
+            var actual = catchThrowable(() -> taskQueryHandler.getTaskIdsByUserIds(ids));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Identifiers list must not exceed 1000 elements");
+        }
+
+        @Test
+        void ReturnsEmptyList_NoIds() {
+            // When
+            var actual = taskQueryHandler.getTaskIdsByUserIds(List.of());
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class GetTasksByIds {
+
+        @Test
+        void ReturnsRequestedTasks_TasksExist() {
+            // Given
+            var task1 = createTask(UUID.randomUUID());
+            var task2 = createTask(UUID.randomUUID());
+            createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTasksByIds(List.of(task1.id(), task2.id(), task2.id()));
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(toGetTasksResponse(task1), toGetTasksResponse(task2));
+        }
+
+        @Test
+        void ReturnsTasksInRequestedOrder_IdsSpanSeveralChunks() {
+            // Given
+            var tasks = new ArrayList<JdbcTaskEntity>();
+            for (int i = 0; i < 250; i++) {
+                tasks.add(createTask(UUID.randomUUID()));
+            }
+            var requestedIds = tasks.reversed()
+                                   .stream()
+                                   .map(JdbcTaskEntity::id)
+                                   .toList();
+
+            // When
+            var actual = taskQueryHandler.getTasksByIds(requestedIds);
+
+            // Then
+            var expected = tasks.reversed()
+                               .stream()
+                               .map(TaskQueryHandlerIT::toGetTasksResponse)
+                               .toList();
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_ExceedMaxIds() {
+            // Given
+            var ids = new ArrayList<UUID>();
+            for (int i = 0; i < 1001; i++) {
+                ids.add(UUID.randomUUID());
+            }
+
+            // When
+            var actual = catchThrowable(() -> taskQueryHandler.getTasksByIds(ids));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Identifiers list must not exceed 1000 elements");
+        }
+
+        @Test
+        void ReturnsEmptyList_NoIds() {
+            // Given
+            createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getTasksByIds(List.of());
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class GetAllTasks {
+
+        @Test
+        void ReturnsAllTasks_TasksExist() {
+            // Given
+            var task1 = createTask(UUID.randomUUID());
+            var task2 = createTask(UUID.randomUUID());
+
+            // When
+            var actual = taskQueryHandler.getAllTasks();
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(toGetTasksResponse(task1), toGetTasksResponse(task2));
+        }
+
+        @Test
+        void ReturnsEmptyList_NoTasks() {
+            // When
+            var actual = taskQueryHandler.getAllTasks();
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class SearchTasks {
+
+        @Test
+        void ReturnsTitleMatchesFirst_QueryMatchesTitleAndDescription() {
+            // Given
+            var userId = UUID.randomUUID();
+            var descriptionMatch = createTask(userId, "Plan weekend", "Order groceries online");
+            var titleMatch = createTask(userId, "Buy groceries", "Milk and eggs");
+            createTask(userId, "Fix bike", "Replace the chain");
+
+            // When
+            var actual = taskQueryHandler.searchTasks(userId, "groceries", 10, null);
+
+            // Then
+            assertThat(actual.tasks()).containsExactly(toGetTasksResponse(titleMatch), toGetTasksResponse(descriptionMatch));
+            assertThat(actual.nextCursor()).isNull();
+        }
+
+        @Test
+        void ReturnsSimilarTasks_QueryMisspelledOrPartial() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task = createTask(userId, "Groceries", "Weekly shopping");
+
+            // When
+            var misspelled = taskQueryHandler.searchTasks(userId, "Grocerys", 10, null);
+            var partial = taskQueryHandler.searchTasks(userId, "groc", 10, null);
+
+            // Then
+            assertThat(misspelled.tasks()).containsExactly(toGetTasksResponse(task));
+            assertThat(partial.tasks()).containsExactly(toGetTasksResponse(task));
+        }
+
+        @Test
+        void ReturnsOnlyUserTasks_OtherUsersHaveMatches() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task = createTask(userId, "Buy groceries", "Milk and eggs");
+            createTask(UUID.randomUUID(), "Buy groceries", "Milk and eggs");
+
+            // When
+            var actual = taskQueryHandler.searchTasks(userId, "groceries", 10, null);
+
+            // Then
+            assertThat(actual.tasks()).containsExactly(toGetTasksResponse(task));
+        }
+
+        @Test
+        void ReturnsConsecutivePages_MoreMatchesThanLimit() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task1 = createTask(userId, "Buy groceries", "Milk");
+            var task2 = createTask(userId, "Buy groceries", "Eggs");
+            var task3 = createTask(userId, "Buy groceries", "Bread");
+
+            // When
+            var firstPage = taskQueryHandler.searchTasks(userId, "groceries", 2, null);
+            var secondPage = taskQueryHandler.searchTasks(userId, "groceries", 2, firstPage.nextCursor());
+
+            // Then
+            assertThat(firstPage.tasks()).hasSize(2);
+            assertThat(firstPage.nextCursor()).isNotNull();
+            assertThat(secondPage.tasks()).hasSize(1);
+            assertThat(secondPage.nextCursor()).isNull();
+            var allTasks = new ArrayList<>(firstPage.tasks());
+            allTasks.addAll(secondPage.tasks());
+            assertThat(allTasks).containsExactlyInAnyOrder(toGetTasksResponse(task1), toGetTasksResponse(task2), toGetTasksResponse(task3));
+        }
+
+        @Test
+        void ReturnsEmptyPage_NoMatches() {
+            // Given
+            var userId = UUID.randomUUID();
+            createTask(userId, "Fix bike", "Replace the chain");
+
+            // When
+            var actual = taskQueryHandler.searchTasks(userId, "groceries", 10, null);
+
+            // Then
+            assertThat(actual.tasks()).isEmpty();
+            assertThat(actual.nextCursor()).isNull();
+        }
+
+    }
+
+    @Nested
+    class GetCalendarTasks {
+
+        private static final Instant MONDAY = Instant.parse("2026-10-19T00:00:00Z");
+
+        private static final Instant NEXT_MONDAY = Instant.parse("2026-10-26T00:00:00Z");
+
+        @Test
+        void ReturnsOverlappingTasksByStartDate_TasksInAndAroundRange() {
+            // Given
+            var userId = UUID.randomUUID();
+            var startsBefore = createScheduledTask(userId, Instant.parse("2026-10-17T09:00:00Z"), Instant.parse("2026-10-20T09:00:00Z"));
+            var within = createScheduledTask(userId, Instant.parse("2026-10-21T09:00:00Z"), Instant.parse("2026-10-21T10:00:00Z"));
+            var withoutEndDate = createScheduledTask(userId, Instant.parse("2026-10-22T09:00:00Z"), null);
+            var spansRange = createScheduledTask(userId, Instant.parse("2026-10-01T00:00:00Z"), Instant.parse("2026-11-01T00:00:00Z"));
+            createScheduledTask(userId, Instant.parse("2026-10-10T09:00:00Z"), Instant.parse("2026-10-11T09:00:00Z"));
+            createScheduledTask(userId, NEXT_MONDAY, Instant.parse("2026-10-27T09:00:00Z"));
+            createScheduledTask(userId, Instant.parse("2026-10-30T09:00:00Z"), null);
+            createScheduledTask(userId, null, null);
+
+            // When
+            var actual = taskQueryHandler.getCalendarTasks(userId, MONDAY, NEXT_MONDAY, 10, null);
+
+            // Then
+            assertThat(actual.tasks()).containsExactly(toGetTasksResponse(spansRange), toGetTasksResponse(startsBefore), toGetTasksResponse(within),
+                    toGetTasksResponse(withoutEndDate));
+            assertThat(actual.nextCursor()).isNull();
+        }
+
+        @Test
+        void ReturnsOnlyUserTasks_OtherUsersHaveTasksInRange() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task = createScheduledTask(userId, Instant.parse("2026-10-21T09:00:00Z"), Instant.parse("2026-10-21T10:00:00Z"));
+            createScheduledTask(UUID.randomUUID(), Instant.parse("2026-10-21T09:00:00Z"), Instant.parse("2026-10-21T10:00:00Z"));
+
+            // When
+            var actual = taskQueryHandler.getCalendarTasks(userId, MONDAY, NEXT_MONDAY, 10, null);
+
+            // Then
+            assertThat(actual.tasks()).containsExactly(toGetTasksResponse(task));
+        }
+
+        @Test
+        void ReturnsConsecutivePages_MoreTasksThanLimit() {
+            // Given
+            var userId = UUID.randomUUID();
+            var task1 = createScheduledTask(userId, Instant.parse("2026-10-20T09:00:00Z"), null);
+            var task2 = createScheduledTask(userId, Instant.parse("2026-10-21T09:00:00Z"), null);
+            var task3 = createScheduledTask(userId, Instant.parse("2026-10-22T09:00:00Z"), null);
+
+            // When
+            var firstPage = taskQueryHandler.getCalendarTasks(userId, MONDAY, NEXT_MONDAY, 2, null);
+            var secondPage = taskQueryHandler.getCalendarTasks(userId, MONDAY, NEXT_MONDAY, 2, firstPage.nextCursor());
+
+            // Then
+            assertThat(firstPage.tasks()).containsExactly(toGetTasksResponse(task1), toGetTasksResponse(task2));
+            assertThat(firstPage.nextCursor()).isNotNull();
+            assertThat(secondPage.tasks()).containsExactly(toGetTasksResponse(task3));
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        void ReturnsEmptyPage_NoTasksInRange() {
+            // Given
+            var userId = UUID.randomUUID();
+            createScheduledTask(userId, Instant.parse("2026-11-02T09:00:00Z"), null);
+
+            // When
+            var actual = taskQueryHandler.getCalendarTasks(userId, MONDAY, NEXT_MONDAY, 10, null);
+
+            // Then
+            assertThat(actual.tasks()).isEmpty();
+            assertThat(actual.nextCursor()).isNull();
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_RangeEndsBeforeItStarts() {
+            // Given
+            var userId = UUID.randomUUID();
+
+            // When
+            var actual = catchThrowable(() -> taskQueryHandler.getCalendarTasks(userId, NEXT_MONDAY, MONDAY, 10, null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Calendar range must end after it starts");
+        }
+
+    }
+
+    @Nested
+    class GetTaskStatsByUserId {
+
+        private static final Instant PAST = Instant.parse("2020-01-06T09:00:00Z");
+
+        private static final Instant FUTURE = Instant.parse("2099-01-05T09:00:00Z");
+
+        @Test
+        void ReturnsTaskCounts_UserHasTasks() {
+            // Given
+            var userId = UUID.randomUUID();
+            createTask(userId);
+            createScheduledTask(userId, null, null);
+            createScheduledTask(userId, PAST, PAST.plusSeconds(3600));
+            createScheduledTask(userId, PAST, null);
+            createScheduledTask(userId, PAST, FUTURE);
+            createScheduledTask(userId, FUTURE, null);
+            createScheduledTask(UUID.randomUUID(), PAST, null);
+
+            // When
+            var actual = taskQueryHandler.getTaskStatsByUserId(userId, null, null);
+
+            // Then
+            assertThat(actual).isEqualTo(new GetTaskStatsResponse(userId, 6, 5, 2, null));
+        }
+
+        @Test
+        void ReturnsTasksInRangeCount_RangeGiven() {
+            // Given
+            var userId = UUID.randomUUID();
+            createScheduledTask(userId, Instant.parse("2026-10-17T09:00:00Z"), Instant.parse("2026-10-20T09:00:00Z"));
+            createScheduledTask(userId, Instant.parse("2026-10-21T09:00:00Z"), null);
+            createScheduledTask(userId, Instant.parse("2026-10-26T00:00:00Z"), null);
+            createScheduledTask(userId, null, null);
+
+            // When
+            var actual = taskQueryHandler.getTaskStatsByUserId(userId, Instant.parse("2026-10-19T00:00:00Z"), Instant.parse("2026-10-26T00:00:00Z"));
+
+            // Then
+            assertThat(actual.tasksInRange()).isEqualTo(2L);
+        }
+
+        @Test
+        void ReturnsUpdatedCounts_TasksReassignedUnscheduledAndDeleted() {
+            // Given
+            var userId = UUID.randomUUID();
+            var otherUserId = UUID.randomUUID();
+            var reassigned = createScheduledTask(userId, FUTURE, null);
+            var unscheduled = createScheduledTask(userId, FUTURE, null);
+            var deleted = createScheduledTask(userId, FUTURE, null);
+            createScheduledTask(userId, FUTURE, null);
+            taskRepository.save(new JdbcTaskEntity(reassigned.id(), otherUserId, reassigned.title(), reassigned.description(), reassigned.startDate(),
+                    reassigned.endDate(), reassigned.version()));
+            taskRepository.save(new JdbcTaskEntity(unscheduled.id(), unscheduled.userId(), unscheduled.title(), unscheduled.description(), null, null,
+                    unscheduled.version()));
+            taskRepository.deleteTaskById(deleted.id());
+
+            // When
+            var actual = taskQueryHandler.getTaskStatsByUserId(userId, null, null);
+            var actualOther = taskQueryHandler.getTaskStatsByUserId(otherUserId, null, null);
+
+            // Then
+            assertThat(actual).isEqualTo(new GetTaskStatsResponse(userId, 2, 1, 0, null));
+            assertThat(actualOther).isEqualTo(new GetTaskStatsResponse(otherUserId, 1, 1, 0, null));
+        }
+
+        @Test
+        void ReturnsZeroCounts_UserHasNoTasks() {
+            // Given
+            var userId = UUID.randomUUID();
+
+            // When
+            var actual = taskQueryHandler.getTaskStatsByUserId(userId, null, null);
+
+            // Then
+            assertThat(actual).isEqualTo(new GetTaskStatsResponse(userId, 0, 0, 0, null));
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_RangeHasOnlyStart() {
+            // Given
+            var userId = UUID.randomUUID();
+
+            // When
+            var actual = catchThrowable(() -> taskQueryHandler.getTaskStatsByUserId(userId, PAST, null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Statistics range must have both a start and an end");
+        }
+
+    }
+
+    // Test Data Creation Helpers
+
+    private JdbcTaskEntity createTask(UUID userId) {
+        var task = aTaskBuilder().withUserId(userId)
+                                 .buildJdbc();
+        var createdTask = taskRepository.save(task);
+        return taskRepository.findById(createdTask.id())
+                             .orElseThrow();
+    }
+
+    private JdbcTaskEntity createTask(UUID userId, String title, String description) {
+        var task = aTaskBuilder().withUserId(userId)
+                                 .withTitle(title)
+                                 .withDescription(description)
+                                 .buildJdbc();
+        var createdTask = taskRepository.save(task);
+        return taskRepository.findById(createdTask.id())
+                             .orElseThrow();
+    }
+
+    private JdbcTaskEntity createScheduledTask(UUID userId, Instant startDate, Instant endDate) {
+        var task = aTaskBuilder().withUserId(userId)
+                                 .withStartDate(startDate)
+                                 .withEndDate(endDate)
+                                 .buildJdbc();
+        var createdTask = taskRepository.save(task);
+        return taskRepository.findById(createdTask.id())
+                             .orElseThrow();
+    }
+
+    private static GetTasksByUserIdResponse toGetTasksByUserIdResponse(JdbcTaskEntity task) {
+        return new GetTasksByUserIdResponse(task.id(), task.userId(), task.title(), task.description(), task.startDate(), task.endDate());
+    }
+
+    private static GetTasksResponse toGetTasksResponse(JdbcTaskEntity task) {
+        return new GetTasksResponse(task.id(), task.userId(), task.title(), task.description(), task.startDate(), task.endDate());
+    }
+
+}
@@ -0,0 +1,106 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.tasks.infrastructure.task.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TaskSearchCursor} encoding and decoding.
+ * <p>
+ * Coverage:
+ * <li>Decodes an encoded cursor back to the same rank and identifier</li>
+ * <li>Encodes cursors as URL-safe strings</li>
+ * <li>Rejects malformed cursors with an illegal argument exception</li>
+ */
+class TaskSearchCursorTests {
+
+    @Nested
+    class Encode {
+
+        @Test
+        void ReturnsUrlSafeCursor_ValidCursor() {
+            // Given
+            var cursor = new TaskSearchCursor(0.6079271, UUID.randomUUID());
+
+            // When
+            var actual = cursor.encode();
+
+            // Then
+            assertThat(actual).matches("[A-Za-z0-9_-]+");
+        }
+
+    }
+
+    @Nested
+    class Decode {
+
+        @Test
+        void ReturnsSameCursor_EncodedCursor() {
+            // Given
+            var cursor = new TaskSearchCursor(0.6079271, UUID.randomUUID());
+            var encodedCursor = cursor.encode();
+
+            // When
+            var actual = TaskSearchCursor.decode(encodedCursor);
+
+            // Then
+            assertThat(actual).isEqualTo(cursor);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NotBase64() {
+            // When
+            var actual = catchThrowable(() -> TaskSearchCursor.decode("not a cursor"));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_MissingSeparator() {
+            // Given
+            var cursor = "bm8tc2VwYXJhdG9y";
+
+            // When
+            var actual = catchThrowable(() -> TaskSearchCursor.decode(cursor));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Search cursor is malformed");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_InvalidIdentifier() {
+            // Given
+            var cursor = "MC41fG5vdC1hLXV1aWQ";
+
+            // When
+            var actual = catchThrowable(() -> TaskSearchCursor.decode(cursor));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
@@ -24,14 +24,16 @@ import org.springframework.test.web.servlet.assertj.MockMvcTester;
 
 import com.attrigo.asapp.tasks.application.task.in.CreateTaskUseCase;
 import com.attrigo.asapp.tasks.application.task.in.DeleteTaskUseCase;
-import com.attrigo.asapp.tasks.application.task.in.ReadTaskUseCase;
+import com.attrigo.asapp.tasks.application.task.in.PatchTaskUseCase;
 import com.attrigo.asapp.tasks.application.task.in.UpdateTaskUseCase;
 import com.attrigo.asapp.tasks.infrastructure.config.SecurityConfiguration;
 import com.attrigo.asapp.tasks.infrastructure.security.JwtVerifier;
 import com.attrigo.asapp.tasks.infrastructure.security.web.JwtAuthenticationEntryPoint;
 import com.attrigo.asapp.tasks.infrastructure.security.web.JwtAuthenticationFilter;
+import com.attrigo.asapp.tasks.infrastructure.task.changes.TaskChangeBroadcaster;
 import com.attrigo.asapp.tasks.infrastructure.task.in.TaskRestController;
 import com.attrigo.asapp.tasks.infrastructure.task.mapper.TaskMapper;
+import com.attrigo.asapp.tasks.infrastructure.task.query.TaskQueryHandler;
 
 /**
  * Configures web layer test context with mocked dependencies for REST controller integration tests.
@@ -54,7 +56,7 @@ public class WebMvcTestContext {
     protected MockMvcTester mockMvcTester;
 
     @MockitoBean
-    protected ReadTaskUseCase readTaskUseCase;
+    protected TaskQueryHandler taskQueryHandler;
 
     @MockitoBean
     protected CreateTaskUseCase createTaskUseCase;
@@ -62,10 +64,16 @@ public class WebMvcTestContext {
     @MockitoBean
     protected UpdateTaskUseCase updateTaskUseCase;
 
+    @MockitoBean
+    protected PatchTaskUseCase patchTaskUseCase;
+
     @MockitoBean
     protected DeleteTaskUseCase deleteTaskUseCase;
 
     @MockitoBean
     protected TaskMapper taskMapper;
 
+    @MockitoBean
+    protected TaskChangeBroadcaster taskChangeBroadcaster;
+
 }
@@ -22,6 +22,7 @@ import static com.attrigo.asapp.tasks.testutil.fixture.TestFactoryConstants.DEFA
 import static com.attrigo.asapp.tasks.testutil.fixture.TestFactoryConstants.DEFAULT_TASK_START_DATE;
 import static com.attrigo.asapp.tasks.testutil.fixture.TestFactoryConstants.DEFAULT_TASK_TITLE;
 import static com.attrigo.asapp.tasks.testutil.fixture.TestFactoryConstants.DEFAULT_TASK_USER_ID;
+import static com.attrigo.asapp.tasks.testutil.fixture.TestFactoryConstants.DEFAULT_TASK_VERSION;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -65,6 +66,8 @@ public final class TaskMother {
 
         private Instant endDate;
 
+        private Long version;
+
         Builder() {
             this.taskId = DEFAULT_TASK_ID;
             this.userId = DEFAULT_TASK_USER_ID;
@@ -72,6 +75,7 @@ public final class TaskMother {
             this.description = DEFAULT_TASK_DESCRIPTION;
             this.startDate = DEFAULT_TASK_START_DATE;
             this.endDate = DEFAULT_TASK_END_DATE;
+            this.version = DEFAULT_TASK_VERSION;
         }
 
         public Builder withTaskId(UUID taskId) {
@@ -104,16 +108,21 @@ public final class TaskMother {
             return this;
         }
 
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Task build() {
             if (taskId == null) {
                 return TaskFactory.create(userId, title, description, startDate, endDate);
             } else {
-                return TaskFactory.reconstitute(taskId, userId, title, description, startDate, endDate);
+                return TaskFactory.reconstitute(taskId, userId, title, description, startDate, endDate, version);
             }
         }
 
         public JdbcTaskEntity buildJdbc() {
-            return new JdbcTaskEntity(null, userId, title, description, startDate, endDate);
+            return new JdbcTaskEntity(null, userId, title, description, startDate, endDate, null);
         }
 
     }
@@ -47,6 +47,8 @@ final class TestFactoryConstants {
 
     static final Instant DEFAULT_TASK_END_DATE = Instant.parse("2025-01-02T10:00:00Z");
 
+    static final Long DEFAULT_TASK_VERSION = 0L;
+
     // JWT constants
 
     static final String DEFAULT_SUBJECT = "user@asapp.com";
@@ -0,0 +1,254 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.out;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.stub.StreamObserver;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdResponse;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsResponse;
+import com.attrigo.asapp.grpc.clients.tasks.TaskLookupServiceGrpc;
+import com.attrigo.asapp.grpc.clients.tasks.UserTaskIds;
+import com.attrigo.asapp.grpc.clients.tasks.Uuid;
+import com.attrigo.asapp.grpc.clients.tasks.UuidMapper;
+import com.attrigo.asapp.http.clients.tasks.TasksHttpClient;
+
+/**
+ * Compares looking up the task ids of many users over the REST API against the internal gRPC API.
+ * <p>
+ * Both transports run in-process over loopback TCP against servers answering from memory, so the comparison isolates serialization, framing and connection
+ * handling from the database. Each operation looks up every user once:
+ * <ul>
+ * <li>{@code restUnary}: one {@code GET /api/tasks/user/{id}} per user through the declarative {@link TasksHttpClient}, returning the full task JSON as
+ * tasks-service does</li>
+ * <li>{@code grpcUnary}: one call per user through the {@link TasksGrpcClient}</li>
+ * <li>{@code grpcBatch}: a single call for every user</li>
+ * <li>{@code grpcStreaming}: a single call streaming one message per user</li>
+ * </ul>
+ * Latencies are sampled, so the report includes their percentiles. Both channels are plaintext: TLS would add the same cost to each transport. The REST
+ * server disables Nagle's algorithm, as the servlet containers do, so its responses are not held back by delayed acknowledgements.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -pl services/asapp-users-service test -Djmh.args=TasksTransportBenchmark}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class TasksTransportBenchmark {
+
+    private static final int TASKS_PER_USER = 20;
+
+    private final Map<UUID, List<UUID>> taskIdsByUserId = new HashMap<>();
+
+    private final Map<UUID, byte[]> jsonByUserId = new HashMap<>();
+
+    @Param({ "500" })
+    private int users;
+
+    private List<UUID> userIds;
+
+    private HttpServer httpServer;
+
+    private Server grpcServer;
+
+    private TasksHttpClient tasksHttpClient;
+
+    private TasksGrpcClient tasksGrpcClient;
+
+    @Setup
+    public void setup() throws IOException {
+        for (int user = 0; user < users; user++) {
+            var userId = UUID.randomUUID();
+            var taskIds = new ArrayList<UUID>();
+            for (int task = 0; task < TASKS_PER_USER; task++) {
+                taskIds.add(UUID.randomUUID());
+            }
+            taskIdsByUserId.put(userId, taskIds);
+            jsonByUserId.put(userId, toJson(userId, taskIds));
+        }
+        userIds = List.copyOf(taskIdsByUserId.keySet());
+
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        httpServer.createContext("/api/tasks/user/", exchange -> {
+            var path = exchange.getRequestURI()
+                               .getPath();
+            var body = jsonByUserId.get(UUID.fromString(path.substring(path.lastIndexOf('/') + 1)));
+            exchange.getResponseHeaders()
+                    .set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (var responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        httpServer.start();
+
+        grpcServer = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                         .executor(Executors.newVirtualThreadPerTaskExecutor())
+                         .addService(new InMemoryTaskLookupService(taskIdsByUserId))
+                         .build()
+                         .start();
+
+        var restClient = RestClient.create("http://localhost:" + httpServer.getAddress()
+                                                                           .getPort());
+        tasksHttpClient = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient))
+                                                 .build()
+                                                 .createClient(TasksHttpClient.class);
+        var channel = Grpc.newChannelBuilder("localhost:" + grpcServer.getPort(), InsecureChannelCredentials.create())
+                          .build();
+        tasksGrpcClient = new TasksGrpcClient(channel, Duration.ofSeconds(30));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        tasksGrpcClient.destroy();
+        grpcServer.shutdownNow();
+        httpServer.stop(0);
+    }
+
+    @Benchmark
+    public int restUnary() {
+        var tasks = 0;
+        for (var userId : userIds) {
+            tasks += tasksHttpClient.getTasksByUserId(userId)
+                                    .size();
+        }
+        return tasks;
+    }
+
+    @Benchmark
+    public int grpcUnary() {
+        var tasks = 0;
+        for (var userId : userIds) {
+            tasks += tasksGrpcClient.getTaskIdsByUserId(userId)
+                                    .size();
+        }
+        return tasks;
+    }
+
+    @Benchmark
+    public Map<UUID, List<UUID>> grpcBatch() {
+        return tasksGrpcClient.getTaskIdsByUserIds(userIds);
+    }
+
+    @Benchmark
+    public int grpcStreaming() {
+        var received = new AtomicInteger();
+        tasksGrpcClient.streamTaskIdsByUserIds(userIds, (userId, taskIds) -> received.addAndGet(taskIds.size()));
+        return received.get();
+    }
+
+    private static byte[] toJson(UUID userId, List<UUID> taskIds) {
+        return taskIds.stream()
+                      .map(taskId -> """
+                              {"taskId":"%s","userId":"%s","title":"Task title","description":"Task description",\
+                              "startDate":"2026-01-01T09:00:00Z","endDate":"2026-01-01T10:00:00Z"}""".formatted(taskId, userId))
+                      .collect(Collectors.joining(",", "[", "]"))
+                      .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Task lookup service answering from memory.
+     */
+    private static final class InMemoryTaskLookupService extends TaskLookupServiceGrpc.TaskLookupServiceImplBase {
+
+        private final Map<UUID, List<UUID>> taskIdsByUserId;
+
+        private InMemoryTaskLookupService(Map<UUID, List<UUID>> taskIdsByUserId) {
+            this.taskIdsByUserId = taskIdsByUserId;
+        }
+
+        @Override
+        public void getTaskIdsByUserId(GetTaskIdsByUserIdRequest request, StreamObserver<GetTaskIdsByUserIdResponse> responseObserver) {
+            responseObserver.onNext(GetTaskIdsByUserIdResponse.newBuilder()
+                                                              .addAllTaskIds(UuidMapper.toMessages(taskIdsOf(request.getUserId())))
+                                                              .build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getTaskIdsByUserIds(GetTaskIdsByUserIdsRequest request, StreamObserver<GetTaskIdsByUserIdsResponse> responseObserver) {
+            var response = GetTaskIdsByUserIdsResponse.newBuilder();
+            request.getUserIdsList()
+                   .forEach(userId -> response.addUsers(toMessage(userId)));
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void streamTaskIdsByUserIds(GetTaskIdsByUserIdsRequest request, StreamObserver<UserTaskIds> responseObserver) {
+            request.getUserIdsList()
+                   .forEach(userId -> responseObserver.onNext(toMessage(userId)));
+            responseObserver.onCompleted();
+        }
+
+        private UserTaskIds toMessage(Uuid userId) {
+            return UserTaskIds.newBuilder()
+                              .setUserId(userId)
+                              .addAllTaskIds(UuidMapper.toMessages(taskIdsOf(userId)))
+                              .build();
+        }
+
+        private List<UUID> taskIdsOf(Uuid userId) {
+            return taskIdsByUserId.getOrDefault(UuidMapper.fromMessage(userId), List.of());
+        }
+
+    }
+
+}
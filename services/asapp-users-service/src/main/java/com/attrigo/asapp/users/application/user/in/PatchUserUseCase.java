@@ -0,0 +1,45 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.application.user.in;
+
+import java.util.Optional;
+
+import com.attrigo.asapp.users.application.user.UserVersionMismatchException;
+import com.attrigo.asapp.users.application.user.in.command.PatchUserCommand;
+import com.attrigo.asapp.users.domain.user.User;
+
+/**
+ * Use case for partially updating an existing user in the system.
+ * <p>
+ * Defines the contract for modifying a subset of a user's fields.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface PatchUserUseCase {
+
+    /**
+     * Partially updates an existing user based on the provided command.
+     *
+     * @param command the {@link PatchUserCommand} containing the fields to modify
+     * @return an {@link Optional} containing the updated {@link User} if found, {@link Optional#empty} otherwise
+     * @throws IllegalArgumentException     if any modified value within the command is invalid
+     * @throws UserVersionMismatchException if the user does not have the expected version
+     */
+    Optional<User> patchUserById(PatchUserCommand command);
+
+}
@@ -16,12 +16,11 @@
 
 package com.attrigo.asapp.users.application.user.in;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.attrigo.asapp.users.application.user.in.result.UserWithTaskStatsResult;
 import com.attrigo.asapp.users.application.user.in.result.UserWithTasksResult;
-import com.attrigo.asapp.users.domain.user.User;
 
 /**
  * Use case for retrieving user information from the system.
@@ -48,21 +47,17 @@ public interface ReadUserUseCase {
     Optional<UserWithTasksResult> getUserById(UUID id);
 
     /**
-     * Retrieves users by their unique identifiers.
+     * Retrieves a user by their unique identifier, enriched with task statistics.
      * <p>
-     * Duplicate identifiers are ignored.
-     *
-     * @param ids the identifiers of the users
-     * @return a {@link List} of {@link User} entities found, or an empty list if none match
-     * @throws IllegalArgumentException if any id is invalid
-     */
-    List<User> getUsersByIds(List<UUID> ids);
-
-    /**
-     * Retrieves all users from the system.
+     * This method combines user information from the User bounded context with the task counts of the user from the Task bounded context, without retrieving
+     * the task identifiers.
+     * <p>
+     * If tasks-service is unavailable, the result is returned with the task statistics marked unavailable, allowing graceful degradation.
      *
-     * @return a {@link List} of all {@link User} entities
+     * @param id the user's unique identifier
+     * @return an {@link Optional} containing the {@link UserWithTaskStatsResult} if found, {@link Optional#empty} otherwise
+     * @throws IllegalArgumentException if the id is invalid
      */
-    List<User> getAllUsers();
+    Optional<UserWithTaskStatsResult> getUserWithTaskStatsById(UUID id);
 
 }
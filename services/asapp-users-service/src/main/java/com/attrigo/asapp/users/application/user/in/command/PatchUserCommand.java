@@ -0,0 +1,47 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.application.user.in.command;
+
+import java.util.Set;
+import java.util.UUID;
+
+import com.attrigo.asapp.users.domain.user.UserField;
+
+/**
+ * Command to partially update an existing user in the system.
+ * <p>
+ * Only the fields listed in {@code fields} are modified; the values of the other fields are ignored.
+ *
+ * @param userId          the user's unique identifier
+ * @param fields          the fields to modify
+ * @param firstName       the user's new first name
+ * @param lastName        the user's new last name
+ * @param email           the user's new email
+ * @param phoneNumber     the user's new phone number
+ * @param expectedVersion the version the user is expected to have, or {@code null} to update unconditionally
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record PatchUserCommand(
+        UUID userId,
+        Set<UserField> fields,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        Long expectedVersion
+) {}
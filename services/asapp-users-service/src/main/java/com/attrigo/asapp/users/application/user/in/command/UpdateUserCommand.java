@@ -23,11 +23,12 @@ import java.util.UUID;
  * <p>
  * Encapsulates the data required to modify a user.
  *
- * @param userId      the user's unique identifier
- * @param firstName   the user's first name
- * @param lastName    the user's last name
- * @param email       the user's email
- * @param phoneNumber the user's phone number
+ * @param userId          the user's unique identifier
+ * @param firstName       the user's first name
+ * @param lastName        the user's last name
+ * @param email           the user's email
+ * @param phoneNumber     the user's phone number
+ * @param expectedVersion the version the user is expected to have, or {@code null} to update unconditionally
  * @since 0.2.0
  * @author attrigo
  */
@@ -36,5 +37,6 @@ public record UpdateUserCommand(
         String firstName,
         String lastName,
         String email,
-        String phoneNumber
+        String phoneNumber,
+        Long expectedVersion
 ) {}
@@ -0,0 +1,104 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.application.user.in.result;
+
+import com.attrigo.asapp.users.application.user.out.TaskStats;
+import com.attrigo.asapp.users.domain.user.User;
+
+/**
+ * Result object containing user information enriched with task statistics.
+ * <p>
+ * Represents the result of a query that combines user data from the User bounded context with the task counts of the user from the Task bounded context, for
+ * clients that need how many tasks a user has rather than which ones.
+ *
+ * @param user                  the {@link User} domain entity containing core user information
+ * @param taskStats             the task statistics of the user, or {@code null} when tasks are unavailable
+ * @param tasksServiceAvailable whether the task statistics were successfully retrieved; {@code false} indicates degraded data
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record UserWithTaskStatsResult(
+        User user,
+        TaskStats taskStats,
+        boolean tasksServiceAvailable
+) {
+
+    /**
+     * Constructs a new {@code UserWithTaskStatsResult} instance and validates its integrity.
+     * <p>
+     * Prefer the factory methods {@link #available(User, TaskStats)} or {@link #unavailable(User)} over direct instantiation.
+     *
+     * @param user                  the user entity to validate and store
+     * @param taskStats             the task statistics to validate and store
+     * @param tasksServiceAvailable the tasks-service availability flag to validate and store
+     * @throws IllegalArgumentException if {@code user} is {@code null}, or if {@code taskStats} is inconsistent with {@code tasksServiceAvailable}
+     */
+    public UserWithTaskStatsResult {
+        validateUserIsNotNull(user);
+        validateTaskStatsConsistency(taskStats, tasksServiceAvailable);
+    }
+
+    /**
+     * Creates a result for a user whose task statistics were retrieved successfully.
+     *
+     * @param user      the user entity
+     * @param taskStats the retrieved task statistics (never {@code null}; zero counts when the user has no tasks)
+     * @return an available {@code UserWithTaskStatsResult}
+     */
+    public static UserWithTaskStatsResult available(User user, TaskStats taskStats) {
+        return new UserWithTaskStatsResult(user, taskStats, true);
+    }
+
+    /**
+     * Creates a degraded result for a user whose task statistics could not be retrieved because tasks-service is unavailable.
+     *
+     * @param user the user entity
+     * @return an unavailable {@code UserWithTaskStatsResult} with {@code null} task statistics
+     */
+    public static UserWithTaskStatsResult unavailable(User user) {
+        return new UserWithTaskStatsResult(user, null, false);
+    }
+
+    /**
+     * Validates that the user is present.
+     *
+     * @param user the user entity to check
+     * @throws IllegalArgumentException if {@code user} is {@code null}
+     */
+    private static void validateUserIsNotNull(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User must not be null");
+        }
+    }
+
+    /**
+     * Validates that the task statistics are consistent with the tasks-service availability flag.
+     *
+     * @param taskStats             the task statistics to check
+     * @param tasksServiceAvailable the tasks-service availability flag
+     * @throws IllegalArgumentException if {@code taskStats} is {@code null} when tasks-service is available, or non-{@code null} when it is unavailable
+     */
+    private static void validateTaskStatsConsistency(TaskStats taskStats, boolean tasksServiceAvailable) {
+        if (tasksServiceAvailable && taskStats == null) {
+            throw new IllegalArgumentException("Task statistics must not be null when tasks are available");
+        }
+        if (!tasksServiceAvailable && taskStats != null) {
+            throw new IllegalArgumentException("Task statistics must be null when tasks are unavailable");
+        }
+    }
+
+}
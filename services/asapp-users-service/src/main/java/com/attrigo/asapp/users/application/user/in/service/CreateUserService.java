@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.attrigo.asapp.users.application.ApplicationService;
 import com.attrigo.asapp.users.application.user.in.CreateUserUseCase;
 import com.attrigo.asapp.users.application.user.in.command.CreateUserCommand;
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
 import com.attrigo.asapp.users.domain.user.User;
 import com.attrigo.asapp.users.domain.user.UserFactory;
@@ -34,6 +35,7 @@ import com.attrigo.asapp.users.domain.user.UserFactory;
  * <ol>
  * <li>Creates {@link User} domain object via {@link UserFactory}</li>
  * <li>Persists user to repository</li>
+<li>Publishes the user creation</li>
  * </ol>
  *
  * @since 0.2.0
@@ -44,13 +46,17 @@ public class CreateUserService implements CreateUserUseCase {
 
     private final UserRepository userRepository;
 
+    private final UserEventPublisher userEventPublisher;
+
     /**
      * Constructs a new {@code CreateUserService} with required dependencies.
      *
-     * @param userRepository the repository for user data access
+     * @param userRepository     the repository for user data access
+     * @param userEventPublisher the publisher of user events
      */
-    public CreateUserService(UserRepository userRepository) {
+    public CreateUserService(UserRepository userRepository, UserEventPublisher userEventPublisher) {
         this.userRepository = userRepository;
+        this.userEventPublisher = userEventPublisher;
     }
 
     @Override
@@ -58,7 +64,10 @@ public class CreateUserService implements CreateUserUseCase {
     public User createUser(CreateUserCommand command) {
         var user = UserFactory.create(command.firstName(), command.lastName(), command.email(), command.phoneNumber());
 
-        return persistUser(user);
+        var createdUser = persistUser(user);
+        userEventPublisher.publishUserCreated(createdUser);
+
+        return createdUser;
     }
 
     /**
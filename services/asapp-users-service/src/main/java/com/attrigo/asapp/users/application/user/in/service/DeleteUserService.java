@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.users.application.ApplicationService;
 import com.attrigo.asapp.users.application.user.in.DeleteUserUseCase;
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
 import com.attrigo.asapp.users.domain.user.UserId;
 
@@ -34,6 +35,7 @@ import com.attrigo.asapp.users.domain.user.UserId;
  * <ol>
  * <li>Transforms UUID into domain value object {@link UserId}</li>
  * <li>Deletes user from repository</li>
+<li>Publishes the user deletion if the user existed</li>
  * </ol>
  *
  * @since 0.2.0
@@ -44,13 +46,17 @@ public class DeleteUserService implements DeleteUserUseCase {
 
     private final UserRepository userRepository;
 
+    private final UserEventPublisher userEventPublisher;
+
     /**
      * Constructs a new {@code DeleteUserService} with required dependencies.
      *
-     * @param userRepository the repository for user data access
+     * @param userRepository     the repository for user data access
+     * @param userEventPublisher the publisher of user events
      */
-    public DeleteUserService(UserRepository userRepository) {
+    public DeleteUserService(UserRepository userRepository, UserEventPublisher userEventPublisher) {
         this.userRepository = userRepository;
+        this.userEventPublisher = userEventPublisher;
     }
 
     @Override
@@ -58,7 +64,12 @@ public class DeleteUserService implements DeleteUserUseCase {
     public Boolean deleteUserById(UUID id) {
         var userId = UserId.of(id);
 
-        return deleteUser(userId);
+        var deleted = deleteUser(userId);
+        if (deleted) {
+            userEventPublisher.publishUserDeleted(userId);
+        }
+
+        return deleted;
     }
 
     /**
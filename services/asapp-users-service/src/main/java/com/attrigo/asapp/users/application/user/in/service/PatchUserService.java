@@ -0,0 +1,178 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.application.user.in.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.attrigo.asapp.users.application.ApplicationService;
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
+import com.attrigo.asapp.users.application.user.UserVersionMismatchException;
+import com.attrigo.asapp.users.application.user.in.PatchUserUseCase;
+import com.attrigo.asapp.users.application.user.in.command.PatchUserCommand;
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
+import com.attrigo.asapp.users.application.user.out.UserRepository;
+import com.attrigo.asapp.users.domain.user.Email;
+import com.attrigo.asapp.users.domain.user.FirstName;
+import com.attrigo.asapp.users.domain.user.LastName;
+import com.attrigo.asapp.users.domain.user.PhoneNumber;
+import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserField;
+import com.attrigo.asapp.users.domain.user.UserId;
+
+/**
+ * Application service responsible for orchestrating partial user update operations.
+ * <p>
+ * Coordinates the partial update workflow so that only the fields the caller modifies, and whose value actually differs, are written back.
+ * <p>
+ * <strong>Orchestration Flow:</strong>
+ * <ol>
+ * <li>Transforms the modified command parameters into domain value objects</li>
+ * <li>Retrieves existing user from repository by ID</li>
+ * <li>Returns empty if user not found</li>
+ * <li>Rejects the update if the user's version differs from the expected one</li>
+ * <li>Applies the changes to the user domain object, which tracks the changed fields</li>
+ * <li>Persists only the changed fields to repository</li>
+<li>Publishes the user update if any field changed</li>
+ * </ol>
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@ApplicationService
+public class PatchUserService implements PatchUserUseCase {
+
+    private static final String USE_CASE = "patch-user";
+
+    private final UserRepository userRepository;
+
+    private final UserEventPublisher userEventPublisher;
+
+    private final UseCaseStepObserver stepObserver;
+
+    /**
+     * Constructs a new {@code PatchUserService} with required dependencies.
+     *
+     * @param userRepository     the repository for user data access
+     * @param userEventPublisher the publisher of user events
+     * @param stepObserver       the observer of the use case steps
+     */
+    public PatchUserService(UserRepository userRepository, UserEventPublisher userEventPublisher, UseCaseStepObserver stepObserver) {
+        this.userRepository = userRepository;
+        this.userEventPublisher = userEventPublisher;
+        this.stepObserver = stepObserver;
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> patchUserById(PatchUserCommand command) {
+        var userId = UserId.of(command.userId());
+        var changes = toChanges(command);
+
+        var optionalUser = stepObserver.observe(USE_CASE, "retrieve-user", () -> retrieveUser(userId));
+        if (optionalUser.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var user = optionalUser.get();
+        validateExpectedVersion(user, command.expectedVersion());
+        changes.forEach(change -> change.accept(user));
+        var changed = !user.getChangedFields()
+                           .isEmpty();
+
+        var patchedUser = stepObserver.observe(USE_CASE, "persist-user", () -> persistUserChanges(user));
+        if (changed) {
+            userEventPublisher.publishUserUpdated(patchedUser);
+        }
+        return Optional.of(patchedUser);
+    }
+
+    /**
+     * Transforms the modified command parameters into changes to apply to the user.
+     * <p>
+     * Value objects are built upfront, so invalid values are rejected before the user is retrieved.
+     *
+     * @param command the command containing the fields to modify
+     * @return the {@link List} of changes to apply to the user
+     * @throws IllegalArgumentException if any value object validation fails
+     */
+    private List<Consumer<User>> toChanges(PatchUserCommand command) {
+        var fields = command.fields();
+        var changes = new ArrayList<Consumer<User>>();
+
+        if (fields.contains(UserField.FIRST_NAME)) {
+            var newFirstName = FirstName.of(command.firstName());
+            changes.add(user -> user.changeFirstName(newFirstName));
+        }
+        if (fields.contains(UserField.LAST_NAME)) {
+            var newLastName = LastName.of(command.lastName());
+            changes.add(user -> user.changeLastName(newLastName));
+        }
+        if (fields.contains(UserField.EMAIL)) {
+            var newEmail = Email.of(command.email());
+            changes.add(user -> user.changeEmail(newEmail));
+        }
+        if (fields.contains(UserField.PHONE_NUMBER)) {
+            var newPhoneNumber = PhoneNumber.of(command.phoneNumber());
+            changes.add(user -> user.changePhoneNumber(newPhoneNumber));
+        }
+
+        return changes;
+    }
+
+    /**
+     * Retrieves user from repository by identifier.
+     *
+     * @param userId the user's unique identifier
+     * @return an {@link Optional} containing the {@link User} if found, {@link Optional#empty} otherwise
+     */
+    private Optional<User> retrieveUser(UserId userId) {
+        return userRepository.findById(userId);
+    }
+
+    /**
+     * Validates that the user still has the version the caller expects.
+     * <p>
+     * A {@code null} expected version skips the check; concurrent updates are still detected when the changes are persisted.
+     *
+     * @param user            the retrieved user
+     * @param expectedVersion the version the caller expects, or {@code null} to update unconditionally
+     * @throws UserVersionMismatchException if the user's version differs from the expected one
+     */
+    private void validateExpectedVersion(User user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            var message = "User %s has version %d but version %d was expected".formatted(user.getId()
+                                                                                              .value(), user.getVersion(), expectedVersion);
+            throw new UserVersionMismatchException(message);
+        }
+    }
+
+    /**
+     * Persists the changed fields of the user to repository.
+     *
+     * @param user the user domain object whose changes are persisted
+     * @return the persisted {@link User}
+     */
+    private User persistUserChanges(User user) {
+        return userRepository.saveChanges(user);
+    }
+
+}
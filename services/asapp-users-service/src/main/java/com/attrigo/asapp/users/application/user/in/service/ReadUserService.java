@@ -16,14 +16,16 @@
 
 package com.attrigo.asapp.users.application.user.in.service;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+
+import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.users.application.ApplicationService;
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
 import com.attrigo.asapp.users.application.user.TasksUnavailableException;
 import com.attrigo.asapp.users.application.user.in.ReadUserUseCase;
+import com.attrigo.asapp.users.application.user.in.result.UserWithTaskStatsResult;
 import com.attrigo.asapp.users.application.user.in.result.UserWithTasksResult;
 import com.attrigo.asapp.users.application.user.out.TasksGateway;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
@@ -33,7 +35,7 @@ import com.attrigo.asapp.users.domain.user.UserId;
 /**
  * Application service responsible for orchestrating user retrieval operations.
  * <p>
- * Coordinates user query operations including single user retrieval and bulk user listing.
+ * Coordinates the retrieval of a single user, with task references or task statistics.
  *
  * @since 0.2.0
  * @author attrigo
@@ -41,51 +43,55 @@ import com.attrigo.asapp.users.domain.user.UserId;
 @ApplicationService
 public class ReadUserService implements ReadUserUseCase {
 
+    private static final String USE_CASE = "read-user";
+
     private final UserRepository userRepository;
 
     private final TasksGateway tasksGateway;
 
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code ReadUserService} with required dependencies.
      *
      * @param userRepository the repository for user data access
      * @param tasksGateway   the task gateway for accessing task information from tasks-service
+     * @param stepObserver   the observer of the use case steps
      */
-    public ReadUserService(UserRepository userRepository, TasksGateway tasksGateway) {
+    public ReadUserService(UserRepository userRepository, TasksGateway tasksGateway, UseCaseStepObserver stepObserver) {
         this.userRepository = userRepository;
         this.tasksGateway = tasksGateway;
+        this.stepObserver = stepObserver;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserWithTasksResult> getUserById(UUID id) {
         var userId = UserId.of(id);
 
-        var optionalUser = userRepository.findById(userId);
+        var optionalUser = stepObserver.observe(USE_CASE, "retrieve-user", () -> userRepository.findById(userId));
         if (optionalUser.isEmpty()) {
             return Optional.empty();
         }
 
         var user = optionalUser.get();
-        var result = enrichUserWithTasks(user);
+        var result = stepObserver.observe(USE_CASE, "enrich-with-tasks", () -> enrichUserWithTasks(user));
         return Optional.of(result);
     }
 
     @Override
-    public List<User> getUsersByIds(List<UUID> ids) {
-        var userIds = ids.stream()
-                         .map(UserId::of)
-                         .collect(Collectors.toUnmodifiableSet());
-
-        return userRepository.findByIds(userIds)
-                             .stream()
-                             .toList();
-    }
+    @Transactional(readOnly = true)
+    public Optional<UserWithTaskStatsResult> getUserWithTaskStatsById(UUID id) {
+        var userId = UserId.of(id);
 
-    @Override
-    public List<User> getAllUsers() {
-        return userRepository.findAll()
-                             .stream()
-                             .toList();
+        var optionalUser = stepObserver.observe(USE_CASE, "retrieve-user", () -> userRepository.findById(userId));
+        if (optionalUser.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var user = optionalUser.get();
+        var result = stepObserver.observe(USE_CASE, "enrich-with-task-stats", () -> enrichUserWithTaskStats(user));
+        return Optional.of(result);
     }
 
     /**
@@ -107,4 +113,21 @@ public class ReadUserService implements ReadUserUseCase {
         }
     }
 
+    /**
+     * Enriches user with task statistics from tasks-service.
+     * <p>
+     * If tasks-service is unavailable, returns the user with task statistics marked unavailable.
+     *
+     * @param user the user to enrich
+     * @return a {@link UserWithTaskStatsResult} containing user and task statistics, or a degraded result if tasks-service is unavailable
+     */
+    private UserWithTaskStatsResult enrichUserWithTaskStats(User user) {
+        try {
+            var taskStats = tasksGateway.getTaskStatsByUserId(user.getId());
+            return UserWithTaskStatsResult.available(user, taskStats);
+        } catch (TasksUnavailableException _) {
+            return UserWithTaskStatsResult.unavailable(user);
+        }
+    }
+
 }
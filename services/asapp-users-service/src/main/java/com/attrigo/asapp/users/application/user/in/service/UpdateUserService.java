@@ -21,8 +21,11 @@ import java.util.Optional;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.attrigo.asapp.users.application.ApplicationService;
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
+import com.attrigo.asapp.users.application.user.UserVersionMismatchException;
 import com.attrigo.asapp.users.application.user.in.UpdateUserUseCase;
 import com.attrigo.asapp.users.application.user.in.command.UpdateUserCommand;
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
 import com.attrigo.asapp.users.domain.user.Email;
 import com.attrigo.asapp.users.domain.user.FirstName;
@@ -34,15 +37,15 @@ import com.attrigo.asapp.users.domain.user.UserId;
 /**
  * Application service responsible for orchestrating user update operations.
  * <p>
- * Coordinates the user update workflow including user retrieval, parameter transformation, domain object update, and persistence.
+ * Coordinates the user update workflow including parameter transformation and a single-round-trip persistence of the new state.
  * <p>
  * <strong>Orchestration Flow:</strong>
  * <ol>
- * <li>Retrieves existing user from repository by ID</li>
- * <li>Returns empty if user not found</li>
  * <li>Transforms command parameters into domain value objects</li>
- * <li>Updates user domain object</li>
- * <li>Persists updated user to repository</li>
+ * <li>Updates the user in the repository, returning its new state</li>
+<li>Publishes the user update if the user was updated</li>
+ * <li>If nothing was updated while a version was expected, rejects the update if the user exists with another version</li>
+ * <li>Returns empty if user not found</li>
  * </ol>
  *
  * @since 0.2.0
@@ -51,32 +54,45 @@ import com.attrigo.asapp.users.domain.user.UserId;
 @ApplicationService
 public class UpdateUserService implements UpdateUserUseCase {
 
+    private static final String USE_CASE = "update-user";
+
     private final UserRepository userRepository;
 
+    private final UserEventPublisher userEventPublisher;
+
+    private final UseCaseStepObserver stepObserver;
+
     /**
      * Constructs a new {@code UpdateUserService} with required dependencies.
      *
-     * @param userRepository the repository for user data access
+     * @param userRepository     the repository for user data access
+     * @param userEventPublisher the publisher of user events
+     * @param stepObserver       the observer of the use case steps
      */
-    public UpdateUserService(UserRepository userRepository) {
+    public UpdateUserService(UserRepository userRepository, UserEventPublisher userEventPublisher, UseCaseStepObserver stepObserver) {
         this.userRepository = userRepository;
+        this.userEventPublisher = userEventPublisher;
+        this.stepObserver = stepObserver;
     }
 
     @Override
     @Transactional
     public Optional<User> updateUserById(UpdateUserCommand command) {
         var userId = UserId.of(command.userId());
+        var newFirstName = FirstName.of(command.firstName());
+        var newLastName = LastName.of(command.lastName());
+        var newEmail = Email.of(command.email());
+        var newPhoneNumber = PhoneNumber.of(command.phoneNumber());
 
-        var optionalUser = retrieveUser(userId);
-        if (optionalUser.isEmpty()) {
-            return Optional.empty();
+        var updatedUser = stepObserver.observe(USE_CASE, "persist-user",
+                () -> userRepository.updateById(userId, newFirstName, newLastName, newEmail, newPhoneNumber, command.expectedVersion()));
+        if (updatedUser.isEmpty() && command.expectedVersion() != null) {
+            stepObserver.observe(USE_CASE, "retrieve-user", () -> retrieveUser(userId))
+                        .ifPresent(user -> rejectVersionMismatch(user, command.expectedVersion()));
         }
+        updatedUser.ifPresent(userEventPublisher::publishUserUpdated);
 
-        var user = optionalUser.get();
-        updateUserDomain(user, command);
-
-        var updatedUser = persistUser(user);
-        return Optional.of(updatedUser);
+        return updatedUser;
     }
 
     /**
@@ -90,31 +106,16 @@ public class UpdateUserService implements UpdateUserUseCase {
     }
 
     /**
-     * Updates user domain object with new values from command.
-     * <p>
-     * Transforms command parameters into value objects and delegates to domain update method.
-     *
-     * @param user    the user domain object to update
-     * @param command the command containing new values
-     * @throws IllegalArgumentException if any value object validation fails
-     */
-    private void updateUserDomain(User user, UpdateUserCommand command) {
-        var newFirstName = FirstName.of(command.firstName());
-        var newLastName = LastName.of(command.lastName());
-        var newEmail = Email.of(command.email());
-        var newPhoneNumber = PhoneNumber.of(command.phoneNumber());
-
-        user.update(newFirstName, newLastName, newEmail, newPhoneNumber);
-    }
-
-    /**
-     * Persists updated user to repository.
+     * Rejects an update that did not apply because the user no longer has the version the caller expects.
      *
-     * @param user the user domain object to persist
-     * @return the persisted {@link User}
+     * @param user            the current user
+     * @param expectedVersion the version the caller expects
+     * @throws UserVersionMismatchException always, describing the user's current and expected versions
      */
-    private User persistUser(User user) {
-        return userRepository.save(user);
+    private void rejectVersionMismatch(User user, Long expectedVersion) {
+        var message = "User %s has version %d but version %d was expected".formatted(user.getId()
+                                                                                          .value(), user.getVersion(), expectedVersion);
+        throw new UserVersionMismatchException(message);
     }
 
 }
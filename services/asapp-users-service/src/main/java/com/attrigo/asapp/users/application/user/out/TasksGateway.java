@@ -47,4 +47,19 @@ public interface TasksGateway {
      */
     List<UUID> getTaskIdsByUserId(UserId userId);
 
+    /**
+     * Retrieves the task statistics of a specific user.
+     * <p>
+     * This method queries the tasks-service for the task counts of the specified user, which it keeps up to date as tasks change, so the tasks themselves are
+     * never transferred.
+     * <p>
+     * When tasks-service is unavailable (server error, I/O failure, or open circuit), the implementation throws {@link TasksUnavailableException} so the caller
+     * can decide how to degrade.
+     *
+     * @param userId the user's unique identifier
+     * @return the {@link TaskStats} of the user, with zero counts if the user has no tasks
+     * @throws TasksUnavailableException if tasks-service is unavailable
+     */
+    TaskStats getTaskStatsByUserId(UserId userId);
+
 }
@@ -0,0 +1,53 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.application.user.out;
+
+import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserId;
+
+/**
+ * Publisher port for announcing user changes to other bounded contexts.
+ * <p>
+ * Implementations must record the events within the caller's transaction, so an event is published if and only if the change it describes is committed.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public interface UserEventPublisher {
+
+    /**
+     * Publishes that a user has been created.
+     *
+     * @param user the created user, with its generated ID
+     */
+    void publishUserCreated(User user);
+
+    /**
+     * Publishes that a user has been updated.
+     *
+     * @param user the user with its new state and version
+     */
+    void publishUserUpdated(User user);
+
+    /**
+     * Publishes that a user has been deleted.
+     *
+     * @param userId the deleted user's unique identifier
+     */
+    void publishUserDeleted(UserId userId);
+
+}
@@ -16,9 +16,12 @@
 
 package com.attrigo.asapp.users.application.user.out;
 
-import java.util.Collection;
 import java.util.Optional;
 
+import com.attrigo.asapp.users.domain.user.Email;
+import com.attrigo.asapp.users.domain.user.FirstName;
+import com.attrigo.asapp.users.domain.user.LastName;
+import com.attrigo.asapp.users.domain.user.PhoneNumber;
 import com.attrigo.asapp.users.domain.user.User;
 import com.attrigo.asapp.users.domain.user.UserId;
 
@@ -41,31 +44,44 @@ public interface UserRepository {
     Optional<User> findById(UserId userId);
 
     /**
-     * Finds users by their unique identifiers.
+     * Saves a user to the repository.
+     * <p>
+     * If the user is new (without ID), it will be persisted and returned with a generated ID.
+     * <p>
+     * If the user is reconstituted (with ID), it will be updated.
      *
-     * @param userIds the collection of user identifiers
-     * @return a {@link Collection} of {@link User} entities found
+     * @param user the {@link User} to save
+     * @return the saved {@link User} with a persistent ID
      */
-    Collection<User> findByIds(Collection<UserId> userIds);
+    User save(User user);
 
     /**
-     * Retrieves all users from the repository.
+     * Persists the changed fields of a reconstituted user, leaving the other fields untouched.
+     * <p>
+     * A user without changed fields is returned as is, without accessing the repository.
      *
-     * @return a {@link Collection} of all {@link User} entities
+     * @param user the reconstituted {@link User} whose changed fields are persisted
+     * @return the persisted {@link User} with its new version
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the user was modified or deleted since it was retrieved
      */
-    Collection<User> findAll();
+    User saveChanges(User user);
 
     /**
-     * Saves a user to the repository.
+     * Updates the information of an existing user in a single round trip, returning the updated user.
      * <p>
-     * If the user is new (without ID), it will be persisted and returned with a generated ID.
+     * The update and the read of the resulting state happen atomically, incrementing the user's version.
      * <p>
-     * If the user is reconstituted (with ID), it will be updated.
+     * If an expected version is provided, the user is only updated while it still has that version.
      *
-     * @param user the {@link User} to save
-     * @return the saved {@link User} with a persistent ID
+     * @param userId          the user's unique identifier
+     * @param firstName       the new first name
+     * @param lastName        the new last name
+     * @param email           the new email
+     * @param phoneNumber     the new phone number
+     * @param expectedVersion the version the user is expected to have, or {@code null} to update unconditionally
+     * @return an {@link Optional} containing the updated {@link User}, {@link Optional#empty} if no user with the ID (and expected version) exists
      */
-    User save(User user);
+    Optional<User> updateById(UserId userId, FirstName firstName, LastName lastName, Email email, PhoneNumber phoneNumber, Long expectedVersion);
 
     /**
      * Deletes a user by their unique identifier.
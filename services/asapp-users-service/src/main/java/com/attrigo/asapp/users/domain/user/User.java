@@ -16,7 +16,9 @@
 
 package com.attrigo.asapp.users.domain.user;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a user entity.
@@ -25,6 +27,10 @@ import java.util.Objects;
  * <p>
  * Users can exist in two states: new (transient, without ID) and reconstituted (persistent, with ID).
  * <p>
+ * Reconstituted users also carry the version of their persistent state, which changes on every update and is used to detect concurrent modifications.
+ * <p>
+ * Changes applied to a user are tracked per {@link UserField}, letting persistence write back only the modified fields.
+ * <p>
  * Equality is based on ID; new instances are not considered equal to any other instance.
  *
  * @since 0.2.0
@@ -42,6 +48,10 @@ public final class User {
 
     private PhoneNumber phoneNumber;
 
+    private final Long version;
+
+    private final Set<UserField> changedFields = EnumSet.noneOf(UserField.class);
+
     /**
      * Constructs a new {@code User} instance and validates its integrity.
      *
@@ -61,6 +71,7 @@ public final class User {
         this.lastName = lastName;
         this.email = email;
         this.phoneNumber = phoneNumber;
+        this.version = null;
     }
 
     /**
@@ -71,19 +82,22 @@ public final class User {
      * @param lastName    the user's last name
      * @param email       the user's email
      * @param phoneNumber the user's phone number
+     * @param version     the user's persistent state version
      * @throws IllegalArgumentException if any parameter is {@code null}
      */
-    private User(UserId id, FirstName firstName, LastName lastName, Email email, PhoneNumber phoneNumber) {
+    private User(UserId id, FirstName firstName, LastName lastName, Email email, PhoneNumber phoneNumber, Long version) {
         validateIdIsNotNull(id);
         validateFirstNameIsNotNull(firstName);
         validateLastNameIsNotNull(lastName);
         validateEmailIsNotNull(email);
         validatePhoneNumberIsNotNull(phoneNumber);
+        validateVersionIsNotNull(version);
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
         this.phoneNumber = phoneNumber;
+        this.version = version;
     }
 
     /**
@@ -112,11 +126,12 @@ public final class User {
      * @param lastName    the user's last name
      * @param email       the user's email
      * @param phoneNumber the user's phone number
+     * @param version     the user's persistent state version
      * @return a reconstituted {@code User} instance
      * @throws IllegalArgumentException if any parameter is {@code null}
      */
-    static User reconstitute(UserId id, FirstName firstName, LastName lastName, Email email, PhoneNumber phoneNumber) {
-        return new User(id, firstName, lastName, email, phoneNumber);
+    static User reconstitute(UserId id, FirstName firstName, LastName lastName, Email email, PhoneNumber phoneNumber, Long version) {
+        return new User(id, firstName, lastName, email, phoneNumber, version);
     }
 
     /**
@@ -133,10 +148,66 @@ public final class User {
         validateLastNameIsNotNull(lastName);
         validateEmailIsNotNull(email);
         validatePhoneNumberIsNotNull(phoneNumber);
-        this.firstName = firstName;
-        this.lastName = lastName;
-        this.email = email;
-        this.phoneNumber = phoneNumber;
+        changeFirstName(firstName);
+        changeLastName(lastName);
+        changeEmail(email);
+        changePhoneNumber(phoneNumber);
+    }
+
+    /**
+     * Changes the user's first name, tracking the field as changed if the value differs.
+     *
+     * @param firstName the new first name
+     * @throws IllegalArgumentException if the first name is {@code null}
+     */
+    public void changeFirstName(FirstName firstName) {
+        validateFirstNameIsNotNull(firstName);
+        if (!firstName.equals(this.firstName)) {
+            this.firstName = firstName;
+            this.changedFields.add(UserField.FIRST_NAME);
+        }
+    }
+
+    /**
+     * Changes the user's last name, tracking the field as changed if the value differs.
+     *
+     * @param lastName the new last name
+     * @throws IllegalArgumentException if the last name is {@code null}
+     */
+    public void changeLastName(LastName lastName) {
+        validateLastNameIsNotNull(lastName);
+        if (!lastName.equals(this.lastName)) {
+            this.lastName = lastName;
+            this.changedFields.add(UserField.LAST_NAME);
+        }
+    }
+
+    /**
+     * Changes the user's email, tracking the field as changed if the value differs.
+     *
+     * @param email the new email
+     * @throws IllegalArgumentException if the email is {@code null}
+     */
+    public void changeEmail(Email email) {
+        validateEmailIsNotNull(email);
+        if (!email.equals(this.email)) {
+            this.email = email;
+            this.changedFields.add(UserField.EMAIL);
+        }
+    }
+
+    /**
+     * Changes the user's phone number, tracking the field as changed if the value differs.
+     *
+     * @param phoneNumber the new phone number
+     * @throws IllegalArgumentException if the phone number is {@code null}
+     */
+    public void changePhoneNumber(PhoneNumber phoneNumber) {
+        validatePhoneNumberIsNotNull(phoneNumber);
+        if (!phoneNumber.equals(this.phoneNumber)) {
+            this.phoneNumber = phoneNumber;
+            this.changedFields.add(UserField.PHONE_NUMBER);
+        }
     }
 
     /**
@@ -221,6 +292,24 @@ public final class User {
         return this.phoneNumber;
     }
 
+    /**
+     * Returns the version of the user's persistent state.
+     *
+     * @return the version, or {@code null} for new users
+     */
+    public Long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the fields changed since the user was created or reconstituted.
+     *
+     * @return an unmodifiable {@link Set} of the changed {@link UserField}s, empty if nothing changed
+     */
+    public Set<UserField> getChangedFields() {
+        return Set.copyOf(this.changedFields);
+    }
+
     /**
      * Validates that the user ID is not {@code null}.
      *
@@ -281,4 +370,16 @@ public final class User {
         }
     }
 
+    /**
+     * Validates that the version is not {@code null}.
+     *
+     * @param version the version to validate
+     * @throws IllegalArgumentException if the version is {@code null}
+     */
+    private static void validateVersionIsNotNull(Long version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version must not be null");
+        }
+    }
+
 }
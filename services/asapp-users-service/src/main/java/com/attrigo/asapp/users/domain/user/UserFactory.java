@@ -58,17 +58,18 @@ public final class UserFactory {
      * @param lastName    the user's last name
      * @param email       the user's email
      * @param phoneNumber the user's phone number
+     * @param version     the user's persistent state version
      * @return a reconstituted {@link User} instance
      * @throws IllegalArgumentException if any parameter is invalid
      */
-    public static User reconstitute(UUID id, String firstName, String lastName, String email, String phoneNumber) {
+    public static User reconstitute(UUID id, String firstName, String lastName, String email, String phoneNumber, Long version) {
         var idVO = UserId.of(id);
         var firstNameVO = FirstName.of(firstName);
         var lastNameVO = LastName.of(lastName);
         var emailVO = Email.of(email);
         var phoneNumberVO = PhoneNumber.of(phoneNumber);
 
-        return User.reconstitute(idVO, firstNameVO, lastNameVO, emailVO, phoneNumberVO);
+        return User.reconstitute(idVO, firstNameVO, lastNameVO, emailVO, phoneNumberVO, version);
     }
 
 }
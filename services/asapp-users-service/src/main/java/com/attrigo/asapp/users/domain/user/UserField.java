@@ -0,0 +1,49 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.domain.user;
+
+/**
+ * Enumerates the modifiable fields of a {@link User}.
+ * <p>
+ * Used to track which fields of a reconstituted user have changed since it was loaded, so only those are written back.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public enum UserField {
+
+    /**
+     * The user's first name.
+     */
+    FIRST_NAME,
+
+    /**
+     * The user's last name.
+     */
+    LAST_NAME,
+
+    /**
+     * The user's email.
+     */
+    EMAIL,
+
+    /**
+     * The user's phone number.
+     */
+    PHONE_NUMBER
+
+}
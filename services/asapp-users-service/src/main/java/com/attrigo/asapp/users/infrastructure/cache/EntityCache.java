@@ -0,0 +1,71 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.cache;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of persistence entities by identifier, invalidated by the write paths.
+ * <p>
+ * Repository adapters read through it and evict the entities they write or delete; the domain and application layers are not aware of it.
+ *
+ * @param <V> the type of the cached entities
+ * @since 0.5.0
+ * @see TwoTierEntityCache
+ * @author attrigo
+ */
+public interface EntityCache<V> {
+
+    /**
+     * Returns the entity cached for an identifier, loading and caching it on a miss.
+     *
+     * @param id     the entity's unique identifier
+     * @param loader the function loading the entity from the database; exceptions are propagated and nothing is cached
+     * @return an {@link Optional} containing the entity if it exists, {@link Optional#empty} otherwise
+     */
+    Optional<V> get(UUID id, Function<UUID, Optional<V>> loader);
+
+    /**
+     * Evicts the entity cached for an identifier, if any.
+     *
+     * @param id the entity's unique identifier
+     */
+    void evict(UUID id);
+
+    /**
+     * Returns a cache that caches nothing, always reading through the loader.
+     *
+     * @param <V> the type of the entities
+     * @return the disabled {@link EntityCache}
+     */
+    static <V> EntityCache<V> disabled() {
+        return new EntityCache<>() {
+
+            @Override
+            public Optional<V> get(UUID id, Function<UUID, Optional<V>> loader) {
+                return loader.apply(id);
+            }
+
+            @Override
+            public void evict(UUID id) {}
+
+        };
+    }
+
+}
@@ -0,0 +1,383 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Two-tier {@link EntityCache}: a bounded in-process L1 in front of an L2 shared by every replica in Redis.
+ * <p>
+ * A lookup is answered by the L1, then by the L2, then by the loader; entities loaded from the database are written to both tiers, entities read from the L2
+ * to the L1. Absent entities are not cached. Loads are performed atomically per identifier, so an L1 eviction issued while a load is in flight discards the
+ * loaded value instead of racing with it.
+ * <p>
+ * Reads within a read-write transaction bypass both tiers, so the entities that are about to be changed are always read from the database.
+ * <p>
+ * Cache misses and verifications read the database through the given transaction operations rather than the caller's transaction. With read replicas they
+ * run in a separate transaction on the primary: a read-only use case is routed to a replica, and a replica lagging behind a write would otherwise put the
+ * previous version of the entity back in both tiers right after the write evicted it.
+ * <p>
+ * Evictions are write-through: the L1 entry and the L2 key are removed right away and the eviction is broadcast over Redis pub/sub to the L1 of the other
+ * replicas. When called within a transaction, the eviction is repeated and the broadcast deferred until after commit, so no replica can reload the entity
+ * before the change is visible. A load that read the database before the commit and writes the L2 after it leaves a stale entry until the L2 time-to-live.
+ * <p>
+ * Redis failures are logged and counted but never propagated: the L2 is then skipped and the other replicas rely on the L1 time-to-live.
+ * <p>
+ * A sample of the cache hits is verified against the database to measure the staleness the cache introduces; stale entries found are evicted.
+ * <p>
+ * Publishes the standard cache metrics of the L1, plus the {@code asapp.entity-cache.l2.requests}, {@code asapp.entity-cache.evictions},
+ * {@code asapp.entity-cache.verifications} and {@code asapp.entity-cache.stale} counters, tagged with the cache name.
+ *
+ * @param <V> the type of the cached entities
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class TwoTierEntityCache<V> implements EntityCache<V>, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierEntityCache.class);
+
+    private final String name;
+
+    private final Class<V> type;
+
+    private final Cache<UUID, V> l1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration l2Ttl;
+
+    private final double verificationRate;
+
+    private final TransactionOperations databaseReads;
+
+    private final Counter l2Hits;
+
+    private final Counter l2Misses;
+
+    private final Counter l2Errors;
+
+    private final Counter writeEvictions;
+
+    private final Counter remoteEvictions;
+
+    private final Counter staleEvictions;
+
+    private final Counter verifications;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new {@code TwoTierEntityCache}.
+     *
+     * @param name             the cache name, used for the Redis keys, the evictions channel and the metrics
+     * @param type             the type of the cached entities, used to read them from the L2
+     * @param redisTemplate    the Spring Data Redis template for the L2 and the evictions broadcast
+     * @param objectMapper     the Jackson ObjectMapper for the JSON serialization of the L2 entries
+     * @param meterRegistry    the registry where the cache metrics are published
+     * @param l1MaximumSize    the maximum number of entities held in the L1
+     * @param l1Ttl            the time an entity stays in the L1
+     * @param l2Ttl            the time an entity stays in the L2
+     * @param verificationRate the fraction of the cache hits verified against the database, between 0 and 1
+     * @param databaseReads    the transaction operations the cache misses and verifications read the database through
+     */
+    public TwoTierEntityCache(String name, Class<V> type, RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            long l1MaximumSize, Duration l1Ttl, Duration l2Ttl, double verificationRate, TransactionOperations databaseReads) {
+
+        this.name = name;
+        this.type = type;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.l2Ttl = l2Ttl;
+        this.verificationRate = verificationRate;
+        this.databaseReads = databaseReads;
+        this.meterRegistry = meterRegistry;
+        this.l1 = Caffeine.newBuilder()
+                          .maximumSize(l1MaximumSize)
+                          .expireAfterWrite(l1Ttl)
+                          .executor(Runnable::run)
+                          .recordStats()
+                          .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, name, "tier", "l1");
+        this.l2Hits = l2Counter("hit");
+        this.l2Misses = l2Counter("miss");
+        this.l2Errors = l2Counter("error");
+        this.writeEvictions = evictionCounter("write");
+        this.remoteEvictions = evictionCounter("remote");
+        this.staleEvictions = evictionCounter("stale");
+        this.verifications = Counter.builder("asapp.entity-cache.verifications")
+                                    .tag("cache", name)
+                                    .description("Cache hits verified against the database")
+                                    .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Within a read-write transaction the loader is called directly.
+     */
+    @Override
+    public Optional<V> get(UUID id, Function<UUID, Optional<V>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.apply(id);
+        }
+
+        var origin = new AtomicReference<>(Tier.L1);
+        var entity = l1.get(id, key -> load(key, loader, origin));
+        if (entity != null && origin.get() != Tier.DATABASE && shouldVerify()) {
+            return Optional.ofNullable(verify(id, entity, loader, origin.get()));
+        }
+
+        return Optional.ofNullable(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Evicts both tiers right away and broadcasts the eviction to the other replicas, after commit when a transaction is active.
+     */
+    @Override
+    public void evict(UUID id) {
+        writeEvictions.increment();
+        evictTiers(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    evictTiers(id);
+                    broadcast(id);
+                }
+
+            });
+        } else {
+            broadcast(id);
+        }
+    }
+
+    /**
+     * Applies an eviction broadcast by a replica to the L1.
+     * <p>
+     * Evictions broadcast by this same replica are received as well and re-applied, which is harmless. Malformed messages are logged and ignored.
+     *
+     * @param message the eviction message, holding the entity's identifier
+     * @param pattern the matched channel pattern, if any
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte @Nullable [] pattern) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        logger.trace("Received {} cache eviction {}", name, body);
+
+        try {
+            l1.invalidate(UUID.fromString(body));
+            remoteEvictions.increment();
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring malformed {} cache eviction {}", name, body, e);
+        }
+    }
+
+    /**
+     * Returns the Redis channel where the evictions of this cache are broadcast.
+     *
+     * @return the evictions channel
+     */
+    public String getEvictionsChannel() {
+        return "cache:" + name + ":evictions";
+    }
+
+    /**
+     * Loads an entity missing from the L1, from the L2 or else from the database.
+     *
+     * @param id     the entity's unique identifier
+     * @param loader the function loading the entity from the database
+     * @param origin receives the tier the entity was loaded from
+     * @return the entity, or {@code null} if it does not exist
+     */
+    private V load(UUID id, Function<UUID, Optional<V>> loader, AtomicReference<Tier> origin) {
+        var cached = readL2(id);
+        if (cached != null) {
+            origin.set(Tier.L2);
+            return cached;
+        }
+
+        origin.set(Tier.DATABASE);
+        var loaded = readDatabase(id, loader);
+        if (loaded != null) {
+            writeL2(id, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Reloads a cached entity from the database and evicts it when it is stale.
+     *
+     * @param id     the entity's unique identifier
+     * @param cached the cached entity
+     * @param loader the function loading the entity from the database
+     * @param tier   the tier the cached entity was read from
+     * @return the entity read from the database
+     */
+    private V verify(UUID id, V cached, Function<UUID, Optional<V>> loader, Tier tier) {
+        verifications.increment();
+        var current = readDatabase(id, loader);
+        if (!cached.equals(current)) {
+            Counter.builder("asapp.entity-cache.stale")
+                   .tag("cache", name)
+                   .tag("tier", tier.tag)
+                   .description("Cache hits found stale against the database")
+                   .register(meterRegistry)
+                   .increment();
+            staleEvictions.increment();
+            evictTiers(id);
+        }
+        return current;
+    }
+
+    /**
+     * Reads an entity from the database through the database read transaction operations.
+     *
+     * @param id     the entity's unique identifier
+     * @param loader the function loading the entity from the database
+     * @return the entity, or {@code null} if it does not exist
+     */
+    private V readDatabase(UUID id, Function<UUID, Optional<V>> loader) {
+        var loaded = databaseReads.execute(status -> loader.apply(id));
+        return loaded != null ? loaded.orElse(null) : null;
+    }
+
+    private boolean shouldVerify() {
+        return verificationRate > 0 && ThreadLocalRandom.current()
+                                                        .nextDouble() < verificationRate;
+    }
+
+    private void evictTiers(UUID id) {
+        l1.invalidate(id);
+        try {
+            redisTemplate.delete(key(id));
+        } catch (RuntimeException e) {
+            logger.warn("Could not evict {} from the shared {} cache", id, name, e);
+        }
+    }
+
+    private V readL2(UUID id) {
+        try {
+            var json = redisTemplate.opsForValue()
+                                    .get(key(id));
+            if (json == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+            return objectMapper.readValue(json, type);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            logger.warn("Could not read {} from the shared {} cache", id, name, e);
+            return null;
+        }
+    }
+
+    private void writeL2(UUID id, V entity) {
+        try {
+            redisTemplate.opsForValue()
+                         .set(key(id), objectMapper.writeValueAsString(entity), l2Ttl);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            logger.warn("Could not write {} to the shared {} cache", id, name, e);
+        }
+    }
+
+    /**
+     * Publishes an eviction to the other replicas.
+     *
+     * @param id the evicted entity's unique identifier
+     */
+    private void broadcast(UUID id) {
+        try {
+            redisTemplate.convertAndSend(getEvictionsChannel(), id.toString());
+        } catch (RuntimeException e) {
+            logger.warn("Could not broadcast {} cache eviction {}", name, id, e);
+        }
+    }
+
+    private String key(UUID id) {
+        return "cache:" + name + ":" + id;
+    }
+
+    private Counter l2Counter(String result) {
+        return Counter.builder("asapp.entity-cache.l2.requests")
+                      .tag("cache", name)
+                      .tag("result", result)
+                      .description("Lookups of the shared cache tier")
+                      .register(meterRegistry);
+    }
+
+    private Counter evictionCounter(String cause) {
+        return Counter.builder("asapp.entity-cache.evictions")
+                      .tag("cache", name)
+                      .tag("cause", cause)
+                      .description("Entities evicted from the cache")
+                      .register(meterRegistry);
+    }
+
+    /**
+     * Where a cached entity was read from.
+     */
+    private enum Tier {
+
+        L1("l1"),
+
+        L2("l2"),
+
+        DATABASE("database");
+
+        private final String tag;
+
+        Tier(String tag) {
+            this.tag = tag;
+        }
+
+    }
+
+}
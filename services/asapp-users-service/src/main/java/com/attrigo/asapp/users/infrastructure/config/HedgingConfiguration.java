@@ -0,0 +1,63 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.attrigo.asapp.users.infrastructure.loadbalancer.HedgeBudget;
+import com.attrigo.asapp.users.infrastructure.loadbalancer.HedgingInterceptor;
+
+/**
+ * Configuration class for hedging the GET requests of the HTTP service clients.
+ * <p>
+ * Only active when {@code asapp.hedging.enabled} is {@code true}; the {@link HedgingInterceptor} is then registered on every client by
+ * {@link RestClientConfiguration}.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "asapp.hedging.enabled", havingValue = "true")
+public class HedgingConfiguration {
+
+    /**
+     * Creates the interceptor hedging slow GET requests.
+     *
+     * @param meterRegistry the registry where the hedging metrics are published
+     * @param percentile    the percentile of the observed latency used as hedge delay
+     * @param minDelay      the minimum hedge delay in milliseconds
+     * @param minSamples    the number of latencies observed before requests are hedged
+     * @param budgetRatio   the maximum fraction of the requests that may be hedged
+     * @param budgetBurst   the maximum number of hedges that can be saved up
+     * @return the configured {@link HedgingInterceptor}
+     */
+    @Bean
+    HedgingInterceptor hedgingInterceptor(MeterRegistry meterRegistry, @Value("${asapp.hedging.percentile:0.95}") double percentile,
+            @Value("${asapp.hedging.min-delay:10}") long minDelay, @Value("${asapp.hedging.min-samples:100}") long minSamples,
+            @Value("${asapp.hedging.budget-ratio:0.05}") double budgetRatio, @Value("${asapp.hedging.budget-burst:10}") double budgetBurst) {
+
+        return new HedgingInterceptor(new HedgeBudget(budgetRatio, budgetBurst), meterRegistry, percentile, Duration.ofMillis(minDelay), minSamples);
+    }
+
+}
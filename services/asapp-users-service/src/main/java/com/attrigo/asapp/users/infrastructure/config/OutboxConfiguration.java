@@ -0,0 +1,69 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.attrigo.asapp.users.infrastructure.outbox.Outbox;
+import com.attrigo.asapp.users.infrastructure.outbox.OutboxRelay;
+
+/**
+ * Configuration class for the transactional outbox.
+ * <p>
+ * Wires the {@link OutboxRelay}, which publishes the user events recorded in the {@link Outbox} to the users stream in Redis.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfiguration {
+
+    /**
+     * Creates the relay publishing the outbox events to Redis Streams.
+     *
+     * @param outbox             the outbox to relay
+     * @param transactionManager the transaction manager of the application data source
+     * @param redisTemplate      the Spring Data Redis template for executing Redis operations
+     * @param meterRegistry      the registry where the relay meters are published
+     * @param streamKey          the key of the stream where events are published
+     * @param consumerGroups     the consumer groups to create on the stream
+     * @param batchSize          the maximum number of events published per batch
+     * @param pollInterval       the delay in milliseconds between polls once the outbox is drained
+     * @param maxStreamLength    the approximate number of events the stream retains
+     * @return the configured {@link OutboxRelay}
+     */
+    @Bean
+    OutboxRelay outboxRelay(Outbox outbox, PlatformTransactionManager transactionManager, RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry, @Value("${asapp.outbox.stream-key:events:users}") String streamKey,
+            @Value("${asapp.outbox.consumer-groups:asapp-tasks-service}") List<String> consumerGroups, @Value("${asapp.outbox.batch-size:100}") int batchSize,
+            @Value("${asapp.outbox.poll-interval:500}") long pollInterval, @Value("${asapp.outbox.max-stream-length:100000}") long maxStreamLength) {
+
+        return new OutboxRelay(outbox, new TransactionTemplate(transactionManager), redisTemplate, streamKey, consumerGroups, batchSize,
+                Duration.ofMillis(pollInterval), maxStreamLength, meterRegistry);
+    }
+
+}
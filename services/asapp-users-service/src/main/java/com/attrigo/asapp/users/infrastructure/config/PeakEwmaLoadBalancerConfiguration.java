@@ -0,0 +1,60 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import com.attrigo.asapp.users.infrastructure.loadbalancer.PeakEwmaLoadBalancer;
+
+/**
+ * Load-balancer client configuration replacing the default round-robin balancer with a {@link PeakEwmaLoadBalancer}.
+ * <p>
+ * Applied per client through {@code @LoadBalancerClient}, which loads it into the client's own child context; it is deliberately not annotated with
+ * {@code @Configuration}, so component scanning does not register it in the application context and apply it to every client.
+ *
+ * @since 0.5.0
+ * @see TasksHttpClientConfiguration
+ * @author attrigo
+ */
+public class PeakEwmaLoadBalancerConfiguration {
+
+    /**
+     * Creates the peak-EWMA load balancer of the client.
+     * <p>
+     * Declared with its concrete type, so it is also found as the client's {@code LoadBalancerLifecycle} and receives the latency of every call.
+     *
+     * @param environment               the environment of the client's context, holding the client name
+     * @param loadBalancerClientFactory the factory of the load-balancer client contexts
+     * @param decayTime                 the time in milliseconds over which past latencies lose most of their weight
+     * @return the configured {@link PeakEwmaLoadBalancer}
+     */
+    @Bean
+    PeakEwmaLoadBalancer peakEwmaLoadBalancer(Environment environment, LoadBalancerClientFactory loadBalancerClientFactory,
+            @Value("${asapp.load-balancer.decay-time:10000}") long decayTime) {
+
+        var serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), serviceId,
+                Duration.ofMillis(decayTime), System::nanoTime);
+    }
+
+}
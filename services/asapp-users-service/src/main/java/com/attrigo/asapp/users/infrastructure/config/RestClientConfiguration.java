@@ -32,6 +32,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientHttpServiceGroupConfigurer;
 
+import com.attrigo.asapp.users.infrastructure.deadline.DeadlineInterceptor;
+import com.attrigo.asapp.users.infrastructure.loadbalancer.HedgingInterceptor;
 import com.attrigo.asapp.users.infrastructure.security.client.JwtInterceptor;
 
 /**
@@ -68,19 +70,23 @@ public class RestClientConfiguration {
      * <ol>
      * <li>A JDK request factory from {@link HttpClientSettings} ({@code spring.http.clients.*});</li>
      * <li>The {@link JwtInterceptor} to propagate the caller's bearer token;</li>
-     * <li>The optional {@link LoadBalancerInterceptor}, when present.</li>
+     * <li>The {@link DeadlineInterceptor} to propagate the remaining budget of the current request;</li>
+     * <li>The optional {@link HedgingInterceptor}, when present;</li>
+     * <li>The optional {@link LoadBalancerInterceptor}, when present;</li>
+     * <li>The hedging attempt recorder, when hedging is present.</li>
      * </ol>
      * <p>
      * Injected via {@link ObjectProvider}, the load-balancer interceptor resolves Eureka service ids to instances when present; otherwise the configured
-     * base-url host is called directly.
+     * base-url host is called directly. The hedging interceptor wraps the load-balancer one, so each attempt of a hedged request is balanced on its own.
      *
      * @param loadBalancerInterceptor optional Eureka-aware load-balancer interceptor
+     * @param hedgingInterceptor      optional interceptor hedging slow GET requests
      * @param httpClientSettings      HTTP client settings bound from {@code spring.http.clients.*}, applied to the JDK request factory
      * @return the RestClient group configurer
      */
     @Bean
     RestClientHttpServiceGroupConfigurer httpServiceGroupConfigurer(ObjectProvider<LoadBalancerInterceptor> loadBalancerInterceptor,
-            HttpClientSettings httpClientSettings) {
+            ObjectProvider<HedgingInterceptor> hedgingInterceptor, HttpClientSettings httpClientSettings) {
         // Security: redirects are forced off so a redirect target can never receive the JwtInterceptor's forwarded Authorization
         // header; this must stay hard-coded and NOT be re-exposed via the spring.http.clients.redirects property.
         var requestFactory = ClientHttpRequestFactoryBuilder.jdk()
@@ -88,8 +94,11 @@ public class RestClientConfiguration {
 
         return groupConfigurer -> groupConfigurer.forEachClient((_, clientBuilder) -> {
             clientBuilder.requestFactory(requestFactory)
-                         .requestInterceptor(new JwtInterceptor());
+                         .requestInterceptor(new JwtInterceptor())
+                         .requestInterceptor(new DeadlineInterceptor());
+            hedgingInterceptor.ifAvailable(clientBuilder::requestInterceptor);
             loadBalancerInterceptor.ifAvailable(clientBuilder::requestInterceptor);
+            hedgingInterceptor.ifAvailable(hedging -> clientBuilder.requestInterceptor(hedging.attemptRecorder()));
         });
     }
 
@@ -0,0 +1,120 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import io.grpc.ChannelCredentials;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.TlsChannelCredentials;
+
+import com.attrigo.asapp.users.infrastructure.deadline.DeadlineGrpcInterceptor;
+import com.attrigo.asapp.users.infrastructure.grpc.DiscoveryNameResolverProvider;
+import com.attrigo.asapp.users.infrastructure.security.client.JwtGrpcInterceptor;
+import com.attrigo.asapp.users.infrastructure.user.out.TasksGrpcClient;
+
+/**
+ * Configuration class for the client of the internal gRPC API of tasks-service.
+ * <p>
+ * The channel resolves tasks-service through the service discovery with the {@link DiscoveryNameResolverProvider} and spreads calls round-robin across its
+ * instances. Each call carries the caller's access token, added by the {@link JwtGrpcInterceptor}, and is bounded by the deadline of the current request
+ * through the {@link DeadlineGrpcInterceptor}, as the REST calls are.
+ * <p>
+ * The channel uses TLS when {@code asapp.grpc.client.tasks.ssl-bundle} names a Spring SSL bundle: its trust store verifies the server certificate and its key,
+ * if any, is presented to servers requiring client certificates. Without a bundle the channel is plaintext and the access tokens travel unencrypted, which is
+ * only acceptable within a trusted private network.
+ * <p>
+ * Only active when {@code asapp.grpc.client.tasks.enabled} is {@code true}; the REST client is used otherwise.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "asapp.grpc.client.tasks.enabled", havingValue = "true")
+public class TasksGrpcClientConfiguration {
+
+    /**
+     * Creates the name resolver provider resolving {@code discovery:///<service-id>} targets through the service discovery.
+     *
+     * @param discoveryClient the client of the service discovery
+     * @param refreshInterval the interval in milliseconds between resolutions of each target
+     * @return the configured {@link DiscoveryNameResolverProvider}
+     */
+    @Bean
+    DiscoveryNameResolverProvider discoveryNameResolverProvider(DiscoveryClient discoveryClient,
+            @Value("${asapp.grpc.client.discovery-refresh-interval:30000}") long refreshInterval) {
+
+        return new DiscoveryNameResolverProvider(discoveryClient, Duration.ofMillis(refreshInterval));
+    }
+
+    /**
+     * Creates the credentials of the channel to tasks-service.
+     *
+     * @param sslBundles the registry of the Spring SSL bundles
+     * @param sslBundle  the name of the SSL bundle trusting the server certificate, empty to connect in plaintext
+     * @return TLS {@link ChannelCredentials}, presenting the bundle key if it has one, or insecure credentials without bundle
+     */
+    @Bean
+    ChannelCredentials tasksGrpcChannelCredentials(SslBundles sslBundles, @Value("${asapp.grpc.client.tasks.ssl-bundle:}") String sslBundle) {
+        if (!StringUtils.hasText(sslBundle)) {
+            return InsecureChannelCredentials.create();
+        }
+
+        var bundle = sslBundles.getBundle(sslBundle);
+        var credentials = TlsChannelCredentials.newBuilder()
+                                               .trustManager(bundle.getManagers()
+                                                                   .getTrustManagers());
+        if (bundle.getStores()
+                  .getKeyStore() != null) {
+            credentials.keyManager(bundle.getManagers()
+                                         .getKeyManagers());
+        }
+        return credentials.build();
+    }
+
+    /**
+     * Creates the gRPC client of tasks-service.
+     *
+     * @param discoveryNameResolverProvider the name resolver provider, registered before the channel is built
+     * @param tasksGrpcChannelCredentials   the credentials of the channel
+     * @param target                        the target of the channel
+     * @param timeout                       the maximum duration in milliseconds of each call
+     * @return the configured {@link TasksGrpcClient}
+     */
+    @Bean
+    TasksGrpcClient tasksGrpcClient(DiscoveryNameResolverProvider discoveryNameResolverProvider, ChannelCredentials tasksGrpcChannelCredentials,
+            @Value("${asapp.grpc.client.tasks.target:discovery:///" + TasksHttpClientConfiguration.TASKS_SERVICE_ID + "}") String target,
+            @Value("${asapp.grpc.client.tasks.timeout:2000}") long timeout) {
+
+        var channel = Grpc.newChannelBuilder(target, tasksGrpcChannelCredentials)
+                          .defaultLoadBalancingPolicy("round_robin")
+                          .intercept(new JwtGrpcInterceptor(), new DeadlineGrpcInterceptor())
+                          .build();
+
+        return new TasksGrpcClient(channel, Duration.ofMillis(timeout));
+    }
+
+}
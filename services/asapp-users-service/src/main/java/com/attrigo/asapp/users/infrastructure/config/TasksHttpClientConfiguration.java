@@ -16,6 +16,7 @@
 
 package com.attrigo.asapp.users.infrastructure.config;
 
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.service.registry.ImportHttpServices;
 
@@ -26,7 +27,8 @@ import com.attrigo.asapp.http.clients.tasks.TasksHttpClient;
  * <p>
  * Imports the {@link TasksHttpClient} declarative client as the {@code tasks} HTTP service group via {@link ImportHttpServices}.
  * <p>
- * The underlying Http client is configured generically by {@link RestClientConfiguration}.
+ * The underlying Http client is configured generically by {@link RestClientConfiguration}. When load balanced, calls are spread across the tasks-service
+ * instances by latency, as configured by {@link PeakEwmaLoadBalancerConfiguration}.
  *
  * @since 0.4.0
  * @see ImportHttpServices
@@ -34,6 +36,7 @@ import com.attrigo.asapp.http.clients.tasks.TasksHttpClient;
  */
 @Configuration(proxyBeanMethods = false)
 @ImportHttpServices(group = TasksHttpClientConfiguration.TASKS_CLIENT_NAME, types = TasksHttpClient.class)
+@LoadBalancerClient(name = TasksHttpClientConfiguration.TASKS_SERVICE_ID, configuration = PeakEwmaLoadBalancerConfiguration.class)
 public class TasksHttpClientConfiguration {
 
     /**
@@ -41,4 +44,9 @@ public class TasksHttpClientConfiguration {
      */
     public static final String TASKS_CLIENT_NAME = "tasks";
 
+    /**
+     * Service id tasks-service registers in Eureka, used as the host of the client's base URL when load balanced.
+     */
+    public static final String TASKS_SERVICE_ID = "asapp-tasks-service";
+
 }
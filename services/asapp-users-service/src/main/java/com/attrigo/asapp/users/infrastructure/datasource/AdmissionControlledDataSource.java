@@ -0,0 +1,147 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source admitting callers to the connections of its target pool through a {@link ConnectionAdmission}.
+ * <p>
+ * A permit is taken before a connection is requested from the pool and given back once the connection is closed, or straight away if the pool fails to
+ * provide one. Closing the data source closes its target pool.
+ *
+ * @since 0.5.0
+ * @see ConnectionAdmission
+ * @author attrigo
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource implements Closeable {
+
+    private final ConnectionAdmission admission;
+
+    /**
+     * Constructs a new {@code AdmissionControlledDataSource}.
+     *
+     * @param targetDataSource the connection pool
+     * @param admission        the admission control of the pool
+     */
+    public AdmissionControlledDataSource(DataSource targetDataSource, ConnectionAdmission admission) {
+        super(targetDataSource);
+        this.admission = admission;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The caller is admitted by the {@link ConnectionAdmission} before the connection is requested from the pool.
+     */
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        admission.acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The caller is admitted by the {@link ConnectionAdmission} before the connection is requested from the pool.
+     */
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        admission.acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the target pool.
+     *
+     * @throws IOException if the target pool fails to close
+     */
+    @Override
+    public void close() throws IOException {
+        if (obtainTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Wraps the connection so that closing it, once, gives back its admission permit.
+     *
+     * @param connection the pooled connection
+     * @return a {@link ConnectionProxy} over the pooled connection
+     */
+    private Connection releasingOnClose(Connection connection) {
+        var closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(), new Class<?>[] { ConnectionProxy.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (closed.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            admission.release();
+                        }
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed.get() || connection.isClosed();
+                }
+                case "getTargetConnection" -> {
+                    return connection;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            }
+        });
+    }
+
+}
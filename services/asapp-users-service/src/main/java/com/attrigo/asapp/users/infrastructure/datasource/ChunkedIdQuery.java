@@ -0,0 +1,239 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.attrigo.asapp.users.application.UseCasePriority;
+import com.attrigo.asapp.users.infrastructure.deadline.Deadline;
+import com.attrigo.asapp.users.infrastructure.deadline.DeadlineContext;
+
+/**
+ * Runs queries filtered by a list of identifiers, binding the identifiers as a single {@code uuid[]} parameter.
+ * <p>
+ * A query written as {@code id = ANY(:ids)} keeps the same statement text whatever the number of identifiers, so its prepared statement and plan are reused,
+ * unlike an {@code IN (...)} list that expands into one bind parameter per identifier and never reaches the driver's parameter limit.
+ * <p>
+ * The identifiers are de-duplicated and bounded by the configured maximum, then split into chunks:
+ * <ul>
+ * <li>Inside a transaction, the chunks run one after another on the caller's connection, so they read the same data as the rest of the transaction.</li>
+ * <li>Outside a transaction, the chunks run concurrently on virtual threads, up to the configured parallelism, each in a read-only transaction of its own
+ * named after the caller's, so they are routed like the caller to the read replicas when enabled. The caller's {@link DeadlineContext deadline} and
+ * {@link UseCasePriorityContext priority} are re-bound on each worker, so the chunks are admitted and bounded like the caller's own statements.</li>
+ * </ul>
+ * Rows are returned in the order their identifiers were first requested; identifiers without row are skipped.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class ChunkedIdQuery {
+
+    private static final ThreadFactory CHUNK_THREAD_FACTORY = Thread.ofVirtual()
+                                                                    .name("id-query-chunk-", 0)
+                                                                    .factory();
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final int maxIds;
+
+    private final int chunkSize;
+
+    private final int parallelism;
+
+    /**
+     * Constructs a new {@code ChunkedIdQuery}.
+     *
+     * @param transactionManager the transaction manager the concurrent chunks run their transactions with
+     * @param maxIds             the maximum number of distinct identifiers a query accepts
+     * @param chunkSize          the maximum number of identifiers bound per statement
+     * @param parallelism        the maximum number of chunks of a query running concurrently
+     * @throws IllegalArgumentException if any of the limits is not positive
+     */
+    public ChunkedIdQuery(PlatformTransactionManager transactionManager, int maxIds, int chunkSize, int parallelism) {
+        if (maxIds < 1 || chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Identifier query limits must be positive");
+        }
+
+        this.transactionManager = transactionManager;
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs a query for each chunk of the identifiers and merges the rows in the order the identifiers were requested.
+     *
+     * @param <T>        the type of the rows
+     * @param ids        the identifiers to query, possibly with duplicates
+     * @param idOf       the function reading the identifier of a row
+     * @param chunkQuery the query of a chunk, receiving the {@code uuid[]} parameter value to bind
+     * @return the rows found, in the order their identifiers were first requested
+     * @throws IllegalArgumentException if there are more distinct identifiers than the maximum
+     */
+    public <T> List<T> query(Collection<UUID> ids, Function<T, UUID> idOf, Function<SqlTypeValue, List<T>> chunkQuery) {
+        var distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+        if (distinctIds.size() > maxIds) {
+            throw new IllegalArgumentException("Identifiers list must not exceed " + maxIds + " elements");
+        }
+
+        var orderedIds = distinctIds.toArray(UUID[]::new);
+        var chunks = split(orderedIds);
+        var rows = TransactionSynchronizationManager.isActualTransactionActive() ? querySequentially(chunks, chunkQuery)
+                : queryConcurrently(chunks, chunkQuery);
+
+        return sort(rows, orderedIds, idOf);
+    }
+
+    /**
+     * Wraps identifiers into a {@code uuid[]} parameter value.
+     *
+     * @param ids the identifiers to bind
+     * @return the {@link SqlTypeValue} creating the array on the statement's connection
+     */
+    public static SqlTypeValue uuidArray(UUID[] ids) {
+        return new AbstractSqlTypeValue() {
+
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName) throws SQLException {
+                return connection.createArrayOf("uuid", ids);
+            }
+
+        };
+    }
+
+    private List<UUID[]> split(UUID[] ids) {
+        var chunks = new ArrayList<UUID[]>();
+        for (int from = 0; from < ids.length; from += chunkSize) {
+            chunks.add(Arrays.copyOfRange(ids, from, Math.min(from + chunkSize, ids.length)));
+        }
+        return chunks;
+    }
+
+    private static <T> List<T> querySequentially(List<UUID[]> chunks, Function<SqlTypeValue, List<T>> chunkQuery) {
+        var rows = new ArrayList<T>();
+        chunks.forEach(chunk -> rows.addAll(chunkQuery.apply(uuidArray(chunk))));
+        return rows;
+    }
+
+    /**
+     * Runs the chunks on virtual threads, each worker taking every {@code parallelism}-th chunk, and waits for all of them.
+     */
+    private <T> List<T> queryConcurrently(List<UUID[]> chunks, Function<SqlTypeValue, List<T>> chunkQuery) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(TransactionSynchronizationManager.getCurrentTransactionName());
+
+        if (chunks.size() == 1) {
+            return queryInTransaction(transactionTemplate, chunks, chunkQuery);
+        }
+
+        var deadline = DeadlineContext.current()
+                                      .orElse(null);
+        var priority = UseCasePriorityContext.get();
+        var workers = Math.min(parallelism, chunks.size());
+        try (var executor = Executors.newThreadPerTaskExecutor(CHUNK_THREAD_FACTORY)) {
+            var futures = new ArrayList<Future<List<T>>>(workers);
+            for (int worker = 0; worker < workers; worker++) {
+                var workerChunks = new ArrayList<UUID[]>();
+                for (int chunk = worker; chunk < chunks.size(); chunk += workers) {
+                    workerChunks.add(chunks.get(chunk));
+                }
+                Supplier<List<T>> work = () -> queryInTransaction(transactionTemplate, workerChunks, chunkQuery);
+                futures.add(executor.submit(() -> inCallerContext(deadline, priority, work)));
+            }
+
+            var rows = new ArrayList<T>();
+            for (var future : futures) {
+                rows.addAll(join(future));
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Runs work on a worker thread with the deadline and the priority captured on the caller thread, unbinding them once done.
+     */
+    private static <T> T inCallerContext(Deadline deadline, UseCasePriority.Level priority, Supplier<T> work) {
+        if (deadline != null) {
+            DeadlineContext.set(deadline);
+        }
+        UseCasePriorityContext.set(priority);
+        try {
+            return work.get();
+        } finally {
+            DeadlineContext.clear();
+            UseCasePriorityContext.set(null);
+        }
+    }
+
+    private static <T> List<T> queryInTransaction(TransactionTemplate transactionTemplate, List<UUID[]> chunks, Function<SqlTypeValue, List<T>> chunkQuery) {
+        return transactionTemplate.execute(status -> querySequentially(chunks, chunkQuery));
+    }
+
+    private static <T> List<T> join(Future<List<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an identifiers query chunk", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Identifiers query chunk failed", e.getCause());
+        }
+    }
+
+    private static <T> List<T> sort(List<T> rows, UUID[] orderedIds, Function<T, UUID> idOf) {
+        var rowsById = new HashMap<UUID, T>(rows.size() * 2);
+        rows.forEach(row -> rowsById.put(idOf.apply(row), row));
+
+        var sortedRows = new ArrayList<T>(rows.size());
+        for (var id : orderedIds) {
+            var row = rowsById.get(id);
+            if (row != null) {
+                sortedRows.add(row);
+            }
+        }
+        return sortedRows;
+    }
+
+}
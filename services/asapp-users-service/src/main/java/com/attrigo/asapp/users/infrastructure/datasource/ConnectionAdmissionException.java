@@ -0,0 +1,40 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown when a database connection is refused by the {@link ConnectionAdmission}, either because too many callers are already waiting or because no
+ * connection freed up in time.
+ *
+ * @since 0.5.0
+ * @see ConnectionAdmission
+ * @author attrigo
+ */
+public class ConnectionAdmissionException extends SQLTransientConnectionException {
+
+    /**
+     * Constructs a new {@code ConnectionAdmissionException} with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public ConnectionAdmissionException(String message) {
+        super(message);
+    }
+
+}
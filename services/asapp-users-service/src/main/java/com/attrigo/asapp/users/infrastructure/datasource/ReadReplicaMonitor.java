@@ -0,0 +1,144 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Periodic health check of the read replicas.
+ * <p>
+ * Measures the replication lag of each replica and makes it available only while the lag stays within the configured maximum. A replica that has replayed all
+ * the WAL it received reports no lag, so an idle primary does not make its replicas look stale.
+ * <p>
+ * A replica whose WAL receiver is not streaming from the primary is unavailable whatever its lag, since it has replayed everything it received but receives
+ * nothing new. The receiver status is only visible to roles with the privileges of {@code pg_read_all_stats} (e.g. {@code pg_monitor}); for other roles the
+ * check falls back to the presence of a WAL receiver process.
+ * <p>
+ * Publishes the {@code asapp.datasource.replica.lag} and {@code asapp.datasource.replica.available} gauges, tagged by replica.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class ReadReplicaMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaMonitor.class);
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE COALESCE(status, 'streaming') = 'streaming') THEN NULL
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::bigint
+            """;
+
+    private final List<ReadReplica> replicas;
+
+    private final Duration maxLag;
+
+    private final Duration checkInterval;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new {@code ReadReplicaMonitor}.
+     *
+     * @param replicas      the read replicas to check
+     * @param maxLag        the maximum replication lag for a replica to serve reads
+     * @param checkInterval the delay between health checks
+     * @param meterRegistry the registry where the replica gauges are published
+     */
+    public ReadReplicaMonitor(List<ReadReplica> replicas, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                                                                          .name("read-replica-monitor")
+                                                                          .daemon()
+                                                                          .factory());
+
+        this.replicas.forEach(replica -> {
+            Gauge.builder("asapp.datasource.replica.lag", replica, ReadReplica::getLagMillis)
+                 .tag("replica", replica.getName())
+                 .baseUnit("milliseconds")
+                 .description("Replication lag measured by the last successful health check")
+                 .register(meterRegistry);
+            Gauge.builder("asapp.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                 .tag("replica", replica.getName())
+                 .description("Whether the replica is serving reads")
+                 .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Runs a first health check synchronously and schedules the following ones.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        checkReplicas();
+        scheduler.scheduleWithFixedDelay(this::checkReplicas, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Checks every replica, updating its availability.
+     */
+    void checkReplicas() {
+        replicas.forEach(this::checkReplica);
+    }
+
+    private void checkReplica(ReadReplica replica) {
+        var wasAvailable = replica.isAvailable();
+        try {
+            var lagMillis = JdbcClient.create(replica.getDataSource())
+                                      .sql(LAG_SQL)
+                                      .query(Long.class)
+                                      .optional();
+            if (lagMillis.isPresent()) {
+                replica.updateLag(Duration.ofMillis(lagMillis.get()), maxLag);
+            } else {
+                logger.debug("Read replica {} is not streaming WAL from the primary", replica.getName());
+                replica.markUnavailable();
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Read replica {} health check failed", replica.getName(), e);
+            replica.markUnavailable();
+        }
+
+        if (wasAvailable != replica.isAvailable()) {
+            logger.info("Read replica {} is now {} (lag {} ms)", replica.getName(), replica.isAvailable() ? "available" : "unavailable", replica.getLagMillis());
+        }
+    }
+
+}
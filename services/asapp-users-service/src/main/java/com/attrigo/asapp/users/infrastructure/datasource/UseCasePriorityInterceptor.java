@@ -0,0 +1,65 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import com.attrigo.asapp.users.application.UseCasePriority;
+
+/**
+ * Method interceptor binding the {@link UseCasePriority} of a use case to the {@link UseCasePriorityContext} while it runs.
+ * <p>
+ * Must be applied outside the transaction interceptor, as the transaction obtains its connection when it begins. The priority of an enclosing use case is
+ * restored once a nested one returns.
+ *
+ * @since 0.5.0
+ * @see UseCasePriorityContext
+ * @author attrigo
+ */
+public class UseCasePriorityInterceptor implements MethodInterceptor {
+
+    /**
+     * Runs the use case with its declared priority bound to the current thread.
+     *
+     * @param invocation the use case invocation
+     * @return the result of the use case
+     * @throws Throwable any failure of the use case
+     */
+    @Override
+    public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        var target = invocation.getThis();
+        var method = target != null ? AopUtils.getMostSpecificMethod(invocation.getMethod(), AopUtils.getTargetClass(target)) : invocation.getMethod();
+        var priority = AnnotationUtils.findAnnotation(method, UseCasePriority.class);
+        if (priority == null) {
+            return invocation.proceed();
+        }
+
+        var enclosing = UseCasePriorityContext.get();
+        UseCasePriorityContext.set(priority.value());
+        try {
+            return invocation.proceed();
+        } finally {
+            UseCasePriorityContext.set(enclosing);
+        }
+    }
+
+}
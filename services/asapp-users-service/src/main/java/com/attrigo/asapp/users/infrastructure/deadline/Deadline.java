@@ -0,0 +1,82 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.deadline;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Point in time by which the work done on behalf of a request must be complete.
+ * <p>
+ * Measured on the monotonic {@link System#nanoTime()} clock so wall-clock adjustments do not shift it. Between services it travels as the remaining budget
+ * rather than as an instant, which keeps each hop independent from clock skew.
+ *
+ * @since 0.5.0
+ * @see DeadlineContext
+ * @author attrigo
+ */
+public final class Deadline {
+
+    private final long expiresAtNanos;
+
+    private final LongSupplier nanoClock;
+
+    private Deadline(long expiresAtNanos, LongSupplier nanoClock) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Creates a deadline expiring once the given timeout elapses from now.
+     *
+     * @param timeout the time left to complete the request
+     * @return the new {@link Deadline}
+     */
+    public static Deadline after(Duration timeout) {
+        return after(timeout, System::nanoTime);
+    }
+
+    /**
+     * Creates a deadline expiring once the given timeout elapses from now, as measured by the given clock.
+     *
+     * @param timeout   the time left to complete the request
+     * @param nanoClock the monotonic clock in nanoseconds
+     * @return the new {@link Deadline}
+     */
+    static Deadline after(Duration timeout, LongSupplier nanoClock) {
+        return new Deadline(nanoClock.getAsLong() + timeout.toNanos(), nanoClock);
+    }
+
+    /**
+     * Returns the time left before the deadline expires.
+     *
+     * @return the remaining time, {@link Duration#ZERO} once expired
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - nanoClock.getAsLong()));
+    }
+
+    /**
+     * Checks whether the deadline has expired.
+     *
+     * @return {@code true} if no time is left, {@code false} otherwise
+     */
+    public boolean isExpired() {
+        return expiresAtNanos - nanoClock.getAsLong() <= 0;
+    }
+
+}
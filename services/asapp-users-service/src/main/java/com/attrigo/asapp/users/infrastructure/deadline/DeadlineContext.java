@@ -0,0 +1,73 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.deadline;
+
+import java.util.Optional;
+
+/**
+ * Holds the {@link Deadline} of the request being served by the current thread.
+ * <p>
+ * Set by the {@link DeadlineFilter} at ingress and read by the components bounding their work with it: outgoing HTTP calls, JDBC statements and retries.
+ * Work handed off to other threads does not inherit the deadline unless the component handing it off binds it again, as the concurrent chunks of
+ * an identifiers query do.
+ *
+ * @since 0.5.0
+ * @see DeadlineFilter
+ * @author attrigo
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {}
+
+    /**
+     * Returns the deadline of the current request.
+     *
+     * @return an {@link Optional} containing the deadline, or empty when the thread serves no request (e.g. a scheduled job)
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Binds the deadline to the current thread.
+     *
+     * @param deadline the deadline of the request being served
+     */
+    public static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    /**
+     * Unbinds the deadline from the current thread.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Checks whether the deadline of the current request, if any, has expired.
+     *
+     * @return {@code true} if the current request has run out of time, {@code false} otherwise
+     */
+    public static boolean isExpired() {
+        var deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+}
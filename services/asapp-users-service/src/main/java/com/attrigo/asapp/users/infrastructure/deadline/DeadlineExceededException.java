@@ -0,0 +1,37 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.deadline;
+
+/**
+ * Thrown when the deadline of the current request expires before some work on its behalf could start.
+ *
+ * @since 0.5.0
+ * @see Deadline
+ * @author attrigo
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code DeadlineExceededException} with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+}
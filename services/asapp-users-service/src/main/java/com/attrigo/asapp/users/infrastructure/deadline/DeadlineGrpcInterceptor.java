@@ -0,0 +1,72 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * gRPC client interceptor for propagating the remaining request budget to downstream services.
+ * <p>
+ * The gRPC counterpart of the {@link DeadlineInterceptor}: bounds outgoing calls by the {@link Deadline} of the current request, which gRPC sends natively to
+ * the downstream service. A sooner deadline already set on the call is kept.
+ * <p>
+ * Calls made outside of any request carry no request deadline and are sent unchanged.
+ *
+ * @since 0.5.0
+ * @see DeadlineContext
+ * @author attrigo
+ */
+public class DeadlineGrpcInterceptor implements ClientInterceptor {
+
+    /**
+     * Intercepts the gRPC call to bound it by the remaining budget of the current request.
+     *
+     * @param <ReqT>      the type of the request messages
+     * @param <RespT>     the type of the response messages
+     * @param method      the method being called
+     * @param callOptions the options of the call
+     * @param next        the channel performing the call
+     * @return the call, bounded by the deadline of the current request
+     * @throws DeadlineExceededException if the deadline of the current request has already expired, so the call is not made
+     */
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        var deadline = DeadlineContext.current();
+
+        if (deadline.isEmpty()) {
+            return next.newCall(method, callOptions);
+        }
+
+        if (deadline.get()
+                    .isExpired()) {
+            throw new DeadlineExceededException("Request deadline expired before calling " + method.getFullMethodName());
+        }
+
+        var requestDeadline = io.grpc.Deadline.after(deadline.get()
+                                                             .remaining()
+                                                             .toNanos(), TimeUnit.NANOSECONDS);
+        var callDeadline = callOptions.getDeadline() == null ? requestDeadline : requestDeadline.minimum(callOptions.getDeadline());
+        return next.newCall(method, callOptions.withDeadline(callDeadline));
+    }
+
+}
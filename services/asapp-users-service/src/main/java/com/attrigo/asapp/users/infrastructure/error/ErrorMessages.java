@@ -29,19 +29,31 @@ final class ErrorMessages {
 
     static final String INVALID_ARGUMENT_TITLE = "Invalid Argument";
 
+    static final String CONFLICT_TITLE = "Conflict";
+
+    static final String PRECONDITION_FAILED_TITLE = "Precondition Failed";
+
     static final String INTERNAL_SERVER_ERROR_TITLE = "Internal Server Error";
 
     static final String SERVICE_UNAVAILABLE_TITLE = "Service Unavailable";
 
+    static final String GATEWAY_TIMEOUT_TITLE = "Gateway Timeout";
+
     // Fixed details
     static final String VALIDATION_FAILED_DETAIL = "Request validation failed";
 
     static final String INVALID_ARGUMENT_DETAIL = "Invalid argument provided";
 
+    static final String CONCURRENT_MODIFICATION_DETAIL = "The resource was modified concurrently";
+
+    static final String PRECONDITION_FAILED_DETAIL = "The resource does not match the requested version";
+
     static final String INTERNAL_ERROR_DETAIL = "An internal error occurred";
 
     static final String SERVICE_UNAVAILABLE_DETAIL = "Service temporarily unavailable";
 
+    static final String DEADLINE_EXCEEDED_DETAIL = "The request could not be completed in time";
+
     // Property names
     static final String FIELD_ERRORS_PROPERTY = "fieldErrors";
 
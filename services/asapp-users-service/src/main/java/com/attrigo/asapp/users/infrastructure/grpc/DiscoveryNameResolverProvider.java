@@ -0,0 +1,200 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.grpc;
+
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.GRPC_PORT_INSTANCE_METADATA;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.NameResolverRegistry;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+
+/**
+ * Resolves gRPC targets of the form {@code discovery:///<service-id>} through the service discovery.
+ * <p>
+ * Each instance of the service is resolved to its host and the gRPC port it advertises in its {@code grpc-port} metadata; instances not advertising one do
+ * not serve gRPC and are skipped. Targets are resolved again on the given interval and whenever the channel asks for it, e.g. after losing a connection, so
+ * instances joining or leaving the service are followed as the REST clients do.
+ * <p>
+ * The provider registers itself in the default {@link NameResolverRegistry} when initialized, and deregisters when destroyed.
+ *
+ * @since 0.5.0
+ * @see DiscoveryClient
+ * @author attrigo
+ */
+public class DiscoveryNameResolverProvider extends NameResolverProvider implements InitializingBean, DisposableBean {
+
+    /**
+     * Scheme of the targets resolved through the service discovery.
+     */
+    public static final String SCHEME = "discovery";
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscoveryNameResolverProvider.class);
+
+    private final DiscoveryClient discoveryClient;
+
+    private final Duration refreshInterval;
+
+    /**
+     * Constructs a new {@code DiscoveryNameResolverProvider}.
+     *
+     * @param discoveryClient the client of the service discovery
+     * @param refreshInterval the interval between resolutions of each target
+     */
+    public DiscoveryNameResolverProvider(DiscoveryClient discoveryClient, Duration refreshInterval) {
+        this.discoveryClient = discoveryClient;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        NameResolverRegistry.getDefaultRegistry()
+                            .register(this);
+    }
+
+    @Override
+    public void destroy() {
+        NameResolverRegistry.getDefaultRegistry()
+                            .deregister(this);
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+
+        var serviceId = Objects.requireNonNull(targetUri.getPath(), "Target has no service id")
+                               .replaceFirst("^/", "");
+        return new DiscoveryNameResolver(serviceId, args.getSynchronizationContext(), args.getScheduledExecutorService());
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    protected int priority() {
+        return 5;
+    }
+
+    /**
+     * Resolves the gRPC addresses of the instances of a service.
+     */
+    private final class DiscoveryNameResolver extends NameResolver {
+
+        private final String serviceId;
+
+        private final SynchronizationContext synchronizationContext;
+
+        private final ScheduledExecutorService scheduledExecutorService;
+
+        private Listener2 listener;
+
+        private SynchronizationContext.ScheduledHandle scheduledRefresh;
+
+        private DiscoveryNameResolver(String serviceId, SynchronizationContext synchronizationContext,
+                ScheduledExecutorService scheduledExecutorService) {
+
+            this.serviceId = serviceId;
+            this.synchronizationContext = synchronizationContext;
+            this.scheduledExecutorService = scheduledExecutorService;
+        }
+
+        @Override
+        public String getServiceAuthority() {
+            return serviceId;
+        }
+
+        @Override
+        public void start(Listener2 listener) {
+            this.listener = listener;
+            resolve();
+            scheduledRefresh = synchronizationContext.scheduleWithFixedDelay(this::resolve, refreshInterval.toMillis(), refreshInterval.toMillis(),
+                    TimeUnit.MILLISECONDS, scheduledExecutorService);
+        }
+
+        @Override
+        public void refresh() {
+            synchronizationContext.execute(this::resolve);
+        }
+
+        @Override
+        public void shutdown() {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel();
+            }
+        }
+
+        private void resolve() {
+            List<EquivalentAddressGroup> addresses;
+            try {
+                addresses = discoveryClient.getInstances(serviceId)
+                                           .stream()
+                                           .filter(instance -> instance.getMetadata()
+                                                                       .containsKey(GRPC_PORT_INSTANCE_METADATA))
+                                           .map(DiscoveryNameResolver::toAddressGroup)
+                                           .toList();
+            } catch (RuntimeException e) {
+                logger.warn("[GRPC] Could not resolve the instances of {}", serviceId, e);
+                listener.onError(Status.UNAVAILABLE.withDescription("Could not resolve the instances of " + serviceId)
+                                                   .withCause(e));
+                return;
+            }
+
+            if (addresses.isEmpty()) {
+                listener.onError(Status.UNAVAILABLE.withDescription("No instance of " + serviceId + " serves gRPC"));
+                return;
+            }
+
+            listener.onResult(ResolutionResult.newBuilder()
+                                              .setAddresses(addresses)
+                                              .build());
+        }
+
+        private static EquivalentAddressGroup toAddressGroup(ServiceInstance instance) {
+            var port = Integer.parseInt(instance.getMetadata()
+                                                .get(GRPC_PORT_INSTANCE_METADATA));
+            return new EquivalentAddressGroup(new InetSocketAddress(instance.getHost(), port));
+        }
+
+    }
+
+}
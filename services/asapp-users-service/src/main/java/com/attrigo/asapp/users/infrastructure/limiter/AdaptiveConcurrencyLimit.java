@@ -0,0 +1,173 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.limiter;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit adapting itself to the latency observed by the requests it admits.
+ * <p>
+ * Follows the gradient approach of TCP Vegas: as long as the latency of a request stays close to the long-term latency, the service is not queueing work and
+ * the limit grows; once latency climbs above it, requests are queueing somewhere (connection pool, cache, CPU) and the limit shrinks proportionally. Each
+ * completed request adjusts the limit:
+ * <ol>
+ * <li>The long-term latency is an exponentially weighted moving average of the latency of the completed requests</li>
+ * <li>The gradient is the ratio between the long-term latency, widened by a tolerance, and the latency of the request, bounded to [0.5, 1]</li>
+ * <li>The new limit is the current one scaled by the gradient plus a headroom of its square root, which lets it probe for more capacity</li>
+ * <li>The limit moves towards the new limit by a smoothing factor and stays within the minimum and maximum limits</li>
+ * </ol>
+ * <p>
+ * Requests completed while fewer than half of the limit was in use carry no signal about saturation and leave the limit unchanged. When the long-term
+ * latency falls far behind a sudden improvement, it is decayed so the limit can recover.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final double LONG_TERM_WINDOW = 600;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double tolerance;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    private double longTermLatency;
+
+    /**
+     * Admission of a request under the limit, to be given back through {@link #release(Permit)} once the request completes.
+     *
+     * @param startNanos the monotonic time at which the request was admitted
+     * @param inFlight   the number of requests in flight once it was admitted
+     */
+    public record Permit(
+            long startNanos,
+            int inFlight
+    ) {}
+
+    /**
+     * Constructs a new {@code AdaptiveConcurrencyLimit} with the given bounds.
+     *
+     * @param initialLimit the limit before any request completes
+     * @param minLimit     the lowest the limit can shrink to
+     * @param maxLimit     the highest the limit can grow to
+     * @param tolerance    the factor by which latency may exceed its long-term average before the limit shrinks
+     * @param nanoClock    the monotonic clock in nanoseconds
+     * @throws IllegalArgumentException if the limits are not positive and ordered, or the tolerance is lower than 1
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min-limit <= initial-limit <= max-limit");
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("Concurrency limit tolerance must be at least 1");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if fewer requests than the limit are in flight.
+     *
+     * @return an {@link Optional} containing the {@link Permit} of the admitted request, or empty when the limit is reached
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (current >= getLimit()) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nanoClock.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    /**
+     * Gives back the permit of a completed request and adjusts the limit to its latency.
+     *
+     * @param permit the permit obtained when the request was admitted
+     */
+    public void release(Permit permit) {
+        var latency = Math.max(1, nanoClock.getAsLong() - permit.startNanos());
+        inFlight.decrementAndGet();
+        update(latency, permit.inFlight());
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the maximum number of requests admitted at once
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of admitted requests not yet completed.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Adjusts the limit to the latency of a completed request.
+     *
+     * @param latency  the latency of the request in nanoseconds
+     * @param inFlight the number of requests in flight once it was admitted
+     */
+    private synchronized void update(long latency, int inFlight) {
+        if (longTermLatency == 0) {
+            longTermLatency = latency;
+        } else {
+            longTermLatency += (latency - longTermLatency) / LONG_TERM_WINDOW;
+        }
+
+        if (longTermLatency / latency > 2) {
+            longTermLatency *= 0.95;
+        }
+
+        var currentLimit = limit;
+        if (inFlight < currentLimit / 2) {
+            return;
+        }
+
+        var gradient = Math.clamp(tolerance * longTermLatency / latency, MIN_GRADIENT, 1.0);
+        var newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+        limit = Math.clamp(currentLimit * (1 - SMOOTHING) + newLimit * SMOOTHING, minLimit, maxLimit);
+    }
+
+}
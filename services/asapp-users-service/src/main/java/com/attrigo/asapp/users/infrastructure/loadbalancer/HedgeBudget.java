@@ -0,0 +1,77 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.loadbalancer;
+
+/**
+ * Budget capping the extra load hedged requests add.
+ * <p>
+ * Every request deposits a fraction of a token and every hedge withdraws a whole one, so hedges never exceed that fraction of the requests over time. The
+ * balance is capped, which bounds the burst of hedges allowed after a quiet period.
+ *
+ * @since 0.5.0
+ * @see HedgingInterceptor
+ * @author attrigo
+ */
+public class HedgeBudget {
+
+    private final double ratio;
+
+    private final double maxBalance;
+
+    private double balance;
+
+    /**
+     * Constructs a new {@code HedgeBudget}.
+     *
+     * @param ratio      the maximum fraction of the requests that may be hedged, between 0 and 1
+     * @param maxBalance the maximum number of hedges that can be saved up
+     * @throws IllegalArgumentException if the ratio is not between 0 and 1 or the maximum balance is lower than 1
+     */
+    public HedgeBudget(double ratio, double maxBalance) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Hedge budget ratio must be between 0 and 1");
+        }
+        if (maxBalance < 1) {
+            throw new IllegalArgumentException("Hedge budget maximum balance must be at least 1");
+        }
+
+        this.ratio = ratio;
+        this.maxBalance = maxBalance;
+    }
+
+    /**
+     * Deposits the share of a request.
+     */
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    /**
+     * Withdraws a hedge, if the budget allows it.
+     *
+     * @return {@code true} if the hedge can be sent, {@code false} if the budget is exhausted
+     */
+    public synchronized boolean tryWithdraw() {
+        if (balance < 1) {
+            return false;
+        }
+
+        balance -= 1;
+        return true;
+    }
+
+}
@@ -0,0 +1,377 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.loadbalancer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * HTTP request interceptor hedging slow GET requests with a second attempt to another instance.
+ * <p>
+ * The first attempt of every GET request runs on a virtual thread while the caller waits for it. When it has not responded within the hedge delay, and the
+ * {@link HedgeBudget} allows it, a second attempt is sent; the first attempt to respond wins and the other one is cancelled, closing its response if it had
+ * one. Only failed attempts are waited past: a request fails when every attempt sent has failed, with the failure of the first one. Other methods are not
+ * idempotent and are never hedged.
+ * <p>
+ * The hedge delay is the configured percentile of the latency of the first attempts, observed over the last minutes and never lower than a minimum delay;
+ * requests are not hedged until enough latencies have been observed.
+ * <p>
+ * Must be registered before the load-balancer interceptor, so each attempt is balanced on its own, together with the {@link #attemptRecorder()} after it.
+ * The recorder notes the instance each attempt was sent to, so the hedge asks the balancer to avoid the instance of the first attempt through the
+ * {@value #AVOID_INSTANCE_HEADER} header, which the recorder then removes from the outgoing request.
+ * <p>
+ * Callers see a single call, so a circuit breaker or retry around the client counts a hedged request once.
+ * <p>
+ * Publishes the {@code asapp.hedging.latency} timer, and the {@code asapp.hedging.hedges} and {@code asapp.hedging.budget-exhausted} counters.
+ *
+ * @since 0.5.0
+ * @see PeakEwmaLoadBalancer
+ * @author attrigo
+ */
+public class HedgingInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * Header through which a hedge asks the load balancer to avoid the instance, as {@code host:port}, the first attempt was sent to.
+     */
+    public static final String AVOID_INSTANCE_HEADER = "X-Hedge-Avoid-Instance";
+
+    private static final String ATTEMPT_ATTRIBUTE = HedgingInterceptor.class.getName() + ".attempt";
+
+    private static final ThreadFactory ATTEMPT_THREAD_FACTORY = Thread.ofVirtual()
+                                                                      .name("hedged-request-", 0)
+                                                                      .factory();
+
+    private static final Executor ATTEMPT_EXECUTOR = runnable -> ATTEMPT_THREAD_FACTORY.newThread(runnable)
+                                                                                       .start();
+
+    private final HedgeBudget budget;
+
+    private final long minDelayNanos;
+
+    private final long minSamples;
+
+    private final Timer latency;
+
+    private final Counter primaryWins;
+
+    private final Counter hedgeWins;
+
+    private final Counter budgetExhausted;
+
+    /**
+     * Constructs a new {@code HedgingInterceptor}.
+     *
+     * @param budget        the budget capping the hedges sent
+     * @param meterRegistry the registry where the hedging metrics are published
+     * @param percentile    the percentile of the latency of the first attempts used as hedge delay, between 0 and 1
+     * @param minDelay      the minimum hedge delay
+     * @param minSamples    the number of latencies observed before requests are hedged
+     */
+    public HedgingInterceptor(HedgeBudget budget, MeterRegistry meterRegistry, double percentile, Duration minDelay, long minSamples) {
+        this.budget = budget;
+        this.minDelayNanos = minDelay.toNanos();
+        this.minSamples = minSamples;
+        this.latency = Timer.builder("asapp.hedging.latency")
+                            .description("Latency of the first attempt of the hedgeable requests")
+                            .publishPercentiles(percentile)
+                            .register(meterRegistry);
+        this.primaryWins = hedgesCounter(meterRegistry, "primary");
+        this.hedgeWins = hedgesCounter(meterRegistry, "hedge");
+        this.budgetExhausted = Counter.builder("asapp.hedging.budget-exhausted")
+                                      .description("Hedges not sent because the hedge budget was exhausted")
+                                      .register(meterRegistry);
+    }
+
+    /**
+     * Sends the request, hedging it if it is a GET request slower than the hedge delay.
+     *
+     * @param request   the HTTP request being intercepted
+     * @param body      the request body
+     * @param execution the request execution chain
+     * @return the response of the first attempt to respond
+     * @throws IOException if every attempt sent failed, or the caller was interrupted while waiting
+     */
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(@NonNull HttpRequest request, byte @NonNull [] body, @NonNull ClientHttpRequestExecution execution) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return execution.execute(request, body);
+        }
+
+        budget.deposit();
+        var completionService = new ExecutorCompletionService<ClientHttpResponse>(ATTEMPT_EXECUTOR);
+        var primary = new Attempt(request, null, body, execution, true);
+        var attempts = new ArrayList<>(List.of(primary));
+        Attempt winner = null;
+        try {
+            primary.start(completionService);
+
+            var hedgeDelay = hedgeDelay();
+            var completed = hedgeDelay.isPresent() ? completionService.poll(hedgeDelay.getAsLong(), TimeUnit.NANOSECONDS) : completionService.take();
+            if (completed == null) {
+                if (budget.tryWithdraw()) {
+                    var hedge = new Attempt(request, primary.instance, body, execution, false);
+                    attempts.add(hedge);
+                    hedge.start(completionService);
+                } else {
+                    budgetExhausted.increment();
+                }
+                completed = completionService.take();
+            }
+
+            winner = awaitFirstResponse(completed, attempts, completionService);
+            if (attempts.size() > 1) {
+                (winner == primary ? primaryWins : hedgeWins).increment();
+            }
+            return winner.response;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response of " + request.getURI());
+        } finally {
+            for (var attempt : attempts) {
+                if (attempt != winner) {
+                    attempt.abandon();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the interceptor recording the instance each attempt is sent to, to be registered after the load-balancer interceptor.
+     *
+     * @return the attempt recorder
+     */
+    public ClientHttpRequestInterceptor attemptRecorder() {
+        return (request, body, execution) -> {
+            if (request.getAttributes()
+                       .get(ATTEMPT_ATTRIBUTE) instanceof Attempt attempt) {
+                var uri = request.getURI();
+                attempt.instance = uri.getHost() + ":" + uri.getPort();
+                request.getHeaders()
+                       .remove(AVOID_INSTANCE_HEADER);
+            }
+            return execution.execute(request, body);
+        };
+    }
+
+    /**
+     * Waits for the first attempt to respond, past the attempts that fail.
+     *
+     * @param completed         the first attempt completed
+     * @param attempts          the attempts sent
+     * @param completionService the service the attempts complete on
+     * @return the attempt that responded first
+     * @throws IOException          the failure of the first attempt when every attempt failed
+     * @throws InterruptedException if the caller is interrupted while waiting
+     */
+    private Attempt awaitFirstResponse(Future<ClientHttpResponse> completed, List<Attempt> attempts, CompletionService<ClientHttpResponse> completionService)
+            throws IOException, InterruptedException {
+
+        var pending = attempts.size();
+        while (true) {
+            pending--;
+            try {
+                completed.get();
+                return attemptOf(completed, attempts);
+            } catch (ExecutionException e) {
+                if (pending == 0) {
+                    throw attempts.getFirst()
+                                  .failure();
+                }
+            }
+            completed = completionService.take();
+        }
+    }
+
+    private OptionalLong hedgeDelay() {
+        if (latency.count() < minSamples) {
+            return OptionalLong.empty();
+        }
+
+        var percentileLatency = Arrays.stream(latency.takeSnapshot()
+                                                     .percentileValues())
+                                      .mapToDouble(value -> value.value(TimeUnit.NANOSECONDS))
+                                      .findFirst()
+                                      .orElse(0);
+        return OptionalLong.of(Math.max(minDelayNanos, (long) percentileLatency));
+    }
+
+    private static Attempt attemptOf(Future<ClientHttpResponse> future, List<Attempt> attempts) {
+        return attempts.stream()
+                       .filter(attempt -> attempt.future == future)
+                       .findFirst()
+                       .orElseThrow();
+    }
+
+    private static Counter hedgesCounter(MeterRegistry meterRegistry, String winner) {
+        return Counter.builder("asapp.hedging.hedges")
+                      .tag("winner", winner)
+                      .description("Hedged requests, by the attempt that responded first")
+                      .register(meterRegistry);
+    }
+
+    /**
+     * One attempt of a request, sent on its own virtual thread.
+     */
+    private final class Attempt implements Callable<ClientHttpResponse> {
+
+        private final HttpRequest request;
+
+        private final byte[] body;
+
+        private final ClientHttpRequestExecution execution;
+
+        private final boolean primary;
+
+        private volatile @Nullable String instance;
+
+        private @Nullable Future<ClientHttpResponse> future;
+
+        private @Nullable ClientHttpResponse response;
+
+        private boolean abandoned;
+
+        Attempt(HttpRequest request, @Nullable String avoidInstance, byte[] body, ClientHttpRequestExecution execution, boolean primary) {
+            this.request = new AttemptRequest(request, this, avoidInstance);
+            this.body = body;
+            this.execution = execution;
+            this.primary = primary;
+        }
+
+        void start(CompletionService<ClientHttpResponse> completionService) {
+            this.future = completionService.submit(this);
+        }
+
+        @Override
+        public ClientHttpResponse call() throws IOException {
+            var startTime = System.nanoTime();
+            try {
+                return keep(execution.execute(request, body));
+            } finally {
+                if (primary) {
+                    latency.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        /**
+         * Stores the response of the attempt, or closes it if the attempt was abandoned meanwhile.
+         */
+        private synchronized ClientHttpResponse keep(ClientHttpResponse response) throws InterruptedIOException {
+            if (abandoned) {
+                response.close();
+                throw new InterruptedIOException("Hedged attempt abandoned");
+            }
+
+            this.response = response;
+            return response;
+        }
+
+        /**
+         * Cancels the attempt, closing its response if it already had one.
+         */
+        synchronized void abandon() {
+            abandoned = true;
+            if (future != null) {
+                future.cancel(true);
+            }
+            if (response != null) {
+                response.close();
+            }
+        }
+
+        /**
+         * Returns the failure of the completed attempt.
+         */
+        IOException failure() throws InterruptedException {
+            try {
+                future.get();
+                return new IOException("Attempt did not fail");
+            } catch (ExecutionException e) {
+                return switch (e.getCause()) {
+                    case IOException ioException -> ioException;
+                    case RuntimeException runtimeException -> throw runtimeException;
+                    case Error error -> throw error;
+                    default -> new IOException(e.getCause());
+                };
+            }
+        }
+
+    }
+
+    /**
+     * Request of one attempt, with headers and attributes of its own so attempts do not share mutable state.
+     */
+    private static final class AttemptRequest extends HttpRequestWrapper {
+
+        private final HttpHeaders headers;
+
+        private final Map<String, Object> attributes;
+
+        AttemptRequest(HttpRequest request, Attempt attempt, @Nullable String avoidInstance) {
+            super(request);
+            this.headers = HttpHeaders.copyOf(request.getHeaders());
+            this.attributes = new HashMap<>(request.getAttributes());
+            this.attributes.put(ATTEMPT_ATTRIBUTE, attempt);
+            if (avoidInstance != null) {
+                this.headers.set(AVOID_INSTANCE_HEADER, avoidInstance);
+            }
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+    }
+
+}
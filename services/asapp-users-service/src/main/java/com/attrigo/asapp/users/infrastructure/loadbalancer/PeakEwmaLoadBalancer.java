@@ -0,0 +1,299 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.loadbalancer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Latency-aware load balancer choosing between two random instances by peak-EWMA latency and in-flight requests.
+ * <p>
+ * For every call it samples two distinct instances and picks the cheaper, the cost of an instance being its peak-EWMA latency multiplied by its in-flight
+ * requests plus one (power of two choices). Comparing two random instances instead of always picking the cheapest keeps a momentarily fast instance from
+ * receiving every call at once.
+ * <p>
+ * Latencies are the ones observed by this client, recorded through the {@link LoadBalancerLifecycle} callbacks of each call. The peak-EWMA jumps to any
+ * latency above its current value, so an instance that starts pausing is avoided right away, and otherwise decays towards the observed latencies with the
+ * configured decay time; between calls it decays towards zero, so an avoided instance is eventually retried.
+ * <p>
+ * Until every instance has been observed at least once, as on a cold start or after a new instance is discovered, calls are distributed round-robin.
+ * <p>
+ * A hedged attempt is never sent to the instance named in its {@value HedgingInterceptor#AVOID_INSTANCE_HEADER} header unless it is the only one.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer, LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+
+    private final String serviceId;
+
+    private final double decayTimeNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    private final AtomicInteger position = new AtomicInteger(ThreadLocalRandom.current()
+                                                                              .nextInt(1000));
+
+    /**
+     * Constructs a new {@code PeakEwmaLoadBalancer}.
+     *
+     * @param serviceInstanceListSupplierProvider the provider of the service instances
+     * @param serviceId                           the id of the balanced service
+     * @param decayTime                           the time over which past latencies lose most of their weight
+     * @param nanoClock                           the monotonic clock in nanoseconds latencies are measured with
+     */
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, String serviceId, Duration decayTime,
+            LongSupplier nanoClock) {
+
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.decayTimeNanos = decayTime.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Chooses the instance the request is sent to.
+     *
+     * @param request the load-balancer request
+     * @return a {@link Mono} with the chosen instance, or an empty response when no instance is available
+     */
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        var supplier = serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+
+        var avoidedInstance = avoidedInstanceOf(request);
+
+        return supplier.get(request)
+                       .next()
+                       .map(instances -> {
+                           var response = choose(instances, avoidedInstance);
+                           if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                               callback.selectedServiceInstance(response.getServer());
+                           }
+                           return response;
+                       });
+    }
+
+    /**
+     * Only latencies of calls to service instances are recorded.
+     */
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {}
+
+    /**
+     * Counts the call as in flight on the chosen instance and records its start time.
+     */
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(nanoClock.getAsLong());
+        }
+        statsOf(lbResponse.getServer()).start();
+    }
+
+    /**
+     * Removes the call from the in-flight calls of its instance and records its latency.
+     * <p>
+     * Failed calls count as well: a timeout is the slowest latency an instance can show.
+     */
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        var lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer() || completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+
+        var now = nanoClock.getAsLong();
+        var latency = -1L;
+        if (completionContext.getLoadBalancerRequest()
+                             .getContext() instanceof TimedRequestContext context) {
+            latency = Math.max(0, now - context.getRequestStartTime());
+        }
+        statsOf(lbResponse.getServer()).complete(latency, now, decayTimeNanos);
+    }
+
+    /**
+     * Returns the id of the balanced service.
+     *
+     * @return the service id
+     */
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    /**
+     * Chooses between the available instances, round-robin until all of them have been observed and by power of two choices afterwards.
+     *
+     * @param availableInstances the available instances
+     * @param avoidedInstance    the instance to avoid, as {@code host:port}, or {@code null}
+     * @return the chosen instance, or an empty response when there are none
+     */
+    private Response<ServiceInstance> choose(List<ServiceInstance> availableInstances, String avoidedInstance) {
+        forgetRemovedInstances(availableInstances);
+        var instances = without(availableInstances, avoidedInstance);
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.getFirst());
+        }
+
+        var allObserved = instances.stream()
+                                   .allMatch(instance -> statsOf(instance).isObserved());
+        if (!allObserved) {
+            var index = Math.floorMod(position.getAndIncrement(), instances.size());
+            return new DefaultResponse(instances.get(index));
+        }
+
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(instances.size());
+        var second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        var now = nanoClock.getAsLong();
+        var firstCost = statsOf(instances.get(first)).cost(now, decayTimeNanos);
+        var secondCost = statsOf(instances.get(second)).cost(now, decayTimeNanos);
+        return new DefaultResponse(instances.get(firstCost <= secondCost ? first : second));
+    }
+
+    /**
+     * Removes the avoided instance from the available ones, unless no other instance would remain.
+     *
+     * @param instances       the available instances
+     * @param avoidedInstance the instance to avoid, as {@code host:port}, or {@code null}
+     * @return the instances to choose from
+     */
+    private static List<ServiceInstance> without(List<ServiceInstance> instances, String avoidedInstance) {
+        if (avoidedInstance == null) {
+            return instances;
+        }
+
+        var others = instances.stream()
+                              .filter(instance -> !keyOf(instance).equals(avoidedInstance))
+                              .toList();
+        return others.isEmpty() ? instances : others;
+    }
+
+    private static String avoidedInstanceOf(Request<?> request) {
+        if (request.getContext() instanceof RequestDataContext context && context.getClientRequest() != null) {
+            return context.getClientRequest()
+                          .getHeaders()
+                          .getFirst(HedgingInterceptor.AVOID_INSTANCE_HEADER);
+        }
+        return null;
+    }
+
+    private void forgetRemovedInstances(List<ServiceInstance> instances) {
+        if (stats.size() > instances.size()) {
+            var keys = instances.stream()
+                                .map(PeakEwmaLoadBalancer::keyOf)
+                                .toList();
+            stats.keySet()
+                 .retainAll(keys);
+        }
+    }
+
+    private InstanceStats statsOf(ServiceInstance instance) {
+        return stats.computeIfAbsent(keyOf(instance), _ -> new InstanceStats());
+    }
+
+    private static String keyOf(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * Latency and in-flight calls observed on one instance.
+     */
+    private static final class InstanceStats {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private double peakEwmaNanos;
+
+        private long lastUpdate;
+
+        private boolean observed;
+
+        void start() {
+            inFlight.incrementAndGet();
+        }
+
+        synchronized void complete(long latencyNanos, long now, double decayTimeNanos) {
+            inFlight.updateAndGet(count -> Math.max(0, count - 1));
+            if (latencyNanos < 0) {
+                return;
+            }
+
+            if (!observed || latencyNanos > peakEwmaNanos) {
+                peakEwmaNanos = latencyNanos;
+            } else {
+                var weight = Math.exp(-(now - lastUpdate) / decayTimeNanos);
+                peakEwmaNanos = peakEwmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdate = now;
+            observed = true;
+        }
+
+        synchronized boolean isObserved() {
+            return observed;
+        }
+
+        synchronized double cost(long now, double decayTimeNanos) {
+            var decayed = peakEwmaNanos * Math.exp(-(now - lastUpdate) / decayTimeNanos);
+            return decayed * (inFlight.get() + 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.observation;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
+
+/**
+ * Micrometer implementation of {@link UseCaseStepObserver}.
+ * <p>
+ * Wraps each step in a Micrometer {@link Observation} named {@value #OBSERVATION_NAME}, tagged with the low-cardinality {@code use.case} and {@code step} keys,
+ * producing a timer per step and, when tracing is configured, a child span of the request span.
+ * <p>
+ * When no observation handler is registered, or the observation is disabled with {@code management.observations.enable.asapp.use-case.step=false}, steps run
+ * through a no-op observation with negligible overhead.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class MicrometerUseCaseStepObserver implements UseCaseStepObserver {
+
+    /**
+     * Name of the step observations.
+     */
+    public static final String OBSERVATION_NAME = "asapp.use-case.step";
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Constructs a new {@code MicrometerUseCaseStepObserver} with required dependencies.
+     *
+     * @param observationRegistry the registry where the step observations are reported
+     */
+    public MicrometerUseCaseStepObserver(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public <T> T observe(String useCase, String step, Supplier<T> action) {
+        return observation(useCase, step).observe(action);
+    }
+
+    @Override
+    public void observe(String useCase, String step, Runnable action) {
+        observation(useCase, step).observe(action);
+    }
+
+    private Observation observation(String useCase, String step) {
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                          .contextualName(useCase + " " + step)
+                          .lowCardinalityKeyValue("use.case", useCase)
+                          .lowCardinalityKeyValue("step", step);
+    }
+
+}
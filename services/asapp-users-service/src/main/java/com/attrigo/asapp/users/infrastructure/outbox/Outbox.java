@@ -0,0 +1,158 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.outbox;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transactional outbox of the domain events, stored in the {@code outbox_events} table.
+ * <p>
+ * Events are appended through the application data source, so they join the transaction of the change they describe and are committed or rolled back with
+ * it.
+ * <p>
+ * A single relay publishes at a time: each batch transaction first takes the transaction-scoped advisory lock of the outbox, and relays failing to take it
+ * skip the poll. Batches are therefore claimed and committed one after the other in outbox order, so events of the same aggregate, appended by transactions
+ * serialized on the aggregate row, are published in the order they were committed.
+ *
+ * @since 0.5.0
+ * @see OutboxRelay
+ * @author attrigo
+ */
+@Component
+public class Outbox {
+
+    private static final String APPEND_EVENT = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload)
+            VALUES (:aggregateType, :aggregateId, :eventType, CAST(:payload AS jsonb))
+            """;
+
+    private static final String TRY_LEAD_RELAY = "SELECT pg_try_advisory_xact_lock(hashtext('outbox_events'))";
+
+    private static final String CLAIM_EVENTS = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload::text AS payload, occurred_at
+            FROM outbox_events
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String DELETE_EVENTS = "DELETE FROM outbox_events WHERE id IN (:eventIds)";
+
+    private static final String OLDEST_EVENT_AGE = """
+            SELECT COALESCE(EXTRACT(EPOCH FROM now() - (SELECT occurred_at FROM outbox_events ORDER BY id LIMIT 1)) * 1000, 0)::bigint
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Constructs a new {@code Outbox} with required dependencies.
+     *
+     * @param jdbcClient the JDBC client bound to the application data source
+     */
+    public Outbox(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Appends an event to the outbox within the current transaction.
+     *
+     * @param aggregateType the type of the aggregate the event is about
+     * @param aggregateId   the unique identifier of the aggregate the event is about
+     * @param eventType     the type of the event
+     * @param payload       the JSON payload of the event
+     */
+    public void append(String aggregateType, UUID aggregateId, String eventType, String payload) {
+        jdbcClient.sql(APPEND_EVENT)
+                  .param("aggregateType", aggregateType)
+                  .param("aggregateId", aggregateId)
+                  .param("eventType", eventType)
+                  .param("payload", payload)
+                  .update();
+    }
+
+    /**
+     * Tries to take the relay lead for the current transaction, without waiting for another relay to release it.
+     * <p>
+     * Must be called within a transaction: the lead is released when it ends.
+     *
+     * @return {@code true} if the current transaction leads the relay, {@code false} if another relay holds the lead
+     */
+    public boolean tryLeadRelay() {
+        return Boolean.TRUE.equals(jdbcClient.sql(TRY_LEAD_RELAY)
+                                             .query(Boolean.class)
+                                             .single());
+    }
+
+    /**
+     * Claims the oldest events, locking them until the current transaction ends.
+     * <p>
+     * Must be called within a transaction leading the relay, which should delete the claimed events once they are published.
+     *
+     * @param limit the maximum number of events to claim
+     * @return the {@link List} of claimed events in outbox order
+     */
+    public List<OutboxEvent> claimEvents(int limit) {
+        return jdbcClient.sql(CLAIM_EVENTS)
+                         .param("limit", limit)
+                         .query(Outbox::toOutboxEvent)
+                         .list();
+    }
+
+    /**
+     * Deletes published events from the outbox.
+     *
+     * @param events the published events
+     * @return the number of deleted events
+     */
+    public int deleteEvents(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        var eventIds = events.stream()
+                             .map(OutboxEvent::eventId)
+                             .toList();
+        return jdbcClient.sql(DELETE_EVENTS)
+                         .param("eventIds", eventIds)
+                         .update();
+    }
+
+    /**
+     * Measures how long the oldest pending event has been waiting to be relayed.
+     *
+     * @return the age in milliseconds of the oldest event in the outbox, {@code 0} if the outbox is empty
+     */
+    public long getOldestEventAgeMillis() {
+        return jdbcClient.sql(OLDEST_EVENT_AGE)
+                         .query(Long.class)
+                         .single();
+    }
+
+    private static OutboxEvent toOutboxEvent(ResultSet rs, int rowNum) throws SQLException {
+        var occurredAt = rs.getObject("occurred_at", OffsetDateTime.class);
+        return new OutboxEvent(rs.getLong("id"), rs.getString("aggregate_type"), rs.getObject("aggregate_id", UUID.class), rs.getString("event_type"),
+                rs.getString("payload"), occurredAt.toInstant());
+    }
+
+}
@@ -0,0 +1,41 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Domain event recorded in the outbox, pending to be relayed.
+ *
+ * @param eventId       the position of the event in the outbox, unique within the service
+ * @param aggregateType the type of the aggregate the event is about
+ * @param aggregateId   the unique identifier of the aggregate the event is about
+ * @param eventType     the type of the event
+ * @param payload       the JSON payload of the event
+ * @param occurredAt    the instant the change described by the event was made
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record OutboxEvent(
+        long eventId,
+        String aggregateType,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        Instant occurredAt
+) {}
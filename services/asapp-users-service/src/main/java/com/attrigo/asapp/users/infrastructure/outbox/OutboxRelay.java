@@ -0,0 +1,297 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Periodic relay of the outbox events to a Redis Stream.
+ * <p>
+ * Each batch is claimed, published and deleted within a single database transaction: the events are added to the stream in one pipelined round trip and
+ * deleted from the outbox only once Redis acknowledged them all, so a failed publication rolls the batch back and it is retried on the next poll. Batches are
+ * drained back to back while they come full, then the relay waits for the poll interval.
+ * <p>
+ * Relays of every replica poll the same outbox, but only the one leading the relay publishes: each batch transaction first takes the advisory lock of the
+ * outbox, and the other relays skip the poll while it is held. Events are thus added to the stream in outbox order, which keeps the events of an aggregate in
+ * the order they were committed, and are never published twice by concurrent relays. Delivery is still at-least-once: a relay that stops between the
+ * publication and the commit leaves its batch in the outbox, so consumers must deduplicate by the {@value #EVENT_ID_FIELD} field.
+ * <p>
+ * The configured consumer groups are created, along with the stream, before the first batch is published, so no group misses events published before its
+ * consumers first connect. The stream is trimmed to approximately its configured maximum length.
+ * <p>
+ * Publishes the {@code asapp.outbox.published} and {@code asapp.outbox.failures} counters, the {@code asapp.outbox.batch.size} distribution summary, and the
+ * {@code asapp.outbox.lag} gauge with the age of the oldest pending event.
+ *
+ * @since 0.5.0
+ * @see Outbox
+ * @author attrigo
+ */
+public class OutboxRelay implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    /**
+     * Stream field holding the event identifier, unique within the stream.
+     */
+    public static final String EVENT_ID_FIELD = "eventId";
+
+    /**
+     * Stream field holding the type of the aggregate the event is about.
+     */
+    public static final String AGGREGATE_TYPE_FIELD = "aggregateType";
+
+    /**
+     * Stream field holding the unique identifier of the aggregate the event is about.
+     */
+    public static final String AGGREGATE_ID_FIELD = "aggregateId";
+
+    /**
+     * Stream field holding the type of the event.
+     */
+    public static final String EVENT_TYPE_FIELD = "eventType";
+
+    /**
+     * Stream field holding the instant the change described by the event was made.
+     */
+    public static final String OCCURRED_AT_FIELD = "occurredAt";
+
+    /**
+     * Stream field holding the JSON payload of the event.
+     */
+    public static final String PAYLOAD_FIELD = "payload";
+
+    private final Outbox outbox;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String streamKey;
+
+    private final List<String> consumerGroups;
+
+    private final int batchSize;
+
+    private final Duration pollInterval;
+
+    private final XAddOptions addOptions;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter publishedCounter;
+
+    private final Counter failuresCounter;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private volatile boolean consumerGroupsCreated;
+
+    /**
+     * Constructs a new {@code OutboxRelay}.
+     *
+     * @param outbox              the outbox to relay
+     * @param transactionTemplate the template running each batch in a transaction
+     * @param redisTemplate       the Spring Data Redis template for executing Redis operations
+     * @param streamKey           the key of the stream where events are published
+     * @param consumerGroups      the consumer groups to create on the stream
+     * @param batchSize           the maximum number of events published per batch
+     * @param pollInterval        the delay between polls once the outbox is drained
+     * @param maxStreamLength     the approximate number of events the stream retains
+     * @param meterRegistry       the registry where the relay meters are published
+     */
+    public OutboxRelay(Outbox outbox, TransactionTemplate transactionTemplate, RedisTemplate<String, String> redisTemplate, String streamKey,
+            List<String> consumerGroups, int batchSize, Duration pollInterval, long maxStreamLength, MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey;
+        this.consumerGroups = List.copyOf(consumerGroups);
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.addOptions = XAddOptions.maxlen(maxStreamLength)
+                                     .approximateTrimming(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                                                                          .name("outbox-relay")
+                                                                          .daemon()
+                                                                          .factory());
+
+        this.publishedCounter = Counter.builder("asapp.outbox.published")
+                                       .tag("stream", streamKey)
+                                       .description("Events published to the stream")
+                                       .register(meterRegistry);
+        this.failuresCounter = Counter.builder("asapp.outbox.failures")
+                                      .tag("stream", streamKey)
+                                      .description("Relay polls that failed and were rolled back")
+                                      .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("asapp.outbox.batch.size")
+                                                   .tag("stream", streamKey)
+                                                   .baseUnit("events")
+                                                   .description("Events published per batch")
+                                                   .register(meterRegistry);
+        Gauge.builder("asapp.outbox.lag", lagMillis, AtomicLong::get)
+             .tag("stream", streamKey)
+             .baseUnit("milliseconds")
+             .description("Age of the oldest event pending to be published, measured by the last poll")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Schedules the polls of the outbox.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.scheduleWithFixedDelay(this::relay, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Publishes the pending events, draining the outbox batch by batch, and measures the lag of the events left.
+     */
+    void relay() {
+        try {
+            createConsumerGroups();
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            failuresCounter.increment();
+            logger.warn("Outbox relay to stream {} failed, retrying in {} ms", streamKey, pollInterval.toMillis(), e);
+        }
+
+        try {
+            lagMillis.set(outbox.getOldestEventAgeMillis());
+        } catch (RuntimeException e) {
+            logger.debug("Outbox lag measurement failed", e);
+        }
+    }
+
+    /**
+     * Claims a batch of events, publishes them and deletes them from the outbox within a single transaction, unless another relay leads.
+     *
+     * @return the number of published events, {@code 0} if another relay leads
+     */
+    int relayBatch() {
+        var published = transactionTemplate.execute(status -> {
+            if (!outbox.tryLeadRelay()) {
+                return 0;
+            }
+
+            var events = outbox.claimEvents(batchSize);
+            if (!events.isEmpty()) {
+                publish(events);
+                outbox.deleteEvents(events);
+            }
+            return events.size();
+        });
+
+        if (published != null && published > 0) {
+            publishedCounter.increment(published);
+            batchSizeSummary.record(published);
+            return published;
+        }
+        return 0;
+    }
+
+    /**
+     * Creates the consumer groups that do not exist yet, along with the stream, reading from its beginning.
+     */
+    private void createConsumerGroups() {
+        if (consumerGroupsCreated) {
+            return;
+        }
+
+        for (var consumerGroup : consumerGroups) {
+            try {
+                redisTemplate.opsForStream()
+                             .createGroup(streamKey, ReadOffset.from("0-0"), consumerGroup);
+                logger.info("Created consumer group {} on stream {}", consumerGroup, streamKey);
+            } catch (DataAccessException e) {
+                var message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e)
+                                                                 .getMessage());
+                if (!message.startsWith("BUSYGROUP")) {
+                    throw e;
+                }
+            }
+        }
+        consumerGroupsCreated = true;
+    }
+
+    /**
+     * Adds the events to the stream in a single pipelined round trip.
+     *
+     * @param events the events to publish
+     */
+    private void publish(List<OutboxEvent> events) {
+        var records = events.stream()
+                            .map(this::toRecord)
+                            .toList();
+
+        redisTemplate.executePipelined(new SessionCallback<>() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                var streamOperations = ((RedisOperations<String, String>) operations).opsForStream();
+                records.forEach(record -> streamOperations.add(record, addOptions));
+                return null;
+            }
+
+        });
+    }
+
+    private StringRecord toRecord(OutboxEvent event) {
+        var fields = Map.of(EVENT_ID_FIELD, Long.toString(event.eventId()), AGGREGATE_TYPE_FIELD, event.aggregateType(), AGGREGATE_ID_FIELD,
+                String.valueOf(event.aggregateId()), EVENT_TYPE_FIELD, event.eventType(), OCCURRED_AT_FIELD, String.valueOf(event.occurredAt()), PAYLOAD_FIELD,
+                event.payload());
+        return StreamRecords.string(fields)
+                            .withStreamKey(streamKey);
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.security.client;
+
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.AUTHORIZATION;
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.BEARER_PREFIX;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+import com.attrigo.asapp.users.infrastructure.security.JwtAuthenticationToken;
+
+/**
+ * gRPC client interceptor for adding JWT authentication metadata to outgoing calls.
+ * <p>
+ * The gRPC counterpart of the {@link JwtInterceptor}: injects the JWT Bearer token from the current security context into the {@code authorization} metadata
+ * of the call, propagating authentication context to downstream services.
+ *
+ * @since 0.5.0
+ * @see JwtInterceptor
+ * @author attrigo
+ */
+public class JwtGrpcInterceptor implements ClientInterceptor {
+
+    /**
+     * Intercepts the gRPC call to inject JWT authentication metadata.
+     * <p>
+     * The token is read on the calling thread, where the security context is bound, and injected with format: {@code authorization: Bearer <token>}
+     *
+     * @param <ReqT>      the type of the request messages
+     * @param <RespT>     the type of the response messages
+     * @param method      the method being called
+     * @param callOptions the options of the call
+     * @param next        the channel performing the call
+     * @return the call, sending the token along with its metadata
+     * @throws IllegalStateException if authentication is not present in the {@link SecurityContextHolder} or is not a {@link JwtAuthenticationToken}
+     */
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        var bearerToken = BEARER_PREFIX + extractTokenFromAuthentication();
+
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                headers.put(AUTHORIZATION, bearerToken);
+                super.start(responseListener, headers);
+            }
+
+        };
+    }
+
+    /**
+     * Extracts the JWT from the current authentication context.
+     *
+     * @return the encoded JWT
+     * @throws IllegalStateException if no authentication is found in the security context or if the authentication is not a {@link JwtAuthenticationToken}
+     */
+    private String extractTokenFromAuthentication() {
+        var authentication = SecurityContextHolder.getContext()
+                                                  .getAuthentication();
+
+        if (authentication == null) {
+            throw new IllegalStateException("No authentication found in SecurityContext");
+        }
+
+        if (!(authentication instanceof JwtAuthenticationToken jwtAuthentication)) {
+            throw new IllegalStateException("Expected JwtAuthenticationToken but found: " + authentication.getClass()
+                                                                                                          .getName());
+        }
+
+        return jwtAuthentication.getJwt();
+    }
+
+}
@@ -22,20 +22,24 @@ import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_BY_ID_PATH;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_PATH;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_IDS_PARAM;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_ROOT_PATH;
+import static com.attrigo.asapp.url.users.UserApiUrl.USERS_TASKS_PARAM;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_UPDATE_BY_ID_PATH;
 
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -48,9 +52,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 import com.attrigo.asapp.users.infrastructure.user.in.request.CreateUserRequest;
+import com.attrigo.asapp.users.infrastructure.user.in.request.PatchUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.request.UpdateUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.response.CreateUserResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.GetUserByIdResponse;
@@ -79,30 +85,44 @@ public interface UserApi {
      * unavailable, the request still succeeds with an empty {@code taskIds} and a {@code task_ids_unavailable} warning in the {@code warnings} array. Because
      * an empty {@code taskIds} is indistinguishable from a user who genuinely has no tasks, clients must inspect {@code warnings} to detect degradation.
      * <p>
+     * A complete response carries an {@code ETag} built from the user's version and a digest of the task references, so it changes whenever either does;
+     * when the {@code If-None-Match} header already matches it, no body is returned. Degraded responses carry no {@code ETag} so they are never revalidated.
+     * <p>
+     * With {@code tasks=stats}, the task identifiers are replaced by the user's task statistics (total, scheduled and overdue tasks), which stay cheap to
+     * embed however many tasks the user has. If tasks-service is unavailable, {@code taskStats} is omitted and a {@code task_stats_unavailable} warning is
+     * returned instead. Task statistics change over time independently of the user, so these responses carry no {@code ETag} and ignore
+     * {@code If-None-Match}.
+     * <p>
      * Response codes:
      * <ul>
      * <li>200-OK: User found (with or without tasks).</li>
-     * <li>400-BAD_REQUEST: Invalid user identifier format.</li>
+     * <li>304-NOT_MODIFIED: User and task references unchanged since the entity tag in {@code If-None-Match}.</li>
+     * <li>400-BAD_REQUEST: Invalid user identifier format, or tasks is neither {@code ids} nor {@code stats}.</li>
      * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
      * <li>404-NOT_FOUND: User not found.</li>
      * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during retrieval.</li>
      * </ul>
      *
-     * @param id the user's unique identifier
-     * @return a {@link ResponseEntity} wrapping the {@link GetUserByIdResponse} if found, otherwise wrapping empty
+     * @param id          the user's unique identifier
+     * @param tasks       how the user's tasks are embedded: {@code ids} for their identifiers, {@code stats} for their statistics
+     * @param ifNoneMatch the entity tags the client already has, may be {@code null}
+     * @return a {@link ResponseEntity} wrapping the {@link GetUserByIdResponse} if found and modified, otherwise wrapping empty
      */
     @GetMapping(value = USERS_GET_BY_ID_PATH, produces = "application/json")
-    @Operation(summary = "Gets a user by their unique identifier with task references", description = "Retrieves detailed information about a specific user by their unique identifier, including a list of associated task identifiers. If tasks-service is unavailable, the request still succeeds with an empty `taskIds` and a `task_ids_unavailable` warning in the `warnings` array. Because an empty `taskIds` is indistinguishable from a user who genuinely has no tasks, clients must inspect `warnings` to detect degradation.")
+    @Operation(summary = "Gets a user by their unique identifier with task references", description = "Retrieves detailed information about a specific user by their unique identifier, including a list of associated task identifiers. If tasks-service is unavailable, the request still succeeds with an empty `taskIds` and a `task_ids_unavailable` warning in the `warnings` array. Because an empty `taskIds` is indistinguishable from a user who genuinely has no tasks, clients must inspect `warnings` to detect degradation. With `tasks=stats`, the task identifiers are replaced by the user's task statistics; if tasks-service is unavailable, `taskStats` is omitted and a `task_stats_unavailable` warning is returned.")
     @ApiResponse(responseCode = "200", description = "User found (with or without tasks); includes a warnings array when task data could not be retrieved", content = {
             @Content(schema = @Schema(implementation = GetUserByIdResponse.class)) })
-    @ApiResponse(responseCode = "400", description = "Invalid user identifier format", content = {
+    @ApiResponse(responseCode = "304", description = "User and task references not modified", content = { @Content })
+    @ApiResponse(responseCode = "400", description = "Invalid user identifier format or tasks embedding", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     @ApiResponse(responseCode = "404", description = "User not found", content = { @Content })
     @ApiResponse(responseCode = "500", description = "An internal error occurred during retrieval", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
-    ResponseEntity<GetUserByIdResponse> getUserById(@PathVariable @Parameter(description = "Identifier of the user to get") UUID id);
+    ResponseEntity<GetUserByIdResponse> getUserById(@PathVariable @Parameter(description = "Identifier of the user to get") UUID id,
+            @RequestParam(name = USERS_TASKS_PARAM, defaultValue = "ids") @Parameter(description = "How the user's tasks are embedded: ids for their identifiers, stats for their statistics") @Pattern(regexp = "ids|stats", message = "Tasks embedding must be either ids or stats") String tasks,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "Entity tags of the user versions the client already has") String ifNoneMatch);
 
     /**
      * Gets users, optionally filtered by their unique identifiers.
@@ -169,7 +189,8 @@ public interface UserApi {
      * Updates an existing user by their unique identifier.
      * <p>
      * Updates the information of an existing user identified by their unique identifier. Only the fields provided in the request will be updated. Returns the
-     * user identifier. Use the GET endpoint to retrieve full user details.
+     * user identifier. Use the GET endpoint to retrieve full user details. When the {@code If-Match} header carries a user version, the update only applies if
+     * the user still has that version.
      * <p>
      * Response codes:
      * <ul>
@@ -177,10 +198,13 @@ public interface UserApi {
      * <li>400-BAD_REQUEST: The user identifier format is invalid or the request body is malformed or contains invalid data.</li>
      * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
      * <li>404-NOT_FOUND: User not found.</li>
+     * <li>409-CONFLICT: The user was modified concurrently.</li>
+     * <li>412-PRECONDITION_FAILED: The user does not have the version in {@code If-Match}.</li>
      * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during user update.</li>
      * </ul>
      *
      * @param id      the user's unique identifier
+     * @param ifMatch the entity tag of the user version the update is based on, may be {@code null}
      * @param request the {@link UpdateUserRequest} containing updated user data
      * @return a {@link ResponseEntity} wrapping the {@link UpdateUserResponse} with the user identifier if found, otherwise wrapping empty
      */
@@ -194,11 +218,60 @@ public interface UserApi {
     @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     @ApiResponse(responseCode = "404", description = "User not found", content = { @Content })
+    @ApiResponse(responseCode = "409", description = "The user was modified concurrently", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "412", description = "The user does not have the expected version", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     @ApiResponse(responseCode = "500", description = "An internal error occurred during user update", content = {
             @Content(schema = @Schema(implementation = ProblemDetail.class)) })
     ResponseEntity<UpdateUserResponse> updateUserById(@PathVariable @Parameter(description = "Identifier of the user to update") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "Entity tag of the user version the update is based on") String ifMatch,
             @RequestBody @Valid UpdateUserRequest request);
 
+    /**
+     * Partially updates an existing user by their unique identifier.
+     * <p>
+     * Applies a JSON Merge Patch (RFC 7396) to an existing user identified by their unique identifier: members present in the patch replace the user's fields
+     * and absent members leave fields untouched; every user field is mandatory, so no member may be {@code null}. Only the modified fields are written, and
+     * nothing is written when the patch does not change the user. Returns the user identifier. When the {@code If-Match} header carries a user version, the
+     * patch only applies if the user still has that version.
+     * <p>
+     * Response codes:
+     * <ul>
+     * <li>200-OK: User patched successfully.</li>
+     * <li>400-BAD_REQUEST: The user identifier format is invalid or the patch document is malformed or contains invalid data.</li>
+     * <li>401-UNAUTHORIZED: Authentication required or failed.</li>
+     * <li>404-NOT_FOUND: User not found.</li>
+     * <li>409-CONFLICT: The user was modified concurrently.</li>
+     * <li>412-PRECONDITION_FAILED: The user does not have the version in {@code If-Match}.</li>
+     * <li>500-INTERNAL_SERVER_ERROR: An internal error occurred during user patch.</li>
+     * </ul>
+     *
+     * @param id      the user's unique identifier
+     * @param ifMatch the entity tag of the user version the patch is based on, may be {@code null}
+     * @param request the {@link PatchUserRequest} containing the merge patch document
+     * @return a {@link ResponseEntity} wrapping the {@link UpdateUserResponse} with the user identifier if found, otherwise wrapping empty
+     */
+    @PatchMapping(value = USERS_UPDATE_BY_ID_PATH, consumes = "application/merge-patch+json", produces = "application/json")
+    @Operation(summary = "Partially updates an existing user by their unique identifier", description = "Applies a JSON Merge Patch to an existing user identified by their unique identifier. Absent members are left untouched. Returns the user identifier. Use the GET endpoint to retrieve full user details.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "JSON Merge Patch document containing the user fields to be modified", required = true, content = @Content(mediaType = "application/merge-patch+json", schema = @Schema(implementation = PatchUserRequest.class)))
+    @ApiResponse(responseCode = "200", description = "User patched successfully", content = {
+            @Content(schema = @Schema(implementation = UpdateUserResponse.class)) })
+    @ApiResponse(responseCode = "400", description = "The user identifier format is invalid or the patch document is malformed or contains invalid data", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "401", description = "Authentication required or failed", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "404", description = "User not found", content = { @Content })
+    @ApiResponse(responseCode = "409", description = "The user was modified concurrently", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "412", description = "The user does not have the expected version", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    @ApiResponse(responseCode = "500", description = "An internal error occurred during user patch", content = {
+            @Content(schema = @Schema(implementation = ProblemDetail.class)) })
+    ResponseEntity<UpdateUserResponse> patchUserById(@PathVariable @Parameter(description = "Identifier of the user to patch") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "Entity tag of the user version the patch is based on") String ifMatch,
+            @RequestBody @Valid PatchUserRequest request);
+
     /**
      * Deletes a user by their unique identifier.
      * <p>
@@ -26,20 +26,28 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.attrigo.asapp.users.application.user.in.CreateUserUseCase;
 import com.attrigo.asapp.users.application.user.in.DeleteUserUseCase;
+import com.attrigo.asapp.users.application.user.in.PatchUserUseCase;
 import com.attrigo.asapp.users.application.user.in.ReadUserUseCase;
 import com.attrigo.asapp.users.application.user.in.UpdateUserUseCase;
+import com.attrigo.asapp.users.application.user.in.result.UserWithTasksResult;
 import com.attrigo.asapp.users.infrastructure.user.in.request.CreateUserRequest;
+import com.attrigo.asapp.users.infrastructure.user.in.request.PatchUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.request.UpdateUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.response.CreateUserResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.GetUserByIdResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.GetUsersResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.UpdateUserResponse;
 import com.attrigo.asapp.users.infrastructure.user.mapper.UserMapper;
+import com.attrigo.asapp.users.infrastructure.user.query.UserQueryHandler;
 
 /**
  * REST controller implementing user management endpoints.
  * <p>
- * Handles HTTP requests for user operations by delegating to application use cases and mapping between DTOs.
+ * Handles HTTP requests for user operations by delegating to application use cases and mapping between DTOs; the user list is served by the
+ * {@link UserQueryHandler}, which maps rows straight into the response DTOs.
+ * <p>
+ * Single-user reads and updates expose the user's row version as a strong {@code ETag}, supporting conditional {@code If-None-Match} reads and
+ * {@code If-Match} updates.
  *
  * @since 0.2.0
  * @author attrigo
@@ -48,12 +56,18 @@ import com.attrigo.asapp.users.infrastructure.user.mapper.UserMapper;
 @Validated
 public class UserRestController implements UserApi {
 
+    private static final String TASK_STATS_EMBEDDING = "stats";
+
     private final ReadUserUseCase readUserUseCase;
 
+    private final UserQueryHandler userQueryHandler;
+
     private final CreateUserUseCase createUserUseCase;
 
     private final UpdateUserUseCase updateUserUseCase;
 
+    private final PatchUserUseCase patchUserUseCase;
+
     private final DeleteUserUseCase deleteUserUseCase;
 
     private final UserMapper userMapper;
@@ -62,37 +76,43 @@ public class UserRestController implements UserApi {
      * Constructs a new {@code UserRestController} with required dependencies.
      *
      * @param readUserUseCase   the use case for reading users
+     * @param userQueryHandler  the query handler for listing users
      * @param createUserUseCase the use case for creating users
      * @param updateUserUseCase the use case for updating users
+     * @param patchUserUseCase  the use case for partially updating users
      * @param deleteUserUseCase the use case for deleting users
      * @param userMapper        the mapper for user DTOs
      */
-    public UserRestController(ReadUserUseCase readUserUseCase, CreateUserUseCase createUserUseCase, UpdateUserUseCase updateUserUseCase,
-            DeleteUserUseCase deleteUserUseCase, UserMapper userMapper) {
+    public UserRestController(ReadUserUseCase readUserUseCase, UserQueryHandler userQueryHandler, CreateUserUseCase createUserUseCase,
+            UpdateUserUseCase updateUserUseCase, PatchUserUseCase patchUserUseCase, DeleteUserUseCase deleteUserUseCase, UserMapper userMapper) {
 
         this.readUserUseCase = readUserUseCase;
+        this.userQueryHandler = userQueryHandler;
         this.createUserUseCase = createUserUseCase;
         this.updateUserUseCase = updateUserUseCase;
+        this.patchUserUseCase = patchUserUseCase;
         this.deleteUserUseCase = deleteUserUseCase;
         this.userMapper = userMapper;
     }
 
     @Override
-    public ResponseEntity<GetUserByIdResponse> getUserById(UUID id) {
+    public ResponseEntity<GetUserByIdResponse> getUserById(UUID id, String tasks, String ifNoneMatch) {
+        if (TASK_STATS_EMBEDDING.equals(tasks)) {
+            return readUserUseCase.getUserWithTaskStatsById(id)
+                                  .map(result -> ResponseEntity.ok(userMapper.toGetUserByIdResponse(result)))
+                                  .orElseGet(() -> ResponseEntity.notFound()
+                                                                 .build());
+        }
+
         return readUserUseCase.getUserById(id)
-                              .map(userMapper::toGetUserByIdResponse)
-                              .map(ResponseEntity::ok)
+                              .map(result -> toGetUserByIdResponseEntity(result, ifNoneMatch))
                               .orElseGet(() -> ResponseEntity.notFound()
                                                              .build());
     }
 
     @Override
     public List<GetUsersResponse> getUsers(List<UUID> ids) {
-        var users = ids == null ? readUserUseCase.getAllUsers() : readUserUseCase.getUsersByIds(ids);
-
-        return users.stream()
-                    .map(userMapper::toGetUsersResponse)
-                    .toList();
+        return ids == null ? userQueryHandler.getAllUsers() : userQueryHandler.getUsersByIds(ids);
     }
 
     @Override
@@ -105,16 +125,29 @@ public class UserRestController implements UserApi {
     }
 
     @Override
-    public ResponseEntity<UpdateUserResponse> updateUserById(UUID id, UpdateUserRequest request) {
-        var command = userMapper.toUpdateUserCommand(id, request);
+    public ResponseEntity<UpdateUserResponse> updateUserById(UUID id, String ifMatch, UpdateUserRequest request) {
+        var command = userMapper.toUpdateUserCommand(id, VersionETags.expectedVersion(ifMatch), request);
 
         return updateUserUseCase.updateUserById(command)
-                                .map(userMapper::toUpdateUserResponse)
-                                .map(ResponseEntity::ok)
+                                .map(user -> ResponseEntity.ok()
+                                                           .eTag(VersionETags.of(user.getVersion()))
+                                                           .body(userMapper.toUpdateUserResponse(user)))
                                 .orElseGet(() -> ResponseEntity.notFound()
                                                                .build());
     }
 
+    @Override
+    public ResponseEntity<UpdateUserResponse> patchUserById(UUID id, String ifMatch, PatchUserRequest request) {
+        var command = userMapper.toPatchUserCommand(id, VersionETags.expectedVersion(ifMatch), request);
+
+        return patchUserUseCase.patchUserById(command)
+                               .map(user -> ResponseEntity.ok()
+                                                          .eTag(VersionETags.of(user.getVersion()))
+                                                          .body(userMapper.toUpdateUserResponse(user)))
+                               .orElseGet(() -> ResponseEntity.notFound()
+                                                              .build());
+    }
+
     @Override
     public ResponseEntity<Void> deleteUserById(UUID id) {
         boolean userHasBeenDeleted = deleteUserUseCase.deleteUserById(id);
@@ -123,4 +156,33 @@ public class UserRestController implements UserApi {
                              .build();
     }
 
+    /**
+     * Builds the response of a user read, tagged with the user's version and task references only when the task references could be retrieved.
+     * <p>
+     * The tag covers the whole body, so {@code If-None-Match} is checked against it once the task references are loaded. A degraded response is left untagged
+     * so that clients never revalidate it into a cached copy missing the task references.
+     *
+     * @param result      the user read result
+     * @param ifNoneMatch the entity tags the client already has, may be {@code null}
+     * @return a {@link ResponseEntity} wrapping the {@link GetUserByIdResponse}, or an empty 304 response if the client's copy is current
+     */
+    private ResponseEntity<GetUserByIdResponse> toGetUserByIdResponseEntity(UserWithTasksResult result, String ifNoneMatch) {
+        if (!result.tasksServiceAvailable()) {
+            return ResponseEntity.ok(userMapper.toGetUserByIdResponse(result));
+        }
+
+        var version = result.user()
+                            .getVersion();
+        var eTag = VersionETags.of(version, result.taskIds());
+        if (VersionETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                 .eTag(eTag)
+                                 .build();
+        }
+
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .body(userMapper.toGetUserByIdResponse(result));
+    }
+
 }
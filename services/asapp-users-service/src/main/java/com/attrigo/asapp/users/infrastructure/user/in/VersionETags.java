@@ -0,0 +1,152 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.in;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.ETag;
+
+/**
+ * Translates row versions to and from HTTP entity tags.
+ * <p>
+ * A version is exposed as the strong entity tag {@code "<version>"}. A response that also embeds the user's task ids is tagged
+ * {@code "<version>-<task ids digest>"}, so it is revalidated whenever the task ids change as well; {@code If-Match} only looks at the version part of either
+ * form. Versions are never negative, so tags that can never match one (weak or non-numeric tags in {@code If-Match}) are translated to
+ * {@link #UNMATCHABLE_VERSION}, which fails the precondition like any other stale version.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+final class VersionETags {
+
+    static final long UNMATCHABLE_VERSION = -1L;
+
+    private static final char DIGEST_SEPARATOR = '-';
+
+    private static final int DIGEST_BYTES = 8;
+
+    private VersionETags() {}
+
+    /**
+     * Builds the entity tag of a version.
+     *
+     * @param version the row version
+     * @return the quoted strong entity tag of the version, ready to be sent as an {@code ETag} header
+     */
+    static String of(long version) {
+        return new ETag(Long.toString(version), false).formattedTag();
+    }
+
+    /**
+     * Builds the entity tag of a version and the task ids embedded in the same response.
+     *
+     * @param version the row version
+     * @param taskIds the task ids, in the order they are returned
+     * @return the quoted strong entity tag of the version and a digest of the task ids, ready to be sent as an {@code ETag} header
+     */
+    static String of(long version, List<UUID> taskIds) {
+        return new ETag(Long.toString(version) + DIGEST_SEPARATOR + digest(taskIds), false).formattedTag();
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} header matches an entity tag.
+     * <p>
+     * Uses weak comparison, as required for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch the header value, may be {@code null}
+     * @param eTag        the current entity tag, as built by one of the {@code of} methods
+     * @return {@code true} if the header is a wildcard or lists the entity tag, {@code false} otherwise
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        var current = ETag.create(eTag);
+        return ETag.parse(ifNoneMatch)
+                   .stream()
+                   .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    /**
+     * Extracts the version a client expects from an {@code If-Match} header.
+     *
+     * @param ifMatch the header value, may be {@code null}
+     * @return {@code null} if the header is absent or a wildcard, the version of a single strong tag built by one of the {@code of} methods, or
+     *         {@link #UNMATCHABLE_VERSION} otherwise
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        var tags = ETag.parse(ifMatch);
+        if (tags.size() != 1) {
+            return UNMATCHABLE_VERSION;
+        }
+
+        var tag = tags.getFirst();
+        if (tag.isWildcard()) {
+            return null;
+        }
+        if (tag.weak()) {
+            return UNMATCHABLE_VERSION;
+        }
+
+        var value = tag.tag();
+        var separator = value.indexOf(DIGEST_SEPARATOR);
+        if (separator > 0) {
+            value = value.substring(0, separator);
+        }
+
+        try {
+            var version = Long.parseLong(value);
+            return version >= 0 ? version : UNMATCHABLE_VERSION;
+        } catch (NumberFormatException _) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+
+    /**
+     * Digests task ids into a short hexadecimal string.
+     *
+     * @param taskIds the task ids
+     * @return the hexadecimal prefix of the SHA-256 digest of the task ids
+     */
+    private static String digest(List<UUID> taskIds) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            var buffer = ByteBuffer.allocate(2 * Long.BYTES);
+            for (var taskId : taskIds) {
+                buffer.clear()
+                      .putLong(taskId.getMostSignificantBits())
+                      .putLong(taskId.getLeastSignificantBits());
+                digest.update(buffer.array());
+            }
+            return HexFormat.of()
+                            .formatHex(digest.digest(), 0, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.in.request;
+
+import static com.attrigo.asapp.users.domain.user.Email.SUPPORTED_EMAIL_PATTERN;
+import static com.attrigo.asapp.users.domain.user.PhoneNumber.SUPPORTED_PHONE_NUMBER_PATTERN;
+
+import java.util.Optional;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Request for partially updating an existing user, following JSON Merge Patch (RFC 7396) semantics.
+ * <p>
+ * A {@code null} component means the member is absent and the field is left unchanged, a present {@link Optional} carries the field's new value. Every user
+ * field is mandatory, so a member set to {@code null}, an empty {@link Optional}, fails validation.
+ *
+ * @param firstName   the user's new first name; must not be blank when present
+ * @param lastName    the user's new last name; must not be blank when present
+ * @param email       the user's new email; must not be blank and must be a valid email address when present
+ * @param phoneNumber the user's new phone number; must not be blank and must be a valid phone number when present
+ * @since 0.5.0
+ * @author attrigo
+ */
+public record PatchUserRequest(
+        Optional<@NotBlank(message = "The first name must not be empty") String> firstName,
+        Optional<@NotBlank(message = "The last name must not be empty") String> lastName,
+        Optional<@NotBlank(message = "The email must not be empty") @Email(regexp = SUPPORTED_EMAIL_PATTERN, message = "The email must be a valid email address") String> email,
+        Optional<@NotBlank(message = "The phone number must not be empty") @Pattern(regexp = SUPPORTED_PHONE_NUMBER_PATTERN, message = "The phone number must be a valid phone number") String> phoneNumber
+) {}
@@ -29,7 +29,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
  * @param lastName    the user's last name
  * @param email       the user's email
  * @param phoneNumber the user's phone number
- * @param taskIds     the user's task identifiers, or an empty list when tasks-service is unavailable
+ * @param taskIds     the user's task identifiers, or an empty list when tasks-service is unavailable; omitted when task statistics are requested instead
+ * @param taskStats   the user's task statistics when requested instead of the task identifiers; omitted otherwise or when tasks-service is unavailable
  * @param warnings    structured non-fatal degradation warnings; omitted when empty
  * @since 0.2.0
  * @author attrigo
@@ -40,6 +41,7 @@ public record GetUserByIdResponse(
         String lastName,
         String email,
         String phoneNumber,
-        List<UUID> taskIds,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<UUID> taskIds,
+        @JsonInclude(JsonInclude.Include.NON_NULL) UserTaskStatsResponse taskStats,
         @JsonInclude(JsonInclude.Include.NON_EMPTY) List<WarningDetail> warnings
 ) {}
@@ -41,7 +41,9 @@ public record WarningDetail(
      */
     public enum Reason {
 
-        TASK_IDS_UNAVAILABLE("task_ids_unavailable", "taskIds", "Tasks could not be retrieved and may be incomplete.", true);
+        TASK_IDS_UNAVAILABLE("task_ids_unavailable", "taskIds", "Tasks could not be retrieved and may be incomplete.", true),
+
+        TASK_STATS_UNAVAILABLE("task_stats_unavailable", "taskStats", "Task statistics could not be retrieved.", true);
 
         private final String code;
 
@@ -16,7 +16,9 @@
 
 package com.attrigo.asapp.users.infrastructure.user.mapper;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.mapstruct.Mapper;
@@ -24,14 +26,17 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import com.attrigo.asapp.users.application.user.in.command.CreateUserCommand;
+import com.attrigo.asapp.users.application.user.in.command.PatchUserCommand;
 import com.attrigo.asapp.users.application.user.in.command.UpdateUserCommand;
+import com.attrigo.asapp.users.application.user.in.result.UserWithTaskStatsResult;
 import com.attrigo.asapp.users.application.user.in.result.UserWithTasksResult;
 import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserField;
 import com.attrigo.asapp.users.infrastructure.user.in.request.CreateUserRequest;
+import com.attrigo.asapp.users.infrastructure.user.in.request.PatchUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.request.UpdateUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.response.CreateUserResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.GetUserByIdResponse;
-import com.attrigo.asapp.users.infrastructure.user.in.response.GetUsersResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.UpdateUserResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.WarningDetail;
 import com.attrigo.asapp.users.infrastructure.user.persistence.JdbcUserEntity;
@@ -59,13 +64,35 @@ public interface UserMapper {
     CreateUserCommand toCreateUserCommand(CreateUserRequest request);
 
     /**
-     * Maps a {@link UpdateUserRequest} and the user ID to a {@link UpdateUserCommand}.
+     * Maps a {@link UpdateUserRequest}, the user ID and the expected version to a {@link UpdateUserCommand}.
      *
-     * @param userId  the user's unique identifier
-     * @param request the {@link UpdateUserRequest}
+     * @param userId          the user's unique identifier
+     * @param expectedVersion the version the user is expected to have, or {@code null} to update unconditionally
+     * @param request         the {@link UpdateUserRequest}
      * @return the {@link UpdateUserCommand}
      */
-    UpdateUserCommand toUpdateUserCommand(UUID userId, UpdateUserRequest request);
+    UpdateUserCommand toUpdateUserCommand(UUID userId, Long expectedVersion, UpdateUserRequest request);
+
+    /**
+     * Maps a {@link PatchUserRequest}, the user ID and the expected version to a {@link PatchUserCommand}.
+     * <p>
+     * Every member present in the merge patch becomes a modified field of the command.
+     *
+     * @param userId          the user's unique identifier
+     * @param expectedVersion the version the user is expected to have, or {@code null} to update unconditionally
+     * @param request         the {@link PatchUserRequest}
+     * @return the {@link PatchUserCommand}
+     */
+    default PatchUserCommand toPatchUserCommand(UUID userId, Long expectedVersion, PatchUserRequest request) {
+        var fields = EnumSet.noneOf(UserField.class);
+        addIfPresent(fields, UserField.FIRST_NAME, request.firstName());
+        addIfPresent(fields, UserField.LAST_NAME, request.lastName());
+        addIfPresent(fields, UserField.EMAIL, request.email());
+        addIfPresent(fields, UserField.PHONE_NUMBER, request.phoneNumber());
+
+        return new PatchUserCommand(userId, fields, valueOf(request.firstName()), valueOf(request.lastName()), valueOf(request.email()),
+                valueOf(request.phoneNumber()), expectedVersion);
+    }
 
     /**
      * Maps a domain {@link User} to a database {@link JdbcUserEntity} entity.
@@ -73,6 +100,7 @@ public interface UserMapper {
      * @param user the {@link User} domain entity
      * @return the {@link JdbcUserEntity} database entity
      */
+    @Mapping(target = "withVersion", ignore = true)
     JdbcUserEntity toJdbcUserEntity(User user);
 
     /**
@@ -88,6 +116,8 @@ public interface UserMapper {
     @Mapping(target = "lastName", ignore = true)
     @Mapping(target = "email", ignore = true)
     @Mapping(target = "phoneNumber", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changedFields", ignore = true)
     User toUser(JdbcUserEntity jdbcUserEntity);
 
     /**
@@ -104,17 +134,27 @@ public interface UserMapper {
     @Mapping(target = "email", source = "user.email")
     @Mapping(target = "phoneNumber", source = "user.phoneNumber")
     @Mapping(target = "taskIds", source = "taskIds", qualifiedByName = "toTaskIdsUUID")
+    @Mapping(target = "taskStats", ignore = true)
     @Mapping(target = "warnings", source = "tasksServiceAvailable")
     GetUserByIdResponse toGetUserByIdResponse(UserWithTasksResult result);
 
     /**
-     * Maps a domain {@link User} to a {@link GetUsersResponse}.
+     * Maps a {@link UserWithTaskStatsResult} to a {@link GetUserByIdResponse}.
+     * <p>
+     * Combines user information with task statistics into a single response, without task references.
      *
-     * @param user the {@link User} domain entity
-     * @return the {@link GetUsersResponse}
+     * @param result the {@link UserWithTaskStatsResult} containing user and task statistics
+     * @return the {@link GetUserByIdResponse} with user data, task statistics, and any degradation warnings
      */
-    @Mapping(target = "userId", source = "id")
-    GetUsersResponse toGetUsersResponse(User user);
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "firstName", source = "user.firstName")
+    @Mapping(target = "lastName", source = "user.lastName")
+    @Mapping(target = "email", source = "user.email")
+    @Mapping(target = "phoneNumber", source = "user.phoneNumber")
+    @Mapping(target = "taskIds", ignore = true)
+    @Mapping(target = "taskStats", source = "taskStats")
+    @Mapping(target = "warnings", source = "tasksServiceAvailable", qualifiedByName = "toTaskStatsWarningDetails")
+    GetUserByIdResponse toGetUserByIdResponse(UserWithTaskStatsResult result);
 
     /**
      * Maps a domain {@link User} to a {@link CreateUserResponse}.
@@ -155,4 +195,39 @@ public interface UserMapper {
         return tasksServiceAvailable ? List.of() : List.of(WarningDetail.Reason.TASK_IDS_UNAVAILABLE.toDetail());
     }
 
+    /**
+     * Maps the tasks-service availability flag to the response warnings of a user read with task statistics.
+     *
+     * @param tasksServiceAvailable the tasks-service availability flag
+     * @return an empty list when available, or a single {@link WarningDetail} when not
+     */
+    @Named("toTaskStatsWarningDetails")
+    default List<WarningDetail> toTaskStatsWarningDetails(boolean tasksServiceAvailable) {
+        return tasksServiceAvailable ? List.of() : List.of(WarningDetail.Reason.TASK_STATS_UNAVAILABLE.toDetail());
+    }
+
+    /**
+     * Adds a field to the modified fields if its merge patch member is present.
+     *
+     * @param fields the modified fields
+     * @param field  the field
+     * @param member the merge patch member, {@code null} if absent
+     */
+    private static void addIfPresent(EnumSet<UserField> fields, UserField field, Optional<?> member) {
+        if (member != null) {
+            fields.add(field);
+        }
+    }
+
+    /**
+     * Returns the value of a merge patch member.
+     *
+     * @param member the merge patch member, {@code null} if absent
+     * @param <T>    the type of the value
+     * @return the member's value, or {@code null} if the member is absent or {@code null}
+     */
+    private static <T> T valueOf(Optional<T> member) {
+        return member != null ? member.orElse(null) : null;
+    }
+
 }
@@ -44,7 +44,7 @@ public class UserObjectFactory {
      */
     @ObjectFactory
     public User toUser(JdbcUserEntity source) {
-        return UserFactory.reconstitute(source.id(), source.firstName(), source.lastName(), source.email(), source.phoneNumber());
+        return UserFactory.reconstitute(source.id(), source.firstName(), source.lastName(), source.email(), source.phoneNumber(), source.version());
     }
 
 }
@@ -23,6 +23,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
@@ -34,6 +35,7 @@ import io.github.resilience4j.retry.annotation.Retry;
 import com.attrigo.asapp.http.clients.tasks.TasksHttpClient;
 import com.attrigo.asapp.http.clients.tasks.response.TasksByUserIdResponse;
 import com.attrigo.asapp.users.application.user.TasksUnavailableException;
+import com.attrigo.asapp.users.application.user.out.TaskStats;
 import com.attrigo.asapp.users.application.user.out.TasksGateway;
 import com.attrigo.asapp.users.domain.user.UserId;
 
@@ -41,7 +43,7 @@ import com.attrigo.asapp.users.domain.user.UserId;
  * Adapter implementation of {@link TasksGateway} for external calls to tasks-service.
  * <p>
  * Bridges the application layer with the infrastructure layer by delegating to the declarative {@link TasksHttpClient} and mapping task responses to their
- * identifiers.
+ * identifiers and task statistics. When the {@link TasksGrpcClient} is configured, task identifiers are looked up through the internal gRPC API instead.
  * <p>
  * Outbound calls are guarded by Resilience4j (circuit breaker + retry).
  *
@@ -57,13 +59,17 @@ public class TasksGatewayAdapter implements TasksGateway {
 
     private final TasksHttpClient tasksHttpClient;
 
+    private final ObjectProvider<TasksGrpcClient> tasksGrpcClient;
+
     /**
      * Constructs a new {@code TasksGatewayAdapter} with required dependencies.
      *
      * @param tasksHttpClient the declarative HTTP client for communicating with the tasks-service
+     * @param tasksGrpcClient the optional gRPC client for looking up task identifiers in the tasks-service
      */
-    public TasksGatewayAdapter(TasksHttpClient tasksHttpClient) {
+    public TasksGatewayAdapter(TasksHttpClient tasksHttpClient, ObjectProvider<TasksGrpcClient> tasksGrpcClient) {
         this.tasksHttpClient = tasksHttpClient;
+        this.tasksGrpcClient = tasksGrpcClient;
     }
 
     /**
@@ -79,11 +85,18 @@ public class TasksGatewayAdapter implements TasksGateway {
      * exact classification.</li>
      * </ul>
      * An empty list is also returned when the response body itself is {@code null}.
+     * <p>
+     * The gRPC client translates its failures into the same exceptions as the HTTP client, so both are guarded alike.
      */
     @Override
     @CircuitBreaker(name = TASKS_CLIENT_NAME, fallbackMethod = "tasksUnavailableFallback")
     @Retry(name = TASKS_CLIENT_NAME)
     public List<UUID> getTaskIdsByUserId(UserId userId) {
+        var grpcClient = tasksGrpcClient.getIfAvailable();
+        if (grpcClient != null) {
+            return grpcClient.getTaskIdsByUserId(userId.value());
+        }
+
         var tasks = tasksHttpClient.getTasksByUserId(userId.value());
 
         if (tasks == null) {
@@ -96,6 +109,27 @@ public class TasksGatewayAdapter implements TasksGateway {
                     .toList();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The call is guarded by the same Resilience4j circuit breaker and retry mechanism as {@link #getTaskIdsByUserId(UserId)}, sharing its circuit.
+     * <p>
+     * A response without body carries no counts to report, so it is treated as tasks-service being unavailable.
+     */
+    @Override
+    @CircuitBreaker(name = TASKS_CLIENT_NAME, fallbackMethod = "taskStatsUnavailableFallback")
+    @Retry(name = TASKS_CLIENT_NAME)
+    public TaskStats getTaskStatsByUserId(UserId userId) {
+        var taskStats = tasksHttpClient.getTaskStatsByUserId(userId.value());
+
+        if (taskStats == null) {
+            logger.warn("Received null response body from Tasks Service for the task statistics of user {}.", userId.value());
+            throw new TasksUnavailableException("Tasks Service returned no task statistics", null);
+        }
+
+        return new TaskStats(taskStats.totalTasks(), taskStats.scheduledTasks(), taskStats.overdueTasks());
+    }
+
     /**
      * Translates a tasks-service outage into a {@link TasksUnavailableException}, or rethrows non-outage failures.
      * <p>
@@ -113,15 +147,42 @@ public class TasksGatewayAdapter implements TasksGateway {
      * @throws Throwable                 the original failure when it is not a recoverable downstream outage (e.g. a 4xx client error or a bug)
      */
     private List<UUID> tasksUnavailableFallback(UserId userId, Throwable cause) throws Throwable {
+        throw toTasksUnavailable(userId, cause);
+    }
+
+    /**
+     * Translates a tasks-service outage into a {@link TasksUnavailableException}, or rethrows non-outage failures.
+     * <p>
+     * Invoked reflectively by Resilience4j as the {@code tasks} circuit breaker fallback of {@link #getTaskStatsByUserId(UserId)}, classifying failures as
+     * {@code tasksUnavailableFallback} does.
+     *
+     * @param userId the user's unique identifier
+     * @param cause  the failure that triggered the fallback
+     * @return never returns normally for an outage
+     * @throws TasksUnavailableException when the downstream service is unavailable or the circuit is open
+     * @throws Throwable                 the original failure when it is not a recoverable downstream outage (e.g. a 4xx client error or a bug)
+     */
+    private TaskStats taskStatsUnavailableFallback(UserId userId, Throwable cause) throws Throwable {
+        throw toTasksUnavailable(userId, cause);
+    }
+
+    /**
+     * Classifies a failed call to tasks-service.
+     *
+     * @param userId the user's unique identifier
+     * @param cause  the failure of the call
+     * @return a {@link TasksUnavailableException} when the failure is a downstream outage, the original failure otherwise
+     */
+    private static Throwable toTasksUnavailable(UserId userId, Throwable cause) {
         if (cause instanceof HttpServerErrorException || cause instanceof ResourceAccessException || cause instanceof CallNotPermittedException) {
             var className = cause.getClass()
                                  .getSimpleName();
             var message = cause.getMessage();
             logger.warn("Tasks Service unavailable for user {}: {} - {}.", userId.value(), className, message);
-            throw new TasksUnavailableException("Tasks Service is unavailable", cause);
+            return new TasksUnavailableException("Tasks Service is unavailable", cause);
         }
 
-        throw cause;
+        return cause;
     }
 
 }
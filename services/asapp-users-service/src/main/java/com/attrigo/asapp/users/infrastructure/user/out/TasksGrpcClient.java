@@ -0,0 +1,188 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.out;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.StatusRuntimeException;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsRequest;
+import com.attrigo.asapp.grpc.clients.tasks.TaskLookupServiceGrpc;
+import com.attrigo.asapp.grpc.clients.tasks.UserTaskIds;
+import com.attrigo.asapp.grpc.clients.tasks.UuidMapper;
+
+/**
+ * Client of the internal gRPC API of tasks-service.
+ * <p>
+ * Looks up task identifiers over a single multiplexed HTTP/2 channel, as an alternative to the task-by-user reads of the REST API. Every call is bounded by
+ * the configured timeout, or sooner by the deadline of the current request.
+ * <p>
+ * Failed calls are translated into the exceptions the REST client throws for the equivalent HTTP failure, so callers classify both transports alike:
+ * <ul>
+ * <li>{@code UNAVAILABLE} and {@code DEADLINE_EXCEEDED} into a {@link ResourceAccessException}</li>
+ * <li>{@code UNAUTHENTICATED}, {@code PERMISSION_DENIED}, {@code INVALID_ARGUMENT} and {@code NOT_FOUND} into a {@link HttpClientErrorException}</li>
+ * <li>Any other status into a {@link HttpServerErrorException}</li>
+ * </ul>
+ * The channel is shut down when the client is destroyed.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class TasksGrpcClient implements DisposableBean {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ManagedChannel channel;
+
+    private final TaskLookupServiceGrpc.TaskLookupServiceBlockingStub stub;
+
+    private final Duration timeout;
+
+    /**
+     * Constructs a new {@code TasksGrpcClient}.
+     *
+     * @param channel the channel to tasks-service
+     * @param timeout the maximum duration of each call
+     */
+    public TasksGrpcClient(ManagedChannel channel, Duration timeout) {
+        this.channel = channel;
+        this.stub = TaskLookupServiceGrpc.newBlockingStub(channel);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Retrieves the identifiers of the tasks of a user.
+     *
+     * @param userId the user's unique identifier
+     * @return a {@link List} of the task identifiers, or an empty list if the user has no tasks
+     * @throws RestClientException if the call fails
+     */
+    public List<UUID> getTaskIdsByUserId(UUID userId) {
+        var request = GetTaskIdsByUserIdRequest.newBuilder()
+                                               .setUserId(UuidMapper.toMessage(userId))
+                                               .build();
+        try {
+            return UuidMapper.fromMessages(boundedStub().getTaskIdsByUserId(request)
+                                                        .getTaskIdsList());
+        } catch (StatusRuntimeException e) {
+            throw toRestClientException(e);
+        }
+    }
+
+    /**
+     * Retrieves the identifiers of the tasks of several users in a single call.
+     *
+     * @param userIds the identifiers of the users
+     * @return a {@link Map} of the task identifiers of every requested user, in the order they were requested
+     * @throws RestClientException if the call fails, including when there are more users than tasks-service accepts in a single call
+     */
+    public Map<UUID, List<UUID>> getTaskIdsByUserIds(Collection<UUID> userIds) {
+        try {
+            var users = boundedStub().getTaskIdsByUserIds(toRequest(userIds))
+                                     .getUsersList();
+            var taskIdsByUserId = new LinkedHashMap<UUID, List<UUID>>();
+            users.forEach(user -> taskIdsByUserId.put(UuidMapper.fromMessage(user.getUserId()), UuidMapper.fromMessages(user.getTaskIdsList())));
+            return taskIdsByUserId;
+        } catch (StatusRuntimeException e) {
+            throw toRestClientException(e);
+        }
+    }
+
+    /**
+     * Streams the identifiers of the tasks of several users, handing each user's identifiers to the consumer as soon as they are received.
+     * <p>
+     * Unlike {@link #getTaskIdsByUserIds(Collection)} there is no upper bound on how many users can be requested. The call is cancelled if the consumer throws.
+     *
+     * @param userIds  the identifiers of the users
+     * @param consumer the consumer of the identifiers of each user and its tasks, called in the order the users were requested
+     * @throws RestClientException if the call fails
+     */
+    public void streamTaskIdsByUserIds(Collection<UUID> userIds, BiConsumer<UUID, List<UUID>> consumer) {
+        try (var context = Context.current()
+                                  .withCancellation()) {
+            context.run(() -> boundedStub().streamTaskIdsByUserIds(toRequest(userIds))
+                                           .forEachRemaining(user -> consumer.accept(UuidMapper.fromMessage(user.getUserId()),
+                                                   UuidMapper.fromMessages(user.getTaskIdsList()))));
+        } catch (StatusRuntimeException e) {
+            throw toRestClientException(e);
+        }
+    }
+
+    /**
+     * Shuts down the channel, waiting briefly for calls in flight to complete.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        channel.shutdown();
+        if (!channel.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            channel.shutdownNow();
+        }
+    }
+
+    private TaskLookupServiceGrpc.TaskLookupServiceBlockingStub boundedStub() {
+        return stub.withDeadlineAfter(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static GetTaskIdsByUserIdsRequest toRequest(Collection<UUID> userIds) {
+        return GetTaskIdsByUserIdsRequest.newBuilder()
+                                         .addAllUserIds(UuidMapper.toMessages(userIds))
+                                         .build();
+    }
+
+    /**
+     * Translates a failed call into the exception the REST client throws for the equivalent HTTP failure.
+     *
+     * @param cause the failure of the call
+     * @return the {@link RestClientException} describing the failure
+     */
+    static RestClientException toRestClientException(StatusRuntimeException cause) {
+        var status = cause.getStatus();
+        var message = "gRPC call to tasks-service failed: " + status.getCode() + (status.getDescription() != null ? " - " + status.getDescription() : "");
+
+        RestClientException exception = switch (status.getCode()) {
+            case UNAVAILABLE, DEADLINE_EXCEEDED -> new ResourceAccessException(message);
+            case UNAUTHENTICATED -> new HttpClientErrorException(HttpStatus.UNAUTHORIZED, message);
+            case PERMISSION_DENIED -> new HttpClientErrorException(HttpStatus.FORBIDDEN, message);
+            case INVALID_ARGUMENT -> new HttpClientErrorException(HttpStatus.BAD_REQUEST, message);
+            case NOT_FOUND -> new HttpClientErrorException(HttpStatus.NOT_FOUND, message);
+            case RESOURCE_EXHAUSTED -> new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE, message);
+            default -> new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR, message);
+        };
+        exception.initCause(cause);
+        return exception;
+    }
+
+}
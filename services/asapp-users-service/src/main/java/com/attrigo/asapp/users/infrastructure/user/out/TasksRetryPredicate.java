@@ -0,0 +1,58 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.out;
+
+import java.util.function.Predicate;
+
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.github.resilience4j.retry.annotation.Retry;
+
+import com.attrigo.asapp.users.infrastructure.deadline.DeadlineContext;
+
+/**
+ * Decides whether a failed call to tasks-service is retried.
+ * <p>
+ * A call is retried only when both:
+ * <ul>
+ * <li>It failed transiently: a server (5xx) error ({@link HttpServerErrorException}) or an I/O failure ({@link ResourceAccessException})</li>
+ * <li>The deadline of the current request, if any, has not expired yet, so no retry is ever attempted on behalf of a caller that has already given up</li>
+ * </ul>
+ * <p>
+ * Referenced by the {@code resilience4j.retry.instances.tasks.retry-exception-predicate} property, which requires a public no-argument constructor.
+ *
+ * @since 0.5.0
+ * @see Retry
+ * @see DeadlineContext
+ * @author attrigo
+ */
+public class TasksRetryPredicate implements Predicate<Throwable> {
+
+    /**
+     * Tests whether the failed call should be retried.
+     *
+     * @param throwable the failure of the call
+     * @return {@code true} if the call is retried, {@code false} otherwise
+     */
+    @Override
+    public boolean test(Throwable throwable) {
+        var transientFailure = throwable instanceof HttpServerErrorException || throwable instanceof ResourceAccessException;
+        return transientFailure && !DeadlineContext.isExpired();
+    }
+
+}
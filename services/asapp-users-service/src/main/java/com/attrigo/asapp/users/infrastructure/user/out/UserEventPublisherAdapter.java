@@ -0,0 +1,138 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.out;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import tools.jackson.databind.ObjectMapper;
+
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
+import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserId;
+import com.attrigo.asapp.users.infrastructure.outbox.Outbox;
+
+/**
+ * Adapter implementation of {@link UserEventPublisher} recording user events in the transactional {@link Outbox}.
+ * <p>
+ * Events are appended within the caller's transaction and relayed to the users stream afterwards. Creations and updates carry the user's state and version,
+ * so consumers can discard events older than the state they already hold; deletions carry only the user's identifier.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+public class UserEventPublisherAdapter implements UserEventPublisher {
+
+    /**
+     * Aggregate type of the user events.
+     */
+    public static final String AGGREGATE_TYPE = "user";
+
+    /**
+     * Event type of the user creations.
+     */
+    public static final String USER_CREATED = "UserCreated";
+
+    /**
+     * Event type of the user updates.
+     */
+    public static final String USER_UPDATED = "UserUpdated";
+
+    /**
+     * Event type of the user deletions.
+     */
+    public static final String USER_DELETED = "UserDeleted";
+
+    private final Outbox outbox;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code UserEventPublisherAdapter} with required dependencies.
+     *
+     * @param outbox       the outbox where the events are recorded
+     * @param objectMapper the Jackson ObjectMapper for JSON serialization of the event payloads
+     */
+    public UserEventPublisherAdapter(Outbox outbox, ObjectMapper objectMapper) {
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publishUserCreated(User user) {
+        append(user.getId(), USER_CREATED, toUserState(user));
+    }
+
+    @Override
+    public void publishUserUpdated(User user) {
+        append(user.getId(), USER_UPDATED, toUserState(user));
+    }
+
+    @Override
+    public void publishUserDeleted(UserId userId) {
+        append(userId, USER_DELETED, new UserReference(userId.value()));
+    }
+
+    private void append(UserId userId, String eventType, Object payload) {
+        outbox.append(AGGREGATE_TYPE, userId.value(), eventType, objectMapper.writeValueAsString(payload));
+    }
+
+    private static UserState toUserState(User user) {
+        return new UserState(user.getId()
+                                 .value(),
+                user.getFirstName()
+                    .value(),
+                user.getLastName()
+                    .value(),
+                user.getEmail()
+                    .value(),
+                user.getPhoneNumber()
+                    .value(),
+                user.getVersion());
+    }
+
+    /**
+     * Payload of the events carrying the user's state.
+     *
+     * @param userId      the user's unique identifier
+     * @param firstName   the user's first name
+     * @param lastName    the user's last name
+     * @param email       the user's email
+     * @param phoneNumber the user's phone number
+     * @param version     the user's version
+     */
+    record UserState(
+            UUID userId,
+            String firstName,
+            String lastName,
+            String email,
+            String phoneNumber,
+            Long version
+    ) {}
+
+    /**
+     * Payload of the events carrying only the user's identifier.
+     *
+     * @param userId the user's unique identifier
+     */
+    record UserReference(
+            UUID userId
+    ) {}
+
+}
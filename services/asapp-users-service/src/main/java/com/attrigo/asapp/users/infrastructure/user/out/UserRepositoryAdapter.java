@@ -16,15 +16,24 @@
 
 package com.attrigo.asapp.users.infrastructure.user.out;
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Optional;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import com.attrigo.asapp.users.application.user.out.UserRepository;
+import com.attrigo.asapp.users.domain.user.Email;
+import com.attrigo.asapp.users.domain.user.FirstName;
+import com.attrigo.asapp.users.domain.user.LastName;
+import com.attrigo.asapp.users.domain.user.PhoneNumber;
 import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserField;
 import com.attrigo.asapp.users.domain.user.UserId;
+import com.attrigo.asapp.users.infrastructure.cache.EntityCache;
 import com.attrigo.asapp.users.infrastructure.user.mapper.UserMapper;
+import com.attrigo.asapp.users.infrastructure.user.persistence.JdbcUserColumnUpdater;
+import com.attrigo.asapp.users.infrastructure.user.persistence.JdbcUserEntity;
 import com.attrigo.asapp.users.infrastructure.user.persistence.JdbcUserRepository;
 
 /**
@@ -32,6 +41,8 @@ import com.attrigo.asapp.users.infrastructure.user.persistence.JdbcUserRepositor
  * <p>
  * Bridges the application layer with the infrastructure layer by translating domain operations to JDBC repository calls and mapping between domain entities and
  * database entities.
+ * <p>
+ * Users read by id go through the {@link EntityCache}; every write or delete of an existing user evicts it.
  *
  * @since 0.2.0
  * @author attrigo
@@ -41,57 +52,100 @@ public class UserRepositoryAdapter implements UserRepository {
 
     private final JdbcUserRepository userRepository;
 
+    private final JdbcUserColumnUpdater userColumnUpdater;
+
     private final UserMapper userMapper;
 
+    private final EntityCache<JdbcUserEntity> userCache;
+
     /**
      * Constructs a new {@code UserRepositoryAdapter} with required dependencies.
      *
-     * @param userRepository the Spring Data JDBC repository
-     * @param userMapper     the mapper for converting between domain and database entities
+     * @param userRepository    the Spring Data JDBC repository
+     * @param userColumnUpdater the writer of partial user updates
+     * @param userMapper        the mapper for converting between domain and database entities
+     * @param userCache         the cache of users by id
      */
-    public UserRepositoryAdapter(JdbcUserRepository userRepository, UserMapper userMapper) {
+    public UserRepositoryAdapter(JdbcUserRepository userRepository, JdbcUserColumnUpdater userColumnUpdater, UserMapper userMapper,
+            EntityCache<JdbcUserEntity> userCache) {
         this.userRepository = userRepository;
+        this.userColumnUpdater = userColumnUpdater;
         this.userMapper = userMapper;
+        this.userCache = userCache;
     }
 
     @Override
     public Optional<User> findById(UserId userId) {
-        return userRepository.findById(userId.value())
-                             .map(userMapper::toUser);
+        return userCache.get(userId.value(), userRepository::findById)
+                        .map(userMapper::toUser);
     }
 
     @Override
-    public Collection<User> findByIds(Collection<UserId> userIds) {
-        var ids = userIds.stream()
-                         .map(UserId::value)
-                         .toList();
-
-        return userRepository.findAllById(ids)
-                             .stream()
-                             .map(userMapper::toUser)
-                             .toList();
-    }
+    public User save(User user) {
+        var userToSave = userMapper.toJdbcUserEntity(user);
 
-    @Override
-    public Collection<User> findAll() {
-        return userRepository.findAll()
-                             .stream()
-                             .map(userMapper::toUser)
-                             .toList();
+        var userSaved = userRepository.save(userToSave);
+        if (userToSave.id() != null) {
+            userCache.evict(userSaved.id());
+        }
+
+        return userMapper.toUser(userSaved);
     }
 
     @Override
-    public User save(User user) {
+    public User saveChanges(User user) {
+        var changedFields = user.getChangedFields();
+        if (changedFields.isEmpty()) {
+            return user;
+        }
+
+        // Declaration order keeps the statement identical for a given set of changed fields
+        var changedColumns = Arrays.stream(UserField.values())
+                                   .filter(changedFields::contains)
+                                   .map(UserRepositoryAdapter::toColumn)
+                                   .toList();
         var userToSave = userMapper.toJdbcUserEntity(user);
 
-        var userSaved = userRepository.save(userToSave);
+        var newVersion = userColumnUpdater.updateColumns(userToSave, changedColumns)
+                                          .orElseThrow(() -> new OptimisticLockingFailureException(
+                                                  "User %s was modified or deleted concurrently".formatted(userToSave.id())));
+        userCache.evict(userToSave.id());
 
-        return userMapper.toUser(userSaved);
+        return userMapper.toUser(userToSave.withVersion(newVersion));
+    }
+
+    @Override
+    public Optional<User> updateById(UserId userId, FirstName firstName, LastName lastName, Email email, PhoneNumber phoneNumber, Long expectedVersion) {
+        var userUpdated = userRepository.updateUserById(userId.value(), firstName.value(), lastName.value(), email.value(), phoneNumber.value(),
+                expectedVersion);
+        userUpdated.ifPresent(updated -> userCache.evict(updated.id()));
+
+        return userUpdated.map(userMapper::toUser);
     }
 
     @Override
     public Boolean deleteById(UserId userId) {
-        return userRepository.deleteUserById(userId.value()) > 0;
+        var deleted = userRepository.deleteUserById(userId.value()) > 0;
+        if (deleted) {
+            userCache.evict(userId.value());
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Maps a user field to the column storing it.
+     *
+     * @param field the {@link UserField}
+     * @return the column name
+     */
+    private static String toColumn(UserField field) {
+        return switch (field) {
+            case FIRST_NAME -> "first_name";
+            case LAST_NAME -> "last_name";
+            case EMAIL -> "email";
+            case PHONE_NUMBER -> "phone_number";
+        };
     }
 
 }
@@ -19,6 +19,7 @@ package com.attrigo.asapp.users.infrastructure.user.persistence;
 import java.util.UUID;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -28,12 +29,16 @@ import jakarta.validation.constraints.NotBlank;
  * Entity representing a user in the database.
  * <p>
  * Maps to the {@code users} table and provides persistence representation for user domain entities.
+ * <p>
+ * The {@code version} column enables optimistic locking: a {@code null} version marks a new entity, and every update is conditioned on the stored version and
+ * increments it.
  *
  * @param id          the user's unique identifier
  * @param firstName   the user's first name; must not be blank
  * @param lastName    the user's last name; must not be blank
  * @param email       the user's email; must not be blank
  * @param phoneNumber the user's phone number; must not be blank
+ * @param version     the user's row version; {@code null} for new users
  * @since 0.2.0
  * @author attrigo
  */
@@ -43,5 +48,18 @@ public record JdbcUserEntity(
         @Column("first_name") @NotBlank String firstName,
         @Column("last_name") @NotBlank String lastName,
         @NotBlank String email,
-        @Column("phone_number") @NotBlank String phoneNumber
-) {}
+        @Column("phone_number") @NotBlank String phoneNumber,
+        @Version Long version
+) {
+
+    /**
+     * Returns a copy of this entity carrying the given version.
+     *
+     * @param version the new row version
+     * @return a {@code JdbcUserEntity} with the same columns and the given version
+     */
+    public JdbcUserEntity withVersion(Long version) {
+        return new JdbcUserEntity(id, firstName, lastName, email, phoneNumber, version);
+    }
+
+}
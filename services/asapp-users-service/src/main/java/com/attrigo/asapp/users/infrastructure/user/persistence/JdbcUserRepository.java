@@ -16,11 +16,13 @@
 
 package com.attrigo.asapp.users.infrastructure.user.persistence;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Data JDBC repository for user persistence operations.
@@ -35,6 +37,30 @@ import org.springframework.data.repository.ListCrudRepository;
  */
 public interface JdbcUserRepository extends ListCrudRepository<JdbcUserEntity, UUID> {
 
+    /**
+     * Updates a user's columns and returns the updated row in a single statement.
+     * <p>
+     * Increments the version column; if {@code expectedVersion} is not {@code null} the row is only updated while it still has that version.
+     * <p>
+     * Declared read-write since the statement modifies the row while being executed as a query.
+     *
+     * @param id              the user's unique identifier
+     * @param firstName       the new first name
+     * @param lastName        the new last name
+     * @param email           the new email
+     * @param phoneNumber     the new phone number
+     * @param expectedVersion the version the user is expected to have, or {@code null} to update unconditionally
+     * @return an {@link Optional} containing the updated {@link JdbcUserEntity}, {@link Optional#empty} if no row matched
+     */
+    @Transactional
+    @Query("""
+            UPDATE users
+            SET first_name = :firstName, last_name = :lastName, email = :email, phone_number = :phoneNumber, version = version + 1
+            WHERE id = :id AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """)
+    Optional<JdbcUserEntity> updateUserById(UUID id, String firstName, String lastName, String email, String phoneNumber, Long expectedVersion);
+
     /**
      * Deletes a user by their unique identifier.
      *
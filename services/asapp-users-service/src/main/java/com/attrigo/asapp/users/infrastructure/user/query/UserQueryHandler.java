@@ -0,0 +1,98 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.attrigo.asapp.users.application.UseCasePriority;
+import com.attrigo.asapp.users.infrastructure.datasource.ChunkedIdQuery;
+import com.attrigo.asapp.users.infrastructure.user.in.response.GetUsersResponse;
+
+/**
+ * Query-side handler serving the user list endpoint straight from the database.
+ * <p>
+ * Rows are mapped directly into the response records, skipping the persistence entity and the {@code User} aggregate with its validated value objects: data
+ * that is only being read was already validated when it was written. Commands, and the user detail read that is enriched with the user's tasks, keep going
+ * through the domain model.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+@Component
+@Transactional(readOnly = true)
+public class UserQueryHandler {
+
+    private static final String SELECT_USERS = "SELECT id, first_name, last_name, email, phone_number FROM users";
+
+    private static final RowMapper<GetUsersResponse> GET_USERS_MAPPER = (rs, rowNum) -> new GetUsersResponse(rs.getObject("id", UUID.class),
+            rs.getString("first_name"), rs.getString("last_name"), rs.getString("email"), rs.getString("phone_number"));
+
+    private final JdbcClient jdbcClient;
+
+    private final ChunkedIdQuery chunkedIdQuery;
+
+    /**
+     * Constructs a new {@code UserQueryHandler} with required dependencies.
+     *
+     * @param jdbcClient     the JDBC client used to run the queries
+     * @param chunkedIdQuery the runner of the queries filtered by a list of identifiers
+     */
+    public UserQueryHandler(JdbcClient jdbcClient, ChunkedIdQuery chunkedIdQuery) {
+        this.jdbcClient = jdbcClient;
+        this.chunkedIdQuery = chunkedIdQuery;
+    }
+
+    /**
+     * Retrieves users by their unique identifiers.
+     * <p>
+     * Duplicate identifiers are ignored. The identifiers are bound as a single array and large lists are read in concurrent chunks, so the method joins the
+     * caller's transaction when there is one instead of starting its own.
+     *
+     * @param ids the identifiers of the users
+     * @return a {@link List} of {@link GetUsersResponse} found, in the order their identifiers were requested, or an empty list if none match
+     * @throws IllegalArgumentException if there are more distinct identifiers than the configured maximum
+     * @see ChunkedIdQuery
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<GetUsersResponse> getUsersByIds(Collection<UUID> ids) {
+        return chunkedIdQuery.query(ids, GetUsersResponse::userId, userIds -> jdbcClient.sql(SELECT_USERS + " WHERE id = ANY(:ids)")
+                                                                                       .param("ids", userIds)
+                                                                                       .query(GET_USERS_MAPPER)
+                                                                                       .list());
+    }
+
+    /**
+     * Retrieves all users.
+     *
+     * @return a {@link List} of all {@link GetUsersResponse}
+     */
+    @UseCasePriority(UseCasePriority.Level.LOW)
+    public List<GetUsersResponse> getAllUsers() {
+        return jdbcClient.sql(SELECT_USERS)
+                         .query(GET_USERS_MAPPER)
+                         .list();
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.application.user.in.result;
+
+import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.attrigo.asapp.users.application.user.out.TaskStats;
+
+/**
+ * Tests {@link UserWithTaskStatsResult} construction and null validation.
+ * <p>
+ * Coverage:
+ * <li>Creates an available result with user and task statistics</li>
+ * <li>Creates an unavailable result with null task statistics</li>
+ * <li>Rejects null user</li>
+ * <li>Rejects null task statistics when tasks service is available</li>
+ * <li>Rejects non-null task statistics when tasks service is unavailable</li>
+ */
+class UserWithTaskStatsResultTests {
+
+    @Nested
+    class CreateUserWithTaskStatsResult {
+
+        @Test
+        void ReturnsUserWithTaskStatsResult_ValidUserAndTaskStats() {
+            // Given
+            var user = aUser();
+            var taskStats = new TaskStats(12, 9, 2);
+
+            // When
+            var actual = UserWithTaskStatsResult.available(user, taskStats);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.user()).as("user").isEqualTo(user);
+                softly.assertThat(actual.taskStats()).as("task statistics").isEqualTo(taskStats);
+                softly.assertThat(actual.tasksServiceAvailable()).as("tasks service availability").isTrue();
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsUserWithTaskStatsResult_TasksServiceUnavailable() {
+            // Given
+            var user = aUser();
+
+            // When
+            var actual = UserWithTaskStatsResult.unavailable(user);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.user()).as("user").isEqualTo(user);
+                softly.assertThat(actual.taskStats()).as("task statistics").isNull();
+                softly.assertThat(actual.tasksServiceAvailable()).as("tasks service availability").isFalse();
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NullUser() {
+            // When
+            var actual = catchThrowable(() -> UserWithTaskStatsResult.available(null, new TaskStats(0, 0, 0)));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("User must not be null");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NullTaskStatsWhenTasksServiceAvailable() {
+            // Given
+            var user = aUser();
+
+            // When
+            var actual = catchThrowable(() -> new UserWithTaskStatsResult(user, null, true));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Task statistics must not be null when tasks are available");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NonNullTaskStatsWhenTasksServiceUnavailable() {
+            // Given
+            var user = aUser();
+
+            // When
+            var actual = catchThrowable(() -> new UserWithTaskStatsResult(user, new TaskStats(0, 0, 0), false));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Task statistics must be null when tasks are unavailable");
+        }
+
+    }
+
+}
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
@@ -34,6 +35,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.attrigo.asapp.users.application.user.in.command.CreateUserCommand;
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
 import com.attrigo.asapp.users.domain.user.User;
 
@@ -44,6 +46,7 @@ import com.attrigo.asapp.users.domain.user.User;
  * <li>Persistence failures propagate without completing creation workflow</li>
  * <li>Successful creation persists user with assigned identity</li>
  * <li>Domain constraints validated before persistence</li>
+ * <li>Publishes the creation only once the user is persisted</li>
  */
 @ExtendWith(MockitoExtension.class)
 class CreateUserServiceTests {
@@ -51,6 +54,9 @@ class CreateUserServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
     @InjectMocks
     private CreateUserService createUserService;
 
@@ -86,6 +92,9 @@ class CreateUserServiceTests {
 
             then(userRepository).should(times(1))
                                 .save(any(User.class));
+
+            then(userEventPublisher).should(times(1))
+                                    .publishUserCreated(user);
         }
 
         @Test
@@ -109,6 +118,9 @@ class CreateUserServiceTests {
 
             then(userRepository).should(times(1))
                                 .save(any(User.class));
+
+            then(userEventPublisher).should(never())
+                                    .publishUserCreated(any(User.class));
         }
 
     }
@@ -18,7 +18,9 @@ package com.attrigo.asapp.users.application.user.in.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
@@ -32,6 +34,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
 import com.attrigo.asapp.users.domain.user.UserId;
 
@@ -42,6 +45,7 @@ import com.attrigo.asapp.users.domain.user.UserId;
  * <li>Deletion failures propagate without completing workflow</li>
  * <li>Returns false when user does not exist</li>
  * <li>Returns true when user successfully deleted</li>
+ * <li>Publishes the deletion only when the user existed</li>
  */
 @ExtendWith(MockitoExtension.class)
 class DeleteUserServiceTests {
@@ -49,6 +53,9 @@ class DeleteUserServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
     @InjectMocks
     private DeleteUserService deleteUserService;
 
@@ -71,6 +78,9 @@ class DeleteUserServiceTests {
 
             then(userRepository).should(times(1))
                                 .deleteById(userId);
+
+            then(userEventPublisher).should(times(1))
+                                    .publishUserDeleted(userId);
         }
 
         @Test
@@ -89,6 +99,9 @@ class DeleteUserServiceTests {
 
             then(userRepository).should(times(1))
                                 .deleteById(userId);
+
+            then(userEventPublisher).should(never())
+                                    .publishUserDeleted(any(UserId.class));
         }
 
         @Test
@@ -109,6 +122,9 @@ class DeleteUserServiceTests {
 
             then(userRepository).should(times(1))
                                 .deleteById(userId);
+
+            then(userEventPublisher).should(never())
+                                    .publishUserDeleted(any(UserId.class));
         }
 
     }
@@ -0,0 +1,206 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.application.user.in.service;
+
+import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUserBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
+import com.attrigo.asapp.users.application.user.UserVersionMismatchException;
+import com.attrigo.asapp.users.application.user.in.command.PatchUserCommand;
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
+import com.attrigo.asapp.users.application.user.out.UserRepository;
+import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserField;
+import com.attrigo.asapp.users.domain.user.UserId;
+import com.attrigo.asapp.users.testutil.PassThroughUseCaseStepObserver;
+
+/**
+ * Tests {@link PatchUserService} merge patch application with changed-field tracking.
+ * <p>
+ * Coverage:
+ * <li>Applies only the modified fields and persists the fields whose value actually changes</li>
+ * <li>Hands a user without changed fields to the repository when the patch repeats the current values</li>
+ * <li>Returns empty when user does not exist, without persisting</li>
+ * <li>Rejects the patch when the user has another version than the expected one</li>
+ * <li>Invalid values are rejected before the user is retrieved</li>
+ * <li>Concurrent modification failures propagate</li>
+ * <li>Publishes the update only when a field value changes</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class PatchUserServiceTests {
+
+    private static final UUID USER_ID = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
+    @InjectMocks
+    private PatchUserService patchUserService;
+
+    @Nested
+    class PatchUserById {
+
+        @Test
+        void ReturnsPatchedUserWithOnlyChangedFields_UserExists() {
+            // Given
+            var user = aUserBuilder().withUserId(USER_ID)
+                                     .build();
+            var currentEmail = user.getEmail()
+                                   .value();
+            var command = new PatchUserCommand(USER_ID, Set.of(UserField.FIRST_NAME, UserField.EMAIL), "New FirstName", null, currentEmail, null, null);
+
+            given(userRepository.findById(UserId.of(USER_ID))).willReturn(Optional.of(user));
+            given(userRepository.saveChanges(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            var actual = patchUserService.patchUserById(command);
+
+            // Then
+            assertThat(actual).hasValueSatisfying(patchedUser -> {
+                assertThat(patchedUser.getChangedFields()).containsExactly(UserField.FIRST_NAME);
+                assertThat(patchedUser.getFirstName()
+                                      .value()).isEqualTo("New FirstName");
+            });
+
+            then(userEventPublisher).should(times(1))
+                                    .publishUserUpdated(any(User.class));
+        }
+
+        @Test
+        void PersistsUserWithoutChangedFields_PatchRepeatsCurrentValues() {
+            // Given
+            var user = aUserBuilder().withUserId(USER_ID)
+                                     .build();
+            var currentLastName = user.getLastName()
+                                      .value();
+            var command = new PatchUserCommand(USER_ID, Set.of(UserField.LAST_NAME), null, currentLastName, null, null, null);
+
+            given(userRepository.findById(UserId.of(USER_ID))).willReturn(Optional.of(user));
+            given(userRepository.saveChanges(user)).willReturn(user);
+
+            // When
+            var actual = patchUserService.patchUserById(command);
+
+            // Then
+            assertThat(actual).hasValueSatisfying(patchedUser -> assertThat(patchedUser.getChangedFields()).isEmpty());
+
+            then(userEventPublisher).should(never())
+                                    .publishUserUpdated(any(User.class));
+        }
+
+        @Test
+        void ReturnsEmpty_UserNotExists() {
+            // Given
+            var command = new PatchUserCommand(USER_ID, Set.of(UserField.FIRST_NAME), "New FirstName", null, null, null, null);
+
+            given(userRepository.findById(UserId.of(USER_ID))).willReturn(Optional.empty());
+
+            // When
+            var actual = patchUserService.patchUserById(command);
+
+            // Then
+            assertThat(actual).isEmpty();
+
+            then(userRepository).should(never())
+                                .saveChanges(any(User.class));
+
+            then(userEventPublisher).should(never())
+                                    .publishUserUpdated(any(User.class));
+        }
+
+        @Test
+        void ThrowsUserVersionMismatchException_ExpectedVersionDiffers() {
+            // Given
+            var command = new PatchUserCommand(USER_ID, Set.of(UserField.FIRST_NAME), "New FirstName", null, null, null, 2L);
+            var user = aUserBuilder().withUserId(USER_ID)
+                                     .withVersion(3L)
+                                     .build();
+
+            given(userRepository.findById(UserId.of(USER_ID))).willReturn(Optional.of(user));
+
+            // When
+            var actual = catchThrowable(() -> patchUserService.patchUserById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(UserVersionMismatchException.class)
+                              .hasMessageContaining("version 3 but version 2 was expected");
+
+            then(userRepository).should(never())
+                                .saveChanges(any(User.class));
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_InvalidEmail() {
+            // Given
+            var command = new PatchUserCommand(USER_ID, Set.of(UserField.EMAIL), null, null, "not-an-email", null, null);
+
+            // When
+            var actual = catchThrowable(() -> patchUserService.patchUserById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+
+            then(userRepository).should(never())
+                                .findById(any(UserId.class));
+        }
+
+        @Test
+        void ThrowsOptimisticLockingFailureException_UserModifiedConcurrently() {
+            // Given
+            var command = new PatchUserCommand(USER_ID, Set.of(UserField.FIRST_NAME), "New FirstName", null, null, null, null);
+            var user = aUserBuilder().withUserId(USER_ID)
+                                     .build();
+
+            given(userRepository.findById(UserId.of(USER_ID))).willReturn(Optional.of(user));
+            given(userRepository.saveChanges(user)).willThrow(new OptimisticLockingFailureException("User was modified or deleted concurrently"));
+
+            // When
+            var actual = catchThrowable(() -> patchUserService.patchUserById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(OptimisticLockingFailureException.class);
+        }
+
+    }
+
+}
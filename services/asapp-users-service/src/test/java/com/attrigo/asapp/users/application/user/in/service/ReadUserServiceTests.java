@@ -17,19 +17,17 @@
 package com.attrigo.asapp.users.application.user.in.service;
 
 import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUser;
-import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUserBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Nested;
@@ -37,27 +35,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
 import com.attrigo.asapp.users.application.user.TasksUnavailableException;
+import com.attrigo.asapp.users.application.user.out.TaskStats;
 import com.attrigo.asapp.users.application.user.out.TasksGateway;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
 import com.attrigo.asapp.users.domain.user.UserId;
+import com.attrigo.asapp.users.testutil.PassThroughUseCaseStepObserver;
 
 /**
- * Tests {@link ReadUserService} single, collection, and identifier-list retrieval with task enrichment.
+ * Tests {@link ReadUserService} single user retrieval with task enrichment.
  * <p>
  * Coverage:
- * <li>Retrieval failures propagate for all query strategies (by ID, by IDs, all users)</li>
- * <li>Returns empty result when no users match query criteria</li>
+ * <li>Retrieval failures propagate to the caller</li>
+ * <li>Returns empty result when the user does not exist</li>
  * <li>Returns single user when queried by unique identifier</li>
- * <li>Returns user collection when queried by a list of identifiers</li>
- * <li>Deduplicates duplicate identifiers before querying</li>
- * <li>Throws when the input list contains a null identifier</li>
- * <li>Returns user collection when querying all users</li>
  * <li>Enriches user data with associated task identifiers via external gateway</li>
  * <li>Propagates task gateway failures to the caller</li>
  * <li>Returns a degraded result when tasks-service is unavailable</li>
+ * <li>Enriches user data with task statistics instead of task identifiers on request, degrading when tasks-service is unavailable</li>
  */
 @ExtendWith(MockitoExtension.class)
 class ReadUserServiceTests {
@@ -68,6 +67,9 @@ class ReadUserServiceTests {
     @Mock
     private TasksGateway tasksGateway;
 
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private ReadUserService readUserService;
 
@@ -227,213 +229,75 @@ class ReadUserServiceTests {
     }
 
     @Nested
-    class GetUsersByIds {
-
-        @Test
-        void ReturnsUsers_AllUsersExist() {
-            // Given
-            var user1 = aUser();
-            var user2 = aUserBuilder().withUserId(UUID.fromString("57cfe2c8-5d08-4ba2-b3c3-a1823ab9812a"))
-                                      .withFirstName("FirstName 2")
-                                      .withLastName("LastName 2")
-                                      .withEmail("user2@asapp.com")
-                                      .withPhoneNumber("666 666 666")
-                                      .build();
-            var userId1 = user1.getId();
-            var userId2 = user2.getId();
-            var users = List.of(user1, user2);
-            var userIds = Set.of(userId1, userId2);
-            var userIdValues = List.of(userId1.value(), userId2.value());
-
-            given(userRepository.findByIds(userIds)).willReturn(users);
-
-            // When
-            var actual = readUserService.getUsersByIds(userIdValues);
-
-            // Then
-            assertThat(actual).containsExactlyInAnyOrder(user1, user2);
-
-            then(userRepository).should(times(1))
-                                .findByIds(userIds);
-        }
+    class GetUserWithTaskStatsById {
 
         @Test
-        void ReturnsFoundUsers_SomeUsersExist() {
+        void ReturnsUserWithTaskStats_TasksServiceAvailable() {
             // Given
-            var user1 = aUser();
-            var user2 = aUserBuilder().withUserId(UUID.fromString("57cfe2c8-5d08-4ba2-b3c3-a1823ab9812a"))
-                                      .withFirstName("FirstName 2")
-                                      .withLastName("LastName 2")
-                                      .withEmail("user2@asapp.com")
-                                      .withPhoneNumber("666 666 666")
-                                      .build();
-            var userId1 = user1.getId();
-            var userId2 = user2.getId();
-            var userIds = Set.of(userId1, userId2);
-            var userIdValues = List.of(userId1.value(), userId2.value());
-
-            given(userRepository.findByIds(userIds)).willReturn(List.of(user1));
-
-            // When
-            var actual = readUserService.getUsersByIds(userIdValues);
-
-            // Then
-            assertThat(actual).containsExactlyInAnyOrder(user1);
-
-            then(userRepository).should(times(1))
-                                .findByIds(userIds);
-        }
+            var user = aUser();
+            var userId = user.getId();
+            var taskStats = new TaskStats(12, 9, 2);
 
-        @Test
-        void ReturnsEmptyList_UsersNotExist() {
-            // Given
-            var user1 = aUser();
-            var user2 = aUserBuilder().withUserId(UUID.fromString("57cfe2c8-5d08-4ba2-b3c3-a1823ab9812a"))
-                                      .withFirstName("FirstName 2")
-                                      .withLastName("LastName 2")
-                                      .withEmail("user2@asapp.com")
-                                      .withPhoneNumber("666 666 666")
-                                      .build();
-            var userId1 = user1.getId();
-            var userId2 = user2.getId();
-            var userIds = Set.of(userId1, userId2);
-            var userIdValues = List.of(userId1.value(), userId2.value());
-
-            given(userRepository.findByIds(userIds)).willReturn(List.of());
+            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            given(tasksGateway.getTaskStatsByUserId(userId)).willReturn(taskStats);
 
             // When
-            var actual = readUserService.getUsersByIds(userIdValues);
+            var actual = readUserService.getUserWithTaskStatsById(userId.value());
 
             // Then
-            assertThat(actual).isEmpty();
+            assertThat(actual).isPresent();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.get().user()).as("user").isEqualTo(user);
+                softly.assertThat(actual.get().taskStats()).as("task statistics").isEqualTo(taskStats);
+                softly.assertThat(actual.get().tasksServiceAvailable()).as("tasks service availability").isTrue();
+                // @formatter:on
+            });
 
-            then(userRepository).should(times(1))
-                                .findByIds(userIds);
+            then(tasksGateway).should(never())
+                              .getTaskIdsByUserId(userId);
         }
 
         @Test
-        void ReturnsUsersOnce_DuplicateIds() {
+        void ReturnsUserWithUnavailableTaskStats_TasksServiceUnavailable() {
             // Given
-            var user1 = aUser();
-            var user2 = aUserBuilder().withUserId(UUID.fromString("57cfe2c8-5d08-4ba2-b3c3-a1823ab9812a"))
-                                      .withFirstName("FirstName 2")
-                                      .withLastName("LastName 2")
-                                      .withEmail("user2@asapp.com")
-                                      .withPhoneNumber("666 666 666")
-                                      .build();
-            var userId1 = user1.getId();
-            var userId2 = user2.getId();
-            var users = List.of(user1, user2);
-            var userIds = Set.of(userId1, userId2);
-            var userIdValues = List.of(userId1.value(), userId1.value(), userId2.value());
-
-            given(userRepository.findByIds(userIds)).willReturn(users);
-
-            // When
-            var actual = readUserService.getUsersByIds(userIdValues);
-
-            // Then
-            assertThat(actual).containsExactlyInAnyOrder(user1, user2);
-
-            then(userRepository).should(times(1))
-                                .findByIds(userIds);
-        }
+            var user = aUser();
+            var userId = user.getId();
 
-        @Test
-        void ThrowsIllegalArgumentException_NullId() {
-            // Given
-            var userIdValue = UUID.fromString("57cfe2c8-5d08-4ba2-b3c3-a1823ab9812a");
-            var userIds = new ArrayList<UUID>();
-            userIds.add(userIdValue);
-            userIds.add(null);
+            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            willThrow(new TasksUnavailableException("Tasks Service is unavailable", new RuntimeException("Connection refused"))).given(tasksGateway)
+                                                                                                                                .getTaskStatsByUserId(userId);
 
             // When
-            var actual = catchThrowable(() -> readUserService.getUsersByIds(userIds));
+            var actual = readUserService.getUserWithTaskStatsById(userId.value());
 
             // Then
-            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
-                              .hasMessage("User ID must not be null");
+            assertThat(actual).isPresent();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.get().user()).as("user").isEqualTo(user);
+                softly.assertThat(actual.get().taskStats()).as("task statistics").isNull();
+                softly.assertThat(actual.get().tasksServiceAvailable()).as("tasks service availability").isFalse();
+                // @formatter:on
+            });
         }
 
         @Test
-        void ThrowsException_UsersRetrievalFails() {
+        void ReturnsEmptyOptional_UserNotExists() {
             // Given
-            var userIdValue = UUID.fromString("57cfe2c8-5d08-4ba2-b3c3-a1823ab9812a");
+            var userIdValue = UUID.fromString("d4e5f6a7-b8c9-4012-d3e4-f5a6b7c8d9e0");
             var userId = UserId.of(userIdValue);
-            var userIds = Set.of(userId);
-            var userIdValues = List.of(userIdValue);
-
-            given(userRepository.findByIds(userIds)).willThrow(RuntimeException.class);
-
-            // When
-            var actual = catchThrowable(() -> readUserService.getUsersByIds(userIdValues));
-
-            // Then
-            assertThat(actual).isInstanceOf(RuntimeException.class);
 
-            then(userRepository).should(times(1))
-                                .findByIds(userIds);
-        }
-
-    }
-
-    @Nested
-    class GetAllUsers {
-
-        @Test
-        void ReturnsUsers_UsersExist() {
-            // Given
-            var user1 = aUser();
-            var user2 = aUserBuilder().withUserId(UUID.fromString("a1b2c3d4-e5f6-4789-abcd-ef0123456789"))
-                                      .withFirstName("FirstName 2")
-                                      .withLastName("LastName 2")
-                                      .withEmail("user2@asapp.com")
-                                      .withPhoneNumber("666 666 666")
-                                      .build();
-            var users = List.of(user1, user2);
-
-            given(userRepository.findAll()).willReturn(users);
-
-            // When
-            var actual = readUserService.getAllUsers();
-
-            // Then
-            assertThat(actual).containsExactlyInAnyOrder(user1, user2);
-
-            then(userRepository).should(times(1))
-                                .findAll();
-        }
-
-        @Test
-        void ReturnsEmptyList_UsersNotExist() {
-            // Given
-            given(userRepository.findAll()).willReturn(List.of());
+            given(userRepository.findById(userId)).willReturn(Optional.empty());
 
             // When
-            var actual = readUserService.getAllUsers();
+            var actual = readUserService.getUserWithTaskStatsById(userIdValue);
 
             // Then
             assertThat(actual).isEmpty();
 
-            then(userRepository).should(times(1))
-                                .findAll();
-        }
-
-        @Test
-        void ThrowsException_UsersRetrievalFails() {
-            // Given
-            willThrow(new RuntimeException("Database connection failed")).given(userRepository)
-                                                                         .findAll();
-
-            // When
-            var actual = catchThrowable(() -> readUserService.getAllUsers());
-
-            // Then
-            assertThat(actual).isInstanceOf(RuntimeException.class)
-                              .hasMessage("Database connection failed");
-
-            then(userRepository).should(times(1))
-                                .findAll();
+            then(tasksGateway).should(never())
+                              .getTaskStatsByUserId(userId);
         }
 
     }
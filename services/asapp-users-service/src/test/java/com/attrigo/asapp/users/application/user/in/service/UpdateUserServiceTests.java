@@ -16,11 +16,9 @@
 
 package com.attrigo.asapp.users.application.user.in.service;
 
-import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUser;
 import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUserBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
-import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
@@ -36,28 +34,58 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
+import com.attrigo.asapp.users.application.user.UserVersionMismatchException;
 import com.attrigo.asapp.users.application.user.in.command.UpdateUserCommand;
+import com.attrigo.asapp.users.application.user.out.UserEventPublisher;
 import com.attrigo.asapp.users.application.user.out.UserRepository;
+import com.attrigo.asapp.users.domain.user.Email;
+import com.attrigo.asapp.users.domain.user.FirstName;
+import com.attrigo.asapp.users.domain.user.LastName;
+import com.attrigo.asapp.users.domain.user.PhoneNumber;
 import com.attrigo.asapp.users.domain.user.User;
 import com.attrigo.asapp.users.domain.user.UserId;
+import com.attrigo.asapp.users.testutil.PassThroughUseCaseStepObserver;
 
 /**
- * Tests {@link UpdateUserService} two-phase fetch-then-persist with field updates.
+ * Tests {@link UpdateUserService} single-round-trip update with version-mismatch diagnosis.
  * <p>
  * Coverage:
- * <li>Fetch failures prevent update workflow execution</li>
- * <li>Persistence failures after successful fetch propagate</li>
+ * <li>Successful update persists the new values in one repository call, without reading the user first</li>
  * <li>Returns empty when user does not exist (no-op update)</li>
- * <li>Successful update completes fetch, mutation, and persistence phases</li>
+ * <li>Passes the expected version to the repository update</li>
+ * <li>Rejects the update when the user exists with another version than the expected one</li>
+ * <li>Invalid values are rejected before reaching the repository</li>
+ * <li>Persistence failures propagate</li>
+ * <li>Publishes the update only when the user was updated</li>
  */
 @ExtendWith(MockitoExtension.class)
 class UpdateUserServiceTests {
 
+    private static final UUID USER_ID = UUID.fromString("c3d4e5f6-a7b8-4901-c2d3-e4f5a6b7c8d9");
+
+    private static final UserId DOMAIN_USER_ID = UserId.of(USER_ID);
+
+    private static final FirstName FIRST_NAME = FirstName.of("New FirstName");
+
+    private static final LastName LAST_NAME = LastName.of("New LastName");
+
+    private static final Email EMAIL = Email.of("new_user@asapp.com");
+
+    private static final PhoneNumber PHONE_NUMBER = PhoneNumber.of("666 666 666");
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserEventPublisher userEventPublisher;
+
+    @Spy
+    private UseCaseStepObserver stepObserver = new PassThroughUseCaseStepObserver();
+
     @InjectMocks
     private UpdateUserService updateUserService;
 
@@ -67,55 +95,33 @@ class UpdateUserServiceTests {
         @Test
         void ReturnsUpdatedUser_UserExists() {
             // Given
-            var existingUser = aUser();
-            var existingUserId = existingUser.getId();
-            var newUser = aUserBuilder().withFirstName("New FirstName")
-                                        .withLastName("New LastName")
-                                        .withEmail("new_user@asapp.com")
-                                        .withPhoneNumber("666 666 666")
-                                        .build();
-            var newFirstName = newUser.getFirstName();
-            var newLastName = newUser.getLastName();
-            var newEmail = newUser.getEmail();
-            var newPhoneNumber = newUser.getPhoneNumber();
-            var command = new UpdateUserCommand(existingUserId.value(), newFirstName.value(), newLastName.value(), newEmail.value(), newPhoneNumber.value());
-
-            given(userRepository.findById(existingUserId)).willReturn(Optional.of(existingUser));
-            given(userRepository.save(existingUser)).willReturn(existingUser); // Returns same reference so assertions verify the in-place domain mutation
+            var command = buildUpdateUserCommand(null);
+            var updatedUser = aUserBuilder().withUserId(USER_ID)
+                                            .withFirstName("New FirstName")
+                                            .withVersion(1L)
+                                            .build();
+
+            given(userRepository.updateById(DOMAIN_USER_ID, FIRST_NAME, LAST_NAME, EMAIL, PHONE_NUMBER, null)).willReturn(Optional.of(updatedUser));
 
             // When
             var actual = updateUserService.updateUserById(command);
 
             // Then
-            assertThat(actual).isPresent();
-            assertSoftly(softly -> {
-                // @formatter:off
-                softly.assertThat(actual.get().getId()).as("ID").isEqualTo(existingUserId);
-                softly.assertThat(actual.get().getFirstName()).as("first name").isEqualTo(newFirstName);
-                softly.assertThat(actual.get().getLastName()).as("last name").isEqualTo(newLastName);
-                softly.assertThat(actual.get().getEmail()).as("email").isEqualTo(newEmail);
-                softly.assertThat(actual.get().getPhoneNumber()).as("phone number").isEqualTo(newPhoneNumber);
-                // @formatter:on
-            });
+            assertThat(actual).contains(updatedUser);
 
-            then(userRepository).should(times(1))
-                                .findById(existingUserId);
-            then(userRepository).should(times(1))
-                                .save(existingUser);
+            then(userRepository).should(never())
+                                .findById(any(UserId.class));
+
+            then(userEventPublisher).should(times(1))
+                                    .publishUserUpdated(updatedUser);
         }
 
         @Test
         void ReturnsEmpty_UserNotExists() {
             // Given
-            var userIdValue = UUID.fromString("d4e5f6a7-b8c9-4012-d3e4-f5a6b7c8d9e0");
-            var firstName = "FirstName";
-            var lastName = "LastName";
-            var email = "user@asapp.com";
-            var phoneNumber = "555 555 555";
-            var command = new UpdateUserCommand(userIdValue, firstName, lastName, email, phoneNumber);
-            var userId = UserId.of(userIdValue);
+            var command = buildUpdateUserCommand(null);
 
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(userRepository.updateById(DOMAIN_USER_ID, FIRST_NAME, LAST_NAME, EMAIL, PHONE_NUMBER, null)).willReturn(Optional.empty());
 
             // When
             var actual = updateUserService.updateUserById(command);
@@ -123,53 +129,91 @@ class UpdateUserServiceTests {
             // Then
             assertThat(actual).isEmpty();
 
-            then(userRepository).should(times(1))
-                                .findById(userId);
             then(userRepository).should(never())
-                                .save(any(User.class));
+                                .findById(any(UserId.class));
+
+            then(userEventPublisher).should(never())
+                                    .publishUserUpdated(any(User.class));
         }
 
         @Test
-        void ThrowsException_UserRetrievalFails() {
+        void ReturnsUpdatedUser_ExpectedVersionMatches() {
             // Given
-            var userIdValue = UUID.fromString("d4e5f6a7-b8c9-4012-d3e4-f5a6b7c8d9e0");
-            var firstName = "FirstName";
-            var lastName = "LastName";
-            var email = "user@asapp.com";
-            var phoneNumber = "555 555 555";
-            var command = new UpdateUserCommand(userIdValue, firstName, lastName, email, phoneNumber);
-            var userId = UserId.of(userIdValue);
+            var command = buildUpdateUserCommand(3L);
+            var updatedUser = aUserBuilder().withUserId(USER_ID)
+                                            .withVersion(4L)
+                                            .build();
 
-            willThrow(new RuntimeException("Database connection failed")).given(userRepository)
-                                                                         .findById(userId);
+            given(userRepository.updateById(DOMAIN_USER_ID, FIRST_NAME, LAST_NAME, EMAIL, PHONE_NUMBER, 3L)).willReturn(Optional.of(updatedUser));
+
+            // When
+            var actual = updateUserService.updateUserById(command);
+
+            // Then
+            assertThat(actual).contains(updatedUser);
+
+            then(userRepository).should(never())
+                                .findById(any(UserId.class));
+        }
+
+        @Test
+        void ThrowsUserVersionMismatchException_ExpectedVersionDiffers() {
+            // Given
+            var command = buildUpdateUserCommand(2L);
+            var currentUser = aUserBuilder().withUserId(USER_ID)
+                                            .withVersion(3L)
+                                            .build();
+
+            given(userRepository.updateById(DOMAIN_USER_ID, FIRST_NAME, LAST_NAME, EMAIL, PHONE_NUMBER, 2L)).willReturn(Optional.empty());
+            given(userRepository.findById(DOMAIN_USER_ID)).willReturn(Optional.of(currentUser));
 
             // When
             var actual = catchThrowable(() -> updateUserService.updateUserById(command));
 
             // Then
-            assertThat(actual).isInstanceOf(RuntimeException.class)
-                              .hasMessage("Database connection failed");
+            assertThat(actual).isInstanceOf(UserVersionMismatchException.class)
+                              .hasMessage("User " + USER_ID + " has version 3 but version 2 was expected");
+        }
+
+        @Test
+        void ReturnsEmpty_ExpectedVersionAndUserNotExists() {
+            // Given
+            var command = buildUpdateUserCommand(2L);
+
+            given(userRepository.updateById(DOMAIN_USER_ID, FIRST_NAME, LAST_NAME, EMAIL, PHONE_NUMBER, 2L)).willReturn(Optional.empty());
+            given(userRepository.findById(DOMAIN_USER_ID)).willReturn(Optional.empty());
+
+            // When
+            var actual = updateUserService.updateUserById(command);
+
+            // Then
+            assertThat(actual).isEmpty();
 
             then(userRepository).should(times(1))
-                                .findById(userId);
-            then(userRepository).should(never())
-                                .save(any(User.class));
+                                .findById(DOMAIN_USER_ID);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_InvalidEmail() {
+            // Given
+            var command = new UpdateUserCommand(USER_ID, "New FirstName", "New LastName", "not-an-email", "666 666 666", null);
+
+            // When
+            var actual = catchThrowable(() -> updateUserService.updateUserById(command));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+
+            then(userRepository).shouldHaveNoInteractions();
         }
 
         @Test
         void ThrowsException_UserPersistenceFails() {
             // Given
-            var existingUser = aUser();
-            var existingUserId = existingUser.getId();
-            var newFirstName = "New FirstName";
-            var newLastName = "New LastName";
-            var newEmail = "new_user@asapp.com";
-            var newPhoneNumber = "666 666 666";
-            var command = new UpdateUserCommand(existingUserId.value(), newFirstName, newLastName, newEmail, newPhoneNumber);
-
-            given(userRepository.findById(existingUserId)).willReturn(Optional.of(existingUser));
+            var command = buildUpdateUserCommand(null);
+
             willThrow(new RuntimeException("Database connection failed")).given(userRepository)
-                                                                         .save(existingUser);
+                                                                         .updateById(DOMAIN_USER_ID, FIRST_NAME, LAST_NAME, EMAIL, PHONE_NUMBER, null);
 
             // When
             var actual = catchThrowable(() -> updateUserService.updateUserById(command));
@@ -178,12 +222,14 @@ class UpdateUserServiceTests {
             assertThat(actual).isInstanceOf(RuntimeException.class)
                               .hasMessage("Database connection failed");
 
-            then(userRepository).should(times(1))
-                                .findById(existingUserId);
-            then(userRepository).should(times(1))
-                                .save(existingUser);
+            then(userRepository).should(never())
+                                .findById(any(UserId.class));
         }
 
     }
 
+    private static UpdateUserCommand buildUpdateUserCommand(Long expectedVersion) {
+        return new UpdateUserCommand(USER_ID, FIRST_NAME.value(), LAST_NAME.value(), EMAIL.value(), PHONE_NUMBER.value(), expectedVersion);
+    }
+
 }
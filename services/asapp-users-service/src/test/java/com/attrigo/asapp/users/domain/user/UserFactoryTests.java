@@ -30,9 +30,9 @@ import org.junit.jupiter.api.Test;
  * <p>
  * Coverage:
  * <li>Creates new user from primitives with null ID and correct field values</li>
- * <li>Reconstitutes user from primitives with ID and correct field values</li>
+ * <li>Reconstitutes user from primitives with ID, version and correct field values</li>
  * <li>Rejects null first name, last name, email, or phone number during creation</li>
- * <li>Rejects null ID, null first name, last name, email, or phone number during reconstitution</li>
+ * <li>Rejects null ID, null first name, last name, email, phone number, or version during reconstitution</li>
  */
 class UserFactoryTests {
 
@@ -126,7 +126,7 @@ class UserFactoryTests {
             var expectedPhoneNumber = PhoneNumber.of(phoneNumber);
 
             // When
-            var actual = UserFactory.reconstitute(id, firstName, lastName, email, phoneNumber);
+            var actual = UserFactory.reconstitute(id, firstName, lastName, email, phoneNumber, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -136,6 +136,7 @@ class UserFactoryTests {
                 softly.assertThat(actual.getLastName()).as("last name").isEqualTo(expectedLastName);
                 softly.assertThat(actual.getEmail()).as("email").isEqualTo(expectedEmail);
                 softly.assertThat(actual.getPhoneNumber()).as("phone number").isEqualTo(expectedPhoneNumber);
+                softly.assertThat(actual.getVersion()).as("version").isEqualTo(0L);
                 // @formatter:on
             });
         }
@@ -143,7 +144,7 @@ class UserFactoryTests {
         @Test
         void ThrowsIllegalArgumentException_NullId() {
             // When
-            var actual = catchThrowable(() -> UserFactory.reconstitute(null, "FirstName", "LastName", "user@asapp.com", "555 555 555"));
+            var actual = catchThrowable(() -> UserFactory.reconstitute(null, "FirstName", "LastName", "user@asapp.com", "555 555 555", 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -156,7 +157,7 @@ class UserFactoryTests {
             var id = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
 
             // When
-            var actual = catchThrowable(() -> UserFactory.reconstitute(id, null, "LastName", "user@asapp.com", "555 555 555"));
+            var actual = catchThrowable(() -> UserFactory.reconstitute(id, null, "LastName", "user@asapp.com", "555 555 555", 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -169,7 +170,7 @@ class UserFactoryTests {
             var id = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
 
             // When
-            var actual = catchThrowable(() -> UserFactory.reconstitute(id, "FirstName", null, "user@asapp.com", "555 555 555"));
+            var actual = catchThrowable(() -> UserFactory.reconstitute(id, "FirstName", null, "user@asapp.com", "555 555 555", 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -182,7 +183,7 @@ class UserFactoryTests {
             var id = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
 
             // When
-            var actual = catchThrowable(() -> UserFactory.reconstitute(id, "FirstName", "LastName", null, "555 555 555"));
+            var actual = catchThrowable(() -> UserFactory.reconstitute(id, "FirstName", "LastName", null, "555 555 555", 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -195,13 +196,26 @@ class UserFactoryTests {
             var id = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
 
             // When
-            var actual = catchThrowable(() -> UserFactory.reconstitute(id, "FirstName", "LastName", "user@asapp.com", null));
+            var actual = catchThrowable(() -> UserFactory.reconstitute(id, "FirstName", "LastName", "user@asapp.com", null, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
                               .hasMessage("Phone number must not be null or empty");
         }
 
+        @Test
+        void ThrowsIllegalArgumentException_NullVersion() {
+            // Given
+            var id = UUID.fromString("09726a94-df21-48ad-864a-f3612499ff3d");
+
+            // When
+            var actual = catchThrowable(() -> UserFactory.reconstitute(id, "FirstName", "LastName", "user@asapp.com", "555 555 555", null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Version must not be null");
+        }
+
     }
 
 }
@@ -29,11 +29,12 @@ import org.junit.jupiter.api.Test;
  * Tests {@link User} persistence states, profile updates, and identity equality.
  * <p>
  * Coverage:
- * <li>Creates new user with profile data (first name, last name, email, phone), null ID</li>
- * <li>Creates reconstituted user with ID and complete profile data</li>
+ * <li>Creates new user with profile data (first name, last name, email, phone), null ID and version</li>
+ * <li>Creates reconstituted user with ID, version and complete profile data</li>
  * <li>Updates profile data on both creation and reconstitution states</li>
  * <li>Validates all profile fields required for both states</li>
- * <li>Validates ID required only for reconstituted state</li>
+ * <li>Validates ID and version required only for reconstituted state</li>
+ * <li>Tracks only the fields whose value actually changes</li>
  * <li>Implements identity-based equality using ID for reconstituted users, unique hash for new users</li>
  */
 class UserTests {
@@ -60,6 +61,7 @@ class UserTests {
                 softly.assertThat(actual.getLastName()).as("last name").isEqualTo(lastName);
                 softly.assertThat(actual.getEmail()).as("email").isEqualTo(email);
                 softly.assertThat(actual.getPhoneNumber()).as("phone number").isEqualTo(phoneNumber);
+                softly.assertThat(actual.getVersion()).as("version").isNull();
                 // @formatter:on
             });
         }
@@ -139,7 +141,7 @@ class UserTests {
             var phoneNumber = PhoneNumber.of("555 555 555");
 
             // When
-            var actual = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var actual = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // Then
             assertSoftly(softly -> {
@@ -149,6 +151,7 @@ class UserTests {
                 softly.assertThat(actual.getLastName()).as("last name").isEqualTo(lastName);
                 softly.assertThat(actual.getEmail()).as("email").isEqualTo(email);
                 softly.assertThat(actual.getPhoneNumber()).as("phone number").isEqualTo(phoneNumber);
+                softly.assertThat(actual.getVersion()).as("version").isEqualTo(0L);
                 // @formatter:on
             });
         }
@@ -162,7 +165,7 @@ class UserTests {
             var phoneNumber = PhoneNumber.of("555 555 555");
 
             // When
-            var actual = catchThrowable(() -> User.reconstitute(null, firstName, lastName, email, phoneNumber));
+            var actual = catchThrowable(() -> User.reconstitute(null, firstName, lastName, email, phoneNumber, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -178,7 +181,7 @@ class UserTests {
             var phoneNumber = PhoneNumber.of("555 555 555");
 
             // When
-            var actual = catchThrowable(() -> User.reconstitute(userId, null, lastName, email, phoneNumber));
+            var actual = catchThrowable(() -> User.reconstitute(userId, null, lastName, email, phoneNumber, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -194,7 +197,7 @@ class UserTests {
             var phoneNumber = PhoneNumber.of("555 555 555");
 
             // When
-            var actual = catchThrowable(() -> User.reconstitute(userId, firstName, null, email, phoneNumber));
+            var actual = catchThrowable(() -> User.reconstitute(userId, firstName, null, email, phoneNumber, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -210,7 +213,7 @@ class UserTests {
             var phoneNumber = PhoneNumber.of("555 555 555");
 
             // When
-            var actual = catchThrowable(() -> User.reconstitute(userId, firstName, lastName, null, phoneNumber));
+            var actual = catchThrowable(() -> User.reconstitute(userId, firstName, lastName, null, phoneNumber, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
@@ -226,13 +229,30 @@ class UserTests {
             var email = Email.of("user@asapp.com");
 
             // When
-            var actual = catchThrowable(() -> User.reconstitute(userId, firstName, lastName, email, null));
+            var actual = catchThrowable(() -> User.reconstitute(userId, firstName, lastName, email, null, 0L));
 
             // Then
             assertThat(actual).isInstanceOf(IllegalArgumentException.class)
                               .hasMessage("Phone number must not be null");
         }
 
+        @Test
+        void ThrowsIllegalArgumentException_NullVersion() {
+            // Given
+            var userId = UserId.of(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+            var firstName = FirstName.of("FirstName");
+            var lastName = LastName.of("LastName");
+            var email = Email.of("user@asapp.com");
+            var phoneNumber = PhoneNumber.of("555 555 555");
+
+            // When
+            var actual = catchThrowable(() -> User.reconstitute(userId, firstName, lastName, email, phoneNumber, null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Version must not be null");
+        }
+
     }
 
     @Nested
@@ -275,7 +295,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             var newFirstName = FirstName.of("NewFirstName");
             var newLastName = LastName.of("NewLastName");
@@ -389,7 +409,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             var newLastName = LastName.of("NewLastName");
             var newEmail = Email.of("new_user@asapp.com");
@@ -411,7 +431,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             var newFirstName = FirstName.of("NewFirstName");
             var newEmail = Email.of("new_user@asapp.com");
@@ -433,7 +453,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             var newFirstName = FirstName.of("NewFirstName");
             var newLastName = LastName.of("NewLastName");
@@ -455,7 +475,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             var newFirstName = FirstName.of("NewFirstName");
             var newLastName = LastName.of("NewLastName");
@@ -471,6 +491,79 @@ class UserTests {
 
     }
 
+    @Nested
+    class TrackChangedFields {
+
+        @Test
+        void ReturnsNoChangedFields_ReconstitutedUser() {
+            // Given
+            var user = buildReconstitutedUser();
+
+            // When
+            var actual = user.getChangedFields();
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+        @Test
+        void ReturnsOnlyChangedField_EmailChanged() {
+            // Given
+            var user = buildReconstitutedUser();
+            var newEmail = Email.of("new_user@asapp.com");
+
+            // When
+            user.changeEmail(newEmail);
+
+            // Then
+            assertThat(user.getEmail()).isEqualTo(newEmail);
+            assertThat(user.getChangedFields()).containsExactly(UserField.EMAIL);
+        }
+
+        @Test
+        void ReturnsNoChangedFields_SameValuesApplied() {
+            // Given
+            var user = buildReconstitutedUser();
+
+            // When
+            user.changeFirstName(FirstName.of("FirstName"));
+            user.changeLastName(LastName.of("LastName"));
+            user.changeEmail(Email.of("user@asapp.com"));
+            user.changePhoneNumber(PhoneNumber.of("555 555 555"));
+
+            // Then
+            assertThat(user.getChangedFields()).isEmpty();
+        }
+
+        @Test
+        void ReturnsOnlyDifferingFields_UpdateWithSomeNewValues() {
+            // Given
+            var user = buildReconstitutedUser();
+            var newPhoneNumber = PhoneNumber.of("666 666 666");
+
+            // When
+            user.update(user.getFirstName(), user.getLastName(), user.getEmail(), newPhoneNumber);
+
+            // Then
+            assertThat(user.getChangedFields()).containsExactly(UserField.PHONE_NUMBER);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentExceptionAndTracksNothing_NullFirstName() {
+            // Given
+            var user = buildReconstitutedUser();
+
+            // When
+            var actual = catchThrowable(() -> user.changeFirstName(null));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("First name must not be null");
+            assertThat(user.getChangedFields()).isEmpty();
+        }
+
+    }
+
     @Nested
     class CheckEquality {
 
@@ -482,7 +575,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual = user.equals(user);
@@ -499,9 +592,9 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user1 = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
-            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
-            var user3 = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user1 = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
+            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
+            var user3 = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual1 = user1.equals(user2);
@@ -522,7 +615,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual = user.equals(null);
@@ -539,7 +632,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
             var other = "not a user";
 
             // When
@@ -558,7 +651,7 @@ class UserTests {
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
             var user1 = User.create(firstName, lastName, email, phoneNumber);
-            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual1 = user1.equals(user2);
@@ -579,9 +672,9 @@ class UserTests {
             var userId1 = UserId.of(UUID.fromString("6ba7b810-9dad-11d1-80b4-00c04fd430c8"));
             var userId2 = UserId.of(UUID.fromString("8f7e3d2a-5c4b-4e9f-9a1e-3b2c1d0e5f6a"));
             var userId3 = UserId.of(UUID.fromString("3f8d2a1b-6c5e-4f7d-9a8b-2c1e0d9f8e7c"));
-            var user1 = User.reconstitute(userId1, firstName, lastName, email, phoneNumber);
-            var user2 = User.reconstitute(userId2, firstName, lastName, email, phoneNumber);
-            var user3 = User.reconstitute(userId3, firstName, lastName, email, phoneNumber);
+            var user1 = User.reconstitute(userId1, firstName, lastName, email, phoneNumber, 0L);
+            var user2 = User.reconstitute(userId2, firstName, lastName, email, phoneNumber, 0L);
+            var user3 = User.reconstitute(userId3, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual1 = user1.equals(user2);
@@ -607,8 +700,8 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user1 = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
-            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user1 = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
+            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual1 = user1.hashCode();
@@ -645,7 +738,7 @@ class UserTests {
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
             var user1 = User.create(firstName, lastName, email, phoneNumber);
-            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user2 = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual1 = user1.hashCode();
@@ -664,8 +757,8 @@ class UserTests {
             var phoneNumber = PhoneNumber.of("555 555 555");
             var userId1 = UserId.of(UUID.fromString("7c9e4a2f-3d1b-4e8c-9f5a-6b8d2c3e1f4a"));
             var userId2 = UserId.of(UUID.fromString("5a6b7c8d-9e0f-4a1b-2c3d-4e5f6a7b8c9d"));
-            var user1 = User.reconstitute(userId1, firstName, lastName, email, phoneNumber);
-            var user2 = User.reconstitute(userId2, firstName, lastName, email, phoneNumber);
+            var user1 = User.reconstitute(userId1, firstName, lastName, email, phoneNumber, 0L);
+            var user2 = User.reconstitute(userId2, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual1 = user1.hashCode();
@@ -688,7 +781,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual = user.getId();
@@ -742,7 +835,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual = user.getFirstName();
@@ -780,7 +873,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual = user.getLastName();
@@ -818,7 +911,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual = user.getEmail();
@@ -856,7 +949,7 @@ class UserTests {
             var lastName = LastName.of("LastName");
             var email = Email.of("user@asapp.com");
             var phoneNumber = PhoneNumber.of("555 555 555");
-            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber);
+            var user = User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
 
             // When
             var actual = user.getPhoneNumber();
@@ -867,4 +960,13 @@ class UserTests {
 
     }
 
+    private static User buildReconstitutedUser() {
+        var userId = UserId.of(UUID.fromString("61c5064b-1906-4d11-a8ab-5bfd309e2631"));
+        var firstName = FirstName.of("FirstName");
+        var lastName = LastName.of("LastName");
+        var email = Email.of("user@asapp.com");
+        var phoneNumber = PhoneNumber.of("555 555 555");
+        return User.reconstitute(userId, firstName, lastName, email, phoneNumber, 0L);
+    }
+
 }
@@ -25,6 +25,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Nested;
@@ -51,6 +52,7 @@ import tools.jackson.databind.exc.InvalidFormatException;
  * <li>Serializes temporal types to ISO-8601 format (LocalDate, LocalDateTime, Instant)</li>
  * <li>Rejects non-ISO-8601 date formats during deserialization</li>
  * <li>Deserializes ISO-8601 dates to corresponding Java temporal types</li>
+ * <li>Distinguishes absent members ({@code null}) from members set to {@code null} (empty {@link Optional})</li>
  */
 @ExtendWith(SpringExtension.class)
 @TestPropertySource(locations = "classpath:application.properties")
@@ -177,6 +179,21 @@ class JacksonConfigurationIT {
             assertThat(actual).isInstanceOf(InvalidFormatException.class);
         }
 
+        @Test
+        void ReturnsNullForAbsentAndEmptyForNullMembers_RawJsonWithOptionalMembers() throws JacksonException {
+            // Given
+            var optionalAsJson = """
+                    {"nulled":null,"present":"Test"}
+                    """.trim();
+            var optionalTestEntity = new OptionalTestEntity(null, Optional.empty(), Optional.of("Test"));
+
+            // When
+            var actual = objectMapper.readValue(optionalAsJson, OptionalTestEntity.class);
+
+            // Then
+            assertThat(actual).isEqualTo(optionalTestEntity);
+        }
+
     }
 
     // Test Entities
@@ -193,4 +210,10 @@ class JacksonConfigurationIT {
             Instant instant
     ) {}
 
+    record OptionalTestEntity(
+            Optional<String> absent,
+            Optional<String> nulled,
+            Optional<String> present
+    ) {}
+
 }
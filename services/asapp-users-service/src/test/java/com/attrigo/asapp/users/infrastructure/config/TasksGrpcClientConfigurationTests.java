@@ -0,0 +1,159 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package com.attrigo.asapp.users.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreDetails;
+import org.springframework.core.io.ClassPathResource;
+
+import io.grpc.ChannelCredentials;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.TlsServerCredentials;
+import io.grpc.stub.StreamObserver;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdResponse;
+import com.attrigo.asapp.grpc.clients.tasks.TaskLookupServiceGrpc;
+import com.attrigo.asapp.grpc.clients.tasks.UuidMapper;
+
+/**
+ * Tests {@link TasksGrpcClientConfiguration} channel credentials against a TLS gRPC server.
+ * <p>
+ * Setup:
+ * <li>Starts a gRPC server on a random local port serving TLS with a self-signed test certificate before each test, and stops it after</li>
+ * <p>
+ * Coverage:
+ * <li>Creates plaintext credentials when no SSL bundle is configured</li>
+ * <li>Calls the server over TLS when the SSL bundle trusts its certificate</li>
+ * <li>Fails the call when connecting in plaintext to the TLS server</li>
+ */
+class TasksGrpcClientConfigurationTests {
+
+    private static final String SSL_BUNDLE = "tasks-grpc";
+
+    private static final UUID USER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    private final TasksGrpcClientConfiguration configuration = new TasksGrpcClientConfiguration();
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        try (var certificate = new ClassPathResource("tls/grpc.crt").getInputStream();
+                var privateKey = new ClassPathResource("tls/grpc.key").getInputStream()) {
+            server = Grpc.newServerBuilderForPort(0, TlsServerCredentials.create(certificate, privateKey))
+                         .addService(new EmptyTaskLookupService())
+                         .build()
+                         .start();
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+        server.shutdownNow();
+    }
+
+    @Nested
+    class TasksGrpcChannelCredentials {
+
+        @Test
+        void ReturnsInsecureCredentials_NoSslBundle() {
+            // When
+            var actual = configuration.tasksGrpcChannelCredentials(new DefaultSslBundleRegistry(), "");
+
+            // Then
+            assertThat(actual).isInstanceOf(InsecureChannelCredentials.class);
+        }
+
+        @Test
+        void CallsServerOverTls_SslBundleTrustsServerCertificate() {
+            // Given
+            var trustStore = PemSslStoreDetails.forCertificate("classpath:tls/grpc.crt");
+            var sslBundles = new DefaultSslBundleRegistry(SSL_BUNDLE, SslBundle.of(new PemSslStoreBundle(null, trustStore)));
+            var credentials = configuration.tasksGrpcChannelCredentials(sslBundles, SSL_BUNDLE);
+
+            // When
+            var actual = getTaskIdsByUserId(credentials);
+
+            // Then
+            assertThat(actual.getTaskIdsList()).isEmpty();
+        }
+
+        @Test
+        void FailsCall_PlaintextChannelToTlsServer() {
+            // Given
+            var credentials = configuration.tasksGrpcChannelCredentials(new DefaultSslBundleRegistry(), "");
+
+            // When
+            var actual = catchThrowable(() -> getTaskIdsByUserId(credentials));
+
+            // Then
+            assertThat(actual).isInstanceOf(StatusRuntimeException.class);
+            assertThat(Status.fromThrowable(actual)
+                             .getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+        }
+
+    }
+
+    private GetTaskIdsByUserIdResponse getTaskIdsByUserId(ChannelCredentials credentials) {
+        var port = ((InetSocketAddress) server.getListenSockets()
+                                              .getFirst()).getPort();
+        channel = Grpc.newChannelBuilderForAddress("localhost", port, credentials)
+                      .build();
+        var request = GetTaskIdsByUserIdRequest.newBuilder()
+                                               .setUserId(UuidMapper.toMessage(USER_ID))
+                                               .build();
+        return TaskLookupServiceGrpc.newBlockingStub(channel)
+                                    .getTaskIdsByUserId(request);
+    }
+
+    /**
+     * Task lookup service answering every user with no task ids.
+     */
+    private static final class EmptyTaskLookupService extends TaskLookupServiceGrpc.TaskLookupServiceImplBase {
+
+        @Override
+        public void getTaskIdsByUserId(GetTaskIdsByUserIdRequest request, StreamObserver<GetTaskIdsByUserIdResponse> responseObserver) {
+            responseObserver.onNext(GetTaskIdsByUserIdResponse.getDefaultInstance());
+            responseObserver.onCompleted();
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link AdmissionControlledDataSource} permit handling around pooled connections.
+ * <p>
+ * Coverage:
+ * <li>Hands out the pooled connection once admitted, exposing it as target connection</li>
+ * <li>Gives the permit back when the connection is closed, only once however often it is closed</li>
+ * <li>Gives the permit back when the pool fails to provide a connection</li>
+ * <li>Refuses connections without reaching the pool once no permit is left</li>
+ */
+class AdmissionControlledDataSourceTests {
+
+    private final DataSource pool = mock(DataSource.class);
+
+    private final Connection connection = mock(Connection.class);
+
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void beforeEach() {
+        var admission = new ConnectionAdmission("dataSource", 1, 0, Duration.ofMillis(10), new SimpleMeterRegistry());
+        dataSource = new AdmissionControlledDataSource(pool, admission);
+    }
+
+    @Nested
+    class GetConnection {
+
+        @Test
+        void ReturnsPooledConnection_PermitFree() throws SQLException {
+            // Given
+            given(pool.getConnection()).willReturn(connection);
+
+            // When
+            var actual = dataSource.getConnection();
+
+            // Then
+            assertThat(actual).isInstanceOf(ConnectionProxy.class);
+            assertThat(((ConnectionProxy) actual).getTargetConnection()).isSameAs(connection);
+        }
+
+        @Test
+        void ThrowsConnectionAdmissionException_NoPermitLeft() throws SQLException {
+            // Given
+            given(pool.getConnection()).willReturn(connection);
+            dataSource.getConnection();
+
+            // When
+            var actual = catchThrowable(dataSource::getConnection);
+
+            // Then
+            assertThat(actual).isInstanceOf(ConnectionAdmissionException.class);
+            then(pool).should()
+                      .getConnection();
+        }
+
+        @Test
+        void ReleasesPermit_ConnectionClosed() throws SQLException {
+            // Given
+            given(pool.getConnection()).willReturn(connection);
+            var connectionToClose = dataSource.getConnection();
+
+            // When
+            connectionToClose.close();
+
+            // Then
+            assertThat(connectionToClose.isClosed()).isTrue();
+            then(connection).should()
+                            .close();
+            assertThat(dataSource.getConnection()).isNotNull();
+        }
+
+        @Test
+        void ReleasesPermitOnce_ConnectionClosedTwice() throws SQLException {
+            // Given
+            given(pool.getConnection()).willReturn(connection);
+            var connectionToClose = dataSource.getConnection();
+            connectionToClose.close();
+            connectionToClose.close();
+            dataSource.getConnection();
+
+            // When
+            var actual = catchThrowable(dataSource::getConnection);
+
+            // Then
+            assertThat(actual).isInstanceOf(ConnectionAdmissionException.class);
+            then(connection).should()
+                            .close();
+        }
+
+        @Test
+        void ReleasesPermit_PoolFailsToProvideConnection() throws SQLException {
+            // Given
+            given(pool.getConnection()).willThrow(new SQLException("Connection is not available"))
+                                       .willReturn(connection);
+            var failure = catchThrowable(dataSource::getConnection);
+
+            // When
+            var actual = dataSource.getConnection();
+
+            // Then
+            assertThat(failure).isInstanceOf(SQLException.class)
+                               .hasMessage("Connection is not available");
+            assertThat(actual).isNotNull();
+        }
+
+    }
+
+}
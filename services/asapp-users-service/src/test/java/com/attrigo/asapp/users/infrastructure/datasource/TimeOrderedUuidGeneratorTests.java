@@ -0,0 +1,78 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TimeOrderedUuidGenerator} UUID layout and ordering.
+ * <p>
+ * Coverage:
+ * <li>Generates RFC 9562 version 7 UUIDs with the IETF variant</li>
+ * <li>Encodes the current Unix timestamp in milliseconds in the most significant bits</li>
+ * <li>Generates strictly increasing UUIDs, including within the same millisecond</li>
+ */
+class TimeOrderedUuidGeneratorTests {
+
+    @Nested
+    class Generate {
+
+        @Test
+        void ReturnsVersion7Uuid() {
+            // When
+            var actual = TimeOrderedUuidGenerator.generate();
+
+            // Then
+            assertThat(actual.version()).isEqualTo(7);
+            assertThat(actual.variant()).isEqualTo(2);
+        }
+
+        @Test
+        void ReturnsUuidWithCurrentTimestamp() {
+            // Given
+            var before = System.currentTimeMillis();
+
+            // When
+            var actual = TimeOrderedUuidGenerator.generate();
+
+            // Then
+            var timestamp = actual.getMostSignificantBits() >>> 16;
+            assertThat(timestamp).isGreaterThanOrEqualTo(before)
+                                 .isLessThanOrEqualTo(System.currentTimeMillis() + 1);
+        }
+
+        @Test
+        void ReturnsIncreasingUuids_GeneratedConsecutively() {
+            // When
+            var actual = Stream.generate(TimeOrderedUuidGenerator::generate)
+                               .limit(10_000)
+                               .toList();
+
+            // Then
+            assertThat(actual).isSortedAccordingTo(UUID::compareTo)
+                              .doesNotHaveDuplicates();
+        }
+
+    }
+
+}
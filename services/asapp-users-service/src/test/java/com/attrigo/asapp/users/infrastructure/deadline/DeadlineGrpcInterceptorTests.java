@@ -0,0 +1,136 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.MethodDescriptor;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdResponse;
+import com.attrigo.asapp.grpc.clients.tasks.TaskLookupServiceGrpc;
+
+/**
+ * Tests {@link DeadlineGrpcInterceptor} budget propagation to outgoing gRPC calls.
+ * <p>
+ * Coverage:
+ * <li>Makes calls unchanged when no deadline is bound</li>
+ * <li>Bounds calls by the remaining budget while the deadline has not expired</li>
+ * <li>Keeps a sooner deadline already set on the call</li>
+ * <li>Rejects calls without making them once the deadline has expired</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadlineGrpcInterceptorTests {
+
+    private static final MethodDescriptor<GetTaskIdsByUserIdRequest, GetTaskIdsByUserIdResponse> METHOD = TaskLookupServiceGrpc.getGetTaskIdsByUserIdMethod();
+
+    @Mock
+    private Channel channel;
+
+    private final DeadlineGrpcInterceptor deadlineGrpcInterceptor = new DeadlineGrpcInterceptor();
+
+    @AfterEach
+    void afterEach() {
+        DeadlineContext.clear();
+    }
+
+    @Nested
+    class InterceptCall {
+
+        @Test
+        void MakesCallUnchanged_NoDeadline() {
+            // When
+            deadlineGrpcInterceptor.interceptCall(METHOD, CallOptions.DEFAULT, channel);
+
+            // Then
+            then(channel).should(times(1))
+                         .newCall(METHOD, CallOptions.DEFAULT);
+        }
+
+        @Test
+        void MakesCallWithRemainingBudget_DeadlineNotExpired() {
+            // Given
+            var callOptions = ArgumentCaptor.forClass(CallOptions.class);
+            DeadlineContext.set(Deadline.after(Duration.ofSeconds(3)));
+
+            // When
+            deadlineGrpcInterceptor.interceptCall(METHOD, CallOptions.DEFAULT, channel);
+
+            // Then
+            then(channel).should(times(1))
+                         .newCall(eq(METHOD), callOptions.capture());
+
+            assertThat(callOptions.getValue()
+                                  .getDeadline()
+                                  .timeRemaining(TimeUnit.MILLISECONDS)).isBetween(2000L, 3000L);
+        }
+
+        @Test
+        void MakesCallWithCallDeadline_CallDeadlineSooner() {
+            // Given
+            var callOptions = ArgumentCaptor.forClass(CallOptions.class);
+            DeadlineContext.set(Deadline.after(Duration.ofSeconds(30)));
+
+            // When
+            deadlineGrpcInterceptor.interceptCall(METHOD, CallOptions.DEFAULT.withDeadlineAfter(1, TimeUnit.SECONDS), channel);
+
+            // Then
+            then(channel).should(times(1))
+                         .newCall(eq(METHOD), callOptions.capture());
+
+            assertThat(callOptions.getValue()
+                                  .getDeadline()
+                                  .timeRemaining(TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(1000L);
+        }
+
+        @Test
+        void ThrowsDeadlineExceededException_DeadlineExpired() {
+            // Given
+            DeadlineContext.set(Deadline.after(Duration.ZERO));
+
+            // When
+            var actual = catchThrowable(() -> deadlineGrpcInterceptor.interceptCall(METHOD, CallOptions.DEFAULT, channel));
+
+            // Then
+            assertThat(actual).isInstanceOf(DeadlineExceededException.class)
+                              .hasMessage("Request deadline expired before calling asapp.tasks.v1.TaskLookupService/GetTaskIdsByUserId");
+
+            then(channel).should(times(0))
+                         .newCall(any(), any());
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.deadline;
+
+import static com.attrigo.asapp.users.infrastructure.deadline.DeadlineFilter.REQUEST_TIMEOUT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+
+/**
+ * Tests {@link DeadlineInterceptor} budget propagation to outgoing requests.
+ * <p>
+ * Coverage:
+ * <li>Sends requests unchanged when no deadline is bound</li>
+ * <li>Adds the remaining budget header while the deadline has not expired</li>
+ * <li>Rejects requests without sending them once the deadline has expired</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadlineInterceptorTests {
+
+    @Mock
+    private HttpRequest request;
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    private final DeadlineInterceptor deadlineInterceptor = new DeadlineInterceptor();
+
+    @AfterEach
+    void afterEach() {
+        DeadlineContext.clear();
+    }
+
+    @Nested
+    class Intercept {
+
+        @Test
+        void ExecutesRequestWithoutBudget_NoDeadline() throws IOException {
+            // Given
+            var body = new byte[0];
+
+            // When
+            deadlineInterceptor.intercept(request, body, execution);
+
+            // Then
+            then(request).shouldHaveNoInteractions();
+            then(execution).should(times(1))
+                           .execute(eq(request), eq(body));
+        }
+
+        @Test
+        void ExecutesRequestWithRemainingBudget_DeadlineNotExpired() throws IOException {
+            // Given
+            var headers = new HttpHeaders();
+            var body = new byte[0];
+            DeadlineContext.set(Deadline.after(Duration.ofSeconds(3)));
+
+            given(request.getHeaders()).willReturn(headers);
+
+            // When
+            deadlineInterceptor.intercept(request, body, execution);
+
+            // Then
+            assertThat(Long.parseLong(headers.getFirst(REQUEST_TIMEOUT_HEADER))).isBetween(2000L, 3000L);
+
+            then(execution).should(times(1))
+                           .execute(eq(request), eq(body));
+        }
+
+        @Test
+        void ThrowsDeadlineExceededException_DeadlineExpired() throws IOException {
+            // Given
+            var body = new byte[0];
+            DeadlineContext.set(Deadline.after(Duration.ZERO));
+
+            given(request.getURI()).willReturn(URI.create("http://localhost/api/tasks"));
+
+            // When
+            var actual = catchThrowable(() -> deadlineInterceptor.intercept(request, body, execution));
+
+            // Then
+            assertThat(actual).isInstanceOf(DeadlineExceededException.class)
+                              .hasMessage("Request deadline expired before calling http://localhost/api/tasks");
+
+            then(execution).should(times(0))
+                           .execute(any(), any());
+        }
+
+    }
+
+}
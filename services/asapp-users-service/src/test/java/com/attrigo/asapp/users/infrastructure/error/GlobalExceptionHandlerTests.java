@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -41,12 +42,16 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
 
+import com.attrigo.asapp.users.application.user.UserVersionMismatchException;
+
 /**
  * Tests {@link GlobalExceptionHandler} exception-to-ProblemDetail translation and HTTP status mapping.
  * <p>
  * Coverage:
  * <li>Translates request validation failures to 400 Bad Request with sorted field errors</li>
  * <li>Translates invalid arguments to 400 Bad Request with a generic detail</li>
+ * <li>Translates optimistic locking failures to 409 Conflict</li>
+ * <li>Translates user version mismatches to 412 Precondition Failed</li>
  * <li>Translates database failures to 500 Internal Server Error with generic messages</li>
  * <li>Translates unexpected exceptions to 500 Internal Server Error flagged critical</li>
  * <li>Translates cache connection failures to 503 Service Unavailable</li>
@@ -160,6 +165,58 @@ class GlobalExceptionHandlerTests {
 
     }
 
+    @Nested
+    class HandleOptimisticLockingFailureException {
+
+        @Test
+        void ReturnsConflictAndProblemDetail_ConcurrentModification() {
+            // Given
+            var exception = new OptimisticLockingFailureException("Row was updated by another transaction");
+
+            // When
+            var actual = globalExceptionHandler.handleOptimisticLockingFailureException(exception);
+
+            // Then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            var problemDetail = actual.getBody();
+            assertThat(problemDetail).isNotNull();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(problemDetail.getTitle()).as("title").isEqualTo("Conflict");
+                softly.assertThat(problemDetail.getStatus()).as("status").isEqualTo(409);
+                softly.assertThat(problemDetail.getDetail()).as("detail").isEqualTo("The resource was modified concurrently");
+                // @formatter:on
+            });
+        }
+
+    }
+
+    @Nested
+    class HandleUserVersionMismatchException {
+
+        @Test
+        void ReturnsPreconditionFailedAndProblemDetail_VersionMismatch() {
+            // Given
+            var exception = new UserVersionMismatchException("User has version 3 but version 2 was expected");
+
+            // When
+            var actual = globalExceptionHandler.handleUserVersionMismatchException(exception);
+
+            // Then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+            var problemDetail = actual.getBody();
+            assertThat(problemDetail).isNotNull();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(problemDetail.getTitle()).as("title").isEqualTo("Precondition Failed");
+                softly.assertThat(problemDetail.getStatus()).as("status").isEqualTo(412);
+                softly.assertThat(problemDetail.getDetail()).as("detail").isEqualTo("The resource does not match the requested version");
+                // @formatter:on
+            });
+        }
+
+    }
+
     @Nested
     class HandleDataAccessException {
 
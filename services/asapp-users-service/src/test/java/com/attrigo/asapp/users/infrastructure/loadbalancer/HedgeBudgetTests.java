@@ -0,0 +1,111 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link HedgeBudget} deposits, withdrawals and bounds.
+ * <p>
+ * Coverage:
+ * <li>Allows one hedge per whole token deposited</li>
+ * <li>Caps the balance that can be saved up</li>
+ * <li>Rejects ratios outside 0 and 1 and maximum balances below 1</li>
+ */
+class HedgeBudgetTests {
+
+    @Nested
+    class TryWithdraw {
+
+        @Test
+        void ReturnsFalse_NothingDeposited() {
+            // Given
+            var budget = new HedgeBudget(0.1, 10);
+
+            // When
+            var actual = budget.tryWithdraw();
+
+            // Then
+            assertThat(actual).isFalse();
+        }
+
+        @Test
+        void ReturnsTrueOncePerWholeToken_RequestsDeposited() {
+            // Given
+            var budget = new HedgeBudget(0.25, 10);
+            IntStream.range(0, 8)
+                     .forEach(_ -> budget.deposit());
+
+            // When
+            var actual = IntStream.range(0, 3)
+                                  .mapToObj(_ -> budget.tryWithdraw())
+                                  .toList();
+
+            // Then
+            assertThat(actual).containsExactly(true, true, false);
+        }
+
+        @Test
+        void ReturnsTrueUpToMaxBalance_LongQuietPeriod() {
+            // Given
+            var budget = new HedgeBudget(0.5, 2);
+            IntStream.range(0, 100)
+                     .forEach(_ -> budget.deposit());
+
+            // When
+            var actual = IntStream.range(0, 3)
+                                  .mapToObj(_ -> budget.tryWithdraw())
+                                  .toList();
+
+            // Then
+            assertThat(actual).containsExactly(true, true, false);
+        }
+
+    }
+
+    @Nested
+    class Create {
+
+        @Test
+        void ThrowsIllegalArgumentException_RatioAboveOne() {
+            // When
+            var actual = catchThrowable(() -> new HedgeBudget(1.5, 10));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Hedge budget ratio must be between 0 and 1");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_MaxBalanceBelowOne() {
+            // When
+            var actual = catchThrowable(() -> new HedgeBudget(0.05, 0.5));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Hedge budget maximum balance must be at least 1");
+        }
+
+    }
+
+}
@@ -0,0 +1,316 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link HedgingInterceptor} hedging of slow GET requests.
+ * <p>
+ * Coverage:
+ * <li>Passes requests other than GET through on the caller thread</li>
+ * <li>Does not hedge before enough latencies have been observed or when the budget is exhausted</li>
+ * <li>Returns the first response, cancelling the other attempt and closing its late response</li>
+ * <li>Waits past failed attempts and fails with the first failure when every attempt fails</li>
+ * <li>Asks the load balancer to avoid the instance of the first attempt, without sending the header downstream</li>
+ */
+class HedgingInterceptorTests {
+
+    private static final URI TASKS_URI = URI.create("http://asapp-tasks-service/asapp-tasks-service/api/tasks/user/0190a9b0-6c2e-7b3a-8f1d-2e4c6a8b0d1f");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ClientHttpResponse primaryResponse = mock(ClientHttpResponse.class);
+
+    private final ClientHttpResponse hedgeResponse = mock(ClientHttpResponse.class);
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private final Map<Integer, String> avoidedInstances = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Boolean> avoidHeaderSent = new ConcurrentHashMap<>();
+
+    private final CountDownLatch hedgeStarted = new CountDownLatch(1);
+
+    private final CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+    @Nested
+    class Intercept {
+
+        @Test
+        void ReturnsResponseOnCallerThread_PostRequest() throws IOException {
+            // Given
+            var interceptor = newInterceptor(1.0, 0);
+            var callerThread = Thread.currentThread();
+            var executionThreads = new ConcurrentHashMap<Thread, Boolean>();
+            ClientHttpRequestExecution execution = (request, body) -> {
+                executionThreads.put(Thread.currentThread(), true);
+                return primaryResponse;
+            };
+
+            // When
+            var actual = interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, TASKS_URI), new byte[0], execution);
+
+            // Then
+            assertThat(actual).isSameAs(primaryResponse);
+            assertThat(executionThreads).containsOnlyKeys(callerThread);
+        }
+
+        @Test
+        void ReturnsPrimaryResponse_LatenciesNotObserved() throws IOException {
+            // Given
+            var interceptor = newInterceptor(1.0, 100);
+            var execution = balancedExecution(interceptor, attempt -> {
+                sleep(100);
+                return primaryResponse;
+            });
+
+            // When
+            var actual = interceptor.intercept(get(), new byte[0], execution);
+
+            // Then
+            assertThat(actual).isSameAs(primaryResponse);
+            assertThat(attempts).hasValue(1);
+        }
+
+        @Test
+        void ReturnsPrimaryResponse_BudgetExhausted() throws IOException {
+            // Given
+            var interceptor = newInterceptor(0, 0);
+            var execution = balancedExecution(interceptor, attempt -> {
+                sleep(100);
+                return primaryResponse;
+            });
+
+            // When
+            var actual = interceptor.intercept(get(), new byte[0], execution);
+
+            // Then
+            assertThat(actual).isSameAs(primaryResponse);
+            assertThat(attempts).hasValue(1);
+            assertThat(meterRegistry.get("asapp.hedging.budget-exhausted")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void ReturnsHedgeResponseAndCancelsPrimary_PrimarySlow() throws IOException, InterruptedException {
+            // Given
+            var interceptor = newInterceptor(1.0, 0);
+            var execution = balancedExecution(interceptor, attempt -> attempt == 1 ? blockUntilInterrupted() : hedgeResponse);
+
+            // When
+            var actual = interceptor.intercept(get(), new byte[0], execution);
+
+            // Then
+            assertThat(actual).isSameAs(hedgeResponse);
+            assertThat(primaryInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(meterRegistry.get("asapp.hedging.hedges")
+                                    .tag("winner", "hedge")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void AsksToAvoidPrimaryInstance_PrimarySlow() throws IOException {
+            // Given
+            var interceptor = newInterceptor(1.0, 0);
+            var execution = balancedExecution(interceptor, attempt -> attempt == 1 ? blockUntilInterrupted() : hedgeResponse);
+
+            // When
+            interceptor.intercept(get(), new byte[0], execution);
+
+            // Then
+            assertThat(avoidedInstances).containsExactly(Map.entry(2, "10.0.0.1:8080"));
+            assertThat(avoidHeaderSent).containsOnly(Map.entry(2, false));
+        }
+
+        @Test
+        void ClosesPrimaryResponse_PrimaryRespondsAfterHedge() throws IOException {
+            // Given
+            var interceptor = newInterceptor(1.0, 0);
+            var execution = balancedExecution(interceptor, attempt -> {
+                if (attempt == 1) {
+                    awaitUninterruptibly(hedgeStarted);
+                    sleep(100);
+                    return primaryResponse;
+                }
+                hedgeStarted.countDown();
+                return hedgeResponse;
+            });
+
+            // When
+            var actual = interceptor.intercept(get(), new byte[0], execution);
+
+            // Then
+            assertThat(actual).isSameAs(hedgeResponse);
+            then(primaryResponse).should(timeout(1000))
+                                 .close();
+            then(hedgeResponse).should(never())
+                               .close();
+        }
+
+        @Test
+        void ReturnsHedgeResponse_PrimaryFailsAfterHedge() throws IOException {
+            // Given
+            var interceptor = newInterceptor(1.0, 0);
+            var execution = balancedExecution(interceptor, attempt -> {
+                if (attempt == 1) {
+                    awaitUninterruptibly(hedgeStarted);
+                    throw new IOException("Connection reset");
+                }
+                hedgeStarted.countDown();
+                sleep(50);
+                return hedgeResponse;
+            });
+
+            // When
+            var actual = interceptor.intercept(get(), new byte[0], execution);
+
+            // Then
+            assertThat(actual).isSameAs(hedgeResponse);
+        }
+
+        @Test
+        void ThrowsPrimaryFailure_AllAttemptsFail() {
+            // Given
+            var interceptor = newInterceptor(1.0, 0);
+            var execution = balancedExecution(interceptor, attempt -> {
+                if (attempt == 1) {
+                    awaitUninterruptibly(hedgeStarted);
+                    sleep(50);
+                    throw new IOException("Primary connection reset");
+                }
+                hedgeStarted.countDown();
+                throw new IOException("Hedge connection reset");
+            });
+
+            // When
+            var actual = catchThrowable(() -> interceptor.intercept(get(), new byte[0], execution));
+
+            // Then
+            assertThat(actual).isInstanceOf(IOException.class)
+                              .hasMessage("Primary connection reset");
+        }
+
+    }
+
+    private HedgingInterceptor newInterceptor(double budgetRatio, long minSamples) {
+        var budget = new HedgeBudget(budgetRatio, 10);
+        for (var i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+        return new HedgingInterceptor(budget, meterRegistry, 0.95, Duration.ofMillis(20), minSamples);
+    }
+
+    private static HttpRequest get() {
+        return new MockClientHttpRequest(HttpMethod.GET, TASKS_URI);
+    }
+
+    /**
+     * Simulates the load-balancer interceptor sending attempt {@code n} to instance {@code 10.0.0.n}, followed by the attempt recorder.
+     */
+    private ClientHttpRequestExecution balancedExecution(HedgingInterceptor interceptor, Attempt attempt) {
+        var recorder = interceptor.attemptRecorder();
+        return (request, body) -> {
+            var number = attempts.incrementAndGet();
+            var avoidedInstance = request.getHeaders()
+                                         .getFirst(HedgingInterceptor.AVOID_INSTANCE_HEADER);
+            if (avoidedInstance != null) {
+                avoidedInstances.put(number, avoidedInstance);
+            }
+            var balancedRequest = new HttpRequestWrapper(request) {
+
+                @Override
+                public URI getURI() {
+                    return URI.create("http://10.0.0." + number + ":8080" + TASKS_URI.getPath());
+                }
+
+            };
+            return recorder.intercept(balancedRequest, body, (sentRequest, sentBody) -> {
+                if (avoidedInstance != null) {
+                    avoidHeaderSent.put(number, sentRequest.getHeaders()
+                                                           .containsHeader(HedgingInterceptor.AVOID_INSTANCE_HEADER));
+                }
+                return attempt.execute(number);
+            });
+        };
+    }
+
+    private ClientHttpResponse blockUntilInterrupted() throws IOException {
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            primaryInterrupted.countDown();
+        }
+        throw new IOException("Interrupted");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * The behaviour of each attempt, by attempt number starting at 1.
+     */
+    @FunctionalInterface
+    private interface Attempt {
+
+        ClientHttpResponse execute(int number) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,319 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Tests {@link PeakEwmaLoadBalancer} instance selection by latency and in-flight calls.
+ * <p>
+ * Coverage:
+ * <li>Returns no instance when none is available and the only one when there is a single one</li>
+ * <li>Distributes calls round-robin until every instance has been observed</li>
+ * <li>Prefers the instance with the lowest peak-EWMA latency, jumping to latency peaks</li>
+ * <li>Prefers the instance with fewer in-flight calls at equal latency</li>
+ * <li>Retries a slow instance once its latency has decayed</li>
+ * <li>Avoids the instance named by a hedged attempt, unless it is the only one</li>
+ * <li>Ignores discarded calls</li>
+ */
+class PeakEwmaLoadBalancerTests {
+
+    private static final String SERVICE_ID = "asapp-tasks-service";
+
+    private final ServiceInstance instanceA = new DefaultServiceInstance("tasks-a", SERVICE_ID, "10.0.0.1", 8080, false);
+
+    private final ServiceInstance instanceB = new DefaultServiceInstance("tasks-b", SERVICE_ID, "10.0.0.2", 8080, false);
+
+    private final ServiceInstance instanceC = new DefaultServiceInstance("tasks-c", SERVICE_ID, "10.0.0.3", 8080, false);
+
+    private final List<ServiceInstance> instances = new ArrayList<>();
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    private PeakEwmaLoadBalancer loadBalancer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        var supplier = new ServiceInstanceListSupplier() {
+
+            @Override
+            public String getServiceId() {
+                return SERVICE_ID;
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.just(List.copyOf(instances));
+            }
+
+        };
+        ObjectProvider<ServiceInstanceListSupplier> supplierProvider = mock(ObjectProvider.class);
+        given(supplierProvider.getIfAvailable(any())).willReturn(supplier);
+
+        loadBalancer = new PeakEwmaLoadBalancer(supplierProvider, SERVICE_ID, Duration.ofSeconds(10), clock::get);
+    }
+
+    @Nested
+    class Choose {
+
+        @Test
+        void ReturnsEmptyResponse_NoInstances() {
+            // When
+            var actual = choose();
+
+            // Then
+            assertThat(actual).isInstanceOf(EmptyResponse.class);
+        }
+
+        @Test
+        void ReturnsOnlyInstance_SingleInstance() {
+            // Given
+            instances.add(instanceA);
+
+            // When
+            var actual = choose();
+
+            // Then
+            assertThat(actual.getServer()).isEqualTo(instanceA);
+        }
+
+        @Test
+        void ReturnsInstancesRoundRobin_InstancesNotObserved() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB, instanceC));
+
+            // When
+            var actual = IntStream.range(0, 6)
+                                  .mapToObj(_ -> choose().getServer())
+                                  .toList();
+
+            // Then
+            assertThat(actual).containsOnly(instanceA, instanceB, instanceC)
+                              .filteredOn(instanceA::equals)
+                              .hasSize(2);
+            assertThat(actual.subList(0, 3)).containsExactlyInAnyOrder(instanceA, instanceB, instanceC);
+        }
+
+        @Test
+        void ReturnsInstancesRoundRobin_NewInstanceNotObserved() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB));
+            call(instanceA, 10);
+            call(instanceB, 200);
+            instances.add(instanceC);
+
+            // When
+            var actual = IntStream.range(0, 3)
+                                  .mapToObj(_ -> choose().getServer())
+                                  .toList();
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(instanceA, instanceB, instanceC);
+        }
+
+        @Test
+        void ReturnsFasterInstance_InstancesObserved() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB));
+            call(instanceA, 10);
+            call(instanceB, 200);
+
+            // When
+            var actual = IntStream.range(0, 20)
+                                  .mapToObj(_ -> choose().getServer())
+                                  .toList();
+
+            // Then
+            assertThat(actual).containsOnly(instanceA);
+        }
+
+        @Test
+        void ReturnsOtherInstance_LatencyPeak() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB));
+            call(instanceA, 10);
+            call(instanceB, 100);
+            call(instanceA, 500);
+
+            // When
+            var actual = choose();
+
+            // Then
+            assertThat(actual.getServer()).isEqualTo(instanceB);
+        }
+
+        @Test
+        void ReturnsLessLoadedInstance_SameLatency() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB));
+            call(instanceA, 10);
+            call(instanceB, 10);
+            IntStream.range(0, 3)
+                     .forEach(_ -> loadBalancer.onStartRequest(new DefaultRequest<>(new RequestDataContext()), new DefaultResponse(instanceA)));
+
+            // When
+            var actual = choose();
+
+            // Then
+            assertThat(actual.getServer()).isEqualTo(instanceB);
+        }
+
+        @Test
+        void ReturnsSlowInstance_LatencyDecayed() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB));
+            call(instanceB, 200);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(100));
+            call(instanceA, 10);
+
+            // When
+            var actual = choose();
+
+            // Then
+            assertThat(actual.getServer()).isEqualTo(instanceB);
+        }
+
+    }
+
+    @Nested
+    class ChooseHedge {
+
+        @Test
+        void ReturnsOtherInstances_InstanceAvoided() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB, instanceC));
+
+            // When
+            var actual = IntStream.range(0, 6)
+                                  .mapToObj(_ -> chooseAvoiding("10.0.0.1:8080").getServer())
+                                  .toList();
+
+            // Then
+            assertThat(actual).containsOnly(instanceB, instanceC);
+        }
+
+        @Test
+        void ReturnsAvoidedInstance_SingleInstance() {
+            // Given
+            instances.add(instanceA);
+
+            // When
+            var actual = chooseAvoiding("10.0.0.1:8080");
+
+            // Then
+            assertThat(actual.getServer()).isEqualTo(instanceA);
+        }
+
+    }
+
+    @Nested
+    class OnComplete {
+
+        @Test
+        void IgnoresCall_Discarded() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB));
+            Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+            loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.DISCARD, request, new EmptyResponse()));
+
+            // When
+            var actual = IntStream.range(0, 2)
+                                  .mapToObj(_ -> choose().getServer())
+                                  .toList();
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(instanceA, instanceB);
+        }
+
+        @Test
+        void RecordsLatency_CallFailed() {
+            // Given
+            instances.addAll(List.of(instanceA, instanceB));
+            call(instanceA, 10);
+            Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+            Response<ServiceInstance> response = new DefaultResponse(instanceB);
+            loadBalancer.onStartRequest(request, response);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+            loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.FAILED, new RuntimeException("Read timed out"), request, response));
+
+            // When
+            var actual = choose();
+
+            // Then
+            assertThat(actual.getServer()).isEqualTo(instanceA);
+        }
+
+    }
+
+    private Response<ServiceInstance> choose() {
+        return loadBalancer.choose(new DefaultRequest<>())
+                           .block();
+    }
+
+    private Response<ServiceInstance> chooseAvoiding(String avoidedInstance) {
+        var headers = new HttpHeaders();
+        headers.set(HedgingInterceptor.AVOID_INSTANCE_HEADER, avoidedInstance);
+        var requestData = new RequestData(HttpMethod.GET, URI.create("http://asapp-tasks-service/asapp-tasks-service/api/tasks"), headers,
+                new LinkedMultiValueMap<>(), new HashMap<>());
+
+        return loadBalancer.choose(new DefaultRequest<>(new RequestDataContext(requestData)))
+                           .block();
+    }
+
+    private void call(ServiceInstance instance, long latencyMillis) {
+        Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+        loadBalancer.onStartRequest(request, response);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+    }
+
+}
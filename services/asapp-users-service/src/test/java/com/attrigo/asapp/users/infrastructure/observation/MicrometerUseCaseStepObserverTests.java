@@ -0,0 +1,122 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.observation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Tests {@link MicrometerUseCaseStepObserver} step execution and timing.
+ * <p>
+ * Coverage:
+ * <li>Returns the step result and records a timer tagged with use case and step</li>
+ * <li>Runs steps without result and records a timer tagged with use case and step</li>
+ * <li>Propagates step failures and records them as timer errors</li>
+ * <li>Runs steps without recording anything when no observation handler is registered</li>
+ */
+class MicrometerUseCaseStepObserverTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MicrometerUseCaseStepObserver steps;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        var observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig()
+                           .observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        steps = new MicrometerUseCaseStepObserver(observationRegistry);
+    }
+
+    @Nested
+    class Observe {
+
+        @Test
+        void ReturnsResultAndRecordsTimer_StepWithResult() {
+            // When
+            var actual = steps.observe("use-case", "step", () -> "result");
+
+            // Then
+            assertThat(actual).isEqualTo("result");
+            assertThat(meterRegistry.get(MicrometerUseCaseStepObserver.OBSERVATION_NAME)
+                                    .tag("use.case", "use-case")
+                                    .tag("step", "step")
+                                    .tag("error", "none")
+                                    .timer()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void RunsStepAndRecordsTimer_StepWithoutResult() {
+            // Given
+            var executed = new AtomicBoolean();
+
+            // When
+            steps.observe("use-case", "step", () -> executed.set(true));
+
+            // Then
+            assertThat(executed).isTrue();
+            assertThat(meterRegistry.get(MicrometerUseCaseStepObserver.OBSERVATION_NAME)
+                                    .tag("step", "step")
+                                    .timer()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void ThrowsExceptionAndRecordsError_StepFails() {
+            // When
+            var actual = catchThrowable(() -> steps.observe("use-case", "step", () -> {
+                throw new IllegalStateException("Step failed");
+            }));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalStateException.class)
+                              .hasMessage("Step failed");
+            assertThat(meterRegistry.get(MicrometerUseCaseStepObserver.OBSERVATION_NAME)
+                                    .tag("error", "IllegalStateException")
+                                    .timer()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void ReturnsResultWithoutRecording_NoObservationHandler() {
+            // Given
+            var noopSteps = new MicrometerUseCaseStepObserver(ObservationRegistry.NOOP);
+
+            // When
+            var actual = noopSteps.observe("use-case", "step", () -> "result");
+
+            // Then
+            assertThat(actual).isEqualTo("result");
+            assertThat(meterRegistry.find(MicrometerUseCaseStepObserver.OBSERVATION_NAME)
+                                    .timer()).isNull();
+        }
+
+    }
+
+}
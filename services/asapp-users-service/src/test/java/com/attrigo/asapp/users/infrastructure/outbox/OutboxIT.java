@@ -0,0 +1,209 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.attrigo.asapp.users.testutil.TestContainerConfiguration;
+
+/**
+ * Tests {@link Outbox} event storage, relay lead and batch claiming against PostgreSQL.
+ * <p>
+ * Setup:
+ * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
+ * <li>Runs each test outside a test-managed transaction, so concurrent transactions see the committed events and locks</li>
+ * <p>
+ * Coverage:
+ * <li>Grants the relay lead to a single transaction at a time, until it ends</li>
+ * <li>Claims the oldest events in outbox order, with their JSON payload</li>
+ * <li>Deletes only the published events</li>
+ * <li>Measures the age of the oldest pending event</li>
+ */
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ TestContainerConfiguration.class, Outbox.class })
+class OutboxIT {
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcClient.sql("DELETE FROM outbox_events")
+                  .update();
+    }
+
+    @Nested
+    class TryLeadRelay {
+
+        @Test
+        void ReturnsTrue_NoOtherRelayLeads() {
+            // When
+            var actual = transactionTemplate.execute(status -> outbox.tryLeadRelay());
+
+            // Then
+            assertThat(actual).isTrue();
+        }
+
+        @Test
+        void ReturnsFalse_AnotherRelayLeads() {
+            // Given
+            var concurrentTransactionTemplate = new TransactionTemplate(transactionManager);
+            concurrentTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+            // When
+            var actual = transactionTemplate.execute(status -> {
+                outbox.tryLeadRelay();
+                return concurrentTransactionTemplate.execute(concurrentStatus -> outbox.tryLeadRelay());
+            });
+
+            // Then
+            assertThat(actual).isFalse();
+        }
+
+        @Test
+        void ReturnsTrue_PreviousLeaderTransactionEnded() {
+            // Given
+            transactionTemplate.execute(status -> outbox.tryLeadRelay());
+
+            // When
+            var actual = transactionTemplate.execute(status -> outbox.tryLeadRelay());
+
+            // Then
+            assertThat(actual).isTrue();
+        }
+
+    }
+
+    @Nested
+    class ClaimEvents {
+
+        @Test
+        void ReturnsOldestEventsInOutboxOrder_EventsAppended() {
+            // Given
+            var firstUserId = appendEvent();
+            var secondUserId = appendEvent();
+            appendEvent();
+
+            // When
+            var actual = transactionTemplate.execute(status -> outbox.claimEvents(2));
+
+            // Then
+            assertThat(actual).extracting(OutboxEvent::aggregateId)
+                              .containsExactly(firstUserId, secondUserId);
+            assertThat(actual).extracting(OutboxEvent::eventId)
+                              .isSorted();
+            assertThat(actual.getFirst()
+                             .payload()).contains("\"firstName\"");
+        }
+
+    }
+
+    @Nested
+    class DeleteEvents {
+
+        @Test
+        void DeletesOnlyPublishedEvents_BatchPublished() {
+            // Given
+            appendEvent();
+            var pendingUserId = appendEvent();
+            var published = transactionTemplate.execute(status -> outbox.claimEvents(1));
+
+            // When
+            var actual = outbox.deleteEvents(published);
+
+            // Then
+            assertThat(actual).isOne();
+            var pending = transactionTemplate.execute(status -> outbox.claimEvents(10));
+            assertThat(pending).extracting(OutboxEvent::aggregateId)
+                               .containsExactly(pendingUserId);
+        }
+
+        @Test
+        void ReturnsZero_NoEvents() {
+            // When
+            var actual = outbox.deleteEvents(List.of());
+
+            // Then
+            assertThat(actual).isZero();
+        }
+
+    }
+
+    @Nested
+    class GetOldestEventAgeMillis {
+
+        @Test
+        void ReturnsZero_OutboxEmpty() {
+            // When
+            var actual = outbox.getOldestEventAgeMillis();
+
+            // Then
+            assertThat(actual).isZero();
+        }
+
+        @Test
+        void ReturnsAgeOfOldestEvent_EventsPending() {
+            // Given
+            appendEvent();
+            appendEvent();
+            jdbcClient.sql("UPDATE outbox_events SET occurred_at = now() - interval '5 seconds' WHERE id = (SELECT min(id) FROM outbox_events)")
+                      .update();
+
+            // When
+            var actual = outbox.getOldestEventAgeMillis();
+
+            // Then
+            assertThat(actual).isGreaterThanOrEqualTo(5000);
+        }
+
+    }
+
+    private UUID appendEvent() {
+        var userId = UUID.randomUUID();
+        outbox.append("user", userId, "UserCreated", "{\"userId\":\"%s\",\"firstName\":\"FirstName\"}".formatted(userId));
+        return userId;
+    }
+
+}
@@ -0,0 +1,292 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.willThrow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link OutboxRelay} batch publication, failure handling and consumer group creation.
+ * <p>
+ * Coverage:
+ * <li>Publishes the claimed events to the stream and deletes them from the outbox in the same transaction</li>
+ * <li>Drains full batches back to back until a partial batch is claimed</li>
+ * <li>Rolls the batch back, keeping its events in the outbox, when the publication fails</li>
+ * <li>Skips the poll without claiming events while another relay leads</li>
+ * <li>Measures the age of the oldest pending event</li>
+ * <li>Creates the consumer groups once, tolerating groups that already exist and retrying while Redis is unavailable</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTests {
+
+    private static final String STREAM_KEY = "events:users";
+
+    private static final String CONSUMER_GROUP = "asapp-tasks-service";
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outbox, new TransactionTemplate(transactionManager), redisTemplate, STREAM_KEY, List.of(CONSUMER_GROUP), 2,
+                Duration.ofMinutes(1), 1000, meterRegistry);
+
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+    }
+
+    @AfterEach
+    void afterEach() {
+        outboxRelay.destroy();
+    }
+
+    @Nested
+    class Relay {
+
+        @Test
+        void PublishesAndDeletesEvents_PendingEvents() {
+            // Given
+            var event = anEvent(1);
+            givenPipelinedPublication();
+            given(outbox.tryLeadRelay()).willReturn(true);
+            given(outbox.claimEvents(2)).willReturn(List.of(event));
+
+            // When
+            outboxRelay.relay();
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<MapRecord<String, String, String>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+            then(streamOperations).should(times(1))
+                                  .add(recordCaptor.capture(), any(XAddOptions.class));
+            assertThat(recordCaptor.getValue()
+                                   .getStream()).isEqualTo(STREAM_KEY);
+            assertThat(recordCaptor.getValue()
+                                   .getValue()).containsEntry(OutboxRelay.EVENT_ID_FIELD, "1")
+                                               .containsEntry(OutboxRelay.AGGREGATE_ID_FIELD, String.valueOf(event.aggregateId()))
+                                               .containsEntry(OutboxRelay.EVENT_TYPE_FIELD, "UserCreated")
+                                               .containsEntry(OutboxRelay.PAYLOAD_FIELD, event.payload());
+
+            then(outbox).should(times(1))
+                        .deleteEvents(List.of(event));
+            then(transactionManager).should(times(1))
+                                    .commit(any());
+            assertThat(meterRegistry.get("asapp.outbox.published")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        void DrainsBatchesBackToBack_FullBatchClaimed() {
+            // Given
+            givenPipelinedPublication();
+            given(outbox.tryLeadRelay()).willReturn(true);
+            given(outbox.claimEvents(2)).willReturn(List.of(anEvent(1), anEvent(2)), List.of(anEvent(3)));
+
+            // When
+            outboxRelay.relay();
+
+            // Then
+            then(outbox).should(times(2))
+                        .claimEvents(2);
+            assertThat(meterRegistry.get("asapp.outbox.published")
+                                    .counter()
+                                    .count()).isEqualTo(3);
+            assertThat(meterRegistry.get("asapp.outbox.batch.size")
+                                    .summary()
+                                    .count()).isEqualTo(2);
+        }
+
+        @Test
+        void KeepsEventsInOutbox_PublicationFails() {
+            // Given
+            given(outbox.tryLeadRelay()).willReturn(true);
+            given(outbox.claimEvents(2)).willReturn(List.of(anEvent(1)));
+            given(redisTemplate.executePipelined(any(SessionCallback.class))).willThrow(new RedisConnectionFailureException("Redis is unavailable"));
+
+            // When
+            outboxRelay.relay();
+
+            // Then
+            then(outbox).should(never())
+                        .deleteEvents(any());
+            then(transactionManager).should(times(1))
+                                    .rollback(any());
+            assertThat(meterRegistry.get("asapp.outbox.failures")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+            assertThat(meterRegistry.get("asapp.outbox.published")
+                                    .counter()
+                                    .count()).isZero();
+        }
+
+        @Test
+        void SkipsPoll_AnotherRelayLeads() {
+            // Given
+            given(outbox.tryLeadRelay()).willReturn(false);
+
+            // When
+            outboxRelay.relay();
+
+            // Then
+            then(outbox).should(never())
+                        .claimEvents(2);
+            then(redisTemplate).should(never())
+                               .executePipelined(any(SessionCallback.class));
+            assertThat(meterRegistry.get("asapp.outbox.failures")
+                                    .counter()
+                                    .count()).isZero();
+        }
+
+        @Test
+        void ReturnsOldestEventAge_EventsPending() {
+            // Given
+            given(outbox.tryLeadRelay()).willReturn(true);
+            given(outbox.claimEvents(2)).willReturn(List.of());
+            given(outbox.getOldestEventAgeMillis()).willReturn(1500L);
+
+            // When
+            outboxRelay.relay();
+
+            // Then
+            assertThat(meterRegistry.get("asapp.outbox.lag")
+                                    .gauge()
+                                    .value()).isEqualTo(1500);
+        }
+
+    }
+
+    @Nested
+    class CreateConsumerGroups {
+
+        @Test
+        void CreatesConsumerGroupsOnce_SeveralPolls() {
+            // Given
+            given(outbox.tryLeadRelay()).willReturn(true);
+            given(outbox.claimEvents(2)).willReturn(List.of());
+
+            // When
+            outboxRelay.relay();
+            outboxRelay.relay();
+
+            // Then
+            then(streamOperations).should(times(1))
+                                  .createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP);
+        }
+
+        @Test
+        void RelaysEvents_ConsumerGroupAlreadyExists() {
+            // Given
+            var busyGroup = new RedisSystemException("Error in execution", new IllegalStateException("BUSYGROUP Consumer Group name already exists"));
+            willThrow(busyGroup).given(streamOperations)
+                                .createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP);
+            given(outbox.tryLeadRelay()).willReturn(true);
+            given(outbox.claimEvents(2)).willReturn(List.of());
+
+            // When
+            outboxRelay.relay();
+
+            // Then
+            then(outbox).should(times(1))
+                        .claimEvents(2);
+            assertThat(meterRegistry.get("asapp.outbox.failures")
+                                    .counter()
+                                    .count()).isZero();
+        }
+
+        @Test
+        void RetriesConsumerGroupCreation_RedisUnavailable() {
+            // Given
+            var redisUnavailable = new RedisConnectionFailureException("Redis is unavailable");
+            given(streamOperations.createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP)).willThrow(redisUnavailable)
+                                                                                                   .willReturn("OK");
+            given(outbox.tryLeadRelay()).willReturn(true);
+            given(outbox.claimEvents(2)).willReturn(List.of());
+
+            // When
+            outboxRelay.relay();
+            outboxRelay.relay();
+
+            // Then
+            then(streamOperations).should(times(2))
+                                  .createGroup(STREAM_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP);
+            then(outbox).should(times(1))
+                        .claimEvents(2);
+            assertThat(meterRegistry.get("asapp.outbox.failures")
+                                    .counter()
+                                    .count()).isEqualTo(1);
+        }
+
+    }
+
+    private void givenPipelinedPublication() {
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(redisTemplate);
+            return List.of();
+        });
+    }
+
+    private static OutboxEvent anEvent(long eventId) {
+        return new OutboxEvent(eventId, "user", UUID.randomUUID(), "UserCreated", "{\"firstName\":\"FirstName\"}", Instant.parse("2026-10-18T10:00:00Z"));
+    }
+
+}
@@ -0,0 +1,145 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.security.client;
+
+import static com.attrigo.asapp.grpc.clients.GrpcMetadataKeys.AUTHORIZATION;
+import static com.attrigo.asapp.users.testutil.fixture.DecodedJwtMother.decodedAccessToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdResponse;
+import com.attrigo.asapp.grpc.clients.tasks.TaskLookupServiceGrpc;
+import com.attrigo.asapp.users.infrastructure.security.JwtAuthenticationToken;
+
+/**
+ * Tests {@link JwtGrpcInterceptor} JWT propagation to outgoing gRPC calls.
+ * <p>
+ * Setup:
+ * <li>Resets the security context and installs a mock context before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Rejects calls when authentication missing from security context</li>
+ * <li>Rejects calls when authentication is not JWT-based</li>
+ * <li>Adds authorization Bearer metadata to outgoing calls</li>
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtGrpcInterceptorTests {
+
+    private static final MethodDescriptor<GetTaskIdsByUserIdRequest, GetTaskIdsByUserIdResponse> METHOD = TaskLookupServiceGrpc.getGetTaskIdsByUserIdMethod();
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private ClientCall<GetTaskIdsByUserIdRequest, GetTaskIdsByUserIdResponse> call;
+
+    @Mock
+    private ClientCall.Listener<GetTaskIdsByUserIdResponse> listener;
+
+    @Mock
+    private SecurityContext securityContext;
+
+    private final JwtGrpcInterceptor jwtGrpcInterceptor = new JwtGrpcInterceptor();
+
+    @BeforeEach
+    void beforeEach() {
+        SecurityContextHolder.clearContext();
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    @Nested
+    class InterceptCall {
+
+        @Test
+        void StartsCallWithBearerToken_ValidAuthentication() {
+            // Given
+            var decodedJwt = decodedAccessToken();
+            var jwtAuthenticationToken = JwtAuthenticationToken.authenticated(decodedJwt);
+            var headers = new Metadata();
+
+            given(securityContext.getAuthentication()).willReturn(jwtAuthenticationToken);
+            given(channel.newCall(METHOD, CallOptions.DEFAULT)).willReturn(call);
+
+            // When
+            jwtGrpcInterceptor.interceptCall(METHOD, CallOptions.DEFAULT, channel)
+                              .start(listener, headers);
+
+            // Then
+            assertThat(headers.get(AUTHORIZATION)).isEqualTo("Bearer " + decodedJwt.encodedToken());
+
+            then(call).should(times(1))
+                      .start(listener, headers);
+        }
+
+        @Test
+        void ThrowsIllegalStateException_AuthenticationMissingInSecurityContext() {
+            // Given
+            given(securityContext.getAuthentication()).willReturn(null);
+
+            // When
+            var actual = catchThrowable(() -> jwtGrpcInterceptor.interceptCall(METHOD, CallOptions.DEFAULT, channel));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalStateException.class)
+                              .hasMessage("No authentication found in SecurityContext");
+
+            then(channel).should(times(0))
+                         .newCall(any(), any());
+        }
+
+        @Test
+        void ThrowsIllegalStateException_AuthenticationNotJwtAuthenticationToken() {
+            // Given
+            var authentication = new UsernamePasswordAuthenticationToken("username", "password");
+
+            given(securityContext.getAuthentication()).willReturn(authentication);
+
+            // When
+            var actual = catchThrowable(() -> jwtGrpcInterceptor.interceptCall(METHOD, CallOptions.DEFAULT, channel));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalStateException.class)
+                              .hasMessageContaining("Expected JwtAuthenticationToken but found");
+
+            then(channel).should(times(0))
+                         .newCall(any(), any());
+        }
+
+    }
+
+}
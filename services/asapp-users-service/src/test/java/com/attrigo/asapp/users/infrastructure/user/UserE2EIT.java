@@ -55,6 +55,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -86,9 +87,11 @@ import com.attrigo.asapp.users.testutil.TestContainerConfiguration;
  * <li>Rejects all operations without valid JWT authentication</li>
  * <li>Retrieves user by identifier returning 404 when not found, user when exists</li>
  * <li>Retrieves user with task enrichment via external gateway (partial-success degradation surfacing a task_ids_unavailable warning on failure)</li>
+ * <li>Answers conditional user reads with 304 only while both the version and the task identifiers are unchanged</li>
  * <li>Retrieves users with optional ids filter: all users when no ids supplied, filtered set when ids supplied, omitting unknown ids and deduplicating</li>
  * <li>Creates user persisting to database and returning assigned identifier</li>
  * <li>Updates existing user persisting changes and returning updated data</li>
+ * <li>Patches existing user persisting only the changed fields, without writing when nothing changes</li>
  * <li>Deletes existing user removing from database</li>
  * <li>Tests complete flow: HTTP → Security → Controller → Service → Repository → Database</li>
  * <li>Tests external service integration using MockServer for task service calls</li>
@@ -100,6 +103,8 @@ import com.attrigo.asapp.users.testutil.TestContainerConfiguration;
 @ExtendWith(OutputCaptureExtension.class)
 class UserE2EIT {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     @Container
     static final MockServerContainer mockServerContainer = new MockServerContainer(DockerImageName.parse("mockserver/mockserver:5.15.0"));
 
@@ -269,6 +274,65 @@ class UserE2EIT {
             assertThat(output.getAll()).contains("Tasks Service unavailable for user " + createdUser.id());
         }
 
+        @Test
+        void ReturnsStatusNotModifiedAndEmptyBody_IfNoneMatchCurrentUserAndTasks() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+            var taskIds = List.of(UUID.fromString("d3e4f5a6-b7c8-4d9e-0f1a-2b3c4d5e6f7a"));
+
+            mockRequestToGetTasksByUserIdWithOkResponse(userId, taskIds);
+            var eTag = getUserETag(userId);
+            mockRequestToGetTasksByUserIdWithOkResponse(userId, taskIds);
+
+            // When & Then
+            restTestClient.get()
+                          .uri(USERS_GET_BY_ID_FULL_PATH, userId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                          .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                          .exchange()
+                          .expectStatus()
+                          .isNotModified()
+                          .expectHeader()
+                          .valueEquals(HttpHeaders.ETAG, eTag)
+                          .expectBody()
+                          .isEmpty();
+        }
+
+        @Test
+        void ReturnsStatusOkAndNewETag_IfNoneMatchSameVersionButTasksChanged() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+            var taskId1 = UUID.fromString("d3e4f5a6-b7c8-4d9e-0f1a-2b3c4d5e6f7a");
+            var taskId2 = UUID.fromString("e4f5a6b7-c8d9-4e0f-1a2b-3c4d5e6f7a8b");
+
+            mockRequestToGetTasksByUserIdWithOkResponse(userId, List.of(taskId1));
+            var eTag = getUserETag(userId);
+            mockRequestToGetTasksByUserIdWithOkResponse(userId, List.of(taskId1, taskId2));
+
+            // When
+            var actual = restTestClient.get()
+                                       .uri(USERS_GET_BY_ID_FULL_PATH, userId)
+                                       .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                                       .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                                       .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                       .exchange()
+                                       .expectStatus()
+                                       .isOk()
+                                       .expectBody(String.class)
+                                       .returnResult();
+
+            // Then
+            assertThat(actual.getResponseHeaders()
+                             .getETag()).isNotNull()
+                                        .isNotEqualTo(eTag);
+            assertThatJson(actual.getResponseBody()).node("taskIds")
+                                                    .isArray()
+                                                    .containsExactly(taskId1.toString(), taskId2.toString());
+        }
+
         @Test
         void ReturnsStatusNotFoundAndEmptyBody_UserNotExists() {
             // Given
@@ -697,6 +761,57 @@ class UserE2EIT {
             });
         }
 
+        @Test
+        void ReturnsStatusOkAndNewETag_IfMatchCurrentVersion() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+            var updateUserRequest = new UpdateUserRequest("New FirstName", "New LastName", "new_user@asapp.com", "666 666 666");
+
+            // When & Then
+            restTestClient.put()
+                          .uri(USERS_UPDATE_BY_ID_FULL_PATH, userId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                          .header(HttpHeaders.IF_MATCH, "\"" + createdUser.version() + "\"")
+                          .body(updateUserRequest)
+                          .exchange()
+                          .expectStatus()
+                          .isOk()
+                          .expectHeader()
+                          .valueEquals(HttpHeaders.ETAG, "\"" + (createdUser.version() + 1) + "\"");
+        }
+
+        @Test
+        void ReturnsStatusPreconditionFailedAndProblemDetail_IfMatchStaleVersion() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+            var updateUserRequest = new UpdateUserRequest("New FirstName", "New LastName", "new_user@asapp.com", "666 666 666");
+
+            // When
+            var actual = restTestClient.put()
+                                       .uri(USERS_UPDATE_BY_ID_FULL_PATH, userId)
+                                       .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                                       .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                       .header(HttpHeaders.IF_MATCH, "\"" + (createdUser.version() + 1) + "\"")
+                                       .body(updateUserRequest)
+                                       .exchange()
+                                       .expectStatus()
+                                       .isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                                       .expectBody(String.class)
+                                       .returnResult()
+                                       .getResponseBody();
+
+            // Then
+            assertThatJson(actual).isObject()
+                                  .containsEntry("title", "Precondition Failed")
+                                  .containsEntry("status", 412);
+            assertThat(userRepository.findById(userId)).get()
+                                                       .extracting(JdbcUserEntity::firstName)
+                                                       .isEqualTo(createdUser.firstName());
+        }
+
         @Test
         void ReturnsStatusNotFoundAndEmptyBody_UserNotExists() {
             // Given
@@ -746,6 +861,130 @@ class UserE2EIT {
 
     }
 
+    @Nested
+    class PatchUserById {
+
+        @Test
+        void ReturnsStatusOkAndPatchesOnlyGivenFields_UserExists() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+            var requestBody = """
+                    {"firstName": "New FirstName", "phoneNumber": "666 666 666"}
+                    """;
+
+            // When
+            var actual = restTestClient.patch()
+                                       .uri(USERS_UPDATE_BY_ID_FULL_PATH, userId)
+                                       .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                                       .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                                       .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                                       .body(requestBody)
+                                       .exchange()
+                                       .expectStatus()
+                                       .isOk()
+                                       .expectHeader()
+                                       .valueEquals(HttpHeaders.ETAG, "\"" + (createdUser.version() + 1) + "\"")
+                                       .expectBody(String.class)
+                                       .returnResult()
+                                       .getResponseBody();
+
+            // Then
+            assertThatJson(actual).isObject()
+                                  .containsOnlyKeys("userId")
+                                  .containsEntry("userId", userId.toString());
+
+            // Assert only the patched fields have changed
+            var patchedUser = userRepository.findById(userId);
+            assertThat(patchedUser).isPresent();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(patchedUser.get().firstName()).as("firstName").isEqualTo("New FirstName");
+                softly.assertThat(patchedUser.get().lastName()).as("lastName").isEqualTo(createdUser.lastName());
+                softly.assertThat(patchedUser.get().email()).as("email").isEqualTo(createdUser.email());
+                softly.assertThat(patchedUser.get().phoneNumber()).as("phoneNumber").isEqualTo("666 666 666");
+                softly.assertThat(patchedUser.get().version()).as("version").isEqualTo(createdUser.version() + 1);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsStatusOkAndUnchangedETag_PatchRepeatsCurrentValues() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+            var requestBody = """
+                    {"email": "%s"}
+                    """.formatted(createdUser.email());
+
+            // When & Then
+            restTestClient.patch()
+                          .uri(USERS_UPDATE_BY_ID_FULL_PATH, userId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                          .body(requestBody)
+                          .exchange()
+                          .expectStatus()
+                          .isOk()
+                          .expectHeader()
+                          .valueEquals(HttpHeaders.ETAG, "\"" + createdUser.version() + "\"");
+
+            assertThat(userRepository.findById(userId)).contains(createdUser);
+        }
+
+        @Test
+        void ReturnsStatusPreconditionFailedAndProblemDetail_IfMatchStaleVersion() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+            var requestBody = """
+                    {"firstName": "New FirstName"}
+                    """;
+
+            // When
+            var actual = restTestClient.patch()
+                                       .uri(USERS_UPDATE_BY_ID_FULL_PATH, userId)
+                                       .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                                       .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                                       .header(HttpHeaders.IF_MATCH, "\"" + (createdUser.version() + 1) + "\"")
+                                       .body(requestBody)
+                                       .exchange()
+                                       .expectStatus()
+                                       .isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                                       .expectBody(String.class)
+                                       .returnResult()
+                                       .getResponseBody();
+
+            // Then
+            assertThatJson(actual).isObject()
+                                  .containsEntry("title", "Precondition Failed")
+                                  .containsEntry("status", 412);
+            assertThat(userRepository.findById(userId)).contains(createdUser);
+        }
+
+        @Test
+        void ReturnsStatusNotFoundAndEmptyBody_UserNotExists() {
+            // Given
+            var userId = UUID.fromString("a6b7c8d9-e0f1-4a2b-3c4d-5e6f7a8b9c0d");
+            var requestBody = """
+                    {"firstName": "New FirstName"}
+                    """;
+
+            // When & Then
+            restTestClient.patch()
+                          .uri(USERS_UPDATE_BY_ID_FULL_PATH, userId)
+                          .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                          .header(HttpHeaders.CONTENT_TYPE, MERGE_PATCH_JSON_VALUE)
+                          .body(requestBody)
+                          .exchange()
+                          .expectStatus()
+                          .isNotFound()
+                          .expectBody()
+                          .isEmpty();
+        }
+
+    }
+
     @Nested
     class DeleteUserById {
 
@@ -828,6 +1067,22 @@ class UserE2EIT {
         return createdUser;
     }
 
+    // Request Helpers
+
+    private String getUserETag(UUID userId) {
+        return restTestClient.get()
+                             .uri(USERS_GET_BY_ID_FULL_PATH, userId)
+                             .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                             .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                             .exchange()
+                             .expectStatus()
+                             .isOk()
+                             .expectBody(String.class)
+                             .returnResult()
+                             .getResponseHeaders()
+                             .getETag();
+    }
+
     // Mock Helpers
 
     private void mockRequestToGetTasksByUserIdWithOkResponse(UUID userId, List<UUID> taskIds) {
@@ -21,6 +21,7 @@ import static com.attrigo.asapp.url.users.UserApiUrl.USERS_DELETE_BY_ID_FULL_PAT
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_BY_ID_FULL_PATH;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_FULL_PATH;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_IDS_PARAM;
+import static com.attrigo.asapp.url.users.UserApiUrl.USERS_TASKS_PARAM;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_UPDATE_BY_ID_FULL_PATH;
 import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUser;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,9 +31,11 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -46,6 +49,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Nested;
@@ -56,15 +60,21 @@ import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import com.attrigo.asapp.users.application.user.in.command.CreateUserCommand;
+import com.attrigo.asapp.users.application.user.in.command.PatchUserCommand;
 import com.attrigo.asapp.users.application.user.in.command.UpdateUserCommand;
+import com.attrigo.asapp.users.application.user.in.result.UserWithTaskStatsResult;
 import com.attrigo.asapp.users.application.user.in.result.UserWithTasksResult;
+import com.attrigo.asapp.users.application.user.out.TaskStats;
 import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserField;
 import com.attrigo.asapp.users.infrastructure.user.in.request.CreateUserRequest;
+import com.attrigo.asapp.users.infrastructure.user.in.request.PatchUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.request.UpdateUserRequest;
 import com.attrigo.asapp.users.infrastructure.user.in.response.CreateUserResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.GetUserByIdResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.GetUsersResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.UpdateUserResponse;
+import com.attrigo.asapp.users.infrastructure.user.in.response.UserTaskStatsResponse;
 import com.attrigo.asapp.users.testutil.RestDocsConstrainedFields;
 import com.attrigo.asapp.users.testutil.RestDocsWebMvcTestContext;
 
@@ -102,7 +112,7 @@ class UserApiDocumentationIT extends RestDocsWebMvcTestContext {
                                        .value();
             var taskIds = List.of(UUID.randomUUID(), UUID.randomUUID());
             var userWithTasksResult = UserWithTasksResult.available(user, List.of());
-            var response = new GetUserByIdResponse(userIdValue, firstNameValue, lastNameValue, emailValue, phoneNumberValue, taskIds, List.of());
+            var response = new GetUserByIdResponse(userIdValue, firstNameValue, lastNameValue, emailValue, phoneNumberValue, taskIds, null, List.of());
 
             given(readUserUseCase.getUserById(any(UUID.class))).willReturn(Optional.of(userWithTasksResult));
             given(userMapper.toGetUserByIdResponse(any(UserWithTasksResult.class))).willReturn(response);
@@ -128,6 +138,56 @@ class UserApiDocumentationIT extends RestDocsWebMvcTestContext {
                                            fieldWithPath("warnings[].field").description("The response field affected by the degradation").type(JsonFieldType.STRING).optional(),
                                            fieldWithPath("warnings[].message").description("Human-readable description of the degradation").type(JsonFieldType.STRING).optional(),
                                            fieldWithPath("warnings[].retryable").description("Whether the client may retry the request to obtain complete data").type(JsonFieldType.BOOLEAN).optional()
+                                   ),
+                                   responseHeaders(headerWithName("ETag").description("The user's version and a digest of its task identifiers, usable in If-None-Match and If-Match headers; omitted when tasks-service is unavailable"))
+                           )
+                   // @formatter:on
+                   );
+        }
+
+        @Test
+        void DocumentsGetUserByIdWithTaskStats_UserFound() throws Exception {
+            // Given
+            var user = aUser();
+            var userIdValue = user.getId()
+                                  .value();
+            var firstNameValue = user.getFirstName()
+                                     .value();
+            var lastNameValue = user.getLastName()
+                                    .value();
+            var emailValue = user.getEmail()
+                                 .value();
+            var phoneNumberValue = user.getPhoneNumber()
+                                       .value();
+            var userWithTaskStatsResult = UserWithTaskStatsResult.available(user, new TaskStats(12, 9, 2));
+            var taskStats = new UserTaskStatsResponse(12, 9, 2);
+            var response = new GetUserByIdResponse(userIdValue, firstNameValue, lastNameValue, emailValue, phoneNumberValue, null, taskStats, List.of());
+
+            given(readUserUseCase.getUserWithTaskStatsById(any(UUID.class))).willReturn(Optional.of(userWithTaskStatsResult));
+            given(userMapper.toGetUserByIdResponse(any(UserWithTaskStatsResult.class))).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(get(USERS_GET_BY_ID_FULL_PATH, userIdValue).param(USERS_TASKS_PARAM, "stats")
+                                                                       .accept(APPLICATION_JSON)
+                                                                       .header(AUTHORIZATION, "Bearer sample.access.token"))
+                   .andExpect(status().isOk())
+                   .andDo(
+                   // @formatter:off
+                           document("get-user-by-id-with-task-stats",
+                                   requestHeaders(headerWithName("Authorization").description("Bearer JWT access token")),
+                                   pathParameters(parameterWithName("id").description("The user's unique identifier")),
+                                   queryParameters(parameterWithName("tasks").description("How the user's tasks are embedded: `ids` (default) or `stats`")),
+                                   responseFields(
+                                           fieldWithPath("userId").description("The user's unique identifier"),
+                                           fieldWithPath("firstName").description("The user's first name"),
+                                           fieldWithPath("lastName").description("The user's last name"),
+                                           fieldWithPath("email").description("The user's email address"),
+                                           fieldWithPath("phoneNumber").description("The user's phone number"),
+                                           fieldWithPath("taskStats").description("The user's task statistics; omitted when tasks-service is unavailable").type(JsonFieldType.OBJECT).optional(),
+                                           fieldWithPath("taskStats.totalTasks").description("The number of tasks the user owns").type(JsonFieldType.NUMBER).optional(),
+                                           fieldWithPath("taskStats.scheduledTasks").description("The number of the user's tasks with a start date").type(JsonFieldType.NUMBER).optional(),
+                                           fieldWithPath("taskStats.overdueTasks").description("The number of the user's scheduled tasks whose schedule has already ended").type(JsonFieldType.NUMBER).optional(),
+                                           fieldWithPath("warnings").description("Structured degradation warnings; omitted when none").type(JsonFieldType.ARRAY).optional()
                                    )
                            )
                    // @formatter:on
@@ -155,8 +215,7 @@ class UserApiDocumentationIT extends RestDocsWebMvcTestContext {
                                        .value();
             var response = new GetUsersResponse(userIdValue, firstNameValue, lastNameValue, emailValue, phoneNumberValue);
 
-            given(readUserUseCase.getUsersByIds(anyList())).willReturn(List.of(user));
-            given(userMapper.toGetUsersResponse(any(User.class))).willReturn(response);
+            given(userQueryHandler.getUsersByIds(anyList())).willReturn(List.of(response));
 
             // When & Then
             mockMvc.perform(get(USERS_GET_FULL_PATH).param(USERS_IDS_PARAM, userIdValue.toString())
@@ -195,8 +254,7 @@ class UserApiDocumentationIT extends RestDocsWebMvcTestContext {
                                        .value();
             var response = new GetUsersResponse(userIdValue, firstNameValue, lastNameValue, emailValue, phoneNumberValue);
 
-            given(readUserUseCase.getAllUsers()).willReturn(List.of(user));
-            given(userMapper.toGetUsersResponse(any(User.class))).willReturn(response);
+            given(userQueryHandler.getAllUsers()).willReturn(List.of(response));
 
             // When & Then
             mockMvc.perform(get(USERS_GET_FULL_PATH).accept(APPLICATION_JSON)
@@ -299,10 +357,10 @@ class UserApiDocumentationIT extends RestDocsWebMvcTestContext {
                         "phoneNumber": "%s"
                     }
                     """.formatted(firstNameValue, lastNameValue, emailValue, phoneNumberValue);
-            var updateUserCommand = new UpdateUserCommand(userIdValue, firstNameValue, lastNameValue, emailValue, phoneNumberValue);
+            var updateUserCommand = new UpdateUserCommand(userIdValue, firstNameValue, lastNameValue, emailValue, phoneNumberValue, null);
             var response = new UpdateUserResponse(userIdValue);
 
-            given(userMapper.toUpdateUserCommand(any(UUID.class), any(UpdateUserRequest.class))).willReturn(updateUserCommand);
+            given(userMapper.toUpdateUserCommand(any(UUID.class), any(), any(UpdateUserRequest.class))).willReturn(updateUserCommand);
             given(updateUserUseCase.updateUserById(any(UpdateUserCommand.class))).willReturn(Optional.of(user));
             given(userMapper.toUpdateUserResponse(any(User.class))).willReturn(response);
 
@@ -322,7 +380,57 @@ class UserApiDocumentationIT extends RestDocsWebMvcTestContext {
                                            fields.withPath("email").description("The user's email address"),
                                            fields.withPath("phoneNumber").description("The user's phone number")
                                    ),
-                                   responseFields(fieldWithPath("userId").description("The updated user's unique identifier"))
+                                   responseFields(fieldWithPath("userId").description("The updated user's unique identifier")),
+                                   responseHeaders(headerWithName("ETag").description("The updated user's version"))
+                           )
+                   // @formatter:on
+                   );
+        }
+
+    }
+
+    @Nested
+    class PatchUserById {
+
+        @Test
+        void DocumentsPatchUserById_UserFound() throws Exception {
+            // Given
+            var fields = new RestDocsConstrainedFields(PatchUserRequest.class);
+            var user = aUser();
+            var userIdValue = user.getId()
+                                  .value();
+            var emailValue = user.getEmail()
+                                 .value();
+            var requestBody = """
+                    {
+                        "email": "%s"
+                    }
+                    """.formatted(emailValue);
+            var patchUserCommand = new PatchUserCommand(userIdValue, Set.of(UserField.EMAIL), null, null, emailValue, null, null);
+            var response = new UpdateUserResponse(userIdValue);
+
+            given(userMapper.toPatchUserCommand(any(UUID.class), any(), any(PatchUserRequest.class))).willReturn(patchUserCommand);
+            given(patchUserUseCase.patchUserById(any(PatchUserCommand.class))).willReturn(Optional.of(user));
+            given(userMapper.toUpdateUserResponse(any(User.class))).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(patch(USERS_UPDATE_BY_ID_FULL_PATH, userIdValue).contentType("application/merge-patch+json")
+                                                                            .content(requestBody)
+                                                                            .header(AUTHORIZATION, "Bearer sample.access.token"))
+                   .andExpect(status().isOk())
+                   .andDo(
+                   // @formatter:off
+                           document("patch-user-by-id",
+                                   requestHeaders(headerWithName("Authorization").description("Bearer JWT access token")),
+                                   pathParameters(parameterWithName("id").description("The user's unique identifier")),
+                                   requestFields(
+                                           fields.withPath("firstName").type(JsonFieldType.STRING).description("The user's new first name").optional(),
+                                           fields.withPath("lastName").type(JsonFieldType.STRING).description("The user's new last name").optional(),
+                                           fields.withPath("email").type(JsonFieldType.STRING).description("The user's new email address").optional(),
+                                           fields.withPath("phoneNumber").type(JsonFieldType.STRING).description("The user's new phone number").optional()
+                                   ),
+                                   responseFields(fieldWithPath("userId").description("The patched user's unique identifier")),
+                                   responseHeaders(headerWithName("ETag").description("The patched user's version"))
                            )
                    // @formatter:on
                    );
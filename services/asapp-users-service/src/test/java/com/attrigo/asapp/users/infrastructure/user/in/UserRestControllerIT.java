@@ -22,11 +22,13 @@ import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_BY_ID_FULL_PATH;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_GET_FULL_PATH;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_IDS_PARAM;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_ROOT_PATH;
+import static com.attrigo.asapp.url.users.UserApiUrl.USERS_TASKS_PARAM;
 import static com.attrigo.asapp.url.users.UserApiUrl.USERS_UPDATE_BY_ID_FULL_PATH;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 
@@ -49,17 +51,19 @@ import com.attrigo.asapp.users.testutil.WebMvcTestContext;
  * <p>
  * Coverage:
  * <li>Validates path parameter format (UUID required for user IDs)</li>
- * <li>Validates request parameter constraints (ids non-empty, ids size cap, ids malformed UUID)</li>
- * <li>Validates request content type (JSON required for POST/PUT operations)</li>
+ * <li>Validates request parameter constraints (ids non-empty, ids size cap, ids malformed UUID, tasks embedding mode)</li>
+ * <li>Validates request content type (JSON required for POST/PUT operations, JSON Merge Patch for PATCH)</li>
  * <li>Validates request body presence and structure</li>
- * <li>Validates mandatory field constraints (first name, last name, email, phone number)</li>
+ * <li>Validates mandatory field constraints (first name, last name, email, phone number), including their removal through a merge patch</li>
  * <li>Validates email format and phone number format patterns</li>
  * <li>Returns RFC 7807 Problem Details for all validation failures</li>
- * <li>Tests all HTTP endpoints (GET by ID, GET by IDs, POST, PUT, DELETE)</li>
+ * <li>Tests all HTTP endpoints (GET by ID, GET by IDs, POST, PUT, PATCH, DELETE)</li>
  */
 @WithMockUser
 class UserRestControllerIT extends WebMvcTestContext {
 
+    private static final MediaType MERGE_PATCH_JSON = MediaType.valueOf("application/merge-patch+json");
+
     @Nested
     class GetUserById {
 
@@ -104,6 +108,36 @@ class UserRestControllerIT extends WebMvcTestContext {
                                                                      .containsEntry("instance", "/api/users/1"));
         }
 
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidTasksEmbedding() {
+            // Given
+            var userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            var requestBuilder = get(USERS_GET_BY_ID_FULL_PATH, userId).param(USERS_TASKS_PARAM, "all");
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/users/" + userId);
+                                  assertThatJson(json).node("fieldErrors")
+                                                      .isArray()
+                                                      .hasSize(1);
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "tasks")
+                                                      .containsEntry("message", "Tasks embedding must be either ids or stats");
+                              });
+        }
+
     }
 
     @Nested
@@ -712,6 +746,211 @@ class UserRestControllerIT extends WebMvcTestContext {
 
     }
 
+    @Nested
+    class PatchUserById {
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidUserId() {
+            // Given
+            var userId = 1L;
+            var requestBody = """
+                    {
+                    "firstName": "New FirstName"
+                    }
+                    """;
+            var requestBuilder = patch(USERS_UPDATE_BY_ID_FULL_PATH, userId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("detail", "Failed to convert 'id' with value: '1'")
+                                                                     .containsEntry("instance", "/api/users/1"));
+        }
+
+        @Test
+        void ReturnsStatusUnsupportedMediaTypeAndBodyWithProblemDetail_NonMergePatchRequestBody() {
+            // Given
+            var userId = UUID.fromString("82bb9f78-4851-4f5b-a252-412995b26864");
+            var requestBody = """
+                    {
+                    "firstName": "New FirstName"
+                    }
+                    """;
+            var requestBuilder = patch(USERS_UPDATE_BY_ID_FULL_PATH, userId).contentType(MediaType.APPLICATION_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Unsupported Media Type")
+                                                                     .containsEntry("status", 415)
+                                                                     .containsEntry("detail", "Content-Type 'application/json' is not supported.")
+                                                                     .containsEntry("instance", "/api/users/" + userId));
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_MissingRequestBody() {
+            // Given
+            var userId = UUID.fromString("82bb9f78-4851-4f5b-a252-412995b26864");
+            var requestBody = "";
+            var requestBuilder = patch(USERS_UPDATE_BY_ID_FULL_PATH, userId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> assertThatJson(json).isObject()
+                                                                     .containsEntry("title", "Bad Request")
+                                                                     .containsEntry("status", 400)
+                                                                     .containsEntry("detail", "Failed to read request")
+                                                                     .containsEntry("instance", "/api/users/" + userId));
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_NullMandatoryFields() {
+            // Given
+            var userId = UUID.fromString("82bb9f78-4851-4f5b-a252-412995b26864");
+            var requestBody = """
+                    {
+                    "firstName": null,
+                    "lastName": null,
+                    "email": null,
+                    "phoneNumber": null
+                    }
+                    """;
+            var requestBuilder = patch(USERS_UPDATE_BY_ID_FULL_PATH, userId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/users/" + userId);
+                                  assertThatJson(json).node("fieldErrors")
+                                                      .isArray()
+                                                      .hasSize(4);
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "email")
+                                                      .containsEntry("message", "The email must not be empty");
+                                  assertThatJson(json).node("fieldErrors[1]")
+                                                      .isObject()
+                                                      .containsEntry("field", "firstName")
+                                                      .containsEntry("message", "The first name must not be empty");
+                                  assertThatJson(json).node("fieldErrors[2]")
+                                                      .isObject()
+                                                      .containsEntry("field", "lastName")
+                                                      .containsEntry("message", "The last name must not be empty");
+                                  assertThatJson(json).node("fieldErrors[3]")
+                                                      .isObject()
+                                                      .containsEntry("field", "phoneNumber")
+                                                      .containsEntry("message", "The phone number must not be empty");
+                              });
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidEmailField() {
+            // Given
+            var userId = UUID.fromString("82bb9f78-4851-4f5b-a252-412995b26864");
+            var requestBody = """
+                    {
+                    "email": "invalid_email"
+                    }
+                    """;
+            var requestBuilder = patch(USERS_UPDATE_BY_ID_FULL_PATH, userId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/users/" + userId);
+                                  assertThatJson(json).node("fieldErrors")
+                                                      .isArray()
+                                                      .hasSize(1);
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "email")
+                                                      .containsEntry("message", "The email must be a valid email address");
+                              });
+        }
+
+        @Test
+        void ReturnsStatusBadRequestAndBodyWithProblemDetail_InvalidPhoneNumberField() {
+            // Given
+            var userId = UUID.fromString("82bb9f78-4851-4f5b-a252-412995b26864");
+            var requestBody = """
+                    {
+                    "phoneNumber": "invalid_phone_number"
+                    }
+                    """;
+            var requestBuilder = patch(USERS_UPDATE_BY_ID_FULL_PATH, userId).contentType(MERGE_PATCH_JSON)
+                                                                            .content(requestBody);
+
+            // When
+            var actual = mockMvcTester.perform(requestBuilder);
+
+            // Then
+            assertThat(actual).hasStatus(HttpStatus.BAD_REQUEST)
+                              .hasContentType(MediaType.APPLICATION_PROBLEM_JSON)
+                              .bodyJson()
+                              .convertTo(String.class)
+                              .satisfies(json -> {
+                                  assertThatJson(json).isObject()
+                                                      .containsEntry("title", "Bad Request")
+                                                      .containsEntry("status", 400)
+                                                      .containsEntry("detail", "Request validation failed")
+                                                      .containsEntry("instance", "/api/users/" + userId);
+                                  assertThatJson(json).node("fieldErrors")
+                                                      .isArray()
+                                                      .hasSize(1);
+                                  assertThatJson(json).node("fieldErrors[0]")
+                                                      .isObject()
+                                                      .containsEntry("field", "phoneNumber")
+                                                      .containsEntry("message", "The phone number must be a valid phone number");
+                              });
+        }
+
+    }
+
     @Nested
     class DeleteUserById {
 
@@ -17,13 +17,18 @@
 package com.attrigo.asapp.users.infrastructure.user.in;
 
 import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUser;
+import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUserBuilder;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.any;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -31,16 +36,37 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
+import com.attrigo.asapp.users.application.user.in.PatchUserUseCase;
 import com.attrigo.asapp.users.application.user.in.ReadUserUseCase;
+import com.attrigo.asapp.users.application.user.in.UpdateUserUseCase;
+import com.attrigo.asapp.users.application.user.in.command.PatchUserCommand;
+import com.attrigo.asapp.users.application.user.in.command.UpdateUserCommand;
+import com.attrigo.asapp.users.application.user.in.result.UserWithTaskStatsResult;
+import com.attrigo.asapp.users.application.user.in.result.UserWithTasksResult;
+import com.attrigo.asapp.users.application.user.out.TaskStats;
 import com.attrigo.asapp.users.domain.user.User;
+import com.attrigo.asapp.users.domain.user.UserField;
+import com.attrigo.asapp.users.infrastructure.user.in.request.PatchUserRequest;
+import com.attrigo.asapp.users.infrastructure.user.in.request.UpdateUserRequest;
+import com.attrigo.asapp.users.infrastructure.user.in.response.GetUserByIdResponse;
 import com.attrigo.asapp.users.infrastructure.user.in.response.GetUsersResponse;
+import com.attrigo.asapp.users.infrastructure.user.in.response.UpdateUserResponse;
 import com.attrigo.asapp.users.infrastructure.user.mapper.UserMapper;
+import com.attrigo.asapp.users.infrastructure.user.query.UserQueryHandler;
 
 /**
- * Tests {@link UserRestController} request dispatch between retrieving all users and retrieving users by identifiers.
+ * Tests {@link UserRestController} request dispatch and conditional request handling.
  * <p>
  * Coverage:
+ * <li>Answers a {@code If-None-Match} matching both the version and the task references with 304, without mapping a body</li>
+ * <li>Returns the user with a new {@code ETag} when the version or the task references changed and the tasks service is available</li>
+ * <li>Leaves degraded responses untagged and never answers them with 304 when the tasks service is unavailable</li>
+ * <li>Embeds task statistics instead of task references on request, untagged and without conditional handling</li>
+ * <li>Passes the {@code If-Match} version to the update command and returns the new version as {@code ETag}</li>
+ * <li>Passes the {@code If-Match} version to the patch command and returns the new version as {@code ETag}, or 404 when the user does not exist</li>
  * <li>Retrieves all users when no identifiers are supplied</li>
  * <li>Retrieves only the requested users when identifiers are supplied</li>
  * <li>Skips the unused retrieval path on each branch</li>
@@ -51,12 +77,267 @@ class UserRestControllerTests {
     @Mock
     private ReadUserUseCase readUserUseCase;
 
+    @Mock
+    private UserQueryHandler userQueryHandler;
+
+    @Mock
+    private UpdateUserUseCase updateUserUseCase;
+
+    @Mock
+    private PatchUserUseCase patchUserUseCase;
+
     @Mock
     private UserMapper userMapper;
 
     @InjectMocks
     private UserRestController userRestController;
 
+    @Nested
+    class GetUserById {
+
+        @Test
+        void ReturnsStatusNotModified_IfNoneMatchCurrentUserAndTasks() {
+            // Given
+            var user = aUserBuilder().withVersion(3L)
+                                     .build();
+            var userId = user.getId()
+                             .value();
+            var taskIds = List.of(UUID.fromString("b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e"));
+            var result = UserWithTasksResult.available(user, taskIds);
+            var eTag = VersionETags.of(3L, taskIds);
+
+            given(readUserUseCase.getUserById(userId)).willReturn(Optional.of(result));
+
+            // When
+            var actual = userRestController.getUserById(userId, "ids", eTag);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.NOT_MODIFIED);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isEqualTo(eTag);
+                softly.assertThat(actual.getBody()).as("body").isNull();
+                // @formatter:on
+            });
+
+            then(userMapper).should(never())
+                            .toGetUserByIdResponse(any(UserWithTasksResult.class));
+        }
+
+        @Test
+        void ReturnsUserWithNewETag_IfNoneMatchSameVersionButTasksChanged() {
+            // Given
+            var user = aUserBuilder().withVersion(3L)
+                                     .build();
+            var userId = user.getId()
+                             .value();
+            var taskId = UUID.fromString("b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e");
+            var newTaskId = UUID.fromString("c3d4e5f6-a7b8-4c9d-8e1f-2a3b4c5d6e7f");
+            var result = UserWithTasksResult.available(user, List.of(taskId, newTaskId));
+            var response = buildGetUserByIdResponse(user);
+
+            given(readUserUseCase.getUserById(userId)).willReturn(Optional.of(result));
+            given(userMapper.toGetUserByIdResponse(result)).willReturn(response);
+
+            // When
+            var actual = userRestController.getUserById(userId, "ids", VersionETags.of(3L, List.of(taskId)));
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isEqualTo(VersionETags.of(3L, List.of(taskId, newTaskId)));
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsUserWithETag_IfNoneMatchStaleVersionAndTasksServiceAvailable() {
+            // Given
+            var user = aUserBuilder().withVersion(4L)
+                                     .build();
+            var userId = user.getId()
+                             .value();
+            var result = UserWithTasksResult.available(user, List.of());
+            var response = buildGetUserByIdResponse(user);
+
+            given(readUserUseCase.getUserById(userId)).willReturn(Optional.of(result));
+            given(userMapper.toGetUserByIdResponse(result)).willReturn(response);
+
+            // When
+            var actual = userRestController.getUserById(userId, "ids", VersionETags.of(3L, List.of()));
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isEqualTo(VersionETags.of(4L, List.of()));
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsUserWithoutETag_TasksServiceUnavailable() {
+            // Given
+            var user = aUser();
+            var userId = user.getId()
+                             .value();
+            var result = UserWithTasksResult.unavailable(user);
+            var response = buildGetUserByIdResponse(user);
+
+            given(readUserUseCase.getUserById(userId)).willReturn(Optional.of(result));
+            given(userMapper.toGetUserByIdResponse(result)).willReturn(response);
+
+            // When
+            var actual = userRestController.getUserById(userId, "ids", "*");
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isNull();
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsUserWithTaskStatsWithoutETag_TaskStatsRequested() {
+            // Given
+            var user = aUserBuilder().withVersion(4L)
+                                     .build();
+            var userId = user.getId()
+                             .value();
+            var result = UserWithTaskStatsResult.available(user, new TaskStats(12, 9, 2));
+            var response = buildGetUserByIdResponse(user);
+
+            given(readUserUseCase.getUserWithTaskStatsById(userId)).willReturn(Optional.of(result));
+            given(userMapper.toGetUserByIdResponse(result)).willReturn(response);
+
+            // When
+            var actual = userRestController.getUserById(userId, "stats", "\"4\"");
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getETag()).as("ETag").isNull();
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+
+            then(readUserUseCase).should(never())
+                                 .getUserById(any());
+        }
+
+        @Test
+        void ReturnsStatusNotFound_TaskStatsRequestedAndUserNotExists() {
+            // Given
+            var userId = aUser().getId()
+                                .value();
+
+            given(readUserUseCase.getUserWithTaskStatsById(userId)).willReturn(Optional.empty());
+
+            // When
+            var actual = userRestController.getUserById(userId, "stats", null);
+
+            // Then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+
+    }
+
+    @Nested
+    class UpdateUserById {
+
+        @Test
+        void PassesIfMatchVersionAndReturnsNewETag_IfMatchPresent() {
+            // Given
+            var user = aUserBuilder().withVersion(4L)
+                                     .build();
+            var userId = user.getId()
+                             .value();
+            var request = new UpdateUserRequest("FirstName", "LastName", "user@asapp.com", "555 555 555");
+            var command = new UpdateUserCommand(userId, "FirstName", "LastName", "user@asapp.com", "555 555 555", 3L);
+            var response = new UpdateUserResponse(userId);
+
+            given(userMapper.toUpdateUserCommand(userId, 3L, request)).willReturn(command);
+            given(updateUserUseCase.updateUserById(command)).willReturn(Optional.of(user));
+            given(userMapper.toUpdateUserResponse(user)).willReturn(response);
+
+            // When
+            var actual = userRestController.updateUserById(userId, "\"3\"", request);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getFirst(HttpHeaders.ETAG)).as("ETag").isEqualTo("\"4\"");
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+    }
+
+    @Nested
+    class PatchUserById {
+
+        @Test
+        void PassesIfMatchVersionAndReturnsNewETag_IfMatchPresent() {
+            // Given
+            var user = aUserBuilder().withVersion(4L)
+                                     .build();
+            var userId = user.getId()
+                             .value();
+            var request = new PatchUserRequest(Optional.of("FirstName"), null, null, Optional.of("555 555 555"));
+            var command = new PatchUserCommand(userId, Set.of(UserField.FIRST_NAME, UserField.PHONE_NUMBER), "FirstName", null, null, "555 555 555", 3L);
+            var response = new UpdateUserResponse(userId);
+
+            given(userMapper.toPatchUserCommand(userId, 3L, request)).willReturn(command);
+            given(patchUserUseCase.patchUserById(command)).willReturn(Optional.of(user));
+            given(userMapper.toUpdateUserResponse(user)).willReturn(response);
+
+            // When
+            var actual = userRestController.patchUserById(userId, "\"3\"", request);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.OK);
+                softly.assertThat(actual.getHeaders().getFirst(HttpHeaders.ETAG)).as("ETag").isEqualTo("\"4\"");
+                softly.assertThat(actual.getBody()).as("body").isEqualTo(response);
+                // @formatter:on
+            });
+        }
+
+        @Test
+        void ReturnsStatusNotFound_UserNotExists() {
+            // Given
+            var userId = aUser().getId()
+                                .value();
+            var request = new PatchUserRequest(Optional.of("FirstName"), null, null, null);
+            var command = new PatchUserCommand(userId, Set.of(UserField.FIRST_NAME), "FirstName", null, null, null, null);
+
+            given(userMapper.toPatchUserCommand(userId, null, request)).willReturn(command);
+            given(patchUserUseCase.patchUserById(command)).willReturn(Optional.empty());
+
+            // When
+            var actual = userRestController.patchUserById(userId, null, request);
+
+            // Then
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.getStatusCode()).as("status").isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(actual.getBody()).as("body").isNull();
+                // @formatter:on
+            });
+        }
+
+    }
+
     @Nested
     class GetUsers {
 
@@ -66,8 +347,7 @@ class UserRestControllerTests {
             var user = aUser();
             var response = buildGetUsersResponse(user);
 
-            given(readUserUseCase.getAllUsers()).willReturn(List.of(user));
-            given(userMapper.toGetUsersResponse(user)).willReturn(response);
+            given(userQueryHandler.getAllUsers()).willReturn(List.of(response));
 
             // When
             var actual = userRestController.getUsers(null);
@@ -75,10 +355,10 @@ class UserRestControllerTests {
             // Then
             assertThat(actual).containsExactly(response);
 
-            then(readUserUseCase).should()
-                                 .getAllUsers();
-            then(readUserUseCase).should(never())
-                                 .getUsersByIds(any());
+            then(userQueryHandler).should()
+                                  .getAllUsers();
+            then(userQueryHandler).should(never())
+                                  .getUsersByIds(any());
         }
 
         @Test
@@ -89,8 +369,7 @@ class UserRestControllerTests {
                                       .value());
             var response = buildGetUsersResponse(user);
 
-            given(readUserUseCase.getUsersByIds(userIds)).willReturn(List.of(user));
-            given(userMapper.toGetUsersResponse(user)).willReturn(response);
+            given(userQueryHandler.getUsersByIds(userIds)).willReturn(List.of(response));
 
             // When
             var actual = userRestController.getUsers(userIds);
@@ -98,14 +377,23 @@ class UserRestControllerTests {
             // Then
             assertThat(actual).containsExactly(response);
 
-            then(readUserUseCase).should()
-                                 .getUsersByIds(userIds);
-            then(readUserUseCase).should(never())
-                                 .getAllUsers();
+            then(userQueryHandler).should()
+                                  .getUsersByIds(userIds);
+            then(userQueryHandler).should(never())
+                                  .getAllUsers();
         }
 
     }
 
+    private static GetUserByIdResponse buildGetUserByIdResponse(User user) {
+        var id = user.getId();
+        var firstName = user.getFirstName();
+        var lastName = user.getLastName();
+        var email = user.getEmail();
+        var phoneNumber = user.getPhoneNumber();
+        return new GetUserByIdResponse(id.value(), firstName.value(), lastName.value(), email.value(), phoneNumber.value(), List.of(), null, List.of());
+    }
+
     private static GetUsersResponse buildGetUsersResponse(User user) {
         var id = user.getId();
         var firstName = user.getFirstName();
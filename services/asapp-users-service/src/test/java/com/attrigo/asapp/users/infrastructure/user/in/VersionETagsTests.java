@@ -0,0 +1,174 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.in;
+
+import static com.attrigo.asapp.users.infrastructure.user.in.VersionETags.UNMATCHABLE_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link VersionETags} translation between row versions and entity tags.
+ * <p>
+ * Coverage:
+ * <li>Formats a version as a quoted strong entity tag</li>
+ * <li>Formats a version and task ids as a quoted strong entity tag that changes with the task ids</li>
+ * <li>Matches {@code If-None-Match} by weak comparison, including wildcards and tag lists</li>
+ * <li>Extracts the expected version from a single strong {@code If-Match} tag, with or without a task ids digest</li>
+ * <li>Treats an absent or wildcard {@code If-Match} as unconditional</li>
+ * <li>Maps {@code If-Match} tags that can never match a version to an unmatchable version</li>
+ */
+class VersionETagsTests {
+
+    private static final UUID TASK_ID = UUID.fromString("b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e");
+
+    private static final UUID OTHER_TASK_ID = UUID.fromString("c3d4e5f6-a7b8-4c9d-8e1f-2a3b4c5d6e7f");
+
+    @Nested
+    class Of {
+
+        @Test
+        void ReturnsQuotedStrongTag_Version() {
+            // When
+            var actual = VersionETags.of(7L);
+
+            // Then
+            assertThat(actual).isEqualTo("\"7\"");
+        }
+
+        @Test
+        void ReturnsQuotedStrongTagWithDigest_VersionAndTaskIds() {
+            // When
+            var actual = VersionETags.of(7L, List.of(TASK_ID));
+
+            // Then
+            assertThat(actual).matches("\"7-[0-9a-f]{16}\"");
+        }
+
+        @Test
+        void ReturnsSameTag_SameVersionAndTaskIds() {
+            // When
+            var actual = VersionETags.of(7L, List.of(TASK_ID, OTHER_TASK_ID));
+
+            // Then
+            assertThat(actual).isEqualTo(VersionETags.of(7L, List.of(TASK_ID, OTHER_TASK_ID)));
+        }
+
+        @Test
+        void ReturnsDifferentTag_TaskIdsChanged() {
+            // When
+            var actual = VersionETags.of(7L, List.of(TASK_ID, OTHER_TASK_ID));
+
+            // Then
+            assertThat(actual).isNotEqualTo(VersionETags.of(7L, List.of(TASK_ID)))
+                              .isNotEqualTo(VersionETags.of(7L, List.of()));
+        }
+
+    }
+
+    @Nested
+    class Matches {
+
+        @ParameterizedTest
+        @ValueSource(strings = { "\"7\"", "W/\"7\"", "*", "\"6\", \"7\"" })
+        void ReturnsTrue_HeaderMatchesTag(String ifNoneMatch) {
+            // When
+            var actual = VersionETags.matches(ifNoneMatch, "\"7\"");
+
+            // Then
+            assertThat(actual).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "\"6\"", "W/\"6\"", "\"abc\"" })
+        void ReturnsFalse_HeaderDoesNotMatchTag(String ifNoneMatch) {
+            // When
+            var actual = VersionETags.matches(ifNoneMatch, "\"7\"");
+
+            // Then
+            assertThat(actual).isFalse();
+        }
+
+        @Test
+        void ReturnsFalse_NullHeader() {
+            // When
+            var actual = VersionETags.matches(null, "\"7\"");
+
+            // Then
+            assertThat(actual).isFalse();
+        }
+
+    }
+
+    @Nested
+    class ExpectedVersion {
+
+        @Test
+        void ReturnsVersion_SingleStrongNumericTag() {
+            // When
+            var actual = VersionETags.expectedVersion("\"7\"");
+
+            // Then
+            assertThat(actual).isEqualTo(7L);
+        }
+
+        @Test
+        void ReturnsVersion_SingleStrongTagWithTaskIdsDigest() {
+            // When
+            var actual = VersionETags.expectedVersion(VersionETags.of(7L, List.of(TASK_ID)));
+
+            // Then
+            assertThat(actual).isEqualTo(7L);
+        }
+
+        @Test
+        void ReturnsNull_NullHeader() {
+            // When
+            var actual = VersionETags.expectedVersion(null);
+
+            // Then
+            assertThat(actual).isNull();
+        }
+
+        @Test
+        void ReturnsNull_WildcardHeader() {
+            // When
+            var actual = VersionETags.expectedVersion("*");
+
+            // Then
+            assertThat(actual).isNull();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "W/\"7\"", "\"abc\"", "\"-1\"", "\"6\", \"7\"" })
+        void ReturnsUnmatchableVersion_TagCanNeverMatch(String ifMatch) {
+            // When
+            var actual = VersionETags.expectedVersion(ifMatch);
+
+            // Then
+            assertThat(actual).isEqualTo(UNMATCHABLE_VERSION);
+        }
+
+    }
+
+}
@@ -19,6 +19,9 @@ package com.attrigo.asapp.users.infrastructure.user.out;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.ThrowableAssert.catchThrowable;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import java.util.List;
 import java.util.UUID;
@@ -29,20 +32,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.web.client.RestClientException;
 
 import com.attrigo.asapp.http.clients.tasks.TasksHttpClient;
+import com.attrigo.asapp.http.clients.tasks.response.TaskStatsResponse;
 import com.attrigo.asapp.http.clients.tasks.response.TasksByUserIdResponse;
+import com.attrigo.asapp.users.application.user.TasksUnavailableException;
+import com.attrigo.asapp.users.application.user.out.TaskStats;
 import com.attrigo.asapp.users.domain.user.UserId;
 
 /**
- * Tests {@link TasksGatewayAdapter} task id mapping and failure propagation.
+ * Tests {@link TasksGatewayAdapter} task id and task statistics mapping and failure propagation.
  * <p>
  * Coverage:
  * <li>Maps task responses to their task ids</li>
  * <li>Returns an empty list when the user has no tasks</li>
  * <li>Returns an empty list when the client yields a null response body</li>
  * <li>Propagates the exception when the Tasks Service call fails</li>
+ * <li>Looks up task ids through the gRPC client when it is configured</li>
+ * <li>Maps the task statistics response to task statistics</li>
+ * <li>Treats a null task statistics response body as the Tasks Service being unavailable</li>
  */
 @ExtendWith(MockitoExtension.class)
 class TasksGatewayAdapterTests {
@@ -50,6 +60,9 @@ class TasksGatewayAdapterTests {
     @Mock
     private TasksHttpClient tasksHttpClient;
 
+    @Mock
+    private ObjectProvider<TasksGrpcClient> tasksGrpcClient;
+
     @InjectMocks
     private TasksGatewayAdapter tasksGatewayAdapter;
 
@@ -115,6 +128,74 @@ class TasksGatewayAdapterTests {
                               .hasMessage("connection refused");
         }
 
+        @Test
+        void ReturnsTaskIdsFromGrpcClient_GrpcClientConfigured() {
+            // Given
+            var userId = UserId.of(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+            var taskId = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+            var grpcClient = mock(TasksGrpcClient.class);
+
+            given(tasksGrpcClient.getIfAvailable()).willReturn(grpcClient);
+            given(grpcClient.getTaskIdsByUserId(userId.value())).willReturn(List.of(taskId));
+
+            // When
+            var actual = tasksGatewayAdapter.getTaskIdsByUserId(userId);
+
+            // Then
+            assertThat(actual).containsExactly(taskId);
+            then(tasksHttpClient).should(never())
+                                 .getTasksByUserId(userId.value());
+        }
+
+    }
+
+    @Nested
+    class GetTaskStatsByUserId {
+
+        @Test
+        void ReturnsTaskStats_UserHasTasks() {
+            // Given
+            var userId = UserId.of(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+
+            given(tasksHttpClient.getTaskStatsByUserId(userId.value())).willReturn(new TaskStatsResponse(12, 9, 2));
+
+            // When
+            var actual = tasksGatewayAdapter.getTaskStatsByUserId(userId);
+
+            // Then
+            assertThat(actual).isEqualTo(new TaskStats(12, 9, 2));
+        }
+
+        @Test
+        void ThrowsTasksUnavailableException_NullResponse() {
+            // Given
+            var userId = UserId.of(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+
+            given(tasksHttpClient.getTaskStatsByUserId(userId.value())).willReturn(null);
+
+            // When
+            var actual = catchThrowable(() -> tasksGatewayAdapter.getTaskStatsByUserId(userId));
+
+            // Then
+            assertThat(actual).isInstanceOf(TasksUnavailableException.class)
+                              .hasMessage("Tasks Service returned no task statistics");
+        }
+
+        @Test
+        void ThrowsRestClientException_TasksServiceFails() {
+            // Given
+            var userId = UserId.of(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+
+            given(tasksHttpClient.getTaskStatsByUserId(userId.value())).willThrow(new RestClientException("connection refused"));
+
+            // When
+            var actual = catchThrowable(() -> tasksGatewayAdapter.getTaskStatsByUserId(userId));
+
+            // Then
+            assertThat(actual).isInstanceOf(RestClientException.class)
+                              .hasMessage("connection refused");
+        }
+
     }
 
 }
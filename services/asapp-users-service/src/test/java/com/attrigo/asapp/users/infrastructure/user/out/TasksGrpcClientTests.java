@@ -0,0 +1,293 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdResponse;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsRequest;
+import com.attrigo.asapp.grpc.clients.tasks.GetTaskIdsByUserIdsResponse;
+import com.attrigo.asapp.grpc.clients.tasks.TaskLookupServiceGrpc;
+import com.attrigo.asapp.grpc.clients.tasks.UserTaskIds;
+import com.attrigo.asapp.grpc.clients.tasks.Uuid;
+import com.attrigo.asapp.grpc.clients.tasks.UuidMapper;
+
+/**
+ * Tests {@link TasksGrpcClient} lookups and failure translation against an in-process gRPC server.
+ * <p>
+ * Setup:
+ * <li>Starts an in-process server with a fake task lookup service before each test, and stops it after</li>
+ * <p>
+ * Coverage:
+ * <li>Returns the task ids of a user</li>
+ * <li>Returns the task ids of several users in the order they were requested</li>
+ * <li>Hands the streamed task ids of each user to the consumer in order</li>
+ * <li>Translates unavailable and deadline exceeded statuses into I/O failures</li>
+ * <li>Translates invalid argument and unauthenticated statuses into client errors</li>
+ * <li>Translates any other status into a server error</li>
+ */
+class TasksGrpcClientTests {
+
+    private static final UUID USER_ID_1 = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    private static final UUID USER_ID_2 = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    private static final UUID TASK_ID_1 = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+
+    private static final UUID TASK_ID_2 = UUID.fromString("660e8400-e29b-41d4-a716-446655440002");
+
+    private final FakeTaskLookupService taskLookupService = new FakeTaskLookupService();
+
+    private Server server;
+
+    private TasksGrpcClient tasksGrpcClient;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        var serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                                       .directExecutor()
+                                       .addService(taskLookupService)
+                                       .build()
+                                       .start();
+        var channel = InProcessChannelBuilder.forName(serverName)
+                                             .directExecutor()
+                                             .build();
+        tasksGrpcClient = new TasksGrpcClient(channel, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        tasksGrpcClient.destroy();
+        server.shutdownNow();
+    }
+
+    @Nested
+    class GetTaskIdsByUserId {
+
+        @Test
+        void ReturnsTaskIds_UserHasTasks() {
+            // Given
+            taskLookupService.taskIdsByUserId.put(USER_ID_1, List.of(TASK_ID_1, TASK_ID_2));
+
+            // When
+            var actual = tasksGrpcClient.getTaskIdsByUserId(USER_ID_1);
+
+            // Then
+            assertThat(actual).containsExactly(TASK_ID_1, TASK_ID_2);
+        }
+
+        @Test
+        void ThrowsResourceAccessException_TasksServiceUnavailable() {
+            // Given
+            taskLookupService.failure = Status.UNAVAILABLE;
+
+            // When
+            var actual = catchThrowable(() -> tasksGrpcClient.getTaskIdsByUserId(USER_ID_1));
+
+            // Then
+            assertThat(actual).isInstanceOf(ResourceAccessException.class)
+                              .hasMessageContaining("UNAVAILABLE");
+        }
+
+        @Test
+        void ThrowsResourceAccessException_DeadlineExceeded() {
+            // Given
+            taskLookupService.failure = Status.DEADLINE_EXCEEDED;
+
+            // When
+            var actual = catchThrowable(() -> tasksGrpcClient.getTaskIdsByUserId(USER_ID_1));
+
+            // Then
+            assertThat(actual).isInstanceOf(ResourceAccessException.class)
+                              .hasMessageContaining("DEADLINE_EXCEEDED");
+        }
+
+        @Test
+        void ThrowsHttpClientErrorException_InvalidArgument() {
+            // Given
+            taskLookupService.failure = Status.INVALID_ARGUMENT;
+
+            // When
+            var actual = catchThrowable(() -> tasksGrpcClient.getTaskIdsByUserId(USER_ID_1));
+
+            // Then
+            assertThat(actual).isInstanceOfSatisfying(HttpClientErrorException.class,
+                    exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+
+        @Test
+        void ThrowsHttpClientErrorException_Unauthenticated() {
+            // Given
+            taskLookupService.failure = Status.UNAUTHENTICATED;
+
+            // When
+            var actual = catchThrowable(() -> tasksGrpcClient.getTaskIdsByUserId(USER_ID_1));
+
+            // Then
+            assertThat(actual).isInstanceOfSatisfying(HttpClientErrorException.class,
+                    exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        }
+
+        @Test
+        void ThrowsHttpServerErrorException_InternalError() {
+            // Given
+            taskLookupService.failure = Status.INTERNAL;
+
+            // When
+            var actual = catchThrowable(() -> tasksGrpcClient.getTaskIdsByUserId(USER_ID_1));
+
+            // Then
+            assertThat(actual).isInstanceOfSatisfying(HttpServerErrorException.class,
+                    exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+
+    }
+
+    @Nested
+    class GetTaskIdsByUserIds {
+
+        @Test
+        void ReturnsTaskIdsInRequestOrder_SeveralUsers() {
+            // Given
+            taskLookupService.taskIdsByUserId.put(USER_ID_1, List.of(TASK_ID_1));
+            taskLookupService.taskIdsByUserId.put(USER_ID_2, List.of(TASK_ID_2));
+
+            // When
+            var actual = tasksGrpcClient.getTaskIdsByUserIds(List.of(USER_ID_2, USER_ID_1));
+
+            // Then
+            assertThat(actual).containsExactly(Map.entry(USER_ID_2, List.of(TASK_ID_2)), Map.entry(USER_ID_1, List.of(TASK_ID_1)));
+        }
+
+    }
+
+    @Nested
+    class StreamTaskIdsByUserIds {
+
+        @Test
+        void HandsTaskIdsToConsumerInRequestOrder_SeveralUsers() {
+            // Given
+            var received = new ArrayList<Map.Entry<UUID, List<UUID>>>();
+            taskLookupService.taskIdsByUserId.put(USER_ID_1, List.of(TASK_ID_1));
+            taskLookupService.taskIdsByUserId.put(USER_ID_2, List.of(TASK_ID_2));
+
+            // When
+            tasksGrpcClient.streamTaskIdsByUserIds(List.of(USER_ID_2, USER_ID_1), (userId, taskIds) -> received.add(Map.entry(userId, taskIds)));
+
+            // Then
+            assertThat(received).containsExactly(Map.entry(USER_ID_2, List.of(TASK_ID_2)), Map.entry(USER_ID_1, List.of(TASK_ID_1)));
+        }
+
+        @Test
+        void ThrowsResourceAccessException_TasksServiceUnavailable() {
+            // Given
+            taskLookupService.failure = Status.UNAVAILABLE;
+
+            // When
+            var actual = catchThrowable(() -> tasksGrpcClient.streamTaskIdsByUserIds(List.of(USER_ID_1), (userId, taskIds) -> {}));
+
+            // Then
+            assertThat(actual).isInstanceOf(ResourceAccessException.class);
+        }
+
+    }
+
+    /**
+     * Fake task lookup service answering from an in-memory map, or failing every call with a given status.
+     */
+    private static final class FakeTaskLookupService extends TaskLookupServiceGrpc.TaskLookupServiceImplBase {
+
+        private final Map<UUID, List<UUID>> taskIdsByUserId = new LinkedHashMap<>();
+
+        private Status failure;
+
+        @Override
+        public void getTaskIdsByUserId(GetTaskIdsByUserIdRequest request, StreamObserver<GetTaskIdsByUserIdResponse> responseObserver) {
+            if (failure != null) {
+                responseObserver.onError(failure.asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(GetTaskIdsByUserIdResponse.newBuilder()
+                                                              .addAllTaskIds(UuidMapper.toMessages(taskIdsOf(UuidMapper.fromMessage(request.getUserId()))))
+                                                              .build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getTaskIdsByUserIds(GetTaskIdsByUserIdsRequest request, StreamObserver<GetTaskIdsByUserIdsResponse> responseObserver) {
+            if (failure != null) {
+                responseObserver.onError(failure.asRuntimeException());
+                return;
+            }
+            var response = GetTaskIdsByUserIdsResponse.newBuilder();
+            request.getUserIdsList()
+                   .forEach(userId -> response.addUsers(toMessage(userId)));
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void streamTaskIdsByUserIds(GetTaskIdsByUserIdsRequest request, StreamObserver<UserTaskIds> responseObserver) {
+            if (failure != null) {
+                responseObserver.onError(failure.asRuntimeException());
+                return;
+            }
+            request.getUserIdsList()
+                   .forEach(userId -> responseObserver.onNext(toMessage(userId)));
+            responseObserver.onCompleted();
+        }
+
+        private UserTaskIds toMessage(Uuid userId) {
+            return UserTaskIds.newBuilder()
+                              .setUserId(userId)
+                              .addAllTaskIds(UuidMapper.toMessages(taskIdsOf(UuidMapper.fromMessage(userId))))
+                              .build();
+        }
+
+        private List<UUID> taskIdsOf(UUID userId) {
+            return taskIdsByUserId.getOrDefault(userId, List.of());
+        }
+
+    }
+
+}
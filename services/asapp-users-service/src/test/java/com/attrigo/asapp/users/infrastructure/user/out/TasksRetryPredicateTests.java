@@ -0,0 +1,119 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.attrigo.asapp.users.infrastructure.deadline.Deadline;
+import com.attrigo.asapp.users.infrastructure.deadline.DeadlineContext;
+import com.attrigo.asapp.users.infrastructure.deadline.DeadlineExceededException;
+
+/**
+ * Tests {@link TasksRetryPredicate} retry decisions.
+ * <p>
+ * Coverage:
+ * <li>Retries transient failures (5xx, I/O) when no deadline is bound or it has not expired</li>
+ * <li>Does not retry transient failures once the deadline has expired</li>
+ * <li>Does not retry client (4xx) errors nor expired deadlines</li>
+ */
+class TasksRetryPredicateTests {
+
+    private final TasksRetryPredicate tasksRetryPredicate = new TasksRetryPredicate();
+
+    @AfterEach
+    void afterEach() {
+        DeadlineContext.clear();
+    }
+
+    @Nested
+    class TestThrowable {
+
+        @Test
+        void ReturnsTrue_ServerErrorAndNoDeadline() {
+            // Given
+            var failure = new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+
+            // When
+            var actual = tasksRetryPredicate.test(failure);
+
+            // Then
+            assertThat(actual).isTrue();
+        }
+
+        @Test
+        void ReturnsTrue_IoFailureAndDeadlineNotExpired() {
+            // Given
+            var failure = new ResourceAccessException("Read timed out");
+            DeadlineContext.set(Deadline.after(Duration.ofSeconds(5)));
+
+            // When
+            var actual = tasksRetryPredicate.test(failure);
+
+            // Then
+            assertThat(actual).isTrue();
+        }
+
+        @Test
+        void ReturnsFalse_IoFailureAndDeadlineExpired() {
+            // Given
+            var failure = new ResourceAccessException("Read timed out");
+            DeadlineContext.set(Deadline.after(Duration.ZERO));
+
+            // When
+            var actual = tasksRetryPredicate.test(failure);
+
+            // Then
+            assertThat(actual).isFalse();
+        }
+
+        @Test
+        void ReturnsFalse_ClientError() {
+            // Given
+            var failure = new HttpClientErrorException(HttpStatus.NOT_FOUND);
+
+            // When
+            var actual = tasksRetryPredicate.test(failure);
+
+            // Then
+            assertThat(actual).isFalse();
+        }
+
+        @Test
+        void ReturnsFalse_DeadlineExceeded() {
+            // Given
+            var failure = new DeadlineExceededException("Request deadline expired");
+
+            // When
+            var actual = tasksRetryPredicate.test(failure);
+
+            // Then
+            assertThat(actual).isFalse();
+        }
+
+    }
+
+}
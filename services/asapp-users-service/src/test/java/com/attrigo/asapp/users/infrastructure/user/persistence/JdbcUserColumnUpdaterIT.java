@@ -0,0 +1,140 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.persistence;
+
+import static com.attrigo.asapp.users.testutil.fixture.UserMother.aJdbcUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import com.attrigo.asapp.users.testutil.TestContainerConfiguration;
+
+/**
+ * Tests {@link JdbcUserColumnUpdater} partial column updates against PostgreSQL.
+ * <p>
+ * Setup:
+ * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
+ * <li>Clears the user table before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Updates only the given columns returning the incremented version</li>
+ * <li>Leaves the user unchanged returning empty when the version differs</li>
+ * <li>Rejects empty and non-updatable column lists</li>
+ */
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TestContainerConfiguration.class, JdbcUserColumnUpdater.class })
+class JdbcUserColumnUpdaterIT {
+
+    @Autowired
+    private JdbcUserColumnUpdater userColumnUpdater;
+
+    @Autowired
+    private JdbcUserRepository userRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        userRepository.deleteAll();
+    }
+
+    @Nested
+    class UpdateColumns {
+
+        @Test
+        void ReturnsIncrementedVersionAndUpdatesOnlyGivenColumns_VersionMatches() {
+            // Given
+            var createdUser = createUser();
+            var changedUser = new JdbcUserEntity(createdUser.id(), "New FirstName", "New LastName", "new_user@asapp.com", createdUser.phoneNumber(),
+                    createdUser.version());
+
+            // When
+            var actual = userColumnUpdater.updateColumns(changedUser, List.of("first_name", "email"));
+
+            // Then
+            assertThat(actual).contains(createdUser.version() + 1);
+            assertThat(userRepository.findById(createdUser.id())).hasValueSatisfying(user -> assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(user.firstName()).as("first name").isEqualTo("New FirstName");
+                softly.assertThat(user.lastName()).as("last name").isEqualTo(createdUser.lastName());
+                softly.assertThat(user.email()).as("email").isEqualTo("new_user@asapp.com");
+                softly.assertThat(user.version()).as("version").isEqualTo(createdUser.version() + 1);
+                // @formatter:on
+            }));
+        }
+
+        @Test
+        void ReturnsEmptyOptionalAndLeavesUserUnchanged_VersionDiffers() {
+            // Given
+            var createdUser = createUser();
+            var staleUser = new JdbcUserEntity(createdUser.id(), "New FirstName", createdUser.lastName(), createdUser.email(), createdUser.phoneNumber(),
+                    createdUser.version() + 1);
+
+            // When
+            var actual = userColumnUpdater.updateColumns(staleUser, List.of("first_name"));
+
+            // Then
+            assertThat(actual).isEmpty();
+            assertThat(userRepository.findById(createdUser.id())).contains(createdUser);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_NoColumns() {
+            // Given
+            var createdUser = createUser();
+
+            // When
+            var actual = catchThrowable(() -> userColumnUpdater.updateColumns(createdUser, List.of()));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("At least one column must be updated");
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_ColumnNotUpdatable() {
+            // Given
+            var createdUser = createUser();
+
+            // When
+            var actual = catchThrowable(() -> userColumnUpdater.updateColumns(createdUser, List.of("version")));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Column version is not updatable");
+        }
+
+    }
+
+    // Test Data Creation Helpers
+
+    private JdbcUserEntity createUser() {
+        var createdUser = userRepository.save(aJdbcUser());
+        assertThat(createdUser).isNotNull();
+        return createdUser;
+    }
+
+}
@@ -18,6 +18,7 @@ package com.attrigo.asapp.users.infrastructure.user.persistence;
 
 import static com.attrigo.asapp.users.testutil.fixture.UserMother.aJdbcUser;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import java.util.UUID;
 
@@ -32,13 +33,16 @@ import org.springframework.context.annotation.Import;
 import com.attrigo.asapp.users.testutil.TestContainerConfiguration;
 
 /**
- * Tests {@link JdbcUserRepository} delete operations against PostgreSQL.
+ * Tests {@link JdbcUserRepository} update and delete operations against PostgreSQL.
  * <p>
  * Setup:
  * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
  * <li>Clears the user table before each test</li>
  * <p>
  * Coverage:
+ * <li>Updates user by identifier returning the updated row with an incremented version</li>
+ * <li>Updates user by identifier only while it has the expected version</li>
+ * <li>Updates user by identifier returning empty when not found</li>
  * <li>Deletes user by identifier returning zero when not found</li>
  * <li>Deletes user by identifier returning count when successfully deleted</li>
  * <li>Tests actual database operations with TestContainers PostgreSQL</li>
@@ -56,6 +60,76 @@ class JdbcUserRepositoryIT {
         userRepository.deleteAll();
     }
 
+    @Nested
+    class UpdateUserById {
+
+        @Test
+        void ReturnsUpdatedUserWithIncrementedVersion_UserExists() {
+            // Given
+            var createdUser = createUser();
+            var userId = createdUser.id();
+
+            // When
+            var actual = userRepository.updateUserById(userId, "New FirstName", "New LastName", "new_user@asapp.com", "666 666 666", null);
+
+            // Then
+            assertThat(actual).isPresent();
+            assertSoftly(softly -> {
+                // @formatter:off
+                softly.assertThat(actual.get().id()).as("ID").isEqualTo(userId);
+                softly.assertThat(actual.get().firstName()).as("first name").isEqualTo("New FirstName");
+                softly.assertThat(actual.get().lastName()).as("last name").isEqualTo("New LastName");
+                softly.assertThat(actual.get().email()).as("email").isEqualTo("new_user@asapp.com");
+                softly.assertThat(actual.get().phoneNumber()).as("phone number").isEqualTo("666 666 666");
+                softly.assertThat(actual.get().version()).as("version").isEqualTo(createdUser.version() + 1);
+                // @formatter:on
+            });
+            assertThat(userRepository.findById(userId)).contains(actual.get());
+        }
+
+        @Test
+        void ReturnsUpdatedUser_ExpectedVersionMatches() {
+            // Given
+            var createdUser = createUser();
+
+            // When
+            var actual = userRepository.updateUserById(createdUser.id(), "New FirstName", createdUser.lastName(), createdUser.email(), createdUser.phoneNumber(),
+                    createdUser.version());
+
+            // Then
+            assertThat(actual).get()
+                              .extracting(JdbcUserEntity::firstName)
+                              .isEqualTo("New FirstName");
+        }
+
+        @Test
+        void ReturnsEmptyOptionalAndLeavesUserUnchanged_ExpectedVersionDiffers() {
+            // Given
+            var createdUser = createUser();
+
+            // When
+            var actual = userRepository.updateUserById(createdUser.id(), "New FirstName", createdUser.lastName(), createdUser.email(), createdUser.phoneNumber(),
+                    createdUser.version() + 1);
+
+            // Then
+            assertThat(actual).isEmpty();
+            assertThat(userRepository.findById(createdUser.id())).contains(createdUser);
+        }
+
+        @Test
+        void ReturnsEmptyOptional_UserNotExists() {
+            // Given
+            var userId = UUID.fromString("e2a7c9f4-6b3d-48ab-9f1a-8d5b3e7c2a9f");
+
+            // When
+            var actual = userRepository.updateUserById(userId, "New FirstName", "New LastName", "new_user@asapp.com", "666 666 666", null);
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
     @Nested
     class DeleteUserById {
 
@@ -0,0 +1,181 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.infrastructure.user.query;
+
+import static com.attrigo.asapp.users.testutil.fixture.UserMother.aUserBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import com.attrigo.asapp.users.infrastructure.config.ChunkedIdQueryConfiguration;
+import com.attrigo.asapp.users.infrastructure.user.in.response.GetUsersResponse;
+import com.attrigo.asapp.users.infrastructure.user.persistence.JdbcUserEntity;
+import com.attrigo.asapp.users.infrastructure.user.persistence.JdbcUserRepository;
+import com.attrigo.asapp.users.testutil.TestContainerConfiguration;
+
+/**
+ * Tests {@link UserQueryHandler} row mapping against PostgreSQL.
+ * <p>
+ * Setup:
+ * <li>Loads the data JDBC slice backed by a Testcontainers PostgreSQL instance</li>
+ * <li>Clears the user table before each test</li>
+ * <p>
+ * Coverage:
+ * <li>Maps rows into response records with the same values Spring Data JDBC reads into the entity</li>
+ * <li>Filters users by identifiers, ignoring duplicates</li>
+ * <li>Returns users requested by identifiers in the requested order across chunks, rejecting lists above the configured maximum</li>
+ * <li>Returns empty results when nothing matches</li>
+ */
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TestContainerConfiguration.class, ChunkedIdQueryConfiguration.class, UserQueryHandler.class })
+class UserQueryHandlerIT {
+
+    @Autowired
+    private UserQueryHandler userQueryHandler;
+
+    @Autowired
+    private JdbcUserRepository userRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        userRepository.deleteAll();
+    }
+
+    @Nested
+    class GetUsersByIds {
+
+        @Test
+        void ReturnsRequestedUsers_UsersExist() {
+            // Given
+            var user1 = createUser();
+            var user2 = createUser();
+            createUser();
+
+            // When
+            var actual = userQueryHandler.getUsersByIds(List.of(user1.id(), user2.id(), user2.id()));
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(toGetUsersResponse(user1), toGetUsersResponse(user2));
+        }
+
+        @Test
+        void ReturnsUsersInRequestedOrder_IdsSpanSeveralChunks() {
+            // Given
+            var users = new ArrayList<JdbcUserEntity>();
+            for (int i = 0; i < 250; i++) {
+                users.add(createUser());
+            }
+            var requestedIds = users.reversed()
+                                   .stream()
+                                   .map(JdbcUserEntity::id)
+                                   .toList();
+
+            // When
+            var actual = userQueryHandler.getUsersByIds(requestedIds);
+
+            // Then
+            var expected = users.reversed()
+                               .stream()
+                               .map(UserQueryHandlerIT::toGetUsersResponse)
+                               .toList();
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        void ThrowsIllegalArgumentException_ExceedMaxIds() {
+            // Given
+            var ids = new ArrayList<UUID>();
+            for (int i = 0; i < 1001; i++) {
+                ids.add(UUID.randomUUID());
+            }
+
+            // When
+            var actual = catchThrowable(() -> userQueryHandler.getUsersByIds(ids));
+
+            // Then
+            assertThat(actual).isInstanceOf(IllegalArgumentException.class)
+                              .hasMessage("Identifiers list must not exceed 1000 elements");
+        }
+
+        @Test
+        void ReturnsEmptyList_NoIds() {
+            // Given
+            createUser();
+
+            // When
+            var actual = userQueryHandler.getUsersByIds(List.of());
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class GetAllUsers {
+
+        @Test
+        void ReturnsAllUsers_UsersExist() {
+            // Given
+            var user1 = createUser();
+            var user2 = createUser();
+
+            // When
+            var actual = userQueryHandler.getAllUsers();
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrder(toGetUsersResponse(user1), toGetUsersResponse(user2));
+        }
+
+        @Test
+        void ReturnsEmptyList_NoUsers() {
+            // When
+            var actual = userQueryHandler.getAllUsers();
+
+            // Then
+            assertThat(actual).isEmpty();
+        }
+
+    }
+
+    // Test Data Creation Helpers
+
+    private JdbcUserEntity createUser() {
+        var user = aUserBuilder().withEmail(UUID.randomUUID() + "@asapp.com")
+                                 .buildJdbc();
+        var createdUser = userRepository.save(user);
+        assertThat(createdUser).isNotNull();
+        return createdUser;
+    }
+
+    private static GetUsersResponse toGetUsersResponse(JdbcUserEntity user) {
+        return new GetUsersResponse(user.id(), user.firstName(), user.lastName(), user.email(), user.phoneNumber());
+    }
+
+}
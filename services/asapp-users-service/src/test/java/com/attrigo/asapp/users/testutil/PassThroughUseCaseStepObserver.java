@@ -0,0 +1,36 @@
+/**
+* Copyright 2023 the original author or authors.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.attrigo.asapp.users.testutil;
+
+import java.util.function.Supplier;
+
+import com.attrigo.asapp.users.application.UseCaseStepObserver;
+
+/**
+ * {@link UseCaseStepObserver} running the steps without observing them, for application service unit tests.
+ *
+ * @since 0.5.0
+ * @author attrigo
+ */
+public class PassThroughUseCaseStepObserver implements UseCaseStepObserver {
+
+    @Override
+    public <T> T observe(String useCase, String step, Supplier<T> action) {
+        return action.get();
+    }
+
+}
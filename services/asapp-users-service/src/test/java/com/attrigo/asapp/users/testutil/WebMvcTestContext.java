@@ -24,6 +24,7 @@ import org.springframework.test.web.servlet.assertj.MockMvcTester;
 
 import com.attrigo.asapp.users.application.user.in.CreateUserUseCase;
 import com.attrigo.asapp.users.application.user.in.DeleteUserUseCase;
+import com.attrigo.asapp.users.application.user.in.PatchUserUseCase;
 import com.attrigo.asapp.users.application.user.in.ReadUserUseCase;
 import com.attrigo.asapp.users.application.user.in.UpdateUserUseCase;
 import com.attrigo.asapp.users.infrastructure.config.SecurityConfiguration;
@@ -32,6 +33,7 @@ import com.attrigo.asapp.users.infrastructure.security.web.JwtAuthenticationEntr
 import com.attrigo.asapp.users.infrastructure.security.web.JwtAuthenticationFilter;
 import com.attrigo.asapp.users.infrastructure.user.in.UserRestController;
 import com.attrigo.asapp.users.infrastructure.user.mapper.UserMapper;
+import com.attrigo.asapp.users.infrastructure.user.query.UserQueryHandler;
 
 /**
  * Configures web layer test context with mocked dependencies for REST controller integration tests.
@@ -56,12 +58,18 @@ public class WebMvcTestContext {
     @MockitoBean
     protected ReadUserUseCase readUserUseCase;
 
+    @MockitoBean
+    protected UserQueryHandler userQueryHandler;
+
     @MockitoBean
     protected CreateUserUseCase createUserUseCase;
 
     @MockitoBean
     protected UpdateUserUseCase updateUserUseCase;
 
+    @MockitoBean
+    protected PatchUserUseCase patchUserUseCase;
+
     @MockitoBean
     protected DeleteUserUseCase deleteUserUseCase;
 
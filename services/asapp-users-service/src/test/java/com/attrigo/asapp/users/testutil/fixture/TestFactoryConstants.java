@@ -45,6 +45,8 @@ final class TestFactoryConstants {
 
     static final String DEFAULT_PHONE_NUMBER = "555 555 555";
 
+    static final Long DEFAULT_USER_VERSION = 0L;
+
     // JWT constants
 
     static final String DEFAULT_SUBJECT = "user@asapp.com";
@@ -21,6 +21,7 @@ import static com.attrigo.asapp.users.testutil.fixture.TestFactoryConstants.DEFA
 import static com.attrigo.asapp.users.testutil.fixture.TestFactoryConstants.DEFAULT_LAST_NAME;
 import static com.attrigo.asapp.users.testutil.fixture.TestFactoryConstants.DEFAULT_PHONE_NUMBER;
 import static com.attrigo.asapp.users.testutil.fixture.TestFactoryConstants.DEFAULT_USER_ID;
+import static com.attrigo.asapp.users.testutil.fixture.TestFactoryConstants.DEFAULT_USER_VERSION;
 
 import java.util.UUID;
 
@@ -61,12 +62,15 @@ public final class UserMother {
 
         private String phoneNumber;
 
+        private Long version;
+
         Builder() {
             this.userId = DEFAULT_USER_ID;
             this.firstName = DEFAULT_FIRST_NAME;
             this.lastName = DEFAULT_LAST_NAME;
             this.email = DEFAULT_EMAIL;
             this.phoneNumber = DEFAULT_PHONE_NUMBER;
+            this.version = DEFAULT_USER_VERSION;
         }
 
         public Builder withUserId(UUID userId) {
@@ -94,16 +98,21 @@ public final class UserMother {
             return this;
         }
 
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public User build() {
             if (userId == null) {
                 return UserFactory.create(firstName, lastName, email, phoneNumber);
             } else {
-                return UserFactory.reconstitute(userId, firstName, lastName, email, phoneNumber);
+                return UserFactory.reconstitute(userId, firstName, lastName, email, phoneNumber, version);
             }
         }
 
         public JdbcUserEntity buildJdbc() {
-            return new JdbcUserEntity(null, firstName, lastName, email, phoneNumber);
+            return new JdbcUserEntity(null, firstName, lastName, email, phoneNumber, null);
         }
 
     }
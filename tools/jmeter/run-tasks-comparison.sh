@@ -0,0 +1,155 @@
+#!/usr/bin/env bash
+#
+# Run the tasks comparison plan against the virtual-thread build (asapp-tasks-service) and then the reactive build
+# (asapp-tasks-reactive-service) under the same load, and print throughput, latency and memory per connection side by side.
+# Like stress this is for OBSERVATION: there is no pass/fail gate, each build still gets its own HTML dashboard.
+#
+# The reactive build only runs under the compose `reactive` profile: docker-compose --profile reactive up -d
+#
+# Run with --help for usage.
+#
+
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+
+# paths (ENV_FILE/RESULTS_DIR/SCRIPTS_DIR) + log + preflight() + run_plan()
+. "$SCRIPT_DIR/scripts/common.sh"
+
+validate_java_home() {
+  [[ -n "${1:-}" ]] || { echo "ERROR: --java-home requires a path" >&2; exit 1; }
+}
+
+usage() {
+  cat <<'USAGE'
+Usage: run-tasks-comparison.sh [--java-home <path>] [--no-preflight] [-J<prop>=<val> ...]
+
+Run the same task CRUD journey against the virtual-thread and the reactive tasks
+builds, one after the other, and report throughput, latency and container memory
+per concurrent connection for each.
+
+The stack must be up with the reactive build: docker-compose --profile reactive up -d
+
+Options (must precede any -J args):
+  --java-home <path>   JDK 17/21 for JMeter; falls back to JAVA_HOME
+  --no-preflight       skip the service readiness checks
+  --help               show this help and exit
+
+Any -J<name>=<value> is forwarded to JMeter (defaults in env/local.properties):
+  compare.threads, compare.rampup, compare.duration
+
+JMeter itself needs a large heap for 10k threads; override it with HEAP (default -Xms1g -Xmx4g).
+
+Examples:
+  run-tasks-comparison.sh --java-home '/path/to/jdk-21'
+  run-tasks-comparison.sh -Jcompare.threads=2000 -Jcompare.duration=120
+USAGE
+}
+
+PREFLIGHT=1
+JAVA_HOME_OPT=""
+while [[ "${1:-}" == --* ]]; do
+  case "$1" in
+    --help)         usage; exit 0 ;;
+    --no-preflight) PREFLIGHT=0; shift ;;
+    --java-home)    validate_java_home "${2:-}"; JAVA_HOME_OPT="$2"; shift 2 ;;
+    --)             shift; break ;;
+    *)              echo "ERROR: unknown option '$1' (see --help)" >&2; exit 2 ;;
+  esac
+done
+
+# <label>:<port property>:<container> for each build, in run order.
+BUILDS=(
+  "virtual-threads:tasks.port:asapp-tasks-service"
+  "reactive:tasks.reactive.port:asapp-tasks-reactive-service"
+)
+
+# Steps traced as [x/y]: resolve Java, provision, [pre-flight], one run per build.
+STEP_TOTAL=$(( (PREFLIGHT == 1 ? 3 : 2) + ${#BUILDS[@]} ))
+
+# Same Groovy constraint as the stress plan: resolve a Java 17/21 JVM for JMeter.
+. "$SCRIPT_DIR/scripts/resolve-java.sh" "$JAVA_HOME_OPT"
+
+log_step "Provisioning JMeter"
+JMETER_BIN="$("$SCRIPTS_DIR/ensure-jmeter.sh")"
+
+# One JMeter thread per simulated client; the launcher reads its heap from HEAP.
+export HEAP="${HEAP:--Xms1g -Xmx4g}"
+
+# preflight only covers auth/tasks/users; the reactive build answers the same probe on its own port.
+if (( PREFLIGHT == 1 )); then
+  preflight
+  reactive_url="$(prop tasks.scheme)://$(prop tasks.host):$(prop tasks.reactive.port)$(prop tasks.context)/readyz"
+  if ! curl -fsS -o /dev/null --max-time 5 "$reactive_url"; then
+    echo "ERROR: service not ready: $reactive_url" >&2
+    echo "Bring the reactive build up first: docker-compose --profile reactive up -d" >&2
+    exit 1
+  fi
+  log_detail "UP: $reactive_url"
+fi
+
+# threads: the concurrent clients of this run, honouring a -Jcompare.threads override.
+THREADS="$(prop compare.threads)"
+for arg in "$@"; do
+  [[ "$arg" == -Jcompare.threads=* ]] && THREADS="${arg#-Jcompare.threads=}"
+done
+
+# to_mib <docker stats usage>: "123.4MiB" / "1.2GiB" / "512KiB" -> MiB.
+to_mib() {
+  awk -v u="$1" 'BEGIN {
+    v = u + 0
+    if (u ~ /GiB$/) v *= 1024
+    else if (u ~ /KiB$/) v /= 1024
+    else if (u ~ /B$/ && u !~ /iB$/) v /= 1048576
+    printf "%.1f", v
+  }'
+}
+
+# sample_memory <container> <file>: record the container's memory usage every 2s until killed, keeping the peak in <file>.
+sample_memory() {
+  local container="$1" file="$2" usage mib peak=0
+  while true; do
+    usage="$(docker stats --no-stream --format '{{.MemUsage}}' "$container" 2>/dev/null | awk '{print $1}')"
+    if [[ -n "$usage" ]]; then
+      mib="$(to_mib "$usage")"
+      peak="$(awk -v a="$peak" -v b="$mib" 'BEGIN { print (b > a ? b : a) }')"
+      echo "$peak" > "$file"
+    fi
+    sleep 2
+  done
+}
+
+# total_stat <field>: the Total.<field> value of the last run's dashboard statistics.json.
+total_stat() {
+  awk -v f="\"$1\"" '/"Total"[[:space:]]*:/{t=1} t && index($0, f) {sub(/.*:[[:space:]]*/, ""); sub(/,.*/, ""); print; exit}' "$REPORT/statistics.json"
+}
+
+SUMMARY=()
+for build in "${BUILDS[@]}"; do
+  IFS=: read -r label port_prop container <<< "$build"
+  port="$(prop "$port_prop")"
+
+  peak_file="$(mktemp)"
+  echo 0 > "$peak_file"
+  sample_memory "$container" "$peak_file" &
+  sampler_pid=$!
+
+  run_plan "tasks-comparison-$label" "$SCRIPT_DIR/asapp-tasks-comparison.jmx" -Jtarget.port="$port" "$@"
+
+  kill "$sampler_pid" 2>/dev/null || true
+  wait "$sampler_pid" 2>/dev/null || true
+  peak="$(cat "$peak_file")"
+  rm -f "$peak_file"
+
+  per_connection="$(awk -v m="$peak" -v t="$THREADS" 'BEGIN { printf "%.1f", (t > 0 ? m * 1024 / t : 0) }')"
+  SUMMARY+=("$(printf '%-16s %12.1f %10.1f %10.1f %10.1f %8s %12s %14s' "$label" "$(total_stat throughput)" "$(total_stat meanResTime)" \
+    "$(total_stat pct2ResTime)" "$(total_stat pct3ResTime)" "$(total_stat errorPct)" "$peak" "$per_connection")")
+  log_detail "Report: $REPORT/index.html"
+done
+
+log_blank
+log_detail "Tasks comparison at $THREADS concurrent clients:"
+log_detail "$(printf '%-16s %12s %10s %10s %10s %8s %12s %14s' build 'req/s' 'mean ms' 'p95 ms' 'p99 ms' 'err %' 'peak MiB' 'KiB/client')"
+for line in "${SUMMARY[@]}"; do
+  log_detail "$line"
+done
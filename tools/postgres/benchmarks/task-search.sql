@@ -0,0 +1,155 @@
+-- Measures the task search query on a multi-million-row tasks table.
+--
+-- Loads tasks spread across many users, with one heavy user owning a large share of them, then shows the plans and timings
+-- of the search query used by the tasks service: the first page, a page read from a cursor deep in the results, a misspelled
+-- query answered by trigram similarity and a title prefix as typed by the user. As a baseline, the same first page is read with
+-- a substring scan and OFFSET pagination, which is what search looks like without the full-text and trigram indexes.
+--
+-- Usage (against the docker-compose stack once the tasks service has migrated the database, defaults to 5,000,000 tasks
+-- across 10,000 users, the heavy user owning 100,000 of them):
+--   docker compose exec -T asapp-tasks-postgres-db psql -U user -d tasksdb -v rows=5000000 -v users=10000 -v heavy=100000 < tools/postgres/benchmarks/task-search.sql
+--
+-- Everything is created in a dedicated "search_benchmark" schema, copying the tasks table with its generated search column and
+-- indexes, and dropped at the end.
+--
+-- Results with the defaults on PostgreSQL 17.5 with its default configuration (128 MB shared_buffers), 1 vCPU and 6 GB of RAM,
+-- one run of each query right after the load (997 MB of table and 1444 MB of indexes; "groceries" matches 22,500 tasks of the
+-- heavy user). The script was run on a local server rather than the docker-compose stack, sending its statements over JDBC with
+-- the psql variables substituted, because no psql client was available:
+--
+--   query                            | execution time | plan
+--   ---------------------------------+----------------+-------------------------------------------------------------------------
+--   first page                       |        98.0 ms | BitmapOr of both indexes, top-N heapsort of the 22,500 matches
+--   page after a cursor at 5,000     |       113.5 ms | same BitmapOr, keyset condition applied as a filter
+--   misspelled query ("grocerys")    |        30.5 ms | same BitmapOr, matches found by the trigram index only
+--   title prefix ("Pla")             |        76.3 ms | same BitmapOr, 12,500 matches
+--   baseline (ILIKE '%...%', OFFSET) |     4,560.7 ms | parallel backward scan of the primary key, 1.2 M rows filtered out
+--
+-- The full-text and trigram predicates of the search are each answered by their index; PostgreSQL names the copies of
+-- idx_tasks_user_id_search_vector and idx_tasks_user_id_title_trgm tasks_user_id_search_vector_idx and tasks_user_id_title_idx.
+-- First page:
+--
+--   Limit (actual time=97.869..97.877 rows=21)
+--     ->  Sort (top-N heapsort)
+--           ->  Bitmap Heap Scan on tasks (actual rows=22500, heap blocks exact=2497)
+--                 ->  BitmapOr
+--                       ->  Bitmap Index Scan on tasks_user_id_search_vector_idx (user_id = ... AND search_vector @@ 'groceries')
+--                       ->  Bitmap Index Scan on tasks_user_id_title_idx (user_id = ... AND title % 'groceries')
+--                       ->  Bitmap Index Scan on tasks_user_id_title_idx (user_id = ... AND title ILIKE 'groceries%')
+--
+-- The time goes into ranking every match rather than finding them (the bitmaps take under 20 ms), so it grows with the number
+-- of matches of the query, not with the size of the table. The heavy user's tasks are loaded first and so sit in contiguous
+-- heap pages, which keeps the heap scan cheaper than for tasks written over time.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 5000000
+\endif
+\if :{?users}
+\else
+    \set users 10000
+\endif
+\if :{?heavy}
+\else
+    \set heavy 100000
+\endif
+\timing on
+
+DROP SCHEMA IF EXISTS search_benchmark CASCADE;
+CREATE SCHEMA search_benchmark;
+CREATE TABLE search_benchmark.tasks (LIKE public.tasks INCLUDING ALL);
+
+-- Titles and descriptions are drawn from small vocabularies so that common words match many rows, like real task lists do
+INSERT INTO search_benchmark.tasks (id, user_id, title, description, start_date, end_date)
+SELECT gen_random_uuid(),
+       CASE WHEN n <= :heavy THEN '00000000-0000-7000-8000-000000000001'::uuid
+            ELSE ('00000000-0000-7000-8000-' || lpad(to_hex(2 + n % :users), 12, '0'))::uuid END,
+       (ARRAY['Buy', 'Fix', 'Plan', 'Review', 'Call', 'Book', 'Clean', 'Prepare'])[1 + n % 8] || ' ' ||
+       (ARRAY['groceries', 'bike', 'holidays', 'report', 'dentist', 'flights', 'kitchen', 'presentation', 'garden', 'budget'])[1 + (n / 8) % 10] ||
+       ' #' || n,
+       CASE WHEN n % 3 = 0 THEN NULL
+            ELSE (ARRAY['before the weekend', 'with the team', 'check the receipts', 'ask for a quote', 'remember the groceries list'])[1 + n % 5] END,
+       now() + make_interval(days => n % 365),
+       now() + make_interval(days => n % 365 + 1)
+FROM generate_series(1, :rows) AS n;
+
+VACUUM ANALYZE search_benchmark.tasks;
+
+SELECT pg_size_pretty(pg_relation_size('search_benchmark.tasks')) AS table_size,
+       pg_size_pretty(pg_indexes_size('search_benchmark.tasks')) AS indexes_size;
+
+SET search_path = search_benchmark, public;
+
+-- First page of a word query for the heavy user
+EXPLAIN (ANALYZE, BUFFERS)
+WITH matches AS (
+    SELECT id, user_id, title, description, start_date, end_date,
+           (ts_rank(search_vector, websearch_to_tsquery('simple', 'groceries')) + similarity(title, 'groceries'))::float8 AS rank
+    FROM tasks
+    WHERE user_id = '00000000-0000-7000-8000-000000000001'
+      AND (search_vector @@ websearch_to_tsquery('simple', 'groceries') OR title % 'groceries' OR title ILIKE 'groceries%')
+)
+SELECT id, user_id, title, description, start_date, end_date, rank
+FROM matches
+ORDER BY rank DESC, id DESC LIMIT 21;
+
+-- A page read from a cursor: the keyset condition skips the previous pages without returning them
+SELECT rank AS cursor_rank, id AS cursor_id
+FROM (
+    SELECT id, (ts_rank(search_vector, websearch_to_tsquery('simple', 'groceries')) + similarity(title, 'groceries'))::float8 AS rank
+    FROM tasks
+    WHERE user_id = '00000000-0000-7000-8000-000000000001'
+      AND (search_vector @@ websearch_to_tsquery('simple', 'groceries') OR title % 'groceries' OR title ILIKE 'groceries%')
+    ORDER BY rank DESC, id DESC OFFSET 5000 LIMIT 1
+) AS page_start \gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+WITH matches AS (
+    SELECT id, user_id, title, description, start_date, end_date,
+           (ts_rank(search_vector, websearch_to_tsquery('simple', 'groceries')) + similarity(title, 'groceries'))::float8 AS rank
+    FROM tasks
+    WHERE user_id = '00000000-0000-7000-8000-000000000001'
+      AND (search_vector @@ websearch_to_tsquery('simple', 'groceries') OR title % 'groceries' OR title ILIKE 'groceries%')
+)
+SELECT id, user_id, title, description, start_date, end_date, rank
+FROM matches
+WHERE (rank, id) < (:cursor_rank, :'cursor_id')
+ORDER BY rank DESC, id DESC LIMIT 21;
+
+-- Misspelled query, matched by trigram similarity only
+EXPLAIN (ANALYZE, BUFFERS)
+WITH matches AS (
+    SELECT id, user_id, title, description, start_date, end_date,
+           (ts_rank(search_vector, websearch_to_tsquery('simple', 'grocerys')) + similarity(title, 'grocerys'))::float8 AS rank
+    FROM tasks
+    WHERE user_id = '00000000-0000-7000-8000-000000000001'
+      AND (search_vector @@ websearch_to_tsquery('simple', 'grocerys') OR title % 'grocerys' OR title ILIKE 'grocerys%')
+)
+SELECT id, user_id, title, description, start_date, end_date, rank
+FROM matches
+ORDER BY rank DESC, id DESC LIMIT 21;
+
+-- Title prefix, as sent while the user types
+EXPLAIN (ANALYZE, BUFFERS)
+WITH matches AS (
+    SELECT id, user_id, title, description, start_date, end_date,
+           (ts_rank(search_vector, websearch_to_tsquery('simple', 'Pla')) + similarity(title, 'Pla'))::float8 AS rank
+    FROM tasks
+    WHERE user_id = '00000000-0000-7000-8000-000000000001'
+      AND (search_vector @@ websearch_to_tsquery('simple', 'Pla') OR title % 'Pla' OR title ILIKE 'Pla%')
+)
+SELECT id, user_id, title, description, start_date, end_date, rank
+FROM matches
+ORDER BY rank DESC, id DESC LIMIT 21;
+
+-- Baseline: substring scan with OFFSET pagination, reading the same page as the cursor query above
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, title, description, start_date, end_date
+FROM tasks
+WHERE user_id = '00000000-0000-7000-8000-000000000001'
+  AND (title ILIKE '%groceries%' OR description ILIKE '%groceries%')
+ORDER BY id DESC OFFSET 5000 LIMIT 21;
+
+RESET search_path;
+DROP SCHEMA search_benchmark CASCADE;
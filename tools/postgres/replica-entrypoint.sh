@@ -0,0 +1,15 @@
+#!/bin/sh
+# Starts a hot standby of $PRIMARY_HOST, cloning it with pg_basebackup on first start.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until PGPASSWORD="$POSTGRES_PASSWORD" pg_basebackup --host="$PRIMARY_HOST" --username="$POSTGRES_USER" \
+      --pgdata="$PGDATA" --wal-method=stream --write-recovery-conf --checkpoint=fast; do
+    echo "Waiting for primary $PRIMARY_HOST"
+    rm -rf "${PGDATA:?}"/*
+    sleep 2
+  done
+  chmod 0700 "$PGDATA"
+fi
+
+exec postgres -c hot_standby=on